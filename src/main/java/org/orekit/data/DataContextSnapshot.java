@@ -0,0 +1,524 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.util.FastMath;
+import org.orekit.bodies.CelestialBodies;
+import org.orekit.bodies.LazyLoadedCelestialBodies;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.GravityFields;
+import org.orekit.forces.gravity.potential.LazyLoadedGravityFields;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider.NormalizedSphericalHarmonics;
+import org.orekit.forces.gravity.potential.OceanTidesWave;
+import org.orekit.forces.gravity.potential.TideSystem;
+import org.orekit.forces.gravity.potential.UnnormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.EOPEntry;
+import org.orekit.frames.EopDataType;
+import org.orekit.frames.Frame;
+import org.orekit.frames.Frames;
+import org.orekit.frames.ITRFVersion;
+import org.orekit.models.earth.LazyLoadedGeoMagneticFields;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.DateComponents;
+import org.orekit.time.OffsetModel;
+import org.orekit.time.TimeOffset;
+import org.orekit.time.TimeScales;
+import org.orekit.utils.IERSConventions;
+
+/** Binary snapshot of the pre-parsed content of a {@link DataContext}.
+ * <p>
+ * Building a {@link LazyLoadedDataContext} requires finding, decompressing and
+ * parsing many text files (UTC-TAI history, Earth Orientation Parameters for
+ * all IERS conventions, gravity field coefficients…), which can take a
+ * significant part of the startup time of short-lived applications. This
+ * class freezes the already parsed data into a compact versioned binary
+ * snapshot and restores it later using bulk reads from a memory-mapped file,
+ * without any parsing.
+ * </p>
+ * <p>
+ * The snapshot contains:
+ * </p>
+ * <ul>
+ *   <li>the UTC-TAI offsets,</li>
+ *   <li>the Earth Orientation Parameters for all {@link IERSConventions IERS conventions},</li>
+ *   <li>optionally one gravity field, truncated to a user-selected degree and order and
+ *   frozen at a user-selected date.</li>
+ * </ul>
+ * <p>
+ * The stored gravity field is only used for {@link GravityFields#getConstantNormalizedProvider(int,
+ * int, AbsoluteDate) constant fields} requested at the same freezing date. Time-dependent fields
+ * and constant fields frozen at other dates are loaded from the fallback, so secular and periodic
+ * terms are never lost.
+ * </p>
+ * <p>
+ * The restored context is a {@link CompositeDataContext} whose time scales and frames
+ * are entirely built from the snapshot. Celestial bodies, geomagnetic fields, ocean
+ * tides and gravity fields larger than the stored one are not part of the snapshot,
+ * they are lazily loaded from a fallback {@link DataProvidersManager} if (and only if)
+ * they are needed.
+ * </p>
+ * @since 14.0
+ */
+public class DataContextSnapshot {
+
+    /** Magic number at the start of snapshot files ("OREKCTXT"). */
+    static final long MAGIC = 0x4F52454B43545854L;
+
+    /** Current format version. */
+    static final int VERSION = 1;
+
+    /** Number of double columns stored for each EOP entry. */
+    private static final int EOP_COLUMNS = 10;
+
+    /** Private constructor for a utility class.
+     */
+    private DataContextSnapshot() {
+        // nothing to do
+    }
+
+    /** Write a snapshot of a data context.
+     * <p>
+     * All data to be stored is loaded from the context, so this method fails if
+     * some EOP or gravity field data are missing.
+     * </p>
+     * @param context data context to freeze
+     * @param degree maximal degree of the gravity field to store (0 to store no gravity field)
+     * @param order maximal order of the gravity field to store
+     * @param freezingDate freezing date for the gravity field (ignored if degree is 0)
+     * @param out output stream (will not be closed by this method)
+     * @throws IOException if snapshot cannot be written
+     */
+    public static void write(final DataContext context, final int degree, final int order,
+                             final AbsoluteDate freezingDate, final OutputStream out)
+        throws IOException {
+
+        final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out));
+        dos.writeLong(MAGIC);
+        dos.writeInt(VERSION);
+
+        // enumerates names, so reordering enumerates in future versions does not break snapshots
+        writeNames(dos, ITRFVersion.values());
+        writeNames(dos, EopDataType.values());
+
+        // UTC-TAI offsets
+        final Collection<? extends OffsetModel> offsets = context.getTimeScales().getUTC().getBaseOffsets();
+        dos.writeInt(offsets.size());
+        for (final OffsetModel offset : offsets) {
+            dos.writeInt(offset.getStart().getYear());
+            dos.writeInt(offset.getStart().getMonth());
+            dos.writeInt(offset.getStart().getDay());
+            dos.writeInt(offset.getMJDRef());
+            dos.writeLong(offset.getOffset().getSeconds());
+            dos.writeLong(offset.getOffset().getAttoSeconds());
+            dos.writeInt(offset.getSlope());
+        }
+
+        // Earth Orientation Parameters, stored by columns
+        dos.writeInt(IERSConventions.values().length);
+        for (final IERSConventions conventions : IERSConventions.values()) {
+            final List<EOPEntry> entries = context.getFrames().getEOPHistory(conventions, true).getEntries();
+            writeString(dos, conventions.name());
+            dos.writeInt(entries.size());
+            for (final EOPEntry entry : entries) {
+                dos.writeInt(entry.getMjd());
+                dos.writeLong(entry.getDate().getSeconds());
+                dos.writeLong(entry.getDate().getAttoSeconds());
+                dos.writeByte(entry.getITRFType().ordinal());
+                dos.writeByte(entry.getEopDataType().ordinal());
+            }
+            for (final EOPEntry entry : entries) {
+                dos.writeDouble(entry.getUT1MinusUTC());
+                dos.writeDouble(entry.getLOD());
+                dos.writeDouble(entry.getX());
+                dos.writeDouble(entry.getY());
+                dos.writeDouble(entry.getXRate());
+                dos.writeDouble(entry.getYRate());
+                dos.writeDouble(entry.getDdPsi());
+                dos.writeDouble(entry.getDdEps());
+                dos.writeDouble(entry.getDx());
+                dos.writeDouble(entry.getDy());
+            }
+        }
+
+        // gravity field
+        if (degree > 0) {
+            final NormalizedSphericalHarmonicsProvider provider =
+                            context.getGravityFields().getConstantNormalizedProvider(degree, order, freezingDate);
+            final NormalizedSphericalHarmonics harmonics = provider.onDate(freezingDate);
+            dos.writeInt(provider.getMaxDegree());
+            dos.writeInt(provider.getMaxOrder());
+            dos.writeLong(freezingDate.getSeconds());
+            dos.writeLong(freezingDate.getAttoSeconds());
+            dos.writeDouble(provider.getAe());
+            dos.writeDouble(provider.getMu());
+            writeString(dos, provider.getTideSystem().name());
+            for (int n = 0; n <= provider.getMaxDegree(); ++n) {
+                for (int m = 0; m <= FastMath.min(n, provider.getMaxOrder()); ++m) {
+                    dos.writeDouble(harmonics.getNormalizedCnm(n, m));
+                }
+            }
+            for (int n = 0; n <= provider.getMaxDegree(); ++n) {
+                for (int m = 0; m <= FastMath.min(n, provider.getMaxOrder()); ++m) {
+                    dos.writeDouble(harmonics.getNormalizedSnm(n, m));
+                }
+            }
+        } else {
+            dos.writeInt(-1);
+        }
+
+        dos.flush();
+
+    }
+
+    /** Restore a data context from a snapshot file.
+     * @param path path of the snapshot file
+     * @param fallback manager for data that are not part of the snapshot
+     * @return restored data context
+     */
+    public static DataContext read(final Path path, final DataProvidersManager fallback) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), path.toString(), fallback);
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+    }
+
+    /** Restore a data context from a snapshot stream.
+     * @param in input stream (will not be closed by this method)
+     * @param name name of the snapshot (for error messages)
+     * @param fallback manager for data that are not part of the snapshot
+     * @return restored data context
+     */
+    public static DataContext read(final InputStream in, final String name, final DataProvidersManager fallback) {
+        try {
+            return read(ByteBuffer.wrap(in.readAllBytes()), name, fallback);
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+    }
+
+    /** Restore a data context from a snapshot buffer.
+     * @param buffer buffer containing the snapshot, positioned at its start
+     * @param name name of the snapshot (for error messages)
+     * @param fallback manager for data that are not part of the snapshot
+     * @return restored data context
+     */
+    public static DataContext read(final ByteBuffer buffer, final String name, final DataProvidersManager fallback) {
+        try {
+
+            if (buffer.getLong() != MAGIC) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+            }
+            final int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION,
+                                          version, name, VERSION);
+            }
+
+            final List<ITRFVersion> itrfVersions = readNames(buffer, ITRFVersion.class, name);
+            final List<EopDataType> eopTypes     = readNames(buffer, EopDataType.class, name);
+
+            // UTC-TAI offsets
+            final int nbOffsets = buffer.getInt();
+            final List<OffsetModel> offsets = new ArrayList<>(nbOffsets);
+            for (int i = 0; i < nbOffsets; ++i) {
+                final DateComponents start  = new DateComponents(buffer.getInt(), buffer.getInt(), buffer.getInt());
+                final int            mjdRef = buffer.getInt();
+                final TimeOffset     offset = new TimeOffset(buffer.getLong(), buffer.getLong());
+                offsets.add(new OffsetModel(start, mjdRef, offset, buffer.getInt()));
+            }
+
+            // Earth Orientation Parameters
+            final int nbConventions = buffer.getInt();
+            final Map<IERSConventions, List<EOPEntry>> eop = new EnumMap<>(IERSConventions.class);
+            for (int i = 0; i < nbConventions; ++i) {
+                final IERSConventions conventions = IERSConventions.valueOf(readString(buffer));
+                final int             nbEntries   = buffer.getInt();
+                final int[]           mjd         = new int[nbEntries];
+                final AbsoluteDate[]  dates       = new AbsoluteDate[nbEntries];
+                final ITRFVersion[]   itrf        = new ITRFVersion[nbEntries];
+                final EopDataType[]   types       = new EopDataType[nbEntries];
+                for (int j = 0; j < nbEntries; ++j) {
+                    mjd[j]   = buffer.getInt();
+                    dates[j] = new AbsoluteDate(new TimeOffset(buffer.getLong(), buffer.getLong()));
+                    itrf[j]  = itrfVersions.get(buffer.get());
+                    types[j] = eopTypes.get(buffer.get());
+                }
+                final double[] values = readDoubles(buffer, EOP_COLUMNS * nbEntries);
+                final List<EOPEntry> entries = new ArrayList<>(nbEntries);
+                for (int j = 0; j < nbEntries; ++j) {
+                    final int k = EOP_COLUMNS * j;
+                    entries.add(new EOPEntry(mjd[j], values[k], values[k + 1], values[k + 2], values[k + 3],
+                                             values[k + 4], values[k + 5], values[k + 6], values[k + 7],
+                                             values[k + 8], values[k + 9], itrf[j], dates[j], types[j]));
+                }
+                eop.put(conventions, entries);
+            }
+
+            // gravity field
+            final int maxDegree = buffer.getInt();
+            final NormalizedSphericalHarmonicsProvider gravity;
+            final AbsoluteDate                         freezingDate;
+            if (maxDegree >= 0) {
+                final int        maxOrder   = buffer.getInt();
+                freezingDate                = new AbsoluteDate(new TimeOffset(buffer.getLong(), buffer.getLong()));
+                final double     ae         = buffer.getDouble();
+                final double     mu         = buffer.getDouble();
+                final TideSystem tideSystem = TideSystem.valueOf(readString(buffer));
+                final double[][] c          = readTriangular(buffer, maxDegree, maxOrder);
+                final double[][] s          = readTriangular(buffer, maxDegree, maxOrder);
+                gravity = GravityFieldFactory.getNormalizedProvider(ae, mu, tideSystem, c, s);
+            } else {
+                gravity      = null;
+                freezingDate = null;
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new OrekitException(OrekitMessages.CORRUPTED_FILE, name);
+            }
+
+            // build the context
+            final TimeScales timeScales =
+                            TimeScales.of(offsets, (conventions, scales) -> eop.getOrDefault(conventions, List.of()));
+            final CelestialBodies bodies = new LazyLoadedCelestialBodies(fallback, timeScales, Frame.getRoot());
+            final Frames          frames = Frames.of(timeScales, bodies);
+            final LazyLoadedGravityFields lazyGravity = new LazyLoadedGravityFields(fallback, timeScales.getTT());
+            return new CompositeDataContext(timeScales, frames, bodies,
+                                            gravity == null ? lazyGravity : new SnapshotGravityFields(gravity, freezingDate, lazyGravity),
+                                            new LazyLoadedGeoMagneticFields(fallback));
+
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new OrekitException(e, OrekitMessages.CORRUPTED_FILE, name);
+        }
+    }
+
+    /** Write the names of enumerate constants.
+     * @param out output stream
+     * @param constants enumerate constants, in ordinal order
+     * @throws IOException if data cannot be written
+     */
+    private static void writeNames(final DataOutputStream out, final Enum<?>[] constants) throws IOException {
+        out.writeInt(constants.length);
+        for (final Enum<?> constant : constants) {
+            writeString(out, constant.name());
+        }
+    }
+
+    /** Read the names of enumerate constants.
+     * @param buffer buffer to read from
+     * @param type enumerate type
+     * @param name name of the snapshot (for error messages)
+     * @param <E> type of the enumerate
+     * @return constants, indexed by the ordinal they had when the snapshot was written
+     */
+    private static <E extends Enum<E>> List<E> readNames(final ByteBuffer buffer, final Class<E> type,
+                                                         final String name) {
+        final int nb = buffer.getInt();
+        if (nb < 0 || nb > Byte.MAX_VALUE) {
+            throw new OrekitException(OrekitMessages.CORRUPTED_FILE, name);
+        }
+        final List<E> constants = new ArrayList<>(nb);
+        for (int i = 0; i < nb; ++i) {
+            constants.add(Enum.valueOf(type, readString(buffer)));
+        }
+        return constants;
+    }
+
+    /** Write a length-prefixed UTF-8 string.
+     * @param out output stream
+     * @param string string to write
+     * @throws IOException if data cannot be written
+     */
+    private static void writeString(final DataOutputStream out, final String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /** Read a length-prefixed UTF-8 string.
+     * @param buffer buffer to read from
+     * @return read string
+     */
+    private static String readString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Read an array of doubles in one bulk operation.
+     * @param buffer buffer to read from
+     * @param n number of doubles to read
+     * @return read doubles
+     */
+    private static double[] readDoubles(final ByteBuffer buffer, final int n) {
+        final double[] values = new double[n];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + n * Double.BYTES);
+        return values;
+    }
+
+    /** Read a triangular array of spherical harmonics coefficients.
+     * @param buffer buffer to read from
+     * @param degree maximal degree
+     * @param order maximal order
+     * @return triangular array
+     */
+    private static double[][] readTriangular(final ByteBuffer buffer, final int degree, final int order) {
+        final double[][] coefficients = new double[degree + 1][];
+        for (int n = 0; n <= degree; ++n) {
+            coefficients[n] = readDoubles(buffer, FastMath.min(n, order) + 1);
+        }
+        return coefficients;
+    }
+
+    /** Gravity fields backed by a snapshot field, with a lazily loaded fallback. */
+    private static class SnapshotGravityFields implements GravityFields {
+
+        /** Gravity field restored from the snapshot. */
+        private final NormalizedSphericalHarmonicsProvider field;
+
+        /** Freezing date of the snapshot field. */
+        private final AbsoluteDate freezingDate;
+
+        /** Fallback for fields that are not part of the snapshot. */
+        private final GravityFields fallback;
+
+        /** Simple constructor.
+         * @param field gravity field restored from the snapshot
+         * @param freezingDate freezing date of the snapshot field
+         * @param fallback fallback for fields that are not part of the snapshot
+         */
+        SnapshotGravityFields(final NormalizedSphericalHarmonicsProvider field, final AbsoluteDate freezingDate,
+                              final GravityFields fallback) {
+            this.field        = field;
+            this.freezingDate = freezingDate;
+            this.fallback     = fallback;
+        }
+
+        /** {@inheritDoc}
+         * <p>
+         * The snapshot field is used only when the requested degree and order
+         * are available in the snapshot and the freezing date is the snapshot one.
+         * </p>
+         */
+        @Override
+        public NormalizedSphericalHarmonicsProvider getConstantNormalizedProvider(final int degree, final int order,
+                                                                                  final AbsoluteDate date) {
+            return covers(degree, order, date) ?
+                   truncate(degree, order) :
+                   fallback.getConstantNormalizedProvider(degree, order, date);
+        }
+
+        /** {@inheritDoc}
+         * <p>
+         * The snapshot field is frozen, so time-dependent fields are always
+         * loaded from the fallback.
+         * </p>
+         */
+        @Override
+        public NormalizedSphericalHarmonicsProvider getNormalizedProvider(final int degree, final int order) {
+            return fallback.getNormalizedProvider(degree, order);
+        }
+
+        /** {@inheritDoc}
+         * <p>
+         * The snapshot field is used only when the requested degree and order
+         * are available in the snapshot and the freezing date is the snapshot one.
+         * </p>
+         */
+        @Override
+        public UnnormalizedSphericalHarmonicsProvider getConstantUnnormalizedProvider(final int degree, final int order,
+                                                                                      final AbsoluteDate date) {
+            return covers(degree, order, date) ?
+                   GravityFieldFactory.getUnnormalizedProvider(truncate(degree, order)) :
+                   fallback.getConstantUnnormalizedProvider(degree, order, date);
+        }
+
+        /** {@inheritDoc}
+         * <p>
+         * The snapshot field is frozen, so time-dependent fields are always
+         * loaded from the fallback.
+         * </p>
+         */
+        @Override
+        public UnnormalizedSphericalHarmonicsProvider getUnnormalizedProvider(final int degree, final int order) {
+            return fallback.getUnnormalizedProvider(degree, order);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<OceanTidesWave> getOceanTidesWaves(final int degree, final int order) {
+            return fallback.getOceanTidesWaves(degree, order);
+        }
+
+        /** Check if the snapshot field covers a requested degree, order and freezing date.
+         * @param degree requested degree
+         * @param order requested order
+         * @param date requested freezing date
+         * @return true if the snapshot field covers the request
+         */
+        private boolean covers(final int degree, final int order, final AbsoluteDate date) {
+            return degree <= field.getMaxDegree() && order <= field.getMaxOrder() && freezingDate.equals(date);
+        }
+
+        /** Truncate the snapshot field.
+         * @param degree maximal degree
+         * @param order maximal order
+         * @return truncated field
+         */
+        private NormalizedSphericalHarmonicsProvider truncate(final int degree, final int order) {
+            if (degree == field.getMaxDegree() && order == field.getMaxOrder()) {
+                return field;
+            }
+            final NormalizedSphericalHarmonics harmonics = field.onDate(AbsoluteDate.ARBITRARY_EPOCH);
+            final double[][] c = new double[degree + 1][];
+            final double[][] s = new double[degree + 1][];
+            for (int n = 0; n <= degree; ++n) {
+                c[n] = new double[FastMath.min(n, order) + 1];
+                s[n] = new double[c[n].length];
+                for (int m = 0; m < c[n].length; ++m) {
+                    c[n][m] = harmonics.getNormalizedCnm(n, m);
+                    s[n][m] = harmonics.getNormalizedSnm(n, m);
+                }
+            }
+            return GravityFieldFactory.getNormalizedProvider(field.getAe(), field.getMu(), field.getTideSystem(), c, s);
+        }
+
+    }
+
+}
@@ -26,11 +26,14 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.regex.Pattern;
 
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.files.rinex.HatanakaCompressFilter;
+import org.orekit.utils.ParallelTasks;
 
 /** This class manages supported {@link DataProvider data providers}.
  * <p>
@@ -67,8 +70,13 @@ import org.orekit.files.rinex.HatanakaCompressFilter;
  * deciphering...).
  * </p>
  *
+ * <p>
+ * Several independent loaders can be {@link #feed(List, List, int) fed concurrently}.
+ * </p>
+ *
  * @author Luc Maisonobe
  * @see DirectoryCrawler
+ * @see IndexedDirectoryCrawler
  * @see ClasspathCrawler
  */
 public class DataProvidersManager {
@@ -91,7 +99,7 @@ public class DataProvidersManager {
     public DataProvidersManager() {
         providers      = new ArrayList<>();
         filtersManager = new FiltersManager();
-        loaded         = new LinkedHashSet<>();
+        loaded         = Collections.synchronizedSet(new LinkedHashSet<>());
         resetFiltersToDefault();
     }
 
@@ -296,8 +304,10 @@ public class DataProvidersManager {
         final Pattern supported = Pattern.compile(supportedNames);
 
         // set up a default configuration if no providers have been set
-        if (providers.isEmpty()) {
-            addDefaultProviders();
+        synchronized (this) {
+            if (providers.isEmpty()) {
+                addDefaultProviders();
+            }
         }
 
         // monitor the data that the loader will load
@@ -327,6 +337,47 @@ public class DataProvidersManager {
 
     }
 
+    /** Feed several independent data file loaders concurrently.
+     * <p>
+     * Each loader is fed as per {@link #feed(String, DataLoader)}, but loaders are
+     * fed in parallel, so independent data types (for example Earth Orientation
+     * Parameters, leap seconds, gravity fields and planetary ephemerides) can be
+     * decompressed and parsed at the same time. Loaders must therefore be independent
+     * from each other. Providers should not be added or removed while loading is
+     * in progress. Providers that crawl a directories tree only once, like {@link
+     * IndexedDirectoryCrawler}, are well suited for this use.
+     * </p>
+     * @param supportedNames regular expressions for file names supported by each loader
+     * @param loaders data loaders to use
+     * @param threads number of threads to use
+     * @return list of flags indicating, for each loader, if some data has been loaded
+     * @since 14.0
+     */
+    public List<Boolean> feed(final List<String> supportedNames, final List<? extends DataLoader> loaders,
+                              final int threads) {
+
+        if (supportedNames.size() != loaders.size()) {
+            throw new OrekitException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                      supportedNames.size(), loaders.size());
+        }
+
+        // set up a default configuration if no providers have been set
+        synchronized (this) {
+            if (providers.isEmpty()) {
+                addDefaultProviders();
+            }
+        }
+
+        final List<Callable<Boolean>> tasks = new ArrayList<>(loaders.size());
+        for (int i = 0; i < loaders.size(); ++i) {
+            final String     names  = supportedNames.get(i);
+            final DataLoader loader = loaders.get(i);
+            tasks.add(() -> feed(names, loader));
+        }
+        return new ParallelTasks(threads).run(tasks);
+
+    }
+
     /** Data loading monitoring wrapper class. */
     private class MonitoringWrapper implements DataLoader {
 
@@ -0,0 +1,303 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.hipparchus.exception.DummyLocalizable;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+/** Provider for data files stored in a directories tree on filesystem, crawled only once.
+ * <p>
+ * This class is similar to {@link DirectoryCrawler}, but the directories tree is
+ * crawled only once, the first time data is requested, and the list of files found
+ * is kept in an index used for all subsequent requests. This avoids listing the
+ * directories each time a {@link DataLoader data loader} is fed, and makes the
+ * provider safe for use by several threads {@link
+ * DataProvidersManager#feed(List, List, int) loading independent data concurrently}.
+ * The index can be rebuilt if files are added or removed by calling {@link #refresh()}.
+ * </p>
+ * <p>
+ * All {@link FiltersManager#addFilter(DataFilter) registered} {@link DataFilter filters}
+ * are applied. If a cache directory is specified, the output of filters (typically
+ * decompressed data) is stored in this directory the first time a file is loaded,
+ * and reused afterwards, even by other processes. Cached files are keyed by a hash
+ * of the raw file content and of the filtered name, so modified files are never served
+ * from stale cache entries. The cache can be cleared at any time by deleting the files
+ * in the cache directory.
+ * </p>
+ * <p>
+ * Zip archives entries are supported recursively, but they are not cached.
+ * </p>
+ * @see DirectoryCrawler
+ * @see DataProvidersManager
+ * @since 14.0
+ */
+public class IndexedDirectoryCrawler implements DataProvider {
+
+    /** Hash algorithm used for cache keys. */
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /** Size of the buffer used for hashing and copying files. */
+    private static final int BUFFER_SIZE = 65536;
+
+    /** Root directory. */
+    private final File root;
+
+    /** Cache directory (null if filtered data is not cached). */
+    private final Path cacheDirectory;
+
+    /** Cache keys, per file. */
+    private final Map<String, CacheKey> keys;
+
+    /** Index of the files and archives found in the directories tree (null if not built yet). */
+    private List<File> index;
+
+    /** Build a data files crawler without cache.
+     * @param root root of the directories tree (must be a directory)
+     */
+    public IndexedDirectoryCrawler(final File root) {
+        this(root, null);
+    }
+
+    /** Build a data files crawler.
+     * @param root root of the directories tree (must be a directory)
+     * @param cacheDirectory directory where filtered data is cached
+     * (null if filtered data should not be cached), it is created if needed
+     */
+    public IndexedDirectoryCrawler(final File root, final File cacheDirectory) {
+        if (!root.isDirectory()) {
+            throw new OrekitException(OrekitMessages.NOT_A_DIRECTORY, root.getAbsolutePath());
+        }
+        this.root  = root;
+        this.keys  = new ConcurrentHashMap<>();
+        this.index = null;
+        if (cacheDirectory == null) {
+            this.cacheDirectory = null;
+        } else {
+            try {
+                this.cacheDirectory = Files.createDirectories(cacheDirectory.toPath());
+            } catch (IOException ioe) {
+                throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+            }
+        }
+    }
+
+    /** Get the indexed files and archives.
+     * <p>
+     * The directories tree is crawled if the index has not been built yet.
+     * </p>
+     * @return indexed files and archives, in crawling order
+     */
+    public synchronized List<File> getIndex() {
+        if (index == null) {
+            final List<File> files = new ArrayList<>();
+            crawl(root, files);
+            index = Collections.unmodifiableList(files);
+        }
+        return index;
+    }
+
+    /** Drop the index, so the directories tree is crawled again on next use. */
+    public synchronized void refresh() {
+        index = null;
+        keys.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean feed(final Pattern supported,
+                        final DataLoader visitor,
+                        final DataProvidersManager manager) {
+
+        OrekitException delayedException = null;
+        boolean loaded = false;
+        for (final File file : getIndex()) {
+            try {
+                if (visitor.stillAcceptsData()) {
+                    if (ZIP_ARCHIVE_PATTERN.matcher(file.getName()).matches()) {
+
+                        // browse inside the zip/jar file
+                        final DataProvider zipProvider = new ZipJarCrawler(file);
+                        loaded = zipProvider.feed(supported, visitor, manager) || loaded;
+
+                    } else {
+
+                        // apply all registered filters
+                        final DataSource raw  = new DataSource(file.getName(), () -> new FileInputStream(file));
+                        DataSource       data = manager.getFiltersManager().applyRelevantFilters(raw);
+
+                        if (supported.matcher(data.getName()).matches()) {
+                            if (cacheDirectory != null && data != raw) {
+                                // use cached filtered data
+                                final Path cached = getCached(file, data);
+                                data = new DataSource(data.getName(), () -> Files.newInputStream(cached));
+                            }
+                            // visit the current file
+                            try (InputStream input = data.getOpener().openStreamOnce()) {
+                                visitor.loadData(input, file.getPath());
+                                loaded = true;
+                            }
+                        }
+
+                    }
+                }
+            } catch (IOException | ParseException e) {
+                delayedException = new OrekitException(e, new DummyLocalizable(e.getMessage()));
+            } catch (OrekitException oe) {
+                delayedException = oe;
+            }
+        }
+
+        if (!loaded && delayedException != null) {
+            throw delayedException;
+        }
+
+        return loaded;
+
+    }
+
+    /** Crawl a directory.
+     * @param directory directory to crawl
+     * @param files list where to add the files and archives found
+     */
+    private static void crawl(final File directory, final List<File> files) {
+        final File[] list = directory.listFiles();
+        if (list == null) {
+            // notify about race condition if directory is removed by another program
+            throw new OrekitException(OrekitMessages.NOT_A_DIRECTORY, directory.getAbsolutePath());
+        }
+        Arrays.sort(list, File::compareTo);
+        for (final File file : list) {
+            if (file.isDirectory()) {
+                crawl(file, files);
+            } else {
+                files.add(file);
+            }
+        }
+    }
+
+    /** Get the cached filtered data for a file, creating it if needed.
+     * @param file raw file
+     * @param filtered filtered data source
+     * @return path to the cached filtered data
+     * @exception IOException if data cannot be read or written
+     */
+    private Path getCached(final File file, final DataSource filtered) throws IOException {
+
+        final CacheKey key = keys.compute(file.getPath(), (path, existing) -> {
+            if (existing != null && existing.isValid(file)) {
+                return existing;
+            }
+            return new CacheKey(file, filtered.getName());
+        });
+
+        final Path cached = cacheDirectory.resolve(key.getHash());
+        if (!Files.exists(cached)) {
+            // store filtered data in a temporary file, then publish it atomically
+            final Path tmp = Files.createTempFile(cacheDirectory, key.getHash(), ".tmp");
+            try (InputStream input = filtered.getOpener().openStreamOnce()) {
+                Files.copy(input, tmp, StandardCopyOption.REPLACE_EXISTING);
+                try {
+                    Files.move(tmp, cached, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException amnse) {
+                    Files.move(tmp, cached, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+
+        return cached;
+
+    }
+
+    /** Cache key for one file. */
+    private static class CacheKey {
+
+        /** File size at hash computation time. */
+        private final long size;
+
+        /** File last modification time at hash computation time. */
+        private final long lastModified;
+
+        /** Hash of file content and filtered name, in hexadecimal. */
+        private final String hash;
+
+        /** Simple constructor.
+         * @param file file to hash
+         * @param filteredName name of the filtered data
+         */
+        CacheKey(final File file, final String filteredName) {
+            this.size         = file.length();
+            this.lastModified = file.lastModified();
+            try (InputStream raw = new FileInputStream(file);
+                 DigestInputStream input = new DigestInputStream(raw, MessageDigest.getInstance(HASH_ALGORITHM))) {
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                while (input.read(buffer) >= 0) {
+                    // nothing to do, data is hashed as it is read
+                }
+                final MessageDigest digest = input.getMessageDigest();
+                digest.update(filteredName.getBytes(StandardCharsets.UTF_8));
+                final StringBuilder builder = new StringBuilder();
+                for (final byte b : digest.digest()) {
+                    builder.append(String.format("%02x", b));
+                }
+                this.hash = builder.toString();
+            } catch (IOException | NoSuchAlgorithmException e) {
+                throw new OrekitException(e, new DummyLocalizable(e.getMessage()));
+            }
+        }
+
+        /** Check if the key is still valid for a file.
+         * @param file file to check
+         * @return true if file size and modification time did not change
+         */
+        boolean isValid(final File file) {
+            return file.length() == size && file.lastModified() == lastModified;
+        }
+
+        /** Get the hash.
+         * @return hash of file content and filtered name, in hexadecimal
+         */
+        String getHash() {
+            return hash;
+        }
+
+    }
+
+}
@@ -0,0 +1,230 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+/** Filter running another filter in a background thread.
+ * <p>
+ * This filter wraps another filter (typically a decompression filter like
+ * {@link org.orekit.files.rinex.HatanakaCompressFilter}) and runs it in a
+ * dedicated producer thread, feeding a bounded queue of characters blocks
+ * that is consumed by the reader returned to the upper layer. This allows
+ * the filtering work to overlap with the parsing work performed by the
+ * consumer, without holding the whole filtered data in memory.
+ * </p>
+ * <p>
+ * The wrapped filter is applied first, and if it does not change the data
+ * source, then this filter does not change it either, so it can be safely
+ * registered in the {@link FiltersManager filters manager}.
+ * </p>
+ * <p>
+ * Exceptions thrown while filtering in the producer thread are rethrown
+ * in the consumer thread when it reaches the point where the failure occurred.
+ * </p>
+ * @since 14.0
+ */
+public class PipeliningFilter implements DataFilter {
+
+    /** Default size of characters blocks. */
+    public static final int DEFAULT_BLOCK_SIZE = 8192;
+
+    /** Default maximum number of blocks waiting in the queue. */
+    public static final int DEFAULT_QUEUE_DEPTH = 64;
+
+    /** Wrapped filter. */
+    private final DataFilter filter;
+
+    /** Size of characters blocks. */
+    private final int blockSize;
+
+    /** Maximum number of blocks waiting in the queue. */
+    private final int queueDepth;
+
+    /** Simple constructor with default block size and queue depth.
+     * @param filter wrapped filter
+     */
+    public PipeliningFilter(final DataFilter filter) {
+        this(filter, DEFAULT_BLOCK_SIZE, DEFAULT_QUEUE_DEPTH);
+    }
+
+    /** Simple constructor.
+     * @param filter wrapped filter
+     * @param blockSize size of characters blocks
+     * @param queueDepth maximum number of blocks waiting in the queue
+     */
+    public PipeliningFilter(final DataFilter filter, final int blockSize, final int queueDepth) {
+        if (blockSize <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, blockSize);
+        }
+        if (queueDepth <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, queueDepth);
+        }
+        this.filter     = filter;
+        this.blockSize  = blockSize;
+        this.queueDepth = queueDepth;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataSource filter(final DataSource original) {
+        final DataSource filtered = filter.filter(original);
+        if (filtered == original) {
+            // the wrapped filter does not apply
+            return original;
+        }
+        return new DataSource(filtered.getName(),
+                              () -> new PipelinedReader(filtered.getName(), filtered.getOpener().openReaderOnce()));
+    }
+
+    /** Reader consuming blocks produced by a background thread. */
+    private class PipelinedReader extends Reader {
+
+        /** Marker for end of data. */
+        private static final char[] END = new char[0];
+
+        /** Queue of characters blocks. */
+        private final BlockingQueue<char[]> queue;
+
+        /** Producer thread. */
+        private final Thread producer;
+
+        /** Failure caught in producer thread. */
+        private volatile Throwable failure;
+
+        /** Indicator for closed reader. */
+        private volatile boolean closed;
+
+        /** Current block. */
+        private char[] current;
+
+        /** Index of next character to read in current block. */
+        private int index;
+
+        /** Simple constructor.
+         * @param name name of the data
+         * @param upstream reader providing filtered data
+         */
+        PipelinedReader(final String name, final Reader upstream) {
+            this.queue    = new ArrayBlockingQueue<>(queueDepth);
+            this.current  = null;
+            this.index    = 0;
+            this.producer = new Thread(() -> produce(upstream), "pipeline-" + name);
+            producer.setDaemon(true);
+            producer.start();
+        }
+
+        /** Produce characters blocks.
+         * <p>
+         * The end of data marker is always queued, even if filtering fails with
+         * an {@link Error}, so the consumer never waits forever.
+         * </p>
+         * @param upstream reader providing filtered data
+         */
+        private void produce(final Reader upstream) {
+            boolean interrupted = false;
+            try {
+                try (Reader reader = upstream) {
+                    final char[] buffer = new char[blockSize];
+                    for (int n = reader.read(buffer); n >= 0 && !closed; n = reader.read(buffer)) {
+                        if (n > 0) {
+                            queue.put(Arrays.copyOf(buffer, n));
+                        }
+                    }
+                }
+            } catch (InterruptedException ie) {
+                // either the consumer has closed the reader or someone else interrupted us
+                interrupted = true;
+                failure     = new InterruptedIOException(ie.getLocalizedMessage());
+                // CHECKSTYLE: stop IllegalCatch check
+            } catch (Throwable t) {
+                // CHECKSTYLE: resume IllegalCatch check
+                failure = t;
+            } finally {
+                if (!closed) {
+                    try {
+                        queue.put(END);
+                    } catch (InterruptedException ie) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(final char[] b, final int offset, final int len) throws IOException {
+
+            if (len == 0) {
+                return 0;
+            }
+
+            if (current == null || index >= current.length) {
+                if (current == END) {
+                    return -1;
+                }
+                try {
+                    current = queue.take();
+                    index   = 0;
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException(ie.getLocalizedMessage());
+                }
+                if (current == END) {
+                    if (failure instanceof IOException ioe) {
+                        throw ioe;
+                    } else if (failure instanceof RuntimeException re) {
+                        throw re;
+                    } else if (failure instanceof Error e) {
+                        throw e;
+                    } else if (failure != null) {
+                        throw new IOException(failure);
+                    }
+                    return -1;
+                }
+            }
+
+            final int n = FastMath.min(len, current.length - index);
+            System.arraycopy(current, index, b, offset, n);
+            index += n;
+            return n;
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            closed = true;
+            producer.interrupt();
+            queue.clear();
+        }
+
+    }
+
+}
@@ -1147,7 +1147,22 @@ public enum OrekitMessages implements Localizable {
     DAF_INSUFFICIENT_COMMENT_RECORDS("Comments require {0} records but DAF file record specifies only {1} reserved records"),
 
     /** DAF_TOO_LONG_FILEDESCRIPTION_STRING. */
-    DAF_TOO_LONG_FILEDESCRIPTION_STRING("File description string is {0} characters long but should be at most 60 characters");
+    DAF_TOO_LONG_FILEDESCRIPTION_STRING("File description string is {0} characters long but should be at most 60 characters"),
+
+    /** UNMAPPED_FRAME_NAME. */
+    UNMAPPED_FRAME_NAME("frame \"{0}\" has not been mapped to an Orekit frame"),
+
+    /** UNKNOWN_SCHEDULE. */
+    UNKNOWN_SCHEDULE("unknown schedule \"{0}\""),
+
+    /** DUPLICATED_SCHEDULE. */
+    DUPLICATED_SCHEDULE("duplicated schedule \"{0}\""),
+
+    /** GRID_ELLIPSOID_MISMATCH. */
+    GRID_ELLIPSOID_MISMATCH("grid {0} was computed for an ellipsoid with a = {1} m and f = {2}, which does not match a = {3} m and f = {4}"),
+
+    /** NON_CONTIGUOUS_SEGMENTS. */
+    NON_CONTIGUOUS_SEGMENTS("segment ending at {0} and segment starting at {1} are not contiguous");
 
     /** Base name of the resource bundle in classpath. */
     private static final String RESOURCE_BASE_NAME = "assets/org/orekit/localization/OrekitMessages";
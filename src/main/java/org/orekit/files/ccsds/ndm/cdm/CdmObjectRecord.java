@@ -0,0 +1,175 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.ccsds.ndm.cdm;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.orekit.frames.Frame;
+import org.orekit.frames.LOFType;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.propagation.covariance.StateCovariance;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.PVCoordinates;
+
+/**
+ * Lightweight container for the data of one object involved in a conjunction.
+ * <p>
+ * This is the per-object part of a {@link CdmRecord}, it only holds the data needed
+ * to recompute probabilities of collision: object designator, reference frame name,
+ * state vector at TCA and the position/velocity part of the RTN covariance.
+ * All values are in SI units.
+ * </p>
+ * @see CdmRecord
+ * @since 14.0
+ */
+public class CdmObjectRecord {
+
+    /** Number of elements in the lower triangular part of the 6x6 RTN covariance. */
+    public static final int COVARIANCE_SIZE = 21;
+
+    /** Object designator. */
+    private final String designator;
+
+    /** Name of the reference frame in which the state vector is given. */
+    private final String refFrame;
+
+    /** State vector (position then velocity, m and m/s). */
+    private final double[] state;
+
+    /** Lower triangular part of the 6x6 position/velocity RTN covariance, in row order. */
+    private final double[] covariance;
+
+    /** Simple constructor.
+     * <p>
+     * The covariance elements are in the same order as in CDM files, i.e. row by
+     * row in the lower triangular part (CR_R, CT_R, CT_T, CN_R, CN_T, CN_N, CRDOT_R…).
+     * </p>
+     * @param designator object designator
+     * @param refFrame name of the reference frame in which the state vector is given
+     * @param state state vector (position then velocity, m and m/s), array is copied
+     * @param covariance lower triangular part of the 6x6 RTN covariance, in row order, array is copied
+     */
+    public CdmObjectRecord(final String designator, final String refFrame,
+                           final double[] state, final double[] covariance) {
+        this.designator = designator;
+        this.refFrame   = refFrame;
+        this.state      = state.clone();
+        this.covariance = covariance.clone();
+    }
+
+    /** Get the object designator.
+     * @return object designator
+     */
+    public String getDesignator() {
+        return designator;
+    }
+
+    /** Get the name of the reference frame in which the state vector is given.
+     * <p>
+     * The name can be resolved using {@link org.orekit.files.ccsds.definitions.FrameFacade#parse(String,
+     * org.orekit.utils.IERSConventions, boolean, org.orekit.data.DataContext, boolean, boolean, boolean)
+     * FrameFacade.parse}.
+     * </p>
+     * @return name of the reference frame in which the state vector is given
+     */
+    public String getRefFrame() {
+        return refFrame;
+    }
+
+    /** Get the position.
+     * @return position (m)
+     */
+    public Vector3D getPosition() {
+        return new Vector3D(state[0], state[1], state[2]);
+    }
+
+    /** Get the velocity.
+     * @return velocity (m/s)
+     */
+    public Vector3D getVelocity() {
+        return new Vector3D(state[3], state[4], state[5]);
+    }
+
+    /** Get the state vector.
+     * @return state vector (position then velocity, m and m/s), a new array is allocated at each call
+     */
+    public double[] getState() {
+        return state.clone();
+    }
+
+    /** Get one element of the state vector.
+     * @param i index of the element (0 to 5)
+     * @return state vector element
+     */
+    public double getStateElement(final int i) {
+        return state[i];
+    }
+
+    /** Get one element of the lower triangular part of the RTN covariance.
+     * @param i index of the element (0 to {@link #COVARIANCE_SIZE} - 1)
+     * @return covariance element
+     */
+    public double getCovarianceElement(final int i) {
+        return covariance[i];
+    }
+
+    /** Get the 6x6 position/velocity covariance in RTN local orbital frame.
+     * @return covariance matrix
+     */
+    public RealMatrix getRTNCovarianceMatrix() {
+        final RealMatrix matrix = MatrixUtils.createRealMatrix(6, 6);
+        int k = 0;
+        for (int i = 0; i < 6; ++i) {
+            for (int j = 0; j <= i; ++j) {
+                matrix.setEntry(i, j, covariance[k]);
+                matrix.setEntry(j, i, covariance[k]);
+                ++k;
+            }
+        }
+        return matrix;
+    }
+
+    /** Get the state covariance at TCA.
+     * @param tca time of closest approach
+     * @return state covariance, expressed in {@link LOFType#QSW_INERTIAL}
+     */
+    public StateCovariance getStateCovariance(final AbsoluteDate tca) {
+        return new StateCovariance(getRTNCovarianceMatrix(), tca, LOFType.QSW_INERTIAL);
+    }
+
+    /** Get the orbit at TCA.
+     * <p>
+     * If the frame is not pseudo-inertial, the state is converted to the inertial frame.
+     * </p>
+     * @param frame frame corresponding to {@link #getRefFrame()}
+     * @param inertial inertial frame to use if {@code frame} is not pseudo-inertial
+     * @param tca time of closest approach
+     * @param mu central attraction coefficient (m³/s²)
+     * @return orbit at TCA
+     */
+    public CartesianOrbit getOrbit(final Frame frame, final Frame inertial,
+                                   final AbsoluteDate tca, final double mu) {
+        final PVCoordinates pv = new PVCoordinates(getPosition(), getVelocity());
+        if (frame.isPseudoInertial()) {
+            return new CartesianOrbit(pv, frame, tca, mu);
+        }
+        return new CartesianOrbit(frame.getTransformTo(inertial, tca).transformPVCoordinates(pv),
+                                  inertial, tca, mu);
+    }
+
+}
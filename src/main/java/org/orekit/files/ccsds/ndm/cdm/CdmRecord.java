@@ -0,0 +1,173 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.ccsds.ndm.cdm;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeStamped;
+
+/**
+ * Lightweight summary of a Conjunction Data Message.
+ * <p>
+ * Contrary to {@link Cdm}, which holds the complete message with all its optional
+ * sections, this class only holds the data needed to index conjunctions and recompute
+ * probabilities of collision: message identifier, TCA, miss distance, relative state,
+ * collision probability and per-object {@link CdmObjectRecord data}. It is produced by
+ * {@link StreamingCdmReader} and stored in {@link CdmRecordStore}.
+ * </p>
+ * <p>
+ * All values are in SI units, optional values that were not present in the message
+ * are set to NaN.
+ * </p>
+ * @since 14.0
+ */
+public class CdmRecord implements TimeStamped {
+
+    /** Message identifier. */
+    private final String messageId;
+
+    /** Time of closest approach. */
+    private final AbsoluteDate tca;
+
+    /** Miss distance (m). */
+    private final double missDistance;
+
+    /** Relative speed (m/s). */
+    private final double relativeSpeed;
+
+    /** Relative position and velocity in RTN frame (m and m/s). */
+    private final double[] relativeState;
+
+    /** Collision probability. */
+    private final double collisionProbability;
+
+    /** First object data. */
+    private final CdmObjectRecord object1;
+
+    /** Second object data. */
+    private final CdmObjectRecord object2;
+
+    /** Simple constructor.
+     * @param messageId message identifier
+     * @param tca time of closest approach
+     * @param missDistance miss distance (m)
+     * @param relativeSpeed relative speed (m/s)
+     * @param relativeState relative position and velocity in RTN frame (m and m/s), array is copied
+     * @param collisionProbability collision probability
+     * @param object1 first object data
+     * @param object2 second object data
+     */
+    public CdmRecord(final String messageId, final AbsoluteDate tca,
+                     final double missDistance, final double relativeSpeed,
+                     final double[] relativeState, final double collisionProbability,
+                     final CdmObjectRecord object1, final CdmObjectRecord object2) {
+        this.messageId            = messageId;
+        this.tca                  = tca;
+        this.missDistance         = missDistance;
+        this.relativeSpeed        = relativeSpeed;
+        this.relativeState        = relativeState.clone();
+        this.collisionProbability = collisionProbability;
+        this.object1              = object1;
+        this.object2              = object2;
+    }
+
+    /** Get the message identifier.
+     * @return message identifier
+     */
+    public String getMessageId() {
+        return messageId;
+    }
+
+    /** Get the time of closest approach.
+     * @return time of closest approach
+     */
+    public AbsoluteDate getTca() {
+        return tca;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getDate() {
+        return tca;
+    }
+
+    /** Get the miss distance.
+     * @return miss distance (m)
+     */
+    public double getMissDistance() {
+        return missDistance;
+    }
+
+    /** Get the relative speed.
+     * @return relative speed (m/s), NaN if not present in the message
+     */
+    public double getRelativeSpeed() {
+        return relativeSpeed;
+    }
+
+    /** Get the relative position in RTN frame.
+     * @return relative position in RTN frame (m), with NaN components if not present in the message
+     */
+    public Vector3D getRelativePosition() {
+        return new Vector3D(relativeState[0], relativeState[1], relativeState[2]);
+    }
+
+    /** Get the relative velocity in RTN frame.
+     * @return relative velocity in RTN frame (m/s), with NaN components if not present in the message
+     */
+    public Vector3D getRelativeVelocity() {
+        return new Vector3D(relativeState[3], relativeState[4], relativeState[5]);
+    }
+
+    /** Get one element of the relative state.
+     * @param i index of the element (0 to 5)
+     * @return relative state element (m or m/s)
+     */
+    public double getRelativeStateElement(final int i) {
+        return relativeState[i];
+    }
+
+    /** Get the collision probability.
+     * @return collision probability, NaN if not present in the message
+     */
+    public double getCollisionProbability() {
+        return collisionProbability;
+    }
+
+    /** Get the first object data.
+     * @return first object data
+     */
+    public CdmObjectRecord getObject1() {
+        return object1;
+    }
+
+    /** Get the second object data.
+     * @return second object data
+     */
+    public CdmObjectRecord getObject2() {
+        return object2;
+    }
+
+    /** Check if an object is involved in the conjunction.
+     * @param designator object designator
+     * @return true if either first or second object has the specified designator
+     */
+    public boolean involves(final String designator) {
+        return designator.equals(object1.getDesignator()) || designator.equals(object2.getDesignator());
+    }
+
+}
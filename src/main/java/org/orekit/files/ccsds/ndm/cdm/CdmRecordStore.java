@@ -0,0 +1,547 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.ccsds.ndm.cdm;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeOffset;
+
+/**
+ * Append-only on-disk store for {@link CdmRecord conjunction records}.
+ * <p>
+ * Records are stored with a fixed size binary layout, so the file can be memory-mapped
+ * and any record can be decoded directly from its index without reading the other ones.
+ * When the store is opened, the existing records are scanned once to build in-memory
+ * indices by object designator and by TCA, which are then kept up to date as new
+ * records are {@link #append(CdmRecord) appended}. This allows fast retrieval of the
+ * conjunction history of one object or of all conjunctions in a TCA window, for example
+ * to recompute probabilities of collision with a different method.
+ * </p>
+ * <p>
+ * A typical ingestion loop is:
+ * </p>
+ * <pre>{@code
+ * try (CdmRecordStore store = new CdmRecordStore(path)) {
+ *     final StreamingCdmReader reader = new StreamingCdmReader();
+ *     for (final DataSource source : sources) {
+ *         reader.read(source, store::append);
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * As records have a fixed size, string fields are limited to {@link #MAX_MESSAGE_ID_LENGTH}
+ * bytes for message identifiers and {@link #MAX_NAME_LENGTH} bytes for object designators
+ * and reference frame names, in UTF-8 encoding. The whole file is memory-mapped at once,
+ * so it is limited to 2GB, i.e. about three million records.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe. The file is not locked, so it must not be
+ * updated by several stores at the same time. If an append was interrupted (for example
+ * by a crash) and left a partial record at the end of the file, this partial record is
+ * discarded when the store is opened again.
+ * </p>
+ * @see StreamingCdmReader
+ * @since 14.0
+ */
+public class CdmRecordStore implements Closeable {
+
+    /** Maximum number of bytes for message identifiers. */
+    public static final int MAX_MESSAGE_ID_LENGTH = 63;
+
+    /** Maximum number of bytes for object designators and reference frame names. */
+    public static final int MAX_NAME_LENGTH = 31;
+
+    /** Key for message identifier field. */
+    private static final String MESSAGE_ID = "MESSAGE_ID";
+
+    /** Key for object designator fields. */
+    private static final String OBJECT_DESIGNATOR = "OBJECT_DESIGNATOR";
+
+    /** Key for reference frame fields. */
+    private static final String REF_FRAME = "REF_FRAME";
+
+    /** Magic number at file start ("OREKCDMS" in ASCII). */
+    private static final long MAGIC = 0x4F52454B43444D53L;
+
+    /** Format version. */
+    private static final int VERSION = 1;
+
+    /** Header size. */
+    private static final int HEADER_SIZE = 32;
+
+    /** Size of the relative state. */
+    private static final int RELATIVE_STATE_SIZE = 6;
+
+    /** Number of double values in object data. */
+    private static final int OBJECT_DOUBLES = 6 + CdmObjectRecord.COVARIANCE_SIZE;
+
+    /** Offset of miss distance in a record. */
+    private static final int MISS_DISTANCE_OFFSET = 2 * Long.BYTES;
+
+    /** Offset of first object data in a record. */
+    private static final int OBJECT1_OFFSET = MISS_DISTANCE_OFFSET + (3 + RELATIVE_STATE_SIZE) * Double.BYTES;
+
+    /** Offset of second object data in a record. */
+    private static final int OBJECT2_OFFSET = OBJECT1_OFFSET + OBJECT_DOUBLES * Double.BYTES;
+
+    /** Offset of message identifier in a record. */
+    private static final int MESSAGE_ID_OFFSET = OBJECT2_OFFSET + OBJECT_DOUBLES * Double.BYTES;
+
+    /** Offset of first object designator in a record. */
+    private static final int DESIGNATOR1_OFFSET = MESSAGE_ID_OFFSET + MAX_MESSAGE_ID_LENGTH + 1;
+
+    /** Offset of second object designator in a record. */
+    private static final int DESIGNATOR2_OFFSET = DESIGNATOR1_OFFSET + MAX_NAME_LENGTH + 1;
+
+    /** Offset of first object reference frame in a record. */
+    private static final int FRAME1_OFFSET = DESIGNATOR2_OFFSET + MAX_NAME_LENGTH + 1;
+
+    /** Offset of second object reference frame in a record. */
+    private static final int FRAME2_OFFSET = FRAME1_OFFSET + MAX_NAME_LENGTH + 1;
+
+    /** Record size. */
+    private static final int RECORD_SIZE = FRAME2_OFFSET + MAX_NAME_LENGTH + 1;
+
+    /** Maximum number of records (the whole file must fit in one mapping). */
+    private static final int MAX_RECORDS = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    /** Path to the store file. */
+    private final Path path;
+
+    /** Channel to the store file. */
+    private final FileChannel channel;
+
+    /** Records indices, per object designator. */
+    private final Map<String, List<Integer>> byObject;
+
+    /** Records indices, per TCA. */
+    private final NavigableMap<AbsoluteDate, List<Integer>> byTca;
+
+    /** Number of records. */
+    private int size;
+
+    /** Read-only mapping of the file. */
+    private MappedByteBuffer mapped;
+
+    /** Number of records covered by the mapping. */
+    private int mappedRecords;
+
+    /** Open a store, creating it if needed.
+     * @param path path to the store file
+     * @exception IOException if file cannot be opened or created
+     */
+    public CdmRecordStore(final Path path) throws IOException {
+
+        this.path     = path;
+        this.channel  = FileChannel.open(path, StandardOpenOption.CREATE,
+                                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.byObject = new HashMap<>();
+        this.byTca    = new TreeMap<>();
+
+        boolean opened = false;
+        try {
+
+            final long fileSize = channel.size();
+            if (fileSize == 0) {
+                // new store, write header
+                final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putLong(MAGIC).putInt(VERSION).putInt(RECORD_SIZE).rewind();
+                write(header, 0L);
+                this.size = 0;
+            } else {
+                // existing store, check header
+                this.size = checkHeader(fileSize);
+                if (fileSize > offset(size)) {
+                    // drop the trailing partial record left by an interrupted append
+                    channel.truncate(offset(size));
+                }
+            }
+
+            // build indices
+            remap();
+            for (int i = 0; i < size; ++i) {
+                final int offset = offset(i);
+                addToIndices(i, readDate(offset),
+                             readString(offset + DESIGNATOR1_OFFSET),
+                             readString(offset + DESIGNATOR2_OFFSET));
+            }
+            opened = true;
+
+        } finally {
+            if (!opened) {
+                // don't leak the channel if the store cannot be opened
+                channel.close();
+            }
+        }
+
+    }
+
+    /** Get the path to the store file.
+     * @return path to the store file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /** Get the number of records.
+     * @return number of records
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /** Append a record at the end of the store.
+     * <p>
+     * The record is written immediately to the file, but the file is not forced
+     * to the storage device.
+     * </p>
+     * @param cdmRecord record to append
+     * @return index of the appended record
+     */
+    public synchronized int append(final CdmRecord cdmRecord) {
+
+        if (size >= MAX_RECORDS) {
+            throw new OrekitException(LocalizedCoreFormats.NUMBER_TOO_LARGE, size + 1, MAX_RECORDS);
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+
+        // TCA
+        buffer.putLong(cdmRecord.getTca().getSeconds());
+        buffer.putLong(cdmRecord.getTca().getAttoSeconds());
+
+        // relative data
+        buffer.putDouble(cdmRecord.getMissDistance());
+        buffer.putDouble(cdmRecord.getRelativeSpeed());
+        buffer.putDouble(cdmRecord.getCollisionProbability());
+        for (int i = 0; i < RELATIVE_STATE_SIZE; ++i) {
+            buffer.putDouble(cdmRecord.getRelativeStateElement(i));
+        }
+
+        // objects data
+        putObject(buffer, cdmRecord.getObject1());
+        putObject(buffer, cdmRecord.getObject2());
+
+        // strings
+        putString(buffer, MESSAGE_ID,        cdmRecord.getMessageId(),                MAX_MESSAGE_ID_LENGTH);
+        putString(buffer, OBJECT_DESIGNATOR, cdmRecord.getObject1().getDesignator(), MAX_NAME_LENGTH);
+        putString(buffer, OBJECT_DESIGNATOR, cdmRecord.getObject2().getDesignator(), MAX_NAME_LENGTH);
+        putString(buffer, REF_FRAME,         cdmRecord.getObject1().getRefFrame(),   MAX_NAME_LENGTH);
+        putString(buffer, REF_FRAME,         cdmRecord.getObject2().getRefFrame(),   MAX_NAME_LENGTH);
+
+        buffer.rewind();
+        try {
+            write(buffer, offset(size));
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+
+        addToIndices(size, cdmRecord.getTca(),
+                     cdmRecord.getObject1().getDesignator(), cdmRecord.getObject2().getDesignator());
+        return size++;
+
+    }
+
+    /** Get a record.
+     * @param index index of the record
+     * @return record at specified index
+     */
+    public synchronized CdmRecord get(final int index) {
+
+        if (index < 0 || index >= size) {
+            throw new OrekitException(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, index, 0, size - 1);
+        }
+        ensureMapped();
+
+        final int offset = offset(index);
+
+        final double[] relativeState = new double[RELATIVE_STATE_SIZE];
+        for (int i = 0; i < relativeState.length; ++i) {
+            relativeState[i] = mapped.getDouble(offset + MISS_DISTANCE_OFFSET + (3 + i) * Double.BYTES);
+        }
+
+        return new CdmRecord(readString(offset + MESSAGE_ID_OFFSET),
+                             readDate(offset),
+                             mapped.getDouble(offset + MISS_DISTANCE_OFFSET),
+                             mapped.getDouble(offset + MISS_DISTANCE_OFFSET + Double.BYTES),
+                             relativeState,
+                             mapped.getDouble(offset + MISS_DISTANCE_OFFSET + 2 * Double.BYTES),
+                             readObject(offset + OBJECT1_OFFSET,
+                                        offset + DESIGNATOR1_OFFSET, offset + FRAME1_OFFSET),
+                             readObject(offset + OBJECT2_OFFSET,
+                                        offset + DESIGNATOR2_OFFSET, offset + FRAME2_OFFSET));
+
+    }
+
+    /** Select all records involving one object.
+     * @param designator object designator
+     * @return records involving the object, sorted by TCA
+     */
+    public List<CdmRecord> select(final String designator) {
+        return select(designator, AbsoluteDate.PAST_INFINITY, AbsoluteDate.FUTURE_INFINITY,
+                      Double.POSITIVE_INFINITY);
+    }
+
+    /** Select all records with TCA in a time window.
+     * @param start start of the TCA window (included)
+     * @param end end of the TCA window (included)
+     * @return records in the window, sorted by TCA
+     */
+    public List<CdmRecord> select(final AbsoluteDate start, final AbsoluteDate end) {
+        return select(null, start, end, Double.POSITIVE_INFINITY);
+    }
+
+    /** Select records.
+     * @param designator object designator (if null, records for all objects are selected)
+     * @param start start of the TCA window (included)
+     * @param end end of the TCA window (included)
+     * @param maxMissDistance maximum miss distance (m)
+     * @return selected records, sorted by TCA (and by index for identical TCA)
+     */
+    public synchronized List<CdmRecord> select(final String designator,
+                                               final AbsoluteDate start, final AbsoluteDate end,
+                                               final double maxMissDistance) {
+
+        ensureMapped();
+
+        // find candidates in TCA order, using the most selective index
+        final List<Integer> candidates = new ArrayList<>();
+        if (designator == null) {
+            for (final List<Integer> indices : byTca.subMap(start, true, end, true).values()) {
+                candidates.addAll(indices);
+            }
+        } else {
+            for (final int index : byObject.getOrDefault(designator, Collections.emptyList())) {
+                final AbsoluteDate tca = readDate(offset(index));
+                if (tca.compareTo(start) >= 0 && tca.compareTo(end) <= 0) {
+                    candidates.add(index);
+                }
+            }
+        }
+
+        // filter on miss distance, decoding only selected records
+        final List<CdmRecord> selected = new ArrayList<>(candidates.size());
+        for (final int index : candidates) {
+            if (mapped.getDouble(offset(index) + MISS_DISTANCE_OFFSET) <= maxMissDistance) {
+                selected.add(get(index));
+            }
+        }
+
+        // stable sort, so records with same TCA remain in insertion order
+        selected.sort((r1, r2) -> r1.getTca().compareTo(r2.getTca()));
+        return selected;
+
+    }
+
+    /** Get the object designators present in the store.
+     * @return sorted object designators
+     */
+    public synchronized List<String> getDesignators() {
+        final List<String> designators = new ArrayList<>(byObject.keySet());
+        Collections.sort(designators);
+        return designators;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() throws IOException {
+        mapped        = null;
+        mappedRecords = 0;
+        channel.close();
+    }
+
+    /** Check the header of an existing file.
+     * @param fileSize size of the file
+     * @return number of complete records in the file
+     * @exception IOException if header cannot be read
+     */
+    private int checkHeader(final long fileSize) throws IOException {
+
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // continue reading until the header is complete or the file ends
+        }
+        header.rewind();
+
+        if (fileSize < HEADER_SIZE || header.getLong() != MAGIC) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, path);
+        }
+
+        final int version = header.getInt();
+        if (version != VERSION) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, version, path, VERSION);
+        }
+
+        if (header.getInt() != RECORD_SIZE) {
+            throw new OrekitException(OrekitMessages.CORRUPTED_FILE, path);
+        }
+
+        // a trailing partial record (interrupted append) is ignored
+        return (int) FastMath.min((fileSize - HEADER_SIZE) / RECORD_SIZE, MAX_RECORDS);
+
+    }
+
+    /** Write a buffer to the file.
+     * @param buffer buffer to write
+     * @param position position in the file
+     * @exception IOException if buffer cannot be written
+     */
+    private void write(final ByteBuffer buffer, final long position) throws IOException {
+        long p = position;
+        while (buffer.hasRemaining()) {
+            p += channel.write(buffer, p);
+        }
+    }
+
+    /** Map the current file content.
+     * @exception IOException if file cannot be mapped
+     */
+    private void remap() throws IOException {
+        mapped        = channel.map(FileChannel.MapMode.READ_ONLY, 0, offset(size));
+        mappedRecords = size;
+    }
+
+    /** Ensure all records are covered by the mapping. */
+    private void ensureMapped() {
+        if (mappedRecords < size) {
+            try {
+                remap();
+            } catch (IOException ioe) {
+                throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+            }
+        }
+    }
+
+    /** Add a record to the indices.
+     * @param index record index
+     * @param tca time of closest approach
+     * @param designator1 first object designator
+     * @param designator2 second object designator
+     */
+    private void addToIndices(final int index, final AbsoluteDate tca,
+                              final String designator1, final String designator2) {
+        byTca.computeIfAbsent(tca, t -> new ArrayList<>()).add(index);
+        if (designator1 != null) {
+            byObject.computeIfAbsent(designator1, d -> new ArrayList<>()).add(index);
+        }
+        if (designator2 != null && !designator2.equals(designator1)) {
+            byObject.computeIfAbsent(designator2, d -> new ArrayList<>()).add(index);
+        }
+    }
+
+    /** Encode object data.
+     * @param buffer buffer where to encode data
+     * @param object object data
+     */
+    private void putObject(final ByteBuffer buffer, final CdmObjectRecord object) {
+        for (int i = 0; i < 6; ++i) {
+            buffer.putDouble(object.getStateElement(i));
+        }
+        for (int i = 0; i < CdmObjectRecord.COVARIANCE_SIZE; ++i) {
+            buffer.putDouble(object.getCovarianceElement(i));
+        }
+    }
+
+    /** Encode a string in a fixed size slot.
+     * @param buffer buffer where to encode the string
+     * @param key key of the field, for error messages
+     * @param value string value (may be null)
+     * @param maxLength maximum number of bytes
+     */
+    private void putString(final ByteBuffer buffer, final String key, final String value, final int maxLength) {
+        final int start = buffer.position();
+        if (value == null) {
+            buffer.put((byte) -1);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > maxLength) {
+                throw new OrekitException(OrekitMessages.FIELD_TOO_LONG, key, maxLength);
+            }
+            buffer.put((byte) bytes.length);
+            buffer.put(bytes);
+        }
+        buffer.position(start + maxLength + 1);
+    }
+
+    /** Decode a date.
+     * @param offset offset of the date in the mapping
+     * @return decoded date
+     */
+    private AbsoluteDate readDate(final int offset) {
+        return new AbsoluteDate(new TimeOffset(mapped.getLong(offset), mapped.getLong(offset + Long.BYTES)));
+    }
+
+    /** Decode a string.
+     * @param offset offset of the string slot in the mapping
+     * @return decoded string (may be null)
+     */
+    private String readString(final int offset) {
+        final int length = mapped.get(offset);
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        mapped.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Decode object data.
+     * @param dataOffset offset of the numerical data in the mapping
+     * @param designatorOffset offset of the object designator in the mapping
+     * @param frameOffset offset of the reference frame name in the mapping
+     * @return decoded object data
+     */
+    private CdmObjectRecord readObject(final int dataOffset, final int designatorOffset, final int frameOffset) {
+        final double[] state = new double[6];
+        for (int i = 0; i < state.length; ++i) {
+            state[i] = mapped.getDouble(dataOffset + i * Double.BYTES);
+        }
+        final double[] covariance = new double[CdmObjectRecord.COVARIANCE_SIZE];
+        for (int i = 0; i < covariance.length; ++i) {
+            covariance[i] = mapped.getDouble(dataOffset + (state.length + i) * Double.BYTES);
+        }
+        return new CdmObjectRecord(readString(designatorOffset), readString(frameOffset), state, covariance);
+    }
+
+    /** Get the offset of a record in the file.
+     * @param index record index
+     * @return offset of the record
+     */
+    private static int offset(final int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+}
@@ -0,0 +1,383 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.ccsds.ndm.cdm;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.annotation.DefaultDataContext;
+import org.orekit.data.DataContext;
+import org.orekit.data.DataSource;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.files.ccsds.definitions.Units;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScale;
+import org.orekit.utils.units.Unit;
+
+/**
+ * Streaming reader for Conjunction Data Messages in Key-Value Notation.
+ * <p>
+ * This reader is intended for operational flows that ingest large numbers of CDMs
+ * and only need the data required to index conjunctions and recompute probabilities
+ * of collision. Contrary to {@link CdmParser}, it does not build the complete
+ * {@link Cdm} object with all its sections and it does not go through the generic
+ * CCSDS lexical machinery: lines are scanned directly and only the keys needed to
+ * build {@link CdmRecord} instances are retained, all other keys being ignored.
+ * A single data source may contain several concatenated messages, one record is
+ * emitted for each {@code CCSDS_CDM_VERS} header found.
+ * </p>
+ * <p>
+ * Units specified between brackets are converted to SI units if they are compatible
+ * with the CCSDS standard units. Only KVN messages are supported, XML messages must
+ * be read using {@link CdmParser}.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and can be shared between threads, each call
+ * to {@link #read(DataSource, CdmRecordHandler)} using its own parsing state.
+ * </p>
+ * @since 14.0
+ */
+public class StreamingCdmReader {
+
+    /** Size of the state vector part of object data. */
+    private static final int STATE_SIZE = 6;
+
+    /** Key for message header. */
+    private static final String CCSDS_CDM_VERS = "CCSDS_CDM_VERS";
+
+    /** Key for message identifier. */
+    private static final String MESSAGE_ID = "MESSAGE_ID";
+
+    /** Key for time of closest approach. */
+    private static final String TCA = "TCA";
+
+    /** Key for object section start. */
+    private static final String OBJECT = "OBJECT";
+
+    /** Key for object designator. */
+    private static final String OBJECT_DESIGNATOR = "OBJECT_DESIGNATOR";
+
+    /** Key for reference frame. */
+    private static final String REF_FRAME = "REF_FRAME";
+
+    /** Key for comments. */
+    private static final String COMMENT = "COMMENT";
+
+    /** Keys for relative data, in storage order. */
+    private static final String[] RELATIVE_KEYS = {
+        "MISS_DISTANCE", "RELATIVE_SPEED",
+        "RELATIVE_POSITION_R", "RELATIVE_POSITION_T", "RELATIVE_POSITION_N",
+        "RELATIVE_VELOCITY_R", "RELATIVE_VELOCITY_T", "RELATIVE_VELOCITY_N",
+        "COLLISION_PROBABILITY"
+    };
+
+    /** Standard units for relative data, in storage order. */
+    private static final Unit[] RELATIVE_UNITS = {
+        Unit.METRE, Units.M_PER_S,
+        Unit.METRE, Unit.METRE, Unit.METRE,
+        Units.M_PER_S, Units.M_PER_S, Units.M_PER_S,
+        Unit.ONE
+    };
+
+    /** Keys for object data, in storage order (state vector then lower triangular covariance). */
+    private static final String[] OBJECT_KEYS = {
+        "X", "Y", "Z", "X_DOT", "Y_DOT", "Z_DOT",
+        "CR_R",
+        "CT_R", "CT_T",
+        "CN_R", "CN_T", "CN_N",
+        "CRDOT_R", "CRDOT_T", "CRDOT_N", "CRDOT_RDOT",
+        "CTDOT_R", "CTDOT_T", "CTDOT_N", "CTDOT_RDOT", "CTDOT_TDOT",
+        "CNDOT_R", "CNDOT_T", "CNDOT_N", "CNDOT_RDOT", "CNDOT_TDOT", "CNDOT_NDOT"
+    };
+
+    /** Standard units for object data, in storage order. */
+    private static final Unit[] OBJECT_UNITS = {
+        Unit.KILOMETRE, Unit.KILOMETRE, Unit.KILOMETRE, Units.KM_PER_S, Units.KM_PER_S, Units.KM_PER_S,
+        Units.M2,
+        Units.M2, Units.M2,
+        Units.M2, Units.M2, Units.M2,
+        Units.M2_PER_S, Units.M2_PER_S, Units.M2_PER_S, Units.M2_PER_S2,
+        Units.M2_PER_S, Units.M2_PER_S, Units.M2_PER_S, Units.M2_PER_S2, Units.M2_PER_S2,
+        Units.M2_PER_S, Units.M2_PER_S, Units.M2_PER_S, Units.M2_PER_S2, Units.M2_PER_S2, Units.M2_PER_S2
+    };
+
+    /** Map from keys to relative data indices. */
+    private static final Map<String, Integer> RELATIVE_INDICES = indices(RELATIVE_KEYS);
+
+    /** Map from keys to object data indices. */
+    private static final Map<String, Integer> OBJECT_INDICES = indices(OBJECT_KEYS);
+
+    /** UTC time scale (CDM dates are always in UTC). */
+    private final TimeScale utc;
+
+    /** Simple constructor.
+     * <p>
+     * This constructor uses the {@link DataContext#getDefault() default data context}.
+     * </p>
+     * @see #StreamingCdmReader(TimeScale)
+     */
+    @DefaultDataContext
+    public StreamingCdmReader() {
+        this(DataContext.getDefault().getTimeScales().getUTC());
+    }
+
+    /** Constructor with explicit UTC time scale.
+     * @param utc UTC time scale
+     */
+    public StreamingCdmReader(final TimeScale utc) {
+        this.utc = utc;
+    }
+
+    /** Read all messages from a data source.
+     * @param source data source containing one or several concatenated KVN messages
+     * @param handler handler for the records, called once for each message
+     * @return number of messages read
+     */
+    public int read(final DataSource source, final CdmRecordHandler handler) {
+
+        try (Reader reader = source.getOpener().openReaderOnce();
+             BufferedReader br = (reader == null) ? null : new BufferedReader(reader)) {
+
+            if (br == null) {
+                throw new OrekitException(OrekitMessages.UNABLE_TO_FIND_FILE, source.getName());
+            }
+
+            final ParseInfo pi = new ParseInfo(source.getName());
+            int lineNumber = 0;
+            for (String line = br.readLine(); line != null; line = br.readLine()) {
+                ++lineNumber;
+                try {
+                    pi.parseLine(line, handler);
+                } catch (NumberFormatException nfe) {
+                    throw new OrekitException(nfe, OrekitMessages.UNABLE_TO_PARSE_LINE_IN_FILE,
+                                              lineNumber, source.getName(), line);
+                }
+            }
+            pi.emit(handler);
+
+            return pi.count;
+
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+
+    }
+
+    /** Build a map from keys to indices.
+     * @param keys keys
+     * @return map from keys to indices
+     */
+    private static Map<String, Integer> indices(final String[] keys) {
+        final Map<String, Integer> map = new HashMap<>();
+        for (int i = 0; i < keys.length; ++i) {
+            map.put(keys[i], i);
+        }
+        return map;
+    }
+
+    /** Transient data used for parsing one data source. */
+    private class ParseInfo {
+
+        /** Name of the data source. */
+        private final String name;
+
+        /** Cache for parsed units. */
+        private final Map<String, Unit> units;
+
+        /** Relative data of current message. */
+        private final double[] relative;
+
+        /** Objects data of current message. */
+        private final double[][] objects;
+
+        /** Objects designators of current message. */
+        private final String[] designators;
+
+        /** Objects reference frames of current message. */
+        private final String[] frames;
+
+        /** Indicator for a message in progress. */
+        private boolean inMessage;
+
+        /** Message identifier of current message. */
+        private String messageId;
+
+        /** TCA of current message. */
+        private AbsoluteDate tca;
+
+        /** Index of current object (-1 before first object section). */
+        private int current;
+
+        /** Number of emitted records. */
+        private int count;
+
+        /** Simple constructor.
+         * @param name name of the data source
+         */
+        ParseInfo(final String name) {
+            this.name        = name;
+            this.units       = new HashMap<>();
+            this.relative    = new double[RELATIVE_KEYS.length];
+            this.objects     = new double[2][OBJECT_KEYS.length];
+            this.designators = new String[2];
+            this.frames      = new String[2];
+            this.count       = 0;
+            reset();
+        }
+
+        /** Reset parsing state for a new message. */
+        private void reset() {
+            inMessage = false;
+            messageId = null;
+            tca       = null;
+            current   = -1;
+            Arrays.fill(relative, Double.NaN);
+            Arrays.fill(objects[0], Double.NaN);
+            Arrays.fill(objects[1], Double.NaN);
+            Arrays.fill(designators, null);
+            Arrays.fill(frames, null);
+        }
+
+        /** Parse one line.
+         * @param line line to parse
+         * @param handler handler for the records
+         */
+        private void parseLine(final String line, final CdmRecordHandler handler) {
+
+            final int equal = line.indexOf('=');
+            if (equal < 0) {
+                final String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith(COMMENT)) {
+                    return;
+                }
+                if (trimmed.charAt(0) == '<') {
+                    // this is probably an XML message
+                    throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+                }
+                throw new NumberFormatException(trimmed);
+            }
+
+            final String key = line.substring(0, equal).trim();
+            if (key.startsWith(COMMENT)) {
+                return;
+            }
+
+            // split value and units
+            final int open  = line.indexOf('[', equal);
+            final int close = open < 0 ? -1 : line.indexOf(']', open);
+            final String value = (close < 0 ? line.substring(equal + 1) : line.substring(equal + 1, open)).trim();
+
+            switch (key) {
+                case CCSDS_CDM_VERS :
+                    emit(handler);
+                    inMessage = true;
+                    return;
+                case MESSAGE_ID :
+                    messageId = value;
+                    return;
+                case TCA :
+                    tca = new AbsoluteDate(value, utc);
+                    return;
+                case OBJECT :
+                    current = "OBJECT2".equals(value) ? 1 : 0;
+                    return;
+                case OBJECT_DESIGNATOR :
+                    designators[Math.max(current, 0)] = value;
+                    return;
+                case REF_FRAME :
+                    frames[Math.max(current, 0)] = value;
+                    return;
+                default :
+                    // numerical value
+            }
+
+            final Integer relativeIndex = RELATIVE_INDICES.get(key);
+            if (relativeIndex != null) {
+                relative[relativeIndex] = toSI(value, line, open, close, RELATIVE_UNITS[relativeIndex]);
+                return;
+            }
+
+            final Integer objectIndex = OBJECT_INDICES.get(key);
+            if (objectIndex != null && current >= 0) {
+                objects[current][objectIndex] = toSI(value, line, open, close, OBJECT_UNITS[objectIndex]);
+            }
+
+            // other keys are ignored
+
+        }
+
+        /** Convert a value to SI units.
+         * @param value value to convert
+         * @param line line containing the value
+         * @param open index of units opening bracket (negative if no units are specified)
+         * @param close index of units closing bracket (negative if no units are specified)
+         * @param standard CCSDS standard units
+         * @return value in SI units
+         */
+        private double toSI(final String value, final String line,
+                            final int open, final int close, final Unit standard) {
+            final double raw = Double.parseDouble(value);
+            if (close < 0) {
+                return standard.toSI(raw);
+            }
+            final Unit specified = units.computeIfAbsent(line.substring(open + 1, close).trim(), Unit::parse);
+            if (specified == Unit.NONE) {
+                return standard.toSI(raw);
+            }
+            if (!specified.sameDimension(standard)) {
+                throw new OrekitException(OrekitMessages.INCOMPATIBLE_UNITS,
+                                          standard.getName(), specified.getName());
+            }
+            return specified.toSI(raw);
+        }
+
+        /** Emit the record for current message, if any.
+         * @param handler handler for the records
+         */
+        private void emit(final CdmRecordHandler handler) {
+            if (!inMessage) {
+                return;
+            }
+            if (tca == null) {
+                throw new OrekitException(OrekitMessages.CCSDS_MISSING_KEYWORD, TCA, name);
+            }
+            handler.handle(new CdmRecord(messageId, tca, relative[0], relative[1],
+                                         Arrays.copyOfRange(relative, 2, 8), relative[8],
+                                         buildObject(0), buildObject(1)));
+            ++count;
+            reset();
+        }
+
+        /** Build an object record.
+         * @param index object index
+         * @return object record
+         */
+        private CdmObjectRecord buildObject(final int index) {
+            return new CdmObjectRecord(designators[index], frames[index],
+                                       Arrays.copyOfRange(objects[index], 0, STATE_SIZE),
+                                       Arrays.copyOfRange(objects[index], STATE_SIZE, objects[index].length));
+        }
+
+    }
+
+}
@@ -21,7 +21,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 import org.orekit.bodies.OneAxisEllipsoid;
 import org.orekit.data.DataContext;
@@ -68,9 +67,6 @@ import org.orekit.utils.units.Unit;
  */
 public class OcmParser extends OdmParser<Ocm, OcmParser> implements EphemerisFileParser<Ocm> {
 
-    /** Pattern for splitting strings at blanks. */
-    private static final Pattern SPLIT_AT_BLANKS = Pattern.compile("\\s+");
-
     /** File header. */
     private OdmHeader header;
 
@@ -548,7 +544,7 @@ public class OcmParser extends OdmParser<Ocm, OcmParser> implements EphemerisFil
                 return true;
             }
             try {
-                final String[] fields = SPLIT_AT_BLANKS.split(token.getRawContent().trim());
+                final String[] fields = token.getRawContentFields();
                 // as TRAJ_UNITS is optional and indeed MUST match type, get them directly from type
                 final List<Unit> units = currentTrajectoryStateHistoryMetadata.getTrajType().getUnits();
                 if (fields.length != units.size() + 1) {
@@ -610,7 +606,7 @@ public class OcmParser extends OdmParser<Ocm, OcmParser> implements EphemerisFil
                 return true;
             }
             try {
-                final String[] fields = SPLIT_AT_BLANKS.split(token.getRawContent().trim());
+                final String[] fields = token.getRawContentFields();
                 final int n = currentCovarianceHistoryMetadata.getCovType().getUnits().size();
                 if (fields.length - 1 != currentCovarianceHistoryMetadata.getCovOrdering().nbElements(n)) {
                     throw new OrekitException(OrekitMessages.UNABLE_TO_PARSE_LINE_IN_FILE,
@@ -653,7 +649,7 @@ public class OcmParser extends OdmParser<Ocm, OcmParser> implements EphemerisFil
                 return true;
             }
             try {
-                final String[] fields = SPLIT_AT_BLANKS.split(token.getRawContent().trim());
+                final String[] fields = token.getRawContentFields();
                 final List<ManeuverFieldType> types = currentManeuverHistoryMetadata.getManComposition();
                 if (fields.length != types.size()) {
                     throw new OrekitException(OrekitMessages.UNABLE_TO_PARSE_LINE_IN_FILE,
@@ -18,14 +18,18 @@ package org.orekit.files.ccsds.ndm.odm.oem;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.orekit.data.DataContext;
 import org.orekit.data.DataSource;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.files.ccsds.definitions.CcsdsFrameMapper;
+import org.orekit.files.ccsds.definitions.TimeConverter;
+import org.orekit.files.ccsds.definitions.TimeSystem;
 import org.orekit.files.ccsds.definitions.Units;
 import org.orekit.files.ccsds.ndm.ParsedUnitsBehavior;
 import org.orekit.files.ccsds.ndm.odm.CartesianCovariance;
@@ -50,6 +54,7 @@ import org.orekit.files.general.EphemerisFileParser;
 import org.orekit.frames.Frame;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.IERSConventions;
+import org.orekit.utils.TimeStampedPVCoordinates;
 import org.orekit.utils.units.Unit;
 
 /**
@@ -71,7 +76,7 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
     /** Comment marker. */
     private static final String COMMENT = "COMMENT";
 
-                    /** Pattern for splitting strings at blanks. */
+    /** Pattern for splitting strings at blanks. */
     private static final Pattern SPLIT_AT_BLANKS = Pattern.compile("\\s+");
 
     /** File header. */
@@ -107,6 +112,15 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
     /** State vector logical block being read. */
     private StateVector stateVectorBlock;
 
+    /** Converter for epochs in current segment. */
+    private TimeConverter converter;
+
+    /** Consumer for streamed segments (null if segments are gathered in the message). */
+    private Consumer<OemSegment> segmentConsumer;
+
+    /** Time system of the first streamed segment. */
+    private TimeSystem streamedTimeSystem;
+
     /**
      * Complete constructor.
      * <p>
@@ -144,6 +158,30 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
         return parseMessage(source);
     }
 
+    /** Parse a message, streaming its segments to a consumer instead of gathering them.
+     * <p>
+     * Each segment is handed to the consumer as soon as it has been completely
+     * parsed, and it is not retained by the parser afterwards. This allows
+     * processing huge messages segment by segment, with a memory footprint
+     * bounded by the largest segment instead of the whole message.
+     * </p>
+     * @param source data source containing the message
+     * @param consumer consumer for the segments, called in message order
+     * @return header of the message
+     * @since 14.0
+     */
+    public OdmHeader stream(final DataSource source, final Consumer<OemSegment> consumer) {
+        segmentConsumer    = consumer;
+        streamedTimeSystem = null;
+        try {
+            parseMessage(source);
+            return header;
+        } finally {
+            segmentConsumer    = null;
+            streamedTimeSystem = null;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public OdmHeader getHeader() {
@@ -161,6 +199,7 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
         inCovariance      = false;
         currentCovariance = null;
         currentRow        = -1;
+        converter         = null;
         if (fileFormat == FileFormat.XML) {
             structureProcessor = new XmlStructureProcessingState(Oem.ROOT, this);
             reset(fileFormat, structureProcessor);
@@ -198,7 +237,8 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
             // we have started a new segment, we need to finalize the previous one
             finalizeData();
         }
-        metadata = new OemMetadata(defaultInterpolationDegree, getFrameMapper());
+        metadata  = new OemMetadata(defaultInterpolationDegree, getFrameMapper());
+        converter = null;
         context  = new ContextBinding(this::getConventions, this::isSimpleEOP,
                                       this::getDataContext, this::getParsedUnitsBehavior,
                                       this::getMissionReferenceDate,
@@ -246,7 +286,19 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
     public boolean finalizeData() {
         if (metadata != null) {
             currentBlock.validate(header.getFormatVersion());
-            segments.add(new OemSegment(metadata, currentBlock, getSelectedMu()));
+            final OemSegment segment = new OemSegment(metadata, currentBlock, getSelectedMu());
+            if (segmentConsumer == null) {
+                segments.add(segment);
+            } else {
+                // streaming mode, the consistency of time systems must be checked on the fly
+                if (streamedTimeSystem == null) {
+                    streamedTimeSystem = metadata.getTimeSystem();
+                } else if (!streamedTimeSystem.equals(metadata.getTimeSystem())) {
+                    throw new OrekitException(OrekitMessages.CCSDS_INCONSISTENT_TIME_SYSTEMS,
+                                              streamedTimeSystem.name(), metadata.getTimeSystem().name());
+                }
+                segmentConsumer.accept(segment);
+            }
         }
         metadata          = null;
         context           = null;
@@ -254,6 +306,7 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
         inCovariance      = false;
         currentCovariance = null;
         currentRow        = -1;
+        converter         = null;
         return true;
     }
 
@@ -369,26 +422,33 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
             return token.getType() == TokenType.ENTRY ? currentBlock.addComment(token.getContentAsNormalizedString()) : true;
         } else if (token.getType() == TokenType.RAW_LINE) {
             try {
-                final String[] fields = SPLIT_AT_BLANKS.split(token.getRawContent().trim());
+                // data lines are the vast majority of lines in OEM, they are parsed
+                // directly into coordinates without intermediate objects
+                final String[] fields = token.getRawContentFields();
                 if (fields.length != 7 && fields.length != 10) {
                     throw new OrekitException(OrekitMessages.UNABLE_TO_PARSE_LINE_IN_FILE,
                                               token.getLineNumber(), token.getFileName(), token.getContentAsNormalizedString());
                 }
-                stateVectorBlock = new StateVector();
-                stateVectorBlock.setEpoch(context.getTimeSystem().getConverter(context).parse(fields[0]));
-                stateVectorBlock.setP(0, Unit.KILOMETRE.toSI(Double.parseDouble(fields[1])));
-                stateVectorBlock.setP(1, Unit.KILOMETRE.toSI(Double.parseDouble(fields[2])));
-                stateVectorBlock.setP(2, Unit.KILOMETRE.toSI(Double.parseDouble(fields[3])));
-                stateVectorBlock.setV(0, Units.KM_PER_S.toSI(Double.parseDouble(fields[4])));
-                stateVectorBlock.setV(1, Units.KM_PER_S.toSI(Double.parseDouble(fields[5])));
-                stateVectorBlock.setV(2, Units.KM_PER_S.toSI(Double.parseDouble(fields[6])));
+                if (converter == null) {
+                    converter = context.getTimeSystem().getConverter(context);
+                }
+                final AbsoluteDate epoch = converter.parse(fields[0]);
+                final Vector3D position = new Vector3D(Unit.KILOMETRE.toSI(Double.parseDouble(fields[1])),
+                                                       Unit.KILOMETRE.toSI(Double.parseDouble(fields[2])),
+                                                       Unit.KILOMETRE.toSI(Double.parseDouble(fields[3])));
+                final Vector3D velocity = new Vector3D(Units.KM_PER_S.toSI(Double.parseDouble(fields[4])),
+                                                       Units.KM_PER_S.toSI(Double.parseDouble(fields[5])),
+                                                       Units.KM_PER_S.toSI(Double.parseDouble(fields[6])));
                 if (fields.length == 10) {
-                    stateVectorBlock.setA(0, Units.KM_PER_S2.toSI(Double.parseDouble(fields[7])));
-                    stateVectorBlock.setA(1, Units.KM_PER_S2.toSI(Double.parseDouble(fields[8])));
-                    stateVectorBlock.setA(2, Units.KM_PER_S2.toSI(Double.parseDouble(fields[9])));
+                    final Vector3D acceleration = new Vector3D(Units.KM_PER_S2.toSI(Double.parseDouble(fields[7])),
+                                                               Units.KM_PER_S2.toSI(Double.parseDouble(fields[8])),
+                                                               Units.KM_PER_S2.toSI(Double.parseDouble(fields[9])));
+                    return currentBlock.addData(new TimeStampedPVCoordinates(epoch, position, velocity, acceleration),
+                                                true);
+                } else {
+                    return currentBlock.addData(new TimeStampedPVCoordinates(epoch, position, velocity, Vector3D.ZERO),
+                                                false);
                 }
-                return currentBlock.addData(stateVectorBlock.toTimeStampedPVCoordinates(),
-                                            stateVectorBlock.hasAcceleration());
             } catch (NumberFormatException nfe) {
                 throw new OrekitException(nfe, OrekitMessages.UNABLE_TO_PARSE_LINE_IN_FILE,
                                           token.getLineNumber(), token.getFileName(), token.getRawContent());
@@ -24,6 +24,7 @@ import org.hipparchus.linear.RealMatrix;
 import org.orekit.data.DataContext;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
+import org.orekit.files.ccsds.definitions.TimeConverter;
 import org.orekit.files.ccsds.definitions.TimeSystem;
 import org.orekit.files.ccsds.definitions.Units;
 import org.orekit.files.ccsds.ndm.ParsedUnitsBehavior;
@@ -325,6 +326,60 @@ public class OemWriter extends AbstractMessageWriter<OdmHeader, OemSegment, Oem>
 
     }
 
+    /**
+     * Format a single orbit ephemeris line in KVN format.
+     * <p>
+     * The returned line does not include the end of line marker.
+     * This method does not write anything to the generator, it only uses
+     * it to format dates and numbers, so it can be called from several
+     * threads simultaneously.
+     * </p>
+     * @param generator generator to use for formatting dates and numbers
+     * @param converter converter for dates
+     * @param coordinates orbit information for a given date
+     * @param useAcceleration is true, the acceleration data must be used
+     * @return formatted line
+     * @since 14.0
+     */
+    String formatOrbitEphemerisLine(final Generator generator, final TimeConverter converter,
+                                    final TimeStampedPVCoordinates coordinates,
+                                    final boolean useAcceleration) {
+
+        final StringBuilder line = new StringBuilder(useAcceleration ? 256 : 160);
+
+        // Epoch
+        line.append(generator.dateToString(converter, coordinates.getDate()));
+
+        // Position data in km
+        line.append(' ');
+        line.append(generator.doubleToString(Unit.KILOMETRE.fromSI(coordinates.getPosition().getX())));
+        line.append(' ');
+        line.append(generator.doubleToString(Unit.KILOMETRE.fromSI(coordinates.getPosition().getY())));
+        line.append(' ');
+        line.append(generator.doubleToString(Unit.KILOMETRE.fromSI(coordinates.getPosition().getZ())));
+
+        // Velocity data in km/s
+        line.append(' ');
+        line.append(generator.doubleToString(Units.KM_PER_S.fromSI(coordinates.getVelocity().getX())));
+        line.append(' ');
+        line.append(generator.doubleToString(Units.KM_PER_S.fromSI(coordinates.getVelocity().getY())));
+        line.append(' ');
+        line.append(generator.doubleToString(Units.KM_PER_S.fromSI(coordinates.getVelocity().getZ())));
+
+        // Acceleration data in km/s²
+        if (useAcceleration) {
+            line.append(' ');
+            line.append(generator.doubleToString(Units.KM_PER_S2.fromSI(coordinates.getAcceleration().getX())));
+            line.append(' ');
+            line.append(generator.doubleToString(Units.KM_PER_S2.fromSI(coordinates.getAcceleration().getY())));
+            line.append(' ');
+            line.append(generator.doubleToString(Units.KM_PER_S2.fromSI(coordinates.getAcceleration().getZ())));
+        }
+
+        return line.toString();
+
+    }
+
     /**
      * Write a single orbit ephemeris line .
      * @param generator generator to use for producing output
@@ -340,34 +395,7 @@ public class OemWriter extends AbstractMessageWriter<OdmHeader, OemSegment, Oem>
 
         if (generator.getFormat() == FileFormat.KVN) {
 
-            // Epoch
-            generator.writeRawData(generator.dateToString(getTimeConverter(), coordinates.getDate()));
-
-            // Position data in km
-            generator.writeRawData(' ');
-            generator.writeRawData(generator.doubleToString(Unit.KILOMETRE.fromSI(coordinates.getPosition().getX())));
-            generator.writeRawData(' ');
-            generator.writeRawData(generator.doubleToString(Unit.KILOMETRE.fromSI(coordinates.getPosition().getY())));
-            generator.writeRawData(' ');
-            generator.writeRawData(generator.doubleToString(Unit.KILOMETRE.fromSI(coordinates.getPosition().getZ())));
-
-            // Velocity data in km/s
-            generator.writeRawData(' ');
-            generator.writeRawData(generator.doubleToString(Units.KM_PER_S.fromSI(coordinates.getVelocity().getX())));
-            generator.writeRawData(' ');
-            generator.writeRawData(generator.doubleToString(Units.KM_PER_S.fromSI(coordinates.getVelocity().getY())));
-            generator.writeRawData(' ');
-            generator.writeRawData(generator.doubleToString(Units.KM_PER_S.fromSI(coordinates.getVelocity().getZ())));
-
-            // Acceleration data in km/s²
-            if (useAcceleration) {
-                generator.writeRawData(' ');
-                generator.writeRawData(generator.doubleToString(Units.KM_PER_S2.fromSI(coordinates.getAcceleration().getX())));
-                generator.writeRawData(' ');
-                generator.writeRawData(generator.doubleToString(Units.KM_PER_S2.fromSI(coordinates.getAcceleration().getY())));
-                generator.writeRawData(' ');
-                generator.writeRawData(generator.doubleToString(Units.KM_PER_S2.fromSI(coordinates.getAcceleration().getZ())));
-            }
+            generator.writeRawData(formatOrbitEphemerisLine(generator, getTimeConverter(), coordinates, useAcceleration));
 
             // end the line
             generator.newLine();
@@ -17,19 +17,32 @@
 package org.orekit.files.ccsds.ndm.odm.oem;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.files.ccsds.definitions.FrameFacade;
+import org.orekit.files.ccsds.definitions.TimeConverter;
 import org.orekit.files.ccsds.ndm.odm.OdmHeader;
+import org.orekit.files.ccsds.utils.FileFormat;
 import org.orekit.files.ccsds.utils.generation.Generator;
 import org.orekit.frames.Frame;
 import org.orekit.propagation.Propagator;
 import org.orekit.propagation.SpacecraftState;
 import org.orekit.propagation.sampling.OrekitFixedStepHandler;
 import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.AccurateFormatter;
+import org.orekit.utils.Formatter;
 import org.orekit.utils.TimeStampedPVCoordinates;
+import org.orekit.utils.TruncatedCcsdsFormatter;
 
 /**
  * A writer for OEM files.
@@ -61,6 +74,21 @@ import org.orekit.utils.TimeStampedPVCoordinates;
  *   }
  * }</pre>
  *
+ * <p>
+ * When a large number of states must be written, formatting dates and numbers
+ * becomes the bottleneck of the propagation thread. The {@link
+ * #StreamingOemWriter(Generator, OemWriter, OdmHeader, OemMetadata, boolean, boolean, int)
+ * throughput-oriented constructor} allows to offload formatting of KVN data lines
+ * to a bounded pool of worker threads. States are formatted by batches, and
+ * formatted batches are written in order by the thread that calls the step
+ * handler, so the output is exactly the same as with sequential formatting.
+ * Parallel formatting is only used with the library formatters ({@link AccurateFormatter}
+ * and {@link TruncatedCcsdsFormatter}), which are thread-safe; custom formatters are
+ * always called sequentially from the step handler thread.
+ * At most a few batches per worker thread are pending at any time, so memory
+ * consumption remains bounded regardless of the number of states. The worker
+ * threads are released when the writer is {@link #close() closed}.
+ * </p>
  *
  * @author Evan Ward
  * @see <a href="https://public.ccsds.org/Pubs/502x0b2c1.pdf">CCSDS 502.0-B-2 Orbit Data
@@ -71,6 +99,12 @@ import org.orekit.utils.TimeStampedPVCoordinates;
  */
 public class StreamingOemWriter implements AutoCloseable {
 
+    /** Number of states formatted together by worker threads. */
+    private static final int BATCH_SIZE = 256;
+
+    /** Maximum number of pending batches per worker thread. */
+    private static final int PENDING_PER_THREAD = 4;
+
     /** Generator for OEM output. */
     private final Generator generator;
 
@@ -92,6 +126,12 @@ public class StreamingOemWriter implements AutoCloseable {
     /** Indicator for writing header. */
     private boolean headerWritePending;
 
+    /** Executor for formatting data lines (null if formatting is done sequentially). */
+    private final ExecutorService executor;
+
+    /** Maximum number of pending batches. */
+    private final int maxPending;
+
     /**
      * Construct a writer that for each segment uses the reference frame of the
      * first state's attitude.
@@ -150,6 +190,45 @@ public class StreamingOemWriter implements AutoCloseable {
                               final OdmHeader header, final OemMetadata template,
                               final boolean useAttitudeFrame,
                               final boolean includeAcceleration) {
+        this(generator, writer, header, template, useAttitudeFrame, includeAcceleration, 1);
+    }
+
+    /**
+     * Constructor for throughput-oriented writing.
+     * <p>
+     * If {@code formattingThreads} is greater than 1, the generator produces
+     * {@link FileFormat#KVN KVN} output and its {@link Generator#getFormatter()
+     * formatter} is one of the library formatters ({@link AccurateFormatter} or
+     * {@link TruncatedCcsdsFormatter}, which are thread-safe), data lines are
+     * formatted by a pool of worker threads. Output is identical to the one produced
+     * with sequential formatting. Otherwise, and in particular with custom formatters
+     * that may not be thread-safe, formatting is done in the step handler thread.
+     * </p>
+     *
+     * @param generator           generator for OEM output
+     * @param writer              writer for the AEM message format
+     * @param header              file header (may be null)
+     * @param template            template for metadata
+     * @param useAttitudeFrame    if {@code true} then the reference frame for
+     *                            each segment is taken from the first state's
+     *                            attitude. Otherwise the {@code template}'s
+     *                            reference frame is used, {@link
+     *                            OemMetadata#getReferenceFrame()}.
+     * @param includeAcceleration if {@code true} then acceleration is included
+     *                            in the OEM file produced. Otherwise only
+     *                            position and velocity is included.
+     * @param formattingThreads   number of threads used for formatting data lines
+     *                            (must be strictly positive)
+     * @since 14.0
+     */
+    public StreamingOemWriter(final Generator generator, final OemWriter writer,
+                              final OdmHeader header, final OemMetadata template,
+                              final boolean useAttitudeFrame,
+                              final boolean includeAcceleration,
+                              final int formattingThreads) {
+        if (formattingThreads <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, formattingThreads);
+        }
         this.generator          = generator;
         this.writer             = writer;
         this.header             = header;
@@ -157,6 +236,30 @@ public class StreamingOemWriter implements AutoCloseable {
         this.useAttitudeFrame   = useAttitudeFrame;
         this.includeAcceleration = includeAcceleration;
         this.headerWritePending = true;
+        if (formattingThreads > 1 && generator.getFormat() == FileFormat.KVN &&
+            isThreadSafe(generator.getFormatter())) {
+            this.executor   = Executors.newFixedThreadPool(formattingThreads, task -> {
+                final Thread thread = new Thread(task, "OEM formatting");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.maxPending = PENDING_PER_THREAD * formattingThreads;
+        } else {
+            this.executor   = null;
+            this.maxPending = 0;
+        }
+    }
+
+    /** Check if a formatter is known to be thread-safe.
+     * <p>
+     * Only the exact library classes are trusted, as subclasses may add state.
+     * </p>
+     * @param formatter formatter to check
+     * @return true if formatter is known to be thread-safe
+     */
+    private static boolean isThreadSafe(final Formatter formatter) {
+        final Class<?> formatterClass = formatter.getClass();
+        return formatterClass == AccurateFormatter.class || formatterClass == TruncatedCcsdsFormatter.class;
     }
 
     /**
@@ -172,7 +275,13 @@ public class StreamingOemWriter implements AutoCloseable {
     /** {@inheritDoc} */
     @Override
     public void close() throws IOException {
-        writer.writeFooter(generator);
+        try {
+            writer.writeFooter(generator);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
     }
 
     /** A writer for a segment of an OEM. */
@@ -181,6 +290,12 @@ public class StreamingOemWriter implements AutoCloseable {
         /** Reference frame of this segment. */
         private Frame frame;
 
+        /** States waiting to be submitted for formatting. */
+        private List<TimeStampedPVCoordinates> batch;
+
+        /** Batches being formatted, in output order. */
+        private final Deque<Future<String[]>> pending;
+
         /** Empty constructor.
          * <p>
          * This constructor is not strictly necessary, but it prevents spurious
@@ -189,7 +304,8 @@ public class StreamingOemWriter implements AutoCloseable {
          * @since 12.0
          */
         public SegmentWriter() {
-            // nothing to do
+            this.batch   = new ArrayList<>(BATCH_SIZE);
+            this.pending = new ArrayDeque<>();
         }
 
         /**
@@ -237,7 +353,14 @@ public class StreamingOemWriter implements AutoCloseable {
             try {
                 final TimeStampedPVCoordinates pv =
                         currentState.getPVCoordinates(frame);
-                writer.writeOrbitEphemerisLine(generator, metadata, pv, includeAcceleration);
+                if (executor == null) {
+                    writer.writeOrbitEphemerisLine(generator, metadata, pv, includeAcceleration);
+                } else {
+                    batch.add(pv);
+                    if (batch.size() == BATCH_SIZE) {
+                        submitBatch();
+                    }
+                }
             } catch (IOException e) {
                 throw new OrekitException(e, LocalizedCoreFormats.SIMPLE_MESSAGE, e.getLocalizedMessage());
             }
@@ -247,12 +370,66 @@ public class StreamingOemWriter implements AutoCloseable {
         @Override
         public void finish(final SpacecraftState finalState) {
             try {
+                if (executor != null) {
+                    if (!batch.isEmpty()) {
+                        submitBatch();
+                    }
+                    while (!pending.isEmpty()) {
+                        writeBatch(pending.removeFirst());
+                    }
+                }
                 writer.endData(generator);
             } catch (IOException e) {
                 throw new OrekitException(e, LocalizedCoreFormats.SIMPLE_MESSAGE, e.getLocalizedMessage());
             }
         }
 
+        /** Submit current batch for formatting.
+         * <p>
+         * If too many batches are pending, the oldest ones are written
+         * before returning.
+         * </p>
+         * @throws IOException if the output stream throws one while writing
+         */
+        private void submitBatch() throws IOException {
+            final List<TimeStampedPVCoordinates> states    = batch;
+            final TimeConverter                  converter = writer.getTimeConverter();
+            pending.addLast(executor.submit(() -> {
+                final String[] lines = new String[states.size()];
+                for (int i = 0; i < lines.length; ++i) {
+                    lines[i] = writer.formatOrbitEphemerisLine(generator, converter,
+                                                               states.get(i), includeAcceleration);
+                }
+                return lines;
+            }));
+            batch = new ArrayList<>(BATCH_SIZE);
+            while (pending.size() > maxPending) {
+                writeBatch(pending.removeFirst());
+            }
+        }
+
+        /** Write a formatted batch, waiting for its completion if needed.
+         * @param future batch being formatted
+         * @throws IOException if the output stream throws one while writing
+         */
+        private void writeBatch(final Future<String[]> future) throws IOException {
+            try {
+                for (final String line : future.get()) {
+                    generator.writeRawData(line);
+                    generator.newLine();
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new OrekitException(ie, LocalizedCoreFormats.SIMPLE_MESSAGE, ie.getLocalizedMessage());
+            } catch (ExecutionException ee) {
+                if (ee.getCause() instanceof OrekitException) {
+                    throw (OrekitException) ee.getCause();
+                }
+                throw new OrekitException(ee.getCause(), LocalizedCoreFormats.SIMPLE_MESSAGE,
+                                          ee.getCause().getLocalizedMessage());
+            }
+        }
+
     }
 
 }
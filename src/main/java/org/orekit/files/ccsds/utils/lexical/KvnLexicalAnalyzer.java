@@ -131,6 +131,16 @@ public class KvnLexicalAnalyzer implements LexicalAnalyzer {
                     continue;
                 }
 
+                if (!startsWithKey(line)) {
+                    // none of the entry patterns can match, this is a raw data line
+                    // we avoid the costly regular expressions matching for these lines,
+                    // which are the vast majority of lines in ephemeris messages
+                    messageParser.process(new ParseToken(TokenType.RAW_LINE,
+                                                         null, line, null,
+                                                         lineNumber, source.getName()));
+                    continue;
+                }
+
                 final Matcher nonComment = NON_COMMENT_ENTRY.matcher(line);
                 if (nonComment.matches()) {
                     // regular key=value line
@@ -178,4 +188,18 @@ public class KvnLexicalAnalyzer implements LexicalAnalyzer {
         }
     }
 
+    /** Check if a line may start with a key.
+     * @param line line to check
+     * @return true if first non-blank character of the line is an upper case letter
+     */
+    private static boolean startsWithKey(final String line) {
+        for (int i = 0; i < line.length(); ++i) {
+            final char c = line.charAt(i);
+            if (c != ' ' && c != '\t') {
+                return c >= 'A' && c <= 'Z';
+            }
+        }
+        return false;
+    }
+
 }
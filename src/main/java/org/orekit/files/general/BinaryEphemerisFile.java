@@ -0,0 +1,508 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.general;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.attitudes.FrameAlignedProvider;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.frames.Frames;
+import org.orekit.frames.Predefined;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeOffset;
+import org.orekit.utils.CartesianDerivativesFilter;
+import org.orekit.utils.SortedListTrimmer;
+import org.orekit.utils.TimeStampedCache;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/** Memory-mapped ephemeris file in the binary cache format.
+ * <p>
+ * Files in this format are written by {@link BinaryEphemerisFileWriter}. When
+ * {@link #open(Path, Function) opening} a file, only the small header describing
+ * satellites and segments is read, the data blocks of the segments are memory-mapped
+ * and never parsed up-front. {@link EphemerisSegment#getCoordinates() Coordinates}
+ * are decoded lazily when accessed, and the {@link EphemerisSegment#getPropagator()
+ * segment propagators} look up interpolation neighbors directly in the mapped time
+ * index, without copying the coordinates. Opening a file is therefore fast and
+ * memory-cheap regardless of the number of points, and the operating system page
+ * cache can share the data between several processes.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe, as long as the underlying file is not modified.
+ * </p>
+ * @see BinaryEphemerisFileWriter
+ * @since 14.0
+ */
+public class BinaryEphemerisFile
+    implements EphemerisFile<TimeStampedPVCoordinates, BinaryEphemerisFile.BinaryEphemerisSegment> {
+
+    /** Satellites ephemerides. */
+    private final Map<String, BinarySatelliteEphemeris> satellites;
+
+    /** Simple constructor.
+     * @param satellites satellites ephemerides
+     */
+    private BinaryEphemerisFile(final Map<String, BinarySatelliteEphemeris> satellites) {
+        this.satellites = satellites;
+    }
+
+    /** Open a binary ephemeris file.
+     * @param path path of the file
+     * @param frameResolver resolver for the frames names stored in the file
+     * (it should return null for unknown names)
+     * @return opened file
+     * @see #predefinedFrames(Frames)
+     */
+    public static BinaryEphemerisFile open(final Path path, final Function<String, Frame> frameResolver) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            // fixed part of header
+            final ByteBuffer fixed = read(channel, 0, BinaryEphemerisFileWriter.FIXED_HEADER_SIZE, path);
+            if (fixed.getLong() != BinaryEphemerisFileWriter.MAGIC) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, path);
+            }
+            final int version = fixed.getInt();
+            if (version != BinaryEphemerisFileWriter.VERSION) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION,
+                                          version, path, BinaryEphemerisFileWriter.VERSION);
+            }
+            final int headerSize   = fixed.getInt();
+            final int nbSatellites = fixed.getInt();
+            if (headerSize < BinaryEphemerisFileWriter.FIXED_HEADER_SIZE || headerSize > channel.size()) {
+                throw new OrekitException(OrekitMessages.CORRUPTED_FILE, path);
+            }
+
+            // variable part of header
+            final ByteBuffer header = read(channel, BinaryEphemerisFileWriter.FIXED_HEADER_SIZE,
+                                           headerSize - BinaryEphemerisFileWriter.FIXED_HEADER_SIZE, path);
+            final Map<String, BinarySatelliteEphemeris> satellites = new LinkedHashMap<>();
+            long expectedSize = headerSize;
+            for (int i = 0; i < nbSatellites; ++i) {
+                final String       id         = readString(header);
+                final double       mu         = header.getDouble();
+                final AbsoluteDate start      = readDate(header);
+                final AbsoluteDate stop       = readDate(header);
+                final int          nbSegments = header.getInt();
+                final List<BinaryEphemerisSegment> segments = new ArrayList<>(nbSegments);
+                for (int j = 0; j < nbSegments; ++j) {
+                    final String frameName = readString(header);
+                    final Frame  frame     = frameResolver.apply(frameName);
+                    if (frame == null) {
+                        throw new OrekitException(OrekitMessages.UNMAPPED_FRAME_NAME, frameName);
+                    }
+                    final double       segmentMu = header.getDouble();
+                    final int          samples   = header.getInt();
+                    final CartesianDerivativesFilter filter = CartesianDerivativesFilter.getFilter(header.getInt());
+                    final int          points    = header.getInt();
+                    final long         offset    = header.getLong();
+                    final AbsoluteDate segmentStart = readDate(header);
+                    final AbsoluteDate segmentStop  = readDate(header);
+                    final long         size      = BinaryEphemerisFileWriter.blockSize(points, filter.getMaxOrder());
+                    if (points < 1 || headerSize + offset + size > channel.size()) {
+                        throw new OrekitException(OrekitMessages.CORRUPTED_FILE, path);
+                    }
+                    final ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, headerSize + offset, size);
+                    segments.add(new BinaryEphemerisSegment(segmentMu, frame, samples, filter,
+                                                            segmentStart, segmentStop,
+                                                            new MappedCoordinates(data, points, filter)));
+                    expectedSize += size;
+                }
+                satellites.put(id, new BinarySatelliteEphemeris(id, mu, start, stop, segments));
+            }
+            if (expectedSize != channel.size()) {
+                throw new OrekitException(OrekitMessages.CORRUPTED_FILE, path);
+            }
+
+            return new BinaryEphemerisFile(satellites);
+
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+    }
+
+    /** Get a frame resolver for {@link Predefined predefined} frames.
+     * @param frames frames factory
+     * @return a frame resolver mapping {@link Predefined#getName() predefined names}
+     * to frames, and returning null for other names
+     */
+    public static Function<String, Frame> predefinedFrames(final Frames frames) {
+        return name -> {
+            for (final Predefined predefined : Predefined.values()) {
+                if (predefined.getName().equals(name)) {
+                    return frames.getFrame(predefined);
+                }
+            }
+            return null;
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, BinarySatelliteEphemeris> getSatellites() {
+        return Collections.unmodifiableMap(satellites);
+    }
+
+    /** Read a part of a file.
+     * @param channel channel to read from
+     * @param position position of the first byte to read
+     * @param length number of bytes to read
+     * @param path path of the file (for error messages)
+     * @return buffer containing the bytes read, ready to be read
+     * @throws IOException if data cannot be read
+     */
+    private static ByteBuffer read(final FileChannel channel, final long position, final int length,
+                                   final Path path) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new OrekitException(OrekitMessages.CORRUPTED_FILE, path);
+            }
+        }
+        return buffer.flip();
+    }
+
+    /** Read a length-prefixed UTF-8 string.
+     * @param buffer buffer to read from
+     * @return read string
+     */
+    private static String readString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Read a date stored as seconds and attoseconds.
+     * @param buffer buffer to read from
+     * @return read date
+     */
+    private static AbsoluteDate readDate(final ByteBuffer buffer) {
+        return new AbsoluteDate(new TimeOffset(buffer.getLong(), buffer.getLong()));
+    }
+
+    /** Ephemeris of one satellite. */
+    public static class BinarySatelliteEphemeris
+        implements SatelliteEphemeris<TimeStampedPVCoordinates, BinaryEphemerisSegment> {
+
+        /** Satellite identifier. */
+        private final String id;
+
+        /** Gravitational parameter. */
+        private final double mu;
+
+        /** Start date. */
+        private final AbsoluteDate start;
+
+        /** Stop date. */
+        private final AbsoluteDate stop;
+
+        /** Segments. */
+        private final List<BinaryEphemerisSegment> segments;
+
+        /** Simple constructor.
+         * @param id satellite identifier
+         * @param mu gravitational parameter
+         * @param start start date
+         * @param stop stop date
+         * @param segments segments
+         */
+        private BinarySatelliteEphemeris(final String id, final double mu,
+                                         final AbsoluteDate start, final AbsoluteDate stop,
+                                         final List<BinaryEphemerisSegment> segments) {
+            this.id       = id;
+            this.mu       = mu;
+            this.start    = start;
+            this.stop     = stop;
+            this.segments = segments;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double getMu() {
+            return mu;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<BinaryEphemerisSegment> getSegments() {
+            return Collections.unmodifiableList(segments);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getStart() {
+            return start;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getStop() {
+            return stop;
+        }
+
+    }
+
+    /** Memory-mapped ephemeris segment. */
+    public static class BinaryEphemerisSegment implements EphemerisSegment<TimeStampedPVCoordinates> {
+
+        /** Gravitational parameter. */
+        private final double mu;
+
+        /** Frame of the coordinates. */
+        private final Frame frame;
+
+        /** Number of interpolation samples. */
+        private final int interpolationSamples;
+
+        /** Available derivatives. */
+        private final CartesianDerivativesFilter filter;
+
+        /** Start date. */
+        private final AbsoluteDate start;
+
+        /** Stop date. */
+        private final AbsoluteDate stop;
+
+        /** Memory-mapped coordinates. */
+        private final MappedCoordinates coordinates;
+
+        /** Simple constructor.
+         * @param mu gravitational parameter
+         * @param frame frame of the coordinates
+         * @param interpolationSamples number of interpolation samples
+         * @param filter available derivatives
+         * @param start start date
+         * @param stop stop date
+         * @param coordinates memory-mapped coordinates
+         */
+        private BinaryEphemerisSegment(final double mu, final Frame frame, final int interpolationSamples,
+                                       final CartesianDerivativesFilter filter,
+                                       final AbsoluteDate start, final AbsoluteDate stop,
+                                       final MappedCoordinates coordinates) {
+            this.mu                   = mu;
+            this.frame                = frame;
+            this.interpolationSamples = interpolationSamples;
+            this.filter               = filter;
+            this.start                = start;
+            this.stop                 = stop;
+            this.coordinates          = coordinates;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double getMu() {
+            return mu;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Frame getFrame() {
+            return frame;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getInterpolationSamples() {
+            return interpolationSamples;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CartesianDerivativesFilter getAvailableDerivatives() {
+            return filter;
+        }
+
+        /** {@inheritDoc}
+         * <p>
+         * The returned list is an unmodifiable view of the memory-mapped data,
+         * coordinates are decoded each time an element is accessed.
+         * </p>
+         */
+        @Override
+        public List<TimeStampedPVCoordinates> getCoordinates() {
+            return coordinates;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getStart() {
+            return start;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getStop() {
+            return stop;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public BoundedPropagator getPropagator() {
+            return getPropagator(new FrameAlignedProvider(getInertialFrame()));
+        }
+
+        /** {@inheritDoc}
+         * <p>
+         * The propagator looks up interpolation neighbors directly in the
+         * memory-mapped data, without copying the coordinates.
+         * </p>
+         */
+        @Override
+        public BoundedPropagator getPropagator(final AttitudeProvider attitudeProvider) {
+            return new EphemerisSegmentPropagator<>(this, new MappedCache(coordinates, interpolationSamples),
+                                                    attitudeProvider);
+        }
+
+    }
+
+    /** List view of memory-mapped coordinates. */
+    private static class MappedCoordinates extends AbstractList<TimeStampedPVCoordinates> implements RandomAccess {
+
+        /** Memory-mapped data (time index followed by packed coordinates). */
+        private final ByteBuffer data;
+
+        /** Number of points. */
+        private final int points;
+
+        /** Number of components per point. */
+        private final int components;
+
+        /** Simple constructor.
+         * @param data memory-mapped data
+         * @param points number of points
+         * @param filter available derivatives
+         */
+        MappedCoordinates(final ByteBuffer data, final int points, final CartesianDerivativesFilter filter) {
+            this.data       = data;
+            this.points     = points;
+            this.components = 3 * (filter.getMaxOrder() + 1);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int size() {
+            return points;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public TimeStampedPVCoordinates get(final int index) {
+            if (index < 0 || index >= points) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            final int          timeOffset = index * BinaryEphemerisFileWriter.DATE_SIZE;
+            final AbsoluteDate date       = new AbsoluteDate(new TimeOffset(data.getLong(timeOffset),
+                                                                            data.getLong(timeOffset + Long.BYTES)));
+            final int base = points * BinaryEphemerisFileWriter.DATE_SIZE + index * components * Double.BYTES;
+            return new TimeStampedPVCoordinates(date,
+                                                vector(base, 0),
+                                                components > 3 ? vector(base, 1) : Vector3D.ZERO,
+                                                components > 6 ? vector(base, 2) : Vector3D.ZERO);
+        }
+
+        /** Decode a vector.
+         * @param base offset of the point
+         * @param order derivation order of the vector
+         * @return decoded vector
+         */
+        private Vector3D vector(final int base, final int order) {
+            final int offset = base + 3 * order * Double.BYTES;
+            return new Vector3D(data.getDouble(offset),
+                                data.getDouble(offset + Double.BYTES),
+                                data.getDouble(offset + 2 * Double.BYTES));
+        }
+
+    }
+
+    /** Time-stamped cache backed by memory-mapped coordinates. */
+    private static class MappedCache implements TimeStampedCache<TimeStampedPVCoordinates> {
+
+        /** Memory-mapped coordinates. */
+        private final MappedCoordinates coordinates;
+
+        /** Maximum number of neighbors. */
+        private final int maxNeighborsSize;
+
+        /** Simple constructor.
+         * @param coordinates memory-mapped coordinates
+         * @param maxNeighborsSize maximum number of neighbors
+         */
+        MappedCache(final MappedCoordinates coordinates, final int maxNeighborsSize) {
+            if (maxNeighborsSize > coordinates.size()) {
+                throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_CACHED_NEIGHBORS,
+                                                     coordinates.size(), maxNeighborsSize);
+            }
+            this.coordinates      = coordinates;
+            this.maxNeighborsSize = maxNeighborsSize;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Stream<TimeStampedPVCoordinates> getNeighbors(final AbsoluteDate central, final int n) {
+            if (n > maxNeighborsSize) {
+                throw new OrekitException(OrekitMessages.NOT_ENOUGH_DATA, maxNeighborsSize);
+            }
+            return new SortedListTrimmer(n).getNeighborsSubList(central, coordinates).stream();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getMaxNeighborsSize() {
+            return maxNeighborsSize;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public TimeStampedPVCoordinates getEarliest() {
+            return coordinates.getFirst();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public TimeStampedPVCoordinates getLatest() {
+            return coordinates.getLast();
+        }
+
+    }
+
+}
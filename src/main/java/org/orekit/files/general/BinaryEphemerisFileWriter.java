@@ -0,0 +1,208 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.general;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.errors.OrekitException;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.ChronologicalComparator;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/** Writer for the binary ephemeris cache format read by {@link BinaryEphemerisFile}.
+ * <p>
+ * Any {@link EphemerisFile} (OEM, SP3, STK, Orekit-generated...) can be written
+ * in this format. The file contains a small header describing satellites and
+ * segments, followed by one data block per segment. Each data block contains
+ * a time index (seconds and attoseconds of each date, allowing exact round trip)
+ * and packed position, velocity and acceleration columns (only the derivatives
+ * {@link EphemerisFile.EphemerisSegment#getAvailableDerivatives() available} in
+ * the segment are stored). All multi-bytes values are big-endian and blocks are
+ * aligned on 8 bytes boundaries so they can be memory-mapped.
+ * </p>
+ * <p>
+ * Only the generic {@link EphemerisFile} content is stored: format-specific
+ * metadata, covariances or clock data are not retained.
+ * </p>
+ * @see BinaryEphemerisFile
+ * @since 14.0
+ */
+public class BinaryEphemerisFileWriter {
+
+    /** Magic number at start of file ("OREKEPHB"). */
+    static final long MAGIC = 0x4F52454B45504842L;
+
+    /** Format version. */
+    static final int VERSION = 1;
+
+    /** Size of the fixed part of the header (magic, version, header size, satellites number, reserved). */
+    static final int FIXED_HEADER_SIZE = 24;
+
+    /** Size of one date in the time index. */
+    static final int DATE_SIZE = 2 * Long.BYTES;
+
+    /** Empty constructor.
+     * <p>
+     * This constructor is not strictly necessary, but it prevents spurious
+     * javadoc warnings with JDK 18 and later.
+     * </p>
+     */
+    public BinaryEphemerisFileWriter() {
+        // nothing to do
+    }
+
+    /** Write an ephemeris file in binary form.
+     * @param path path of the file to write
+     * @param file ephemeris file to write
+     */
+    public void write(final Path path, final EphemerisFile<?, ?> file) {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out, file);
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+    }
+
+    /** Write an ephemeris file in binary form.
+     * <p>
+     * The stream is flushed but not closed.
+     * </p>
+     * @param out output stream
+     * @param file ephemeris file to write
+     * @throws IOException if data cannot be written
+     */
+    public void write(final OutputStream out, final EphemerisFile<?, ?> file) throws IOException {
+
+        // gather coordinates, calling getCoordinates() only once per segment
+        final List<EphemerisFile.EphemerisSegment<?>>       segments    = new ArrayList<>();
+        final List<List<TimeStampedPVCoordinates>>          coordinates = new ArrayList<>();
+
+        // variable part of header
+        final ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        final DataOutputStream      header      = new DataOutputStream(headerBytes);
+        long dataOffset = 0;
+        for (final EphemerisFile.SatelliteEphemeris<?, ?> satellite : file.getSatellites().values()) {
+            writeString(header, satellite.getId());
+            header.writeDouble(satellite.getMu());
+            writeDate(header, satellite.getStart());
+            writeDate(header, satellite.getStop());
+            header.writeInt(satellite.getSegments().size());
+            for (final EphemerisFile.EphemerisSegment<?> segment : satellite.getSegments()) {
+                final List<TimeStampedPVCoordinates> sorted = new ArrayList<>(segment.getCoordinates());
+                sorted.sort(new ChronologicalComparator());
+                segments.add(segment);
+                coordinates.add(sorted);
+                writeString(header, segment.getFrame().getName());
+                header.writeDouble(segment.getMu());
+                header.writeInt(segment.getInterpolationSamples());
+                header.writeInt(segment.getAvailableDerivatives().getMaxOrder());
+                header.writeInt(sorted.size());
+                header.writeLong(dataOffset);
+                writeDate(header, segment.getStart());
+                writeDate(header, segment.getStop());
+                dataOffset += blockSize(sorted.size(), segment.getAvailableDerivatives().getMaxOrder());
+            }
+        }
+        header.flush();
+
+        // fixed part of header
+        final int headerSize = FIXED_HEADER_SIZE + padded(headerBytes.size());
+        final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out));
+        dos.writeLong(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeInt(headerSize);
+        dos.writeInt(file.getSatellites().size());
+        dos.writeInt(0);
+        headerBytes.writeTo(dos);
+        dos.write(new byte[headerSize - FIXED_HEADER_SIZE - headerBytes.size()]);
+
+        // data blocks
+        for (int i = 0; i < segments.size(); ++i) {
+            final int components = 3 * (segments.get(i).getAvailableDerivatives().getMaxOrder() + 1);
+            for (final TimeStampedPVCoordinates pv : coordinates.get(i)) {
+                writeDate(dos, pv.getDate());
+            }
+            for (final TimeStampedPVCoordinates pv : coordinates.get(i)) {
+                dos.writeDouble(pv.getPosition().getX());
+                dos.writeDouble(pv.getPosition().getY());
+                dos.writeDouble(pv.getPosition().getZ());
+                if (components > 3) {
+                    dos.writeDouble(pv.getVelocity().getX());
+                    dos.writeDouble(pv.getVelocity().getY());
+                    dos.writeDouble(pv.getVelocity().getZ());
+                }
+                if (components > 6) {
+                    dos.writeDouble(pv.getAcceleration().getX());
+                    dos.writeDouble(pv.getAcceleration().getY());
+                    dos.writeDouble(pv.getAcceleration().getZ());
+                }
+            }
+        }
+
+        dos.flush();
+
+    }
+
+    /** Compute the size of a segment data block.
+     * @param points number of points
+     * @param maxOrder maximum derivation order
+     * @return size of the data block in bytes
+     */
+    static long blockSize(final int points, final int maxOrder) {
+        return (long) points * (DATE_SIZE + Double.BYTES * 3L * (maxOrder + 1));
+    }
+
+    /** Round a byte count to the next multiple of 8.
+     * @param length byte count
+     * @return padded byte count
+     */
+    static int padded(final int length) {
+        return (length + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    /** Write a length-prefixed UTF-8 string.
+     * @param out output stream
+     * @param string string to write
+     * @throws IOException if data cannot be written
+     */
+    private static void writeString(final DataOutputStream out, final String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /** Write a date as seconds and attoseconds.
+     * @param out output stream
+     * @param date date to write
+     * @throws IOException if data cannot be written
+     */
+    private static void writeDate(final DataOutputStream out, final AbsoluteDate date) throws IOException {
+        out.writeLong(date.getSeconds());
+        out.writeLong(date.getAttoSeconds());
+    }
+
+}
@@ -31,6 +31,7 @@ import org.orekit.propagation.analytical.AbstractAnalyticalPropagator;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.ImmutableTimeStampedCache;
 import org.orekit.utils.PVCoordinates;
+import org.orekit.utils.TimeStampedCache;
 import org.orekit.utils.TimeStampedPVCoordinates;
 import org.orekit.utils.TimeStampedPVCoordinatesHermiteInterpolator;
 
@@ -56,7 +57,7 @@ public class EphemerisSegmentPropagator<C extends TimeStampedPVCoordinates> exte
      * #ephemeris} that could be avoided by duplicating the logic of {@link
      * ImmutableTimeStampedCache#getNeighbors(AbsoluteDate)} for a general {@link List}.
      */
-    private final ImmutableTimeStampedCache<C> cache;
+    private final TimeStampedCache<C> cache;
     /** Tabular data from which this propagator is built. */
     private final EphemerisSegment<C> ephemeris;
     /** Interpolator to use.
@@ -76,16 +77,35 @@ public class EphemerisSegmentPropagator<C extends TimeStampedPVCoordinates> exte
      */
     public EphemerisSegmentPropagator(final EphemerisSegment<C> ephemeris,
                                       final AttitudeProvider attitudeProvider) {
+        this(ephemeris,
+             new ImmutableTimeStampedCache<>(ephemeris.getInterpolationSamples(),
+                                             // #1854 only call getCoordinates() once!
+                                             ephemeris.getCoordinates()),
+             attitudeProvider);
+    }
+
+    /**
+     * Create a {@link Propagator} from an ephemeris segment and a prebuilt cache.
+     * <p>
+     * This constructor allows segments that already hold sorted coordinates with
+     * random access (for example memory-mapped ones) to avoid copying them.
+     * </p>
+     *
+     * @param ephemeris segment containing the data for this propagator.
+     * @param cache sorted cache of the segment coordinates, providing at least
+     * {@link EphemerisSegment#getInterpolationSamples()} neighbors
+     * @param attitudeProvider provider for attitude computation
+     * @since 14.0
+     */
+    public EphemerisSegmentPropagator(final EphemerisSegment<C> ephemeris,
+                                      final TimeStampedCache<C> cache,
+                                      final AttitudeProvider attitudeProvider) {
         super(attitudeProvider);
         this.ephemeris      = ephemeris;
-        final int nSamples  = ephemeris.getInterpolationSamples();
         this.interpolator   = new TimeStampedPVCoordinatesHermiteInterpolator(
-                nSamples,
+                ephemeris.getInterpolationSamples(),
                 ephemeris.getAvailableDerivatives());
-        this.cache = new ImmutableTimeStampedCache<>(
-                nSamples,
-                // #1854 only call getCoordinates() once!
-                ephemeris.getCoordinates());
+        this.cache          = cache;
         this.ephemerisFrame = ephemeris.getFrame();
         this.inertialFrame  = ephemeris.getInertialFrame();
         // set the initial state so getFrame() works
@@ -77,15 +77,25 @@ public class RinexObservation extends RinexFile<RinexObservationHeader> {
      * @param observationsDataSet observations data set
      */
     public void addObservationDataSet(final ObservationDataSet observationsDataSet) {
+        checkSampling(getHeader(),
+                      observations.isEmpty() ? null : observations.getLast().getDate(),
+                      observationsDataSet.getDate());
+        observations.add(observationsDataSet);
+    }
 
-        final RinexObservationHeader header  = getHeader();
-        final AbsoluteDate           current = observationsDataSet.getDate();
+    /** Check an observation date is consistent with header sampling.
+     * @param header file header
+     * @param previous date of previous observations data set (null if none)
+     * @param current date of current observations data set
+     * @since 14.0
+     */
+    static void checkSampling(final RinexObservationHeader header,
+                              final AbsoluteDate previous, final AbsoluteDate current) {
 
         // check interval from previous observation
-        if (!observations.isEmpty()) {
-            final AbsoluteDate previous   = observations.getLast().getDate();
-            final double       factor     = current.durationFrom(previous) / header.getInterval();
-            final double       acceptable = FastMath.max(0.0, FastMath.rint(factor));
+        if (previous != null) {
+            final double factor     = current.durationFrom(previous) / header.getInterval();
+            final double acceptable = FastMath.max(0.0, FastMath.rint(factor));
             if (FastMath.abs(factor - acceptable) > 0.01) {
                 throw new OrekitIllegalArgumentException(OrekitMessages.INCONSISTENT_SAMPLING_DATE,
                                                          previous.shiftedBy(acceptable * header.getInterval()),
@@ -101,8 +111,6 @@ public class RinexObservation extends RinexFile<RinexObservationHeader> {
                                                      current, first, last);
         }
 
-        observations.add(observationsDataSet);
-
     }
 
     /** Extract the receiver clock model.
@@ -0,0 +1,48 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.rinex.observation;
+
+/** Handler for observations streamed by {@link RinexObservationParser}.
+ * <p>
+ * When a handler is used, the parser does not retain the observations
+ * data sets, they are pushed to the handler as soon as they are decoded,
+ * in file order.
+ * </p>
+ * @see RinexObservationParser#parse(org.orekit.data.DataSource, RinexObservationHandler)
+ * @since 14.0
+ */
+@FunctionalInterface
+public interface RinexObservationHandler {
+
+    /** Handle the header once it has been completely parsed.
+     * <p>
+     * This method is called once, before the first call to {@link
+     * #handleObservationDataSet(ObservationDataSet)}. The default
+     * implementation does nothing.
+     * </p>
+     * @param header parsed header
+     */
+    default void handleHeader(final RinexObservationHeader header) {
+        // nothing by default
+    }
+
+    /** Handle one observations data set.
+     * @param observationDataSet observations data set
+     */
+    void handleObservationDataSet(ObservationDataSet observationDataSet);
+
+}
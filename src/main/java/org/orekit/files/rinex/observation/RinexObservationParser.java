@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -46,6 +47,7 @@ import org.orekit.gnss.SatelliteSystem;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeScale;
 import org.orekit.time.TimeScales;
+import org.orekit.utils.ParallelTasks;
 import org.orekit.utils.units.Unit;
 
 /** Parser for Rinex measurements files.
@@ -138,11 +140,28 @@ public class RinexObservationParser {
      * @return parsed observations file
      */
     public RinexObservation parse(final DataSource source) {
+        return parse(source, (RinexObservationHandler) null);
+    }
+
+    /**
+     * Parse RINEX observations messages, streaming observations to a handler.
+     * <p>
+     * Observations data sets are pushed to the handler as soon as they are decoded
+     * and are not retained by the parser, so the memory footprint does not depend
+     * on the file size. The returned file contains the header and the comments only.
+     * </p>
+     * @param source source providing the data to parse
+     * @param handler handler for observations data sets (if null, observations are
+     * retained in the returned file, as in {@link #parse(DataSource)})
+     * @return parsed observations file, without observations data sets if handler is not null
+     * @since 14.0
+     */
+    public RinexObservation parse(final DataSource source, final RinexObservationHandler handler) {
 
         Iterable<LineParser> candidateParsers = Collections.singleton(LineParser.VERSION);
 
         // placeholders for parsed data
-        final ParseInfo parseInfo = new ParseInfo(source.getName());
+        final ParseInfo parseInfo = new ParseInfo(source.getName(), handler);
 
         try (Reader reader = source.getOpener().openReaderOnce();
              BufferedReader br = new BufferedReader(reader)) {
@@ -178,6 +197,41 @@ public class RinexObservationParser {
 
     }
 
+    /**
+     * Parse several independent RINEX observations messages concurrently.
+     * @param sources sources providing the data to parse
+     * @param threads number of threads to use
+     * @return parsed observations files, in the same order as the sources
+     * @since 14.0
+     */
+    public List<RinexObservation> parse(final List<DataSource> sources, final int threads) {
+        return parse(sources, source -> null, threads);
+    }
+
+    /**
+     * Parse several independent RINEX observations messages concurrently, streaming observations.
+     * <p>
+     * Each source is parsed in one thread, with its own handler, so handlers
+     * only need to be thread-safe if the provider returns shared instances.
+     * </p>
+     * @param sources sources providing the data to parse
+     * @param handlers provider for the handler to use for each source (if it returns
+     * null, observations of the corresponding source are retained in the parsed file)
+     * @param threads number of threads to use
+     * @return parsed observations files, in the same order as the sources
+     * @see #parse(DataSource, RinexObservationHandler)
+     * @since 14.0
+     */
+    public List<RinexObservation> parse(final List<DataSource> sources,
+                                        final Function<? super DataSource, ? extends RinexObservationHandler> handlers,
+                                        final int threads) {
+        final List<Callable<RinexObservation>> tasks = new ArrayList<>(sources.size());
+        for (final DataSource source : sources) {
+            tasks.add(() -> parse(source, handlers.apply(source)));
+        }
+        return new ParallelTasks(threads).run(tasks);
+    }
+
     /** Transient data used for parsing a RINEX observation messages file.
      * @since 12.0
      */
@@ -205,6 +259,16 @@ public class RinexObservationParser {
         /** Rinex file. */
         private final RinexObservation file;
 
+        /** Handler for streamed observations (null if observations are retained).
+         * @since 14.0
+         */
+        private final RinexObservationHandler handler;
+
+        /** Date of last streamed observations data set.
+         * @since 14.0
+         */
+        private AbsoluteDate lastStreamed;
+
         /** Date of the observation. */
         private AbsoluteDate tObs;
 
@@ -282,14 +346,17 @@ public class RinexObservationParser {
 
         /** Constructor, build the ParseInfo object.
          * @param name name of the data source
+         * @param handler handler for streamed observations (null if observations are retained)
          */
-        ParseInfo(final String name) {
+        ParseInfo(final String name, final RinexObservationHandler handler) {
             // Initialize default values for fields
             this.name                   = name;
             this.typeBuilder            = RinexObservationParser.this.typeBuilder;
             this.timeScales             = RinexObservationParser.this.timeScales;
             this.timeScaleBuilder       = RinexObservationParser.this.timeScaleBuilder;
             this.file                   = new RinexObservation();
+            this.handler                = handler;
+            this.lastStreamed           = null;
             this.lineNumber             = 0;
             this.tObs                   = AbsoluteDate.PAST_INFINITY;
             this.tFirstFixed            = false;
@@ -314,6 +381,20 @@ public class RinexObservationParser {
 
         }
 
+        /** Add an observations data set, either to the file or to the handler.
+         * @param observationDataSet observations data set
+         * @since 14.0
+         */
+        private void addObservationDataSet(final ObservationDataSet observationDataSet) {
+            if (handler == null) {
+                file.addObservationDataSet(observationDataSet);
+            } else {
+                RinexObservation.checkSampling(file.getHeader(), lastStreamed, observationDataSet.getDate());
+                lastStreamed = observationDataSet.getDate();
+                handler.handleObservationDataSet(observationDataSet);
+            }
+        }
+
         /** Set observation date, taking care of receiver/absolute time scales.
          * @param rawDate date as parsed, prior to any time scale modification
          */
@@ -852,6 +933,11 @@ public class RinexObservationParser {
                         throw new OrekitException(OrekitMessages.INCOMPLETE_HEADER, parseInfo.name);
                     }
                 }
+
+                if (parseInfo.handler != null) {
+                    parseInfo.handler.handleHeader(header);
+                }
+
             },
             LineParser::headerEndNext),
 
@@ -990,11 +1076,11 @@ public class RinexObservationParser {
                                 if (parseInfo.observations.size() == types.size()) {
                                     // we have finished handling observations/cycle slips for one satellite
                                     if (!parseInfo.cycleSlip) {
-                                        parseInfo.file.addObservationDataSet(new ObservationDataSet(parseInfo.satObs.get(parseInfo.indexObsSat),
-                                                                                                    parseInfo.tObs,
-                                                                                                    parseInfo.eventFlag,
-                                                                                                    parseInfo.rcvrClkOffset,
-                                                                                                    new ArrayList<>(parseInfo.observations)));
+                                        parseInfo.addObservationDataSet(new ObservationDataSet(parseInfo.satObs.get(parseInfo.indexObsSat),
+                                                                                               parseInfo.tObs,
+                                                                                               parseInfo.eventFlag,
+                                                                                               parseInfo.rcvrClkOffset,
+                                                                                               new ArrayList<>(parseInfo.observations)));
                                     }
                                     parseInfo.indexObsSat++;
                                     parseInfo.observations.clear();
@@ -1028,11 +1114,11 @@ public class RinexObservationParser {
                                 }
 
                                 if (!(parseInfo.specialRecord || parseInfo.cycleSlip)) {
-                                    parseInfo.file.addObservationDataSet(new ObservationDataSet(sat,
-                                                                                                parseInfo.tObs,
-                                                                                                parseInfo.eventFlag,
-                                                                                                parseInfo.rcvrClkOffset,
-                                                                                                new ArrayList<>(parseInfo.observations)));
+                                    parseInfo.addObservationDataSet(new ObservationDataSet(sat,
+                                                                                           parseInfo.tObs,
+                                                                                           parseInfo.eventFlag,
+                                                                                           parseInfo.rcvrClkOffset,
+                                                                                           new ArrayList<>(parseInfo.observations)));
                                 }
                                 parseInfo.observations.clear();
 
@@ -29,6 +29,7 @@ import org.hipparchus.linear.Array2DRowRealMatrix;
 import org.hipparchus.linear.RealMatrix;
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.MathArrays;
+import org.hipparchus.util.SinCos;
 import org.orekit.forces.ForceModel;
 import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
 import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider.NormalizedSphericalHarmonics;
@@ -277,6 +278,93 @@ public class HolmesFeatherstoneAttractionModel implements ForceModel, TideSystem
 
     }
 
+    /** Compute the non-central part of the gravity field at several points along a parallel.
+     * <p>
+     * All points share the same distance to the polar axis and the same
+     * coordinate along the polar axis, they differ only by their longitude.
+     * The Legendre functions recursion and the summations over degree are
+     * therefore performed only once, and only the summation over order is
+     * performed for each point. This is much faster than calling
+     * {@link #nonCentralPart(AbsoluteDate, Vector3D, double)} for each point
+     * when computing maps of the gravity field.
+     * </p>
+     * @param date current date
+     * @param rho distance to the polar axis (m), in body frame
+     * @param z coordinate along the polar axis (m), in body frame
+     * @param longitudes longitudes of the points, in body frame
+     * @param mu central attraction coefficient to use
+     * @return value of the non-central part of the gravity field at each point
+     * @since 14.0
+     */
+    public double[] nonCentralPart(final AbsoluteDate date, final double rho, final double z,
+                                   final double[] longitudes, final double mu) {
+
+        final int degree = provider.getMaxDegree();
+        final int order  = provider.getMaxOrder();
+        final NormalizedSphericalHarmonics harmonics = provider.onDate(date);
+
+        // allocate the columns for recursion
+        double[] pnm0Plus2 = new double[degree + 1];
+        double[] pnm0Plus1 = new double[degree + 1];
+        double[] pnm0      = new double[degree + 1];
+
+        // compute polar coordinates
+        final double r   = FastMath.sqrt(rho * rho + z * z);
+        final double t   = z / r;   // cos(theta), where theta is the polar angle
+        final double u   = rho / r; // sin(theta), where theta is the polar angle
+        final double tOu = z / rho;
+
+        // compute distance powers
+        final double[] aOrN = createDistancePowersArray(provider.getAe() / r);
+
+        // summations over degree, which do not depend on longitude
+        final double[] sumDegreeS = new double[degree + 1];
+        final double[] sumDegreeC = new double[degree + 1];
+        int index = 0;
+        for (int m = degree; m >= 0; --m) {
+
+            // compute tesseral terms without derivatives
+            index = computeTesseral(m, degree, index, t, u, tOu,
+                                    pnm0Plus2, pnm0Plus1, null, pnm0, null, null);
+
+            if (m <= order) {
+                // inner summation over degree, for fixed order
+                for (int n = FastMath.max(2, m); n <= degree; ++n) {
+                    sumDegreeS[m] += pnm0[n] * aOrN[n] * harmonics.getNormalizedSnm(n, m);
+                    sumDegreeC[m] += pnm0[n] * aOrN[n] * harmonics.getNormalizedCnm(n, m);
+                }
+            }
+
+            // rotate the recursion arrays
+            final double[] tmp = pnm0Plus2;
+            pnm0Plus2 = pnm0Plus1;
+            pnm0Plus1 = pnm0;
+            pnm0      = tmp;
+
+        }
+
+        final double[] values = new double[longitudes.length];
+        for (int i = 0; i < longitudes.length; ++i) {
+
+            // compute longitude cosines/sines
+            final SinCos     scLambda     = FastMath.sinCos(longitudes[i]);
+            final double[][] cosSinLambda = createCosSinArrays(scLambda.cos(), scLambda.sin());
+
+            // outer summation over order
+            double value = 0;
+            for (int m = FastMath.min(degree, order); m >= 0; --m) {
+                value = value * u + cosSinLambda[1][m] * sumDegreeS[m] + cosSinLambda[0][m] * sumDegreeC[m];
+            }
+
+            // scale back and apply the global mu/r factor
+            values[i] = mu * FastMath.scalb(value, SCALING) / r;
+
+        }
+
+        return values;
+
+    }
+
     /** Compute the gradient of the non-central part of the gravity field.
      * <p>
      * If U represents the non-central part of the gravity field,
@@ -287,46 +287,7 @@ public class SolarRadiationPressure extends AbstractRadiationForceModel {
      * @since 12.0
      */
     private double maskingRatio(final OccultationEngine.OccultationAngles angles) {
-
-        // Sat-Occulted/ Sat-Occulting angle
-        final double sunSatCentralBodyAngle = angles.getSeparation();
-
-        // Occulting apparent radius
-        final double alphaCentral = angles.getLimbRadius();
-
-        // Occulted apparent radius
-        final double alphaSun = angles.getOccultedApparentRadius();
-
-        // Is the satellite in complete umbra ?
-        if (sunSatCentralBodyAngle - alphaCentral + alphaSun <= ANGULAR_MARGIN) {
-            return 0.0;
-        } else if (sunSatCentralBodyAngle - alphaCentral - alphaSun < -ANGULAR_MARGIN) {
-            // Compute a masking ratio in penumbra
-            final double sEA2    = sunSatCentralBodyAngle * sunSatCentralBodyAngle;
-            final double oo2sEA  = 1.0 / (2. * sunSatCentralBodyAngle);
-            final double aS2     = alphaSun * alphaSun;
-            final double aE2     = alphaCentral * alphaCentral;
-            final double aE2maS2 = aE2 - aS2;
-
-            final double alpha1  = (sEA2 - aE2maS2) * oo2sEA;
-            final double alpha2  = (sEA2 + aE2maS2) * oo2sEA;
-
-            // Protection against numerical inaccuracy at boundaries
-            final double almost0 = Precision.SAFE_MIN;
-            final double almost1 = FastMath.nextDown(1.0);
-            final double a1oaS   = FastMath.min(almost1, FastMath.max(-almost1, alpha1 / alphaSun));
-            final double aS2ma12 = FastMath.max(almost0, aS2 - alpha1 * alpha1);
-            final double a2oaE   = FastMath.min(almost1, FastMath.max(-almost1, alpha2 / alphaCentral));
-            final double aE2ma22 = FastMath.max(almost0, aE2 - alpha2 * alpha2);
-
-            final double P1 = aS2 * FastMath.acos(a1oaS) - alpha1 * FastMath.sqrt(aS2ma12);
-            final double P2 = aE2 * FastMath.acos(a2oaE) - alpha2 * FastMath.sqrt(aE2ma22);
-
-            return 1. - (P1 + P2) / (FastMath.PI * aS2);
-        } else {
-            return 1.0;
-        }
-
+        return angles.getLightingRatio();
     }
 
     /** Get the lighting ratio ([0-1]).
@@ -0,0 +1,480 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.geometry.coverage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.StaticTransform;
+import org.orekit.geometry.fov.FieldOfView;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.events.VisibilityTrigger;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeInterval;
+import org.orekit.utils.ParallelTasks;
+
+/** Coverage and revisit analysis engine over grids of ground points.
+ * <p>
+ * The analysis is performed in two stages:
+ * </p>
+ * <ol>
+ *   <li>all satellites are propagated on a regular time grid, by slabs of a few
+ *   steps so the memory footprint remains bounded regardless of the analysis
+ *   duration; only the satellite position and attitude in body frame are kept,</li>
+ *   <li>at each grid date, the instantaneous footprint of each satellite is swept
+ *   over a spatial index of the ground points: only the points within the spherical
+ *   cap that can see the satellite above its minimum elevation are visited, and
+ *   they are then checked exactly against elevation and fields of view.</li>
+ * </ol>
+ * <p>
+ * Propagation is split in independent tasks, each satellite being propagated by only
+ * one task at a time in chronological order, so propagators do not need to be
+ * thread-safe, but they must not be shared between satellites. Footprint sweeping
+ * is split by time ranges and run in parallel too.
+ * </p>
+ * <p>
+ * Coverage is only evaluated at grid dates, so accesses bounds have the accuracy of
+ * the grid step: an access covering grid dates t<sub>a</sub> to t<sub>b</sub> is reported
+ * as [t<sub>a</sub> - h/2, t<sub>b</sub> + h/2] (clipped to the analysis interval),
+ * where h is the actual step, and accesses shorter than one step may be missed.
+ * When exact accesses bounds are needed for a few points, they should be computed
+ * using event detectors.
+ * </p>
+ * <p>
+ * Line of sight is not checked against body occultation, it is implied by the
+ * elevation check as long as minimum elevations are not negative.
+ * </p>
+ * @see CoverageReport
+ * @since 14.0
+ */
+public class CoverageAnalyzer {
+
+    /** Default number of steps in each sampling slab. */
+    public static final int DEFAULT_SLAB_SIZE = 64;
+
+    /** Margin added to footprints angular radii (rad). */
+    private static final double FOOTPRINT_MARGIN = 0.01;
+
+    /** Number of components per sample (position and body to satellite rotation). */
+    private static final int SAMPLE_SIZE = 7;
+
+    /** Body on which ground points are defined. */
+    private final OneAxisEllipsoid body;
+
+    /** Sampling step (s). */
+    private final double step;
+
+    /** Number of steps in each sampling slab. */
+    private final int slabSize;
+
+    /** Runner for parallel tasks. */
+    private final ParallelTasks tasks;
+
+    /** Simple constructor, using default slab size.
+     * @param body body on which ground points are defined
+     * @param step sampling step (s)
+     * @param threads number of threads to use
+     */
+    public CoverageAnalyzer(final OneAxisEllipsoid body, final double step, final int threads) {
+        this(body, step, DEFAULT_SLAB_SIZE, threads);
+    }
+
+    /** Simple constructor.
+     * @param body body on which ground points are defined
+     * @param step sampling step (s)
+     * @param slabSize number of steps in each sampling slab
+     * @param threads number of threads to use
+     */
+    public CoverageAnalyzer(final OneAxisEllipsoid body, final double step,
+                            final int slabSize, final int threads) {
+        if (step <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, step);
+        }
+        if (slabSize <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, slabSize);
+        }
+        this.body     = body;
+        this.step     = step;
+        this.slabSize = slabSize;
+        this.tasks    = new ParallelTasks(threads);
+    }
+
+    /** Get the body on which ground points are defined.
+     * @return body on which ground points are defined
+     */
+    public OneAxisEllipsoid getBody() {
+        return body;
+    }
+
+    /** Get the sampling step.
+     * @return sampling step (s)
+     */
+    public double getStep() {
+        return step;
+    }
+
+    /** Analyze coverage of ground points by a constellation.
+     * <p>
+     * A point is covered at one date if it is covered by at least one satellite.
+     * </p>
+     * @param points ground points
+     * @param satellites satellites (propagators must not be shared between satellites)
+     * @param start analysis start
+     * @param end analysis end
+     * @return coverage report, with points in the same order as in the {@code points} list
+     */
+    public CoverageReport analyze(final List<GeodeticPoint> points, final List<CoverageSatellite> satellites,
+                                  final AbsoluteDate start, final AbsoluteDate end) {
+
+        final double duration = end.durationFrom(start);
+        if (duration <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, duration);
+        }
+        final int              nbSteps = FastMath.max(1, (int) FastMath.ceil(duration / step));
+        final double           h       = duration / nbSteps;
+        final GroundPointIndex index   = new GroundPointIndex(points, body);
+        final Merger           merger  = new Merger(points.size(), nbSteps);
+
+        for (int k0 = 0; k0 <= nbSteps; k0 += slabSize) {
+
+            // sample all satellites
+            final int        first   = k0;
+            final int        k1      = FastMath.min(k0 + slabSize, nbSteps + 1);
+            final double[][] samples = sample(satellites, start, h, first, k1);
+
+            // sweep footprints over ground points
+            final int[] limits = tasks.split(k1 - k0);
+            final List<Callable<GroundPointIndex.IntBuffer>> sweeping = new ArrayList<>(limits.length - 1);
+            for (int c = 0; c < limits.length - 1; ++c) {
+                final int from = k0 + limits[c];
+                final int to   = k0 + limits[c + 1];
+                sweeping.add(() -> sweep(index, satellites, samples, first, from, to));
+            }
+
+            // merge accesses found by the various tasks
+            final List<GroundPointIndex.IntBuffer> results = tasks.run(sweeping);
+            for (int c = 0; c < results.size(); ++c) {
+                merger.merge(k0 + limits[c], k0 + limits[c + 1], results.get(c));
+            }
+
+        }
+
+        // build report
+        final List<PointCoverage> coverages = new ArrayList<>(points.size());
+        for (int p = 0; p < points.size(); ++p) {
+            final GroundPointIndex.IntBuffer ranges   = merger.accesses[p];
+            final List<TimeInterval>         accesses = new ArrayList<>();
+            if (ranges != null) {
+                for (int i = 0; i < ranges.size(); i += 2) {
+                    final AbsoluteDate accessStart = ranges.get(i) == 0 ?
+                                                     start : start.shiftedBy((ranges.get(i) - 0.5) * h);
+                    final AbsoluteDate accessEnd   = ranges.get(i + 1) == nbSteps ?
+                                                     end : start.shiftedBy((ranges.get(i + 1) + 0.5) * h);
+                    accesses.add(TimeInterval.of(accessStart, accessEnd));
+                }
+            }
+            coverages.add(new PointCoverage(points.get(p), start, end, accesses));
+        }
+
+        return new CoverageReport(start, end, coverages);
+
+    }
+
+    /** Sample all satellites on a slab of the time grid.
+     * @param satellites satellites
+     * @param start analysis start
+     * @param h grid step
+     * @param first index of first sample in slab
+     * @param end index of sample after slab last sample
+     * @return sampled slab, satellite positions and body to satellite rotations in body frame
+     */
+    private double[][] sample(final List<CoverageSatellite> satellites, final AbsoluteDate start,
+                              final double h, final int first, final int end) {
+
+        final double[][] samples = new double[satellites.size()][SAMPLE_SIZE * (end - first)];
+
+        final int[] limits = tasks.split(satellites.size());
+        final List<Callable<Void>> sampling = new ArrayList<>(limits.length - 1);
+        for (int c = 0; c < limits.length - 1; ++c) {
+            final int from = limits[c];
+            final int to   = limits[c + 1];
+            sampling.add(() -> {
+                for (int s = from; s < to; ++s) {
+                    final double[] sample = samples[s];
+                    for (int k = first; k < end; ++k) {
+                        final AbsoluteDate    date         = start.shiftedBy(k * h);
+                        final SpacecraftState state        = satellites.get(s).getPropagator().propagate(date);
+                        final StaticTransform inertToBody  = state.getFrame().getStaticTransformTo(body.getBodyFrame(), date);
+                        final Vector3D        position     = inertToBody.transformPosition(state.getPosition());
+                        final Rotation        bodyToSat    = StaticTransform.compose(date,
+                                                                                     inertToBody.getStaticInverse(),
+                                                                                     state.toStaticTransform()).
+                                                             getRotation();
+                        final int i = SAMPLE_SIZE * (k - first);
+                        sample[i]     = position.getX();
+                        sample[i + 1] = position.getY();
+                        sample[i + 2] = position.getZ();
+                        sample[i + 3] = bodyToSat.getQ0();
+                        sample[i + 4] = bodyToSat.getQ1();
+                        sample[i + 5] = bodyToSat.getQ2();
+                        sample[i + 6] = bodyToSat.getQ3();
+                    }
+                }
+                return null;
+            });
+        }
+        tasks.run(sampling);
+
+        return samples;
+
+    }
+
+    /** Sweep satellites footprints over ground points for a range of grid dates.
+     * @param index ground points index
+     * @param satellites satellites
+     * @param samples sampled slab
+     * @param first index of first sample in slab
+     * @param from index of first grid date to sweep
+     * @param to index of grid date after last date to sweep
+     * @return coverage ranges, as triplets (point index, first covered date index, last covered date index)
+     */
+    private GroundPointIndex.IntBuffer sweep(final GroundPointIndex index, final List<CoverageSatellite> satellites,
+                                             final double[][] samples, final int first, final int from, final int to) {
+
+        final double[] positions   = index.getPositions();
+        final double[] zeniths     = index.getZeniths();
+        final double   minRadius   = index.getMinRadius();
+        final int[]    lastCovered = new int[index.size()];
+        final int[]    rangeStart  = new int[index.size()];
+        Arrays.fill(lastCovered, Integer.MIN_VALUE);
+
+        final GroundPointIndex.IntBuffer ranges     = new GroundPointIndex.IntBuffer();
+        final GroundPointIndex.IntBuffer candidates = new GroundPointIndex.IntBuffer();
+        GroundPointIndex.IntBuffer       previous   = new GroundPointIndex.IntBuffer();
+        GroundPointIndex.IntBuffer       current    = new GroundPointIndex.IntBuffer();
+
+        for (int k = from; k < to; ++k) {
+
+            current.clear();
+            for (int s = 0; s < satellites.size(); ++s) {
+
+                final CoverageSatellite satellite = satellites.get(s);
+                final double[]          sample    = samples[s];
+                final int               i         = SAMPLE_SIZE * (k - first);
+                final double            sx        = sample[i];
+                final double            sy        = sample[i + 1];
+                final double            sz        = sample[i + 2];
+                final double            r         = FastMath.sqrt(sx * sx + sy * sy + sz * sz);
+                final double            minEl     = satellite.getMinElevation();
+                final double            sinMinEl  = FastMath.sin(minEl);
+                final List<FieldOfView> fovs      = satellite.getFieldsOfView();
+                final Rotation          bodyToSat = fovs.isEmpty() ?
+                                                    null :
+                                                    new Rotation(sample[i + 3], sample[i + 4], sample[i + 5], sample[i + 6], false);
+
+                // footprint: points that may see the satellite above minimum elevation
+                final double radius = FastMath.acos(FastMath.min(1.0, minRadius * FastMath.cos(minEl) / r)) -
+                                      minEl + FOOTPRINT_MARGIN;
+                candidates.clear();
+                index.query(sx / r, sy / r, sz / r, radius, candidates);
+
+                for (int c = 0; c < candidates.size(); ++c) {
+                    final int p = candidates.get(c);
+                    if (lastCovered[p] == k) {
+                        // point already covered by another satellite at this date
+                        continue;
+                    }
+                    final double dx = positions[3 * p]     - sx;
+                    final double dy = positions[3 * p + 1] - sy;
+                    final double dz = positions[3 * p + 2] - sz;
+                    final double d  = FastMath.sqrt(dx * dx + dy * dy + dz * dz);
+                    if (-(dx * zeniths[3 * p] + dy * zeniths[3 * p + 1] + dz * zeniths[3 * p + 2]) < d * sinMinEl) {
+                        // satellite below minimum elevation
+                        continue;
+                    }
+                    if (bodyToSat != null && !inFieldOfView(fovs, bodyToSat.applyTo(new Vector3D(dx, dy, dz)))) {
+                        continue;
+                    }
+                    if (lastCovered[p] != k - 1) {
+                        rangeStart[p] = k;
+                    }
+                    lastCovered[p] = k;
+                    current.add(p);
+                }
+
+            }
+
+            // close ranges that ended at previous date
+            for (int c = 0; c < previous.size(); ++c) {
+                final int p = previous.get(c);
+                if (lastCovered[p] != k) {
+                    ranges.add(p);
+                    ranges.add(rangeStart[p]);
+                    ranges.add(k - 1);
+                }
+            }
+
+            final GroundPointIndex.IntBuffer tmp = previous;
+            previous = current;
+            current  = tmp;
+
+        }
+
+        // ranges still open at the end of the time range
+        for (int c = 0; c < previous.size(); ++c) {
+            final int p = previous.get(c);
+            ranges.add(p);
+            ranges.add(rangeStart[p]);
+            ranges.add(to - 1);
+        }
+
+        return ranges;
+
+    }
+
+    /** Check if a line of sight is within any field of view.
+     * @param fovs fields of view
+     * @param lineOfSight line of sight in satellite frame
+     * @return true if line of sight is within at least one field of view
+     */
+    private static boolean inFieldOfView(final List<FieldOfView> fovs, final Vector3D lineOfSight) {
+        for (final FieldOfView fov : fovs) {
+            if (fov.offsetFromBoundary(lineOfSight, 0.0, VisibilityTrigger.VISIBLE_ONLY_WHEN_FULLY_IN_FOV) <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Merger for coverage ranges found in consecutive time ranges. */
+    private static class Merger {
+
+        /** Index of last grid date. */
+        private final int nbSteps;
+
+        /** Accesses for each point, as pairs of first and last covered date indices. */
+        private final GroundPointIndex.IntBuffer[] accesses;
+
+        /** Start of the range still open at the end of the previous time range, for each point (-1 if none). */
+        private final int[] openStart;
+
+        /** Marker for open ranges continued in the current time range. */
+        private final int[] continued;
+
+        /** Points with a range still open at the end of the previous time range. */
+        private GroundPointIndex.IntBuffer open;
+
+        /** Counter for time ranges. */
+        private int counter;
+
+        /** Simple constructor.
+         * @param nbPoints number of ground points
+         * @param nbSteps index of last grid date
+         */
+        Merger(final int nbPoints, final int nbSteps) {
+            this.nbSteps   = nbSteps;
+            this.accesses  = new GroundPointIndex.IntBuffer[nbPoints];
+            this.openStart = new int[nbPoints];
+            this.continued = new int[nbPoints];
+            this.open      = new GroundPointIndex.IntBuffer();
+            this.counter   = 0;
+            Arrays.fill(openStart, -1);
+            Arrays.fill(continued, -1);
+        }
+
+        /** Merge the ranges found in one time range.
+         * <p>
+         * Time ranges must be merged in chronological order.
+         * </p>
+         * @param from index of first grid date in the time range
+         * @param to index of grid date after last date in the time range
+         * @param ranges ranges found, as triplets (point index, first covered date index, last covered date index)
+         */
+        void merge(final int from, final int to, final GroundPointIndex.IntBuffer ranges) {
+
+            ++counter;
+
+            // identify the ranges open at the end of the previous time range that are continued here
+            for (int i = 0; i < ranges.size(); i += 3) {
+                final int p = ranges.get(i);
+                if (ranges.get(i + 1) == from && openStart[p] >= 0) {
+                    continued[p] = counter;
+                }
+            }
+
+            // close ranges that were not continued, before adding the ranges
+            // of the current time range so accesses remain chronologically sorted
+            for (int i = 0; i < open.size(); ++i) {
+                final int p = open.get(i);
+                if (continued[p] != counter) {
+                    add(p, openStart[p], from - 1);
+                    openStart[p] = -1;
+                }
+            }
+
+            final GroundPointIndex.IntBuffer newOpen = new GroundPointIndex.IntBuffer();
+            for (int i = 0; i < ranges.size(); i += 3) {
+                final int p     = ranges.get(i);
+                int       first = ranges.get(i + 1);
+                final int last  = ranges.get(i + 2);
+                if (first == from && openStart[p] >= 0) {
+                    // continuation of a range open at the end of the previous time range
+                    first        = openStart[p];
+                    openStart[p] = -1;
+                }
+                if (last == to - 1 && last < nbSteps) {
+                    // the range may continue in the next time range
+                    newOpen.add(p);
+                    newOpen.add(first);
+                } else {
+                    add(p, first, last);
+                }
+            }
+
+            open.clear();
+            for (int i = 0; i < newOpen.size(); i += 2) {
+                open.add(newOpen.get(i));
+                openStart[newOpen.get(i)] = newOpen.get(i + 1);
+            }
+
+        }
+
+        /** Add a closed access.
+         * @param p point index
+         * @param first index of first covered date
+         * @param last index of last covered date
+         */
+        private void add(final int p, final int first, final int last) {
+            if (accesses[p] == null) {
+                accesses[p] = new GroundPointIndex.IntBuffer();
+            }
+            accesses[p].add(first);
+            accesses[p].add(last);
+        }
+
+    }
+
+}
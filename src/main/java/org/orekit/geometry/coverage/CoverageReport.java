@@ -0,0 +1,118 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.geometry.coverage;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.time.AbsoluteDate;
+
+/** Results of a coverage analysis over a grid of ground points.
+ * @see CoverageAnalyzer
+ * @since 14.0
+ */
+public class CoverageReport {
+
+    /** Analysis start. */
+    private final AbsoluteDate start;
+
+    /** Analysis end. */
+    private final AbsoluteDate end;
+
+    /** Coverage of each point, in grid order. */
+    private final List<PointCoverage> points;
+
+    /** Simple constructor.
+     * @param start analysis start
+     * @param end analysis end
+     * @param points coverage of each point, in grid order
+     */
+    public CoverageReport(final AbsoluteDate start, final AbsoluteDate end, final List<PointCoverage> points) {
+        this.start  = start;
+        this.end    = end;
+        this.points = Collections.unmodifiableList(points);
+    }
+
+    /** Get the analysis start.
+     * @return analysis start
+     */
+    public AbsoluteDate getStart() {
+        return start;
+    }
+
+    /** Get the analysis end.
+     * @return analysis end
+     */
+    public AbsoluteDate getEnd() {
+        return end;
+    }
+
+    /** Get the coverage of each point.
+     * @return unmodifiable list of points coverage, in grid order
+     */
+    public List<PointCoverage> getPoints() {
+        return points;
+    }
+
+    /** Get the ratio of points that are covered at least once.
+     * @return ratio of points covered at least once, between 0 and 1
+     */
+    public double getCoveredPointsRatio() {
+        int covered = 0;
+        for (final PointCoverage point : points) {
+            if (point.getNumberOfAccesses() > 0) {
+                ++covered;
+            }
+        }
+        return ((double) covered) / points.size();
+    }
+
+    /** Get the mean coverage ratio over all points.
+     * @return mean coverage ratio, between 0 and 1
+     */
+    public double getMeanCoverageRatio() {
+        double sum = 0;
+        for (final PointCoverage point : points) {
+            sum += point.getCoverageRatio();
+        }
+        return sum / points.size();
+    }
+
+    /** Get the minimum coverage ratio over all points.
+     * @return minimum coverage ratio, between 0 and 1
+     */
+    public double getMinCoverageRatio() {
+        double min = 1.0;
+        for (final PointCoverage point : points) {
+            min = FastMath.min(min, point.getCoverageRatio());
+        }
+        return min;
+    }
+
+    /** Get the maximum gap duration over all points (i.e. the worst revisit time).
+     * @return maximum gap duration (s)
+     */
+    public double getMaxGap() {
+        double max = 0.0;
+        for (final PointCoverage point : points) {
+            max = FastMath.max(max, point.getMaxGap());
+        }
+        return max;
+    }
+
+}
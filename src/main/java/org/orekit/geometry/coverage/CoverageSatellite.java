@@ -0,0 +1,87 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.geometry.coverage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.orekit.geometry.fov.FieldOfView;
+import org.orekit.propagation.Propagator;
+
+/** Satellite contributing to a coverage analysis.
+ * <p>
+ * A ground point is covered by the satellite when the satellite is above the
+ * minimum elevation as seen from the point and, if fields of view are configured,
+ * when the point lies in at least one of these fields of view (which are defined
+ * in spacecraft frame, so the propagator attitude provider is used). Without
+ * fields of view, only the elevation mask is used, which corresponds to the
+ * classical ground visibility of communication satellites.
+ * </p>
+ * <p>
+ * Propagators are sampled chronologically by one thread at a time, so they do not
+ * need to be thread-safe, but they must not be shared between satellites.
+ * </p>
+ * @see CoverageAnalyzer
+ * @since 14.0
+ */
+public class CoverageSatellite {
+
+    /** Propagator for the satellite. */
+    private final Propagator propagator;
+
+    /** Minimum elevation of the satellite as seen from ground points (rad). */
+    private final double minElevation;
+
+    /** Fields of view (may be empty). */
+    private final List<FieldOfView> fieldsOfView;
+
+    /** Simple constructor.
+     * @param propagator propagator for the satellite (must not be shared with other satellites)
+     * @param minElevation minimum elevation of the satellite as seen from ground points (rad)
+     * @param fieldsOfView fields of view, defined in spacecraft frame (if none are
+     * specified, only the elevation mask is used)
+     */
+    public CoverageSatellite(final Propagator propagator, final double minElevation,
+                             final FieldOfView... fieldsOfView) {
+        this.propagator   = propagator;
+        this.minElevation = minElevation;
+        this.fieldsOfView = Collections.unmodifiableList(Arrays.asList(fieldsOfView.clone()));
+    }
+
+    /** Get the propagator for the satellite.
+     * @return propagator for the satellite
+     */
+    public Propagator getPropagator() {
+        return propagator;
+    }
+
+    /** Get the minimum elevation of the satellite as seen from ground points.
+     * @return minimum elevation (rad)
+     */
+    public double getMinElevation() {
+        return minElevation;
+    }
+
+    /** Get the fields of view.
+     * @return unmodifiable list of fields of view (empty if only the elevation mask is used)
+     */
+    public List<FieldOfView> getFieldsOfView() {
+        return fieldsOfView;
+    }
+
+}
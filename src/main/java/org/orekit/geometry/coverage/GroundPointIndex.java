@@ -0,0 +1,277 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.geometry.coverage;
+
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+
+/** Spatial index over ground points.
+ * <p>
+ * Points are bucketed in cells of constant latitude and longitude extent, so
+ * the points within a spherical cap can be found by visiting only the cells
+ * that overlap the cap bounding box.
+ * </p>
+ * @since 14.0
+ */
+class GroundPointIndex {
+
+    /** Minimum cell size (rad). */
+    private static final double MIN_CELL = 0.002;
+
+    /** Maximum cell size (rad). */
+    private static final double MAX_CELL = 0.1;
+
+    /** Number of points. */
+    private final int size;
+
+    /** Points positions in body frame (x, y, z for each point). */
+    private final double[] positions;
+
+    /** Points zenith directions in body frame (x, y, z for each point). */
+    private final double[] zeniths;
+
+    /** Points geocentric unit directions in body frame (x, y, z for each point). */
+    private final double[] directions;
+
+    /** Smallest distance between body center and points (m). */
+    private final double minRadius;
+
+    /** Cell size (rad). */
+    private final double cellSize;
+
+    /** Number of cells in latitude. */
+    private final int nLat;
+
+    /** Number of cells in longitude. */
+    private final int nLon;
+
+    /** Longitude cell size (rad), slightly smaller than cell size so cells wrap exactly around the body. */
+    private final double lonStep;
+
+    /** Index of first point of each cell in {@link #cellPoints} (with one extra element at the end). */
+    private final int[] cellStart;
+
+    /** Points indices, sorted by cells. */
+    private final int[] cellPoints;
+
+    /** Simple constructor.
+     * @param points ground points
+     * @param body body on which points are defined
+     */
+    GroundPointIndex(final List<GeodeticPoint> points, final OneAxisEllipsoid body) {
+
+        this.size       = points.size();
+        this.positions  = new double[3 * size];
+        this.zeniths    = new double[3 * size];
+        this.directions = new double[3 * size];
+
+        // cells size adapted to points density, assuming they are spread over the whole body
+        this.cellSize = FastMath.max(MIN_CELL, FastMath.min(MAX_CELL, 2 * FastMath.sqrt(4 * FastMath.PI / FastMath.max(1, size))));
+        this.nLat     = (int) FastMath.ceil(FastMath.PI / cellSize);
+        this.nLon     = (int) FastMath.ceil(MathUtils.TWO_PI / cellSize);
+        this.lonStep  = MathUtils.TWO_PI / nLon;
+
+        final int[] cells  = new int[size];
+        final int[] counts = new int[nLat * nLon + 1];
+        double      rMin   = Double.POSITIVE_INFINITY;
+        for (int p = 0; p < size; ++p) {
+            final GeodeticPoint point    = points.get(p);
+            final Vector3D      position = body.transform(point);
+            final Vector3D      zenith   = point.getZenith();
+            final double        r        = position.getNorm();
+            positions[3 * p]      = position.getX();
+            positions[3 * p + 1]  = position.getY();
+            positions[3 * p + 2]  = position.getZ();
+            zeniths[3 * p]        = zenith.getX();
+            zeniths[3 * p + 1]    = zenith.getY();
+            zeniths[3 * p + 2]    = zenith.getZ();
+            directions[3 * p]     = position.getX() / r;
+            directions[3 * p + 1] = position.getY() / r;
+            directions[3 * p + 2] = position.getZ() / r;
+            rMin     = FastMath.min(rMin, r);
+            cells[p] = cell(latitudeCell(directions[3 * p + 2]),
+                            longitudeCell(FastMath.atan2(directions[3 * p + 1], directions[3 * p])));
+            ++counts[cells[p] + 1];
+        }
+        this.minRadius = rMin;
+
+        // sort points by cells
+        for (int c = 1; c < counts.length; ++c) {
+            counts[c] += counts[c - 1];
+        }
+        this.cellStart  = counts.clone();
+        this.cellPoints = new int[size];
+        for (int p = 0; p < size; ++p) {
+            cellPoints[counts[cells[p]]++] = p;
+        }
+
+    }
+
+    /** Get the number of points.
+     * @return number of points
+     */
+    int size() {
+        return size;
+    }
+
+    /** Get the smallest distance between body center and points.
+     * @return smallest distance between body center and points (m)
+     */
+    double getMinRadius() {
+        return minRadius;
+    }
+
+    /** Get the points positions in body frame.
+     * @return points positions (x, y, z for each point), not copied
+     */
+    double[] getPositions() {
+        return positions;
+    }
+
+    /** Get the points zenith directions in body frame.
+     * @return points zenith directions (x, y, z for each point), not copied
+     */
+    double[] getZeniths() {
+        return zeniths;
+    }
+
+    /** Find the points within a spherical cap.
+     * @param ux x coordinate of the cap center unit direction
+     * @param uy y coordinate of the cap center unit direction
+     * @param uz z coordinate of the cap center unit direction
+     * @param radius angular radius of the cap (rad)
+     * @param found buffer where indices of points within the cap are added
+     */
+    void query(final double ux, final double uy, final double uz, final double radius, final IntBuffer found) {
+
+        final double cosRadius = FastMath.cos(radius);
+        final double lat0      = FastMath.asin(FastMath.max(-1.0, FastMath.min(1.0, uz)));
+        final int    i0        = latitudeCell(FastMath.sin(FastMath.max(-0.5 * FastMath.PI, lat0 - radius)));
+        final int    i1        = latitudeCell(FastMath.sin(FastMath.min(+0.5 * FastMath.PI, lat0 + radius)));
+
+        // longitude extent of the cap
+        int jMin = 0;
+        int jMax = nLon - 1;
+        if (radius < 0.5 * FastMath.PI - FastMath.abs(lat0)) {
+            // the cap does not contain a pole
+            final double lon0 = FastMath.atan2(uy, ux);
+            final double dLon = FastMath.asin(FastMath.min(1.0, FastMath.sin(radius) / FastMath.cos(lat0)));
+            final int    j0   = (int) FastMath.floor((lon0 - dLon + FastMath.PI) / lonStep);
+            final int    j1   = (int) FastMath.floor((lon0 + dLon + FastMath.PI) / lonStep);
+            if (j1 - j0 + 1 < nLon) {
+                jMin = j0;
+                jMax = j1;
+            }
+        }
+
+        for (int i = i0; i <= i1; ++i) {
+            for (int j = jMin; j <= jMax; ++j) {
+                final int c = cell(i, FastMath.floorMod(j, nLon));
+                for (int k = cellStart[c]; k < cellStart[c + 1]; ++k) {
+                    final int p = cellPoints[k];
+                    if (directions[3 * p] * ux + directions[3 * p + 1] * uy + directions[3 * p + 2] * uz >= cosRadius) {
+                        found.add(p);
+                    }
+                }
+            }
+        }
+
+    }
+
+    /** Get the latitude cell index.
+     * @param sinLatitude sine of geocentric latitude
+     * @return latitude cell index
+     */
+    private int latitudeCell(final double sinLatitude) {
+        final double latitude = FastMath.asin(FastMath.max(-1.0, FastMath.min(1.0, sinLatitude)));
+        return FastMath.max(0, FastMath.min(nLat - 1, (int) FastMath.floor((latitude + 0.5 * FastMath.PI) / cellSize)));
+    }
+
+    /** Get the longitude cell index.
+     * @param longitude geocentric longitude
+     * @return longitude cell index
+     */
+    private int longitudeCell(final double longitude) {
+        return FastMath.floorMod((int) FastMath.floor((longitude + FastMath.PI) / lonStep), nLon);
+    }
+
+    /** Get the global cell index.
+     * @param i latitude cell index
+     * @param j longitude cell index
+     * @return global cell index
+     */
+    private int cell(final int i, final int j) {
+        return i * nLon + j;
+    }
+
+    /** Growable buffer of primitive integers. */
+    static class IntBuffer {
+
+        /** Data. */
+        private int[] data;
+
+        /** Number of elements. */
+        private int size;
+
+        /** Simple constructor.
+         */
+        IntBuffer() {
+            this.data = new int[16];
+            this.size = 0;
+        }
+
+        /** Add an element.
+         * @param value element to add
+         */
+        void add(final int value) {
+            if (size == data.length) {
+                final int[] extended = new int[2 * size];
+                System.arraycopy(data, 0, extended, 0, size);
+                data = extended;
+            }
+            data[size++] = value;
+        }
+
+        /** Get an element.
+         * @param i index of the element
+         * @return element at index i
+         */
+        int get(final int i) {
+            return data[i];
+        }
+
+        /** Get the number of elements.
+         * @return number of elements
+         */
+        int size() {
+            return size;
+        }
+
+        /** Remove all elements.
+         */
+        void clear() {
+            size = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,145 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.geometry.coverage;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeInterval;
+
+/** Coverage of one ground point over an analysis interval.
+ * <p>
+ * The gaps are the intervals during which the point is not covered, including
+ * the gap between analysis start and first access and the gap between last access
+ * and analysis end, when they are not empty. The gaps durations are therefore the
+ * revisit times of the point.
+ * </p>
+ * @see CoverageAnalyzer
+ * @since 14.0
+ */
+public class PointCoverage {
+
+    /** Ground point. */
+    private final GeodeticPoint point;
+
+    /** Analysis start. */
+    private final AbsoluteDate start;
+
+    /** Analysis end. */
+    private final AbsoluteDate end;
+
+    /** Access intervals, in chronological order. */
+    private final List<TimeInterval> accesses;
+
+    /** Simple constructor.
+     * @param point ground point
+     * @param start analysis start
+     * @param end analysis end
+     * @param accesses access intervals, disjoint, in chronological order and within analysis interval
+     */
+    public PointCoverage(final GeodeticPoint point, final AbsoluteDate start, final AbsoluteDate end,
+                         final List<TimeInterval> accesses) {
+        this.point    = point;
+        this.start    = start;
+        this.end      = end;
+        this.accesses = Collections.unmodifiableList(accesses);
+    }
+
+    /** Get the ground point.
+     * @return ground point
+     */
+    public GeodeticPoint getPoint() {
+        return point;
+    }
+
+    /** Get the access intervals.
+     * @return unmodifiable list of access intervals, in chronological order
+     */
+    public List<TimeInterval> getAccesses() {
+        return accesses;
+    }
+
+    /** Get the number of accesses.
+     * @return number of accesses
+     */
+    public int getNumberOfAccesses() {
+        return accesses.size();
+    }
+
+    /** Get the total covered duration.
+     * @return total covered duration (s)
+     */
+    public double getCoveredDuration() {
+        double covered = 0;
+        for (final TimeInterval access : accesses) {
+            covered += access.duration();
+        }
+        return covered;
+    }
+
+    /** Get the ratio of the analysis interval during which the point is covered.
+     * @return coverage ratio, between 0 and 1
+     */
+    public double getCoverageRatio() {
+        return getCoveredDuration() / end.durationFrom(start);
+    }
+
+    /** Get the number of gaps.
+     * @return number of gaps
+     */
+    public int getNumberOfGaps() {
+        if (accesses.isEmpty()) {
+            return 1;
+        }
+        int gaps = accesses.size() - 1;
+        if (accesses.getFirst().getStartDate().isAfter(start)) {
+            ++gaps;
+        }
+        if (accesses.getLast().getEndDate().isBefore(end)) {
+            ++gaps;
+        }
+        return gaps;
+    }
+
+    /** Get the maximum gap duration (i.e. the maximum revisit time).
+     * @return maximum gap duration (s), 0 if the point is always covered
+     */
+    public double getMaxGap() {
+        if (accesses.isEmpty()) {
+            return end.durationFrom(start);
+        }
+        double       max      = accesses.getFirst().getStartDate().durationFrom(start);
+        AbsoluteDate previous = accesses.getFirst().getEndDate();
+        for (final TimeInterval access : accesses) {
+            max      = FastMath.max(max, access.getStartDate().durationFrom(previous));
+            previous = access.getEndDate();
+        }
+        return FastMath.max(max, end.durationFrom(previous));
+    }
+
+    /** Get the mean gap duration (i.e. the mean revisit time).
+     * @return mean gap duration (s), 0 if the point is always covered
+     */
+    public double getMeanGap() {
+        final int gaps = getNumberOfGaps();
+        return gaps == 0 ? 0.0 : (end.durationFrom(start) - getCoveredDuration()) / gaps;
+    }
+
+}
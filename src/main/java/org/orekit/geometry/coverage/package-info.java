@@ -0,0 +1,28 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * This package provides a coverage and revisit analysis engine over grids of ground points.
+ * <p>
+ * The {@link org.orekit.geometry.coverage.CoverageAnalyzer engine} sweeps time for
+ * a set of {@link org.orekit.geometry.coverage.CoverageSatellite satellites}, uses
+ * a spatial index over the ground points to find the points lying under each
+ * instantaneous footprint, and accumulates access intervals and revisit statistics
+ * for each {@link org.orekit.geometry.coverage.PointCoverage point}.
+ * </p>
+ * @since 14.0
+ */
+package org.orekit.geometry.coverage;
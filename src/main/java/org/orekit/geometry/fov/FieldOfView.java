@@ -73,6 +73,29 @@ public interface FieldOfView {
      */
     double offsetFromBoundary(Vector3D lineOfSight, double angularRadius, VisibilityTrigger trigger);
 
+    /** Get the offsets of several targets with respect to the Field Of View Boundary.
+     * <p>
+     * This method is equivalent to calling {@link #offsetFromBoundary(Vector3D, double,
+     * VisibilityTrigger)} for each line of sight, but implementations may share
+     * computations between lines of sight.
+     * </p>
+     * @param linesOfSight lines of sight from the center of the Field Of View support
+     * unit sphere to the targets in spacecraft frame
+     * @param angularRadius targets angular radius
+     * @param trigger visibility trigger for spherical bodies
+     * @return offsets for all lines of sight, in the same order as the lines of sight
+     * @see #offsetFromBoundary(Vector3D, double, VisibilityTrigger)
+     * @since 14.0
+     */
+    default double[] offsetsFromBoundary(final Vector3D[] linesOfSight, final double angularRadius,
+                                         final VisibilityTrigger trigger) {
+        final double[] offsets = new double[linesOfSight.length];
+        for (int i = 0; i < offsets.length; ++i) {
+            offsets[i] = offsetFromBoundary(linesOfSight[i], angularRadius, trigger);
+        }
+        return offsets;
+    }
+
     /** Find the direction on Field Of View Boundary closest to a line of sight.
      * @param lineOfSight line of sight from the center of the Field Of View support
      * unit sphere to the target in spacecraft frame
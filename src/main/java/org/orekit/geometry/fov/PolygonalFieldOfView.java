@@ -45,6 +45,11 @@ import org.orekit.propagation.events.VisibilityTrigger;
  * <p>Fields Of View are zones defined on the unit sphere centered on the
  * spacecraft. They can have any shape, they can be split in several
  * non-connected patches and can have holes.</p>
+ * <p>The zone boundary is compiled at construction into flat arrays of edges
+ * (vertices, circle poles and lengths), so offsets and projections do not need
+ * to traverse the zone BSP tree. For convex zones, which include regular polygons
+ * and {@link DoubleDihedraFieldOfView double dihedra}, the inside/outside check
+ * is also performed directly on the compiled edges.</p>
  * @author Luc Maisonobe
  * @since 10.1
  */
@@ -56,6 +61,9 @@ public class PolygonalFieldOfView extends AbstractFieldOfView {
     /** Spherical cap surrounding the zone. */
     private final EnclosingBall<Sphere2D, S2Point> cap;
 
+    /** Compiled zone boundary. */
+    private final CompiledBoundary boundary;
+
     /** Build a new instance.
      * @param zone interior of the Field Of View, in spacecraft frame
      * @param margin angular margin to apply to the zone (if positive,
@@ -65,8 +73,9 @@ public class PolygonalFieldOfView extends AbstractFieldOfView {
      */
     public PolygonalFieldOfView(final SphericalPolygonsSet zone, final double margin) {
         super(margin);
-        this.zone = zone;
-        this.cap  = zone.getEnclosingCap();
+        this.zone     = zone;
+        this.cap      = zone.getEnclosingCap();
+        this.boundary = new CompiledBoundary(zone.getBoundaryLoops());
     }
 
     /** Build Field Of View with a regular polygon shape.
@@ -100,7 +109,8 @@ public class PolygonalFieldOfView extends AbstractFieldOfView {
         for (int i = 1; i < n; ++i) {
             support[i] = new S2Point(r.applyTo(support[i - 1].getVector()));
         }
-        this.cap = new EnclosingBall<>(new S2Point(center), Vector3D.angle(center, vertex), support);
+        this.cap      = new EnclosingBall<>(new S2Point(center), Vector3D.angle(center, vertex), support);
+        this.boundary = new CompiledBoundary(zone.getBoundaryLoops());
 
     }
 
@@ -116,10 +126,33 @@ public class PolygonalFieldOfView extends AbstractFieldOfView {
     public double offsetFromBoundary(final Vector3D lineOfSight, final double angularRadius,
                                      final VisibilityTrigger trigger) {
 
-        final S2Point los             = new S2Point(lineOfSight);
-        final double  margin          = getMargin();
-        final double  correctedRadius = trigger.radiusCorrection(angularRadius);
-        final double  deadBand        = margin + angularRadius;
+        return offset(lineOfSight, trigger.radiusCorrection(angularRadius), getMargin() + angularRadius);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] offsetsFromBoundary(final Vector3D[] linesOfSight, final double angularRadius,
+                                        final VisibilityTrigger trigger) {
+        final double   correctedRadius = trigger.radiusCorrection(angularRadius);
+        final double   deadBand        = getMargin() + angularRadius;
+        final double[] offsets         = new double[linesOfSight.length];
+        for (int i = 0; i < offsets.length; ++i) {
+            offsets[i] = offset(linesOfSight[i], correctedRadius, deadBand);
+        }
+        return offsets;
+    }
+
+    /** Get the offset of one target with respect to the Field Of View Boundary.
+     * @param lineOfSight line of sight from the center of the Field Of View support
+     * unit sphere to the target in spacecraft frame
+     * @param correctedRadius target angular radius corrected for visibility trigger
+     * @param deadBand dead band (margin plus target angular radius)
+     * @return offset of the target
+     */
+    private double offset(final Vector3D lineOfSight, final double correctedRadius, final double deadBand) {
+
+        final S2Point los    = new S2Point(lineOfSight);
+        final double  margin = getMargin();
 
         // for faster computation, we start using only the surrounding cap, to filter out
         // far away points (which correspond to most of the points if the Field Of View is small)
@@ -130,16 +163,40 @@ public class PolygonalFieldOfView extends AbstractFieldOfView {
             return crudeDistance + correctedRadius - margin;
         }
 
+        if (boundary.isEmpty()) {
+            // degenerated zone (empty or full sphere), rely on the zone itself
+            return zone.projectToBoundary(los).getOffset() + correctedRadius - margin;
+        }
+
         // we are close, we need to compute carefully the exact offset;
-        // we project the point to the closest zone boundary
-        return zone.projectToBoundary(los).getOffset() + correctedRadius - margin;
+        // we compute the distance to the closest zone boundary
+        final Vector3D u        = los.getVector();
+        final double   distance = boundary.distance(u, null);
+        return (isInside(los) ? -distance : distance) + correctedRadius - margin;
 
     }
 
     /** {@inheritDoc} */
     @Override
     public Vector3D projectToBoundary(final Vector3D lineOfSight) {
-        return (zone.projectToBoundary(new S2Point(lineOfSight)).getProjected()).getVector();
+        if (boundary.isEmpty()) {
+            return (zone.projectToBoundary(new S2Point(lineOfSight)).getProjected()).getVector();
+        }
+        final double[] projected = new double[3];
+        boundary.distance(new S2Point(lineOfSight).getVector(), projected);
+        return new Vector3D(projected[0], projected[1], projected[2]);
+    }
+
+    /** Check if a point is inside the zone.
+     * @param point point to check
+     * @return true if point is inside the zone
+     */
+    private boolean isInside(final S2Point point) {
+        if (boundary.isConvex()) {
+            return boundary.isInsideConvex(point.getVector());
+        } else {
+            return zone.checkPoint(point) == Region.Location.INSIDE;
+        }
     }
 
     /** {@inheritDoc} */
@@ -169,19 +226,14 @@ public class PolygonalFieldOfView extends AbstractFieldOfView {
 
         final List<List<GeodeticPoint>> footprint = new ArrayList<>();
 
-        final List<Vertex> boundary = zone.getBoundaryLoops();
-        for (final Vertex loopStart : boundary) {
-            int count = 0;
+        for (int l = 0; l < boundary.getNbLoops(); ++l) {
             final List<GeodeticPoint> loop  = new ArrayList<>();
             boolean intersectionsFound      = false;
-            for (Edge edge = loopStart.getOutgoing();
-                 count == 0 || edge.getStart() != loopStart;
-                 edge = edge.getEnd().getOutgoing()) {
-                ++count;
-                final int    n     = (int) FastMath.ceil(edge.getLength() / angularStep);
-                final double delta =  edge.getLength() / n;
+            for (int e = boundary.getLoopStart(l); e < boundary.getLoopStart(l + 1); ++e) {
+                final int    n     = (int) FastMath.ceil(boundary.getLength(e) / angularStep);
+                final double delta =  boundary.getLength(e) / n;
                 for (int i = 0; i < n; ++i) {
-                    final Vector3D awaySC      = new Vector3D(r, edge.getPointAt(i * delta));
+                    final Vector3D awaySC      = new Vector3D(r, boundary.getPointAt(e, i * delta));
                     final Vector3D awayBody    = fovToBody.transformPosition(awaySC);
                     final Line     lineOfSight = new Line(position, awayBody, 1.0e-3);
                     GeodeticPoint  gp          = body.getIntersectionPoint(lineOfSight, position,
@@ -238,7 +290,9 @@ public class PolygonalFieldOfView extends AbstractFieldOfView {
                 // either the body is outside of Field Of View, or it is fully contained
                 // we check the center
                 final Vector3D bodyCenter = fovToBody.getStaticInverse().transformPosition(Vector3D.ZERO);
-                if (zone.checkPoint(new S2Point(bodyCenter)) != Region.Location.OUTSIDE) {
+                if (boundary.isEmpty() ?
+                    zone.checkPoint(new S2Point(bodyCenter)) != Region.Location.OUTSIDE :
+                    isInside(new S2Point(bodyCenter))) {
                     // the body is fully contained in the Field Of View
                     // we use the full limb as the footprint
                     final Vector3D x        = bodyCenter.orthogonal();
@@ -264,6 +318,246 @@ public class PolygonalFieldOfView extends AbstractFieldOfView {
 
     }
 
+    /** Zone boundary compiled for fast evaluation. */
+    private static class CompiledBoundary {
+
+        /** Tolerance for convexity check. */
+        private static final double CONVEXITY_TOLERANCE = 1.0e-10;
+
+        /** Edges start vertices (x, y, z for each edge). */
+        private final double[] starts;
+
+        /** Edges end vertices (x, y, z for each edge). */
+        private final double[] ends;
+
+        /** Edges circles poles, on the inside side (x, y, z for each edge). */
+        private final double[] poles;
+
+        /** In-plane directions orthogonal to start vertices (x, y, z for each edge). */
+        private final double[] axes;
+
+        /** Edges lengths. */
+        private final double[] lengths;
+
+        /** Index of first edge of each loop (with one extra element at the end). */
+        private final int[] loops;
+
+        /** Indicator for convex zones. */
+        private final boolean convex;
+
+        /** Simple constructor.
+         * @param boundaryLoops boundary loops of the zone
+         */
+        CompiledBoundary(final List<Vertex> boundaryLoops) {
+
+            final List<Edge> edges = new ArrayList<>();
+            this.loops = new int[boundaryLoops.size() + 1];
+            for (int l = 0; l < boundaryLoops.size(); ++l) {
+                final Vertex loopStart = boundaryLoops.get(l);
+                int count = 0;
+                for (Edge edge = loopStart.getOutgoing();
+                     count == 0 || edge.getStart() != loopStart;
+                     edge = edge.getEnd().getOutgoing()) {
+                    ++count;
+                    edges.add(edge);
+                }
+                loops[l + 1] = edges.size();
+            }
+
+            final int size = edges.size();
+            this.starts  = new double[3 * size];
+            this.ends    = new double[3 * size];
+            this.poles   = new double[3 * size];
+            this.axes    = new double[3 * size];
+            this.lengths = new double[size];
+            for (int e = 0; e < size; ++e) {
+                final Edge     edge  = edges.get(e);
+                final Vector3D start = edge.getStart().getLocation().getVector();
+                final Vector3D pole  = edge.getCircle().getPole();
+                store(start, starts, 3 * e);
+                store(edge.getEnd().getLocation().getVector(), ends, 3 * e);
+                store(pole, poles, 3 * e);
+                store(Vector3D.crossProduct(pole, start), axes, 3 * e);
+                lengths[e] = edge.getLength();
+            }
+
+            // a single loop with all vertices on the inside side of all edges is convex
+            boolean isConvex = boundaryLoops.size() == 1;
+            for (int e = 0; isConvex && e < size; ++e) {
+                for (int v = 0; isConvex && v < size; ++v) {
+                    isConvex = dot(poles, e, starts[3 * v], starts[3 * v + 1], starts[3 * v + 2]) >=
+                               -CONVEXITY_TOLERANCE;
+                }
+            }
+            this.convex = isConvex;
+
+        }
+
+        /** Check if the boundary is empty.
+         * @return true if boundary is empty (i.e. zone is either empty or the full sphere)
+         */
+        boolean isEmpty() {
+            return lengths.length == 0;
+        }
+
+        /** Check if the zone is convex.
+         * @return true if the zone is convex
+         */
+        boolean isConvex() {
+            return convex;
+        }
+
+        /** Get the number of loops.
+         * @return number of loops
+         */
+        int getNbLoops() {
+            return loops.length - 1;
+        }
+
+        /** Get the index of the first edge of a loop.
+         * @param l loop index (may be equal to {@link #getNbLoops()})
+         * @return index of the first edge of the loop
+         */
+        int getLoopStart(final int l) {
+            return loops[l];
+        }
+
+        /** Get the length of an edge.
+         * @param e edge index
+         * @return length of the edge
+         */
+        double getLength(final int e) {
+            return lengths[e];
+        }
+
+        /** Get a point along an edge.
+         * @param e edge index
+         * @param alpha angular distance from edge start
+         * @return point along the edge
+         */
+        Vector3D getPointAt(final int e, final double alpha) {
+            final SinCos sc = FastMath.sinCos(alpha);
+            return new Vector3D(sc.cos() * starts[3 * e]     + sc.sin() * axes[3 * e],
+                                sc.cos() * starts[3 * e + 1] + sc.sin() * axes[3 * e + 1],
+                                sc.cos() * starts[3 * e + 2] + sc.sin() * axes[3 * e + 2]);
+        }
+
+        /** Check if a point is inside a convex zone.
+         * @param u unit vector of the point
+         * @return true if point is on the inside side of all edges
+         */
+        boolean isInsideConvex(final Vector3D u) {
+            for (int e = 0; e < lengths.length; ++e) {
+                if (dot(poles, e, u.getX(), u.getY(), u.getZ()) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Compute the angular distance between a point and the boundary.
+         * @param u unit vector of the point
+         * @param projected placeholder for closest boundary point (may be null)
+         * @return angular distance between the point and the boundary
+         */
+        double distance(final Vector3D u, final double[] projected) {
+
+            final double x = u.getX();
+            final double y = u.getY();
+            final double z = u.getZ();
+
+            // closest edge interior, and closest vertex
+            double minSin      = Double.POSITIVE_INFINITY;
+            int    closeEdge   = -1;
+            double maxCos      = Double.NEGATIVE_INFINITY;
+            int    closeVertex = Integer.MIN_VALUE;
+            for (int e = 0; e < lengths.length; ++e) {
+                final double sinOffset = dot(poles, e, x, y, z);
+                double       phase     = FastMath.atan2(dot(axes, e, x, y, z), dot(starts, e, x, y, z));
+                if (phase < 0) {
+                    phase += MathUtils.TWO_PI;
+                }
+                if (phase <= lengths[e]) {
+                    // the point projects within the edge
+                    if (FastMath.abs(sinOffset) < minSin) {
+                        minSin    = FastMath.abs(sinOffset);
+                        closeEdge = e;
+                    }
+                } else {
+                    // the point projects outside of the edge, closest point is one of the end vertices
+                    final double cosStart = dot(starts, e, x, y, z);
+                    if (cosStart > maxCos) {
+                        maxCos      = cosStart;
+                        closeVertex = 3 * e;
+                    }
+                    final double cosEnd = dot(ends, e, x, y, z);
+                    if (cosEnd > maxCos) {
+                        maxCos      = cosEnd;
+                        closeVertex = -3 * e - 1;
+                    }
+                }
+            }
+
+            final double edgeDistance   = closeEdge < 0 ? Double.POSITIVE_INFINITY : FastMath.asin(minSin);
+            final double vertexDistance = closeVertex == Integer.MIN_VALUE ?
+                                          Double.POSITIVE_INFINITY :
+                                          Vector3D.angle(u, vertex(closeVertex));
+            if (edgeDistance <= vertexDistance) {
+                if (projected != null) {
+                    final int    i = 3 * closeEdge;
+                    final double s = dot(poles, closeEdge, x, y, z);
+                    store(new Vector3D(x - s * poles[i], y - s * poles[i + 1], z - s * poles[i + 2]).normalize(),
+                          projected, 0);
+                }
+                return edgeDistance;
+            } else {
+                if (projected != null) {
+                    store(vertex(closeVertex), projected, 0);
+                }
+                return vertexDistance;
+            }
+
+        }
+
+        /** Get a vertex.
+         * @param code vertex code (3e for start of edge e, -3e-1 for end of edge e)
+         * @return vertex
+         */
+        private Vector3D vertex(final int code) {
+            if (code >= 0) {
+                return new Vector3D(starts[code], starts[code + 1], starts[code + 2]);
+            } else {
+                final int i = -code - 1;
+                return new Vector3D(ends[i], ends[i + 1], ends[i + 2]);
+            }
+        }
+
+        /** Compute a dot product with a stored vector.
+         * @param array array containing stored vectors
+         * @param e index of the stored vector
+         * @param x x coordinate of the other vector
+         * @param y y coordinate of the other vector
+         * @param z z coordinate of the other vector
+         * @return dot product
+         */
+        private static double dot(final double[] array, final int e,
+                                  final double x, final double y, final double z) {
+            return array[3 * e] * x + array[3 * e + 1] * y + array[3 * e + 2] * z;
+        }
+
+        /** Store a vector in an array.
+         * @param v vector to store
+         * @param array array where to store the vector
+         * @param offset offset of first component in the array
+         */
+        private static void store(final Vector3D v, final double[] array, final int offset) {
+            array[offset]     = v.getX();
+            array[offset + 1] = v.getY();
+            array[offset + 2] = v.getZ();
+        }
+
+    }
+
     /** Enumerate for cone/polygon relative position.
      * @since 10.1
      */
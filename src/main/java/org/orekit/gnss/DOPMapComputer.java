@@ -0,0 +1,398 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.propagation.Propagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.ElevationMask;
+import org.orekit.utils.ParallelTasks;
+
+/**
+ * This class aims at computing maps of dilution of precision over grids of locations.
+ * <p>
+ * It computes the same values as {@link DOPComputer}, but it is intended for large
+ * numbers of locations: the GNSS constellation is propagated only once per date
+ * and the satellites positions are shared by all locations, the local frames of
+ * the locations are computed only once at construction, and the normal matrix
+ * H<sup>T</sup>H is accumulated and inverted directly as a 4x4 symmetric matrix
+ * instead of building the full geometry matrix H. Locations are split in tiles
+ * processed in parallel.
+ * </p>
+ * <p>
+ * Propagators are each used by only one thread at a time, but they are shared
+ * between successive calls to {@link #compute(AbsoluteDate, List)}, which should
+ * therefore be called with chronologically sorted dates for best performance.
+ * </p>
+ * @see DOPComputer
+ * @since 14.0
+ */
+public class DOPMapComputer {
+
+    /** Minimum number of propagators for DOP computation. */
+    private static final int DOP_MIN_PROPAGATORS = 4;
+
+    /** Number of components per location (position, east, north and zenith directions). */
+    private static final int LOCATION_SIZE = 12;
+
+    /** Body shape on which the locations are defined. */
+    private final OneAxisEllipsoid shape;
+
+    /** Locations where DOP will be computed. */
+    private final List<GeodeticPoint> locations;
+
+    /** Locations positions and local directions in body frame. */
+    private final double[] frames;
+
+    /** Elevation mask used for computation, if defined. */
+    private final ElevationMask elevationMask;
+
+    /** Minimum elevation value used if no mask is defined. */
+    private final double minElevation;
+
+    /** Runner for parallel tasks. */
+    private final ParallelTasks tasks;
+
+    /**
+     * Constructor for DOP map computation.
+     *
+     * @param shape the body shape on which the locations are defined
+     * @param locations the locations where DOP will be computed
+     * @param frames locations positions and local directions in body frame
+     * @param minElev the minimum elevation to consider (rad)
+     * @param elevMask the elevation mask to consider
+     * @param tasks runner for parallel tasks
+     */
+    private DOPMapComputer(final OneAxisEllipsoid shape, final List<GeodeticPoint> locations,
+                           final double[] frames, final double minElev, final ElevationMask elevMask,
+                           final ParallelTasks tasks) {
+        this.shape         = shape;
+        this.locations     = locations;
+        this.frames        = frames;
+        this.minElevation  = minElev;
+        this.elevationMask = elevMask;
+        this.tasks         = tasks;
+    }
+
+    /**
+     * Creates a DOP map computer for a set of locations.
+     *
+     * <p>A minimum elevation of 0° is taken into account to compute
+     * visibility between the locations and the GNSS spacecrafts,
+     * and computation is performed in the calling thread.</p>
+     *
+     * @param shape the body shape on which the locations are defined
+     * @param locations the points of interest
+     * @return a configured DOP map computer
+     */
+    public static DOPMapComputer create(final OneAxisEllipsoid shape, final List<GeodeticPoint> locations) {
+        final double[] frames = new double[LOCATION_SIZE * locations.size()];
+        for (int i = 0; i < locations.size(); ++i) {
+            final GeodeticPoint location = locations.get(i);
+            final int           offset   = LOCATION_SIZE * i;
+            store(shape.transform(location), frames, offset);
+            store(location.getEast(),        frames, offset + 3);
+            store(location.getNorth(),       frames, offset + 6);
+            store(location.getZenith(),      frames, offset + 9);
+        }
+        return new DOPMapComputer(shape, Collections.unmodifiableList(new ArrayList<>(locations)), frames,
+                                  DOPComputer.DOP_MIN_ELEVATION, null, new ParallelTasks(1));
+    }
+
+    /**
+     * Set the minimum elevation.
+     *
+     * <p>This will override an elevation mask if it has been configured as such previously.</p>
+     *
+     * @param newMinElevation minimum elevation for visibility (rad)
+     * @return a new DOP map computer with updated configuration (the instance is not changed)
+     *
+     * @see #getMinElevation()
+     */
+    public DOPMapComputer withMinElevation(final double newMinElevation) {
+        return new DOPMapComputer(shape, locations, frames, newMinElevation, null, tasks);
+    }
+
+    /**
+     * Set the elevation mask.
+     *
+     * <p>This will override the min elevation if it has been configured as such previously.</p>
+     *
+     * @param newElevationMask elevation mask to use for the computation
+     * @return a new DOP map computer with updated configuration (the instance is not changed)
+     *
+     * @see #getElevationMask()
+     */
+    public DOPMapComputer withElevationMask(final ElevationMask newElevationMask) {
+        return new DOPMapComputer(shape, locations, frames, DOPComputer.DOP_MIN_ELEVATION, newElevationMask, tasks);
+    }
+
+    /**
+     * Set the number of threads.
+     *
+     * @param threads number of threads to use
+     * @return a new DOP map computer with updated configuration (the instance is not changed)
+     */
+    public DOPMapComputer withThreads(final int threads) {
+        return new DOPMapComputer(shape, locations, frames, minElevation, elevationMask, new ParallelTasks(threads));
+    }
+
+    /**
+     * Compute the {@link DOP} map at a given date for a set of GNSS spacecrafts.
+     * <p>Four GNSS spacecraft at least are needed to compute the DOP.
+     * If less than 4 propagators are provided, an exception will be thrown.
+     * If less than 4 spacecrafts are visible from one location at the date, or if
+     * their geometry is degenerated, all DOP values for this location will be
+     * set to {@link java.lang.Double#NaN NaN}.</p>
+     *
+     * @param date the computation date
+     * @param gnss the propagators for GNSS spacecraft involved in the DOP computation
+     * @return the {@link DOP} at each location, in the same order as the locations
+     */
+    public List<DOP> compute(final AbsoluteDate date, final List<Propagator> gnss) {
+
+        // Checks the number of provided propagators
+        if (gnss.size() < DOP_MIN_PROPAGATORS) {
+            throw new OrekitException(OrekitMessages.NOT_ENOUGH_GNSS_FOR_DOP, gnss.size(), DOP_MIN_PROPAGATORS);
+        }
+
+        // Propagates the constellation once for all locations
+        final double[] satellites = new double[3 * gnss.size()];
+        final int[]    satLimits  = tasks.split(gnss.size());
+        final List<Callable<Void>> propagation = new ArrayList<>(satLimits.length - 1);
+        for (int c = 0; c < satLimits.length - 1; ++c) {
+            final int from = satLimits[c];
+            final int to   = satLimits[c + 1];
+            propagation.add(() -> {
+                for (int s = from; s < to; ++s) {
+                    store(gnss.get(s).getPosition(date, shape.getBodyFrame()), satellites, 3 * s);
+                }
+                return null;
+            });
+        }
+        tasks.run(propagation);
+
+        // Computes DOP by tiles of locations
+        final DOP[] dops   = new DOP[locations.size()];
+        final int[] limits = tasks.split(locations.size());
+        final List<Callable<Void>> tiles = new ArrayList<>(limits.length - 1);
+        for (int c = 0; c < limits.length - 1; ++c) {
+            final int from = limits[c];
+            final int to   = limits[c + 1];
+            tiles.add(() -> {
+                final double[] normal = new double[10];
+                for (int i = from; i < to; ++i) {
+                    dops[i] = compute(date, i, satellites, normal);
+                }
+                return null;
+            });
+        }
+        tasks.run(tiles);
+
+        return Arrays.asList(dops);
+
+    }
+
+    /**
+     * Compute the {@link DOP} at one location.
+     *
+     * @param date the computation date
+     * @param index index of the location
+     * @param satellites satellites positions in body frame
+     * @param normal placeholder for the upper triangular part of the normal matrix
+     * @return the {@link DOP} at the location
+     */
+    private DOP compute(final AbsoluteDate date, final int index, final double[] satellites, final double[] normal) {
+
+        final int    offset = LOCATION_SIZE * index;
+        final double sinMin = FastMath.sin(minElevation);
+
+        // Accumulates the normal matrix for visible satellites
+        Arrays.fill(normal, 0.0);
+        int satNb = 0;
+        for (int s = 0; s < satellites.length; s += 3) {
+
+            // Satellite position in topocentric frame
+            final double dx    = satellites[s]     - frames[offset];
+            final double dy    = satellites[s + 1] - frames[offset + 1];
+            final double dz    = satellites[s + 2] - frames[offset + 2];
+            final double east  = dx * frames[offset + 3] + dy * frames[offset + 4]  + dz * frames[offset + 5];
+            final double north = dx * frames[offset + 6] + dy * frames[offset + 7]  + dz * frames[offset + 8];
+            final double up    = dx * frames[offset + 9] + dy * frames[offset + 10] + dz * frames[offset + 11];
+            final double range = FastMath.sqrt(east * east + north * north + up * up);
+
+            // Only visible satellites are considered
+            final boolean visible;
+            if (elevationMask == null) {
+                visible = up > range * sinMin;
+            } else {
+                final double azimuth = MathUtils.normalizeAngle(FastMath.atan2(east, north), FastMath.PI);
+                visible = FastMath.asin(up / range) > elevationMask.getElevation(azimuth);
+            }
+
+            if (visible) {
+                // Adds the contribution of the row (ux, uy, uz, -1) of the H matrix
+                final double ux = east  / range;
+                final double uy = north / range;
+                final double uz = up    / range;
+                normal[0] += ux * ux;
+                normal[1] += ux * uy;
+                normal[2] += ux * uz;
+                normal[3] -= ux;
+                normal[4] += uy * uy;
+                normal[5] += uy * uz;
+                normal[6] -= uy;
+                normal[7] += uz * uz;
+                normal[8] -= uz;
+                normal[9] += 1.0;
+                satNb++;
+            }
+
+        }
+
+        // DOP values are computed only if at least 4 SV are visible from the location
+        final double[] diagonal = satNb > 3 ? inverseDiagonal(normal) : null;
+        if (diagonal == null) {
+            return new DOP(locations.get(index), date, satNb,
+                           Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+        }
+
+        // Extract various DOP : GDOP, PDOP, HDOP, VDOP, TDOP
+        return new DOP(locations.get(index), date, satNb,
+                       FastMath.sqrt(diagonal[0] + diagonal[1] + diagonal[2] + diagonal[3]),
+                       FastMath.sqrt(diagonal[0] + diagonal[1] + diagonal[2]),
+                       FastMath.sqrt(diagonal[0] + diagonal[1]),
+                       FastMath.sqrt(diagonal[2]),
+                       FastMath.sqrt(diagonal[3]));
+
+    }
+
+    /**
+     * Compute the diagonal of the inverse of a 4x4 symmetric positive definite matrix.
+     * <p>
+     * The computation uses a Cholesky decomposition A = L L<sup>T</sup>, so that
+     * A<sup>-1</sup> = L<sup>-T</sup> L<sup>-1</sup> and the diagonal elements of
+     * A<sup>-1</sup> are the squared norms of the columns of L<sup>-1</sup>.
+     * </p>
+     * @param a upper triangular part of the matrix, row by row
+     * (a₀₀, a₀₁, a₀₂, a₀₃, a₁₁, a₁₂, a₁₃, a₂₂, a₂₃, a₃₃)
+     * @return diagonal of the inverse matrix, or null if matrix is not positive definite
+     */
+    private static double[] inverseDiagonal(final double[] a) {
+
+        // Cholesky decomposition
+        final double l00 = a[0];
+        if (l00 <= 0) {
+            return null;
+        }
+        final double m00 = FastMath.sqrt(l00);
+        final double m10 = a[1] / m00;
+        final double m20 = a[2] / m00;
+        final double m30 = a[3] / m00;
+        final double l11 = a[4] - m10 * m10;
+        if (l11 <= 0) {
+            return null;
+        }
+        final double m11 = FastMath.sqrt(l11);
+        final double m21 = (a[5] - m20 * m10) / m11;
+        final double m31 = (a[6] - m30 * m10) / m11;
+        final double l22 = a[7] - m20 * m20 - m21 * m21;
+        if (l22 <= 0) {
+            return null;
+        }
+        final double m22 = FastMath.sqrt(l22);
+        final double m32 = (a[8] - m30 * m20 - m31 * m21) / m22;
+        final double l33 = a[9] - m30 * m30 - m31 * m31 - m32 * m32;
+        if (l33 <= 0) {
+            return null;
+        }
+        final double m33 = FastMath.sqrt(l33);
+
+        // Inverse of the lower triangular factor
+        final double n00 = 1.0 / m00;
+        final double n11 = 1.0 / m11;
+        final double n22 = 1.0 / m22;
+        final double n33 = 1.0 / m33;
+        final double n10 = -m10 * n00 / m11;
+        final double n21 = -m21 * n11 / m22;
+        final double n20 = -(m20 * n00 + m21 * n10) / m22;
+        final double n32 = -m32 * n22 / m33;
+        final double n31 = -(m31 * n11 + m32 * n21) / m33;
+        final double n30 = -(m30 * n00 + m31 * n10 + m32 * n20) / m33;
+
+        return new double[] {
+            n00 * n00 + n10 * n10 + n20 * n20 + n30 * n30,
+            n11 * n11 + n21 * n21 + n31 * n31,
+            n22 * n22 + n32 * n32,
+            n33 * n33
+        };
+
+    }
+
+    /**
+     * Store a vector in an array.
+     *
+     * @param v vector to store
+     * @param array array where to store the vector
+     * @param offset offset of first component in the array
+     */
+    private static void store(final Vector3D v, final double[] array, final int offset) {
+        array[offset]     = v.getX();
+        array[offset + 1] = v.getY();
+        array[offset + 2] = v.getZ();
+    }
+
+    /**
+     * Get the locations.
+     *
+     * @return unmodifiable view of the locations where DOP is computed
+     */
+    public List<GeodeticPoint> getLocations() {
+        return locations;
+    }
+
+    /**
+     * Get the minimum elevation.
+     *
+     * @return the minimum elevation (rad)
+     */
+    public double getMinElevation() {
+        return minElevation;
+    }
+
+    /**
+     * Get the elevation mask.
+     *
+     * @return the elevation mask
+     */
+    public ElevationMask getElevationMask() {
+        return elevationMask;
+    }
+
+}
@@ -226,6 +226,83 @@ public class GeoMagneticField {
         return new GeoMagneticElements(magFieldGeo);
     }
 
+    /** Calculate the magnetic field at several points sharing the same latitude and height.
+     * <p>
+     * This gives the same results as calling {@link #calculateField(double, double, double)}
+     * for each point, but the Legendre functions and the summations over degree are
+     * computed only once for all points, so only a summation over order remains for
+     * each point. This is much faster when computing magnetic field maps.
+     * </p>
+     * @param latitude the WGS84 latitude in radians, shared by all points
+     * @param longitudes the WGS84 longitudes in radians
+     * @param height the height above the WGS84 ellipsoid in meters, shared by all points
+     * @return the {@link GeoMagneticElements} at the given geodetic points
+     * @since 14.0
+     */
+    public GeoMagneticElements[] calculateField(final double latitude,
+                                                final double[] longitudes,
+                                                final double height) {
+
+        final GeoMagneticElements[] elements = new GeoMagneticElements[longitudes.length];
+
+        // spherical radius and latitude do not depend on longitude
+        final GeodeticPoint gp0 = new GeodeticPoint(latitude, 0.0, height);
+        final SphericalCoordinates sph0 = transformToSpherical(gp0);
+        final double cosPhi = FastMath.cos(sph0.phi);
+        if (FastMath.abs(cosPhi) <= 1.0e-10) {
+            // at geographic poles, By needs a special calculation depending on longitude
+            for (int i = 0; i < longitudes.length; ++i) {
+                elements[i] = calculateField(latitude, longitudes[i], height);
+            }
+            return elements;
+        }
+
+        final SphericalHarmonicVars vars = new SphericalHarmonicVars(sph0);
+        final LegendreFunction legendre = new LegendreFunction(FastMath.sin(sph0.phi));
+
+        // summations over degree, for each order
+        final double[] gz = new double[maxN + 1];
+        final double[] hz = new double[maxN + 1];
+        final double[] gy = new double[maxN + 1];
+        final double[] hy = new double[maxN + 1];
+        final double[] gx = new double[maxN + 1];
+        final double[] hx = new double[maxN + 1];
+        for (int n = 1; n <= maxN; n++) {
+            for (int m = 0; m <= n; m++) {
+                final int index = n * (n + 1) / 2 + m;
+                final double pz = vars.relativeRadiusPower[n] * (1d + n) * legendre.mP[index];
+                final double py = vars.relativeRadiusPower[n] * (double) m * legendre.mP[index];
+                final double px = vars.relativeRadiusPower[n] * legendre.mPDeriv[index];
+                gz[m] += g[index] * pz;
+                hz[m] += h[index] * pz;
+                gy[m] += g[index] * py;
+                hy[m] += h[index] * py;
+                gx[m] += g[index] * px;
+                hx[m] += h[index] * px;
+            }
+        }
+
+        // summations over order, for each point
+        for (int i = 0; i < longitudes.length; ++i) {
+            final GeodeticPoint gp = new GeodeticPoint(latitude, longitudes[i], height);
+            final SphericalHarmonicVars varsI =
+                    new SphericalHarmonicVars(new SphericalCoordinates(sph0.r, longitudes[i], sph0.phi));
+            double bx = 0.0;
+            double by = 0.0;
+            double bz = 0.0;
+            for (int m = 0; m <= maxN; m++) {
+                bz -= gz[m] * varsI.cmLambda[m] + hz[m] * varsI.smLambda[m];
+                by += gy[m] * varsI.smLambda[m] - hy[m] * varsI.cmLambda[m];
+                bx -= gx[m] * varsI.cmLambda[m] + hx[m] * varsI.smLambda[m];
+            }
+            final Vector3D magFieldSph = new Vector3D(bx, by / cosPhi, bz);
+            elements[i] = new GeoMagneticElements(rotateMagneticVector(sph0, gp, magFieldSph));
+        }
+
+        return elements;
+
+    }
+
     /** Time transform the model coefficients from the base year of the model
      * using secular variation coefficients.
      * @param year the year to which the model shall be transformed
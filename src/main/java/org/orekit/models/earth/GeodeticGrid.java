@@ -0,0 +1,173 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth;
+
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+/** Regular latitude/longitude grid covering the whole globe.
+ * <p>
+ * Grid nodes are located at latitudes -π/2 + i × Δφ for i from 0 to
+ * the number of latitude intervals (so both poles are included), and
+ * at longitudes -π + j × Δλ for j from 0 to the number of longitude
+ * intervals excluded (longitude wraps around).
+ * </p>
+ * <p>
+ * Values are interpolated bilinearly between the four nodes surrounding
+ * a point.
+ * </p>
+ * @see GriddedGeoid
+ * @see GriddedGeoMagneticField
+ * @since 14.0
+ */
+class GeodeticGrid {
+
+    /** Tolerance for computing number of intervals from step. */
+    private static final double INTERVALS_TOLERANCE = 1.0e-10;
+
+    /** Number of latitude intervals. */
+    private final int nbLatitudes;
+
+    /** Number of longitude intervals. */
+    private final int nbLongitudes;
+
+    /** Latitude step. */
+    private final double latitudeStep;
+
+    /** Longitude step. */
+    private final double longitudeStep;
+
+    /** Simple constructor.
+     * @param nbLatitudes number of latitude intervals
+     * @param nbLongitudes number of longitude intervals
+     */
+    GeodeticGrid(final int nbLatitudes, final int nbLongitudes) {
+        this.nbLatitudes   = nbLatitudes;
+        this.nbLongitudes  = nbLongitudes;
+        this.latitudeStep  = FastMath.PI / nbLatitudes;
+        this.longitudeStep = MathUtils.TWO_PI / nbLongitudes;
+    }
+
+    /** Build a grid from a desired step.
+     * <p>
+     * The actual steps are adjusted so an integer number of intervals
+     * covers the latitude and longitude ranges, they are smaller than
+     * or equal to the desired step.
+     * </p>
+     * @param step desired step (rad)
+     * @return grid with nodes spacing smaller than or equal to step
+     */
+    static GeodeticGrid fromStep(final double step) {
+        if (!(step > 0)) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, step);
+        }
+        return new GeodeticGrid((int) FastMath.ceil(FastMath.PI / step - INTERVALS_TOLERANCE),
+                                (int) FastMath.ceil(MathUtils.TWO_PI / step - INTERVALS_TOLERANCE));
+    }
+
+    /** Get the number of latitude intervals.
+     * @return number of latitude intervals (the number of latitude nodes is one more)
+     */
+    int getNbLatitudes() {
+        return nbLatitudes;
+    }
+
+    /** Get the number of longitude intervals.
+     * @return number of longitude intervals (which is also the number of longitude nodes)
+     */
+    int getNbLongitudes() {
+        return nbLongitudes;
+    }
+
+    /** Get the latitude step.
+     * @return latitude step (rad)
+     */
+    double getLatitudeStep() {
+        return latitudeStep;
+    }
+
+    /** Get the longitude step.
+     * @return longitude step (rad)
+     */
+    double getLongitudeStep() {
+        return longitudeStep;
+    }
+
+    /** Get the number of nodes.
+     * @return number of nodes
+     */
+    int getNbNodes() {
+        return (nbLatitudes + 1) * nbLongitudes;
+    }
+
+    /** Get the latitude of a row of nodes.
+     * @param i index of the row
+     * @return latitude of the row (rad)
+     */
+    double getLatitude(final int i) {
+        return i == nbLatitudes ? MathUtils.SEMI_PI : i * latitudeStep - MathUtils.SEMI_PI;
+    }
+
+    /** Get the longitudes of the nodes in a row.
+     * @return longitudes of the nodes in a row (rad)
+     */
+    double[] getLongitudes() {
+        final double[] longitudes = new double[nbLongitudes];
+        for (int j = 0; j < nbLongitudes; ++j) {
+            longitudes[j] = j * longitudeStep - FastMath.PI;
+        }
+        return longitudes;
+    }
+
+    /** Interpolate a value.
+     * <p>
+     * The value associated with node (i, j) is {@code data[(i * nbLongitudes + j) * stride + offset]}.
+     * </p>
+     * @param data values at grid nodes
+     * @param stride number of values per node
+     * @param offset offset of the interpolated value in node values
+     * @param latitude latitude of the point (rad), clamped to [-π/2, π/2]
+     * @param longitude longitude of the point (rad), normalized to [-π, π]
+     * @return interpolated value
+     */
+    double interpolate(final float[] data, final int stride, final int offset,
+                       final double latitude, final double longitude) {
+
+        // latitude row
+        final double x  = (FastMath.max(-MathUtils.SEMI_PI, FastMath.min(MathUtils.SEMI_PI, latitude)) +
+                           MathUtils.SEMI_PI) / latitudeStep;
+        final int    i  = FastMath.min((int) x, nbLatitudes - 1);
+        final double fx = x - i;
+
+        // longitude column, wrapping around
+        final double y  = (MathUtils.normalizeAngle(longitude, 0.0) + FastMath.PI) / longitudeStep;
+        final int    j0 = FastMath.max(0, FastMath.min((int) y, nbLongitudes - 1));
+        final int    j1 = j0 + 1 == nbLongitudes ? 0 : j0 + 1;
+        final double fy = y - j0;
+
+        // bilinear interpolation
+        final double v00 = data[(i * nbLongitudes + j0) * stride + offset];
+        final double v01 = data[(i * nbLongitudes + j1) * stride + offset];
+        final double v10 = data[((i + 1) * nbLongitudes + j0) * stride + offset];
+        final double v11 = data[((i + 1) * nbLongitudes + j1) * stride + offset];
+        return (1 - fx) * ((1 - fy) * v00 + fy * v01) + fx * ((1 - fy) * v10 + fy * v11);
+
+    }
+
+}
@@ -181,6 +181,20 @@ public class Geoid implements EarthShape {
         this.defaultDate = AbsoluteDate.ARBITRARY_EPOCH;
     }
 
+    /**
+     * Creates a geoid sharing the geopotential and reference ellipsoid of
+     * another geoid. This is intended for subclasses that override the
+     * undulation computation, such as {@link GriddedGeoid}.
+     *
+     * @param geoid geoid to share data with
+     * @since 14.0
+     */
+    protected Geoid(final Geoid geoid) {
+        this.referenceEllipsoid = geoid.referenceEllipsoid;
+        this.harmonics          = geoid.harmonics;
+        this.defaultDate        = geoid.defaultDate;
+    }
+
     @Override
     public Frame getBodyFrame() {
         // same as for reference ellipsoid.
@@ -235,6 +249,48 @@ public class Geoid implements EarthShape {
         return T / normalGravity;
     }
 
+    /**
+     * Gets the undulations of the geoid at several points sharing the same
+     * latitude. This gives the same results as calling {@link
+     * #getUndulation(double, double, AbsoluteDate)} for each point, but the
+     * Legendre functions recursion is performed only once for all points,
+     * which is much faster when computing undulation maps.
+     *
+     * @param geodeticLatitude geodetic latitude shared by all points, in
+     *                         radians.
+     * @param longitudes       longitudes of the points on the reference
+     *                         ellipsoid, in radians.
+     * @param date             of evaluation. Used for time varying geopotential
+     *                         fields.
+     * @return the undulations in m, positive means the geoid is higher than the
+     * ellipsoid.
+     * @since 14.0
+     */
+    public double[] getUndulations(final double geodeticLatitude,
+                                  final double[] longitudes,
+                                  final AbsoluteDate date) {
+        // reference ellipsoid
+        final ReferenceEllipsoid ellipsoid = this.getEllipsoid();
+
+        // all points on the parallel share the same distance to the polar axis
+        // and the same coordinate along this axis
+        final Vector3D position = ellipsoid.transform(new GeodeticPoint(geodeticLatitude, 0, 0));
+
+        // normal gravity is the same for all points, eq 15
+        final double normalGravity = ellipsoid.getNormalGravity(geodeticLatitude);
+
+        // calculate disturbing potentials, T, eq 30.
+        final double   mu = this.harmonics.getMu(date);
+        final double[] T  = this.harmonics.nonCentralPart(date, position.getX(), position.getZ(), longitudes, mu);
+
+        // calculate undulations, eq 30
+        final double[] undulations = new double[T.length];
+        for (int i = 0; i < T.length; ++i) {
+            undulations[i] = T[i] / normalGravity;
+        }
+        return undulations;
+    }
+
     @Override
     public ReferenceEllipsoid getEllipsoid() {
         return this.referenceEllipsoid;
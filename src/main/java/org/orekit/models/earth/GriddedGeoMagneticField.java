@@ -0,0 +1,326 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.utils.units.Unit;
+import org.orekit.utils.units.UnitsConverter;
+
+/** Geomagnetic field interpolated from a precomputed grid.
+ * <p>
+ * Evaluating a {@link GeoMagneticField} requires a full spherical harmonics
+ * expansion at each point, which is slow for field maps or for detectors
+ * evaluated many times. This class evaluates the field once on a regular
+ * latitude/longitude grid at a few heights (using {@link
+ * GeoMagneticField#calculateField(double, double[], double) row-wise evaluation})
+ * and then interpolates it. As it extends {@link GeoMagneticField}, it can be
+ * used wherever a field model is expected.
+ * </p>
+ * <p>
+ * Field components are interpolated bilinearly in latitude and longitude
+ * on each height layer. Between layers, the components multiplied by the
+ * dipole falloff factor ((R + h) / R)³ are interpolated linearly in height,
+ * where R is the mean Earth radius; the same factor is used to extrapolate
+ * the field below the lowest layer and above the highest layer.
+ * </p>
+ * <p>
+ * The grid is computed at the epoch of the sampled model, so it does not
+ * support {@link #transformModel(double) time transforms}. The grid can be
+ * {@link #write(OutputStream) written} in a compact binary form (single
+ * precision values) and {@link #read(Path) read} back later to avoid
+ * computing it again.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and hence thread-safe.
+ * </p>
+ * @since 14.0
+ */
+public class GriddedGeoMagneticField extends GeoMagneticField {
+
+    /** Magic number at start of binary form ("OREKMAGF"). */
+    private static final long MAGIC = 0x4F52454B4D414746L;
+
+    /** Binary form version. */
+    private static final int VERSION = 1;
+
+    /** Size of the fixed part of the header (magic, version, latitudes, longitudes, heights,
+     * name length, epoch, validity start, validity end). */
+    private static final int FIXED_HEADER_SIZE = 52;
+
+    /** Mean radius of IAU-66 ellipsoid, in m. */
+    private static final double MEAN_RADIUS = 6371200.0;
+
+    /** Number of field components per node. */
+    private static final int COMPONENTS = 3;
+
+    /** Grid geometry. */
+    private final GeodeticGrid grid;
+
+    /** Heights of the layers. */
+    private final double[] heights;
+
+    /** Scaled field components at grid nodes (nT), for each layer. */
+    private final float[][] layers;
+
+    /** Build a gridded field by sampling another field.
+     * @param field field to sample
+     * @param step desired grid step in latitude and longitude (rad), the actual
+     * steps are adjusted to cover the globe with an integer number of intervals
+     * @param heights heights of the layers above the WGS84 ellipsoid (m), in any order (duplicates are ignored)
+     */
+    public GriddedGeoMagneticField(final GeoMagneticField field, final double step, final double... heights) {
+        this(field.getModelName(), field.getEpoch(), field.validFrom(), field.validTo(),
+             GeodeticGrid.fromStep(step), sorted(heights), null);
+        final double[] longitudes = grid.getLongitudes();
+        final Unit nanoTesla = UnitsConverter.NANO_TESLAS_TO_TESLAS.getFrom();
+        for (int k = 0; k < this.heights.length; ++k) {
+            final double scale = nanoTesla.fromSI(scale(this.heights[k]));
+            for (int i = 0; i <= grid.getNbLatitudes(); ++i) {
+                final GeoMagneticElements[] row = field.calculateField(grid.getLatitude(i), longitudes, this.heights[k]);
+                for (int j = 0; j < row.length; ++j) {
+                    final Vector3D b     = row[j].getFieldVector();
+                    final int      index = (i * row.length + j) * COMPONENTS;
+                    layers[k][index]     = (float) (scale * b.getX());
+                    layers[k][index + 1] = (float) (scale * b.getY());
+                    layers[k][index + 2] = (float) (scale * b.getZ());
+                }
+            }
+        }
+    }
+
+    /** Private constructor.
+     * @param modelName the model name
+     * @param epoch the epoch of the model
+     * @param validityStart validity start of this model
+     * @param validityEnd validity end of this model
+     * @param grid grid geometry
+     * @param heights heights of the layers, sorted in increasing order
+     * @param layers scaled field components at grid nodes (if null, zero-filled arrays are allocated)
+     */
+    private GriddedGeoMagneticField(final String modelName, final double epoch,
+                                    final double validityStart, final double validityEnd,
+                                    final GeodeticGrid grid, final double[] heights, final float[][] layers) {
+        super(modelName, epoch, 0, 0, validityStart, validityEnd);
+        this.grid    = grid;
+        this.heights = heights;
+        this.layers  = layers == null ? new float[heights.length][COMPONENTS * grid.getNbNodes()] : layers;
+    }
+
+    /** Read a gridded field from a binary file.
+     * @param path path to the file
+     * @return read field
+     * @see #write(OutputStream)
+     */
+    public static GriddedGeoMagneticField read(final Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), path.toString());
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+    }
+
+    /** Read a gridded field from a buffer containing its binary form.
+     * @param buffer buffer containing the binary form, starting at its current position
+     * @param name name of the data (for error messages)
+     * @return read field
+     * @see #write(OutputStream)
+     */
+    public static GriddedGeoMagneticField read(final ByteBuffer buffer, final String name) {
+
+        final ByteBuffer data = buffer.slice();
+        if (data.remaining() < FIXED_HEADER_SIZE || data.getLong() != MAGIC) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+        }
+        final int version = data.getInt();
+        if (version != VERSION) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, version, name, VERSION);
+        }
+        final int    nbLatitudes   = data.getInt();
+        final int    nbLongitudes  = data.getInt();
+        final int    nbHeights     = data.getInt();
+        final int    nameLength    = data.getInt();
+        final double epoch         = data.getDouble();
+        final double validityStart = data.getDouble();
+        final double validityEnd   = data.getDouble();
+        if (nbLatitudes < 1 || nbLongitudes < 1 || nbHeights < 1 || nameLength < 0 ||
+            data.remaining() != nameLength + Double.BYTES * (long) nbHeights +
+                                Float.BYTES * (long) nbHeights * COMPONENTS * (nbLatitudes + 1) * nbLongitudes) {
+            throw new OrekitException(OrekitMessages.CORRUPTED_FILE, name);
+        }
+
+        final byte[] modelName = new byte[nameLength];
+        data.get(modelName);
+        final double[] heights = new double[nbHeights];
+        for (int k = 0; k < nbHeights; ++k) {
+            heights[k] = data.getDouble();
+        }
+        final GeodeticGrid grid   = new GeodeticGrid(nbLatitudes, nbLongitudes);
+        final float[][]    layers = new float[nbHeights][COMPONENTS * grid.getNbNodes()];
+        for (final float[] layer : layers) {
+            data.asFloatBuffer().get(layer);
+            data.position(data.position() + Float.BYTES * layer.length);
+        }
+
+        return new GriddedGeoMagneticField(new String(modelName, StandardCharsets.UTF_8),
+                                           epoch, validityStart, validityEnd, grid, heights, layers);
+
+    }
+
+    /** Write the binary form of the gridded field.
+     * <p>
+     * The stream is flushed but not closed.
+     * </p>
+     * @param out output stream
+     * @throws IOException if data cannot be written
+     * @see #read(Path)
+     * @see #read(ByteBuffer, String)
+     */
+    public void write(final OutputStream out) throws IOException {
+        final DataOutputStream dos       = new DataOutputStream(new BufferedOutputStream(out));
+        final byte[]           modelName = getModelName().getBytes(StandardCharsets.UTF_8);
+        dos.writeLong(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeInt(grid.getNbLatitudes());
+        dos.writeInt(grid.getNbLongitudes());
+        dos.writeInt(heights.length);
+        dos.writeInt(modelName.length);
+        dos.writeDouble(getEpoch());
+        dos.writeDouble(validFrom());
+        dos.writeDouble(validTo());
+        dos.write(modelName);
+        for (final double height : heights) {
+            dos.writeDouble(height);
+        }
+        for (final float[] layer : layers) {
+            for (final float component : layer) {
+                dos.writeFloat(component);
+            }
+        }
+        dos.flush();
+    }
+
+    /** Get the latitude step of the grid.
+     * @return latitude step of the grid (rad)
+     */
+    public double getLatitudeStep() {
+        return grid.getLatitudeStep();
+    }
+
+    /** Get the longitude step of the grid.
+     * @return longitude step of the grid (rad)
+     */
+    public double getLongitudeStep() {
+        return grid.getLongitudeStep();
+    }
+
+    /** Get the heights of the layers.
+     * @return heights of the layers (m), sorted in increasing order
+     */
+    public double[] getHeights() {
+        return heights.clone();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The field is interpolated from the grid.
+     * </p>
+     */
+    @Override
+    public GeoMagneticElements calculateField(final double latitude, final double longitude, final double height) {
+
+        // select the layers surrounding the height
+        int k = 0;
+        while (k < heights.length - 2 && height > heights[k + 1]) {
+            ++k;
+        }
+        final double t = heights.length == 1 ?
+                         0.0 :
+                         FastMath.max(0.0, FastMath.min(1.0, (height - heights[k]) / (heights[k + 1] - heights[k])));
+
+        final double[] b = new double[COMPONENTS];
+        for (int c = 0; c < COMPONENTS; ++c) {
+            b[c] = grid.interpolate(layers[k], COMPONENTS, c, latitude, longitude);
+            if (t > 0) {
+                b[c] += t * (grid.interpolate(layers[k + 1], COMPONENTS, c, latitude, longitude) - b[c]);
+            }
+        }
+
+        final double scale = scale(height);
+        return new GeoMagneticElements(new Vector3D(b[0] / scale, b[1] / scale, b[2] / scale));
+
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The field is interpolated from the grid.
+     * </p>
+     */
+    @Override
+    public GeoMagneticElements[] calculateField(final double latitude, final double[] longitudes, final double height) {
+        final GeoMagneticElements[] elements = new GeoMagneticElements[longitudes.length];
+        for (int i = 0; i < longitudes.length; ++i) {
+            elements[i] = calculateField(latitude, longitudes[i], height);
+        }
+        return elements;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * Gridded fields do not support time transforms, this method always throws an exception.
+     * </p>
+     */
+    @Override
+    public GeoMagneticField transformModel(final GeoMagneticField otherModel, final double year) {
+        throw new OrekitException(OrekitMessages.UNSUPPORTED_TIME_TRANSFORM, getModelName(), String.valueOf(getEpoch()));
+    }
+
+    /** Compute the dipole falloff factor.
+     * @param height height above ellipsoid (m)
+     * @return ((R + h) / R)³
+     */
+    private static double scale(final double height) {
+        final double ratio = (MEAN_RADIUS + height) / MEAN_RADIUS;
+        return ratio * ratio * ratio;
+    }
+
+    /** Sort heights.
+     * @param heights heights of the layers
+     * @return sorted copy of the heights, without duplicates
+     */
+    private static double[] sorted(final double[] heights) {
+        if (heights.length == 0) {
+            throw new OrekitException(OrekitMessages.NOT_ENOUGH_DATA, 0);
+        }
+        return Arrays.stream(heights).sorted().distinct().toArray();
+    }
+
+}
@@ -0,0 +1,219 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+
+/** Geoid with undulations interpolated from a precomputed grid.
+ * <p>
+ * Evaluating the undulation of a {@link Geoid} requires a full spherical
+ * harmonics expansion, which is slow for high degree geopotentials when
+ * many points are needed, for example for Digital Elevation Model
+ * correction. This class evaluates the undulations once on a regular
+ * latitude/longitude grid (using {@link Geoid#getUndulations(double, double[],
+ * AbsoluteDate) row-wise evaluation}) and then interpolates them bilinearly.
+ * As it extends {@link Geoid}, it can be used wherever a geoid is expected,
+ * all geodetic transforms using the interpolated undulations.
+ * </p>
+ * <p>
+ * The grid is computed for one date, so time variations of the geopotential
+ * are not taken into account and the date arguments are ignored. The grid can
+ * be {@link #write(OutputStream) written} in a compact binary form (single
+ * precision values, which is largely sufficient for undulations) and {@link
+ * #read(Path, Geoid) read} back later to avoid computing it again.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and hence thread-safe.
+ * </p>
+ * @since 14.0
+ */
+public class GriddedGeoid extends Geoid {
+
+    /** Magic number at start of binary form ("OREKGEOI"). */
+    private static final long MAGIC = 0x4F52454B47454F49L;
+
+    /** Binary form version. */
+    private static final int VERSION = 1;
+
+    /** Size of the header (magic, version, latitudes, longitudes, equatorial radius, flattening). */
+    private static final int HEADER_SIZE = 36;
+
+    /** Grid geometry. */
+    private final GeodeticGrid grid;
+
+    /** Undulations at grid nodes. */
+    private final float[] undulations;
+
+    /** Build a gridded geoid by sampling another geoid.
+     * @param geoid geoid to sample
+     * @param step desired grid step in latitude and longitude (rad), the actual
+     * steps are adjusted to cover the globe with an integer number of intervals
+     * @param date date at which undulations are computed
+     */
+    public GriddedGeoid(final Geoid geoid, final double step, final AbsoluteDate date) {
+        this(geoid, GeodeticGrid.fromStep(step), null);
+        final double[] longitudes = grid.getLongitudes();
+        for (int i = 0; i <= grid.getNbLatitudes(); ++i) {
+            final double[] row = geoid.getUndulations(grid.getLatitude(i), longitudes, date);
+            for (int j = 0; j < row.length; ++j) {
+                undulations[i * row.length + j] = (float) row[j];
+            }
+        }
+    }
+
+    /** Private constructor.
+     * @param geoid geoid to share data with
+     * @param grid grid geometry
+     * @param undulations undulations at grid nodes (if null, a zero-filled array is allocated)
+     */
+    private GriddedGeoid(final Geoid geoid, final GeodeticGrid grid, final float[] undulations) {
+        super(geoid);
+        this.grid        = grid;
+        this.undulations = undulations == null ? new float[grid.getNbNodes()] : undulations;
+    }
+
+    /** Read a gridded geoid from a binary file.
+     * @param path path to the file
+     * @param geoid geoid providing the reference ellipsoid, must match the ellipsoid
+     * of the geoid used when the grid was computed
+     * @return read geoid
+     * @see #write(OutputStream)
+     */
+    public static GriddedGeoid read(final Path path, final Geoid geoid) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), path.toString(), geoid);
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+    }
+
+    /** Read a gridded geoid from a buffer containing its binary form.
+     * @param buffer buffer containing the binary form, starting at its current position
+     * @param name name of the data (for error messages)
+     * @param geoid geoid providing the reference ellipsoid, must match the ellipsoid
+     * of the geoid used when the grid was computed
+     * @return read geoid
+     * @see #write(OutputStream)
+     */
+    public static GriddedGeoid read(final ByteBuffer buffer, final String name, final Geoid geoid) {
+
+        final ByteBuffer data = buffer.slice();
+        if (data.remaining() < HEADER_SIZE || data.getLong() != MAGIC) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+        }
+        final int version = data.getInt();
+        if (version != VERSION) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, version, name, VERSION);
+        }
+        final int    nbLatitudes  = data.getInt();
+        final int    nbLongitudes = data.getInt();
+        final double ae           = data.getDouble();
+        final double f            = data.getDouble();
+        if (nbLatitudes < 1 || nbLongitudes < 1 ||
+            data.remaining() != Float.BYTES * (long) (nbLatitudes + 1) * nbLongitudes) {
+            throw new OrekitException(OrekitMessages.CORRUPTED_FILE, name);
+        }
+
+        // check ellipsoid
+        final ReferenceEllipsoid ellipsoid = geoid.getEllipsoid();
+        if (Double.compare(ae, ellipsoid.getEquatorialRadius()) != 0 ||
+            Double.compare(f, ellipsoid.getFlattening()) != 0) {
+            throw new OrekitException(OrekitMessages.GRID_ELLIPSOID_MISMATCH, name, ae, f,
+                                      ellipsoid.getEquatorialRadius(), ellipsoid.getFlattening());
+        }
+
+        final GeodeticGrid grid        = new GeodeticGrid(nbLatitudes, nbLongitudes);
+        final float[]      undulations = new float[grid.getNbNodes()];
+        data.asFloatBuffer().get(undulations);
+        return new GriddedGeoid(geoid, grid, undulations);
+
+    }
+
+    /** Write the binary form of the gridded geoid.
+     * <p>
+     * The stream is flushed but not closed.
+     * </p>
+     * @param out output stream
+     * @throws IOException if data cannot be written
+     * @see #read(Path, Geoid)
+     * @see #read(ByteBuffer, String, Geoid)
+     */
+    public void write(final OutputStream out) throws IOException {
+        final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out));
+        dos.writeLong(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeInt(grid.getNbLatitudes());
+        dos.writeInt(grid.getNbLongitudes());
+        dos.writeDouble(getEllipsoid().getEquatorialRadius());
+        dos.writeDouble(getEllipsoid().getFlattening());
+        for (final float undulation : undulations) {
+            dos.writeFloat(undulation);
+        }
+        dos.flush();
+    }
+
+    /** Get the latitude step of the grid.
+     * @return latitude step of the grid (rad)
+     */
+    public double getLatitudeStep() {
+        return grid.getLatitudeStep();
+    }
+
+    /** Get the longitude step of the grid.
+     * @return longitude step of the grid (rad)
+     */
+    public double getLongitudeStep() {
+        return grid.getLongitudeStep();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The undulation is interpolated from the grid, the date is ignored.
+     * </p>
+     */
+    @Override
+    public double getUndulation(final double geodeticLatitude, final double longitude, final AbsoluteDate date) {
+        return grid.interpolate(undulations, 1, 0, geodeticLatitude, longitude);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The undulations are interpolated from the grid, the date is ignored.
+     * </p>
+     */
+    @Override
+    public double[] getUndulations(final double geodeticLatitude, final double[] longitudes, final AbsoluteDate date) {
+        final double[] interpolated = new double[longitudes.length];
+        for (int i = 0; i < longitudes.length; ++i) {
+            interpolated[i] = grid.interpolate(undulations, 1, 0, geodeticLatitude, longitudes[i]);
+        }
+        return interpolated;
+    }
+
+}
@@ -30,6 +30,7 @@ import org.orekit.bodies.GeodeticPoint;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.frames.Frame;
+import org.orekit.frames.StaticTransform;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.DateTimeComponents;
 import org.orekit.time.FieldAbsoluteDate;
@@ -172,6 +173,41 @@ public abstract class AbstractJacchiaBowmanModel extends AbstractSunInfluencedAt
         return computeDensity(date, sunInBody.getLongitude(), sunInBody.getLatitude(), inBody.getLongitude(), inBody.getLatitude(), inBody.getAltitude());
     }
 
+    /** {@inheritDoc}
+     * <p>
+     * The date checks, Sun position, frame transform and solar activity data
+     * depending only on date are computed only once for all positions.
+     * </p>
+     */
+    @Override
+    public double[] getDensities(final AbsoluteDate date, final double[] positions, final Frame frame) {
+
+        final double[] densities = new double[Atmosphere.checkPackedPositions(positions)];
+
+        // Verify availability of data
+        if (date.compareTo(maxDataEpoch) > 0 || date.compareTo(minDataEpoch) < 0) {
+            throw new OrekitException(OrekitMessages.NO_SOLAR_ACTIVITY_AT_DATE, date, minDataEpoch, maxDataEpoch);
+        }
+
+        // data shared by all positions
+        final Frame           ecef      = getFrame();
+        final StaticTransform toBody    = frame.getStaticTransformTo(ecef, date);
+        final Vector3D        sunPos    = getSunPosition(date, ecef);
+        final GeodeticPoint   sunInBody = earth.transform(sunPos, ecef, date);
+        final EpochData       epochData = new EpochData(date);
+
+        for (int i = 0; i < densities.length; ++i) {
+            final Vector3D      pBody  =
+                toBody.transformPosition(new Vector3D(positions[3 * i], positions[3 * i + 1], positions[3 * i + 2]));
+            final GeodeticPoint inBody = earth.transform(pBody, ecef, date);
+            densities[i] = computeDensity(date, epochData, sunInBody.getLongitude(), sunInBody.getLatitude(),
+                                          inBody.getLongitude(), inBody.getLatitude(), inBody.getAltitude());
+        }
+
+        return densities;
+
+    }
+
     /** {@inheritDoc}*/
     @Override
     public <T extends CalculusFieldElement<T>> T getDensity(final FieldAbsoluteDate<T> date, final FieldVector3D<T> position, final Frame frame) {
@@ -212,19 +248,33 @@ public abstract class AbstractJacchiaBowmanModel extends AbstractSunInfluencedAt
     protected double computeDensity(final AbsoluteDate date,
                                     final double sunRA, final double sunDecli,
                                     final double satLon, final double satLat, final double satAlt) {
+        return computeDensity(date, new EpochData(date), sunRA, sunDecli, satLon, satLat, satAlt);
+    }
+
+    /** Computes the local density with initial entries.
+     * @param date computation epoch
+     * @param epochData data depending only on computation epoch
+     * @param sunRA Right Ascension of Sun (radians)
+     * @param sunDecli Declination of Sun (radians)
+     * @param satLon Right Ascension of position (radians)
+     * @param satLat Geocentric latitude of position (radians)
+     * @param satAlt Height of position (m)
+     * @return total mass-Density at input position (kg/m³)
+     */
+    private double computeDensity(final AbsoluteDate date, final EpochData epochData,
+                                  final double sunRA, final double sunDecli,
+                                  final double satLon, final double satLat, final double satAlt) {
 
         if (satAlt < ALT_MIN) {
             throw new OrekitException(OrekitMessages.ALTITUDE_BELOW_ALLOWED_THRESHOLD, satAlt, ALT_MIN);
         }
         final double altKm = satAlt / 1000.0;
 
-        final DateTimeComponents dt = date.getComponents(utc);
-        final double dateMJD = dt.getDate().getMJD() +
-                               dt.getTime().getSecondsInLocalDay() / Constants.JULIAN_DAY;
+        final double dateMJD = epochData.dateMJD;
 
         // Equation (14)
         // Temperature equation obtained using numerous satellites for the years from 1996 through 2004 when all new solar indices were available
-        final double tsubc = computeTc(date);
+        final double tsubc = epochData.tsubc;
 
         // Equation (15)
         final double eta = 0.5 * FastMath.abs(satLat - sunDecli);
@@ -239,7 +289,7 @@ public abstract class AbstractJacchiaBowmanModel extends AbstractSunInfluencedAt
         final double tsubl = tSubL(eta, theta, tau, tsubc);
 
         // Compute correction to dTc for local solar time and lat correction
-        final double dtclst = dTc(getF10(date), solarTime, satLat, altKm);
+        final double dtclst = dTc(epochData.f10, solarTime, satLat, altKm);
 
         // Compute the local exospheric temperature.
         final double tInf = computeTInf(date, tsubl, dtclst);
@@ -395,7 +445,7 @@ public abstract class AbstractJacchiaBowmanModel extends AbstractSunInfluencedAt
         rho = sumnm / AVOGAD;
 
         // Compute the high altitude exospheric density correction factor
-        final double fex = densityCorrectionFactor(altKm, getF10B(date));
+        final double fex = densityCorrectionFactor(altKm, epochData.f10B);
 
         // Apply the exospheric density correction factor.
         rho *= fex;
@@ -1256,4 +1306,33 @@ public abstract class AbstractJacchiaBowmanModel extends AbstractSunInfluencedAt
                add(BDT_SUB[12]);
     }
 
+    /** Model data depending only on date. */
+    private class EpochData {
+
+        /** Date and time, in modified julian days and fraction. */
+        private final double dateMJD;
+
+        /** Solar activity temperature. */
+        private final double tsubc;
+
+        /** 10.7-cm Solar flux. */
+        private final double f10;
+
+        /** 10.7-cm Solar Flux, averaged 81-day centered on the input time. */
+        private final double f10B;
+
+        /** Simple constructor.
+         * @param date computation epoch
+         */
+        EpochData(final AbsoluteDate date) {
+            final DateTimeComponents dt = date.getComponents(utc);
+            this.dateMJD = dt.getDate().getMJD() +
+                           dt.getTime().getSecondsInLocalDay() / Constants.JULIAN_DAY;
+            this.tsubc   = computeTc(date);
+            this.f10     = getF10(date);
+            this.f10B    = getF10B(date);
+        }
+
+    }
+
 }
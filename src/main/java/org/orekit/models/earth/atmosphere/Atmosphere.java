@@ -17,8 +17,10 @@
 package org.orekit.models.earth.atmosphere;
 
 import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.errors.OrekitException;
 import org.orekit.frames.FieldKinematicTransform;
 import org.orekit.frames.Frame;
 import org.orekit.frames.KinematicTransform;
@@ -56,6 +58,32 @@ public interface Atmosphere {
      */
     <T extends CalculusFieldElement<T>> T getDensity(FieldAbsoluteDate<T> date, FieldVector3D<T> position, Frame frame);
 
+    /** Get the local densities at several positions, all at the same date.
+     * <p>
+     * Positions are packed in a single array as x₀, y₀, z₀, x₁, y₁, z₁…
+     * This is intended for constellation-wide computations, where many
+     * satellites are considered at the same date. The default implementation
+     * calls {@link #getDensity(AbsoluteDate, Vector3D, Frame)} for each position.
+     * Implementations are encouraged to override it in order to share the
+     * computations that depend only on date (Sun position, space weather
+     * data, frames transforms…) between all positions.
+     * </p>
+     * @param date current date
+     * @param positions positions in frame, packed as x, y, z triplets (m)
+     * @param frame the frame in which are defined the positions
+     * @return local densities (kg/m³), one for each position
+     * @since 14.0
+     */
+    default double[] getDensities(final AbsoluteDate date, final double[] positions, final Frame frame) {
+        final double[] densities = new double[checkPackedPositions(positions)];
+        for (int i = 0; i < densities.length; ++i) {
+            densities[i] = getDensity(date,
+                                      new Vector3D(positions[3 * i], positions[3 * i + 1], positions[3 * i + 2]),
+                                      frame);
+        }
+        return densities;
+    }
+
     /** Get the inertial velocity of atmosphere molecules.
      * <p>By default, atmosphere is supposed to have a null
      * velocity in the central body frame.</p>
@@ -91,4 +119,17 @@ public interface Atmosphere {
         return pvFrame.getVelocity();
     }
 
+    /** Check packed positions array.
+     * @param positions positions packed as x, y, z triplets
+     * @return number of positions
+     * @since 14.0
+     */
+    static int checkPackedPositions(final double[] positions) {
+        final int n = positions.length / 3;
+        if (3 * n != positions.length) {
+            throw new OrekitException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, positions.length, 3 * (n + 1));
+        }
+        return n;
+    }
+
 }
@@ -32,6 +32,7 @@ import org.orekit.data.DataContext;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.frames.Frame;
+import org.orekit.frames.StaticTransform;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.time.TimeScale;
@@ -352,6 +353,55 @@ public class DTM2000 extends AbstractSunInfluencedAtmosphere {
 
     }
 
+    /** {@inheritDoc}
+     * <p>
+     * The date checks, day of year, Sun position, frame transform and
+     * solar activity data are computed only once for all positions.
+     * </p>
+     */
+    @Override
+    public double[] getDensities(final AbsoluteDate date, final double[] positions, final Frame frame) {
+
+        final double[] densities = new double[Atmosphere.checkPackedPositions(positions)];
+
+        // check if data are available :
+        if (date.compareTo(inputParams.getMaxDate()) > 0 ||
+            date.compareTo(inputParams.getMinDate()) < 0) {
+            throw new OrekitException(OrekitMessages.NO_SOLAR_ACTIVITY_AT_DATE,
+                                      date, inputParams.getMinDate(), inputParams.getMaxDate());
+        }
+
+        // data shared by all positions
+        final int             day    = date.getComponents(utc).getDate().getDayOfYear();
+        final Frame           ecef   = earth.getBodyFrame();
+        final StaticTransform toEcef = frame.getStaticTransformTo(ecef, date);
+        final Vector3D        sunPos = getSunPosition(date, ecef);
+        final double          f      = inputParams.getInstantFlux(date);
+        final double          fbar   = inputParams.getMeanFlux(date);
+        final double          akp3   = inputParams.getThreeHourlyKP(date);
+        final double          akp24  = inputParams.get24HoursKp(date);
+
+        for (int i = 0; i < densities.length; ++i) {
+
+            // compute geodetic position
+            final Vector3D pEcef =
+                toEcef.transformPosition(new Vector3D(positions[3 * i], positions[3 * i + 1], positions[3 * i + 2]));
+            final GeodeticPoint inBody = earth.transform(pEcef, ecef, date);
+
+            // compute local solar time
+            final double hl = FastMath.PI + FastMath.atan2(
+                    sunPos.getX() * pEcef.getY() - sunPos.getY() * pEcef.getX(),
+                    sunPos.getX() * pEcef.getX() + sunPos.getY() * pEcef.getY());
+
+            densities[i] = getDensity(day, inBody.getAltitude(), inBody.getLongitude(), inBody.getLatitude(),
+                                      hl, f, fbar, akp3, akp24);
+
+        }
+
+        return densities;
+
+    }
+
     /** {@inheritDoc} */
     @Override
     public <T extends CalculusFieldElement<T>> T
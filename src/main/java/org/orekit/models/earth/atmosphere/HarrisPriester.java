@@ -26,6 +26,7 @@ import org.orekit.bodies.OneAxisEllipsoid;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.frames.Frame;
+import org.orekit.frames.StaticTransform;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.utils.ExtendedPositionProvider;
@@ -270,6 +271,26 @@ public class HarrisPriester extends AbstractSunInfluencedAtmosphere {
      * @return the local density (kg/m³)
      */
     public double getDensity(final Vector3D sunInEarth, final Vector3D posInEarth) {
+        return density(bulgeDirection(sunInEarth), posInEarth);
+    }
+
+    /** Get the diurnal bulge apex direction.
+     * @param sunInEarth position of the Sun in Earth frame (m)
+     * @return normalized diurnal bulge apex direction
+     */
+    private Vector3D bulgeDirection(final Vector3D sunInEarth) {
+        final Vector3D sunDir = sunInEarth.normalize();
+        return new Vector3D(sunDir.getX() * SCLAG.cos() - sunDir.getY() * SCLAG.sin(),
+                            sunDir.getX() * SCLAG.sin() + sunDir.getY() * SCLAG.cos(),
+                            sunDir.getZ()).normalize();
+    }
+
+    /** Get the local density.
+     * @param bulDir normalized diurnal bulge apex direction
+     * @param posInEarth target position in Earth frame (m)
+     * @return the local density (kg/m³)
+     */
+    private double density(final Vector3D bulDir, final Vector3D posInEarth) {
 
         final double posAlt = getHeight(posInEarth);
         // Check for height boundaries
@@ -280,14 +301,8 @@ public class HarrisPriester extends AbstractSunInfluencedAtmosphere {
             return 0.;
         }
 
-        // Diurnal bulge apex direction
-        final Vector3D sunDir = sunInEarth.normalize();
-        final Vector3D bulDir = new Vector3D(sunDir.getX() * SCLAG.cos() - sunDir.getY() * SCLAG.sin(),
-                                             sunDir.getX() * SCLAG.sin() + sunDir.getY() * SCLAG.cos(),
-                                             sunDir.getZ());
-
         // Cosine of angle Psi between the diurnal bulge apex and the satellite
-        final double cosPsi = bulDir.normalize().dotProduct(posInEarth.normalize());
+        final double cosPsi = bulDir.dotProduct(posInEarth.normalize());
         // (1 + cos(Psi))/2 = cos²(Psi/2)
         final double c2Psi2 = (1. + cosPsi) / 2.;
         final double cPsi2  = FastMath.sqrt(c2Psi2);
@@ -387,6 +402,29 @@ public class HarrisPriester extends AbstractSunInfluencedAtmosphere {
         return getDensity(sunInEarth, posInEarth);
     }
 
+    /** {@inheritDoc}
+     * <p>
+     * The Sun position, the diurnal bulge direction and the frame transform
+     * are computed only once for all positions.
+     * </p>
+     */
+    @Override
+    public double[] getDensities(final AbsoluteDate date, final double[] positions, final Frame frame) {
+
+        final double[]        densities = new double[Atmosphere.checkPackedPositions(positions)];
+        final Vector3D        bulDir    = bulgeDirection(getSunPosition(date, earth.getBodyFrame()));
+        final StaticTransform toEarth   = frame.getStaticTransformTo(earth.getBodyFrame(), date);
+
+        for (int i = 0; i < densities.length; ++i) {
+            final Vector3D posInEarth =
+                toEarth.transformPosition(new Vector3D(positions[3 * i], positions[3 * i + 1], positions[3 * i + 2]));
+            densities[i] = density(bulDir, posInEarth);
+        }
+
+        return densities;
+
+    }
+
     /** Get the local density at some position.
      * @param date current date
      * @param position current position
@@ -33,6 +33,7 @@ import org.orekit.data.DataContext;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.frames.Frame;
+import org.orekit.frames.StaticTransform;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.DateTimeComponents;
 import org.orekit.time.FieldAbsoluteDate;
@@ -1178,6 +1179,62 @@ public class NRLMSISE00 extends AbstractSunInfluencedAtmosphere {
 
     }
 
+    /** {@inheritDoc}
+     * <p>
+     * The date checks, date components, Sun position, frame transform and
+     * solar activity data are computed only once for all positions.
+     * </p>
+     */
+    @Override
+    public double[] getDensities(final AbsoluteDate date, final double[] positions, final Frame frame) {
+
+        final double[] densities = new double[Atmosphere.checkPackedPositions(positions)];
+
+        // check if data are available :
+        if (!date.isBetweenOrEqualTo(inputParams.getMinDate(), inputParams.getMaxDate())) {
+            throw new OrekitException(OrekitMessages.NO_SOLAR_ACTIVITY_AT_DATE,
+                                      date, inputParams.getMinDate(), inputParams.getMaxDate());
+        }
+
+        // data shared by all positions
+        final DateTimeComponents dtc       = date.getComponents(ut);
+        final int                doy       = dtc.getDate().getDayOfYear();
+        final double             sec       = dtc.getTime().getSecondsInLocalDay();
+        final Frame              bodyFrame = earth.getBodyFrame();
+        final StaticTransform    toBody    = frame.getStaticTransformTo(bodyFrame, date);
+        final Vector3D           sunPos    = getSunPosition(date, frame);
+        final double             f107a     = inputParams.getAverageFlux(date);
+        final double             f107      = inputParams.getDailyFlux(date);
+        final double[]           ap        = inputParams.getAp(date);
+
+        for (int i = 0; i < densities.length; ++i) {
+
+            final double x = positions[3 * i];
+            final double y = positions[3 * i + 1];
+
+            // compute geodetic position (km and °)
+            final GeodeticPoint inBody = earth.transform(toBody.transformPosition(new Vector3D(x, y, positions[3 * i + 2])),
+                                                         bodyFrame, date);
+            final double alt = inBody.getAltitude() / 1000.;
+            final double lon = FastMath.toDegrees(inBody.getLongitude());
+            final double lat = FastMath.toDegrees(inBody.getLatitude());
+
+            // compute local solar time
+            final double lst = (FastMath.PI + FastMath.atan2(sunPos.getX() * y - sunPos.getY() * x,
+                                                             sunPos.getX() * x + sunPos.getY() * y)) *
+                               12. / FastMath.PI;
+
+            // compute density
+            final Output out = new Output(doy, sec, lat, lon, lst, f107a, f107, ap);
+            out.gtd7d(alt);
+            densities[i] = out.getDensity(TOTAL_MASS);
+
+        }
+
+        return densities;
+
+    }
+
     /** {@inheritDoc} */
     @Override
     public <T extends CalculusFieldElement<T>> T getDensity(final FieldAbsoluteDate<T> date,
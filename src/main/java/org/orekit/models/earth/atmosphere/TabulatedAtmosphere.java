@@ -0,0 +1,491 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth.atmosphere;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.utils.ExtendedPositionProvider;
+
+/** Atmosphere decorator interpolating density in lazily filled tables.
+ * <p>
+ * Complex atmosphere models like {@link NRLMSISE00}, {@link DTM2000} or
+ * {@link JB2008} are expensive to evaluate, and they are called at each
+ * integrator stage by drag force models. This decorator replaces most of
+ * these calls by interpolation in tables indexed by altitude, geodetic
+ * latitude and local solar time. Time is split in slots with a fixed
+ * refresh period (typically the sampling of the space weather data, for
+ * example 3 hours for Kp indices), each slot having its own table computed
+ * with the underlying model at the slot central date. Within one slot,
+ * density is therefore assumed to depend on time only through local solar
+ * time.
+ * </p>
+ * <p>
+ * Slots start at a user-supplied reference date. For atmosphere models driven
+ * by space weather data, this reference should be aligned with the data bins
+ * (for example a UTC midnight), and the refresh period should divide the bins
+ * duration. Otherwise a slot may straddle two bins, and queries near the end
+ * of a bin would silently use the indices of the neighboring bin, an error
+ * which is not detected by the tolerance check at cells centers. As slots are
+ * counted in physical seconds, leap seconds introduced after the reference
+ * date shift the slots by one second with respect to UTC bins, which is
+ * harmless as tables are evaluated at slots centers.
+ * </p>
+ * <p>
+ * Tables are filled lazily: a node is computed by the underlying model only
+ * the first time an interpolation needs it. The first time a cell is used,
+ * the underlying model is also evaluated at the cell center and compared with
+ * the interpolated value. If the relative error exceeds the configured
+ * tolerance, the cell is flagged and all points falling in it are evaluated
+ * directly by the underlying model. Points outside of the tabulated altitude
+ * range are also evaluated directly. Logarithm of density is interpolated
+ * trilinearly, which is consistent with the exponential decrease of density
+ * with altitude.
+ * </p>
+ * <p>
+ * Memory is bounded by the maximum number of slots kept in cache, the least
+ * recently used slots being evicted first. Each slot uses 8 bytes per node
+ * and 4 bytes per cell. Instances are thread-safe and intended to be shared
+ * between all propagators of a constellation, so satellites on the same shell
+ * reuse the same tables.
+ * </p>
+ * <p>
+ * The field version of {@link #getDensity(FieldAbsoluteDate, FieldVector3D, Frame)
+ * getDensity} is not tabulated, it delegates to the underlying model so
+ * derivatives are preserved.
+ * </p>
+ * @since 14.0
+ */
+public class TabulatedAtmosphere implements Atmosphere {
+
+    /** Marker for nodes not computed yet. */
+    private static final long NOT_COMPUTED = Double.doubleToRawLongBits(Double.NaN);
+
+    /** Status for cells not checked yet. */
+    private static final int UNCHECKED = 0;
+
+    /** Status for cells with interpolation error below tolerance. */
+    private static final int VALID = 1;
+
+    /** Status for cells with interpolation error above tolerance. */
+    private static final int INVALID = 2;
+
+    /** Underlying atmosphere model. */
+    private final Atmosphere atmosphere;
+
+    /** Earth shape. */
+    private final OneAxisEllipsoid earth;
+
+    /** Sun position provider. */
+    private final ExtendedPositionProvider sun;
+
+    /** Minimum tabulated altitude. */
+    private final double minAltitude;
+
+    /** Altitude step. */
+    private final double altitudeStep;
+
+    /** Number of altitude cells. */
+    private final int altitudeCells;
+
+    /** Latitude step. */
+    private final double latitudeStep;
+
+    /** Number of latitude cells. */
+    private final int latitudeCells;
+
+    /** Local solar time step (rad). */
+    private final double localTimeStep;
+
+    /** Number of local solar time cells. */
+    private final int localTimeCells;
+
+    /** Reference date for time slots. */
+    private final AbsoluteDate slotsReference;
+
+    /** Refresh period. */
+    private final double refreshPeriod;
+
+    /** Relative tolerance on density. */
+    private final double tolerance;
+
+    /** Cached slots, in least recently used order. */
+    private final Map<Long, Slot> slots;
+
+    /** Number of densities obtained by interpolation. */
+    private final LongAdder interpolated;
+
+    /** Number of densities evaluated directly by the underlying model. */
+    private final LongAdder direct;
+
+    /** Number of underlying model evaluations for filling tables. */
+    private final LongAdder nodeEvaluations;
+
+    /** Number of evicted slots. */
+    private final LongAdder evictions;
+
+    /** Simple constructor.
+     * <p>
+     * The steps are adjusted so that the tabulated ranges contain an integer
+     * number of cells.
+     * </p>
+     * @param atmosphere underlying atmosphere model
+     * @param earth Earth shape
+     * @param sun Sun position provider
+     * @param minAltitude minimum tabulated altitude (m)
+     * @param maxAltitude maximum tabulated altitude (m)
+     * @param altitudeStep maximum altitude step (m)
+     * @param latitudeStep maximum latitude step (rad)
+     * @param localTimeStep maximum local solar time step (rad)
+     * @param slotsReference reference date for time slots, slots start at
+     * {@code slotsReference + n * refreshPeriod}; it should be aligned with the
+     * space weather data bins of the underlying model, for example a UTC midnight
+     * @param refreshPeriod duration of time slots (s)
+     * @param tolerance relative tolerance on density
+     * @param maxSlots maximum number of time slots kept in cache
+     */
+    public TabulatedAtmosphere(final Atmosphere atmosphere, final OneAxisEllipsoid earth,
+                               final ExtendedPositionProvider sun,
+                               final double minAltitude, final double maxAltitude,
+                               final double altitudeStep, final double latitudeStep,
+                               final double localTimeStep, final AbsoluteDate slotsReference,
+                               final double refreshPeriod, final double tolerance, final int maxSlots) {
+
+        checkPositive(altitudeStep);
+        checkPositive(latitudeStep);
+        checkPositive(localTimeStep);
+        checkPositive(refreshPeriod);
+        checkPositive(tolerance);
+        checkPositive(maxSlots);
+        if (maxAltitude <= minAltitude) {
+            throw new OrekitException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED,
+                                      maxAltitude, minAltitude);
+        }
+
+        this.atmosphere      = atmosphere;
+        this.earth           = earth;
+        this.sun             = sun;
+        this.minAltitude     = minAltitude;
+        this.altitudeCells   = (int) FastMath.ceil((maxAltitude - minAltitude) / altitudeStep);
+        this.altitudeStep    = (maxAltitude - minAltitude) / altitudeCells;
+        this.latitudeCells   = (int) FastMath.ceil(FastMath.PI / latitudeStep);
+        this.latitudeStep    = FastMath.PI / latitudeCells;
+        this.localTimeCells  = (int) FastMath.ceil(MathUtils.TWO_PI / localTimeStep);
+        this.localTimeStep   = MathUtils.TWO_PI / localTimeCells;
+        this.slotsReference  = slotsReference;
+        this.refreshPeriod   = refreshPeriod;
+        this.tolerance       = tolerance;
+        this.interpolated    = new LongAdder();
+        this.direct          = new LongAdder();
+        this.nodeEvaluations = new LongAdder();
+        this.evictions       = new LongAdder();
+        this.slots           = new LinkedHashMap<Long, Slot>(16, 0.75f, true) {
+
+            /** Serializable UID. */
+            private static final long serialVersionUID = 20261018L;
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Slot> eldest) {
+                if (size() > maxSlots) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+
+        };
+
+    }
+
+    /** Check a parameter is strictly positive.
+     * @param value parameter value
+     */
+    private static void checkPositive(final double value) {
+        if (!(value > 0)) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, value);
+        }
+    }
+
+    /** Get the underlying atmosphere model.
+     * @return underlying atmosphere model
+     */
+    public Atmosphere getAtmosphere() {
+        return atmosphere;
+    }
+
+    /** Get the number of densities obtained by interpolation.
+     * @return number of densities obtained by interpolation
+     */
+    public long getInterpolatedEvaluations() {
+        return interpolated.sum();
+    }
+
+    /** Get the number of densities evaluated directly by the underlying model.
+     * <p>
+     * This includes points outside of tabulated altitude range and points
+     * in cells where interpolation error exceeds tolerance, but not the
+     * evaluations used for filling tables.
+     * </p>
+     * @return number of densities evaluated directly by the underlying model
+     * @see #getNodeEvaluations()
+     */
+    public long getDirectEvaluations() {
+        return direct.sum();
+    }
+
+    /** Get the number of underlying model evaluations used for filling tables.
+     * <p>
+     * This includes both table nodes and cells centers used for checking
+     * interpolation error.
+     * </p>
+     * @return number of underlying model evaluations used for filling tables
+     */
+    public long getNodeEvaluations() {
+        return nodeEvaluations.sum();
+    }
+
+    /** Get the number of time slots evicted from cache.
+     * @return number of time slots evicted from cache
+     */
+    public long getEvictedSlots() {
+        return evictions.sum();
+    }
+
+    /** Get the number of time slots currently in cache.
+     * @return number of time slots currently in cache
+     */
+    public int getCachedSlots() {
+        synchronized (slots) {
+            return slots.size();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Frame getFrame() {
+        return atmosphere.getFrame();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDensity(final AbsoluteDate date, final Vector3D position, final Frame frame) {
+
+        final Frame         bodyFrame = earth.getBodyFrame();
+        final Vector3D      p         = frame.getStaticTransformTo(bodyFrame, date).transformPosition(position);
+        final GeodeticPoint gp        = earth.transform(p, bodyFrame, date);
+
+        final double x = (gp.getAltitude() - minAltitude) / altitudeStep;
+        if (x >= 0 && x <= altitudeCells) {
+
+            // local solar time, counted from Sun meridian
+            final Vector3D sunPosition = sun.getPosition(date, bodyFrame);
+            final double   alpha       = MathUtils.normalizeAngle(gp.getLongitude() -
+                                                                  FastMath.atan2(sunPosition.getY(), sunPosition.getX()),
+                                                                  FastMath.PI);
+
+            final double y = (gp.getLatitude() + MathUtils.SEMI_PI) / latitudeStep;
+            final double z = alpha / localTimeStep;
+            final int    i = FastMath.min(altitudeCells  - 1, (int) x);
+            final int    j = FastMath.max(0, FastMath.min(latitudeCells  - 1, (int) y));
+            final int    k = FastMath.min(localTimeCells - 1, (int) z);
+
+            final double rho = getSlot(date).interpolate(i, j, k, x - i, y - j, z - k);
+            if (!Double.isNaN(rho)) {
+                interpolated.increment();
+                return rho;
+            }
+
+        }
+
+        // point outside of tables or in a cell with too large interpolation error
+        direct.increment();
+        return atmosphere.getDensity(date, position, frame);
+
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * This method is not tabulated, it delegates to the underlying model.
+     * </p>
+     */
+    @Override
+    public <T extends CalculusFieldElement<T>> T getDensity(final FieldAbsoluteDate<T> date,
+                                                            final FieldVector3D<T> position,
+                                                            final Frame frame) {
+        return atmosphere.getDensity(date, position, frame);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D getVelocity(final AbsoluteDate date, final Vector3D position, final Frame frame) {
+        return atmosphere.getVelocity(date, position, frame);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends CalculusFieldElement<T>> FieldVector3D<T> getVelocity(final FieldAbsoluteDate<T> date,
+                                                                            final FieldVector3D<T> position,
+                                                                            final Frame frame) {
+        return atmosphere.getVelocity(date, position, frame);
+    }
+
+    /** Get the time slot containing a date, creating it if needed.
+     * @param date date
+     * @return time slot containing date
+     */
+    private Slot getSlot(final AbsoluteDate date) {
+        final long index = (long) FastMath.floor(date.durationFrom(slotsReference) / refreshPeriod);
+        synchronized (slots) {
+            Slot slot = slots.get(index);
+            if (slot == null) {
+                slot = new Slot(slotsReference.shiftedBy((index + 0.5) * refreshPeriod));
+                slots.put(index, slot);
+            }
+            return slot;
+        }
+    }
+
+    /** Tables for one time slot. */
+    private class Slot {
+
+        /** Date at which underlying model is evaluated. */
+        private final AbsoluteDate date;
+
+        /** Longitude of the Sun in body frame. */
+        private final double sunLongitude;
+
+        /** Logarithms of density at nodes (raw bits). */
+        private final AtomicLongArray logDensities;
+
+        /** Cells status. */
+        private final AtomicIntegerArray status;
+
+        /** Simple constructor.
+         * @param date date at which underlying model is evaluated
+         */
+        Slot(final AbsoluteDate date) {
+            final Vector3D sunPosition = sun.getPosition(date, earth.getBodyFrame());
+            this.date         = date;
+            this.sunLongitude = FastMath.atan2(sunPosition.getY(), sunPosition.getX());
+            this.logDensities = new AtomicLongArray((altitudeCells + 1) * (latitudeCells + 1) * localTimeCells);
+            for (int n = 0; n < logDensities.length(); ++n) {
+                logDensities.set(n, NOT_COMPUTED);
+            }
+            this.status = new AtomicIntegerArray(altitudeCells * latitudeCells * localTimeCells);
+        }
+
+        /** Interpolate density.
+         * @param i altitude cell index
+         * @param j latitude cell index
+         * @param k local solar time cell index
+         * @param dx altitude offset in cell (between 0 and 1)
+         * @param dy latitude offset in cell (between 0 and 1)
+         * @param dz local solar time offset in cell (between 0 and 1)
+         * @return interpolated density, or NaN if interpolation error exceeds tolerance in cell
+         */
+        double interpolate(final int i, final int j, final int k,
+                           final double dx, final double dy, final double dz) {
+
+            final int cell = (i * latitudeCells + j) * localTimeCells + k;
+            int cellStatus = status.get(cell);
+            if (cellStatus == UNCHECKED) {
+                // compare interpolation with underlying model at cell center
+                final double exact    = FastMath.exp(logDensity(minAltitude + (i + 0.5) * altitudeStep,
+                                                                (j + 0.5) * latitudeStep - MathUtils.SEMI_PI,
+                                                                (k + 0.5) * localTimeStep));
+                final double estimate = FastMath.exp(logInterpolate(i, j, k, 0.5, 0.5, 0.5));
+                cellStatus = FastMath.abs(estimate - exact) <= tolerance * exact ? VALID : INVALID;
+                status.set(cell, cellStatus);
+            }
+
+            return cellStatus == VALID ? FastMath.exp(logInterpolate(i, j, k, dx, dy, dz)) : Double.NaN;
+
+        }
+
+        /** Interpolate logarithm of density.
+         * @param i altitude cell index
+         * @param j latitude cell index
+         * @param k local solar time cell index
+         * @param dx altitude offset in cell (between 0 and 1)
+         * @param dy latitude offset in cell (between 0 and 1)
+         * @param dz local solar time offset in cell (between 0 and 1)
+         * @return interpolated logarithm of density
+         */
+        private double logInterpolate(final int i, final int j, final int k,
+                                      final double dx, final double dy, final double dz) {
+            final int    k1  = (k + 1) % localTimeCells;
+            final double v00 = (1 - dz) * node(i,     j,     k) + dz * node(i,     j,     k1);
+            final double v01 = (1 - dz) * node(i,     j + 1, k) + dz * node(i,     j + 1, k1);
+            final double v10 = (1 - dz) * node(i + 1, j,     k) + dz * node(i + 1, j,     k1);
+            final double v11 = (1 - dz) * node(i + 1, j + 1, k) + dz * node(i + 1, j + 1, k1);
+            final double v0  = (1 - dy) * v00 + dy * v01;
+            final double v1  = (1 - dy) * v10 + dy * v11;
+            return (1 - dx) * v0 + dx * v1;
+        }
+
+        /** Get logarithm of density at one node, computing it if needed.
+         * @param i altitude node index
+         * @param j latitude node index
+         * @param k local solar time node index
+         * @return logarithm of density at node
+         */
+        private double node(final int i, final int j, final int k) {
+            final int  n    = (i * (latitudeCells + 1) + j) * localTimeCells + k;
+            final long bits = logDensities.get(n);
+            if (bits != NOT_COMPUTED) {
+                return Double.longBitsToDouble(bits);
+            }
+            // concurrent threads may compute the same node, but they get the same value
+            final double logRho = logDensity(minAltitude + i * altitudeStep,
+                                             j * latitudeStep - MathUtils.SEMI_PI,
+                                             k * localTimeStep);
+            logDensities.set(n, Double.doubleToRawLongBits(logRho));
+            return logRho;
+        }
+
+        /** Evaluate logarithm of density with underlying model.
+         * @param altitude altitude
+         * @param latitude geodetic latitude
+         * @param alpha local solar time angle, counted from Sun meridian
+         * @return logarithm of density
+         */
+        private double logDensity(final double altitude, final double latitude, final double alpha) {
+            nodeEvaluations.increment();
+            final Vector3D p = earth.transform(new GeodeticPoint(latitude, sunLongitude + alpha, altitude));
+            return FastMath.log(atmosphere.getDensity(date, p, earth.getBodyFrame()));
+        }
+
+    }
+
+}
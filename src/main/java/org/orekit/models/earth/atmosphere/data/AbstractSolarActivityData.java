@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 import org.hipparchus.exception.DummyLocalizable;
@@ -58,10 +59,39 @@ public abstract class AbstractSolarActivityData<L extends AbstractSolarActivityD
 
     /** Serializable UID. */
     @Serial
-    private static final long serialVersionUID = 8804818166227680449L;
+    private static final long serialVersionUID = -1216228145940482296L;
 
-    /** Weather data thread safe cache. */
-    private final transient GenericTimeStampedCache<L> cache;
+    /** Weather data thread safe cache, built lazily. */
+    private transient GenericTimeStampedCache<L> cache;
+
+    /** Maximum number of independent cached time slots.
+     * @since 14.0
+     */
+    private final int maxSlots;
+
+    /** Maximum duration span in seconds of one slot.
+     * @since 14.0
+     */
+    private final double maxSpan;
+
+    /** Time interval above which a new slot is created.
+     * @since 14.0
+     */
+    private final double maxInterval;
+
+    /** Overriding minimum step designed for non-homogeneous tabulated values.
+     * @since 14.0
+     */
+    private final double minimumStep;
+
+    /** Indexed weather data, replaced atomically when new data is appended.
+     * <p>
+     * The index is serialized, so a deserialized instance keeps its data
+     * and rebuilds its cache lazily if needed.
+     * </p>
+     * @since 14.0
+     */
+    private volatile SolarActivityIndex<L> index;
 
     /** Supported names. */
     private final String supportedNames;
@@ -69,12 +99,6 @@ public abstract class AbstractSolarActivityData<L extends AbstractSolarActivityD
     /** UTC time scale. */
     private final transient TimeScale utc;
 
-    /** First available date. */
-    private final AbsoluteDate firstDate;
-
-    /** Last available date. */
-    private final AbsoluteDate lastDate;
-
     /**
      * Constructor.
      * @param supportedNames regular expression for supported AGI/CSSI space weather files names
@@ -96,15 +120,14 @@ public abstract class AbstractSolarActivityData<L extends AbstractSolarActivityD
         // Load data
         dataProvidersManager.feed(supportedNames, loader);
 
-        // Create thread safe cache
-        this.cache = new GenericTimeStampedCache<>(N_NEIGHBORS, maxSlots, maxSpan, maxInterval,
-                                                   new SolarActivityGenerator(loader.getDataSet()), minimumStep);
-
         // Initialise fields
+        this.maxSlots       = maxSlots;
+        this.maxSpan        = maxSpan;
+        this.maxInterval    = maxInterval;
+        this.minimumStep    = minimumStep;
         this.supportedNames = supportedNames;
         this.utc            = utc;
-        this.firstDate      = loader.getMinDate();
-        this.lastDate       = loader.getMaxDate();
+        this.index          = new SolarActivityIndex<>(loader.getDataSet());
     }
 
     /**
@@ -132,15 +155,14 @@ public abstract class AbstractSolarActivityData<L extends AbstractSolarActivityD
                 loader.loadData(bis, source.getName());
             }
 
-            // Create thread safe cache
-            this.cache = new GenericTimeStampedCache<>(N_NEIGHBORS, maxSlots, maxSpan, maxInterval,
-                                                       new SolarActivityGenerator(loader.getDataSet()), minimumStep);
-
             // Initialise fields
+            this.maxSlots       = maxSlots;
+            this.maxSpan        = maxSpan;
+            this.maxInterval    = maxInterval;
+            this.minimumStep    = minimumStep;
             this.supportedNames = source.getName();
             this.utc            = utc;
-            this.firstDate      = loader.getMinDate();
-            this.lastDate       = loader.getMaxDate();
+            this.index          = new SolarActivityIndex<>(loader.getDataSet());
         }
         catch (IOException | ParseException ioe) {
             throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
@@ -157,11 +179,29 @@ public abstract class AbstractSolarActivityData<L extends AbstractSolarActivityD
      * @return the value interpolated for the current date
      */
     protected double getLinearInterpolation(final AbsoluteDate date, final Function<L, Double> solarActivityToDoubleMapper) {
-        // Create solar activity around current date
-        final LocalSolarActivity localSolarActivity = new LocalSolarActivity(date);
+        return interpolate(date, solarActivityToDoubleMapper::apply);
+    }
 
-        // Extract values
-        return getLinearInterpolation(localSolarActivity, solarActivityToDoubleMapper);
+    /**
+     * Performs a linear interpolation between two values The weights are computed from the time delta between previous date,
+     * current date, next date.
+     * <p>
+     * This method neither allocates intermediate objects nor boxes the extracted values.
+     * </p>
+     *
+     * @param date current date
+     * @param solarActivityToDoubleMapper mapping function taking solar activity as input and returning a double
+     *
+     * @return the value interpolated for the current date
+     * @since 14.0
+     */
+    protected double interpolate(final AbsoluteDate date, final ToDoubleFunction<L> solarActivityToDoubleMapper) {
+        final SolarActivityIndex<L> current = index;
+        checkRange(current, date);
+        final int i = current.findIndex(date);
+        return linearInterpolation(date,
+                                   current.get(i), solarActivityToDoubleMapper.applyAsDouble(current.get(i)),
+                                   current.get(i + 1), solarActivityToDoubleMapper.applyAsDouble(current.get(i + 1)));
     }
 
     /**
@@ -175,18 +215,46 @@ public abstract class AbstractSolarActivityData<L extends AbstractSolarActivityD
      */
     protected double getLinearInterpolation(final LocalSolarActivity localSolarActivity,
                                             final Function<L, Double> solarActivityToDoubleMapper) {
-        // Extract values
-        final L      previousParameters = localSolarActivity.getPreviousParam();
-        final double previousValue      = solarActivityToDoubleMapper.apply(previousParameters);
+        return interpolate(localSolarActivity, solarActivityToDoubleMapper::apply);
+    }
 
-        final L      nextParameters = localSolarActivity.getNextParam();
-        final double nextValue      = solarActivityToDoubleMapper.apply(nextParameters);
+    /**
+     * Performs a linear interpolation between two values The weights are computed from the time delta between previous date,
+     * current date, next date.
+     *
+     * @param localSolarActivity solar activity around current date
+     * @param solarActivityToDoubleMapper mapping function taking solar activity as input and returning a double
+     *
+     * @return the value interpolated for the current date
+     * @since 14.0
+     */
+    protected double interpolate(final LocalSolarActivity localSolarActivity,
+                                 final ToDoubleFunction<L> solarActivityToDoubleMapper) {
+        final L previousParameters = localSolarActivity.getPreviousParam();
+        final L nextParameters     = localSolarActivity.getNextParam();
+        return linearInterpolation(localSolarActivity.getDate(),
+                                   previousParameters, solarActivityToDoubleMapper.applyAsDouble(previousParameters),
+                                   nextParameters, solarActivityToDoubleMapper.applyAsDouble(nextParameters));
+    }
 
+    /**
+     * Performs a linear interpolation between two bracketing parameters.
+     *
+     * @param date current date
+     * @param previousParameters parameters before current date
+     * @param previousValue value extracted from previous parameters
+     * @param nextParameters parameters after current date
+     * @param nextValue value extracted from next parameters
+     *
+     * @return the value interpolated for the current date
+     */
+    private double linearInterpolation(final AbsoluteDate date,
+                                       final L previousParameters, final double previousValue,
+                                       final L nextParameters, final double nextValue) {
         // Perform a linear interpolation
-        final AbsoluteDate previousDate   = localSolarActivity.getPreviousParam().getDate();
-        final AbsoluteDate currentDate    = localSolarActivity.getNextParam().getDate();
+        final AbsoluteDate previousDate   = previousParameters.getDate();
+        final AbsoluteDate currentDate    = nextParameters.getDate();
         final double       dt             = currentDate.durationFrom(previousDate);
-        final AbsoluteDate date           = localSolarActivity.getDate();
         final double       previousWeight = currentDate.durationFrom(date) / dt;
         final double       nextWeight     = date.durationFrom(previousDate) / dt;
 
@@ -194,12 +262,142 @@ public abstract class AbstractSolarActivityData<L extends AbstractSolarActivityD
         return previousValue * previousWeight + nextValue * nextWeight;
     }
 
+    /**
+     * Check a date is within the available data range.
+     *
+     * @param current indexed data
+     * @param date date to check
+     */
+    private void checkRange(final SolarActivityIndex<L> current, final AbsoluteDate date) {
+        final AbsoluteDate firstDate = current.getFirstDate();
+        final AbsoluteDate lastDate  = current.getLastDate();
+        // Asked date is before earliest available data
+        if (date.durationFrom(firstDate) < 0) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE, date, firstDate, lastDate,
+                                      firstDate.durationFrom(date));
+        }
+        // Asked date is after latest available data
+        if (date.durationFrom(lastDate) > 0) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER, date, firstDate, lastDate,
+                                      date.durationFrom(lastDate));
+        }
+    }
+
+    /**
+     * Append new data lines.
+     * <p>
+     * The new lines replace all existing lines starting at or after the first new line, so
+     * daily updates override previous predictions without reloading the whole history. Lookups
+     * performed concurrently by other threads see either the previous or the updated data set,
+     * never a mix of both.
+     * </p>
+     * <p>
+     * Data appended after the first call to {@link #getCache()} is not seen by the cache,
+     * which is not used for lookups anymore.
+     * </p>
+     *
+     * @param dataSet new data lines, in chronological order
+     * @since 14.0
+     */
+    protected synchronized void appendData(final Collection<L> dataSet) {
+        index = index.append(dataSet);
+    }
+
+    /**
+     * Append new data lines together with new boundary dates.
+     * <p>
+     * The lines and the boundary dates are published atomically, so concurrent lookups never
+     * see new lines with old boundary dates or the other way round.
+     * </p>
+     *
+     * @param dataSet new data lines, in chronological order
+     * @param boundaryDates boundary dates separating data categories, for example observed and predicted data
+     * @see #appendData(Collection)
+     * @see LocalSolarActivity#getBoundaryDate(int)
+     * @since 14.0
+     */
+    protected synchronized void appendData(final Collection<L> dataSet, final AbsoluteDate... boundaryDates) {
+        index = index.append(dataSet).withBoundaries(boundaryDates);
+    }
+
+    /**
+     * Set the boundary dates separating data categories.
+     *
+     * @param boundaryDates boundary dates separating data categories, for example observed and predicted data
+     * @see LocalSolarActivity#getBoundaryDate(int)
+     * @since 14.0
+     */
+    protected synchronized void setBoundaryDates(final AbsoluteDate... boundaryDates) {
+        index = index.withBoundaries(boundaryDates);
+    }
+
+    /**
+     * Load a data source without appending its lines.
+     *
+     * @param source source for the new data
+     * @param loader fresh loader for the new data
+     * @return the loader, after it has loaded the data
+     * @see #appendData(Collection, AbsoluteDate...)
+     * @since 14.0
+     */
+    protected D loadData(final DataSource source, final D loader) {
+        try (InputStream is = source.getOpener().openStreamOnce();
+             BufferedInputStream bis = new BufferedInputStream(is)) {
+            loader.loadData(bis, source.getName());
+        } catch (IOException | ParseException ioe) {
+            throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+        }
+        return loader;
+    }
+
+    /**
+     * Load a data source and append its lines.
+     *
+     * @param source source for the new data
+     * @param loader fresh loader for the new data
+     * @return the loader, after it has loaded the data
+     * @see #appendData(Collection)
+     * @since 14.0
+     */
+    protected D appendData(final DataSource source, final D loader) {
+        appendData(loadData(source, loader).getDataSet());
+        return loader;
+    }
+
+    /**
+     * Get the data lines covering a time range.
+     * <p>
+     * The returned lines start with the line at or before the earliest date and end
+     * with the first line at or after the latest date, both being clamped to the
+     * available data.
+     * </p>
+     *
+     * @param earliest earliest date of the range
+     * @param latest latest date of the range
+     * @return unmodifiable list of the lines covering the range, in chronological order
+     * @since 14.0
+     */
+    protected List<L> getCoveringData(final AbsoluteDate earliest, final AbsoluteDate latest) {
+        return index.getCovering(earliest, latest);
+    }
+
     /**
      * Get underlying cache.
+     * <p>
+     * Since 14.0, lookups rely on a constant time index and do not use this cache anymore.
+     * The cache is only built upon the first call to this method, from the data available
+     * at that time.
+     * </p>
      *
      * @return cache
+     * @deprecated as of 14.0, the cache is not used for lookups anymore
      */
-    public GenericTimeStampedCache<L> getCache() {
+    @Deprecated
+    public synchronized GenericTimeStampedCache<L> getCache() {
+        if (cache == null) {
+            cache = new GenericTimeStampedCache<>(N_NEIGHBORS, maxSlots, maxSpan, maxInterval,
+                                                  new SolarActivityGenerator(index.getEntries()), minimumStep);
+        }
         return cache;
     }
 
@@ -224,13 +422,13 @@ public abstract class AbstractSolarActivityData<L extends AbstractSolarActivityD
     /** {@inheritDoc} */
     @Override
     public AbsoluteDate getMinDate() {
-        return firstDate;
+        return index.getFirstDate();
     }
 
     /** {@inheritDoc} */
     @Override
     public AbsoluteDate getMaxDate() {
-        return lastDate;
+        return index.getLastDate();
     }
 
     /** Container for weather parameters around current date. Allows for thread safe use. */
@@ -245,28 +443,23 @@ public abstract class AbstractSolarActivityData<L extends AbstractSolarActivityD
         /** Next parameters. */
         private final L nextParam;
 
+        /** Indexed data the parameters were extracted from. */
+        private final SolarActivityIndex<L> data;
+
         /**
          * Constructor.
          *
          * @param date current date
          */
         public LocalSolarActivity(final AbsoluteDate date) {
-            // Asked date is before earliest available data
-            if (date.durationFrom(firstDate) < 0) {
-                throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE, date, firstDate, lastDate,
-                                          firstDate.durationFrom(date));
-            }
-            // Asked date is after latest available data
-            if (date.durationFrom(lastDate) > 0) {
-                throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER, date, firstDate, lastDate,
-                                          date.durationFrom(lastDate));
-            }
-
-            final List<L> neighbours = cache.getNeighbors(date).toList();
+            final SolarActivityIndex<L> current = index;
+            checkRange(current, date);
+            final int i = current.findIndex(date);
 
             this.currentDate   = date;
-            this.previousParam = neighbours.getFirst();
-            this.nextParam     = neighbours.get(1);
+            this.previousParam = current.get(i);
+            this.nextParam     = current.get(i + 1);
+            this.data          = current;
         }
 
         /** Get the current date.
@@ -291,6 +484,17 @@ public abstract class AbstractSolarActivityData<L extends AbstractSolarActivityD
         public L getNextParam() {
             return nextParam;
         }
+
+        /**
+         * Get a boundary date consistent with the parameters.
+         * @param i index of the boundary date
+         * @return boundary date at index i
+         * @see AbstractSolarActivityData#appendData(Collection, AbsoluteDate...)
+         * @since 14.0
+         */
+        public AbsoluteDate getBoundaryDate(final int i) {
+            return data.getBoundary(i);
+        }
     }
 
     /** Generator used in the weather data cache. */
@@ -55,13 +55,17 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
 
     /** Serializable UID. */
     @Serial
-    private static final long serialVersionUID = 4249411710645968978L;
+    private static final long serialVersionUID = 5907016243754847300L;
 
-    /** Date of last data before the prediction starts. */
-    private final AbsoluteDate lastObservedDate;
+    /** Index of the boundary date holding the date of last data before the prediction starts.
+     * @since 14.0
+     */
+    private static final int LAST_OBSERVED = 0;
 
-    /** Date of last daily prediction before the monthly prediction starts. */
-    private final AbsoluteDate lastDailyPredictedDate;
+    /** Index of the boundary date holding the date of last daily prediction before the monthly prediction starts.
+     * @since 14.0
+     */
+    private static final int LAST_DAILY_PREDICTED = 1;
 
     /**
      * Simple constructor. This constructor uses the default data context.
@@ -145,8 +149,7 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
         super(supportedNames, loader, dataProvidersManager, utc, maxSlots, maxSpan, maxInterval, Constants.JULIAN_DAY);
 
         // Initialise fields
-        this.lastObservedDate       = loader.getLastObservedDate();
-        this.lastDailyPredictedDate = loader.getLastDailyPredictedDate();
+        setBoundaryDates(loader.getLastObservedDate(), loader.getLastDailyPredictedDate());
     }
 
     /**
@@ -224,13 +227,30 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
     public CssiSpaceWeatherData(final DataSource source, final CssiSpaceWeatherDataLoader loader, final TimeScale utc,
                                 final int maxSlots, final double maxSpan, final double maxInterval) {
         super(source, loader, utc, maxSlots, maxSpan, maxInterval, Constants.JULIAN_DAY);
-        this.lastObservedDate       = loader.getLastObservedDate();
-        this.lastDailyPredictedDate = loader.getLastDailyPredictedDate();
+        setBoundaryDates(loader.getLastObservedDate(), loader.getLastDailyPredictedDate());
+    }
+
+    /**
+     * Update the data with a newer CSSI space weather file.
+     * <p>
+     * The lines read from the source replace all existing lines starting at or after the first
+     * line of the source, so a file covering only the last few weeks of observations and the
+     * following predictions can be appended without reloading the whole history. The new
+     * lines and the new boundaries between observed and predicted data are published
+     * atomically.
+     * </p>
+     *
+     * @param source source for the new data
+     * @since 14.0
+     */
+    public void update(final DataSource source) {
+        final CssiSpaceWeatherDataLoader loader = loadData(source, new CssiSpaceWeatherDataLoader(getUTC()));
+        appendData(loader.getDataSet(), loader.getLastObservedDate(), loader.getLastDailyPredictedDate());
     }
 
     /** {@inheritDoc} */
     public double getInstantFlux(final AbsoluteDate date) {
-        return getLinearInterpolation(date, LineParameters::getF107Obs);
+        return interpolate(date, LineParameters::getF107Obs);
     }
 
     /** {@inheritDoc} */
@@ -240,9 +260,11 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
 
     /** {@inheritDoc} */
     public double getThreeHourlyKP(final AbsoluteDate date) {
-        if (date.compareTo(lastObservedDate) <= 0) {
+        // Get the neighboring solar activity
+        final LocalSolarActivity localSolarActivity = new LocalSolarActivity(date);
+
+        if (date.compareTo(localSolarActivity.getBoundaryDate(LAST_OBSERVED)) <= 0) {
             /* If observation data is available, it contains three-hourly data */
-            final LocalSolarActivity localSolarActivity = new LocalSolarActivity(date);
             final LineParameters     previousParam      = localSolarActivity.getPreviousParam();
             final double             hourOfDay          = date.offsetFrom(previousParam.getDate(), getUTC()) / 3600;
             int                      i_kp               = (int) (hourOfDay / 3);
@@ -255,22 +277,14 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
             return previousParam.getThreeHourlyKp(i_kp);
         } else {
             /* Only predictions are available, there are no three-hourly data */
-            return get24HoursKp(date);
+            return get24HoursKp(localSolarActivity);
         }
     }
 
     /** {@inheritDoc} */
     public double get24HoursKp(final AbsoluteDate date) {
         // Get the neighboring solar activity
-        final LocalSolarActivity localSolarActivity = new LocalSolarActivity(date);
-
-        if (date.compareTo(lastDailyPredictedDate) <= 0) {
-            // Daily data is available, just taking the daily average
-            return localSolarActivity.getPreviousParam().getKpSum() / 8;
-        } else {
-            // Only monthly data is available, better interpolate between two months
-            return getLinearInterpolation(localSolarActivity, lineParam -> lineParam.getKpSum() / 8);
-        }
+        return get24HoursKp(new LocalSolarActivity(date));
     }
 
     /** {@inheritDoc} */
@@ -284,18 +298,18 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
         // Get the neighboring solar activity
         final LocalSolarActivity localSolarActivity = new LocalSolarActivity(date);
 
-        if (date.compareTo(lastDailyPredictedDate) <= 0) {
+        if (date.compareTo(localSolarActivity.getBoundaryDate(LAST_DAILY_PREDICTED)) <= 0) {
             return localSolarActivity.getPreviousParam().getCtr81Obs();
         } else {
             // Only monthly data is available, better interpolate between two months
-            return getLinearInterpolation(localSolarActivity, LineParameters::getCtr81Obs);
+            return interpolate(localSolarActivity, LineParameters::getCtr81Obs);
         }
     }
 
     /** {@inheritDoc} */
     public double[] getAp(final AbsoluteDate date) {
         final double[] apArray = new double[7];
-        apArray[0] = getDailyAp(date);
+        apArray[0] = getDailyAp(new LocalSolarActivity(date));
         apArray[1] = getThreeHourlyAp(date);
         apArray[2] = getThreeHourlyAp(date.shiftedBy(-3.0 * 3600.0));
         apArray[3] = getThreeHourlyAp(date.shiftedBy(-6.0 * 3600.0));
@@ -305,6 +319,23 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
         return apArray;
     }
 
+    /**
+     * Gets the 24 hours Kp index.
+     *
+     * @param localSolarActivity solar activity around current date
+     *
+     * @return the 24 hours Kp index
+     */
+    private double get24HoursKp(final LocalSolarActivity localSolarActivity) {
+        if (localSolarActivity.getDate().compareTo(localSolarActivity.getBoundaryDate(LAST_DAILY_PREDICTED)) <= 0) {
+            // Daily data is available, just taking the daily average
+            return localSolarActivity.getPreviousParam().getKpSum() / 8;
+        } else {
+            // Only monthly data is available, better interpolate between two months
+            return interpolate(localSolarActivity, lineParam -> lineParam.getKpSum() / 8);
+        }
+    }
+
     /**
      * Gets the daily flux on the current day.
      *
@@ -316,12 +347,12 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
         // Get the neighboring solar activity
         final LocalSolarActivity localSolarActivity = new LocalSolarActivity(date);
 
-        if (date.compareTo(lastDailyPredictedDate) <= 0) {
+        if (date.compareTo(localSolarActivity.getBoundaryDate(LAST_DAILY_PREDICTED)) <= 0) {
             // Getting the value for the previous day
             return localSolarActivity.getPreviousParam().getF107Obs();
         } else {
             // Only monthly data is available, better interpolate between two months
-            return getLinearInterpolation(localSolarActivity, LineParameters::getF107Obs);
+            return interpolate(localSolarActivity, LineParameters::getF107Obs);
         }
     }
 
@@ -333,11 +364,11 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
      * @return the current three-hourly Ap index
      */
     private double getThreeHourlyAp(final AbsoluteDate date) {
-        if (date.compareTo(lastObservedDate.shiftedBy(Constants.JULIAN_DAY)) < 0) {
-            // If observation data is available, it contains three-hourly data.
-            // Get the neighboring solar activity
-            final LocalSolarActivity localSolarActivity = new LocalSolarActivity(date);
+        // Get the neighboring solar activity
+        final LocalSolarActivity localSolarActivity = new LocalSolarActivity(date);
 
+        if (date.compareTo(localSolarActivity.getBoundaryDate(LAST_OBSERVED).shiftedBy(Constants.JULIAN_DAY)) < 0) {
+            // If observation data is available, it contains three-hourly data.
             final LineParameters previousParam = localSolarActivity.getPreviousParam();
             final double         hourOfDay     = date.offsetFrom(previousParam.getDate(), getUTC()) / 3600;
             int                  i_ap          = (int) (hourOfDay / 3);
@@ -350,7 +381,7 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
             return previousParam.getThreeHourlyAp(i_ap);
         } else {
             /* Only predictions are available, there are no three-hourly data */
-            return getDailyAp(date);
+            return getDailyAp(localSolarActivity);
         }
     }
 
@@ -363,7 +394,10 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
      * @return the 24 hours running average of the Ap index
      */
     private double get24HoursAverageAp(final AbsoluteDate date) {
-        if (date.compareTo(lastDailyPredictedDate) <= 0) {
+        // Get the neighboring solar activity
+        final LocalSolarActivity localSolarActivity = new LocalSolarActivity(date);
+
+        if (date.compareTo(localSolarActivity.getBoundaryDate(LAST_DAILY_PREDICTED)) <= 0) {
             // Computing running mean
             double apSum = 0.0;
             for (int i = 0; i < 8; i++) {
@@ -373,27 +407,24 @@ public class CssiSpaceWeatherData extends AbstractSolarActivityData<LineParamete
         } else {
             /* Only monthly predictions are available, no need to compute the average from
              * three hourly data */
-            return getDailyAp(date);
+            return getDailyAp(localSolarActivity);
         }
     }
 
     /**
-     * Get the daily Ap index for the given date.
+     * Get the daily Ap index for the given solar activity.
      *
-     * @param date the current date
+     * @param localSolarActivity solar activity around current date
      *
      * @return the daily Ap index
      */
-    private double getDailyAp(final AbsoluteDate date) {
-        // Get the neighboring solar activity
-        final LocalSolarActivity localSolarActivity = new LocalSolarActivity(date);
-
-        if (date.compareTo(lastDailyPredictedDate) <= 0) {
+    private double getDailyAp(final LocalSolarActivity localSolarActivity) {
+        if (localSolarActivity.getDate().compareTo(localSolarActivity.getBoundaryDate(LAST_DAILY_PREDICTED)) <= 0) {
             // Daily data is available, just taking the daily average
             return localSolarActivity.getPreviousParam().getApAvg();
         } else {
             // Only monthly data is available, better interpolate between two months
-            return getLinearInterpolation(localSolarActivity, LineParameters::getApAvg);
+            return interpolate(localSolarActivity, LineParameters::getApAvg);
         }
     }
 
@@ -21,8 +21,9 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serial;
+import java.io.Serializable;
 import java.text.ParseException;
-import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 import org.hipparchus.exception.DummyLocalizable;
 import org.orekit.annotation.DefaultDataContext;
@@ -35,7 +36,6 @@ import org.orekit.models.earth.atmosphere.JB2008InputParameters;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeScale;
 import org.orekit.utils.Constants;
-import org.orekit.utils.ImmutableTimeStampedCache;
 
 
 /**
@@ -66,34 +66,10 @@ public class JB2008SpaceEnvironmentData implements JB2008InputParameters {
 
     /** Serializable UID. */
     @Serial
-    private static final long serialVersionUID = 7735042547323407578L;
+    private static final long serialVersionUID = 1413393457441999074L;
 
-    /** Size of the list. */
-    private static final int N_NEIGHBORS = 2;
-
-    /** Data set for SOLFSMY file. */
-    private final transient ImmutableTimeStampedCache<SOLFSMYDataLoader.LineParameters> dataSOL;
-
-    /** Data set for DTCFILE file. */
-    private final transient ImmutableTimeStampedCache<DtcDataLoader.LineParameters> dataDTC;
-
-    /** First available date. */
-    private final AbsoluteDate firstDate;
-
-    /** Last available date. */
-    private final AbsoluteDate lastDate;
-
-    /** Previous set of solar activity parameters. */
-    private SOLFSMYDataLoader.LineParameters previousParamSOL;
-
-    /** Current set of solar activity parameters. */
-    private SOLFSMYDataLoader.LineParameters nextParamSOL;
-
-    /** Previous set of solar activity parameters. */
-    private DtcDataLoader.LineParameters previousParamDTC;
-
-    /** Current set of solar activity parameters. */
-    private DtcDataLoader.LineParameters nextParamDTC;
+    /** Data sets, replaced atomically when new data is appended. */
+    private volatile DataSets data;
 
     /**
      * Simple constructor. This constructor uses the default data context.
@@ -130,17 +106,13 @@ public class JB2008SpaceEnvironmentData implements JB2008InputParameters {
         // Load SOLFSMY data
         final SOLFSMYDataLoader loaderSOL = new SOLFSMYDataLoader(utc);
         dataProvidersManager.feed(supportedNamesSOL, loaderSOL);
-        dataSOL = new ImmutableTimeStampedCache<>(N_NEIGHBORS, loaderSOL.getDataSet());
 
         // Load DTC data
         final DtcDataLoader loaderDTC = new DtcDataLoader(utc);
         dataProvidersManager.feed(supportedNamesDTC, loaderDTC);
-        dataDTC = new ImmutableTimeStampedCache<>(N_NEIGHBORS, loaderDTC.getDataSet());
 
-        // Because the two files are generated by the same organism,
-        // the first and last epochs are identical between the two files
-        firstDate = loaderSOL.getMinDate();
-        lastDate  = loaderSOL.getMaxDate();
+        data = new DataSets(new SolarActivityIndex<>(loaderSOL.getDataSet()),
+                            new SolarActivityIndex<>(loaderDTC.getDataSet()));
 
     }
 
@@ -188,12 +160,8 @@ public class JB2008SpaceEnvironmentData implements JB2008InputParameters {
             }
 
             // Initialise fields
-            dataSOL = new ImmutableTimeStampedCache<>(N_NEIGHBORS, loaderSOL.getDataSet());
-            dataDTC = new ImmutableTimeStampedCache<>(N_NEIGHBORS, loaderDTC.getDataSet());
-            // Because the two files are generated by the same organism,
-            // the first and last epochs are identical between the two files
-            firstDate = loaderSOL.getMinDate();
-            lastDate  = loaderSOL.getMaxDate();
+            data = new DataSets(new SolarActivityIndex<>(loaderSOL.getDataSet()),
+                                new SolarActivityIndex<>(loaderDTC.getDataSet()));
 
         } catch (IOException | ParseException ioe) {
             throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
@@ -201,22 +169,50 @@ public class JB2008SpaceEnvironmentData implements JB2008InputParameters {
 
     }
 
+    /**
+     * Update the data with newer SOLFSMY and DTCFILE files.
+     * <p>
+     * The lines read from each source replace all existing lines starting at or after the first
+     * line of the source, so files covering only the last days of the series can be appended
+     * without reloading the whole history. Lookups performed concurrently by other threads see
+     * either the previous or the updated data sets, never a mix of both.
+     * </p>
+     *
+     * @param sourceSolfsmy source for the new SOLFSMY data
+     * @param sourceDtc     source for the new DTC data
+     * @param utc           UTC time scale
+     * @since 14.0
+     */
+    public void update(final DataSource sourceSolfsmy, final DataSource sourceDtc, final TimeScale utc) {
+        final DataSets increment = new JB2008SpaceEnvironmentData(sourceSolfsmy, sourceDtc, utc).data;
+        synchronized (this) {
+            data = new DataSets(data.sol.append(increment.sol), data.dtc.append(increment.dtc));
+        }
+    }
+
     /** {@inheritDoc} */
     public AbsoluteDate getMinDate() {
-        return firstDate;
+        // Because the two files are generated by the same organism,
+        // the first and last epochs are identical between the two files
+        return data.sol.getFirstDate();
     }
 
     /** {@inheritDoc} */
     public AbsoluteDate getMaxDate() {
-        return lastDate;
+        return data.sol.getLastDate();
     }
 
     /**
-     * Find the data bracketing a specified date in dataSOL.
+     * Interpolate SOLFSMY data at a specified date.
      *
      * @param date date to bracket
+     * @param mapper function extracting the value to interpolate
+     * @return interpolated value
      */
-    private void bracketDateSOL(final AbsoluteDate date) {
+    private double interpolateSOL(final AbsoluteDate date, final ToDoubleFunction<SOLFSMYDataLoader.LineParameters> mapper) {
+        final SolarActivityIndex<SOLFSMYDataLoader.LineParameters> sol = data.sol;
+        final AbsoluteDate firstDate = sol.getFirstDate();
+        final AbsoluteDate lastDate  = sol.getLastDate();
         /**
          * The presence of the shift in dates for checks on the validity of dates
          * is here to enforce the lag on the parameters (5-day lag max for Y10 parameters).
@@ -232,24 +228,27 @@ public class JB2008SpaceEnvironmentData implements JB2008InputParameters {
                     date, firstDateUsefulSOL, lastDate, date.durationFrom(lastDate));
         }
 
-        // don't search if the cached selection is fine
-        if (previousParamSOL != null && date.durationFrom(previousParamSOL.getDate()) > 0 &&
-                date.durationFrom(nextParamSOL.getDate()) <= 0) {
-            return;
-        }
-
-        final List<SOLFSMYDataLoader.LineParameters> neigbors = dataSOL.getNeighbors(date).toList();
-        previousParamSOL = neigbors.getFirst();
-        nextParamSOL = neigbors.get(1);
+        final int i = sol.findIndex(date);
+        final SOLFSMYDataLoader.LineParameters previous = sol.get(i);
+        final SOLFSMYDataLoader.LineParameters next     = sol.get(i + 1);
+        return linearInterpolation(date,
+                                   mapper.applyAsDouble(previous), previous.getDate(),
+                                   mapper.applyAsDouble(next), next.getDate());
 
     }
 
     /**
-     * Find the data bracketing a specified date in dataDTC.
+     * Interpolate DTC data at a specified date.
      *
      * @param date date to bracket
+     * @param mapper function extracting the value to interpolate
+     * @return interpolated value
      */
-    private void bracketDateDTC(final AbsoluteDate date) {
+    private double interpolateDTC(final AbsoluteDate date, final ToDoubleFunction<DtcDataLoader.LineParameters> mapper) {
+        final DataSets                                         current   = data;
+        final SolarActivityIndex<DtcDataLoader.LineParameters> dtc       = current.dtc;
+        final AbsoluteDate                                     firstDate = current.sol.getFirstDate();
+        final AbsoluteDate                                     lastDate  = current.sol.getLastDate();
         // No data lag
         final AbsoluteDate firstDateUsefulDTC = firstDate;
         if (date.durationFrom(firstDateUsefulDTC) < 0) {
@@ -261,46 +260,15 @@ public class JB2008SpaceEnvironmentData implements JB2008InputParameters {
                     date, firstDateUsefulDTC, lastDate, date.durationFrom(lastDate));
         }
 
-        // don't search if the cached selection is fine
-        if (previousParamDTC != null && date.durationFrom(previousParamDTC.getDate()) > 0 &&
-                date.durationFrom(nextParamDTC.getDate()) <= 0) {
-            return;
-        }
-
-        final List<DtcDataLoader.LineParameters> neigbors = dataDTC.getNeighbors(date).toList();
-        previousParamDTC = neigbors.getFirst();
-        nextParamDTC = neigbors.get(1);
+        final int i = dtc.findIndex(date);
+        final DtcDataLoader.LineParameters previous = dtc.get(i);
+        final DtcDataLoader.LineParameters next     = dtc.get(i + 1);
+        return linearInterpolation(date,
+                                   mapper.applyAsDouble(previous), previous.getDate(),
+                                   mapper.applyAsDouble(next), next.getDate());
 
     }
 
-    /**
-     * Performs a linear interpolation between two values The weights are computed
-     * from the time delta between previous date, current date, next date.
-     *
-     * @param date          the current date
-     * @param previousValue the value at previous date
-     * @param nextValue     the value at next date
-     * @return the value interpolated for the current date
-     */
-    private double getLinearInterpolationSOL(final AbsoluteDate date, final double previousValue, final double nextValue) {
-        // perform a linear interpolation
-        return linearInterpolation(date, previousValue, previousParamSOL.getDate(), nextValue, nextParamSOL.getDate());
-    }
-
-    /**
-     * Performs a linear interpolation between two values The weights are computed
-     * from the time delta between previous date, current date, next date.
-     *
-     * @param date          the current date
-     * @param previousValue the value at previous date
-     * @param nextValue     the value at next date
-     * @return the value interpolated for the current date
-     */
-    private double getLinearInterpolationDTC(final AbsoluteDate date, final double previousValue, final double nextValue) {
-        // perform a linear interpolation
-        return linearInterpolation(date, previousValue, previousParamDTC.getDate(), nextValue, nextParamDTC.getDate());
-    }
-
     /**
      * Linear interpolation.
      * @param date the current date
@@ -326,70 +294,86 @@ public class JB2008SpaceEnvironmentData implements JB2008InputParameters {
     public double getF10(final AbsoluteDate date) {
         // The date is shifted by 1 day as described in the JB2008 Model with a 1-day lag.
         final AbsoluteDate workDate = date.shiftedBy(-Constants.JULIAN_DAY);
-        bracketDateSOL(workDate);
-        return getLinearInterpolationSOL(workDate, previousParamSOL.getF10(), nextParamSOL.getF10());
+        return interpolateSOL(workDate, SOLFSMYDataLoader.LineParameters::getF10);
     }
 
     /** {@inheritDoc} */
     public double getF10B(final AbsoluteDate date) {
         // The date is shifted by 1 day as described in the JB2008 Model with a 1-day lag.
         final AbsoluteDate workDate = date.shiftedBy(-Constants.JULIAN_DAY);
-        bracketDateSOL(workDate);
-        return getLinearInterpolationSOL(workDate, previousParamSOL.getF10B(), nextParamSOL.getF10B());
+        return interpolateSOL(workDate, SOLFSMYDataLoader.LineParameters::getF10B);
     }
 
     /** {@inheritDoc} */
     public double getS10(final AbsoluteDate date) {
         // The date is shifted by 1 day as described in the JB2008 Model with a 1-day lag.
         final AbsoluteDate workDate = date.shiftedBy(-Constants.JULIAN_DAY);
-        bracketDateSOL(workDate);
-        return getLinearInterpolationSOL(workDate, previousParamSOL.getS10(), nextParamSOL.getS10());
+        return interpolateSOL(workDate, SOLFSMYDataLoader.LineParameters::getS10);
     }
 
     /** {@inheritDoc} */
     public double getS10B(final AbsoluteDate date) {
         // The date is shifted by 1 day as described in the JB2008 Model with a 1-day lag.
         final AbsoluteDate workDate = date.shiftedBy(-Constants.JULIAN_DAY);
-        bracketDateSOL(workDate);
-        return getLinearInterpolationSOL(workDate, previousParamSOL.getS10B(), nextParamSOL.getS10B());
+        return interpolateSOL(workDate, SOLFSMYDataLoader.LineParameters::getS10B);
     }
 
     /** {@inheritDoc} */
     public double getXM10(final AbsoluteDate date) {
         // The date is shifted by 2 day as described in the JB2008 Model with a 2-day lag.
         final AbsoluteDate workDate = date.shiftedBy(-2.0 * Constants.JULIAN_DAY);
-        bracketDateSOL(workDate);
-        return getLinearInterpolationSOL(workDate, previousParamSOL.getXM10(), nextParamSOL.getXM10());
+        return interpolateSOL(workDate, SOLFSMYDataLoader.LineParameters::getXM10);
     }
 
     /** {@inheritDoc} */
     public double getXM10B(final AbsoluteDate date) {
         // The date is shifted by 2 day as described in the JB2008 Model with a 2-day lag.
         final AbsoluteDate workDate = date.shiftedBy(-2.0 * Constants.JULIAN_DAY);
-        bracketDateSOL(workDate);
-        return getLinearInterpolationSOL(workDate, previousParamSOL.getXM10B(), nextParamSOL.getXM10B());
+        return interpolateSOL(workDate, SOLFSMYDataLoader.LineParameters::getXM10B);
     }
 
     /** {@inheritDoc} */
     public double getY10(final AbsoluteDate date) {
         // The date is shifted by 5 day as described in the JB2008 Model with a 5-day lag.
         final AbsoluteDate workDate = date.shiftedBy(-5.0 * Constants.JULIAN_DAY);
-        bracketDateSOL(workDate);
-        return getLinearInterpolationSOL(workDate, previousParamSOL.getY10(), nextParamSOL.getY10());
+        return interpolateSOL(workDate, SOLFSMYDataLoader.LineParameters::getY10);
     }
 
     /** {@inheritDoc} */
     public double getY10B(final AbsoluteDate date) {
         // The date is shifted by 5 day as described in the JB2008 Model with a 5-day lag.
         final AbsoluteDate workDate = date.shiftedBy(-5.0 * Constants.JULIAN_DAY);
-        bracketDateSOL(workDate);
-        return getLinearInterpolationSOL(workDate, previousParamSOL.getY10B(), nextParamSOL.getY10B());
+        return interpolateSOL(workDate, SOLFSMYDataLoader.LineParameters::getY10B);
     }
 
     /** {@inheritDoc} */
     public double getDSTDTC(final AbsoluteDate date) {
-        bracketDateDTC(date);
-        return getLinearInterpolationDTC(date, previousParamDTC.getDSTDTC(), nextParamDTC.getDSTDTC());
+        return interpolateDTC(date, DtcDataLoader.LineParameters::getDSTDTC);
+    }
+
+    /** Container for the data sets, allowing atomic replacement. */
+    private static class DataSets implements Serializable {
+
+        /** Serializable UID. */
+        @Serial
+        private static final long serialVersionUID = 1822684985933706640L;
+
+        /** Data set for SOLFSMY file. */
+        private final SolarActivityIndex<SOLFSMYDataLoader.LineParameters> sol;
+
+        /** Data set for DTCFILE file. */
+        private final SolarActivityIndex<DtcDataLoader.LineParameters> dtc;
+
+        /** Simple constructor.
+         * @param sol data set for SOLFSMY file
+         * @param dtc data set for DTCFILE file
+         */
+        DataSets(final SolarActivityIndex<SOLFSMYDataLoader.LineParameters> sol,
+                 final SolarActivityIndex<DtcDataLoader.LineParameters> dtc) {
+            this.sol = sol;
+            this.dtc = dtc;
+        }
+
     }
 
 }
@@ -270,7 +270,7 @@ public class MarshallSolarActivityFutureEstimation
 
     /** {@inheritDoc} */
     public double getMeanFlux(final AbsoluteDate date) {
-        return getLinearInterpolation(date, LineParameters::getF107);
+        return interpolate(date, LineParameters::getF107);
     }
 
     /** {@inheritDoc} */
@@ -384,7 +384,7 @@ public class MarshallSolarActivityFutureEstimation
      * @return the daily Ap index
      */
     private double getDailyAp(final AbsoluteDate date) {
-        return getLinearInterpolation(date, LineParameters::getAp);
+        return interpolate(date, LineParameters::getAp);
     }
 
     /**
@@ -490,10 +490,9 @@ public class MarshallSolarActivityFutureEstimation
          */
         private TimeStampedDouble computeAverageFlux(final AbsoluteDate date) {
             // Extract list of neighbors to compute average
-            final TimeStampedGenerator<LineParameters> generator   = getCache().getGenerator();
-            final AbsoluteDate                         initialDate = date.shiftedBy(-40 * Constants.JULIAN_DAY);
-            final AbsoluteDate                         finalDate   = date.shiftedBy(40 * Constants.JULIAN_DAY);
-            final List<LineParameters>                 monthlyData = generator.generate(initialDate, finalDate);
+            final AbsoluteDate         initialDate = date.shiftedBy(-40 * Constants.JULIAN_DAY);
+            final AbsoluteDate         finalDate   = date.shiftedBy(40 * Constants.JULIAN_DAY);
+            final List<LineParameters> monthlyData = getCoveringData(initialDate, finalDate);
 
             // Create interpolator for given data
             final LinearInterpolator interpolator = new LinearInterpolator();
@@ -0,0 +1,268 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth.atmosphere.data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeStamped;
+
+/**
+ * Immutable chronological index over solar activity data lines.
+ * <p>
+ * Entries are stored in an array together with their offsets with respect to the
+ * first entry, and an array of buckets maps each time bucket to the last entry
+ * that starts at or before the bucket start. The bucket size is the smallest
+ * spacing between entries, so locating the entries bracketing a date is a constant
+ * time operation that does not allocate anything.
+ * </p>
+ * <p>
+ * Instances are immutable and can therefore be shared between threads. Appending
+ * new data builds a new instance. Instances are serializable as long as the data
+ * lines are, so the data objects that own them remain serializable.
+ * </p>
+ * @param <T> type of the data lines
+ * @since 14.0
+ */
+final class SolarActivityIndex<T extends TimeStamped> implements Serializable {
+
+    /** Serializable UID. */
+    @Serial
+    private static final long serialVersionUID = 5403997188484030375L;
+
+    /** Minimum number of entries. */
+    private static final int MIN_ENTRIES = 2;
+
+    /** Maximum number of buckets per entry. */
+    private static final int MAX_BUCKETS_PER_ENTRY = 4;
+
+    /** Date of the first entry. */
+    private final AbsoluteDate reference;
+
+    /** Entries, in chronological order. */
+    private final List<T> entries;
+
+    /** Offsets of entries with respect to the reference date. */
+    private final double[] offsets;
+
+    /** Bucket size (s). */
+    private final double bucketSize;
+
+    /** Index of the last entry at or before each bucket start. */
+    private final int[] buckets;
+
+    /** Boundary dates separating data categories. */
+    private final AbsoluteDate[] boundaries;
+
+    /** Simple constructor.
+     * @param data data lines, in chronological order
+     */
+    SolarActivityIndex(final Collection<? extends T> data) {
+
+        if (data.size() < MIN_ENTRIES) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_CACHED_NEIGHBORS,
+                                                     data.size(), MIN_ENTRIES);
+        }
+
+        this.entries   = new ArrayList<>(data);
+        this.reference = entries.getFirst().getDate();
+        final int n    = entries.size();
+
+        // offsets and smallest spacing between entries
+        this.offsets = new double[n];
+        double minSpacing = Double.POSITIVE_INFINITY;
+        for (int i = 1; i < n; ++i) {
+            offsets[i] = entries.get(i).getDate().durationFrom(reference);
+            final double spacing = offsets[i] - offsets[i - 1];
+            if (spacing > 0) {
+                minSpacing = FastMath.min(minSpacing, spacing);
+            }
+        }
+
+        // limit the number of buckets in case a few entries are very close to each other
+        final double span = offsets[n - 1];
+        this.bucketSize   = FastMath.max(minSpacing, span / (MAX_BUCKETS_PER_ENTRY * n));
+        this.buckets      = new int[(int) FastMath.floor(span / bucketSize) + 1];
+        int last = 0;
+        for (int b = 0; b < buckets.length; ++b) {
+            final double start = b * bucketSize;
+            while (last + 1 < n && offsets[last + 1] <= start) {
+                ++last;
+            }
+            buckets[b] = last;
+        }
+
+        this.boundaries = new AbsoluteDate[0];
+
+    }
+
+    /** Copy constructor with new boundary dates.
+     * @param index index to copy (its arrays are shared, as they are never modified)
+     * @param boundaries boundary dates separating data categories
+     */
+    private SolarActivityIndex(final SolarActivityIndex<T> index, final AbsoluteDate[] boundaries) {
+        this.reference  = index.reference;
+        this.entries    = index.entries;
+        this.offsets    = index.offsets;
+        this.bucketSize = index.bucketSize;
+        this.buckets    = index.buckets;
+        this.boundaries = boundaries.clone();
+    }
+
+    /** Get the number of entries.
+     * @return number of entries
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /** Get an entry.
+     * @param i index of the entry
+     * @return entry at index i
+     */
+    T get(final int i) {
+        return entries.get(i);
+    }
+
+    /** Get all entries.
+     * @return unmodifiable view of all entries, in chronological order
+     */
+    List<T> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /** Get the entries covering a time range.
+     * <p>
+     * The returned entries start with the entry at or before the earliest date
+     * and end with the first entry at or after the latest date, both being
+     * clamped to the available data.
+     * </p>
+     * @param earliest earliest date of the range
+     * @param latest latest date of the range
+     * @return unmodifiable view of the entries covering the range, in chronological order
+     */
+    List<T> getCovering(final AbsoluteDate earliest, final AbsoluteDate latest) {
+        final int    first = findIndex(earliest);
+        final double dt    = latest.durationFrom(reference);
+        int last = first + 1;
+        while (last + 1 < offsets.length && offsets[last] < dt) {
+            ++last;
+        }
+        return Collections.unmodifiableList(entries.subList(first, last + 1));
+    }
+
+    /** Get the date of the first entry.
+     * @return date of the first entry
+     */
+    AbsoluteDate getFirstDate() {
+        return reference;
+    }
+
+    /** Get the date of the last entry.
+     * @return date of the last entry
+     */
+    AbsoluteDate getLastDate() {
+        return entries.getLast().getDate();
+    }
+
+    /** Build a new index with the same entries and new boundary dates.
+     * <p>
+     * Boundary dates separate data categories, for example observed data
+     * and predicted data. They are published together with the entries so
+     * lookups always see boundaries consistent with the data.
+     * </p>
+     * @param boundaryDates boundary dates separating data categories
+     * @return new index (this instance is unchanged)
+     */
+    SolarActivityIndex<T> withBoundaries(final AbsoluteDate... boundaryDates) {
+        return new SolarActivityIndex<>(this, boundaryDates);
+    }
+
+    /** Get a boundary date.
+     * @param i index of the boundary date
+     * @return boundary date at index i
+     * @see #withBoundaries(AbsoluteDate...)
+     */
+    AbsoluteDate getBoundary(final int i) {
+        return boundaries[i];
+    }
+
+    /** Find the index of the first entry of the pair bracketing a date.
+     * <p>
+     * The returned index i is such that entry i is at or before the date and
+     * entry i + 1 is after the date. It is clamped so that both entries i and
+     * i + 1 always exist, hence dates before the first entry or after the last
+     * one select the first or last pair.
+     * </p>
+     * @param date date to bracket
+     * @return index of the first entry of the bracketing pair
+     */
+    int findIndex(final AbsoluteDate date) {
+        final double dt = date.durationFrom(reference);
+        if (dt <= 0) {
+            return 0;
+        }
+        final int b = (int) FastMath.min(FastMath.floor(dt / bucketSize), buckets.length - 1);
+        int i = buckets[b];
+        while (i + 1 < offsets.length && offsets[i + 1] <= dt) {
+            ++i;
+        }
+        return FastMath.min(i, offsets.length - 2);
+    }
+
+    /** Build a new index with data appended from another index.
+     * @param other other index
+     * @return new index (this instance is unchanged)
+     * @see #append(Collection)
+     */
+    SolarActivityIndex<T> append(final SolarActivityIndex<? extends T> other) {
+        return append(other.entries);
+    }
+
+    /** Build a new index with appended data.
+     * <p>
+     * New data lines replace all existing lines starting at or after the
+     * first new line, so updated predictions override older ones. Boundary
+     * dates are preserved.
+     * </p>
+     * @param data new data lines, in chronological order
+     * @return new index (this instance is unchanged)
+     */
+    SolarActivityIndex<T> append(final Collection<? extends T> data) {
+        if (data.isEmpty()) {
+            return this;
+        }
+        final AbsoluteDate start  = data.iterator().next().getDate();
+        final List<T>      merged = new ArrayList<>(entries.size() + data.size());
+        for (final T entry : entries) {
+            if (entry.getDate().isBefore(start)) {
+                merged.add(entry);
+            }
+        }
+        merged.addAll(data);
+        return new SolarActivityIndex<>(new SolarActivityIndex<>(merged), boundaries);
+    }
+
+}
@@ -49,6 +49,12 @@
  * double undulation = geoid.getUndulation(lat, lon, date);
  * </code></pre>
  *
+ * <p>For bulk evaluations, {@link org.orekit.models.earth.Geoid#getUndulations(double,
+ * double[], org.orekit.time.AbsoluteDate) getUndulations} shares the Legendre functions
+ * recursion between points on the same latitude, and {@link org.orekit.models.earth.GriddedGeoid}
+ * and {@link org.orekit.models.earth.GriddedGeoMagneticField} interpolate precomputed grids
+ * that can be saved to compact binary files.
+ *
  * @author T. Neidhart
  * @author E. Ward
  *
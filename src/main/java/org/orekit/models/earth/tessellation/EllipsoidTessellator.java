@@ -18,13 +18,18 @@ package org.orekit.models.earth.tessellation;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
@@ -43,6 +48,7 @@ import org.orekit.bodies.GeodeticPoint;
 import org.orekit.bodies.OneAxisEllipsoid;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitInternalError;
+import org.orekit.utils.ParallelTasks;
 
 /** Class used to tessellate an interest zone on an ellipsoid in either
  * {@link Tile tiles} or grids of {@link GeodeticPoint geodetic points}.
@@ -61,6 +67,14 @@ import org.orekit.errors.OrekitInternalError;
  * that the tesselation will always be distorted, and distortion increases as
  * the size of the zone to be tessellated increases.
  * </p>
+ * <p>
+ * Meshes are grown node by node from a seed, so that all tiles of a connected
+ * part are aligned with each other. This growth is inherently sequential, but
+ * checking which candidate tiles really meet the zone of interest, which is the
+ * most expensive part for large zones, can be spread over several threads. The
+ * result does not depend on the number of threads. Tiles and sample points can
+ * also be streamed to a consumer rather than returned in lists.
+ * </p>
  * @author Luc Maisonobe
  * @since 7.1
  */
@@ -80,6 +94,11 @@ public class EllipsoidTessellator {
     /** Underlying ellipsoid. */
     private final OneAxisEllipsoid ellipsoid;
 
+    /** Runner for parallel tasks.
+     * @since 14.0
+     */
+    private final ParallelTasks tasks;
+
     /** Simple constructor.
      * <p>
      * The {@code quantization} parameter is used internally to adjust points positioning.
@@ -103,12 +122,34 @@ public class EllipsoidTessellator {
      * @param ellipsoid underlying ellipsoid
      * @param aiming aiming used for orienting tiles
      * @param quantization number of segments tiles sides are split into for tiles fine positioning
+     * @see #EllipsoidTessellator(OneAxisEllipsoid, TileAiming, int, int)
      */
     public EllipsoidTessellator(final OneAxisEllipsoid ellipsoid, final TileAiming aiming,
                                 final int quantization) {
+        this(ellipsoid, aiming, quantization, 1);
+    }
+
+    /** Constructor with parallel processing.
+     * <p>
+     * See {@link #EllipsoidTessellator(OneAxisEllipsoid, TileAiming, int)} for the
+     * meaning of the {@code quantization} parameter.
+     * </p>
+     * <p>
+     * The aiming and the {@link #toGeodetic(S2Point)} method may be called from several
+     * threads when {@code threads} is greater than 1.
+     * </p>
+     * @param ellipsoid underlying ellipsoid
+     * @param aiming aiming used for orienting tiles
+     * @param quantization number of segments tiles sides are split into for tiles fine positioning
+     * @param threads number of threads to use
+     * @since 14.0
+     */
+    public EllipsoidTessellator(final OneAxisEllipsoid ellipsoid, final TileAiming aiming,
+                                final int quantization, final int threads) {
         this.ellipsoid    = ellipsoid;
         this.aiming       = aiming;
         this.quantization = quantization;
+        this.tasks        = new ParallelTasks(threads);
     }
 
     /** Tessellate a zone of interest into tiles.
@@ -162,12 +203,84 @@ public class EllipsoidTessellator {
                                        final double fullWidth, final double fullLength,
                                        final double widthOverlap, final double lengthOverlap,
                                        final boolean truncateLastWidth, final boolean truncateLastLength) {
+        return new ArrayList<>(tessellateParts(zone, fullWidth, fullLength, widthOverlap, lengthOverlap,
+                                               truncateLastWidth, truncateLastLength).values());
+    }
+
+    /** Tessellate a zone of interest into tiles, streaming the tiles to a consumer.
+     * <p>
+     * This method is similar to {@link #tessellate(SphericalPolygonsSet, double, double,
+     * double, double, boolean, boolean)}, but the tiles are not gathered in a list of lists.
+     * They are provided to the consumer part by part, each tile being associated with
+     * the index of the part it belongs to (parts are not connected to each other, for
+     * example for islands). The consumer is called from the calling thread only.
+     * </p>
+     * <p>
+     * This method does <em>not</em> reduce peak memory use with respect to the
+     * list-based method. As a part found late may intersect and be merged with a part
+     * found earlier, the meshes and tiles of all parts are built before the first tile
+     * is provided to the consumer. What is saved is the list of lists returned to the
+     * caller: each part (mesh and tiles) is released as soon as its tiles have been
+     * consumed, so the consumer can process tiles without the caller holding all of them.
+     * </p>
+     * @param zone zone of interest to tessellate
+     * @param fullWidth full tiles width as a distance on surface, including overlap (in meters)
+     * @param fullLength full tiles length as a distance on surface, including overlap (in meters)
+     * @param widthOverlap overlap between adjacent tiles (in meters), if negative the tiles
+     * will have a gap between each other instead of an overlap
+     * @param lengthOverlap overlap between adjacent tiles (in meters), if negative the tiles
+     * will have a gap between each other instead of an overlap
+     * @param truncateLastWidth if true, the first tiles strip will be started as close as
+     * possible to the zone of interest, and the last tiles strip will have its width reduced
+     * to also remain close to the zone of interest; if false all tiles strip will have the
+     * same {@code fullWidth} and they will be balanced around zone of interest
+     * @param truncateLastLength if true, the first tile in each strip will be started as close as
+     * possible to the zone of interest, and the last tile in each strip will have its length reduced
+     * to also remain close to the zone of interest; if false all tiles in each strip will have the
+     * same {@code fullLength} and they will be balanced around zone of interest
+     * @param consumer consumer for the tiles and the index of the part they belong to
+     * @return number of parts
+     * @since 14.0
+     */
+    public int tessellate(final SphericalPolygonsSet zone,
+                          final double fullWidth, final double fullLength,
+                          final double widthOverlap, final double lengthOverlap,
+                          final boolean truncateLastWidth, final boolean truncateLastLength,
+                          final ObjIntConsumer<Tile> consumer) {
+        final Map<Mesh, List<Tile>> map = tessellateParts(zone, fullWidth, fullLength, widthOverlap, lengthOverlap,
+                                                          truncateLastWidth, truncateLastLength);
+        int part = 0;
+        for (final Iterator<List<Tile>> iterator = map.values().iterator(); iterator.hasNext(); ++part) {
+            for (final Tile tile : iterator.next()) {
+                consumer.accept(tile, part);
+            }
+            // release the mesh and its tiles as soon as they have been consumed
+            iterator.remove();
+        }
+        return part;
+    }
+
+    /** Tessellate a zone of interest into tiles.
+     * @param zone zone of interest to tessellate
+     * @param fullWidth full tiles width as a distance on surface, including overlap (in meters)
+     * @param fullLength full tiles length as a distance on surface, including overlap (in meters)
+     * @param widthOverlap overlap between adjacent tiles (in meters)
+     * @param lengthOverlap overlap between adjacent tiles (in meters)
+     * @param truncateLastWidth if true, the last tiles strip will have its width reduced
+     * @param truncateLastLength if true, the last tile in each strip will have its length reduced
+     * @return map from independent meshes to the tiles covering the corresponding part of the zone
+     */
+    private Map<Mesh, List<Tile>> tessellateParts(final SphericalPolygonsSet zone,
+                                                  final double fullWidth, final double fullLength,
+                                                  final double widthOverlap, final double lengthOverlap,
+                                                  final boolean truncateLastWidth, final boolean truncateLastLength) {
 
         final RegionFactory<Sphere2D, S2Point, Circle, SubCircle> factory = new RegionFactory<>();
 
         final double                splitWidth  = (fullWidth  - widthOverlap)  / quantization;
         final double                splitLength = (fullLength - lengthOverlap) / quantization;
-        final Map<Mesh, List<Tile>> map         = new IdentityHashMap<>();
+        // meshes are compared by identity, insertion order keeps parts in a reproducible order
+        final Map<Mesh, List<Tile>> map         = new LinkedHashMap<>();
         SphericalPolygonsSet        remaining   = (SphericalPolygonsSet) zone.copySelf();
         S2Point                     inside      = getInsidePoint(remaining);
 
@@ -217,13 +330,7 @@ public class EllipsoidTessellator {
 
         }
 
-        // concatenate the lists from the independent meshes
-        final List<List<Tile>> tilesLists = new ArrayList<>(map.size());
-        for (final Map.Entry<Mesh, List<Tile>> entry : map.entrySet()) {
-            tilesLists.add(entry.getValue());
-        }
-
-        return tilesLists;
+        return map;
 
     }
 
@@ -241,10 +348,67 @@ public class EllipsoidTessellator {
     public List<List<GeodeticPoint>> sample(final SphericalPolygonsSet zone,
                                             final double width, final double length) {
 
+        // extract the samples from the independent meshes
+        final List<Callable<List<GeodeticPoint>>> extractions = new ArrayList<>();
+        for (final Mesh mesh : sampleMeshes(zone, width, length)) {
+            extractions.add(() -> {
+                final List<GeodeticPoint> sample = new ArrayList<>();
+                extractSample(mesh, sample::add);
+                return sample;
+            });
+        }
+
+        return tasks.run(extractions);
+
+    }
+
+    /** Sample a zone of interest into a grid sample of {@link GeodeticPoint geodetic points},
+     * streaming the points to a consumer.
+     * <p>
+     * This method is similar to {@link #sample(SphericalPolygonsSet, double, double)}, but
+     * the points are not gathered in a list of lists. They are provided to the consumer
+     * part by part, each point being associated with the index of the part it belongs to
+     * (parts are not connected to each other, for example for islands). The consumer is
+     * called from the calling thread only.
+     * </p>
+     * <p>
+     * The meshes of all parts are built before the first point is provided to the consumer,
+     * as a part found late may be merged with a part found earlier, so peak memory is still
+     * driven by the meshes. The points, on the other hand, are extracted one part at a time
+     * and never gathered, and each mesh is released as soon as its points have been consumed.
+     * </p>
+     * @param zone zone of interest to sample
+     * @param width grid sample cells width as a distance on surface (in meters)
+     * @param length grid sample cells length as a distance on surface (in meters)
+     * @param consumer consumer for the points and the index of the part they belong to
+     * @return number of parts
+     * @since 14.0
+     */
+    public int sample(final SphericalPolygonsSet zone, final double width, final double length,
+                      final ObjIntConsumer<GeodeticPoint> consumer) {
+        int part = 0;
+        for (final Iterator<Mesh> iterator = sampleMeshes(zone, width, length).iterator(); iterator.hasNext(); ++part) {
+            final int current = part;
+            extractSample(iterator.next(), point -> consumer.accept(point, current));
+            // release the mesh as soon as its points have been consumed
+            iterator.remove();
+        }
+        return part;
+    }
+
+    /** Build the independent meshes sampling a zone of interest.
+     * @param zone zone of interest to sample
+     * @param width grid sample cells width as a distance on surface (in meters)
+     * @param length grid sample cells length as a distance on surface (in meters)
+     * @return independent meshes, each one corresponding to a part not connected to the other parts
+     */
+    private Set<Mesh> sampleMeshes(final SphericalPolygonsSet zone, final double width, final double length) {
+
         final RegionFactory<Sphere2D, S2Point, Circle, SubCircle> factory = new RegionFactory<>();
         final double                          splitWidth  = width  / quantization;
         final double                          splitLength = length / quantization;
-        final Map<Mesh, List<GeodeticPoint>>  map         = new IdentityHashMap<>();
+        // meshes are compared by identity, insertion order keeps parts in a reproducible order
+        final Set<Mesh>                       meshes      = new LinkedHashSet<>();
         SphericalPolygonsSet                  remaining   = (SphericalPolygonsSet) zone.copySelf();
         S2Point                               inside      = getInsidePoint(remaining);
 
@@ -259,26 +423,23 @@ public class EllipsoidTessellator {
             final List<Mesh.Node> mergingSeeds = new ArrayList<>();
             Mesh mesh = new Mesh(ellipsoid, zone, aiming, splitLength, splitWidth, inside);
             mergingSeeds.add(mesh.getNode(0, 0));
-            List<GeodeticPoint> sample = null;
             while (!mergingSeeds.isEmpty()) {
 
                 // expand the mesh around the seed
                 neighborExpandMesh(mesh, mergingSeeds, zone);
 
-                // extract the sample from the mesh
-                // this further expands the mesh so sample cells dimensions are multiples of quantization,
-                // hence it must be performed here before checking meshes independence
-                sample = extractSample(mesh);
+                // sample extraction does not change the mesh,
+                // so it is deferred until all meshes are independent
 
                 // check the mesh is independent from existing meshes
                 mergingSeeds.clear();
-                for (final Map.Entry<Mesh, List<GeodeticPoint>> entry : map.entrySet()) {
-                    if (!factory.intersection(mesh.getCoverage(), entry.getKey().getCoverage()).isEmpty()) {
+                for (final Mesh existing : meshes) {
+                    if (!factory.intersection(mesh.getCoverage(), existing.getCoverage()).isEmpty()) {
                         // the meshes are not independent, they intersect each other!
 
                         // merge the two meshes together
-                        mesh = mergeMeshes(mesh, entry.getKey(), mergingSeeds);
-                        map.remove(entry.getKey());
+                        mesh = mergeMeshes(mesh, existing, mergingSeeds);
+                        meshes.remove(existing);
                         break;
 
                     }
@@ -290,17 +451,11 @@ public class EllipsoidTessellator {
             remaining = (SphericalPolygonsSet) factory.difference(remaining, mesh.getCoverage());
             inside    = getInsidePoint(remaining);
 
-            map.put(mesh, sample);
+            meshes.add(mesh);
 
         }
 
-        // concatenate the lists from the independent meshes
-        final List<List<GeodeticPoint>> sampleLists = new ArrayList<>(map.size());
-        for (final Map.Entry<Mesh, List<GeodeticPoint>> entry : map.entrySet()) {
-            sampleLists.add(entry.getValue());
-        }
-
-        return sampleLists;
+        return meshes;
 
     }
 
@@ -391,8 +546,7 @@ public class EllipsoidTessellator {
                                     final double lengthOverlap, final double widthOverlap,
                                     final boolean truncateLastWidth, final boolean truncateLastLength) {
 
-        final List<Tile>      tiles = new ArrayList<>();
-        final List<RangePair> rangePairs = new ArrayList<>();
+        final List<Candidate> candidates = new ArrayList<>();
 
         final int minAcross = mesh.getMinAcrossIndex();
         final int maxAcross = mesh.getMaxAcrossIndex();
@@ -423,19 +577,34 @@ public class EllipsoidTessellator {
                 final S2Point s2p3 = node3.move(new Vector3D(-0.5 * lengthOverlap, node2.getAlong(),
                                                              +0.5 * widthOverlap,  node2.getAcross()));
 
-                // create a quadrilateral region corresponding to the candidate tile
-                final SphericalPolygonsSet quadrilateral =
-                        new SphericalPolygonsSet(zone.getTolerance(), s2p0, s2p1, s2p2, s2p3);
+                candidates.add(new Candidate(new RangePair(acrossPair, alongPair), s2p0, s2p1, s2p2, s2p3));
 
-                if (!new RegionFactory<Sphere2D, S2Point, Circle, SubCircle>().
-                    intersection(zone.copySelf(), quadrilateral).isEmpty()) {
+            }
+        }
 
-                    // the tile does cover part of the zone, it contributes to the tessellation
-                    tiles.add(new Tile(toGeodetic(s2p0), toGeodetic(s2p1), toGeodetic(s2p2), toGeodetic(s2p3)));
-                    rangePairs.add(new RangePair(acrossPair, alongPair));
+        // check which candidate tiles cover part of the zone
+        // this is the expensive part, it does not depend on the mesh and can be done in parallel
+        final int[]                  limits = tasks.split(candidates.size());
+        final List<Callable<Tile[]>> checks = new ArrayList<>(limits.length - 1);
+        for (int k = 0; k < limits.length - 1; ++k) {
+            // each chunk works on its own copy of the zone, as regions operations are not thread safe
+            final SphericalPolygonsSet copy  = (SphericalPolygonsSet) zone.copySelf();
+            final int                  start = limits[k];
+            final int                  end   = limits[k + 1];
+            checks.add(() -> checkCandidates(candidates.subList(start, end), copy));
+        }
 
+        final List<Tile>      tiles      = new ArrayList<>();
+        final List<RangePair> rangePairs = new ArrayList<>();
+        int index = 0;
+        for (final Tile[] chunk : tasks.run(checks)) {
+            for (final Tile tile : chunk) {
+                if (tile != null) {
+                    // the tile does cover part of the zone, it contributes to the tessellation
+                    tiles.add(tile);
+                    rangePairs.add(candidates.get(index).ranges());
                 }
-
+                ++index;
             }
         }
 
@@ -458,13 +627,38 @@ public class EllipsoidTessellator {
 
     }
 
+    /** Check which candidate tiles cover part of a zone.
+     * @param candidates candidate tiles
+     * @param zone zone to cover (will not be modified)
+     * @return tiles built from the candidates, with null elements for candidates that do not cover the zone
+     */
+    private Tile[] checkCandidates(final List<Candidate> candidates, final SphericalPolygonsSet zone) {
+        final RegionFactory<Sphere2D, S2Point, Circle, SubCircle> factory = new RegionFactory<>();
+        final Tile[] tiles = new Tile[candidates.size()];
+        for (int i = 0; i < tiles.length; ++i) {
+            final Candidate candidate = candidates.get(i);
+
+            // create a quadrilateral region corresponding to the candidate tile
+            final SphericalPolygonsSet quadrilateral =
+                    new SphericalPolygonsSet(zone.getTolerance(),
+                                             candidate.s2p0(), candidate.s2p1(), candidate.s2p2(), candidate.s2p3());
+
+            if (!factory.intersection(zone.copySelf(), quadrilateral).isEmpty()) {
+                tiles[i] = new Tile(toGeodetic(candidate.s2p0()), toGeodetic(candidate.s2p1()),
+                                    toGeodetic(candidate.s2p2()), toGeodetic(candidate.s2p3()));
+            }
+
+        }
+        return tiles;
+    }
+
     /**
      * Extract a sample of points from a mesh.
      *
      * @param mesh mesh from which grid should be extracted
-     * @return extracted grid
+     * @param consumer consumer for the extracted points
      */
-    private List<GeodeticPoint> extractSample(final Mesh mesh) {
+    private void extractSample(final Mesh mesh, final Consumer<GeodeticPoint> consumer) {
 
         // find how to select sample points taking quantization into account
         // to have the largest possible number of points while still
@@ -500,7 +694,6 @@ public class EllipsoidTessellator {
         }
 
         // extract the sample points
-        final List<GeodeticPoint> sample = new ArrayList<>(selectedCount);
         for (int across = mesh.getMinAcrossIndex() + selectedAcrossModulus;
                 across <= mesh.getMaxAcrossIndex();
                 across += quantization) {
@@ -509,13 +702,11 @@ public class EllipsoidTessellator {
                     along += quantization) {
                 final Mesh.Node  node = mesh.getNode(along, across);
                 if (node != null && node.isInside()) {
-                    sample.add(toGeodetic(node.getS2P()));
+                    consumer.accept(toGeodetic(node.getS2P()));
                 }
             }
         }
 
-        return sample;
-
     }
 
     /** Merge two meshes together.
@@ -865,4 +1056,16 @@ public class EllipsoidTessellator {
     private record RangePair(Range across, Range along) {
     }
 
+    /**
+     * Local class for a candidate tile, not yet checked against the zone of interest.
+     *
+     * @param ranges ranges of indices of the tile
+     * @param s2p0 first vertex
+     * @param s2p1 second vertex
+     * @param s2p2 third vertex
+     * @param s2p3 fourth vertex
+     */
+    private record Candidate(RangePair ranges, S2Point s2p0, S2Point s2p1, S2Point s2p2, S2Point s2p3) {
+    }
+
 }
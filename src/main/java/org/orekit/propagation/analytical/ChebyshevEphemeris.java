@@ -0,0 +1,475 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.util.FastMath;
+import org.orekit.attitudes.Attitude;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.attitudes.FrameAlignedProvider;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.AbstractMatricesHarvester;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeOffset;
+import org.orekit.utils.AbsolutePVCoordinates;
+import org.orekit.utils.DataDictionary;
+import org.orekit.utils.DoubleArrayDictionary;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/** Ephemeris based on piecewise Chebyshev polynomials.
+ * <p>
+ * This ephemeris is a compressed representation of a trajectory: position, velocity
+ * and mass are represented by Chebyshev polynomials fitted over contiguous segments,
+ * within a user-specified position tolerance. Acceleration is computed as the
+ * derivative of the velocity polynomials. Only a few tens of double numbers per segment
+ * are stored, regardless of the number of integration steps used to generate the
+ * trajectory, so this representation is well suited for long high-fidelity runs.
+ * </p>
+ * <p>
+ * Instances can be built from any {@link BoundedPropagator} or directly during
+ * numerical propagation using {@link
+ * org.orekit.propagation.integration.AbstractIntegratedPropagator#getCompressedEphemerisGenerator(double, double, int)
+ * compressed ephemeris generators}. They can be {@link #write(OutputStream) written}
+ * in a compact binary form and {@link #read(Path, Frame, AttitudeProvider) read} back.
+ * When reading from a file, the coefficients are memory-mapped and not copied, so
+ * ephemerides can be cached on disk and shared between several processes.
+ * </p>
+ * <p>
+ * Attitude is not stored, it is recomputed by the attitude provider. Additional
+ * data are not stored either.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and hence thread-safe.
+ * </p>
+ * @see ChebyshevEphemerisBuilder
+ * @since 14.0
+ */
+public class ChebyshevEphemeris extends AbstractAnalyticalPropagator implements BoundedPropagator {
+
+    /** Magic number at start of binary form ("OREKCHEB"). */
+    private static final long MAGIC = 0x4F52454B43484542L;
+
+    /** Binary form version. */
+    private static final int VERSION = 1;
+
+    /** Size of the fixed part of the header (magic, version, degree, segments, name length, date, mu). */
+    private static final int FIXED_HEADER_SIZE = 48;
+
+    /** Event detection requires evaluating the state slightly before / past an event. */
+    private static final double EXTRAPOLATION_TOLERANCE = 1.0;
+
+    /** Reference date. */
+    private final AbsoluteDate reference;
+
+    /** First date in range. */
+    private final AbsoluteDate minDate;
+
+    /** Last date in range. */
+    private final AbsoluteDate maxDate;
+
+    /** Frame of the states. */
+    private final Frame frame;
+
+    /** Central attraction coefficient (NaN if states are not orbit-defined). */
+    private final double mu;
+
+    /** Polynomials degree. */
+    private final int degree;
+
+    /** Segments boundaries, as offsets with respect to reference date. */
+    private final double[] boundaries;
+
+    /** Packed coefficients. */
+    private final DoubleBuffer coefficients;
+
+    /** Constructor.
+     * <p>
+     * This constructor is intended to be called by {@link ChebyshevEphemerisBuilder}
+     * and by the binary form reader, arrays and buffers are used directly without copy.
+     * </p>
+     * @param reference reference date
+     * @param frame frame of the states
+     * @param mu central attraction coefficient (NaN if states are not orbit-defined)
+     * @param degree polynomials degree
+     * @param boundaries segments boundaries, as offsets with respect to reference date
+     * @param coefficients packed coefficients
+     * @param attitudeProvider attitude provider (if null, attitude is aligned with ephemeris frame)
+     */
+    ChebyshevEphemeris(final AbsoluteDate reference, final Frame frame, final double mu, final int degree,
+                       final double[] boundaries, final DoubleBuffer coefficients,
+                       final AttitudeProvider attitudeProvider) {
+        super(attitudeProvider == null ? FrameAlignedProvider.of(frame) : attitudeProvider);
+        this.reference    = reference;
+        this.minDate      = reference.shiftedBy(boundaries[0]);
+        this.maxDate      = reference.shiftedBy(boundaries[boundaries.length - 1]);
+        this.frame        = frame;
+        this.mu           = mu;
+        this.degree       = degree;
+        this.boundaries   = boundaries;
+        this.coefficients = coefficients;
+        super.resetInitialState(getInitialState());
+    }
+
+    /** Read an ephemeris from a binary file.
+     * <p>
+     * The file is memory-mapped, coefficients are not copied in the Java heap.
+     * </p>
+     * @param path path to the file
+     * @param frame frame of the states, must match the frame used when file was written
+     * @param attitudeProvider attitude provider (if null, attitude is aligned with ephemeris frame)
+     * @return read ephemeris
+     * @see #write(OutputStream)
+     */
+    public static ChebyshevEphemeris read(final Path path, final Frame frame, final AttitudeProvider attitudeProvider) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()),
+                        path.toString(), frame, attitudeProvider);
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+    }
+
+    /** Read an ephemeris from a buffer containing its binary form.
+     * <p>
+     * The coefficients are not copied, they are read directly from the buffer
+     * which must therefore not be modified afterwards.
+     * </p>
+     * @param buffer buffer containing the binary form, starting at its current position
+     * @param name name of the data (for error messages)
+     * @param frame frame of the states, must match the frame used when file was written
+     * @param attitudeProvider attitude provider (if null, attitude is aligned with ephemeris frame)
+     * @return read ephemeris
+     * @see #write(OutputStream)
+     */
+    public static ChebyshevEphemeris read(final ByteBuffer buffer, final String name,
+                                          final Frame frame, final AttitudeProvider attitudeProvider) {
+
+        final ByteBuffer data = buffer.slice();
+        if (data.remaining() < FIXED_HEADER_SIZE || data.getLong() != MAGIC) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+        }
+        final int version = data.getInt();
+        if (version != VERSION) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, version, name, VERSION);
+        }
+        final int          degree      = data.getInt();
+        final int          nbSegments  = data.getInt();
+        final int          nameLength  = data.getInt();
+        final AbsoluteDate reference   = new AbsoluteDate(new TimeOffset(data.getLong(), data.getLong()));
+        final double       mu          = data.getDouble();
+        final int          paddedName  = padded(nameLength);
+        final long         coeffsSize  = (long) nbSegments * (degree + 1) * ChebyshevEphemerisBuilder.COMPONENTS;
+        if (degree < 1 || nbSegments < 1 || nameLength < 0 ||
+            data.remaining() != paddedName + Double.BYTES * (nbSegments + 1 + coeffsSize)) {
+            throw new OrekitException(OrekitMessages.CORRUPTED_FILE, name);
+        }
+
+        // check frame
+        final byte[] frameName = new byte[nameLength];
+        data.get(frameName);
+        final String storedFrame = new String(frameName, StandardCharsets.UTF_8);
+        if (!storedFrame.equals(frame.getName())) {
+            throw new OrekitException(OrekitMessages.FRAMES_MISMATCH, storedFrame, frame.getName());
+        }
+        data.position(data.position() + paddedName - nameLength);
+
+        // segments boundaries
+        final double[] boundaries = new double[nbSegments + 1];
+        data.asDoubleBuffer().get(boundaries);
+        data.position(data.position() + Double.BYTES * boundaries.length);
+
+        // coefficients are used directly from the buffer
+        return new ChebyshevEphemeris(reference, frame, mu, degree, boundaries,
+                                      data.slice().asDoubleBuffer(), attitudeProvider);
+
+    }
+
+    /** Write the binary form of the ephemeris.
+     * <p>
+     * The stream is flushed but not closed.
+     * </p>
+     * @param out output stream
+     * @throws IOException if data cannot be written
+     * @see #read(Path, Frame, AttitudeProvider)
+     * @see #read(ByteBuffer, String, Frame, AttitudeProvider)
+     */
+    public void write(final OutputStream out) throws IOException {
+
+        final DataOutputStream dos       = new DataOutputStream(new BufferedOutputStream(out));
+        final byte[]           frameName = frame.getName().getBytes(StandardCharsets.UTF_8);
+
+        // header
+        dos.writeLong(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeInt(degree);
+        dos.writeInt(boundaries.length - 1);
+        dos.writeInt(frameName.length);
+        dos.writeLong(reference.getSeconds());
+        dos.writeLong(reference.getAttoSeconds());
+        dos.writeDouble(mu);
+        dos.write(frameName);
+        dos.write(new byte[padded(frameName.length) - frameName.length]);
+
+        // segments
+        for (final double boundary : boundaries) {
+            dos.writeDouble(boundary);
+        }
+        for (int i = 0; i < coefficients.limit(); ++i) {
+            dos.writeDouble(coefficients.get(i));
+        }
+
+        dos.flush();
+
+    }
+
+    /** Get the polynomials degree.
+     * @return polynomials degree
+     */
+    public int getDegree() {
+        return degree;
+    }
+
+    /** Get the number of segments.
+     * @return number of segments
+     */
+    public int getSegmentsNumber() {
+        return boundaries.length - 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getMinDate() {
+        return minDate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getMaxDate() {
+        return maxDate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Frame getFrame() {
+        return frame;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SpacecraftState basicPropagate(final AbsoluteDate date) {
+        final double[] values = evaluate(checkedOffset(date), true);
+        final TimeStampedPVCoordinates pva = toPV(date, values);
+        if (Double.isNaN(mu)) {
+            final AbsolutePVCoordinates absPva   = new AbsolutePVCoordinates(frame, pva);
+            final Attitude              attitude = getAttitudeProvider().getAttitude(absPva, date, frame);
+            return new SpacecraftState(absPva, attitude, values[9], new DataDictionary(), new DoubleArrayDictionary());
+        } else {
+            final Orbit    orbit    = new CartesianOrbit(pva, frame, mu);
+            final Attitude attitude = getAttitudeProvider().getAttitude(orbit, date, frame);
+            return new SpacecraftState(orbit, attitude, values[9], new DataDictionary(), new DoubleArrayDictionary());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Orbit propagateOrbit(final AbsoluteDate date) {
+        if (Double.isNaN(mu)) {
+            return basicPropagate(date).getOrbit();
+        }
+        return new CartesianOrbit(toPV(date, evaluate(checkedOffset(date), true)), frame, mu);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TimeStampedPVCoordinates getPVCoordinates(final AbsoluteDate date, final Frame outputFrame) {
+        final TimeStampedPVCoordinates pva = toPV(date, evaluate(checkedOffset(date), true));
+        return outputFrame == frame ? pva : frame.getTransformTo(outputFrame, date).transformPVCoordinates(pva);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D getPosition(final AbsoluteDate date, final Frame outputFrame) {
+        final double[] values   = evaluate(checkedOffset(date), false);
+        final Vector3D position = new Vector3D(values[0], values[1], values[2]);
+        return outputFrame == frame ? position : frame.getStaticTransformTo(outputFrame, date).transformPosition(position);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected double getMass(final AbsoluteDate date) {
+        return evaluate(checkedOffset(date), false)[9];
+    }
+
+    /** Try (and fail) to reset the initial state.
+     * <p>
+     * This method always throws an exception, as ephemerides cannot be reset.
+     * </p>
+     * @param state new initial state to consider
+     */
+    @Override
+    public void resetInitialState(final SpacecraftState state) {
+        throw new OrekitException(OrekitMessages.NON_RESETABLE_STATE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void resetIntermediateState(final SpacecraftState state, final boolean forward) {
+        throw new OrekitException(OrekitMessages.NON_RESETABLE_STATE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SpacecraftState getInitialState() {
+        return basicPropagate(getMinDate());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected AbstractMatricesHarvester createHarvester(final String stmName, final RealMatrix initialStm,
+                                                        final DoubleArrayDictionary initialJacobianColumns) {
+        // as in Ephemeris, no harvester is available for fitted states
+        return null;
+    }
+
+    /** Compute the values of Chebyshev polynomials and their derivatives.
+     * @param x normalized abscissa
+     * @param t placeholder for polynomials values
+     * @param dt placeholder for polynomials derivatives (may be null if not needed)
+     */
+    static void basis(final double x, final double[] t, final double[] dt) {
+        t[0] = 1;
+        t[1] = x;
+        for (int k = 1; k < t.length - 1; ++k) {
+            t[k + 1] = 2 * x * t[k] - t[k - 1];
+        }
+        if (dt != null) {
+            dt[0] = 0;
+            dt[1] = 1;
+            for (int k = 1; k < dt.length - 1; ++k) {
+                dt[k + 1] = 2 * t[k] + 2 * x * dt[k] - dt[k - 1];
+            }
+        }
+    }
+
+    /** Round a byte count to the next multiple of 8.
+     * @param length byte count
+     * @return padded byte count
+     */
+    private static int padded(final int length) {
+        return (length + Double.BYTES - 1) & -Double.BYTES;
+    }
+
+    /** Compute the offset of a date, checking it is in range.
+     * @param date date to check
+     * @return offset of the date with respect to reference date
+     */
+    private double checkedOffset(final AbsoluteDate date) {
+        final double dt = date.durationFrom(reference);
+        if (dt < boundaries[0] - EXTRAPOLATION_TOLERANCE) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE,
+                                      date, minDate, maxDate, boundaries[0] - dt);
+        }
+        if (dt > boundaries[boundaries.length - 1] + EXTRAPOLATION_TOLERANCE) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER,
+                                      date, minDate, maxDate, dt - boundaries[boundaries.length - 1]);
+        }
+        return dt;
+    }
+
+    /** Evaluate the polynomials.
+     * @param dt offset with respect to reference date
+     * @param withAcceleration if true, acceleration is computed
+     * @return position (indices 0 to 2), velocity (indices 3 to 5),
+     * acceleration (indices 6 to 8, zero if not computed) and mass (index 9)
+     */
+    private double[] evaluate(final double dt, final boolean withAcceleration) {
+
+        // locate segment
+        int segment = Arrays.binarySearch(boundaries, dt);
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+        segment = FastMath.max(0, FastMath.min(boundaries.length - 2, segment));
+
+        // normalized abscissa
+        final double   half = 0.5 * (boundaries[segment + 1] - boundaries[segment]);
+        final double   x    = (dt - boundaries[segment]) / half - 1;
+        final int      n    = degree + 1;
+        final double[] t    = new double[n];
+        final double[] dT   = withAcceleration ? new double[n] : null;
+        basis(x, t, dT);
+
+        final double[] values = new double[10];
+        final int      base   = segment * n * ChebyshevEphemerisBuilder.COMPONENTS;
+        for (int c = 0; c < ChebyshevEphemerisBuilder.COMPONENTS; ++c) {
+            final int start = base + c * n;
+            double value      = 0;
+            double derivative = 0;
+            for (int j = 0; j < n; ++j) {
+                final double coefficient = coefficients.get(start + j);
+                value += coefficient * t[j];
+                if (withAcceleration) {
+                    derivative += coefficient * dT[j];
+                }
+            }
+            if (c < 6) {
+                values[c] = value;
+                if (c >= 3) {
+                    values[c + 3] = derivative / half;
+                }
+            } else {
+                values[9] = value;
+            }
+        }
+
+        return values;
+
+    }
+
+    /** Build position-velocity-acceleration from evaluated values.
+     * @param date date
+     * @param values evaluated values
+     * @return position-velocity-acceleration
+     */
+    private static TimeStampedPVCoordinates toPV(final AbsoluteDate date, final double[] values) {
+        return new TimeStampedPVCoordinates(date,
+                                            new Vector3D(values[0], values[1], values[2]),
+                                            new Vector3D(values[3], values[4], values[5]),
+                                            new Vector3D(values[6], values[7], values[8]));
+    }
+
+}
@@ -0,0 +1,280 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.DoubleFunction;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.util.FastMath;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.PVCoordinates;
+
+/** Builder for {@link ChebyshevEphemeris}.
+ * <p>
+ * The builder fits Chebyshev polynomials to position, velocity and mass over
+ * successive segments. Each segment is fitted by interpolation at Chebyshev nodes
+ * and the resulting position error is checked at the extrema of the Chebyshev polynomial
+ * of twice the fitting degree (which include the segment end points and interleave the
+ * nodes). If the error exceeds the user tolerance, the segment is split in two halves
+ * that are fitted independently. As the error is checked only at sample
+ * points, it may slightly exceed the tolerance between them, especially for low degrees.
+ * </p>
+ * <p>
+ * Segments are fitted from a sampling function that returns, for an offset with
+ * respect to the reference date, an array containing position (3 components),
+ * velocity (3 components) and mass. Segments can be added in any order, but they
+ * must be contiguous once sorted, which is naturally the case when they are fitted
+ * from successive steps of a propagation. Gaps or overlaps are detected when the
+ * ephemeris is {@link #build(AttitudeProvider) built}.
+ * </p>
+ * @see ChebyshevEphemeris
+ * @since 14.0
+ */
+public class ChebyshevEphemerisBuilder {
+
+    /** Number of fitted components (position, velocity and mass). */
+    static final int COMPONENTS = 7;
+
+    /** Minimum polynomial degree. */
+    private static final int MIN_DEGREE = 2;
+
+    /** Minimum segment duration below which segments are not split anymore (s). */
+    private static final double MIN_SEGMENT_DURATION = 1.0e-3;
+
+    /** Maximum mismatch between end of one segment and start of next segment (s). */
+    private static final double CONTIGUITY_TOLERANCE = 1.0e-6;
+
+    /** Reference date. */
+    private final AbsoluteDate reference;
+
+    /** Frame of the fitted states. */
+    private final Frame frame;
+
+    /** Central attraction coefficient (NaN if states are not orbit-defined). */
+    private final double mu;
+
+    /** Polynomials degree. */
+    private final int degree;
+
+    /** Position tolerance (m). */
+    private final double tolerance;
+
+    /** Chebyshev nodes, in [-1; 1]. */
+    private final double[] nodes;
+
+    /** Points used for error checks (extrema of Chebyshev polynomial of degree 2n), in [-1; 1]. */
+    private final double[] checks;
+
+    /** Fitted segments (start offset, end offset, then packed coefficients). */
+    private final List<double[]> segments;
+
+    /** Simple constructor.
+     * @param reference reference date
+     * @param frame frame of the fitted states
+     * @param mu central attraction coefficient (NaN if states are not orbit-defined)
+     * @param degree polynomials degree (must be at least 2)
+     * @param tolerance position tolerance (m)
+     */
+    public ChebyshevEphemerisBuilder(final AbsoluteDate reference, final Frame frame, final double mu,
+                                     final int degree, final double tolerance) {
+        if (degree < MIN_DEGREE) {
+            throw new OrekitException(LocalizedCoreFormats.NUMBER_TOO_SMALL, degree, MIN_DEGREE);
+        }
+        if (!(tolerance > 0)) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, tolerance);
+        }
+        this.reference = reference;
+        this.frame     = frame;
+        this.mu        = mu;
+        this.degree    = degree;
+        this.tolerance = tolerance;
+        this.nodes     = new double[degree + 1];
+        this.checks    = new double[2 * degree + 1];
+        for (int k = 0; k <= degree; ++k) {
+            nodes[k] = FastMath.cos(FastMath.PI * (k + 0.5) / (degree + 1));
+        }
+        for (int k = 0; k < checks.length; ++k) {
+            checks[k] = FastMath.cos(FastMath.PI * k / (2 * degree));
+        }
+        this.segments  = new ArrayList<>();
+    }
+
+    /** Get the reference date.
+     * @return reference date
+     */
+    public AbsoluteDate getReference() {
+        return reference;
+    }
+
+    /** Get the number of fitted segments.
+     * @return number of fitted segments
+     */
+    public int getSegmentsNumber() {
+        return segments.size();
+    }
+
+    /** Fit segments covering a time range.
+     * <p>
+     * The range may be split in several segments if one polynomial
+     * is not sufficient to meet the position tolerance.
+     * </p>
+     * @param t0 start offset of the range with respect to reference date (s)
+     * @param t1 end offset of the range with respect to reference date (s),
+     * may be before {@code t0}
+     * @param sampler sampling function, returning position, velocity and mass
+     * for an offset with respect to reference date
+     */
+    public void fit(final double t0, final double t1, final DoubleFunction<double[]> sampler) {
+        if (t0 != t1) {
+            fitSegment(FastMath.min(t0, t1), FastMath.max(t0, t1), sampler);
+        }
+    }
+
+    /** Fit segments covering the whole range of a bounded propagator.
+     * @param ephemeris ephemeris to fit
+     * @param maxSegmentDuration maximum duration of one segment (s)
+     * @return the builder instance
+     */
+    public ChebyshevEphemerisBuilder fit(final BoundedPropagator ephemeris, final double maxSegmentDuration) {
+        final double tMin = ephemeris.getMinDate().durationFrom(reference);
+        final double tMax = ephemeris.getMaxDate().durationFrom(reference);
+        final int    n    = FastMath.max(1, (int) FastMath.ceil((tMax - tMin) / maxSegmentDuration));
+        final DoubleFunction<double[]> sampler = t -> {
+            final SpacecraftState state = ephemeris.propagate(reference.shiftedBy(t));
+            return pack(state.getPVCoordinates(frame), state.getMass());
+        };
+        for (int i = 0; i < n; ++i) {
+            fit(tMin + i * (tMax - tMin) / n, i == n - 1 ? tMax : tMin + (i + 1) * (tMax - tMin) / n, sampler);
+        }
+        return this;
+    }
+
+    /** Pack position, velocity and mass in a sample array.
+     * @param pv position-velocity
+     * @param mass mass
+     * @return packed sample, suitable for {@link #fit(double, double, DoubleFunction) fitting}
+     */
+    public static double[] pack(final PVCoordinates pv, final double mass) {
+        return new double[] {
+            pv.getPosition().getX(), pv.getPosition().getY(), pv.getPosition().getZ(),
+            pv.getVelocity().getX(), pv.getVelocity().getY(), pv.getVelocity().getZ(),
+            mass
+        };
+    }
+
+    /** Build the ephemeris.
+     * @param attitudeProvider attitude provider (if null, attitude is aligned with ephemeris frame)
+     * @return built ephemeris
+     * @exception OrekitException if no segments have been fitted or if segments are not contiguous
+     */
+    public ChebyshevEphemeris build(final AttitudeProvider attitudeProvider) {
+
+        if (segments.isEmpty()) {
+            throw new OrekitException(OrekitMessages.NOT_ENOUGH_DATA, 0);
+        }
+
+        final List<double[]> sorted = new ArrayList<>(segments);
+        sorted.sort(Comparator.comparingDouble(s -> s[0]));
+
+        final int          size         = (degree + 1) * COMPONENTS;
+        final double[]     boundaries   = new double[sorted.size() + 1];
+        final DoubleBuffer coefficients = DoubleBuffer.allocate(sorted.size() * size);
+        for (int i = 0; i < sorted.size(); ++i) {
+            final double[] segment = sorted.get(i);
+            if (i > 0 && FastMath.abs(segment[0] - boundaries[i]) > CONTIGUITY_TOLERANCE) {
+                // there is a gap or an overlap between the segments
+                throw new OrekitException(OrekitMessages.NON_CONTIGUOUS_SEGMENTS,
+                                          reference.shiftedBy(boundaries[i]), reference.shiftedBy(segment[0]));
+            }
+            boundaries[i]     = segment[0];
+            boundaries[i + 1] = segment[1];
+            coefficients.put(segment, 2, size);
+        }
+        coefficients.rewind();
+
+        return new ChebyshevEphemeris(reference, frame, mu, degree, boundaries, coefficients, attitudeProvider);
+
+    }
+
+    /** Fit one segment, splitting it if needed.
+     * @param tA segment start offset
+     * @param tB segment end offset
+     * @param sampler sampling function
+     */
+    private void fitSegment(final double tA, final double tB, final DoubleFunction<double[]> sampler) {
+
+        final double mid  = 0.5 * (tA + tB);
+        final double half = 0.5 * (tB - tA);
+
+        // interpolate at Chebyshev nodes
+        final int      n       = degree + 1;
+        final double[] segment = new double[2 + n * COMPONENTS];
+        segment[0] = tA;
+        segment[1] = tB;
+        for (int k = 0; k < n; ++k) {
+            final double[] sample = sampler.apply(mid + half * nodes[k]);
+            for (int j = 0; j < n; ++j) {
+                final double tj = FastMath.cos(FastMath.PI * j * (k + 0.5) / n);
+                for (int c = 0; c < COMPONENTS; ++c) {
+                    segment[2 + c * n + j] += sample[c] * tj;
+                }
+            }
+        }
+        for (int c = 0; c < COMPONENTS; ++c) {
+            segment[2 + c * n] /= n;
+            for (int j = 1; j < n; ++j) {
+                segment[2 + c * n + j] *= 2.0 / n;
+            }
+        }
+
+        // check position error
+        double maxError = 0;
+        final double[] basis = new double[n];
+        for (final double x : checks) {
+            final double[] sample = sampler.apply(mid + half * x);
+            ChebyshevEphemeris.basis(x, basis, null);
+            double error2 = 0;
+            for (int c = 0; c < 3; ++c) {
+                double value = 0;
+                for (int j = 0; j < n; ++j) {
+                    value += segment[2 + c * n + j] * basis[j];
+                }
+                error2 += (value - sample[c]) * (value - sample[c]);
+            }
+            maxError = FastMath.max(maxError, error2);
+        }
+
+        if (FastMath.sqrt(maxError) <= tolerance || tB - tA <= MIN_SEGMENT_DURATION) {
+            segments.add(segment);
+        } else {
+            fitSegment(tA, mid, sampler);
+            fitSegment(mid, tB, sampler);
+        }
+
+    }
+
+}
@@ -0,0 +1,559 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.util.FastMath;
+import org.orekit.attitudes.Attitude;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.attitudes.FrameAlignedProvider;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.AbstractMatricesHarvester;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.AbsolutePVCoordinates;
+import org.orekit.utils.DataDictionary;
+import org.orekit.utils.DoubleArrayDictionary;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/**
+ * Memory-efficient ephemeris based on primitive arrays.
+ * <p>
+ * Contrary to {@link Ephemeris} which holds a list of {@link SpacecraftState} instances,
+ * this class stores dates as offsets with respect to a reference date and position-velocity,
+ * optional attitudes (quaternions and spin), masses and additional states in packed
+ * {@code double[]} arrays. {@link SpacecraftState} instances are only built on demand,
+ * interpolating directly from the arrays. Each stored point uses about 60 bytes
+ * (plus 56 bytes if attitudes are stored and 8 bytes per additional state component),
+ * which is more than an order of magnitude smaller than a full spacecraft state.
+ * </p>
+ * <p>
+ * Position and velocity are interpolated using Hermite interpolation (i.e. using
+ * both positions and velocities) on a sliding window of points, mass and additional
+ * states are interpolated using Lagrange interpolation on the same window, and
+ * attitudes are shifted from the closest sample using its spin. Orbit-defined states
+ * are rebuilt as {@link CartesianOrbit Cartesian orbits}.
+ * </p>
+ * <p>
+ * Instances are built using {@link CompactEphemerisBuilder}, which can also be used
+ * as a fixed step handler to generate the ephemeris directly during propagation.
+ * </p>
+ * @see CompactEphemerisBuilder
+ * @since 14.0
+ */
+public class CompactEphemeris extends AbstractAnalyticalPropagator implements BoundedPropagator {
+
+    /** Event detection requires evaluating the state slightly before / past an event. */
+    private static final double EXTRAPOLATION_TOLERANCE = 1.0;
+
+    /** Relative tolerance for detecting regular sampling. */
+    private static final double REGULAR_SAMPLING_TOLERANCE = 1.0e-9;
+
+    /** Reference date. */
+    private final AbsoluteDate reference;
+
+    /** First date in range. */
+    private final AbsoluteDate minDate;
+
+    /** Last date in range. */
+    private final AbsoluteDate maxDate;
+
+    /** Frame of the states. */
+    private final Frame frame;
+
+    /** Central attraction coefficient (NaN if states are not orbit-defined). */
+    private final double mu;
+
+    /** Date offsets with respect to reference date. */
+    private final double[] offsets;
+
+    /** Sampling step if regular, NaN otherwise. */
+    private final double step;
+
+    /** Packed position-velocity. */
+    private final double[] pv;
+
+    /** Reference frame of attitudes (null if attitudes are not stored). */
+    private final Frame attitudeFrame;
+
+    /** Packed attitudes (quaternion and spin), null if attitudes are not stored. */
+    private final double[] attitudes;
+
+    /** Masses (a single element if mass is constant). */
+    private final double[] masses;
+
+    /** Names of the additional states. */
+    private final String[] names;
+
+    /** Dimensions of the additional states. */
+    private final int[] dimensions;
+
+    /** Total dimension of additional states. */
+    private final int additionalDimension;
+
+    /** Packed additional states. */
+    private final double[] additional;
+
+    /** Number of points to use in interpolation. */
+    private final int interpolationPoints;
+
+    /** Indicator for using stored attitudes rather than attitude provider. */
+    private boolean useStoredAttitudes;
+
+    /** Constructor from a list of states.
+     * @param states states, in chronological order
+     * @param interpolationPoints number of points to use in interpolation
+     * @param storeAttitudes if true, attitudes are stored and interpolated
+     * @param attitudeProvider attitude provider (if null, stored attitudes are
+     * used if available, otherwise attitude is aligned with ephemeris frame)
+     */
+    public CompactEphemeris(final List<SpacecraftState> states, final int interpolationPoints,
+                            final boolean storeAttitudes, final AttitudeProvider attitudeProvider) {
+        this(new CompactEphemerisBuilder(storeAttitudes).addStates(states), interpolationPoints, attitudeProvider);
+    }
+
+    /** Copy constructor from a builder.
+     * @param builder builder holding the states
+     * @param interpolationPoints number of points to use in interpolation
+     * @param attitudeProvider attitude provider
+     */
+    private CompactEphemeris(final CompactEphemerisBuilder builder, final int interpolationPoints,
+                             final AttitudeProvider attitudeProvider) {
+        this(builder.build(interpolationPoints, attitudeProvider));
+    }
+
+    /** Copy constructor.
+     * @param other instance to copy
+     */
+    private CompactEphemeris(final CompactEphemeris other) {
+        this(other.reference, other.frame, other.mu, other.offsets, other.pv,
+             other.attitudeFrame, other.attitudes, other.masses, other.names, other.dimensions,
+             other.additional, other.interpolationPoints,
+             other.useStoredAttitudes ? null : other.getAttitudeProvider());
+    }
+
+    /** Constructor from packed arrays.
+     * <p>
+     * This constructor is intended to be called by {@link CompactEphemerisBuilder},
+     * arrays are used directly without copy.
+     * </p>
+     * @param reference reference date
+     * @param frame frame of the states
+     * @param mu central attraction coefficient (NaN if states are not orbit-defined)
+     * @param offsets date offsets with respect to reference date
+     * @param pv packed position-velocity
+     * @param attitudeFrame reference frame of attitudes (null if attitudes are not stored)
+     * @param attitudes packed attitudes (null if attitudes are not stored)
+     * @param masses masses (a single element if mass is constant)
+     * @param names names of the additional states
+     * @param dimensions dimensions of the additional states
+     * @param additional packed additional states
+     * @param interpolationPoints number of points to use in interpolation
+     * @param attitudeProvider attitude provider (if null, stored attitudes are
+     * used if available, otherwise attitude is aligned with ephemeris frame)
+     */
+    CompactEphemeris(final AbsoluteDate reference, final Frame frame, final double mu,
+                     final double[] offsets, final double[] pv,
+                     final Frame attitudeFrame, final double[] attitudes, final double[] masses,
+                     final String[] names, final int[] dimensions, final double[] additional,
+                     final int interpolationPoints, final AttitudeProvider attitudeProvider) {
+
+        super(attitudeProvider == null ? FrameAlignedProvider.of(frame) : attitudeProvider);
+
+        final int n = offsets.length;
+        this.reference           = reference;
+        this.minDate             = reference.shiftedBy(offsets[0]);
+        this.maxDate             = reference.shiftedBy(offsets[n - 1]);
+        this.frame               = frame;
+        this.mu                  = mu;
+        this.offsets             = offsets;
+        this.pv                  = pv;
+        this.attitudeFrame       = attitudeFrame;
+        this.attitudes           = attitudes;
+        this.masses              = masses;
+        this.names               = names;
+        this.dimensions          = dimensions;
+        this.additional          = additional;
+        this.interpolationPoints = FastMath.max(1, interpolationPoints);
+        this.useStoredAttitudes  = attitudeProvider == null && attitudes != null;
+
+        int total = 0;
+        for (final int dimension : dimensions) {
+            total += dimension;
+        }
+        this.additionalDimension = total;
+
+        // check if sampling is regular, to speed up lookups
+        final double meanStep = n > 1 ? (offsets[n - 1] - offsets[0]) / (n - 1) : Double.NaN;
+        boolean regular = n > 1;
+        for (int i = 1; regular && i < n; ++i) {
+            regular = FastMath.abs(offsets[i] - offsets[i - 1] - meanStep) <= REGULAR_SAMPLING_TOLERANCE * meanStep;
+        }
+        this.step = regular ? meanStep : Double.NaN;
+
+        super.resetInitialState(getInitialState());
+
+    }
+
+    /** Get the number of stored points.
+     * @return number of stored points
+     */
+    public int getSize() {
+        return offsets.length;
+    }
+
+    /** Get the number of points used in interpolation.
+     * @return number of points used in interpolation
+     */
+    public int getInterpolationPoints() {
+        return interpolationPoints;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getMinDate() {
+        return minDate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getMaxDate() {
+        return maxDate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Frame getFrame() {
+        return frame;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAttitudeProvider(final AttitudeProvider attitudeProvider) {
+        super.setAttitudeProvider(attitudeProvider);
+        useStoredAttitudes = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SpacecraftState basicPropagate(final AbsoluteDate date) {
+
+        final double dt    = checkedOffset(date);
+        final int    first = firstPoint(dt);
+
+        // position-velocity-acceleration
+        final TimeStampedPVCoordinates pva = interpolatePV(date, dt, first);
+
+        // mass and additional states
+        final double[] weights = lagrangeWeights(dt, first);
+        final double   mass    = masses.length == 1 ? masses[0] : combine(masses, 1, 0, weights, first);
+        final DataDictionary data = new DataDictionary(names.length);
+        int offset = 0;
+        for (int i = 0; i < names.length; ++i) {
+            final double[] value = new double[dimensions[i]];
+            for (int k = 0; k < value.length; ++k) {
+                value[k] = combine(additional, additionalDimension, offset + k, weights, first);
+            }
+            data.put(names[i], value);
+            offset += dimensions[i];
+        }
+
+        if (Double.isNaN(mu)) {
+            final AbsolutePVCoordinates absPva = new AbsolutePVCoordinates(frame, pva);
+            final Attitude attitude = useStoredAttitudes ?
+                                      interpolateAttitude(date, dt, first) :
+                                      getAttitudeProvider().getAttitude(absPva, date, frame);
+            return new SpacecraftState(absPva, attitude, mass, data, new DoubleArrayDictionary());
+        } else {
+            final Orbit orbit = new CartesianOrbit(pva, frame, mu);
+            final Attitude attitude = useStoredAttitudes ?
+                                      interpolateAttitude(date, dt, first) :
+                                      getAttitudeProvider().getAttitude(orbit, date, frame);
+            return new SpacecraftState(orbit, attitude, mass, data, new DoubleArrayDictionary());
+        }
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Orbit propagateOrbit(final AbsoluteDate date) {
+        if (Double.isNaN(mu)) {
+            return basicPropagate(date).getOrbit();
+        }
+        final double dt = checkedOffset(date);
+        return new CartesianOrbit(interpolatePV(date, dt, firstPoint(dt)), frame, mu);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TimeStampedPVCoordinates getPVCoordinates(final AbsoluteDate date, final Frame outputFrame) {
+        final double dt = checkedOffset(date);
+        final TimeStampedPVCoordinates pva = interpolatePV(date, dt, firstPoint(dt));
+        return outputFrame == frame ? pva : frame.getTransformTo(outputFrame, date).transformPVCoordinates(pva);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D getPosition(final AbsoluteDate date, final Frame outputFrame) {
+        return getPVCoordinates(date, outputFrame).getPosition();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected double getMass(final AbsoluteDate date) {
+        if (masses.length == 1) {
+            return masses[0];
+        }
+        final double dt    = checkedOffset(date);
+        final int    first = firstPoint(dt);
+        return combine(masses, 1, 0, lagrangeWeights(dt, first), first);
+    }
+
+    /** Try (and fail) to reset the initial state.
+     * <p>
+     * This method always throws an exception, as ephemerides cannot be reset.
+     * </p>
+     * @param state new initial state to consider
+     */
+    @Override
+    public void resetInitialState(final SpacecraftState state) {
+        throw new OrekitException(OrekitMessages.NON_RESETABLE_STATE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void resetIntermediateState(final SpacecraftState state, final boolean forward) {
+        throw new OrekitException(OrekitMessages.NON_RESETABLE_STATE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SpacecraftState getInitialState() {
+        return basicPropagate(getMinDate());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isAdditionalDataManaged(final String name) {
+        return super.isAdditionalDataManaged(name) || Arrays.asList(names).contains(name);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String[] getManagedAdditionalData() {
+        final String[] upperManaged = super.getManagedAdditionalData();
+        final String[] managed      = new String[upperManaged.length + names.length];
+        System.arraycopy(upperManaged, 0, managed, 0, upperManaged.length);
+        System.arraycopy(names, 0, managed, upperManaged.length, names.length);
+        return managed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected AbstractMatricesHarvester createHarvester(final String stmName, final RealMatrix initialStm,
+                                                        final DoubleArrayDictionary initialJacobianColumns) {
+        // as in Ephemeris, no harvester is available for tabulated states
+        return null;
+    }
+
+    /** Compute the offset of a date, checking it is in range.
+     * @param date date to check
+     * @return offset of the date with respect to reference date
+     */
+    private double checkedOffset(final AbsoluteDate date) {
+        final double dt = date.durationFrom(reference);
+        if (dt < offsets[0] - EXTRAPOLATION_TOLERANCE) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE,
+                                      date, minDate, maxDate, offsets[0] - dt);
+        }
+        if (dt > offsets[offsets.length - 1] + EXTRAPOLATION_TOLERANCE) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER,
+                                      date, minDate, maxDate, dt - offsets[offsets.length - 1]);
+        }
+        return dt;
+    }
+
+    /** Find the first point of the interpolation window.
+     * @param dt offset of interpolation date with respect to reference date
+     * @return index of the first point of the interpolation window
+     */
+    private int firstPoint(final double dt) {
+
+        // locate the interval containing the date
+        int index;
+        if (Double.isNaN(step)) {
+            index = Arrays.binarySearch(offsets, dt);
+            if (index < 0) {
+                index = -index - 2;
+            }
+        } else {
+            index = (int) FastMath.floor((dt - offsets[0]) / step);
+            index = FastMath.max(0, FastMath.min(offsets.length - 1, index));
+            // fix rounding effects
+            while (index > 0 && offsets[index] > dt) {
+                --index;
+            }
+            while (index < offsets.length - 1 && offsets[index + 1] <= dt) {
+                ++index;
+            }
+        }
+
+        // center the window around the interval
+        final int first = index - (interpolationPoints - 1) / 2;
+        return FastMath.max(0, FastMath.min(offsets.length - interpolationPoints, first));
+
+    }
+
+    /** Interpolate position-velocity-acceleration.
+     * <p>
+     * Hermite interpolation is performed using Newton divided differences
+     * with doubled nodes, directly from the packed arrays.
+     * </p>
+     * @param date interpolation date
+     * @param dt offset of interpolation date with respect to reference date
+     * @param first index of the first point of the interpolation window
+     * @return interpolated position-velocity-acceleration
+     */
+    private TimeStampedPVCoordinates interpolatePV(final AbsoluteDate date, final double dt, final int first) {
+
+        final int m = 2 * interpolationPoints;
+
+        // nodes, relative to interpolation date
+        final double[] z = new double[m];
+        for (int i = 0; i < interpolationPoints; ++i) {
+            z[2 * i]     = offsets[first + i] - dt;
+            z[2 * i + 1] = z[2 * i];
+        }
+
+        final double[] result = new double[9];
+        final double[] q      = new double[m];
+        for (int c = 0; c < 3; ++c) {
+
+            // divided differences, first level uses velocities for doubled nodes
+            for (int i = 0; i < interpolationPoints; ++i) {
+                q[2 * i]     = pv[6 * (first + i) + c];
+                q[2 * i + 1] = q[2 * i];
+            }
+            for (int j = m - 1; j >= 1; --j) {
+                q[j] = (j & 0x1) == 1 ?
+                       pv[6 * (first + j / 2) + 3 + c] :
+                       (q[j] - q[j - 1]) / (z[j] - z[j - 1]);
+            }
+            for (int k = 2; k < m; ++k) {
+                for (int j = m - 1; j >= k; --j) {
+                    q[j] = (q[j] - q[j - 1]) / (z[j] - z[j - k]);
+                }
+            }
+
+            // evaluate polynomial and its first two derivatives at interpolation date (i.e. 0)
+            double p   = q[m - 1];
+            double dp  = 0;
+            double ddp = 0;
+            for (int j = m - 2; j >= 0; --j) {
+                ddp = 2 * dp - ddp * z[j];
+                dp  = p - dp * z[j];
+                p   = q[j] - p * z[j];
+            }
+            result[c]     = p;
+            result[c + 3] = dp;
+            result[c + 6] = ddp;
+
+        }
+
+        return new TimeStampedPVCoordinates(date,
+                                            new Vector3D(result[0], result[1], result[2]),
+                                            new Vector3D(result[3], result[4], result[5]),
+                                            new Vector3D(result[6], result[7], result[8]));
+
+    }
+
+    /** Compute Lagrange interpolation weights.
+     * @param dt offset of interpolation date with respect to reference date
+     * @param first index of the first point of the interpolation window
+     * @return Lagrange weights
+     */
+    private double[] lagrangeWeights(final double dt, final int first) {
+        final double[] weights = new double[interpolationPoints];
+        for (int i = 0; i < interpolationPoints; ++i) {
+            double w = 1;
+            for (int j = 0; j < interpolationPoints; ++j) {
+                if (j != i) {
+                    w *= (dt - offsets[first + j]) / (offsets[first + i] - offsets[first + j]);
+                }
+            }
+            weights[i] = w;
+        }
+        return weights;
+    }
+
+    /** Combine packed values using interpolation weights.
+     * @param values packed values
+     * @param stride number of values per point
+     * @param offset offset of the component within one point
+     * @param weights interpolation weights
+     * @param first index of the first point of the interpolation window
+     * @return combined value
+     */
+    private static double combine(final double[] values, final int stride, final int offset,
+                                  final double[] weights, final int first) {
+        double sum = 0;
+        for (int i = 0; i < weights.length; ++i) {
+            sum += weights[i] * values[stride * (first + i) + offset];
+        }
+        return sum;
+    }
+
+    /** Interpolate attitude from the stored samples.
+     * <p>
+     * The attitude is shifted from the closest sample, using its spin.
+     * </p>
+     * @param date interpolation date
+     * @param dt offset of interpolation date with respect to reference date
+     * @param first index of the first point of the interpolation window
+     * @return interpolated attitude
+     */
+    private Attitude interpolateAttitude(final AbsoluteDate date, final double dt, final int first) {
+
+        // find closest sample within interpolation window
+        int closest = first;
+        for (int i = first + 1; i < first + interpolationPoints; ++i) {
+            if (FastMath.abs(offsets[i] - dt) < FastMath.abs(offsets[closest] - dt)) {
+                closest = i;
+            }
+        }
+
+        final int index = 7 * closest;
+        final Rotation rotation = new Rotation(attitudes[index], attitudes[index + 1],
+                                               attitudes[index + 2], attitudes[index + 3], false);
+        final Vector3D spin     = new Vector3D(attitudes[index + 4], attitudes[index + 5], attitudes[index + 6]);
+        final Attitude sample   = new Attitude(reference.shiftedBy(offsets[closest]), attitudeFrame,
+                                               rotation, spin, Vector3D.ZERO);
+        return sample.shiftedBy(date.durationFrom(sample.getDate()));
+
+    }
+
+}
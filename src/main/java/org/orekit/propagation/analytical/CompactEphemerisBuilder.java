@@ -0,0 +1,278 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.attitudes.Attitude;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.sampling.OrekitFixedStepHandler;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.DataDictionary;
+
+/** Builder for {@link CompactEphemeris}.
+ * <p>
+ * States are packed into primitive arrays as they are added, so the builder
+ * can be registered as a {@link OrekitFixedStepHandler fixed step handler}
+ * in a propagator in order to generate a compact ephemeris without ever
+ * holding a list of {@link SpacecraftState} instances.
+ * </p>
+ * <p>
+ * The frame, the central attraction coefficient, the attitude reference frame
+ * and the names and dimensions of the additional states are taken from the
+ * first added state. Only additional data that are arrays of doubles are stored,
+ * other additional data and additional states derivatives are ignored.
+ * </p>
+ * @since 14.0
+ */
+public class CompactEphemerisBuilder implements OrekitFixedStepHandler {
+
+    /** Initial capacity. */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** Indicator for storing attitudes. */
+    private final boolean storeAttitudes;
+
+    /** Reference date (first state date). */
+    private AbsoluteDate reference;
+
+    /** Frame of the states. */
+    private Frame frame;
+
+    /** Reference frame of attitudes. */
+    private Frame attitudeFrame;
+
+    /** Central attraction coefficient (NaN if states are not orbit-defined). */
+    private double mu;
+
+    /** Names of the additional states. */
+    private String[] names;
+
+    /** Dimensions of the additional states. */
+    private int[] dimensions;
+
+    /** Total dimension of additional states. */
+    private int additionalDimension;
+
+    /** Number of stored states. */
+    private int size;
+
+    /** Date offsets with respect to reference date. */
+    private double[] offsets;
+
+    /** Packed position-velocity. */
+    private double[] pv;
+
+    /** Packed attitudes (quaternion and spin). */
+    private double[] attitudes;
+
+    /** Masses. */
+    private double[] masses;
+
+    /** Packed additional states. */
+    private double[] additional;
+
+    /** Simple constructor.
+     * @param storeAttitudes if true, attitudes are stored and interpolated
+     */
+    public CompactEphemerisBuilder(final boolean storeAttitudes) {
+        this.storeAttitudes = storeAttitudes;
+        this.size           = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleStep(final SpacecraftState currentState) {
+        addState(currentState);
+    }
+
+    /** Add a state.
+     * <p>
+     * States must be added in strictly increasing chronological order.
+     * </p>
+     * @param state state to add
+     */
+    public void addState(final SpacecraftState state) {
+
+        if (size == 0) {
+            initialize(state);
+        } else {
+            final double previous = offsets[size - 1];
+            final double offset   = state.getDate().durationFrom(reference);
+            if (offset <= previous) {
+                throw new OrekitIllegalArgumentException(OrekitMessages.NON_CHRONOLOGICALLY_SORTED_ENTRIES,
+                                                         reference.shiftedBy(previous), state.getDate(),
+                                                         previous - offset);
+            }
+            if (state.getFrame() != frame) {
+                throw new OrekitIllegalArgumentException(OrekitMessages.FRAMES_MISMATCH,
+                                                         state.getFrame().getName(), frame.getName());
+            }
+            if (size == offsets.length) {
+                grow();
+            }
+        }
+
+        offsets[size] = state.getDate().durationFrom(reference);
+
+        final double[] p = state.getPosition().toArray();
+        final double[] v = state.getPVCoordinates().getVelocity().toArray();
+        System.arraycopy(p, 0, pv, 6 * size,     3);
+        System.arraycopy(v, 0, pv, 6 * size + 3, 3);
+
+        if (storeAttitudes) {
+            final Attitude attitude = state.getAttitude().withReferenceFrame(attitudeFrame);
+            final int index = 7 * size;
+            attitudes[index]     = attitude.getRotation().getQ0();
+            attitudes[index + 1] = attitude.getRotation().getQ1();
+            attitudes[index + 2] = attitude.getRotation().getQ2();
+            attitudes[index + 3] = attitude.getRotation().getQ3();
+            if (size > 0 && attitudes[index] * attitudes[index - 7] + attitudes[index + 1] * attitudes[index - 6] +
+                            attitudes[index + 2] * attitudes[index - 5] + attitudes[index + 3] * attitudes[index - 4] < 0) {
+                // ensure quaternions continuity
+                for (int k = index; k < index + 4; ++k) {
+                    attitudes[k] = -attitudes[k];
+                }
+            }
+            System.arraycopy(attitude.getSpin().toArray(), 0, attitudes, index + 4, 3);
+        }
+
+        masses[size] = state.getMass();
+
+        int index = additionalDimension * size;
+        for (int i = 0; i < names.length; ++i) {
+            final double[] value = state.getAdditionalState(names[i]);
+            if (value.length != dimensions[i]) {
+                throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                         value.length, dimensions[i]);
+            }
+            System.arraycopy(value, 0, additional, index, value.length);
+            index += value.length;
+        }
+
+        ++size;
+
+    }
+
+    /** Add several states.
+     * @param states states to add, in chronological order
+     * @return this builder
+     */
+    public CompactEphemerisBuilder addStates(final List<SpacecraftState> states) {
+        for (final SpacecraftState state : states) {
+            addState(state);
+        }
+        return this;
+    }
+
+    /** Get the number of states added so far.
+     * @return number of states added so far
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /** Build the ephemeris.
+     * <p>
+     * The builder can be reused after this call, either to add more states
+     * or to build another ephemeris, the arrays are copied.
+     * </p>
+     * @param interpolationPoints number of points to use in interpolation
+     * @param attitudeProvider attitude provider (if null, stored attitudes are
+     * used if available, otherwise attitude is aligned with ephemeris frame)
+     * @return built ephemeris
+     */
+    public CompactEphemeris build(final int interpolationPoints,
+                                  final AttitudeProvider attitudeProvider) {
+        if (size < interpolationPoints) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, size);
+        }
+        return new CompactEphemeris(reference, frame, mu,
+                                    Arrays.copyOf(offsets, size),
+                                    Arrays.copyOf(pv, 6 * size),
+                                    storeAttitudes ? attitudeFrame : null,
+                                    storeAttitudes ? Arrays.copyOf(attitudes, 7 * size) : null,
+                                    compactMasses(),
+                                    names.clone(), dimensions.clone(),
+                                    Arrays.copyOf(additional, additionalDimension * size),
+                                    interpolationPoints, attitudeProvider);
+    }
+
+    /** Initialize the builder from the first state.
+     * @param state first state
+     */
+    private void initialize(final SpacecraftState state) {
+
+        reference     = state.getDate();
+        frame         = state.getFrame();
+        attitudeFrame = state.getAttitude().getReferenceFrame();
+        mu            = state.isOrbitDefined() ? state.getOrbit().getMu() : Double.NaN;
+
+        // select additional states that are arrays of doubles
+        final List<DataDictionary.Entry> entries = state.getAdditionalDataValues().getData();
+        final String[] allNames      = new String[entries.size()];
+        final int[]    allDimensions = new int[entries.size()];
+        int n = 0;
+        additionalDimension = 0;
+        for (final DataDictionary.Entry entry : entries) {
+            if (entry.getValue() instanceof double[]) {
+                allNames[n]      = entry.getKey();
+                allDimensions[n] = ((double[]) entry.getValue()).length;
+                additionalDimension += allDimensions[n++];
+            }
+        }
+        names      = Arrays.copyOf(allNames, n);
+        dimensions = Arrays.copyOf(allDimensions, n);
+
+        offsets    = new double[INITIAL_CAPACITY];
+        pv         = new double[6 * INITIAL_CAPACITY];
+        attitudes  = storeAttitudes ? new double[7 * INITIAL_CAPACITY] : null;
+        masses     = new double[INITIAL_CAPACITY];
+        additional = new double[additionalDimension * INITIAL_CAPACITY];
+
+    }
+
+    /** Grow the arrays.
+     */
+    private void grow() {
+        final int capacity = 2 * offsets.length;
+        offsets    = Arrays.copyOf(offsets, capacity);
+        pv         = Arrays.copyOf(pv, 6 * capacity);
+        attitudes  = storeAttitudes ? Arrays.copyOf(attitudes, 7 * capacity) : null;
+        masses     = Arrays.copyOf(masses, capacity);
+        additional = Arrays.copyOf(additional, additionalDimension * capacity);
+    }
+
+    /** Get the masses, compacted to one element if constant.
+     * @return masses
+     */
+    private double[] compactMasses() {
+        for (int i = 1; i < size; ++i) {
+            if (masses[i] != masses[0]) {
+                return Arrays.copyOf(masses, size);
+            }
+        }
+        return new double[] { masses[0] };
+    }
+
+}
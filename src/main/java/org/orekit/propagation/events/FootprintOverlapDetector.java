@@ -17,6 +17,7 @@
 package org.orekit.propagation.events;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hipparchus.geometry.enclosing.EnclosingBall;
@@ -272,17 +273,23 @@ public class FootprintOverlapDetector extends AbstractDetector<FootprintOverlapD
                 s.getDate(),
                 body.getBodyFrame().getStaticTransformTo(s.getFrame(), s.getDate()),
                 s.toStaticTransform());
+        final Vector3D[] linesOfSight = new Vector3D[sampledZone.size()];
+        int              nbVisible    = 0;
         for (final SamplingPoint point : sampledZone) {
             final Vector3D lineOfSightBody = point.position().subtract(scBody);
             if (Vector3D.dotProduct(lineOfSightBody, point.zenith()) <= 0) {
                 // spacecraft is above this sample point local horizon
                 // get line of sight in spacecraft frame
-                final double offset = fov.offsetFromBoundary(bodyToSc.transformVector(lineOfSightBody),
-                                                             0.0, VisibilityTrigger.VISIBLE_ONLY_WHEN_FULLY_IN_FOV);
-                value = FastMath.min(value, offset);
+                linesOfSight[nbVisible++] = bodyToSc.transformVector(lineOfSightBody);
             }
         }
 
+        // check all visible points at once against Field Of View
+        for (final double offset : fov.offsetsFromBoundary(Arrays.copyOf(linesOfSight, nbVisible),
+                                                           0.0, VisibilityTrigger.VISIBLE_ONLY_WHEN_FULLY_IN_FOV)) {
+            value = FastMath.min(value, offset);
+        }
+
         return value;
 
     }
@@ -39,6 +39,12 @@ import org.orekit.time.TimeScale;
  * It can detect flyovers of the South-Atlantic anomaly with
  * a classically accepted limit value of 32,000 nT at sea level.
  * </p>
+ * <p>
+ * The field is either looked up from a {@link FieldModel model} and updated
+ * each time the year changes, or provided as a fixed {@link GeoMagneticField}
+ * instance, for example a {@link org.orekit.models.earth.GriddedGeoMagneticField
+ * gridded field} for fast sweeps over many orbits.
+ * </p>
  * @author Romaric Her
  */
 public class MagneticFieldDetector extends AbstractDetector<MagneticFieldDetector> {
@@ -52,6 +58,11 @@ public class MagneticFieldDetector extends AbstractDetector<MagneticFieldDetecto
     /** Earth geomagnetic field. */
     private GeoMagneticField field;
 
+    /** Indicator for a fixed field, not updated when the year changes.
+     * @since 14.0
+     */
+    private final boolean fixedField;
+
     /** year of the current state. */
     private double currentYear;
 
@@ -147,6 +158,30 @@ public class MagneticFieldDetector extends AbstractDetector<MagneticFieldDetecto
              limit, model, body, atSeaLevel, dataContext);
     }
 
+    /** Build a detector using a fixed magnetic field.
+     *
+     * <p>This constructor uses:
+     * <ul>
+     * <li>the {@link AbstractDetector#DEFAULT_MAX_CHECK default value} for maximal checking interval</li>
+     * <li>the {@link AbstractDetector#DEFAULT_THRESHOLD default value} for convergence threshold </li>
+     * </ul>
+     * <p>
+     * The field is used as is during the whole propagation, it is not updated
+     * when the year changes.
+     * </p>
+     *
+     * @param limit      threshold value for magnetic field detection, in Teslas
+     * @param field      magnetic field
+     * @param body       Earth body shape
+     * @param atSeaLevel switch for calculating field intensity at sea level (true) or satellite altitude (false)
+     * @since 14.0
+     */
+    public MagneticFieldDetector(final double limit, final GeoMagneticField field,
+                                 final BodyShape body, final boolean atSeaLevel) {
+        this(new EventDetectionSettings(DEFAULT_MAX_CHECK, DEFAULT_THRESHOLD, DEFAULT_MAX_ITER), new StopOnIncreasing(),
+             limit, field, body, atSeaLevel);
+    }
+
     /** Protected constructor with full parameters.
      * <p>
      * This constructor is not public as users are expected to use the builder
@@ -171,18 +206,51 @@ public class MagneticFieldDetector extends AbstractDetector<MagneticFieldDetecto
         this.body        = body;
         this.atSeaLevel  = atSeaLevel;
         this.dataContext = dataContext;
+        this.fixedField  = false;
+    }
+
+    /** Protected constructor with full parameters and a fixed magnetic field.
+     * <p>
+     * This constructor is not public as users are expected to use the builder
+     * API with the various {@code withXxx()} methods to set up the instance
+     * in a readable manner without using a huge amount of parameters.
+     * </p>
+     * @param detectionSettings event detection settings
+     * @param handler     event handler to call at event occurrences
+     * @param limit       threshold value for magnetic field detection, in Teslas
+     * @param field       magnetic field, used as is during the whole propagation
+     * @param body        Earth body shape
+     * @param atSeaLevel  switch for calculating field intensity at sea level (true) or satellite altitude (false)
+     * @since 14.0
+     */
+    protected MagneticFieldDetector(final EventDetectionSettings detectionSettings, final EventHandler handler,
+                                    final double limit, final GeoMagneticField field, final BodyShape body,
+                                    final boolean atSeaLevel) {
+        super(detectionSettings, handler);
+        this.limit       = limit;
+        this.model       = null;
+        this.body        = body;
+        this.atSeaLevel  = atSeaLevel;
+        this.dataContext = null;
+        this.field       = field;
+        this.fixedField  = true;
     }
 
     /** {@inheritDoc} */
     @Override
     protected MagneticFieldDetector create(final EventDetectionSettings detectionSettings, final EventHandler newHandler) {
-        return new MagneticFieldDetector(detectionSettings, newHandler, limit, model, body, atSeaLevel, dataContext);
+        return fixedField ?
+               new MagneticFieldDetector(detectionSettings, newHandler, limit, field, body, atSeaLevel) :
+               new MagneticFieldDetector(detectionSettings, newHandler, limit, model, body, atSeaLevel, dataContext);
     }
 
     /** {@inheritDoc} */
     @Override
     public void init(final SpacecraftState s0, final AbsoluteDate t) {
         super.init(s0, t);
+        if (fixedField) {
+            return;
+        }
         final TimeScale utc = dataContext.getTimeScales().getUTC();
         this.currentYear = s0.getDate().getComponents(utc).getDate().getYear();
         this.field = dataContext.getGeoMagneticFields().getField(model, currentYear);
@@ -198,10 +266,12 @@ public class MagneticFieldDetector extends AbstractDetector<MagneticFieldDetecto
      *         and the fixed threshold value
      */
     public double g(final SpacecraftState s) {
-        final TimeScale utc = dataContext.getTimeScales().getUTC();
-        if (s.getDate().getComponents(utc).getDate().getYear() != currentYear) {
-            this.currentYear = s.getDate().getComponents(utc).getDate().getYear();
-            this.field = dataContext.getGeoMagneticFields().getField(model, currentYear);
+        if (!fixedField) {
+            final TimeScale utc = dataContext.getTimeScales().getUTC();
+            if (s.getDate().getComponents(utc).getDate().getYear() != currentYear) {
+                this.currentYear = s.getDate().getComponents(utc).getDate().getYear();
+                this.field = dataContext.getGeoMagneticFields().getField(model, currentYear);
+            }
         }
         final GeodeticPoint geoPoint = body.transform(s.getPosition(), s.getFrame(), s.getDate());
         final double altitude = atSeaLevel ? 0. : geoPoint.getAltitude();
@@ -0,0 +1,126 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.ode.events.Action;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.events.DetectorModifier;
+import org.orekit.propagation.events.EventDetector;
+import org.orekit.propagation.events.handlers.EventHandler;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeInterval;
+import org.orekit.time.TimeIntervalSet;
+
+/** Detector wrapper recording the intervals where the wrapped switching function has a given sign.
+ * <p>
+ * The handler of the wrapped detector is ignored: propagation always continues
+ * after an event, so a single propagation records all intervals.
+ * </p>
+ * @since 14.0
+ */
+class IntervalRecorder implements DetectorModifier {
+
+    /** Wrapped detector. */
+    private final EventDetector detector;
+
+    /** Indicator for intervals where switching function is positive (otherwise negative). */
+    private final boolean whenPositive;
+
+    /** Closed intervals. */
+    private final List<TimeInterval> intervals;
+
+    /** Initial date. */
+    private AbsoluteDate initialDate;
+
+    /** Start of the currently open interval (null if outside of any interval). */
+    private AbsoluteDate openStart;
+
+    /** Simple constructor.
+     * @param detector wrapped detector
+     * @param whenPositive if true, record intervals where switching function is positive,
+     * otherwise record intervals where it is negative
+     */
+    IntervalRecorder(final EventDetector detector, final boolean whenPositive) {
+        this.detector     = detector;
+        this.whenPositive = whenPositive;
+        this.intervals    = new ArrayList<>();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EventDetector getDetector() {
+        return detector;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void init(final SpacecraftState s0, final AbsoluteDate t) {
+        DetectorModifier.super.init(s0, t);
+        intervals.clear();
+        initialDate = s0.getDate();
+        final double g0 = g(s0);
+        openStart = (whenPositive ? g0 > 0 : g0 < 0) ? initialDate : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double g(final SpacecraftState s) {
+        return detector.g(s);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EventHandler getHandler() {
+        return (s, d, increasing) -> {
+            record(s.getDate(), increasing == whenPositive);
+            return Action.CONTINUE;
+        };
+    }
+
+    /** Record a transition.
+     * @param date transition date
+     * @param entering if true, transition enters an interval, otherwise it exits an interval
+     */
+    private void record(final AbsoluteDate date, final boolean entering) {
+        if (entering) {
+            if (openStart == null) {
+                openStart = date;
+            }
+        } else {
+            // if the initial switching function value was exactly zero,
+            // the interval was not opened at init but started at initial date
+            intervals.add(TimeInterval.of(openStart == null ? initialDate : openStart, date));
+            openStart = null;
+        }
+    }
+
+    /** Get the recorded intervals.
+     * @param end end of propagation, used to close an interval still open
+     * @return recorded intervals
+     */
+    TimeIntervalSet getIntervals(final AbsoluteDate end) {
+        final List<TimeInterval> all = new ArrayList<>(intervals);
+        if (openStart != null) {
+            all.add(TimeInterval.of(openStart, end));
+        }
+        return TimeIntervalSet.of(all);
+    }
+
+}
@@ -0,0 +1,167 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events.schedule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeInterval;
+import org.orekit.time.TimeIntervalSet;
+import org.orekit.time.TimeIntervalTree;
+import org.orekit.time.TimeStamped;
+
+/** Precomputed event-based schedules for a set of satellites.
+ * <p>
+ * Instances are created by {@link ScheduleComputer}. They are immutable
+ * and can be shared between threads.
+ * </p>
+ * @since 14.0
+ */
+public class Schedule implements TimeInterval {
+
+    /** Start of the schedules. */
+    private final AbsoluteDate start;
+
+    /** End of the schedules. */
+    private final AbsoluteDate end;
+
+    /** Names of the schedules. */
+    private final List<String> names;
+
+    /** Indices of the schedules. */
+    private final Map<String, Integer> indices;
+
+    /** Intervals sets, per satellite and schedule. */
+    private final List<TimeIntervalSet[]> sets;
+
+    /** Index over all entries. */
+    private final TimeIntervalTree<ScheduleEntry> tree;
+
+    /** Simple constructor.
+     * @param start start of the schedules
+     * @param end end of the schedules
+     * @param names names of the schedules
+     * @param sets intervals sets, per satellite and schedule
+     */
+    Schedule(final AbsoluteDate start, final AbsoluteDate end,
+             final List<String> names, final List<TimeIntervalSet[]> sets) {
+        this.start   = start;
+        this.end     = end;
+        this.names   = names;
+        this.indices = new HashMap<>();
+        for (int i = 0; i < names.size(); ++i) {
+            indices.put(names.get(i), i);
+        }
+        this.sets = sets;
+        final List<ScheduleEntry> entries = new ArrayList<>();
+        for (int satellite = 0; satellite < sets.size(); ++satellite) {
+            for (int i = 0; i < names.size(); ++i) {
+                for (final TimeInterval interval : sets.get(satellite)[i].getIntervals()) {
+                    entries.add(new ScheduleEntry(satellite, names.get(i), interval));
+                }
+            }
+        }
+        this.tree = new TimeIntervalTree<>(entries);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getStartDate() {
+        return start;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getEndDate() {
+        return end;
+    }
+
+    /** Get the number of satellites.
+     * @return number of satellites
+     */
+    public int getNbSatellites() {
+        return sets.size();
+    }
+
+    /** Get the names of the schedules.
+     * @return unmodifiable list of schedules names
+     */
+    public List<String> getNames() {
+        return Collections.unmodifiableList(names);
+    }
+
+    /** Get the intervals of one schedule for one satellite.
+     * @param satellite index of the satellite
+     * @param name name of the schedule
+     * @return intervals of the schedule
+     */
+    public TimeIntervalSet getIntervals(final int satellite, final String name) {
+        return sets.get(satellite)[getIndex(name)];
+    }
+
+    /** Get the union of one schedule over all satellites.
+     * <p>
+     * This is for example the set of intervals during which at least
+     * one satellite is in contact with a ground station.
+     * </p>
+     * @param name name of the schedule
+     * @return union of the schedule intervals over all satellites
+     */
+    public TimeIntervalSet getUnion(final String name) {
+        final int index = getIndex(name);
+        TimeIntervalSet union = TimeIntervalSet.empty();
+        for (final TimeIntervalSet[] satelliteSets : sets) {
+            union = union.union(satelliteSets[index]);
+        }
+        return union;
+    }
+
+    /** Get all entries overlapping a window.
+     * @param window time window
+     * @return entries overlapping the window, sorted by start date
+     */
+    public List<ScheduleEntry> getOverlapping(final TimeInterval window) {
+        return tree.getOverlapping(window);
+    }
+
+    /** Get all entries containing a date.
+     * @param timeStamped time stamped object to check
+     * @return entries containing the date, sorted by start date
+     */
+    public List<ScheduleEntry> getContaining(final TimeStamped timeStamped) {
+        return tree.getContaining(timeStamped);
+    }
+
+    /** Get the index of a schedule.
+     * @param name name of the schedule
+     * @return index of the schedule
+     */
+    private int getIndex(final String name) {
+        final Integer index = indices.get(name);
+        if (index == null) {
+            throw new OrekitException(OrekitMessages.UNKNOWN_SCHEDULE, name);
+        }
+        return index;
+    }
+
+}
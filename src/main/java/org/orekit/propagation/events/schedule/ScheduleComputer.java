@@ -0,0 +1,190 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events.schedule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.events.EclipseDetector;
+import org.orekit.propagation.events.ElevationDetector;
+import org.orekit.propagation.events.EventDetector;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeIntervalSet;
+import org.orekit.utils.ParallelTasks;
+
+/** Precomputation service for eclipse, ground contact and other event-based schedules.
+ * <p>
+ * Each named schedule is defined by an event detector and the sign of its
+ * switching function inside the intervals of interest. All schedules of one
+ * satellite are computed in a single propagation, and satellites are propagated
+ * in parallel. The resulting {@link Schedule} can then be queried as many times
+ * as needed without propagating again.
+ * </p>
+ * <p>
+ * The handlers of the detectors are ignored, propagation always continues
+ * after events. The same detector instances are shared by all satellites,
+ * so they must not hold propagation-specific state when several threads are
+ * used; the detectors provided by the library fulfill this constraint.
+ * </p>
+ * <p>
+ * Event detectors already registered in the propagators are temporarily removed
+ * during the computation and restored afterwards, so they do not interfere with
+ * the schedules (for example by stopping propagation).
+ * </p>
+ * @since 14.0
+ */
+public class ScheduleComputer {
+
+    /** Schedules definitions. */
+    private final Map<String, IntervalsDefinition> definitions;
+
+    /** Runner for parallel tasks. */
+    private final ParallelTasks tasks;
+
+    /** Simple constructor.
+     * @param threads number of threads to use
+     */
+    public ScheduleComputer(final int threads) {
+        this.definitions = new LinkedHashMap<>();
+        this.tasks       = new ParallelTasks(threads);
+    }
+
+    /** Add a schedule defined by the sign of a switching function.
+     * @param name name of the schedule
+     * @param detector detector defining the schedule
+     * @param whenPositive if true, schedule intervals are where the switching function
+     * is positive, otherwise they are where it is negative
+     */
+    public void addIntervals(final String name, final EventDetector detector, final boolean whenPositive) {
+        if (definitions.containsKey(name)) {
+            throw new OrekitException(OrekitMessages.DUPLICATED_SCHEDULE, name);
+        }
+        definitions.put(name, new IntervalsDefinition(detector, whenPositive));
+    }
+
+    /** Add an eclipse schedule.
+     * <p>
+     * Schedule intervals are the eclipses, i.e. where the switching function of the detector is negative.
+     * </p>
+     * @param name name of the schedule
+     * @param detector eclipse detector
+     */
+    public void addEclipses(final String name, final EclipseDetector detector) {
+        addIntervals(name, detector, false);
+    }
+
+    /** Add a ground contact schedule.
+     * <p>
+     * Schedule intervals are the passes, i.e. where the switching function of the detector is positive.
+     * </p>
+     * @param name name of the schedule
+     * @param detector elevation detector
+     */
+    public void addContacts(final String name, final ElevationDetector detector) {
+        addIntervals(name, detector, true);
+    }
+
+    /** Compute the schedules.
+     * @param propagators propagators for all satellites
+     * @param start start of the schedules
+     * @param end end of the schedules
+     * @return computed schedules
+     */
+    public Schedule compute(final List<? extends Propagator> propagators,
+                            final AbsoluteDate start, final AbsoluteDate end) {
+
+        final double duration = end.durationFrom(start);
+        if (duration <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, duration);
+        }
+
+        final List<String> names = new ArrayList<>(definitions.keySet());
+        final List<Callable<TimeIntervalSet[]>> satellitesTasks = new ArrayList<>(propagators.size());
+        for (final Propagator propagator : propagators) {
+            satellitesTasks.add(() -> computeSatellite(propagator, start, end));
+        }
+
+        return new Schedule(start, end, names, tasks.run(satellitesTasks));
+
+    }
+
+    /** Compute the schedules of one satellite.
+     * @param propagator propagator for the satellite
+     * @param start start of the schedules
+     * @param end end of the schedules
+     * @return intervals sets, in the order of the schedules definitions
+     */
+    private TimeIntervalSet[] computeSatellite(final Propagator propagator,
+                                               final AbsoluteDate start, final AbsoluteDate end) {
+
+        final Collection<EventDetector> original = new ArrayList<>(propagator.getEventDetectors());
+        final List<IntervalRecorder>    recorders = new ArrayList<>(definitions.size());
+        propagator.clearEventsDetectors();
+        try {
+
+            for (final IntervalsDefinition definition : definitions.values()) {
+                final IntervalRecorder recorder = new IntervalRecorder(definition.detector, definition.whenPositive);
+                recorders.add(recorder);
+                propagator.addEventDetector(recorder);
+            }
+
+            propagator.propagate(start, end);
+
+            final TimeIntervalSet[] sets = new TimeIntervalSet[recorders.size()];
+            for (int i = 0; i < sets.length; ++i) {
+                sets[i] = recorders.get(i).getIntervals(end);
+            }
+            return sets;
+
+        } finally {
+            // restore the propagator detectors
+            propagator.clearEventsDetectors();
+            for (final EventDetector detector : original) {
+                propagator.addEventDetector(detector);
+            }
+        }
+
+    }
+
+    /** Definition of a schedule. */
+    private static class IntervalsDefinition {
+
+        /** Detector defining the schedule. */
+        private final EventDetector detector;
+
+        /** Indicator for intervals where switching function is positive (otherwise negative). */
+        private final boolean whenPositive;
+
+        /** Simple constructor.
+         * @param detector detector defining the schedule
+         * @param whenPositive indicator for intervals where switching function is positive
+         */
+        IntervalsDefinition(final EventDetector detector, final boolean whenPositive) {
+            this.detector     = detector;
+            this.whenPositive = whenPositive;
+        }
+
+    }
+
+}
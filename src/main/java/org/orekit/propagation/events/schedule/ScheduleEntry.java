@@ -0,0 +1,81 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events.schedule;
+
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeInterval;
+
+/** Entry of a {@link Schedule}.
+ * <p>
+ * An entry is one interval of one named schedule for one satellite,
+ * for example one eclipse or one pass over a ground station.
+ * </p>
+ * @since 14.0
+ */
+public class ScheduleEntry implements TimeInterval {
+
+    /** Index of the satellite. */
+    private final int satellite;
+
+    /** Name of the schedule. */
+    private final String name;
+
+    /** Start date. */
+    private final AbsoluteDate start;
+
+    /** End date. */
+    private final AbsoluteDate end;
+
+    /** Simple constructor.
+     * @param satellite index of the satellite
+     * @param name name of the schedule
+     * @param interval time interval
+     */
+    public ScheduleEntry(final int satellite, final String name, final TimeInterval interval) {
+        this.satellite = satellite;
+        this.name      = name;
+        this.start     = interval.getStartDate();
+        this.end       = interval.getEndDate();
+    }
+
+    /** Get the index of the satellite.
+     * @return index of the satellite, in the order of the propagators provided to {@link ScheduleComputer}
+     */
+    public int getSatellite() {
+        return satellite;
+    }
+
+    /** Get the name of the schedule.
+     * @return name of the schedule
+     */
+    public String getName() {
+        return name;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getStartDate() {
+        return start;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getEndDate() {
+        return end;
+    }
+
+}
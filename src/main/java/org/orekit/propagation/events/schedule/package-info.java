@@ -0,0 +1,31 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * This package provides a precomputation service for event-based schedules.
+ * <p>
+ * The {@link org.orekit.propagation.events.schedule.ScheduleComputer computer}
+ * propagates a set of satellites once, in parallel, with interval-recording
+ * wrappers around event detectors such as {@link org.orekit.propagation.events.EclipseDetector
+ * eclipse} or {@link org.orekit.propagation.events.ElevationDetector ground contact}
+ * detectors. The resulting {@link org.orekit.propagation.events.schedule.Schedule schedule}
+ * stores the intervals as {@link org.orekit.time.TimeIntervalSet sets} per satellite
+ * and in a {@link org.orekit.time.TimeIntervalTree tree} index, so downstream planning
+ * tasks can answer overlap, union and intersection queries without propagating again.
+ * </p>
+ * @since 14.0
+ */
+package org.orekit.propagation.events.schedule;
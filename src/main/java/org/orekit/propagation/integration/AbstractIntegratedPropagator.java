@@ -44,6 +44,7 @@ import org.hipparchus.ode.events.ODEEventHandler;
 import org.hipparchus.ode.sampling.AbstractODEStateInterpolator;
 import org.hipparchus.ode.sampling.ODEStateInterpolator;
 import org.hipparchus.ode.sampling.ODEStepHandler;
+import org.hipparchus.util.FastMath;
 import org.hipparchus.util.Precision;
 import org.orekit.attitudes.AttitudeProvider;
 import org.orekit.attitudes.AttitudeProviderModifier;
@@ -58,6 +59,8 @@ import org.orekit.propagation.BoundedPropagator;
 import org.orekit.propagation.EphemerisGenerator;
 import org.orekit.propagation.PropagationType;
 import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.analytical.ChebyshevEphemeris;
+import org.orekit.propagation.analytical.ChebyshevEphemerisBuilder;
 import org.orekit.propagation.events.EventDetector;
 import org.orekit.propagation.events.handlers.EventHandler;
 import org.orekit.propagation.sampling.OrekitStepHandler;
@@ -82,7 +85,7 @@ public abstract class AbstractIntegratedPropagator extends AbstractPropagator {
     private final List<EventDetector> detectors;
 
     /** Step handlers dedicated to ephemeris generation. */
-    private final List<StoringStepHandler> ephemerisGenerators;
+    private final List<GeneratingStepHandler> ephemerisGenerators;
 
     /** Integrator selected by the user for the orbital extrapolation process. */
     private final ODEIntegrator integrator;
@@ -397,6 +400,38 @@ public abstract class AbstractIntegratedPropagator extends AbstractPropagator {
         return storingHandler;
     }
 
+    /** Set up an ephemeris generator that will compress the trajectory during propagation.
+     * <p>
+     * Contrary to the generator returned by {@link #getEphemerisGenerator()}, which
+     * keeps all the step interpolators produced by the integrator, this generator fits
+     * position, velocity and mass with Chebyshev polynomials as propagation goes on,
+     * and keeps only the interpolators of the current segment. Memory consumption
+     * therefore does not grow with the number of integration steps, and the generated
+     * {@link ChebyshevEphemeris} can be {@link ChebyshevEphemeris#write(java.io.OutputStream)
+     * saved} in binary form.
+     * </p>
+     * <p>
+     * Additional data and derivatives are not retained in the compressed ephemeris.
+     * </p>
+     * @param positionTolerance tolerance on position (m)
+     * @param maxSegmentDuration maximum duration of one fitted segment (s)
+     * @param degree degree of the Chebyshev polynomials
+     * @return ephemeris generator
+     * @see ChebyshevEphemerisBuilder
+     * @since 14.0
+     */
+    public EphemerisGenerator getCompressedEphemerisGenerator(final double positionTolerance,
+                                                              final double maxSegmentDuration,
+                                                              final int degree) {
+        if (!(maxSegmentDuration > 0)) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, maxSegmentDuration);
+        }
+        final CompressingStepHandler compressingHandler =
+                        new CompressingStepHandler(positionTolerance, maxSegmentDuration, degree);
+        ephemerisGenerators.add(compressingHandler);
+        return compressingHandler;
+    }
+
     /** Create a mapper between raw double components and spacecraft state.
     /** Simple constructor.
      * <p>
@@ -466,7 +501,7 @@ public abstract class AbstractIntegratedPropagator extends AbstractPropagator {
             for (final OrekitStepHandler handler : getMultiplexer().getHandlers()) {
                 integrator.addStepHandler(new AdaptedStepHandler(handler));
             }
-            for (final StoringStepHandler generator : ephemerisGenerators) {
+            for (final GeneratingStepHandler generator : ephemerisGenerators) {
                 generator.setEndDate(tEnd);
                 integrator.addStepHandler(generator);
             }
@@ -1223,10 +1258,22 @@ public abstract class AbstractIntegratedPropagator extends AbstractPropagator {
         }
     }
 
+    /** Interface for step handlers generating ephemerides.
+     * @since 14.0
+     */
+    private interface GeneratingStepHandler extends ODEStepHandler, EphemerisGenerator {
+
+        /** Set the end date.
+         * @param endDate end date
+         */
+        void setEndDate(AbsoluteDate endDate);
+
+    }
+
     /** Specialized step handler storing interpolators for ephemeris generation.
      * @since 11.0
      */
-    private class StoringStepHandler implements ODEStepHandler, EphemerisGenerator {
+    private class StoringStepHandler implements GeneratingStepHandler {
 
         /** Underlying raw mathematical model. */
         private DenseOutputModel model;
@@ -1240,9 +1287,8 @@ public abstract class AbstractIntegratedPropagator extends AbstractPropagator {
         /** Last interpolator handled by the object.*/
         private  ODEStateInterpolator lastInterpolator;
 
-        /** Set the end date.
-         * @param endDate end date
-         */
+        /** {@inheritDoc} */
+        @Override
         public void setEndDate(final AbsoluteDate endDate) {
             this.endDate = endDate;
         }
@@ -1340,6 +1386,131 @@ public abstract class AbstractIntegratedPropagator extends AbstractPropagator {
 
     }
 
+    /** Specialized step handler compressing the trajectory for ephemeris generation.
+     * @since 14.0
+     */
+    private class CompressingStepHandler implements GeneratingStepHandler {
+
+        /** Tolerance on position (m). */
+        private final double positionTolerance;
+
+        /** Maximum duration of one fitted segment (s). */
+        private final double maxSegmentDuration;
+
+        /** Degree of the Chebyshev polynomials. */
+        private final int degree;
+
+        /** Interpolators not yet fully covered by fitted segments. */
+        private final List<ODEStateInterpolator> pending;
+
+        /** Builder for the ephemeris. */
+        private ChebyshevEphemerisBuilder builder;
+
+        /** Start of the current (not yet fitted) segment. */
+        private double segmentStart;
+
+        /** Last time handled. */
+        private double lastTime;
+
+        /** Propagation direction. */
+        private boolean forward;
+
+        /** Generated ephemeris. */
+        private BoundedPropagator ephemeris;
+
+        /** Simple constructor.
+         * @param positionTolerance tolerance on position (m)
+         * @param maxSegmentDuration maximum duration of one fitted segment (s)
+         * @param degree degree of the Chebyshev polynomials
+         */
+        CompressingStepHandler(final double positionTolerance, final double maxSegmentDuration, final int degree) {
+            this.positionTolerance  = positionTolerance;
+            this.maxSegmentDuration = maxSegmentDuration;
+            this.degree             = degree;
+            this.pending            = new ArrayList<>();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void setEndDate(final AbsoluteDate endDate) {
+            // nothing to do, the ephemeris ends where propagation ends
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void init(final ODEStateAndDerivative s0, final double t) {
+            final SpacecraftState state = convertToOrekitWithoutAdditional(s0);
+            this.builder      = new ChebyshevEphemerisBuilder(stateMapper.getReferenceDate(), stateMapper.getFrame(),
+                                                              state.isOrbitDefined() ? state.getOrbit().getMu() : Double.NaN,
+                                                              degree, positionTolerance);
+            this.segmentStart = s0.getTime();
+            this.lastTime     = s0.getTime();
+            this.forward      = t >= s0.getTime();
+            this.ephemeris    = null;
+            pending.clear();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void handleStep(final ODEStateInterpolator interpolator) {
+            pending.add(interpolator);
+            lastTime = interpolator.getCurrentState().getTime();
+            while (FastMath.abs(lastTime - segmentStart) >= maxSegmentDuration) {
+                final double segmentEnd = forward ? segmentStart + maxSegmentDuration : segmentStart - maxSegmentDuration;
+                builder.fit(segmentStart, segmentEnd, this::sample);
+                segmentStart = segmentEnd;
+                // drop the interpolators that will not be needed anymore
+                pending.removeIf(i -> forward ?
+                                      i.getCurrentState().getTime() < segmentStart :
+                                      i.getCurrentState().getTime() > segmentStart);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void finish(final ODEStateAndDerivative finalState) {
+            buildEphemeris();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public BoundedPropagator getGeneratedEphemeris() {
+            if (ephemeris == null) {
+                buildEphemeris();
+            }
+            return ephemeris;
+        }
+
+        /** Fit the last segment and build the ephemeris. */
+        private void buildEphemeris() {
+            if (lastTime != segmentStart) {
+                builder.fit(segmentStart, lastTime, this::sample);
+                segmentStart = lastTime;
+                pending.clear();
+            }
+            ephemeris = builder.build(getAttitudeProvider());
+        }
+
+        /** Sample the trajectory.
+         * @param t time
+         * @return position, velocity and mass
+         */
+        private double[] sample(final double t) {
+            for (final ODEStateInterpolator interpolator : pending) {
+                final double tPrevious = interpolator.getPreviousState().getTime();
+                final double tCurrent  = interpolator.getCurrentState().getTime();
+                if (FastMath.min(tPrevious, tCurrent) <= t && t <= FastMath.max(tPrevious, tCurrent)) {
+                    final SpacecraftState state =
+                                    convertToOrekitWithoutAdditional(interpolator.getInterpolatedState(t));
+                    return ChebyshevEphemerisBuilder.pack(state.getPVCoordinates(), state.getMass());
+                }
+            }
+            // this should never happen
+            throw new OrekitInternalError(null);
+        }
+
+    }
+
     /** Wrapper for resetting an integrator handlers.
      * <p>
      * This class is intended to be used in a try-with-resource statement.
@@ -0,0 +1,117 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.montecarlo;
+
+import org.hipparchus.analysis.differentiation.Gradient;
+import org.hipparchus.analysis.differentiation.GradientField;
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.FieldCartesianOrbit;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.utils.FieldPVCoordinates;
+
+/**
+ * Linearized Keplerian model for Monte Carlo trajectories.
+ * <p>
+ * The nominal orbit is propagated once using Keplerian motion, together with the state
+ * transition matrix with respect to the Cartesian state at time of closest approach.
+ * Sample positions are then obtained by a simple matrix-vector product, which is
+ * several orders of magnitude faster than propagating each sample.
+ * </p>
+ * <p>
+ * This shortcut is valid when the sampled deviations remain in the linear domain over
+ * the computation window, which is generally the case for covariances of a few
+ * kilometers and windows of a few minutes. The {@link PropagatorSampleModel} should
+ * be used otherwise, or when non-Keplerian effects matter.
+ * </p>
+ *
+ * @since 14.0
+ */
+public class LinearizedKeplerianModel implements MonteCarloPropagationModel {
+
+    /** Simple constructor.
+     */
+    public LinearizedKeplerianModel() {
+        // nothing to do
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MonteCarloTrajectoryProvider prepare(final CartesianOrbit nominal, final double step, final int maxSteps) {
+
+        // nominal state with derivatives with respect to itself
+        final GradientField field = GradientField.getField(6);
+        final FieldVector3D<Gradient> p = new FieldVector3D<>(Gradient.variable(6, 0, nominal.getPosition().getX()),
+                                                              Gradient.variable(6, 1, nominal.getPosition().getY()),
+                                                              Gradient.variable(6, 2, nominal.getPosition().getZ()));
+        final FieldVector3D<Gradient> v = new FieldVector3D<>(Gradient.variable(6, 3, nominal.getPVCoordinates().getVelocity().getX()),
+                                                              Gradient.variable(6, 4, nominal.getPVCoordinates().getVelocity().getY()),
+                                                              Gradient.variable(6, 5, nominal.getPVCoordinates().getVelocity().getZ()));
+        final FieldCartesianOrbit<Gradient> orbit =
+                new FieldCartesianOrbit<>(new FieldPVCoordinates<>(p, v), nominal.getFrame(),
+                                          new FieldAbsoluteDate<>(field, nominal.getDate()),
+                                          field.getZero().newInstance(nominal.getMu()));
+
+        // propagate nominal orbit and state transition matrix
+        final int        n         = 2 * maxSteps + 1;
+        final double[][] positions = new double[n][3];
+        final double[][] jacobians = new double[n][18];
+        for (int i = 0; i < n; ++i) {
+            final FieldVector3D<Gradient> shifted = orbit.shiftedBy((i - maxSteps) * step).getPosition();
+            store(shifted.getX(), positions[i], jacobians[i], 0);
+            store(shifted.getY(), positions[i], jacobians[i], 1);
+            store(shifted.getZ(), positions[i], jacobians[i], 2);
+        }
+
+        return deviation -> stepIndex -> {
+            final double[] nominalPosition = positions[stepIndex + maxSteps];
+            final double[] jacobian        = jacobians[stepIndex + maxSteps];
+            return new Vector3D(nominalPosition[0] + dot(jacobian, 0,  deviation),
+                                nominalPosition[1] + dot(jacobian, 6,  deviation),
+                                nominalPosition[2] + dot(jacobian, 12, deviation));
+        };
+
+    }
+
+    /** Store one position component and its derivatives.
+     * @param component position component
+     * @param position array where to store position
+     * @param jacobian array where to store jacobian row
+     * @param index index of the component
+     */
+    private static void store(final Gradient component, final double[] position, final double[] jacobian,
+                              final int index) {
+        position[index] = component.getValue();
+        System.arraycopy(component.getGradient(), 0, jacobian, 6 * index, 6);
+    }
+
+    /** Compute the dot product of one jacobian row with a deviation.
+     * @param jacobian jacobian
+     * @param offset offset of the row in the jacobian
+     * @param deviation deviation
+     * @return dot product
+     */
+    private static double dot(final double[] jacobian, final int offset, final double[] deviation) {
+        double sum = 0;
+        for (int j = 0; j < 6; ++j) {
+            sum += jacobian[offset + j] * deviation[j];
+        }
+        return sum;
+    }
+
+}
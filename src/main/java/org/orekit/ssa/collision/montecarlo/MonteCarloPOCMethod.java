@@ -0,0 +1,482 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.montecarlo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.hipparchus.distribution.continuous.NormalDistribution;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RectangularCholeskyDecomposition;
+import org.hipparchus.random.GaussianRandomGenerator;
+import org.hipparchus.random.Well19937c;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.covariance.StateCovariance;
+import org.orekit.ssa.collision.shorttermencounter.probability.twod.ShortTermEncounter2DDefinition;
+import org.orekit.utils.ParallelTasks;
+
+/**
+ * Monte Carlo estimation of the probability of collision.
+ * <p>
+ * Contrary to the {@link org.orekit.ssa.collision.shorttermencounter.probability.twod
+ * short-term encounter methods}, this method does not assume linear relative motion nor
+ * deterministic velocities, so it can be used for slow or long encounters. Both objects
+ * states at time of closest approach are sampled from their covariances, each sample is
+ * propagated over a window around TCA using a {@link MonteCarloPropagationModel} and a
+ * collision is counted if the distance between the sampled objects falls below the
+ * combined radius at any time in the window.
+ * </p>
+ * <p>
+ * For each sample pair, the relative trajectory is explored step by step from TCA outward
+ * in both directions, with linear interpolation between steps. The exploration stops as
+ * soon as a collision is detected, and in each direction as soon as the distance starts
+ * increasing (early rejection), hence the window must not contain several encounters.
+ * </p>
+ * <p>
+ * Samples are drawn by batches, each batch using its own random generator seeded from the
+ * method seed and the batch index, so results do not depend on the number of threads.
+ * The number of samples is doubled until the half-width of the Wilson score confidence
+ * interval falls below the requested relative accuracy, or the maximum number of samples
+ * is reached.
+ * </p>
+ *
+ * @since 14.0
+ */
+public class MonteCarloPOCMethod {
+
+    /** Default minimum number of samples. */
+    public static final int DEFAULT_MIN_SAMPLES = 10000;
+
+    /** Default maximum number of samples. */
+    public static final long DEFAULT_MAX_SAMPLES = 10000000L;
+
+    /** Default number of samples per batch. */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** Default relative accuracy (ratio of confidence interval half-width to probability). */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.1;
+
+    /** Default confidence level. */
+    public static final double DEFAULT_CONFIDENCE_LEVEL = 0.95;
+
+    /** Name of the method. */
+    private static final String NAME = "MONTE_CARLO";
+
+    /** Tolerance on TCA difference between primary and secondary. */
+    private static final double TCA_TOLERANCE = 1.0e-6;
+
+    /** Threshold for rank determination of correlation matrices. */
+    private static final double CORRELATION_THRESHOLD = 1.0e-10;
+
+    /** Model for sampled trajectories. */
+    private final MonteCarloPropagationModel model;
+
+    /** Half span of the window around TCA. */
+    private final double halfSpan;
+
+    /** Time step for trajectories. */
+    private final double step;
+
+    /** Minimum number of samples. */
+    private final long minSamples;
+
+    /** Maximum number of samples. */
+    private final long maxSamples;
+
+    /** Number of samples per batch. */
+    private final int batchSize;
+
+    /** Relative accuracy. */
+    private final double relativeAccuracy;
+
+    /** Confidence level. */
+    private final double confidenceLevel;
+
+    /** Seed for random generators. */
+    private final long seed;
+
+    /** Runner for parallel tasks. */
+    private final ParallelTasks tasks;
+
+    /**
+     * Constructor with default settings for sampling and convergence.
+     *
+     * @param model model for sampled trajectories
+     * @param halfSpan half span of the window around TCA (s)
+     * @param step time step for trajectories (s)
+     * @param threads number of threads to use
+     */
+    public MonteCarloPOCMethod(final MonteCarloPropagationModel model, final double halfSpan, final double step,
+                               final int threads) {
+        this(model, halfSpan, step, DEFAULT_MIN_SAMPLES, DEFAULT_MAX_SAMPLES, DEFAULT_BATCH_SIZE,
+             DEFAULT_RELATIVE_ACCURACY, DEFAULT_CONFIDENCE_LEVEL, 0L, threads);
+    }
+
+    /**
+     * Customizable constructor.
+     *
+     * @param model model for sampled trajectories
+     * @param halfSpan half span of the window around TCA (s)
+     * @param step time step for trajectories (s), must be small enough for relative motion to be almost
+     * linear between steps
+     * @param minSamples minimum number of samples
+     * @param maxSamples maximum number of samples
+     * @param batchSize number of samples per batch
+     * @param relativeAccuracy ratio of confidence interval half-width to probability at which sampling stops
+     * @param confidenceLevel confidence level of the interval (for example 0.95)
+     * @param seed seed for random generators
+     * @param threads number of threads to use
+     */
+    public MonteCarloPOCMethod(final MonteCarloPropagationModel model, final double halfSpan, final double step,
+                               final long minSamples, final long maxSamples, final int batchSize,
+                               final double relativeAccuracy, final double confidenceLevel,
+                               final long seed, final int threads) {
+        checkStrictlyPositive(halfSpan);
+        checkStrictlyPositive(step);
+        checkStrictlyPositive(minSamples);
+        checkStrictlyPositive(batchSize);
+        checkStrictlyPositive(relativeAccuracy);
+        if (maxSamples < minSamples) {
+            throw new OrekitException(LocalizedCoreFormats.NUMBER_TOO_SMALL, maxSamples, minSamples);
+        }
+        if (confidenceLevel <= 0 || confidenceLevel >= 1) {
+            throw new OrekitException(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, confidenceLevel, 0, 1);
+        }
+        this.model            = model;
+        this.halfSpan         = halfSpan;
+        this.step             = step;
+        this.minSamples       = minSamples;
+        this.maxSamples       = maxSamples;
+        this.batchSize        = batchSize;
+        this.relativeAccuracy = relativeAccuracy;
+        this.confidenceLevel  = confidenceLevel;
+        this.seed             = seed;
+        this.tasks            = new ParallelTasks(threads);
+    }
+
+    /**
+     * Get the name of the method.
+     *
+     * @return name of the method
+     */
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Compute the probability of collision for an encounter.
+     *
+     * @param encounter encounter definition
+     *
+     * @return probability of collision
+     */
+    public MonteCarloProbabilityOfCollision compute(final ShortTermEncounter2DDefinition encounter) {
+        return compute(encounter.getReferenceAtTCA(), encounter.getReferenceCovariance(),
+                       encounter.getOtherAtTCA(), encounter.getOtherCovariance(),
+                       encounter.getCombinedRadius());
+    }
+
+    /**
+     * Compute the probability of collision.
+     *
+     * @param primaryAtTCA primary collision object orbit at time of closest approach
+     * @param primaryCovariance primary collision object covariance at time of closest approach
+     * @param secondaryAtTCA secondary collision object orbit at time of closest approach
+     * @param secondaryCovariance secondary collision object covariance at time of closest approach
+     * @param combinedRadius combined radius (m)
+     *
+     * @return probability of collision
+     */
+    public MonteCarloProbabilityOfCollision compute(final Orbit primaryAtTCA, final StateCovariance primaryCovariance,
+                                                    final Orbit secondaryAtTCA, final StateCovariance secondaryCovariance,
+                                                    final double combinedRadius) {
+
+        if (FastMath.abs(primaryAtTCA.getDate().durationFrom(secondaryAtTCA.getDate())) > TCA_TOLERANCE) {
+            throw new OrekitException(OrekitMessages.DIFFERENT_TIME_OF_CLOSEST_APPROACH);
+        }
+
+        // express everything in primary inertial frame
+        final Frame         frame     = primaryAtTCA.getFrame();
+        final CartesianOrbit primary   = new CartesianOrbit(primaryAtTCA);
+        final CartesianOrbit secondary = new CartesianOrbit(secondaryAtTCA.getPVCoordinates(frame), frame,
+                                                            primaryAtTCA.getDate(), secondaryAtTCA.getMu());
+        final double[][] primaryRoot   = rootMatrix(primary, primaryCovariance, frame);
+        final double[][] secondaryRoot = rootMatrix(secondary, secondaryCovariance, frame);
+
+        // prepare trajectory models
+        final int maxSteps = (int) FastMath.ceil(halfSpan / step);
+        final MonteCarloTrajectoryProvider primaryProvider   = model.prepare(primary, step, maxSteps);
+        final MonteCarloTrajectoryProvider secondaryProvider = model.prepare(secondary, step, maxSteps);
+
+        final double z = new NormalDistribution().inverseCumulativeProbability(0.5 * (1 + confidenceLevel));
+
+        long samples = 0;
+        long hits    = 0;
+        int  batch   = 0;
+        long target  = minSamples;
+        while (true) {
+
+            // run one wave of batches, the last one being partial if needed
+            final long remaining = target - samples;
+            final long nbBatches = remaining / batchSize + (remaining % batchSize == 0 ? 0 : 1);
+            if (batch + nbBatches > Integer.MAX_VALUE) {
+                throw new OrekitException(LocalizedCoreFormats.NUMBER_TOO_LARGE, batch + nbBatches, Integer.MAX_VALUE);
+            }
+            final List<Callable<Long>> wave = new ArrayList<>((int) nbBatches);
+            for (int i = 0; i < nbBatches; ++i) {
+                final int batchIndex = batch + i;
+                final int size       = (int) FastMath.min(batchSize, remaining - ((long) i) * batchSize);
+                wave.add(() -> runBatch(batchIndex, size, primaryRoot, primaryProvider,
+                                        secondaryRoot, secondaryProvider, combinedRadius, maxSteps));
+            }
+            for (final long batchHits : tasks.run(wave)) {
+                hits += batchHits;
+            }
+            samples += remaining;
+            batch   += (int) nbBatches;
+
+            // Wilson score interval
+            final double n         = samples;
+            final double p         = hits / n;
+            final double z2n       = z * z / n;
+            final double center    = (p + 0.5 * z2n) / (1 + z2n);
+            final double halfWidth = z / (1 + z2n) * FastMath.sqrt(p * (1 - p) / n + 0.25 * z2n / n);
+            final boolean converged = hits > 0 && halfWidth <= relativeAccuracy * p;
+            if (converged || samples >= maxSamples) {
+                return new MonteCarloProbabilityOfCollision(samples, hits,
+                                                            FastMath.max(0.0, center - halfWidth),
+                                                            FastMath.min(1.0, center + halfWidth),
+                                                            confidenceLevel, converged, NAME);
+            }
+
+            target = FastMath.min(maxSamples, 2 * samples);
+
+        }
+
+    }
+
+    /**
+     * Run one batch of samples.
+     *
+     * @param batchIndex index of the batch
+     * @param size number of samples in the batch
+     * @param primaryRoot root of the primary covariance
+     * @param primaryProvider provider for primary trajectories
+     * @param secondaryRoot root of the secondary covariance
+     * @param secondaryProvider provider for secondary trajectories
+     * @param combinedRadius combined radius
+     * @param maxSteps maximum number of steps on each side of TCA
+     *
+     * @return number of collisions in the batch
+     */
+    private long runBatch(final int batchIndex, final int size,
+                          final double[][] primaryRoot, final MonteCarloTrajectoryProvider primaryProvider,
+                          final double[][] secondaryRoot, final MonteCarloTrajectoryProvider secondaryProvider,
+                          final double combinedRadius, final int maxSteps) {
+
+        final GaussianRandomGenerator generator =
+                new GaussianRandomGenerator(new Well19937c(new int[] { (int) (seed >>> 32), (int) seed, batchIndex }));
+        final double[] primaryDeviation   = new double[6];
+        final double[] secondaryDeviation = new double[6];
+        final double[] normalized         = new double[6];
+
+        long hits = 0;
+        for (int i = 0; i < size; ++i) {
+            sample(generator, primaryRoot, normalized, primaryDeviation);
+            sample(generator, secondaryRoot, normalized, secondaryDeviation);
+            if (collides(primaryProvider.getTrajectory(primaryDeviation),
+                         secondaryProvider.getTrajectory(secondaryDeviation),
+                         combinedRadius, maxSteps)) {
+                ++hits;
+            }
+        }
+
+        return hits;
+
+    }
+
+    /**
+     * Check if a sample pair collides.
+     *
+     * @param primary primary trajectory
+     * @param secondary secondary trajectory
+     * @param combinedRadius combined radius
+     * @param maxSteps maximum number of steps on each side of TCA
+     *
+     * @return true if the distance between the sampled objects falls below the combined radius
+     */
+    private boolean collides(final MonteCarloTrajectory primary, final MonteCarloTrajectory secondary,
+                             final double combinedRadius, final int maxSteps) {
+
+        final Vector3D relativeAtTCA = secondary.getPosition(0).subtract(primary.getPosition(0));
+        final double   distanceAtTCA = relativeAtTCA.getNorm();
+        if (distanceAtTCA <= combinedRadius) {
+            return true;
+        }
+
+        for (int direction = 1; direction >= -1; direction -= 2) {
+            Vector3D previous         = relativeAtTCA;
+            double   previousDistance = distanceAtTCA;
+            for (int j = 1; j <= maxSteps; ++j) {
+                final Vector3D current = secondary.getPosition(direction * j).subtract(primary.getPosition(direction * j));
+                if (segmentDistance(previous, current) <= combinedRadius) {
+                    return true;
+                }
+                final double currentDistance = current.getNorm();
+                if (currentDistance > previousDistance) {
+                    // we are moving away, reject this direction
+                    break;
+                }
+                previous         = current;
+                previousDistance = currentDistance;
+            }
+        }
+
+        return false;
+
+    }
+
+    /**
+     * Compute the minimum distance to origin along a segment.
+     *
+     * @param start segment start
+     * @param end segment end
+     *
+     * @return minimum distance to origin along the segment
+     */
+    private static double segmentDistance(final Vector3D start, final Vector3D end) {
+        final Vector3D delta  = end.subtract(start);
+        final double   delta2 = delta.getNormSq();
+        if (delta2 == 0) {
+            return start.getNorm();
+        }
+        final double u = FastMath.max(0.0, FastMath.min(1.0, -Vector3D.dotProduct(start, delta) / delta2));
+        return new Vector3D(1.0, start, u, delta).getNorm();
+    }
+
+    /**
+     * Draw one sample deviation.
+     *
+     * @param generator normalized random generator
+     * @param root root of the covariance matrix
+     * @param normalized work array for normalized deviations (at least as long as the root rank)
+     * @param deviation array where to store the deviation
+     */
+    private static void sample(final GaussianRandomGenerator generator, final double[][] root,
+                               final double[] normalized, final double[] deviation) {
+        final int rank = root[0].length;
+        for (int k = 0; k < rank; ++k) {
+            normalized[k] = generator.nextNormalizedDouble();
+        }
+        for (int i = 0; i < deviation.length; ++i) {
+            double sum = 0;
+            for (int k = 0; k < rank; ++k) {
+                sum += root[i][k] * normalized[k];
+            }
+            deviation[i] = sum;
+        }
+    }
+
+    /**
+     * Compute the root of the Cartesian covariance in computation frame.
+     * <p>
+     * The covariance is first normalized to a correlation matrix so the rank determination
+     * does not depend on position and velocity scales, and zero-variance components
+     * (like unknown velocity covariances) are left unperturbed.
+     * </p>
+     *
+     * @param orbit orbit at TCA
+     * @param covariance covariance at TCA
+     * @param frame computation frame
+     *
+     * @return root matrix R (6 rows) such that R.R<sup>T</sup> is the Cartesian covariance
+     */
+    private static double[][] rootMatrix(final Orbit orbit, final StateCovariance covariance, final Frame frame) {
+
+        StateCovariance inFrame = covariance.changeCovarianceFrame(orbit, frame);
+        if (inFrame.getOrbitType() != OrbitType.CARTESIAN) {
+            inFrame = inFrame.changeCovarianceType(orbit, OrbitType.CARTESIAN, PositionAngleType.MEAN);
+        }
+        final RealMatrix cartesian = inFrame.getMatrix();
+
+        // select components with non-zero variance
+        final int[]    selected = new int[6];
+        final double[] sigma    = new double[6];
+        int n = 0;
+        for (int i = 0; i < 6; ++i) {
+            final double variance = cartesian.getEntry(i, i);
+            if (variance > 0) {
+                sigma[n]      = FastMath.sqrt(variance);
+                selected[n++] = i;
+            }
+        }
+
+        final double[][] root = new double[6][];
+        if (n == 0) {
+            for (int i = 0; i < 6; ++i) {
+                root[i] = new double[1];
+            }
+            return root;
+        }
+
+        // correlation matrix of selected components
+        final RealMatrix correlation = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                correlation.setEntry(i, j, cartesian.getEntry(selected[i], selected[j]) / (sigma[i] * sigma[j]));
+            }
+        }
+        final RectangularCholeskyDecomposition decomposition =
+                new RectangularCholeskyDecomposition(correlation, CORRELATION_THRESHOLD);
+        final RealMatrix correlationRoot = decomposition.getRootMatrix();
+        final int rank = decomposition.getRank();
+
+        for (int i = 0; i < 6; ++i) {
+            root[i] = new double[rank];
+        }
+        for (int i = 0; i < n; ++i) {
+            for (int k = 0; k < rank; ++k) {
+                root[selected[i]][k] = sigma[i] * correlationRoot.getEntry(i, k);
+            }
+        }
+        return root;
+
+    }
+
+    /**
+     * Check a parameter is strictly positive.
+     *
+     * @param value value to check
+     */
+    private static void checkStrictlyPositive(final double value) {
+        if (value <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, value);
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.montecarlo;
+
+import org.orekit.ssa.metrics.ProbabilityOfCollision;
+
+/**
+ * Probability of collision estimated by a Monte Carlo method.
+ * <p>
+ * The {@link #getLowerLimit() lower} and {@link #getUpperLimit() upper} limits hold the
+ * Wilson score confidence interval of the estimate at the {@link #getConfidenceLevel()
+ * confidence level} configured in the method.
+ * </p>
+ *
+ * @see MonteCarloPOCMethod
+ * @since 14.0
+ */
+public class MonteCarloProbabilityOfCollision extends ProbabilityOfCollision {
+
+    /** Number of samples. */
+    private final long samples;
+
+    /** Number of samples leading to a collision. */
+    private final long hits;
+
+    /** Confidence level of the interval. */
+    private final double confidenceLevel;
+
+    /** Indicator for convergence. */
+    private final boolean converged;
+
+    /**
+     * Simple constructor.
+     *
+     * @param samples number of samples
+     * @param hits number of samples leading to a collision
+     * @param lowerLimit lower limit of the confidence interval
+     * @param upperLimit upper limit of the confidence interval
+     * @param confidenceLevel confidence level of the interval
+     * @param converged if true, the requested accuracy was reached before the maximum number of samples
+     * @param methodName name of the method
+     */
+    public MonteCarloProbabilityOfCollision(final long samples, final long hits,
+                                            final double lowerLimit, final double upperLimit,
+                                            final double confidenceLevel, final boolean converged,
+                                            final String methodName) {
+        super(((double) hits) / samples, lowerLimit, upperLimit, methodName, false);
+        this.samples         = samples;
+        this.hits            = hits;
+        this.confidenceLevel = confidenceLevel;
+        this.converged       = converged;
+    }
+
+    /**
+     * Get the number of samples.
+     *
+     * @return number of samples
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * Get the number of samples leading to a collision.
+     *
+     * @return number of samples leading to a collision
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the confidence level of the interval.
+     *
+     * @return confidence level of the interval
+     */
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    /**
+     * Check if the requested accuracy was reached.
+     *
+     * @return true if the requested accuracy was reached before the maximum number of samples
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+}
@@ -0,0 +1,45 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.montecarlo;
+
+import org.orekit.orbits.CartesianOrbit;
+
+/**
+ * Model for computing trajectories of objects sampled around a nominal orbit.
+ * <p>
+ * The model is {@link #prepare(CartesianOrbit, double, int) prepared} once for each object
+ * and each probability of collision computation, which allows implementations to perform
+ * costly computations related to the nominal orbit only once for all samples.
+ * </p>
+ *
+ * @see MonteCarloPOCMethod
+ * @since 14.0
+ */
+public interface MonteCarloPropagationModel {
+
+    /**
+     * Prepare the model for one object.
+     *
+     * @param nominal nominal orbit at time of closest approach, in the inertial frame used for computation
+     * @param step time step between trajectory points (s)
+     * @param maxSteps maximum number of steps on each side of time of closest approach
+     *
+     * @return provider for the trajectories of samples around the nominal orbit (must be thread-safe)
+     */
+    MonteCarloTrajectoryProvider prepare(CartesianOrbit nominal, double step, int maxSteps);
+
+}
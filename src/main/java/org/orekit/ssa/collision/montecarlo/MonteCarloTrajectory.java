@@ -0,0 +1,43 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.montecarlo;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+
+/**
+ * Trajectory of one sampled object around time of closest approach.
+ * <p>
+ * Positions are requested for steps of increasing magnitude in each direction, starting
+ * from step 0 at time of closest approach, so implementations relying on propagators can
+ * propagate incrementally. Instances are used by one thread only.
+ * </p>
+ *
+ * @see MonteCarloTrajectoryProvider
+ * @since 14.0
+ */
+public interface MonteCarloTrajectory {
+
+    /**
+     * Get the position at one step.
+     *
+     * @param step signed step index (0 at time of closest approach, negative before)
+     *
+     * @return position in the computation frame (m)
+     */
+    Vector3D getPosition(int step);
+
+}
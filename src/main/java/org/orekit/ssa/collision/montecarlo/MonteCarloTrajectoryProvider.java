@@ -0,0 +1,40 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.montecarlo;
+
+/**
+ * Provider for the trajectories of objects sampled around one nominal orbit.
+ * <p>
+ * Implementations must be thread-safe as samples are processed in parallel.
+ * </p>
+ *
+ * @see MonteCarloPropagationModel#prepare(org.orekit.orbits.CartesianOrbit, double, int)
+ * @since 14.0
+ */
+public interface MonteCarloTrajectoryProvider {
+
+    /**
+     * Get the trajectory of one sample.
+     *
+     * @param deviation deviation of the sample with respect to the nominal orbit at time of closest approach
+     * (Cartesian position and velocity in the computation frame, m and m/s)
+     *
+     * @return trajectory of the sample
+     */
+    MonteCarloTrajectory getTrajectory(double[] deviation);
+
+}
@@ -0,0 +1,124 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.montecarlo;
+
+import java.util.function.Function;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.PVCoordinates;
+
+/**
+ * Monte Carlo trajectories computed by propagating each sample.
+ * <p>
+ * A propagator is built for each sample and each direction (before and after time of
+ * closest approach) using a user-provided factory, so any propagation model can be used.
+ * As positions are requested with increasing time offsets, each propagator is only run
+ * incrementally, and propagation stops as soon as the sample pair has been classified.
+ * </p>
+ *
+ * @since 14.0
+ */
+public class PropagatorSampleModel implements MonteCarloPropagationModel {
+
+    /** Factory for propagators. */
+    private final Function<Orbit, Propagator> factory;
+
+    /** Constructor using Keplerian propagation.
+     */
+    public PropagatorSampleModel() {
+        this(KeplerianPropagator::new);
+    }
+
+    /** Simple constructor.
+     * @param factory factory building a propagator from a sampled orbit at time of closest approach
+     * (will be called from several threads)
+     */
+    public PropagatorSampleModel(final Function<Orbit, Propagator> factory) {
+        this.factory = factory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MonteCarloTrajectoryProvider prepare(final CartesianOrbit nominal, final double step, final int maxSteps) {
+        final Frame        frame    = nominal.getFrame();
+        final AbsoluteDate tca      = nominal.getDate();
+        final Vector3D     position = nominal.getPosition();
+        final Vector3D     velocity = nominal.getPVCoordinates().getVelocity();
+        return deviation -> {
+            final Orbit sample =
+                    new CartesianOrbit(new PVCoordinates(new Vector3D(position.getX() + deviation[0],
+                                                                      position.getY() + deviation[1],
+                                                                      position.getZ() + deviation[2]),
+                                                         new Vector3D(velocity.getX() + deviation[3],
+                                                                      velocity.getY() + deviation[4],
+                                                                      velocity.getZ() + deviation[5])),
+                                       frame, tca, nominal.getMu());
+            return new SampleTrajectory(sample, step);
+        };
+    }
+
+    /** Trajectory of one sample. */
+    private class SampleTrajectory implements MonteCarloTrajectory {
+
+        /** Sampled orbit at time of closest approach. */
+        private final Orbit sample;
+
+        /** Time step. */
+        private final double step;
+
+        /** Propagator for steps after time of closest approach (lazily built). */
+        private Propagator forward;
+
+        /** Propagator for steps before time of closest approach (lazily built). */
+        private Propagator backward;
+
+        /** Simple constructor.
+         * @param sample sampled orbit at time of closest approach
+         * @param step time step
+         */
+        SampleTrajectory(final Orbit sample, final double step) {
+            this.sample = sample;
+            this.step   = step;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Vector3D getPosition(final int stepIndex) {
+            if (stepIndex == 0) {
+                return sample.getPosition();
+            } else if (stepIndex > 0) {
+                if (forward == null) {
+                    forward = factory.apply(sample);
+                }
+                return forward.propagate(sample.getDate().shiftedBy(stepIndex * step)).getPosition(sample.getFrame());
+            } else {
+                if (backward == null) {
+                    backward = factory.apply(sample);
+                }
+                return backward.propagate(sample.getDate().shiftedBy(stepIndex * step)).getPosition(sample.getFrame());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Monte Carlo probability of collision.
+ * <p>
+ * This package provides a probability of collision engine that does not rely on the
+ * short-term encounter assumptions (linear relative motion, no velocity uncertainty).
+ * Both objects states are sampled from their covariances at time of closest approach,
+ * each sample pair is propagated around TCA and a collision is counted whenever the
+ * sampled objects come closer than the combined radius. The sampled trajectories may be
+ * computed either with a linearized Keplerian model (state transition matrix around the
+ * nominal orbits) or with any Orekit propagator.
+ * </p>
+ *
+ * @since 14.0
+ */
+package org.orekit.ssa.collision.montecarlo;
@@ -0,0 +1,75 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.screening;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.orbits.Orbit;
+
+/** Apogee/perigee screening filter.
+ * <p>
+ * This filter discards pairs for which the radial ranges covered by the two
+ * orbits do not overlap, i.e. when the highest perigee is above the lowest
+ * apogee by more than the screening threshold. Pairs involving non-elliptic
+ * orbits are never discarded.
+ * </p>
+ * <p>
+ * As osculating orbits at screening start are used, a margin should be set
+ * to account for the variations of perigee and apogee radii during the
+ * screening duration (typically a few kilometers for a one day screening
+ * in low Earth orbit).
+ * </p>
+ * @since 14.0
+ */
+public class ApogeePerigeeFilter implements ScreeningFilter {
+
+    /** Margin added to screening threshold (m). */
+    private final double margin;
+
+    /** Simple constructor.
+     * @param margin margin added to screening threshold (m)
+     */
+    public ApogeePerigeeFilter(final double margin) {
+        this.margin = margin;
+    }
+
+    /** Get the margin added to screening threshold.
+     * @return margin added to screening threshold (m)
+     */
+    public double getMargin() {
+        return margin;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean mayApproach(final Orbit primary, final Orbit secondary, final double threshold) {
+
+        if (!(primary.isElliptical() && secondary.isElliptical())) {
+            // we don't attempt to filter hyperbolic trajectories
+            return true;
+        }
+
+        final double perigee1 = primary.getA() * (1 - primary.getE());
+        final double apogee1  = primary.getA() * (1 + primary.getE());
+        final double perigee2 = secondary.getA() * (1 - secondary.getE());
+        final double apogee2  = secondary.getA() * (1 + secondary.getE());
+
+        final double gap = FastMath.max(perigee1, perigee2) - FastMath.min(apogee1, apogee2);
+        return gap <= threshold + margin;
+
+    }
+
+}
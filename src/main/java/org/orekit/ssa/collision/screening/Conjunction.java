@@ -0,0 +1,166 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.screening;
+
+import org.orekit.frames.Frame;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.covariance.StateCovariance;
+import org.orekit.ssa.collision.shorttermencounter.probability.twod.ShortTermEncounter2DDefinition;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeStamped;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/** Container for a close approach found by {@link ConjunctionScreener}.
+ * @since 14.0
+ */
+public class Conjunction implements TimeStamped {
+
+    /** Index of the primary object in the screened catalog. */
+    private final int primaryIndex;
+
+    /** Index of the secondary object in the screened catalog. */
+    private final int secondaryIndex;
+
+    /** Primary object coordinates at time of closest approach. */
+    private final TimeStampedPVCoordinates primaryAtTCA;
+
+    /** Secondary object coordinates at time of closest approach. */
+    private final TimeStampedPVCoordinates secondaryAtTCA;
+
+    /** Inertial frame in which coordinates are defined. */
+    private final Frame frame;
+
+    /** Central attraction coefficient (m³/s²). */
+    private final double mu;
+
+    /** Simple constructor.
+     * @param primaryIndex index of the primary object in the screened catalog
+     * @param secondaryIndex index of the secondary object in the screened catalog
+     * @param primaryAtTCA primary object coordinates at time of closest approach
+     * @param secondaryAtTCA secondary object coordinates at time of closest approach
+     * @param frame inertial frame in which coordinates are defined
+     * @param mu central attraction coefficient (m³/s²)
+     */
+    public Conjunction(final int primaryIndex, final int secondaryIndex,
+                       final TimeStampedPVCoordinates primaryAtTCA,
+                       final TimeStampedPVCoordinates secondaryAtTCA,
+                       final Frame frame, final double mu) {
+        this.primaryIndex   = primaryIndex;
+        this.secondaryIndex = secondaryIndex;
+        this.primaryAtTCA   = primaryAtTCA;
+        this.secondaryAtTCA = secondaryAtTCA;
+        this.frame          = frame;
+        this.mu             = mu;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The date is the time of closest approach.
+     * </p>
+     */
+    @Override
+    public AbsoluteDate getDate() {
+        return primaryAtTCA.getDate();
+    }
+
+    /** Get the time of closest approach.
+     * @return time of closest approach
+     */
+    public AbsoluteDate getTca() {
+        return getDate();
+    }
+
+    /** Get the index of the primary object in the screened catalog.
+     * @return index of the primary object in the screened catalog
+     */
+    public int getPrimaryIndex() {
+        return primaryIndex;
+    }
+
+    /** Get the index of the secondary object in the screened catalog.
+     * @return index of the secondary object in the screened catalog
+     */
+    public int getSecondaryIndex() {
+        return secondaryIndex;
+    }
+
+    /** Get the primary object coordinates at time of closest approach.
+     * @return primary object coordinates at time of closest approach
+     */
+    public TimeStampedPVCoordinates getPrimaryAtTCA() {
+        return primaryAtTCA;
+    }
+
+    /** Get the secondary object coordinates at time of closest approach.
+     * @return secondary object coordinates at time of closest approach
+     */
+    public TimeStampedPVCoordinates getSecondaryAtTCA() {
+        return secondaryAtTCA;
+    }
+
+    /** Get the inertial frame in which coordinates are defined.
+     * @return inertial frame in which coordinates are defined
+     */
+    public Frame getFrame() {
+        return frame;
+    }
+
+    /** Get the miss distance.
+     * @return miss distance (m)
+     */
+    public double getMissDistance() {
+        return secondaryAtTCA.getPosition().distance(primaryAtTCA.getPosition());
+    }
+
+    /** Get the relative speed at time of closest approach.
+     * @return relative speed at time of closest approach (m/s)
+     */
+    public double getRelativeSpeed() {
+        return secondaryAtTCA.getVelocity().distance(primaryAtTCA.getVelocity());
+    }
+
+    /** Get the primary object orbit at time of closest approach.
+     * @return primary object orbit at time of closest approach
+     */
+    public Orbit getPrimaryOrbit() {
+        return new CartesianOrbit(primaryAtTCA, frame, mu);
+    }
+
+    /** Get the secondary object orbit at time of closest approach.
+     * @return secondary object orbit at time of closest approach
+     */
+    public Orbit getSecondaryOrbit() {
+        return new CartesianOrbit(secondaryAtTCA, frame, mu);
+    }
+
+    /** Build a short-term encounter definition suitable for probability of collision computation.
+     * @param primaryCovariance primary object covariance at time of closest approach
+     * @param secondaryCovariance secondary object covariance at time of closest approach
+     * @param combinedRadius combined radius (m)
+     * @return short-term encounter definition
+     * @see org.orekit.ssa.collision.shorttermencounter.probability.twod.ShortTermEncounter2DPOCMethod#compute(ShortTermEncounter2DDefinition)
+     */
+    public ShortTermEncounter2DDefinition toEncounterDefinition(final StateCovariance primaryCovariance,
+                                                                final StateCovariance secondaryCovariance,
+                                                                final double combinedRadius) {
+        return new ShortTermEncounter2DDefinition(getPrimaryOrbit(), primaryCovariance,
+                                                  getSecondaryOrbit(), secondaryCovariance,
+                                                  combinedRadius);
+    }
+
+}
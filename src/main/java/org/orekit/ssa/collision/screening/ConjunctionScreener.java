@@ -0,0 +1,689 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.screening;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hipparchus.analysis.UnivariateFunction;
+import org.hipparchus.analysis.solvers.AllowedSolution;
+import org.hipparchus.analysis.solvers.BracketingNthOrderBrentSolver;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.PVCoordinatesProvider;
+import org.orekit.utils.ParallelTasks;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/** Catalog-wide conjunction screening engine.
+ * <p>
+ * The screening is performed in three stages:
+ * </p>
+ * <ol>
+ *   <li>all objects are sampled on a regular time grid, by slabs of a few
+ *   steps so the memory footprint remains bounded regardless of the screening
+ *   duration,</li>
+ *   <li>at each grid date, objects positions are inserted in a spatial hash grid
+ *   whose cell size is the screening threshold padded by the largest distance
+ *   two objects can travel towards each other in one half step; only objects in
+ *   neighboring cells are compared, so the cost is roughly linear in the number
+ *   of objects instead of quadratic; candidate pairs found this way are then
+ *   checked against the configured {@link ScreeningFilter filters},</li>
+ *   <li>for surviving pairs, the time of closest approach is refined by finding the
+ *   roots of the range rate on cubic Hermite interpolants of the sampled
+ *   position-velocity of both objects.</li>
+ * </ol>
+ * <p>
+ * Sampling, grid search and refinement are split in independent tasks and run
+ * in parallel. Each object is sampled by only one task at a time, in chronological
+ * order, so the objects providers do not need to be thread-safe, but they must not
+ * be shared between objects. Numerical propagators are therefore best wrapped in
+ * ephemerides before screening, whereas analytical propagators can be used directly.
+ * </p>
+ * <p>
+ * The padding of the grid cells assumes the relative motion is almost linear during
+ * one half step, which is the same assumption as the one made by short-term encounter
+ * models. The step should therefore be a small fraction of the orbital period (a few
+ * seconds to a few tens of seconds for low Earth orbits).
+ * </p>
+ * @see Conjunction
+ * @since 14.0
+ */
+public class ConjunctionScreener {
+
+    /** Default number of steps in each sampling slab. */
+    public static final int DEFAULT_SLAB_SIZE = 64;
+
+    /** Default accuracy on time of closest approach (s). */
+    public static final double DEFAULT_TCA_ACCURACY = 1.0e-6;
+
+    /** Number of sub-intervals for range rate sign changes search in one step. */
+    private static final int SUB_INTERVALS = 4;
+
+    /** Maximum number of evaluations in time of closest approach refinement. */
+    private static final int MAX_EVALUATIONS = 100;
+
+    /** Number of bits used for each axis in grid cells keys. */
+    private static final int CELL_BITS = 21;
+
+    /** Mask for grid cells indices. */
+    private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+
+    /** Number of components per sample (position and velocity). */
+    private static final int SAMPLE_SIZE = 6;
+
+    /** Inertial frame in which screening is performed. */
+    private final Frame frame;
+
+    /** Central attraction coefficient (m³/s²). */
+    private final double mu;
+
+    /** Screening threshold distance (m). */
+    private final double threshold;
+
+    /** Sampling step (s). */
+    private final double step;
+
+    /** Number of steps in each sampling slab. */
+    private final int slabSize;
+
+    /** Runner for parallel tasks. */
+    private final ParallelTasks tasks;
+
+    /** Pre-filters applied to candidate pairs. */
+    private final List<ScreeningFilter> filters;
+
+    /** Simple constructor, using default slab size.
+     * @param frame inertial frame in which screening is performed
+     * @param mu central attraction coefficient (m³/s²)
+     * @param threshold screening threshold distance (m)
+     * @param step sampling step (s)
+     * @param threads number of threads to use
+     */
+    public ConjunctionScreener(final Frame frame, final double mu,
+                               final double threshold, final double step,
+                               final int threads) {
+        this(frame, mu, threshold, step, DEFAULT_SLAB_SIZE, threads);
+    }
+
+    /** Simple constructor.
+     * @param frame inertial frame in which screening is performed
+     * @param mu central attraction coefficient (m³/s²)
+     * @param threshold screening threshold distance (m)
+     * @param step sampling step (s)
+     * @param slabSize number of steps in each sampling slab
+     * @param threads number of threads to use
+     */
+    public ConjunctionScreener(final Frame frame, final double mu,
+                               final double threshold, final double step,
+                               final int slabSize, final int threads) {
+        if (!frame.isPseudoInertial()) {
+            throw new OrekitException(OrekitMessages.NON_PSEUDO_INERTIAL_FRAME, frame.getName());
+        }
+        if (threshold <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, threshold);
+        }
+        if (step <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, step);
+        }
+        if (slabSize <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, slabSize);
+        }
+        this.frame     = frame;
+        this.mu        = mu;
+        this.threshold = threshold;
+        this.step      = step;
+        this.slabSize  = slabSize;
+        this.tasks     = new ParallelTasks(threads);
+        this.filters   = new ArrayList<>();
+    }
+
+    /** Add a pre-filter for candidate pairs.
+     * @param filter filter to add
+     */
+    public void addFilter(final ScreeningFilter filter) {
+        filters.add(filter);
+    }
+
+    /** Get the pre-filters applied to candidate pairs.
+     * @return unmodifiable view of the pre-filters applied to candidate pairs
+     */
+    public List<ScreeningFilter> getFilters() {
+        return Collections.unmodifiableList(filters);
+    }
+
+    /** Get the screening threshold distance.
+     * @return screening threshold distance (m)
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    /** Get the sampling step.
+     * @return sampling step (s)
+     */
+    public double getStep() {
+        return step;
+    }
+
+    /** Screen a catalog for close approaches.
+     * <p>
+     * The objects indices in the returned conjunctions are their indices in the
+     * {@code objects} list, the primary object always having the lowest index.
+     * Only closest approaches strictly inside the screening interval are reported.
+     * </p>
+     * @param objects objects to screen (one provider per object, providers must not be shared)
+     * @param start screening start
+     * @param end screening end
+     * @return conjunctions with miss distance below threshold, sorted chronologically
+     */
+    public List<Conjunction> screen(final List<? extends PVCoordinatesProvider> objects,
+                                    final AbsoluteDate start, final AbsoluteDate end) {
+
+        final double duration = end.durationFrom(start);
+        if (duration <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, duration);
+        }
+        final int    nbSteps = FastMath.max(1, (int) FastMath.ceil(duration / step));
+        final Grid   grid    = new Grid(start, duration / nbSteps);
+
+        final List<Conjunction>        conjunctions = new ArrayList<>();
+        final Map<Long, Boolean>       filtersCache = new ConcurrentHashMap<>();
+        Map<Long, SortedSet<Integer>>  deferred     = new HashMap<>();
+        Orbit[]                        orbits       = null;
+        Slab                           previous     = null;
+        int                            k0           = 0;
+        boolean                        lastSlab     = false;
+        while (!lastSlab) {
+
+            // sample all objects
+            final int  k1   = FastMath.min(k0 + slabSize, nbSteps);
+            final Slab slab = sample(objects, grid, FastMath.max(0, k0 - 1), k1, previous);
+            lastSlab = k1 == nbSteps;
+            if (orbits == null) {
+                orbits = initialOrbits(slab, start);
+            }
+
+            // look for candidate pairs in the spatial grid
+            final int kEnd = lastSlab ? k1 : k1 - 1;
+            final Map<Long, SortedSet<Integer>> segments = deferred;
+            for (final Candidate candidate : detect(slab, grid, k0, kEnd, orbits, filtersCache)) {
+                final SortedSet<Integer> set = segments.computeIfAbsent(candidate.pair, p -> new TreeSet<>());
+                if (candidate.k > 0) {
+                    set.add(candidate.k - 1);
+                }
+                if (candidate.k < nbSteps) {
+                    set.add(candidate.k);
+                }
+            }
+
+            // segments ending after slab last sample are deferred to next slab
+            deferred = new HashMap<>();
+            if (!lastSlab) {
+                for (final Map.Entry<Long, SortedSet<Integer>> entry : segments.entrySet()) {
+                    if (entry.getValue().remove(k1 - 1)) {
+                        deferred.computeIfAbsent(entry.getKey(), p -> new TreeSet<>()).add(k1 - 1);
+                    }
+                }
+            }
+
+            // refine times of closest approach
+            conjunctions.addAll(refine(slab, grid, segments));
+
+            previous = slab;
+            k0       = kEnd + 1;
+
+        }
+
+        conjunctions.sort(Comparator.comparing(Conjunction::getDate).
+                          thenComparingInt(Conjunction::getPrimaryIndex).
+                          thenComparingInt(Conjunction::getSecondaryIndex));
+        return conjunctions;
+
+    }
+
+    /** Sample all objects on a slab of the time grid.
+     * @param objects objects to screen
+     * @param grid time grid
+     * @param first index of first sample in slab
+     * @param last index of last sample in slab
+     * @param previous previous slab (null for first slab)
+     * @return sampled slab
+     */
+    private Slab sample(final List<? extends PVCoordinatesProvider> objects, final Grid grid,
+                        final int first, final int last, final Slab previous) {
+
+        final Slab slab = new Slab(objects.size(), first, last);
+
+        // samples that have already been computed in previous slab
+        final int reused = previous == null ? 0 : previous.last - first + 1;
+
+        final int[] limits = tasks.split(objects.size());
+        final List<Callable<Double>> sampling = new ArrayList<>(limits.length - 1);
+        for (int c = 0; c < limits.length - 1; ++c) {
+            final int from = limits[c];
+            final int to   = limits[c + 1];
+            sampling.add(() -> {
+                double maxSpeed = 0;
+                for (int o = from; o < to; ++o) {
+                    final double[] samples = slab.samples[o];
+                    if (reused > 0) {
+                        System.arraycopy(previous.samples[o], SAMPLE_SIZE * (first - previous.first),
+                                         samples, 0, SAMPLE_SIZE * reused);
+                    }
+                    for (int k = first + reused; k <= last; ++k) {
+                        final TimeStampedPVCoordinates pv = objects.get(o).getPVCoordinates(grid.date(k), frame);
+                        final Vector3D p = pv.getPosition();
+                        final Vector3D v = pv.getVelocity();
+                        final int      i = SAMPLE_SIZE * (k - first);
+                        samples[i]     = p.getX();
+                        samples[i + 1] = p.getY();
+                        samples[i + 2] = p.getZ();
+                        samples[i + 3] = v.getX();
+                        samples[i + 4] = v.getY();
+                        samples[i + 5] = v.getZ();
+                    }
+                    for (int i = 0; i < samples.length; i += SAMPLE_SIZE) {
+                        maxSpeed = FastMath.max(maxSpeed,
+                                                FastMath.sqrt(samples[i + 3] * samples[i + 3] +
+                                                              samples[i + 4] * samples[i + 4] +
+                                                              samples[i + 5] * samples[i + 5]));
+                    }
+                }
+                return maxSpeed;
+            });
+        }
+
+        for (final double maxSpeed : tasks.run(sampling)) {
+            slab.maxSpeed = FastMath.max(slab.maxSpeed, maxSpeed);
+        }
+
+        return slab;
+
+    }
+
+    /** Build osculating orbits at screening start for filters.
+     * @param slab first slab
+     * @param start screening start
+     * @return osculating orbits at screening start (null if there are no filters)
+     */
+    private Orbit[] initialOrbits(final Slab slab, final AbsoluteDate start) {
+        if (filters.isEmpty()) {
+            return null;
+        }
+        final Orbit[] orbits = new Orbit[slab.samples.length];
+        for (int o = 0; o < orbits.length; ++o) {
+            final double[] s = slab.samples[o];
+            orbits[o] = new CartesianOrbit(new TimeStampedPVCoordinates(start,
+                                                                        new Vector3D(s[0], s[1], s[2]),
+                                                                        new Vector3D(s[3], s[4], s[5])),
+                                           frame, mu);
+        }
+        return orbits;
+    }
+
+    /** Detect candidate pairs in a slab.
+     * @param slab sampled slab
+     * @param grid time grid
+     * @param kStart index of first sample to check
+     * @param kEnd index of last sample to check
+     * @param orbits osculating orbits at screening start (null if there are no filters)
+     * @param filtersCache cache for filters results
+     * @return candidate pairs
+     */
+    private List<Candidate> detect(final Slab slab, final Grid grid, final int kStart, final int kEnd,
+                                   final Orbit[] orbits, final Map<Long, Boolean> filtersCache) {
+
+        // relative motion over one half step is at most twice the largest speed times half step
+        final double pad  = threshold + slab.maxSpeed * grid.h;
+        final double pad2 = pad * pad;
+
+        final int[] limits = tasks.split(kEnd - kStart + 1);
+        final List<Callable<List<Candidate>>> detection = new ArrayList<>(limits.length - 1);
+        for (int c = 0; c < limits.length - 1; ++c) {
+            final int from = kStart + limits[c];
+            final int to   = kStart + limits[c + 1];
+            detection.add(() -> {
+                final List<Candidate> candidates = new ArrayList<>();
+                for (int k = from; k < to; ++k) {
+                    final int offset = SAMPLE_SIZE * (k - slab.first);
+
+                    // fill spatial hash grid
+                    final int   n    = slab.samples.length;
+                    final int[] cx   = new int[n];
+                    final int[] cy   = new int[n];
+                    final int[] cz   = new int[n];
+                    final Map<Long, List<Integer>> cells = new HashMap<>();
+                    for (int i = 0; i < n; ++i) {
+                        final double[] s = slab.samples[i];
+                        cx[i] = (int) FastMath.floor(s[offset]     / pad);
+                        cy[i] = (int) FastMath.floor(s[offset + 1] / pad);
+                        cz[i] = (int) FastMath.floor(s[offset + 2] / pad);
+                        cells.computeIfAbsent(cellKey(cx[i], cy[i], cz[i]), key -> new ArrayList<>()).add(i);
+                    }
+
+                    // compare objects in neighboring cells
+                    for (int i = 0; i < n; ++i) {
+                        final double[] si = slab.samples[i];
+                        for (int dx = -1; dx <= 1; ++dx) {
+                            for (int dy = -1; dy <= 1; ++dy) {
+                                for (int dz = -1; dz <= 1; ++dz) {
+                                    final List<Integer> cell = cells.get(cellKey(cx[i] + dx, cy[i] + dy, cz[i] + dz));
+                                    if (cell == null) {
+                                        continue;
+                                    }
+                                    for (final int j : cell) {
+                                        if (j <= i) {
+                                            continue;
+                                        }
+                                        final double[] sj = slab.samples[j];
+                                        final double   x  = sj[offset]     - si[offset];
+                                        final double   y  = sj[offset + 1] - si[offset + 1];
+                                        final double   z  = sj[offset + 2] - si[offset + 2];
+                                        if (x * x + y * y + z * z <= pad2 &&
+                                            passFilters(i, j, orbits, filtersCache)) {
+                                            candidates.add(new Candidate(i, j, k));
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+
+                }
+                return candidates;
+            });
+        }
+
+        final List<Candidate> candidates = new ArrayList<>();
+        for (final List<Candidate> list : tasks.run(detection)) {
+            candidates.addAll(list);
+        }
+        return candidates;
+
+    }
+
+    /** Check if a pair passes all filters.
+     * @param i index of primary object
+     * @param j index of secondary object
+     * @param orbits osculating orbits at screening start (null if there are no filters)
+     * @param filtersCache cache for filters results
+     * @return true if the pair passes all filters
+     */
+    private boolean passFilters(final int i, final int j, final Orbit[] orbits,
+                                final Map<Long, Boolean> filtersCache) {
+        if (orbits == null) {
+            return true;
+        }
+        return filtersCache.computeIfAbsent(pairKey(i, j), key -> {
+            for (final ScreeningFilter filter : filters) {
+                if (!filter.mayApproach(orbits[i], orbits[j], threshold)) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /** Refine times of closest approach.
+     * @param slab sampled slab
+     * @param grid time grid
+     * @param segments grid segments to explore for each candidate pair
+     * @return conjunctions found
+     */
+    private List<Conjunction> refine(final Slab slab, final Grid grid,
+                                     final Map<Long, SortedSet<Integer>> segments) {
+
+        final List<Map.Entry<Long, SortedSet<Integer>>> entries = new ArrayList<>(segments.entrySet());
+        final int[] limits = tasks.split(entries.size());
+        final List<Callable<List<Conjunction>>> refinement = new ArrayList<>(limits.length - 1);
+        for (int c = 0; c < limits.length - 1; ++c) {
+            final int from = limits[c];
+            final int to   = limits[c + 1];
+            refinement.add(() -> {
+                final List<Conjunction> found = new ArrayList<>();
+                final BracketingNthOrderBrentSolver solver =
+                                new BracketingNthOrderBrentSolver(0, DEFAULT_TCA_ACCURACY, 0, 5);
+                for (int e = from; e < to; ++e) {
+                    final long pair = entries.get(e).getKey();
+                    final int  i    = (int) (pair >>> Integer.SIZE);
+                    final int  j    = (int) pair;
+                    for (final int s : entries.get(e).getValue()) {
+                        refineSegment(slab, grid, solver, i, j, s, found);
+                    }
+                }
+                return found;
+            });
+        }
+
+        final List<Conjunction> conjunctions = new ArrayList<>();
+        for (final List<Conjunction> list : tasks.run(refinement)) {
+            conjunctions.addAll(list);
+        }
+        return conjunctions;
+
+    }
+
+    /** Refine times of closest approach within one grid segment.
+     * @param slab sampled slab
+     * @param grid time grid
+     * @param solver solver for range rate roots
+     * @param i index of primary object
+     * @param j index of secondary object
+     * @param s index of the segment (i.e. of the sample at segment start)
+     * @param found list where to add conjunctions found
+     */
+    private void refineSegment(final Slab slab, final Grid grid, final BracketingNthOrderBrentSolver solver,
+                               final int i, final int j, final int s, final List<Conjunction> found) {
+
+        final double[] si     = slab.samples[i];
+        final double[] sj     = slab.samples[j];
+        final int      offset = SAMPLE_SIZE * (s - slab.first);
+        final double   h      = grid.h;
+
+        // range rate along Hermite interpolants
+        final double[] pi = new double[SAMPLE_SIZE];
+        final double[] pj = new double[SAMPLE_SIZE];
+        final UnivariateFunction rangeRate = tau -> {
+            hermite(si, offset, h, tau, pi);
+            hermite(sj, offset, h, tau, pj);
+            return (pj[0] - pi[0]) * (pj[3] - pi[3]) +
+                   (pj[1] - pi[1]) * (pj[4] - pi[4]) +
+                   (pj[2] - pi[2]) * (pj[5] - pi[5]);
+        };
+
+        // look for minima, i.e. range rate changing from negative to non-negative
+        double tauA = 0;
+        double gA   = rangeRate.value(tauA);
+        for (int m = 1; m <= SUB_INTERVALS; ++m) {
+            final double tauB = m * h / SUB_INTERVALS;
+            final double gB   = rangeRate.value(tauB);
+            if (gA < 0 && gB >= 0) {
+                final double tca = gB == 0 ?
+                                   tauB :
+                                   solver.solve(MAX_EVALUATIONS, rangeRate, tauA, tauB, AllowedSolution.ANY_SIDE);
+                hermite(si, offset, h, tca, pi);
+                hermite(sj, offset, h, tca, pj);
+                final double dx = pj[0] - pi[0];
+                final double dy = pj[1] - pi[1];
+                final double dz = pj[2] - pi[2];
+                if (dx * dx + dy * dy + dz * dz <= threshold * threshold) {
+                    final AbsoluteDate date = grid.date(s).shiftedBy(tca);
+                    found.add(new Conjunction(i, j, toPV(date, pi), toPV(date, pj), frame, mu));
+                }
+            }
+            tauA = tauB;
+            gA   = gB;
+        }
+
+    }
+
+    /** Evaluate cubic Hermite interpolation of position-velocity samples.
+     * @param samples samples array
+     * @param offset offset of segment start in samples array
+     * @param h segment duration
+     * @param tau time offset from segment start
+     * @param pv placeholder for interpolated position-velocity
+     */
+    private static void hermite(final double[] samples, final int offset, final double h,
+                                final double tau, final double[] pv) {
+        final double u   = tau / h;
+        final double u2  = u * u;
+        final double u3  = u2 * u;
+        final double h00 = 2 * u3 - 3 * u2 + 1;
+        final double h10 = (u3 - 2 * u2 + u) * h;
+        final double h01 = 3 * u2 - 2 * u3;
+        final double h11 = (u3 - u2) * h;
+        final double d00 = 6 * (u2 - u) / h;
+        final double d10 = 3 * u2 - 4 * u + 1;
+        final double d01 = -d00;
+        final double d11 = 3 * u2 - 2 * u;
+        for (int c = 0; c < 3; ++c) {
+            final double p0 = samples[offset + c];
+            final double v0 = samples[offset + c + 3];
+            final double p1 = samples[offset + SAMPLE_SIZE + c];
+            final double v1 = samples[offset + SAMPLE_SIZE + c + 3];
+            pv[c]     = h00 * p0 + h10 * v0 + h01 * p1 + h11 * v1;
+            pv[c + 3] = d00 * p0 + d10 * v0 + d01 * p1 + d11 * v1;
+        }
+    }
+
+    /** Convert an array to position-velocity.
+     * @param date date
+     * @param pv position-velocity array
+     * @return time-stamped position-velocity
+     */
+    private static TimeStampedPVCoordinates toPV(final AbsoluteDate date, final double[] pv) {
+        return new TimeStampedPVCoordinates(date,
+                                            new Vector3D(pv[0], pv[1], pv[2]),
+                                            new Vector3D(pv[3], pv[4], pv[5]));
+    }
+
+    /** Build a key for a spatial grid cell.
+     * <p>
+     * Cells indices are wrapped, so distinct far away cells may share the same key.
+     * This only adds a few distance checks and does not change the result.
+     * </p>
+     * @param ix index along X
+     * @param iy index along Y
+     * @param iz index along Z
+     * @return cell key
+     */
+    private static long cellKey(final int ix, final int iy, final int iz) {
+        return ((ix & CELL_MASK) << (2 * CELL_BITS)) | ((iy & CELL_MASK) << CELL_BITS) | (iz & CELL_MASK);
+    }
+
+    /** Build a key for a pair of objects.
+     * @param i index of primary object
+     * @param j index of secondary object
+     * @return pair key
+     */
+    private static long pairKey(final int i, final int j) {
+        return ((long) i << Integer.SIZE) | (j & 0xFFFFFFFFL);
+    }
+
+    /** Regular time grid. */
+    private static class Grid {
+
+        /** Grid start. */
+        private final AbsoluteDate start;
+
+        /** Grid step (s). */
+        private final double h;
+
+        /** Simple constructor.
+         * @param start grid start
+         * @param h grid step (s)
+         */
+        Grid(final AbsoluteDate start, final double h) {
+            this.start = start;
+            this.h     = h;
+        }
+
+        /** Get the date of a grid sample.
+         * @param k index of the sample
+         * @return date of the sample
+         */
+        AbsoluteDate date(final int k) {
+            return start.shiftedBy(k * h);
+        }
+
+    }
+
+    /** Samples of all objects over a few grid steps. */
+    private static class Slab {
+
+        /** Index of first sample. */
+        private final int first;
+
+        /** Index of last sample. */
+        private final int last;
+
+        /** Position-velocity samples, per object. */
+        private final double[][] samples;
+
+        /** Largest speed of all objects in the slab (m/s). */
+        private double maxSpeed;
+
+        /** Simple constructor.
+         * @param nbObjects number of objects
+         * @param first index of first sample
+         * @param last index of last sample
+         */
+        Slab(final int nbObjects, final int first, final int last) {
+            this.first   = first;
+            this.last    = last;
+            this.samples = new double[nbObjects][SAMPLE_SIZE * (last - first + 1)];
+        }
+
+    }
+
+    /** Candidate pair at one grid sample. */
+    private static class Candidate {
+
+        /** Pair key. */
+        private final long pair;
+
+        /** Index of the sample. */
+        private final int k;
+
+        /** Simple constructor.
+         * @param i index of primary object
+         * @param j index of secondary object
+         * @param k index of the sample
+         */
+        Candidate(final int i, final int j, final int k) {
+            this.pair = pairKey(i, j);
+            this.k    = k;
+        }
+
+    }
+
+}
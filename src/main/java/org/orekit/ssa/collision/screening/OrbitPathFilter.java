@@ -0,0 +1,189 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.screening;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.orekit.orbits.Orbit;
+import org.orekit.utils.PVCoordinates;
+
+/** Orbit path screening filter.
+ * <p>
+ * This filter discards pairs of non-coplanar orbits whose paths never come closer
+ * than the screening threshold. The distance between a point on the first orbit and
+ * the second orbit plane is r₁ |sin u₁| sin I, where u₁ is the angle between the point
+ * and the line of nodes and I is the relative inclination. A close approach can therefore
+ * only occur near the line of nodes, within an angular window that depends on the
+ * threshold. The filter computes the range of radii covered by each orbit within
+ * these windows around the two mutual nodes and discards the pair if the ranges are
+ * separated by more than the threshold at both nodes.
+ * </p>
+ * <p>
+ * The filter uses osculating orbits at screening start and ignores the motion of the
+ * orbital planes and apsides due to perturbations. It is therefore intended for short
+ * screening durations, or must be used with a margin that covers the drift of the
+ * orbits during the screening. Nearly coplanar pairs, for which the windows become
+ * too wide, and non-elliptic orbits are never discarded.
+ * </p>
+ * @see ApogeePerigeeFilter
+ * @since 14.0
+ */
+public class OrbitPathFilter implements ScreeningFilter {
+
+    /** Margin added to screening threshold (m). */
+    private final double margin;
+
+    /** Simple constructor.
+     * @param margin margin added to screening threshold (m)
+     */
+    public OrbitPathFilter(final double margin) {
+        this.margin = margin;
+    }
+
+    /** Get the margin added to screening threshold.
+     * @return margin added to screening threshold (m)
+     */
+    public double getMargin() {
+        return margin;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean mayApproach(final Orbit primary, final Orbit secondary, final double threshold) {
+
+        if (!(primary.isElliptical() && secondary.isElliptical())) {
+            // we don't attempt to filter hyperbolic trajectories
+            return true;
+        }
+
+        final double distance = threshold + margin;
+
+        final PVCoordinates pv1 = primary.getPVCoordinates();
+        final PVCoordinates pv2 = secondary.getPVCoordinates();
+        final Vector3D      h1  = pv1.getMomentum().normalize();
+        final Vector3D      h2  = pv2.getMomentum().normalize();
+
+        // line of nodes
+        final Vector3D node = Vector3D.crossProduct(h1, h2);
+        final double   sinI = node.getNorm();
+        final double   p1   = primary.getA()   * (1 - primary.getE()   * primary.getE());
+        final double   p2   = secondary.getA() * (1 - secondary.getE() * secondary.getE());
+        final double   sin1 = distance / (primary.getA()   * (1 - primary.getE())   * sinI);
+        final double   sin2 = distance / (secondary.getA() * (1 - secondary.getE()) * sinI);
+        if (sin1 >= 1 || sin2 >= 1) {
+            // nearly coplanar orbits, the whole orbits may be close to each other
+            return true;
+        }
+
+        // half-width of the angular windows around the line of nodes
+        final double delta1 = FastMath.asin(sin1);
+        final double delta2 = FastMath.asin(sin2);
+        if (delta1 + delta2 > MathUtils.SEMI_PI) {
+            // windows are too wide to separate ascending and descending nodes
+            return true;
+        }
+
+        // true anomalies of the ascending mutual node
+        final Vector3D unitNode = node.normalize();
+        final double   nu1      = nodeTrueAnomaly(pv1, h1, primary.getMu(), unitNode);
+        final double   nu2      = nodeTrueAnomaly(pv2, h2, secondary.getMu(), unitNode);
+
+        // check both mutual nodes
+        return overlap(p1, primary.getE(), nu1, delta1, p2, secondary.getE(), nu2, delta2, distance) ||
+               overlap(p1, primary.getE(), nu1 + FastMath.PI, delta1,
+                       p2, secondary.getE(), nu2 + FastMath.PI, delta2, distance);
+
+    }
+
+    /** Compute the true anomaly of a direction in the orbital plane.
+     * @param pv position-velocity of the object
+     * @param h unit normal to the orbital plane
+     * @param mu central attraction coefficient (m³/s²)
+     * @param direction direction (must be in orbital plane)
+     * @return true anomaly of the direction
+     */
+    private static double nodeTrueAnomaly(final PVCoordinates pv, final Vector3D h,
+                                          final double mu, final Vector3D direction) {
+
+        // eccentricity vector
+        final Vector3D r = pv.getPosition();
+        final Vector3D v = pv.getVelocity();
+        final Vector3D e = new Vector3D(1.0 / mu, Vector3D.crossProduct(v, pv.getMomentum()),
+                                        -1.0 / r.getNorm(), r);
+
+        // in-plane reference axes, using the direction itself for circular orbits
+        final Vector3D i = e.getNorm() < 1.0e-12 ? direction : e.normalize();
+        final Vector3D j = Vector3D.crossProduct(h, i);
+
+        return FastMath.atan2(Vector3D.dotProduct(direction, j), Vector3D.dotProduct(direction, i));
+
+    }
+
+    /** Check if radii ranges of two orbits within angular windows overlap.
+     * @param p1 semi-latus rectum of first orbit (m)
+     * @param e1 eccentricity of first orbit
+     * @param nu1 true anomaly of window center on first orbit
+     * @param delta1 half-width of window on first orbit
+     * @param p2 semi-latus rectum of second orbit (m)
+     * @param e2 eccentricity of second orbit
+     * @param nu2 true anomaly of window center on second orbit
+     * @param delta2 half-width of window on second orbit
+     * @param distance screening distance (m)
+     * @return true if radii ranges are closer than screening distance
+     */
+    private static boolean overlap(final double p1, final double e1, final double nu1, final double delta1,
+                                   final double p2, final double e2, final double nu2, final double delta2,
+                                   final double distance) {
+        final double[] range1 = radiusRange(p1, e1, nu1, delta1);
+        final double[] range2 = radiusRange(p2, e2, nu2, delta2);
+        return range2[0] - range1[1] <= distance && range1[0] - range2[1] <= distance;
+    }
+
+    /** Compute the range of radii covered by an orbit arc.
+     * @param p semi-latus rectum (m)
+     * @param e eccentricity
+     * @param nu true anomaly of arc center
+     * @param delta half-width of arc
+     * @return minimum and maximum radii on the arc
+     */
+    private static double[] radiusRange(final double p, final double e, final double nu, final double delta) {
+
+        // normalize arc start in [0, 2π)
+        final double start = MathUtils.normalizeAngle(nu - delta, FastMath.PI);
+        final double end   = start + 2 * delta;
+
+        final double rStart = p / (1 + e * FastMath.cos(start));
+        final double rEnd   = p / (1 + e * FastMath.cos(end));
+        double rMin = FastMath.min(rStart, rEnd);
+        double rMax = FastMath.max(rStart, rEnd);
+
+        // radius is minimum at perigee and maximum at apogee
+        if (end >= MathUtils.TWO_PI) {
+            rMin = p / (1 + e);
+        }
+        if (start <= FastMath.PI && end >= FastMath.PI) {
+            rMax = p / (1 - e);
+        }
+
+        return new double[] {
+            rMin, rMax
+        };
+
+    }
+
+}
@@ -0,0 +1,42 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.screening;
+
+import org.orekit.orbits.Orbit;
+
+/** Interface for cheap pre-filters used in conjunction screening.
+ * <p>
+ * Filters are applied to the osculating orbits of both objects at screening
+ * start. They must be conservative: they should only reject pairs for which
+ * it is certain that the distance between objects remains larger than the
+ * screening threshold, otherwise conjunctions would be missed.
+ * </p>
+ * @see ConjunctionScreener
+ * @since 14.0
+ */
+public interface ScreeningFilter {
+
+    /** Check if two objects may come closer than a threshold.
+     * @param primary osculating orbit of the primary object at screening start
+     * @param secondary osculating orbit of the secondary object at screening start
+     * @param threshold screening threshold distance (m)
+     * @return true if objects may come closer than the threshold, false if the
+     * pair can be safely discarded
+     */
+    boolean mayApproach(Orbit primary, Orbit secondary, double threshold);
+
+}
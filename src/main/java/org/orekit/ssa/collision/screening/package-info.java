@@ -0,0 +1,34 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Catalog-wide conjunction screening.
+ * <p>
+ * This package provides a screening engine that finds close approaches between
+ * all pairs of objects of a catalog without performing an all-versus-all
+ * propagation. Pairs are first discarded using cheap geometrical filters on
+ * osculating orbits, then a time-stepped spatial grid is used to find candidate
+ * pairs, and the time of closest approach of each surviving pair is finally
+ * refined. The resulting {@link org.orekit.ssa.collision.screening.Conjunction
+ * conjunctions} can be converted to {@link
+ * org.orekit.ssa.collision.shorttermencounter.probability.twod.ShortTermEncounter2DDefinition
+ * short-term encounter definitions} for probability of collision computation.
+ * </p>
+ *
+ * @since 14.0
+ */
+package org.orekit.ssa.collision.screening;
@@ -389,12 +389,49 @@ public class ShortTermEncounter2DDefinition {
 
         // Express other in the rotated collision plane
         final RealMatrix otherPositionRotatedInCollisionPlane =
-                computeEncounterPlaneRotationMatrix(zeroThreshold).multiply(otherPositionInCollisionPlaneMatrix);
+                computeEncounterPlaneRotationMatrix(computeProjectedCombinedPositionalCovarianceMatrix(), zeroThreshold).
+                        multiply(otherPositionInCollisionPlaneMatrix);
 
         return new Vector2D(otherPositionRotatedInCollisionPlane.getColumn(0));
 
     }
 
+    /**
+     * Compute all the parameters needed by the 2D probability of collision methods in one pass.
+     * <p>
+     * This gives the same results as calling {@link #computeOtherPositionInRotatedCollisionPlane(double)} and
+     * {@link #computeProjectedAndDiagonalizedCombinedPositionalCovarianceMatrix()} but the combined covariance is
+     * computed and projected onto the collision plane only once.
+     *
+     * @param zeroThreshold threshold below which values are considered equal to zero
+     *
+     * @return parameters of the encounter in the rotated collision plane
+     * @since 14.0
+     */
+    public ShortTermEncounter2DParameters computeRotatedEncounterParameters(final double zeroThreshold) {
+
+        // Combined covariance projected onto the collision plane, shared by all subsequent computations
+        final RealMatrix projectedCovariance = computeProjectedCombinedPositionalCovarianceMatrix();
+
+        // Express other in the rotated collision plane
+        final RealMatrix otherPositionInCollisionPlaneMatrix =
+                new Array2DRowRealMatrix(computeOtherPositionInCollisionPlane().toArray());
+        final RealMatrix otherPositionRotatedInCollisionPlane =
+                computeEncounterPlaneRotationMatrix(projectedCovariance, zeroThreshold).
+                        multiply(otherPositionInCollisionPlaneMatrix);
+
+        // Diagonalize the projected covariance
+        final RealMatrix diagonalized =
+                new EigenDecompositionSymmetric(projectedCovariance, DEFAULT_SYMMETRY_EPSILON, false).getD();
+
+        return new ShortTermEncounter2DParameters(otherPositionRotatedInCollisionPlane.getEntry(0, 0),
+                                                  otherPositionRotatedInCollisionPlane.getEntry(1, 0),
+                                                  FastMath.sqrt(diagonalized.getEntry(0, 0)),
+                                                  FastMath.sqrt(diagonalized.getEntry(1, 1)),
+                                                  combinedRadius);
+
+    }
+
     /**
      * Compute the Encounter duration (s) evaluated using Coppola's formula described in : "COPPOLA, Vincent, et al.
      * Evaluating the short encounter assumption of the probability of collision formula. 2012."
@@ -584,18 +621,14 @@ public class ShortTermEncounter2DDefinition {
      * Compute the rotation matrix that diagonalize the combined positional covariance matrix projected onto the collision
      * plane.
      *
+     * @param combinedPositionalCovarianceMatrixProjectedOntoBPlane combined positional covariance matrix projected
+     * onto the collision plane
      * @param zeroThreshold threshold below which values are considered equal to zero
      *
      * @return rotation matrix that diagonalize the combined covariance matrix projected onto the collision plane
      */
-    private RealMatrix computeEncounterPlaneRotationMatrix(final double zeroThreshold) {
-
-        final RealMatrix combinedCovarianceMatrixInEncounterFrame =
-                computeCombinedCovarianceInEncounterFrame().getMatrix();
-
-        final RealMatrix combinedPositionalCovarianceMatrixProjectedOntoBPlane =
-                encounterFrame.projectOntoCollisionPlane(
-                        combinedCovarianceMatrixInEncounterFrame.getSubMatrix(0, 2, 0, 2));
+    private RealMatrix computeEncounterPlaneRotationMatrix(final RealMatrix combinedPositionalCovarianceMatrixProjectedOntoBPlane,
+                                                           final double zeroThreshold) {
 
         final double sigmaXSquared = combinedPositionalCovarianceMatrixProjectedOntoBPlane.getEntry(0, 0);
         final double sigmaYSquared = combinedPositionalCovarianceMatrixProjectedOntoBPlane.getEntry(1, 1);
@@ -0,0 +1,258 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.shorttermencounter.probability.twod;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.ssa.metrics.ProbabilityOfCollision;
+import org.orekit.utils.ParallelTasks;
+
+/**
+ * Bulk evaluation of the probability of collision for many short-term encounters.
+ * <p>
+ * This class is intended for operational flows where thousands of conjunctions (for example from daily
+ * {@link org.orekit.files.ccsds.ndm.cdm.Cdm CDM} deliveries) must be assessed at once. Encounters are split into
+ * chunks evaluated in parallel. For each encounter, the combined covariance is projected onto the collision plane
+ * only once (see {@link ShortTermEncounter2DDefinition#computeRotatedEncounterParameters(double)}) and the
+ * probability of collision is then computed on primitive doubles, without any {@link org.hipparchus.Field} overhead.
+ * </p>
+ * <p>
+ * As some methods hold a stateful integrator, a new method instance is retrieved from the supplier for each chunk,
+ * hence methods instances are never shared between threads.
+ * </p>
+ * <p>
+ * Results can be retrieved either as a whole list or streamed out to a {@link ShortTermEncounter2DPOCHandler handler}.
+ * In the latter case, encounters are read from the input by blocks, so the memory footprint only depends on the
+ * block size and not on the total number of encounters.
+ * </p>
+ *
+ * @since 14.0
+ */
+public class ShortTermEncounter2DPOCBatch {
+
+    /** Default number of encounters processed together when streaming results. */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    /** Supplier for the probability of collision method. */
+    private final Supplier<? extends ShortTermEncounter2DPOCMethod> methodSupplier;
+
+    /** Threshold below which values are considered equal to zero. */
+    private final double zeroThreshold;
+
+    /** Number of encounters processed together when streaming results. */
+    private final int blockSize;
+
+    /** Runner for parallel tasks. */
+    private final ParallelTasks tasks;
+
+    /**
+     * Constructor with default zero threshold and block size.
+     *
+     * @param type type of the probability of collision method to use
+     * @param threads number of threads to use
+     */
+    public ShortTermEncounter2DPOCBatch(final ShortTermEncounter2DPOCMethodType type, final int threads) {
+        this(type::getMethod, threads);
+    }
+
+    /**
+     * Constructor with default zero threshold and block size.
+     *
+     * @param methodSupplier supplier for the probability of collision method to use, called once per chunk
+     * @param threads number of threads to use
+     */
+    public ShortTermEncounter2DPOCBatch(final Supplier<? extends ShortTermEncounter2DPOCMethod> methodSupplier,
+                                        final int threads) {
+        this(methodSupplier, ShortTermEncounter2DPOCMethod.DEFAULT_ZERO_THRESHOLD, DEFAULT_BLOCK_SIZE, threads);
+    }
+
+    /**
+     * Customizable constructor.
+     *
+     * @param methodSupplier supplier for the probability of collision method to use, called once per chunk
+     * @param zeroThreshold threshold below which values are considered equal to zero
+     * @param blockSize number of encounters processed together when streaming results
+     * @param threads number of threads to use
+     */
+    public ShortTermEncounter2DPOCBatch(final Supplier<? extends ShortTermEncounter2DPOCMethod> methodSupplier,
+                                        final double zeroThreshold, final int blockSize, final int threads) {
+        if (blockSize <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, blockSize);
+        }
+        this.methodSupplier = methodSupplier;
+        this.zeroThreshold  = zeroThreshold;
+        this.blockSize      = blockSize;
+        this.tasks          = new ParallelTasks(threads);
+    }
+
+    /**
+     * Get the number of threads.
+     *
+     * @return number of threads
+     */
+    public int getThreads() {
+        return tasks.getThreads();
+    }
+
+    /**
+     * Get the number of encounters processed together when streaming results.
+     *
+     * @return number of encounters processed together when streaming results
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Compute the probabilities of collision of all encounters.
+     *
+     * @param encounters encounters definitions
+     *
+     * @return probabilities of collision, in the same order as the encounters
+     */
+    public List<ProbabilityOfCollision> compute(final List<? extends ShortTermEncounter2DDefinition> encounters) {
+
+        final int[] limits = tasks.split(encounters.size());
+        final List<Callable<List<ProbabilityOfCollision>>> chunks = new ArrayList<>(limits.length - 1);
+        for (int k = 0; k < limits.length - 1; ++k) {
+            final List<? extends ShortTermEncounter2DDefinition> chunk = encounters.subList(limits[k], limits[k + 1]);
+            chunks.add(() -> computeChunk(chunk));
+        }
+
+        final List<ProbabilityOfCollision> probabilities = new ArrayList<>(encounters.size());
+        for (final List<ProbabilityOfCollision> chunkProbabilities : tasks.run(chunks)) {
+            probabilities.addAll(chunkProbabilities);
+        }
+        return probabilities;
+
+    }
+
+    /**
+     * Compute the probabilities of collision of a sequence of encounters, streaming results out.
+     * <p>
+     * Encounters are read by blocks of {@link #getBlockSize()} elements, each block being evaluated in parallel
+     * before its results are sent to the handler, in input order.
+     * </p>
+     *
+     * @param encounters encounters definitions (may be lazily generated, for example when parsing files)
+     * @param handler handler for the computed probabilities of collision
+     */
+    public void compute(final Iterable<? extends ShortTermEncounter2DDefinition> encounters,
+                        final ShortTermEncounter2DPOCHandler handler) {
+
+        final Iterator<? extends ShortTermEncounter2DDefinition> iterator = encounters.iterator();
+        final List<ShortTermEncounter2DDefinition> block = new ArrayList<>(blockSize);
+        long index = 0;
+        while (iterator.hasNext()) {
+
+            // read next block
+            block.clear();
+            while (iterator.hasNext() && block.size() < blockSize) {
+                block.add(iterator.next());
+            }
+
+            // evaluate it in parallel and stream results out
+            final List<ProbabilityOfCollision> probabilities = compute(block);
+            for (int i = 0; i < block.size(); ++i) {
+                handler.handle(index++, block.get(i), probabilities.get(i));
+            }
+
+        }
+
+    }
+
+    /**
+     * Compute the values of the probabilities of collision from parameters already expressed in the rotated
+     * collision plane.
+     * <p>
+     * This is the allocation-light path for large batches: only the output array is allocated.
+     * </p>
+     *
+     * @param xm other collision object projected positions onto the rotated collision plane x-axis (m)
+     * @param ym other collision object projected positions onto the rotated collision plane y-axis (m)
+     * @param sigmaX square roots of the smallest eigen values of the diagonalized combined covariance matrices (m)
+     * @param sigmaY square roots of the biggest eigen values of the diagonalized combined covariance matrices (m)
+     * @param radius sums of primary and secondary collision object equivalent sphere radii (m)
+     *
+     * @return values of the probabilities of collision
+     */
+    public double[] computeValues(final double[] xm, final double[] ym,
+                                  final double[] sigmaX, final double[] sigmaY,
+                                  final double[] radius) {
+
+        final int n = xm.length;
+        checkLength(ym, n);
+        checkLength(sigmaX, n);
+        checkLength(sigmaY, n);
+        checkLength(radius, n);
+
+        final double[] values = new double[n];
+        final int[] limits = tasks.split(n);
+        final List<Callable<Void>> chunks = new ArrayList<>(limits.length - 1);
+        for (int k = 0; k < limits.length - 1; ++k) {
+            final int start = limits[k];
+            final int end   = limits[k + 1];
+            chunks.add(() -> {
+                final ShortTermEncounter2DPOCMethod method = methodSupplier.get();
+                for (int i = start; i < end; ++i) {
+                    values[i] = method.compute(xm[i], ym[i], sigmaX[i], sigmaY[i], radius[i]).getValue();
+                }
+                return null;
+            });
+        }
+        tasks.run(chunks);
+
+        return values;
+
+    }
+
+    /**
+     * Compute the probabilities of collision of one chunk of encounters.
+     *
+     * @param chunk encounters definitions
+     *
+     * @return probabilities of collision
+     */
+    private List<ProbabilityOfCollision> computeChunk(final List<? extends ShortTermEncounter2DDefinition> chunk) {
+        final ShortTermEncounter2DPOCMethod method = methodSupplier.get();
+        final List<ProbabilityOfCollision> probabilities = new ArrayList<>(chunk.size());
+        for (final ShortTermEncounter2DDefinition encounter : chunk) {
+            probabilities.add(method.compute(encounter.computeRotatedEncounterParameters(zeroThreshold)));
+        }
+        return probabilities;
+    }
+
+    /**
+     * Check array length.
+     *
+     * @param array array to check
+     * @param expected expected length
+     */
+    private static void checkLength(final double[] array, final int expected) {
+        if (array.length != expected) {
+            throw new OrekitException(LocalizedCoreFormats.DIMENSIONS_MISMATCH, array.length, expected);
+        }
+    }
+
+}
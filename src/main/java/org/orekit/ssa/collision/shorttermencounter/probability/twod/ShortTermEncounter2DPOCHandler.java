@@ -0,0 +1,42 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.shorttermencounter.probability.twod;
+
+import org.orekit.ssa.metrics.ProbabilityOfCollision;
+
+/**
+ * Handler for probabilities of collision streamed out of a {@link ShortTermEncounter2DPOCBatch}.
+ * <p>
+ * Calls are serialized and performed in the calling thread, in the same order as the input encounters, so
+ * implementations do not need to be thread-safe.
+ * </p>
+ *
+ * @see ShortTermEncounter2DPOCBatch#compute(Iterable, ShortTermEncounter2DPOCHandler)
+ * @since 14.0
+ */
+public interface ShortTermEncounter2DPOCHandler {
+
+    /**
+     * Handle the probability of collision computed for one encounter.
+     *
+     * @param index index of the encounter in the input sequence
+     * @param encounter encounter definition
+     * @param probability probability of collision of the encounter
+     */
+    void handle(long index, ShortTermEncounter2DDefinition encounter, ProbabilityOfCollision probability);
+
+}
@@ -315,6 +315,21 @@ public interface ShortTermEncounter2DPOCMethod {
      */
     ProbabilityOfCollision compute(double xm, double ym, double sigmaX, double sigmaY, double radius);
 
+    /**
+     * Compute the probability of collision using parameters already expressed in the rotated collision plane.
+     *
+     * @param parameters encounter parameters in the rotated collision plane
+     *
+     * @return probability of collision
+     * @see ShortTermEncounter2DDefinition#computeRotatedEncounterParameters(double)
+     * @since 14.0
+     */
+    default ProbabilityOfCollision compute(final ShortTermEncounter2DParameters parameters) {
+        return compute(parameters.getXm(), parameters.getYm(),
+                       parameters.getSigmaX(), parameters.getSigmaY(),
+                       parameters.getRadius());
+    }
+
     /**
      * Compute the probability of collision using arguments specific to the rotated encounter frame.
      * <p>
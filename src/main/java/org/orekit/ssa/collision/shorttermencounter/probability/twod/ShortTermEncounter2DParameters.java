@@ -0,0 +1,111 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.shorttermencounter.probability.twod;
+
+/**
+ * Container for the primitive parameters of a short-term encounter expressed in the rotated collision plane.
+ * <p>
+ * These are the inputs shared by all the 2D probability of collision methods (often noted xm, ym, &#963;<sub>x</sub>,
+ * &#963;<sub>y</sub> and R in probability of collision related papers). Computing them once per encounter avoids
+ * rebuilding the encounter frame and the combined covariance projection for each method call.
+ * </p>
+ *
+ * @see ShortTermEncounter2DDefinition#computeRotatedEncounterParameters(double)
+ * @since 14.0
+ */
+public class ShortTermEncounter2DParameters {
+
+    /** Other collision object projected position onto the rotated collision plane x-axis (m). */
+    private final double xm;
+
+    /** Other collision object projected position onto the rotated collision plane y-axis (m). */
+    private final double ym;
+
+    /** Square root of the smallest eigen value of the diagonalized combined covariance matrix (m). */
+    private final double sigmaX;
+
+    /** Square root of the biggest eigen value of the diagonalized combined covariance matrix (m). */
+    private final double sigmaY;
+
+    /** Sum of primary and secondary collision object equivalent sphere radii (m). */
+    private final double radius;
+
+    /**
+     * Simple constructor.
+     *
+     * @param xm other collision object projected position onto the rotated collision plane x-axis (m)
+     * @param ym other collision object projected position onto the rotated collision plane y-axis (m)
+     * @param sigmaX square root of the smallest eigen value of the diagonalized combined covariance matrix (m)
+     * @param sigmaY square root of the biggest eigen value of the diagonalized combined covariance matrix (m)
+     * @param radius sum of primary and secondary collision object equivalent sphere radii (m)
+     */
+    public ShortTermEncounter2DParameters(final double xm, final double ym,
+                                          final double sigmaX, final double sigmaY,
+                                          final double radius) {
+        this.xm     = xm;
+        this.ym     = ym;
+        this.sigmaX = sigmaX;
+        this.sigmaY = sigmaY;
+        this.radius = radius;
+    }
+
+    /**
+     * Get the other collision object projected position onto the rotated collision plane x-axis.
+     *
+     * @return other collision object projected position onto the rotated collision plane x-axis (m)
+     */
+    public double getXm() {
+        return xm;
+    }
+
+    /**
+     * Get the other collision object projected position onto the rotated collision plane y-axis.
+     *
+     * @return other collision object projected position onto the rotated collision plane y-axis (m)
+     */
+    public double getYm() {
+        return ym;
+    }
+
+    /**
+     * Get the square root of the smallest eigen value of the diagonalized combined covariance matrix.
+     *
+     * @return square root of the smallest eigen value of the diagonalized combined covariance matrix (m)
+     */
+    public double getSigmaX() {
+        return sigmaX;
+    }
+
+    /**
+     * Get the square root of the biggest eigen value of the diagonalized combined covariance matrix.
+     *
+     * @return square root of the biggest eigen value of the diagonalized combined covariance matrix (m)
+     */
+    public double getSigmaY() {
+        return sigmaY;
+    }
+
+    /**
+     * Get the sum of primary and secondary collision object equivalent sphere radii.
+     *
+     * @return sum of primary and secondary collision object equivalent sphere radii (m)
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+}
@@ -483,7 +483,7 @@ public class AbsoluteDate
      * @see #durationFrom(AbsoluteDate)
      */
     public AbsoluteDate(final AbsoluteDate since, final double elapsedDuration) {
-        this(since, new TimeOffset(elapsedDuration));
+        super(since, elapsedDuration);
     }
 
     /** Build an instance from an elapsed duration since another instant.
@@ -949,7 +949,7 @@ public class AbsoluteDate
      * @see #AbsoluteDate(AbsoluteDate, double)
      */
     public double durationFrom(final AbsoluteDate instant) {
-        return accurateDurationFrom(instant).toDouble();
+        return difference(getSeconds(), getAttoSeconds(), instant.getSeconds(), instant.getAttoSeconds());
     }
 
     /** Compute the physically elapsed duration between two instants.
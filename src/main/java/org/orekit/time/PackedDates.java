@@ -0,0 +1,187 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.util.List;
+
+/** Chronologically sorted dates packed into a primitive array.
+ * <p>
+ * Each date is stored as its {@link TimeOffset#getSeconds() seconds} and
+ * {@link TimeOffset#getAttoSeconds() attoseconds} components, so dates remain
+ * exact while comparisons, searches and duration computations are performed
+ * on primitive values without allocating any object. Dates are rebuilt as
+ * {@link AbsoluteDate} instances only on demand, at API boundaries.
+ * </p>
+ * <p>
+ * Instances of this class are guaranteed to be immutable.
+ * </p>
+ * @see TimeOffset#compare(long, long, long, long)
+ * @see TimeOffset#difference(long, long, long, long)
+ * @since 14.0
+ */
+public class PackedDates {
+
+    /** Attoseconds in one second. */
+    private static final long ATTOS_IN_SECOND = 1000000000000000000L;
+
+    /** Interleaved seconds and attoseconds components. */
+    private final long[] components;
+
+    /** Build a packed array from time-stamped elements.
+     * @param elements time-stamped elements, which must be in chronological order
+     */
+    public PackedDates(final List<? extends TimeStamped> elements) {
+        this(new long[2 * elements.size()]);
+        for (int i = 0; i < elements.size(); ++i) {
+            final AbsoluteDate date = elements.get(i).getDate();
+            components[2 * i]     = date.getSeconds();
+            components[2 * i + 1] = date.getAttoSeconds();
+        }
+    }
+
+    /** Build a packed array from its components.
+     * @param components interleaved seconds and attoseconds components
+     */
+    private PackedDates(final long[] components) {
+        this.components = components;
+    }
+
+    /** Build a regular grid of dates.
+     * <p>
+     * The dates are computed with exact integer arithmetic, so the i<sup>th</sup>
+     * date is exactly {@code start} shifted by i times {@code step}, without any
+     * accumulation of rounding errors.
+     * </p>
+     * @param start first date of the grid
+     * @param step step between consecutive dates (must be positive or zero)
+     * @param size number of dates in the grid
+     * @return grid of dates
+     */
+    public static PackedDates grid(final AbsoluteDate start, final TimeOffset step, final int size) {
+        final long[] components = new long[2 * size];
+        if (start.isFinite() && step.isFinite()) {
+            long s = start.getSeconds();
+            long a = start.getAttoSeconds();
+            for (int i = 0; i < size; ++i) {
+                components[2 * i]     = s;
+                components[2 * i + 1] = a;
+                s += step.getSeconds();
+                a += step.getAttoSeconds();
+                if (a >= ATTOS_IN_SECOND) {
+                    s += 1L;
+                    a -= ATTOS_IN_SECOND;
+                }
+            }
+        } else {
+            // special values, use regular arithmetic
+            for (int i = 0; i < size; ++i) {
+                final AbsoluteDate date = start.shiftedBy(step.multiply(i));
+                components[2 * i]     = date.getSeconds();
+                components[2 * i + 1] = date.getAttoSeconds();
+            }
+        }
+        return new PackedDates(components);
+    }
+
+    /** Get the number of dates.
+     * @return number of dates
+     */
+    public int size() {
+        return components.length / 2;
+    }
+
+    /** Get the seconds part of a date.
+     * @param index index of the date
+     * @return seconds part of the date
+     * @see TimeOffset#getSeconds()
+     */
+    public long getSeconds(final int index) {
+        return components[2 * index];
+    }
+
+    /** Get the attoseconds part of a date.
+     * @param index index of the date
+     * @return attoseconds part of the date
+     * @see TimeOffset#getAttoSeconds()
+     */
+    public long getAttoSeconds(final int index) {
+        return components[2 * index + 1];
+    }
+
+    /** Get a date.
+     * @param index index of the date
+     * @return date at specified index
+     */
+    public AbsoluteDate getDate(final int index) {
+        return new AbsoluteDate(TimeOffset.fromComponents(components[2 * index], components[2 * index + 1]));
+    }
+
+    /** Compute the duration between one packed date and a reference date.
+     * @param index index of the date
+     * @param reference reference date
+     * @return duration between packed date and reference, without any allocation
+     * @see AbsoluteDate#durationFrom(AbsoluteDate)
+     */
+    public double durationFrom(final int index, final AbsoluteDate reference) {
+        return TimeOffset.difference(components[2 * index], components[2 * index + 1],
+                                     reference.getSeconds(), reference.getAttoSeconds());
+    }
+
+    /** Compute the durations between all packed dates and a reference date.
+     * @param reference reference date
+     * @return durations between packed dates and reference
+     * @see AbsoluteDate#durationFrom(AbsoluteDate)
+     */
+    public double[] durationsFrom(final AbsoluteDate reference) {
+        final long     s         = reference.getSeconds();
+        final long     a         = reference.getAttoSeconds();
+        final double[] durations = new double[size()];
+        for (int i = 0; i < durations.length; ++i) {
+            durations[i] = TimeOffset.difference(components[2 * i], components[2 * i + 1], s, a);
+        }
+        return durations;
+    }
+
+    /** Search a date, using binary search.
+     * <p>
+     * The semantics of the return value is the same as {@link java.util.Arrays#binarySearch(long[], long)}.
+     * </p>
+     * @param date date to search for
+     * @return index of the date if it is present, otherwise {@code (-(insertion point) - 1)},
+     * where the insertion point is the index of the first date after searched date,
+     * or {@link #size()} if all dates are before searched date
+     */
+    public int search(final AbsoluteDate date) {
+        final long s    = date.getSeconds();
+        final long a    = date.getAttoSeconds();
+        int        low  = 0;
+        int        high = size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = TimeOffset.compare(components[2 * mid], components[2 * mid + 1], s, a);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+}
@@ -0,0 +1,244 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/** Immutable set of disjoint closed time intervals.
+ * <p>
+ * Intervals are stored sorted in chronological order, overlapping or touching
+ * intervals being merged at construction. This allows membership and overlap
+ * queries to be performed by binary search and set operations (union,
+ * intersection, complement) to be performed by linear merges.
+ * </p>
+ * <p>
+ * As all intervals are closed, the complement of a set shares its boundaries
+ * with the set, and the intersection of two sets that only touch each other
+ * contains zero-length intervals.
+ * </p>
+ * @see TimeIntervalTree
+ * @since 14.0
+ */
+public class TimeIntervalSet {
+
+    /** Empty set. */
+    private static final TimeIntervalSet EMPTY = new TimeIntervalSet(new ArrayList<>());
+
+    /** Sorted disjoint intervals. */
+    private final List<TimeInterval> intervals;
+
+    /** Simple constructor.
+     * @param intervals sorted disjoint intervals (not copied)
+     */
+    private TimeIntervalSet(final List<TimeInterval> intervals) {
+        this.intervals = intervals;
+    }
+
+    /** Get the empty set.
+     * @return empty set
+     */
+    public static TimeIntervalSet empty() {
+        return EMPTY;
+    }
+
+    /** Build a set from arbitrary intervals.
+     * <p>
+     * Intervals may be provided in any order, overlapping or touching
+     * intervals are merged.
+     * </p>
+     * @param intervals intervals to gather
+     * @return set containing the union of all intervals
+     */
+    public static TimeIntervalSet of(final Collection<? extends TimeInterval> intervals) {
+        final List<TimeInterval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparing(TimeInterval::getStartDate));
+        return new TimeIntervalSet(merge(sorted));
+    }
+
+    /** Get the intervals.
+     * @return unmodifiable list of sorted disjoint intervals
+     */
+    public List<TimeInterval> getIntervals() {
+        return Collections.unmodifiableList(intervals);
+    }
+
+    /** Get the number of disjoint intervals.
+     * @return number of disjoint intervals
+     */
+    public int size() {
+        return intervals.size();
+    }
+
+    /** Check if the set is empty.
+     * @return true if the set is empty
+     */
+    public boolean isEmpty() {
+        return intervals.isEmpty();
+    }
+
+    /** Get the total duration covered by the set.
+     * @return sum of the intervals durations (s)
+     */
+    public double getTotalDuration() {
+        double total = 0.0;
+        for (final TimeInterval interval : intervals) {
+            total += interval.duration();
+        }
+        return total;
+    }
+
+    /** Check if a date belongs to the set.
+     * @param timeStamped time stamped object to check
+     * @return true if the date belongs to one of the intervals
+     */
+    public boolean contains(final TimeStamped timeStamped) {
+        final AbsoluteDate date = timeStamped.getDate();
+        final int index = firstEndingAfter(date);
+        return index < intervals.size() && intervals.get(index).getStartDate().isBeforeOrEqualTo(date);
+    }
+
+    /** Get the intervals that overlap a window.
+     * @param window time window
+     * @return intervals overlapping the window, in chronological order
+     */
+    public List<TimeInterval> getOverlapping(final TimeInterval window) {
+        final List<TimeInterval> overlapping = new ArrayList<>();
+        for (int i = firstEndingAfter(window.getStartDate());
+             i < intervals.size() && intervals.get(i).getStartDate().isBeforeOrEqualTo(window.getEndDate());
+             ++i) {
+            overlapping.add(intervals.get(i));
+        }
+        return overlapping;
+    }
+
+    /** Compute the union with another set.
+     * @param other other set
+     * @return union of the instance and the other set
+     */
+    public TimeIntervalSet union(final TimeIntervalSet other) {
+        final List<TimeInterval> sorted = new ArrayList<>(intervals.size() + other.intervals.size());
+        int i = 0;
+        int j = 0;
+        while (i < intervals.size() || j < other.intervals.size()) {
+            if (j >= other.intervals.size() ||
+                i < intervals.size() &&
+                intervals.get(i).getStartDate().isBeforeOrEqualTo(other.intervals.get(j).getStartDate())) {
+                sorted.add(intervals.get(i++));
+            } else {
+                sorted.add(other.intervals.get(j++));
+            }
+        }
+        return new TimeIntervalSet(merge(sorted));
+    }
+
+    /** Compute the intersection with another set.
+     * @param other other set
+     * @return intersection of the instance and the other set
+     */
+    public TimeIntervalSet intersection(final TimeIntervalSet other) {
+        final List<TimeInterval> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < intervals.size() && j < other.intervals.size()) {
+            final TimeInterval a = intervals.get(i);
+            final TimeInterval b = other.intervals.get(j);
+            final AbsoluteDate start = a.getStartDate().isAfter(b.getStartDate()) ? a.getStartDate() : b.getStartDate();
+            final AbsoluteDate end   = a.getEndDate().isBefore(b.getEndDate()) ? a.getEndDate() : b.getEndDate();
+            if (start.isBeforeOrEqualTo(end)) {
+                result.add(TimeInterval.of(start, end));
+            }
+            // advance the interval that ends first
+            if (a.getEndDate().isBefore(b.getEndDate())) {
+                ++i;
+            } else {
+                ++j;
+            }
+        }
+        return new TimeIntervalSet(result);
+    }
+
+    /** Compute the complement of the set within a window.
+     * @param window window in which complement is computed
+     * @return parts of the window not covered by the instance (boundaries are shared with the instance)
+     */
+    public TimeIntervalSet complement(final TimeInterval window) {
+        final List<TimeInterval> result = new ArrayList<>();
+        AbsoluteDate current = window.getStartDate();
+        for (final TimeInterval interval : getOverlapping(window)) {
+            if (interval.getStartDate().isAfter(current)) {
+                result.add(TimeInterval.of(current, interval.getStartDate()));
+            }
+            if (interval.getEndDate().isAfter(current)) {
+                current = interval.getEndDate();
+            }
+        }
+        if (current.isBefore(window.getEndDate())) {
+            result.add(TimeInterval.of(current, window.getEndDate()));
+        }
+        // zero-length intervals in the instance may leave touching gaps
+        return new TimeIntervalSet(merge(result));
+    }
+
+    /** Find the first interval ending at or after a date.
+     * @param date date to check
+     * @return index of the first interval ending at or after date (may be {@link #size()})
+     */
+    private int firstEndingAfter(final AbsoluteDate date) {
+        int low  = 0;
+        int high = intervals.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (intervals.get(mid).getEndDate().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Merge overlapping or touching intervals.
+     * @param sorted intervals sorted by start date
+     * @return disjoint intervals
+     */
+    private static List<TimeInterval> merge(final List<TimeInterval> sorted) {
+        final List<TimeInterval> merged = new ArrayList<>(sorted.size());
+        AbsoluteDate start = null;
+        AbsoluteDate end   = null;
+        for (final TimeInterval interval : sorted) {
+            if (start == null) {
+                start = interval.getStartDate();
+                end   = interval.getEndDate();
+            } else if (interval.getStartDate().isAfter(end)) {
+                merged.add(TimeInterval.of(start, end));
+                start = interval.getStartDate();
+                end   = interval.getEndDate();
+            } else if (interval.getEndDate().isAfter(end)) {
+                end = interval.getEndDate();
+            }
+        }
+        if (start != null) {
+            merged.add(TimeInterval.of(start, end));
+        }
+        return merged;
+    }
+
+}
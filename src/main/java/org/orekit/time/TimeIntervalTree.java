@@ -0,0 +1,138 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/** Immutable index of possibly overlapping time intervals.
+ * <p>
+ * This index is an augmented interval tree: intervals are sorted by start
+ * date and arranged as an implicit balanced binary search tree over the
+ * sorted array, each node storing the latest end date of its subtree. This
+ * allows retrieving the intervals overlapping a window in O(log(n) + k) time,
+ * where k is the number of intervals returned.
+ * </p>
+ * <p>
+ * Contrary to {@link TimeIntervalSet}, intervals are not merged, so arbitrary
+ * objects implementing {@link TimeInterval} can be indexed and retrieved.
+ * </p>
+ * @param <T> type of the indexed intervals
+ * @see TimeIntervalSet
+ * @since 14.0
+ */
+public class TimeIntervalTree<T extends TimeInterval> {
+
+    /** Intervals sorted by start date. */
+    private final List<T> intervals;
+
+    /** Latest end date in the subtree rooted at each node. */
+    private final AbsoluteDate[] maxEnd;
+
+    /** Simple constructor.
+     * @param intervals intervals to index, in any order
+     */
+    public TimeIntervalTree(final Collection<? extends T> intervals) {
+        this.intervals = new ArrayList<>(intervals);
+        this.intervals.sort(Comparator.comparing(TimeInterval::getStartDate));
+        this.maxEnd    = new AbsoluteDate[this.intervals.size()];
+        augment(0, this.intervals.size());
+    }
+
+    /** Get the number of indexed intervals.
+     * @return number of indexed intervals
+     */
+    public int size() {
+        return intervals.size();
+    }
+
+    /** Get the intervals that overlap a window.
+     * @param window time window
+     * @return intervals overlapping the window, sorted by start date
+     */
+    public List<T> getOverlapping(final TimeInterval window) {
+        final List<T> overlapping = new ArrayList<>();
+        collect(0, intervals.size(), window.getStartDate(), window.getEndDate(), overlapping);
+        return overlapping;
+    }
+
+    /** Get the intervals that contain a date.
+     * @param timeStamped time stamped object to check
+     * @return intervals containing the date, sorted by start date
+     */
+    public List<T> getContaining(final TimeStamped timeStamped) {
+        final List<T> containing = new ArrayList<>();
+        final AbsoluteDate date = timeStamped.getDate();
+        collect(0, intervals.size(), date, date, containing);
+        return containing;
+    }
+
+    /** Compute the latest end date of a subtree.
+     * @param low index of the first interval of the subtree
+     * @param high index after the last interval of the subtree
+     * @return latest end date in the subtree, or null if subtree is empty
+     */
+    private AbsoluteDate augment(final int low, final int high) {
+        if (low >= high) {
+            return null;
+        }
+        final int mid = (low + high) >>> 1;
+        AbsoluteDate latest = intervals.get(mid).getEndDate();
+        final AbsoluteDate left  = augment(low, mid);
+        final AbsoluteDate right = augment(mid + 1, high);
+        if (left != null && left.isAfter(latest)) {
+            latest = left;
+        }
+        if (right != null && right.isAfter(latest)) {
+            latest = right;
+        }
+        maxEnd[mid] = latest;
+        return latest;
+    }
+
+    /** Collect the intervals of a subtree overlapping a window.
+     * @param low index of the first interval of the subtree
+     * @param high index after the last interval of the subtree
+     * @param start window start
+     * @param end window end
+     * @param overlapping list where overlapping intervals are added, in start date order
+     */
+    private void collect(final int low, final int high, final AbsoluteDate start, final AbsoluteDate end,
+                         final List<T> overlapping) {
+        if (low >= high) {
+            return;
+        }
+        final int mid = (low + high) >>> 1;
+        if (maxEnd[mid].isBefore(start)) {
+            // the whole subtree ends before the window
+            return;
+        }
+        collect(low, mid, start, end, overlapping);
+        final T interval = intervals.get(mid);
+        if (interval.getStartDate().isAfter(end)) {
+            // this node and its right subtree start after the window
+            return;
+        }
+        if (interval.getEndDate().isAfterOrEqualTo(start)) {
+            overlapping.add(interval);
+        }
+        collect(mid + 1, high, start, end, overlapping);
+    }
+
+}
@@ -462,6 +462,40 @@ public class TimeOffset
         attoSeconds = time.attoSeconds;
     }
 
+    /** Shift constructor.
+     * <p>
+     * This constructor gives the same result as {@code new TimeOffset(time, new TimeOffset(dt))},
+     * but it does not allocate any intermediate object in the regular case.
+     * </p>
+     * @param time base time
+     * @param dt shift in seconds
+     * @since 14.0
+     */
+    protected TimeOffset(final TimeOffset time, final double dt) {
+        if (time.isFinite() && dt >= Long.MIN_VALUE && dt <= Long.MAX_VALUE) {
+            // regular shift, same splitting as in the TimeOffset(double) constructor
+            final double tiSeconds  = FastMath.rint(dt);
+            final double subSeconds = dt - tiSeconds;
+            final long   s;
+            final long   a;
+            if (subSeconds < 0L) {
+                s = time.seconds + (long) tiSeconds - 1L;
+                a = time.attoSeconds + FastMath.round(subSeconds * ATTOS_IN_SECOND) + ATTOS_IN_SECOND;
+            } else {
+                s = time.seconds + (long) tiSeconds;
+                a = time.attoSeconds + FastMath.round(subSeconds * ATTOS_IN_SECOND);
+            }
+            // a is non-negative here, normalization is a simple carry
+            final long qAtto = a / ATTOS_IN_SECOND;
+            seconds     = s + qAtto;
+            attoSeconds = a - qAtto * ATTOS_IN_SECOND;
+        } else {
+            final TimeOffset shifted = new TimeOffset(time, new TimeOffset(dt));
+            seconds     = shifted.seconds;
+            attoSeconds = shifted.attoSeconds;
+        }
+    }
+
     /** check if the time is zero.
      * @return true if the time is zero
      */
@@ -732,22 +766,107 @@ public class TimeOffset
     public double toDouble() {
         if (isFinite()) {
             // regular value
-            long closeSeconds      = seconds;
-            long signedAttoSeconds = attoSeconds;
-            if (attoSeconds > ATTOS_IN_HALF_SECOND) {
-                // we are closer to next second than to previous one
-                // take this into account in the computation
-                // in order to avoid losing precision
-                closeSeconds++;
-                signedAttoSeconds -= ATTOS_IN_SECOND;
-            }
-            return closeSeconds + ((double) signedAttoSeconds) / ATTOS_IN_SECOND;
+            return toDouble(seconds, attoSeconds);
         } else {
             // special values
             return isNaN() ? Double.NaN : FastMath.copySign(Double.POSITIVE_INFINITY, seconds);
         }
     }
 
+    /** Collapse normalized finite components into a single double.
+     * @param seconds seconds part
+     * @param attoSeconds normalized attoseconds part
+     * @return time as a single double
+     */
+    private static double toDouble(final long seconds, final long attoSeconds) {
+        long closeSeconds      = seconds;
+        long signedAttoSeconds = attoSeconds;
+        if (attoSeconds > ATTOS_IN_HALF_SECOND) {
+            // we are closer to next second than to previous one
+            // take this into account in the computation
+            // in order to avoid losing precision
+            closeSeconds++;
+            signedAttoSeconds -= ATTOS_IN_SECOND;
+        }
+        return closeSeconds + ((double) signedAttoSeconds) / ATTOS_IN_SECOND;
+    }
+
+    /** Compute the difference between two times given by their primitive components.
+     * <p>
+     * This method gives the same result as {@code t1.subtract(t2).toDouble()}, where
+     * the components are retrieved by {@link #getSeconds()} and {@link #getAttoSeconds()},
+     * but it does not allocate any object when both times are finite. It is intended
+     * for tight loops and for code that stores times in primitive arrays.
+     * </p>
+     * @param seconds1 seconds part of the first time
+     * @param attoSeconds1 attoseconds part of the first time
+     * @param seconds2 seconds part of the second time
+     * @param attoSeconds2 attoseconds part of the second time
+     * @return t1 - t2, collapsed into a single double
+     * @since 14.0
+     */
+    public static double difference(final long seconds1, final long attoSeconds1,
+                                    final long seconds2, final long attoSeconds2) {
+        if (attoSeconds1 >= 0L && attoSeconds2 >= 0L) {
+            // regular subtraction, with the same normalization as the TimeOffset(long, long) constructor
+            final long a     = attoSeconds1 - attoSeconds2;
+            final long qAtto = a / ATTOS_IN_SECOND;
+            final long rAtto = a - qAtto * ATTOS_IN_SECOND;
+            return rAtto < 0L ?
+                   toDouble(seconds1 - seconds2 + qAtto - 1L, ATTOS_IN_SECOND + rAtto) :
+                   toDouble(seconds1 - seconds2 + qAtto, rAtto);
+        } else {
+            return fromComponents(seconds1, attoSeconds1).subtract(fromComponents(seconds2, attoSeconds2)).toDouble();
+        }
+    }
+
+    /** Compare two times given by their primitive components.
+     * <p>
+     * This method gives the same result as {@code t1.compareTo(t2)}, where
+     * the components are retrieved by {@link #getSeconds()} and {@link #getAttoSeconds()},
+     * but it does not allocate any object.
+     * </p>
+     * @param seconds1 seconds part of the first time
+     * @param attoSeconds1 attoseconds part of the first time
+     * @param seconds2 seconds part of the second time
+     * @param attoSeconds2 attoseconds part of the second time
+     * @return a negative integer, zero, or a positive integer as first time
+     * is before, simultaneous, or after second time
+     * @since 14.0
+     */
+    public static int compare(final long seconds1, final long attoSeconds1,
+                              final long seconds2, final long attoSeconds2) {
+        if (attoSeconds1 >= 0L && attoSeconds2 >= 0L) {
+            return seconds1 == seconds2 ?
+                   Long.compare(attoSeconds1, attoSeconds2) :
+                   Long.compare(seconds1, seconds2);
+        } else if (attoSeconds1 == NAN_INDICATOR) {
+            // for consistency with Double.compareTo, NaN is considered equal to itself
+            return attoSeconds2 == NAN_INDICATOR ? 0 : 1;
+        } else if (attoSeconds2 == NAN_INDICATOR) {
+            return -1;
+        } else {
+            // at least one time is ±∞, the other one is either finite or ±∞ but not NaN
+            // at infinity, seconds are set to either Long.MIN_VALUE or Long.MAX_VALUE
+            return Long.compare(seconds1, seconds2);
+        }
+    }
+
+    /** Rebuild a time from its normalized primitive components.
+     * @param seconds seconds part, as returned by {@link #getSeconds()}
+     * @param attoSeconds attoseconds part, as returned by {@link #getAttoSeconds()}
+     * @return time corresponding to the components
+     */
+    static TimeOffset fromComponents(final long seconds, final long attoSeconds) {
+        if (attoSeconds >= 0L) {
+            return new TimeOffset(seconds, attoSeconds);
+        } else if (attoSeconds == NAN_INDICATOR) {
+            return NaN;
+        } else {
+            return attoSeconds == POSITIVE_INFINITY_INDICATOR ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+        }
+    }
+
     /** Parse a string to produce an accurate split time.
      * <p>
      * This method is more accurate than parsing the string as a double and then
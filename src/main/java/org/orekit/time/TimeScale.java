@@ -148,6 +148,42 @@ public interface TimeScale {
         return date.getField().getZero();
     }
 
+    /** Convert date/time components in this time scale into absolute dates.
+     * <p>
+     * This bulk method is intended for parsers and writers that handle
+     * many timestamps at once.
+     * </p>
+     * @param components date/time components in this time scale
+     * @return absolute dates, in the same order as components
+     * @see AbsoluteDate#AbsoluteDate(DateTimeComponents, TimeScale)
+     * @since 14.0
+     */
+    default AbsoluteDate[] toDates(final DateTimeComponents[] components) {
+        final AbsoluteDate[] dates = new AbsoluteDate[components.length];
+        for (int i = 0; i < components.length; ++i) {
+            dates[i] = new AbsoluteDate(components[i], this);
+        }
+        return dates;
+    }
+
+    /** Split absolute dates into date/time components in this time scale.
+     * <p>
+     * This bulk method is intended for parsers and writers that handle
+     * many timestamps at once.
+     * </p>
+     * @param dates absolute dates
+     * @return date/time components in this time scale, in the same order as dates
+     * @see AbsoluteDate#getComponents(TimeScale)
+     * @since 14.0
+     */
+    default DateTimeComponents[] toComponents(final AbsoluteDate[] dates) {
+        final DateTimeComponents[] components = new DateTimeComponents[dates.length];
+        for (int i = 0; i < dates.length; ++i) {
+            components[i] = dates[i].getComponents(this);
+        }
+        return components;
+    }
+
     /** Get the name time scale.
      * @return name of the time scale
      */
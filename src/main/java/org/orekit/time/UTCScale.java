@@ -62,6 +62,18 @@ public class UTCScale implements TimeScale {
     /** UTC-TAI offsets. */
     private final UTCTAIOffset[] offsets;
 
+    /** Seconds part of the first leap date, origin of the day buckets. */
+    private final long firstBucketSeconds;
+
+    /** Index of the offset valid at the start of each day bucket (-1 before first leap). */
+    private final int[] bucketIndices;
+
+    /** Modified Julian Day of the first leap, origin of the MJD indices. */
+    private final int firstMJD;
+
+    /** Index of the offset valid for each Modified Julian Day. */
+    private final int[] mjdIndices;
+
     /** Package private constructor for the factory.
      * Used to create the prototype instance of this class that is used to
      * clone all subsequent instances of {@link UTCScale}. Initializes the offset
@@ -151,6 +163,32 @@ public class UTCScale implements TimeScale {
 
         }
 
+        // precompute indices for constant time lookup, using one day buckets
+        final AbsoluteDate first = offsets[0].getDate();
+        final AbsoluteDate last  = offsets[offsets.length - 1].getDate();
+        this.firstBucketSeconds  = first.getSeconds();
+        this.bucketIndices       = new int[(int) ((last.getSeconds() - firstBucketSeconds) / SEC_PER_DAY) + 1];
+        int index = -1;
+        for (int k = 0; k < bucketIndices.length; ++k) {
+            final long bucketStart = firstBucketSeconds + k * SEC_PER_DAY;
+            while (index + 1 < offsets.length &&
+                   TimeOffset.compare(offsets[index + 1].getDate().getSeconds(),
+                                      offsets[index + 1].getDate().getAttoSeconds(),
+                                      bucketStart, 0L) <= 0) {
+                ++index;
+            }
+            bucketIndices[k] = index;
+        }
+        this.firstMJD   = offsets[0].getMJD();
+        this.mjdIndices = new int[offsets[offsets.length - 1].getMJD() - firstMJD + 1];
+        index = -1;
+        for (int k = 0; k < mjdIndices.length; ++k) {
+            while (index + 1 < offsets.length && offsets[index + 1].getMJD() <= firstMJD + k) {
+                ++index;
+            }
+            mjdIndices[k] = index;
+        }
+
     }
 
     /** Get the base offsets.
@@ -313,10 +351,39 @@ public class UTCScale implements TimeScale {
     }
 
     /** Find the index of the offset valid at some date.
+     * <p>
+     * For finite dates, this method uses precomputed day buckets, so it
+     * runs in constant time.
+     * </p>
      * @param date date at which offset is requested
      * @return index of the offset valid at this date, or -1 if date is before first offset.
      */
     private int findOffsetIndex(final AbsoluteDate date) {
+        if (!date.isFinite()) {
+            return searchOffsetIndex(date);
+        }
+        final long seconds = date.getSeconds();
+        if (seconds < firstBucketSeconds) {
+            // the date is before the first known leap
+            return -1;
+        } else if (seconds >= firstBucketSeconds + bucketIndices.length * SEC_PER_DAY) {
+            // the date is after the last known leap second
+            return offsets.length - 1;
+        } else {
+            // start from the offset valid at bucket start, and check the few leaps within the bucket
+            int index = bucketIndices[(int) ((seconds - firstBucketSeconds) / SEC_PER_DAY)];
+            while (index + 1 < offsets.length && date.compareTo(offsets[index + 1].getDate()) >= 0) {
+                ++index;
+            }
+            return index;
+        }
+    }
+
+    /** Find the index of the offset valid at some date, using binary search.
+     * @param date date at which offset is requested
+     * @return index of the offset valid at this date, or -1 if date is before first offset.
+     */
+    private int searchOffsetIndex(final AbsoluteDate date) {
         int inf = 0;
         int sup = offsets.length;
         while (sup - inf > 1) {
@@ -343,24 +410,14 @@ public class UTCScale implements TimeScale {
      * @return offset valid at this date, or null if date is before first offset.
      */
     private UTCTAIOffset findOffset(final int mjd) {
-        int inf = 0;
-        int sup = offsets.length;
-        while (sup - inf > 1) {
-            final int middle = (inf + sup) >>> 1;
-            if (mjd < offsets[middle].getMJD()) {
-                sup = middle;
-            } else {
-                inf = middle;
-            }
-        }
-        if (sup == offsets.length) {
-            // the date is after the last known leap second
-            return offsets[offsets.length - 1];
-        } else if (mjd < offsets[inf].getMJD()) {
+        if (mjd < firstMJD) {
             // the date is before the first known leap
             return null;
+        } else if (mjd - firstMJD >= mjdIndices.length) {
+            // the date is after the last known leap second
+            return offsets[offsets.length - 1];
         } else {
-            return offsets[inf];
+            return offsets[mjdIndices[mjd - firstMJD]];
         }
     }
 
@@ -20,16 +20,31 @@ import org.hipparchus.CalculusFieldElement;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.util.FastMath;
+import org.hipparchus.util.Precision;
 import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.frames.Frame;
+import org.orekit.frames.StaticTransform;
 import org.orekit.propagation.FieldSpacecraftState;
 import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
 
 /** Computation engine for occultation events.
+ * <p>
+ * In addition to the per-state computation used by event detectors, the engine
+ * provides batch methods for evaluating many positions at the same date (for
+ * example all satellites of a constellation), which share the occulted body
+ * position and frame transform. The batch {@link #lightingRatios(AbsoluteDate,
+ * Frame, Vector3D[]) lighting ratios} computation also uses a cheap conical
+ * bound to skip limb computation for positions far from shadow boundaries.
+ * </p>
  * @author Luc Maisonobe
  * @since 12.0
  */
 public class OccultationEngine {
 
+    /** Margin used in the shadow cones pre-check (m). */
+    private static final double SHADOW_CONES_MARGIN = 1000.0;
+
     /** Occulting body. */
     private final OneAxisEllipsoid occulting;
 
@@ -77,9 +92,73 @@ public class OccultationEngine {
      * @return occultation angles
      */
     public OccultationAngles angles(final SpacecraftState state) {
+        return angles(state.getPosition(occulting.getBodyFrame()),
+                      occulted.getPosition(state.getDate(), occulting.getBodyFrame()));
+    }
+
+    /** Compute the occultation angles as seen from several positions at the same date.
+     * <p>
+     * The occulted body position and the transform to occulting body frame
+     * are computed only once for all positions.
+     * </p>
+     * @param date date of all positions
+     * @param frame frame in which positions are defined
+     * @param positions positions from which occultation is observed
+     * @return occultation angles, in the same order as the positions
+     * @since 14.0
+     */
+    public OccultationAngles[] angles(final AbsoluteDate date, final Frame frame, final Vector3D[] positions) {
+        final StaticTransform     toBody = frame.getStaticTransformTo(occulting.getBodyFrame(), date);
+        final Vector3D            pted   = occulted.getPosition(date, occulting.getBodyFrame());
+        final OccultationAngles[] angles = new OccultationAngles[positions.length];
+        for (int i = 0; i < positions.length; ++i) {
+            angles[i] = angles(toBody.transformPosition(positions[i]), pted);
+        }
+        return angles;
+    }
+
+    /** Compute the lighting ratios at several positions at the same date.
+     * <p>
+     * The lighting ratio is the fraction of the occulted body disk that is visible,
+     * taking only this engine occulting body into account, as computed by
+     * {@link OccultationAngles#getLightingRatio()}: it is 0 in umbra, 1 in full light,
+     * and between 0 and 1 in penumbra.
+     * </p>
+     * <p>
+     * The occulted body position and the transform to occulting body frame
+     * are computed only once for all positions. Positions that are clearly outside
+     * of the penumbra cone of the sphere enclosing the occulting body, or clearly
+     * inside of the umbra cone of the sphere enclosed in the occulting body, are
+     * resolved immediately, without limb computation.
+     * </p>
+     * @param date date of all positions
+     * @param frame frame in which positions are defined
+     * @param positions positions at which lighting ratio is evaluated
+     * @return lighting ratios, in the same order as the positions
+     * @since 14.0
+     */
+    public double[] lightingRatios(final AbsoluteDate date, final Frame frame, final Vector3D[] positions) {
+
+        final StaticTransform toBody = frame.getStaticTransformTo(occulting.getBodyFrame(), date);
+        final Vector3D        pted   = occulted.getPosition(date, occulting.getBodyFrame());
+        final ShadowCones     cones  = new ShadowCones(pted);
+
+        final double[] ratios = new double[positions.length];
+        for (int i = 0; i < positions.length; ++i) {
+            final Vector3D psat = toBody.transformPosition(positions[i]);
+            ratios[i] = cones.isLit(psat) ? 1.0 : (cones.isDark(psat) ? 0.0 : angles(psat, pted).getLightingRatio());
+        }
+        return ratios;
+
+    }
+
+    /** Compute the occultation angles as seen from a position.
+     * @param psat observer position in occulting body frame
+     * @param pted occulted body position in occulting body frame
+     * @return occultation angles
+     */
+    private OccultationAngles angles(final Vector3D psat, final Vector3D pted) {
 
-        final Vector3D psat  = state.getPosition(occulting.getBodyFrame());
-        final Vector3D pted  = occulted.getPosition(state.getDate(), occulting.getBodyFrame());
         final Vector3D plimb = occulting.pointOnLimb(psat, pted);
         final Vector3D ps    = psat.subtract(pted);
         final Vector3D pi    = psat.subtract(plimb);
@@ -124,11 +203,97 @@ public class OccultationEngine {
 
     }
 
+    /** Conservative shadow cones for quick lighting checks. */
+    private class ShadowCones {
+
+        /** Unit vector from occulting body center towards occulted body center. */
+        private final Vector3D axis;
+
+        /** Penumbra cone radius at occulting body center (m). */
+        private final double penumbraRadius;
+
+        /** Tangent of penumbra cone half aperture. */
+        private final double penumbraTan;
+
+        /** Umbra cone radius at occulting body center (m). */
+        private final double umbraRadius;
+
+        /** Tangent of umbra cone half aperture (negative if umbra cone diverges). */
+        private final double umbraTan;
+
+        /** Indicator for available cones. */
+        private final boolean available;
+
+        /** Simple constructor.
+         * @param pted occulted body position in occulting body frame
+         */
+        ShadowCones(final Vector3D pted) {
+
+            final double d       = pted.getNorm();
+            final double outer   = occulting.getEquatorialRadius();
+            final double inner   = outer * (1 - occulting.getFlattening());
+            final double sinPen  = (occultedRadius + outer) / d;
+            final double sinUmb  = (occultedRadius - inner) / d;
+
+            this.available = sinPen < 1;
+            this.axis      = pted.normalize();
+            if (available) {
+                // penumbra cone tangent to sphere enclosing occulting body
+                final double cosPen = FastMath.sqrt(1 - sinPen * sinPen);
+                this.penumbraRadius = outer / cosPen;
+                this.penumbraTan    = sinPen / cosPen;
+                // umbra cone tangent to sphere enclosed in occulting body
+                final double cosUmb = FastMath.sqrt(1 - sinUmb * sinUmb);
+                this.umbraRadius    = inner / cosUmb;
+                this.umbraTan       = sinUmb / cosUmb;
+            } else {
+                this.penumbraRadius = Double.NaN;
+                this.penumbraTan    = Double.NaN;
+                this.umbraRadius    = Double.NaN;
+                this.umbraTan       = Double.NaN;
+            }
+
+        }
+
+        /** Check if a position is clearly outside of penumbra.
+         * @param psat position in occulting body frame
+         * @return true if position is clearly outside of penumbra
+         */
+        boolean isLit(final Vector3D psat) {
+            if (!available || psat.getNorm() <= occulting.getEquatorialRadius()) {
+                return false;
+            }
+            final double x = Vector3D.dotProduct(psat, axis);
+            final double d = FastMath.sqrt(FastMath.max(0.0, psat.getNorm2Sq() - x * x));
+            return d > penumbraRadius - x * penumbraTan + SHADOW_CONES_MARGIN;
+        }
+
+        /** Check if a position is clearly inside umbra.
+         * @param psat position in occulting body frame
+         * @return true if position is clearly inside umbra
+         */
+        boolean isDark(final Vector3D psat) {
+            if (!available || psat.getNorm() <= occulting.getEquatorialRadius()) {
+                return false;
+            }
+            final double x = Vector3D.dotProduct(psat, axis);
+            if (x >= 0) {
+                return false;
+            }
+            final double d = FastMath.sqrt(FastMath.max(0.0, psat.getNorm2Sq() - x * x));
+            return d < umbraRadius + x * umbraTan - SHADOW_CONES_MARGIN;
+        }
+
+    }
+
     /** Container for occultation angles.
      * @since 12.0
      */
     public static class OccultationAngles {
 
+        /** Angular margin used for lighting ratio boundaries (rad). */
+        private static final double ANGULAR_MARGIN = 1.0e-10;
+
         /** Apparent separation between occulting and occulted directions. */
         private final double separation;
 
@@ -170,6 +335,48 @@ public class OccultationEngine {
             return occultedApparentRadius;
         }
 
+        /** Get the lighting ratio.
+         * <p>
+         * The lighting ratio is the visible fraction of the occulted body disk,
+         * considering the occulting body disk has the limb radius.
+         * </p>
+         * @return lighting ratio: 0.0 body fully masked, 1.0 body fully visible
+         * @since 14.0
+         */
+        public double getLightingRatio() {
+
+            // Is the satellite in complete umbra ?
+            if (separation - limbRadius + occultedApparentRadius <= ANGULAR_MARGIN) {
+                return 0.0;
+            } else if (separation - limbRadius - occultedApparentRadius < -ANGULAR_MARGIN) {
+                // Compute a masking ratio in penumbra
+                final double sEA2    = separation * separation;
+                final double oo2sEA  = 1.0 / (2. * separation);
+                final double aS2     = occultedApparentRadius * occultedApparentRadius;
+                final double aE2     = limbRadius * limbRadius;
+                final double aE2maS2 = aE2 - aS2;
+
+                final double alpha1  = (sEA2 - aE2maS2) * oo2sEA;
+                final double alpha2  = (sEA2 + aE2maS2) * oo2sEA;
+
+                // Protection against numerical inaccuracy at boundaries
+                final double almost0 = Precision.SAFE_MIN;
+                final double almost1 = FastMath.nextDown(1.0);
+                final double a1oaS   = FastMath.min(almost1, FastMath.max(-almost1, alpha1 / occultedApparentRadius));
+                final double aS2ma12 = FastMath.max(almost0, aS2 - alpha1 * alpha1);
+                final double a2oaE   = FastMath.min(almost1, FastMath.max(-almost1, alpha2 / limbRadius));
+                final double aE2ma22 = FastMath.max(almost0, aE2 - alpha2 * alpha2);
+
+                final double p1 = aS2 * FastMath.acos(a1oaS) - alpha1 * FastMath.sqrt(aS2ma12);
+                final double p2 = aE2 * FastMath.acos(a2oaE) - alpha2 * FastMath.sqrt(aE2ma22);
+
+                return 1. - (p1 + p2) / (FastMath.PI * aS2);
+            } else {
+                return 1.0;
+            }
+
+        }
+
     }
 
     /** Container for occultation angles.
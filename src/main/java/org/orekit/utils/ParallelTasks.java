@@ -0,0 +1,165 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+/** Simple runner for batches of independent tasks.
+ * <p>
+ * This class is intended for the bulk computation engines of the library
+ * that split a large work load into independent chunks. A fixed size thread
+ * pool is created for each batch and shut down once all tasks are complete,
+ * so instances hold no resources between calls and can be shared.
+ * </p>
+ * <p>
+ * When only one thread is configured, tasks are run directly in the calling
+ * thread, which is convenient for debugging and avoids thread creation for
+ * small workloads.
+ * </p>
+ * <p>
+ * Exceptions thrown by tasks are propagated to the caller, unwrapped if they
+ * are {@link OrekitException} instances, wrapped in an {@link OrekitException}
+ * otherwise.
+ * </p>
+ * @since 14.0
+ */
+public class ParallelTasks {
+
+    /** Number of threads to use. */
+    private final int threads;
+
+    /** Simple constructor.
+     * @param threads number of threads to use (must be strictly positive)
+     */
+    public ParallelTasks(final int threads) {
+        if (threads <= 0) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, threads);
+        }
+        this.threads = threads;
+    }
+
+    /** Create a runner using all available processors.
+     * @return runner using all available processors
+     */
+    public static ParallelTasks allProcessors() {
+        return new ParallelTasks(Runtime.getRuntime().availableProcessors());
+    }
+
+    /** Get the number of threads.
+     * @return number of threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /** Run all tasks and wait for their completion.
+     * @param tasks tasks to run
+     * @param <T> type of the tasks results
+     * @return tasks results, in the same order as the tasks
+     */
+    public <T> List<T> run(final List<? extends Callable<T>> tasks) {
+
+        final List<T> results = new ArrayList<>(tasks.size());
+
+        if (threads == 1 || tasks.size() <= 1) {
+            // run everything in the calling thread
+            for (final Callable<T> task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(Math.min(threads, tasks.size()));
+        try {
+            final List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (final Callable<T> task : tasks) {
+                futures.add(executorService.submit(task));
+            }
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new OrekitException(ie, LocalizedCoreFormats.SIMPLE_MESSAGE, ie.getLocalizedMessage());
+        } catch (ExecutionException ee) {
+            throw convert(ee.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+
+    }
+
+    /** Split a range of indices into chunks suitable for parallel processing.
+     * <p>
+     * The number of chunks is a small multiple of the number of threads,
+     * in order to balance load between threads when chunks have different
+     * computation costs.
+     * </p>
+     * @param size size of the range to split
+     * @return start indices of the chunks, with an additional last element equal to {@code size}
+     */
+    public int[] split(final int size) {
+        final int   nbChunks = Math.max(1, Math.min(size, threads == 1 ? 1 : 4 * threads));
+        final int[] limits   = new int[nbChunks + 1];
+        for (int i = 0; i <= nbChunks; ++i) {
+            limits[i] = (int) (((long) i * size) / nbChunks);
+        }
+        return limits;
+    }
+
+    /** Call a task in the current thread.
+     * @param task task to call
+     * @param <T> type of the task result
+     * @return task result
+     */
+    private static <T> T call(final Callable<T> task) {
+        try {
+            return task.call();
+            // CHECKSTYLE: stop IllegalCatch check
+        } catch (Exception e) {
+            // CHECKSTYLE: resume IllegalCatch check
+            throw convert(e);
+        }
+    }
+
+    /** Convert a task exception.
+     * @param cause exception thrown by the task
+     * @return exception to throw
+     */
+    private static RuntimeException convert(final Throwable cause) {
+        if (cause instanceof OrekitException) {
+            // unwrap the original exception
+            return (OrekitException) cause;
+        } else if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else {
+            return new OrekitException(cause, LocalizedCoreFormats.SIMPLE_MESSAGE, cause.getLocalizedMessage());
+        }
+    }
+
+}
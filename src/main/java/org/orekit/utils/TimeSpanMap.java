@@ -16,6 +16,8 @@
  */
 package org.orekit.utils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.orekit.errors.OrekitException;
@@ -58,6 +60,16 @@ import org.orekit.time.TimeStamped;
  * <p>
  * Since 11.1, this class is thread-safe
  * </p>
+ * <p>
+ * Since 14.0, lookups by date ({@link #get(AbsoluteDate)} and {@link #getSpan(AbsoluteDate)})
+ * do not lock the map once it is stable. After some updates, the first lookups are
+ * performed under lock, and when the number of lookups since the last update reaches
+ * the number of spans, an immutable sorted snapshot of the transitions is published.
+ * All later lookups use binary search in this snapshot without any locking, until the
+ * next update invalidates it. This is intended for read-mostly maps shared between threads,
+ * like parameters drivers values or estimated models, while keeping amortized constant
+ * cost for maps that are updated and read alternately.
+ * </p>
  * @param <T> Type of the data.
  * @author Luc Maisonobe
  * @since 7.1
@@ -105,6 +117,16 @@ public class TimeSpanMap<T> {
      */
     private ExpungePolicy expungePolicy;
 
+    /** Immutable snapshot for lock-free lookups (null if invalidated by an update).
+     * @since 14.0
+     */
+    private volatile Snapshot<T> snapshot;
+
+    /** Number of locked lookups since last update.
+     * @since 14.0
+     */
+    private int lookupsSinceUpdate;
+
     /** Create a map containing a single object, initially valid throughout the timeline.
      * <p>
      * The real validity of this first entry will be truncated as other
@@ -147,6 +169,7 @@ public class TimeSpanMap<T> {
      * @since 13.1
      */
     public synchronized void configureExpunge(final int newMaxNbSpans, final double newMaxRange, final ExpungePolicy newExpungePolicy) {
+        invalidate();
         this.maxNbSpans    = newMaxNbSpans;
         this.maxRange      = newMaxRange;
         this.expungePolicy = newExpungePolicy;
@@ -199,6 +222,8 @@ public class TimeSpanMap<T> {
      */
     public synchronized Span<T> addValidBefore(final T entry, final AbsoluteDate latestValidityDate, final boolean erasesEarlier) {
 
+        invalidate();
+
         // update current reference to transition date
         locate(latestValidityDate);
 
@@ -279,6 +304,8 @@ public class TimeSpanMap<T> {
      */
     public synchronized Span<T> addValidAfter(final T entry, final AbsoluteDate earliestValidityDate, final boolean erasesLater) {
 
+        invalidate();
+
         // update current reference to transition date
         locate(earliestValidityDate);
 
@@ -334,6 +361,8 @@ public class TimeSpanMap<T> {
      */
     public synchronized Span<T> addValidBetween(final T entry, final AbsoluteDate earliestValidityDate, final AbsoluteDate latestValidityDate) {
 
+        invalidate();
+
         // handle special cases
         if (AbsoluteDate.PAST_INFINITY.equals(earliestValidityDate)) {
             if (AbsoluteDate.FUTURE_INFINITY.equals(latestValidityDate)) {
@@ -406,7 +435,7 @@ public class TimeSpanMap<T> {
      * @return valid entry at specified date
      * @see #getSpan(AbsoluteDate)
      */
-    public synchronized T get(final AbsoluteDate date) {
+    public T get(final AbsoluteDate date) {
         return getSpan(date).getData();
     }
 
@@ -420,7 +449,21 @@ public class TimeSpanMap<T> {
      * @return time span containing the specified date
      * @since 9.3
      */
-    public synchronized Span<T> getSpan(final AbsoluteDate date) {
+    public Span<T> getSpan(final AbsoluteDate date) {
+        final Snapshot<T> published = snapshot;
+        return published == null ? lockedGetSpan(date) : published.getSpan(date);
+    }
+
+    /** Get the time span containing a specified date, under lock.
+     * <p>
+     * When enough lookups have been performed since last update,
+     * a snapshot is published for lock-free lookups.
+     * </p>
+     * @param date date belonging to the desired time span
+     * @return time span containing the specified date
+     * @since 14.0
+     */
+    private synchronized Span<T> lockedGetSpan(final AbsoluteDate date) {
 
         // safety check
         if (date.isBefore(expungedEarly) || date.isAfter(expungedLate)) {
@@ -428,7 +471,26 @@ public class TimeSpanMap<T> {
         }
 
         locate(date);
-        return current;
+        final Span<T> located = current;
+
+        if (snapshot == null && ++lookupsSinceUpdate >= nbSpans) {
+            // the map seems stable, publish a snapshot for lock-free lookups
+            snapshot = new Snapshot<>(located, expungedEarly, expungedLate);
+        }
+
+        return located;
+
+    }
+
+    /** Invalidate the snapshot used for lock-free lookups.
+     * <p>
+     * This method must be called under lock by all methods that update the map.
+     * </p>
+     * @since 14.0
+     */
+    private void invalidate() {
+        snapshot           = null;
+        lookupsSinceUpdate = 0;
     }
 
     /** Locate the time span containing a specified date.
@@ -648,6 +710,110 @@ public class TimeSpanMap<T> {
         }
     }
 
+    /** Immutable sorted view of the spans, for lock-free lookups.
+     * @param <S> Type of the data.
+     * @since 14.0
+     */
+    private static class Snapshot<S> {
+
+        /** Spans, in chronological order. */
+        private final List<Span<S>> spans;
+
+        /** Transition dates, spans.get(i) being valid from transitions[i - 1] to transitions[i]. */
+        private final AbsoluteDate[] transitions;
+
+        /** End of early expunged range. */
+        private final AbsoluteDate expungedEarly;
+
+        /** Start of late expunged range. */
+        private final AbsoluteDate expungedLate;
+
+        /** Index of last located span.
+         * <p>
+         * This hint is shared between threads without synchronization,
+         * which is harmless as any value is checked before being used.
+         * </p>
+         */
+        private int hint;
+
+        /** Build a snapshot.
+         * @param any any span of the map
+         * @param expungedEarly end of early expunged range
+         * @param expungedLate start of late expunged range
+         */
+        Snapshot(final Span<S> any, final AbsoluteDate expungedEarly, final AbsoluteDate expungedLate) {
+
+            Span<S> first = any;
+            while (first.previous() != null) {
+                first = first.previous();
+            }
+
+            this.spans = new ArrayList<>();
+            final List<AbsoluteDate> dates = new ArrayList<>();
+            for (Span<S> span = first; span != null; span = span.next()) {
+                spans.add(span);
+                if (span.getEndTransition() != null) {
+                    dates.add(span.getEndTransition().getDate());
+                }
+            }
+
+            this.transitions   = dates.toArray(new AbsoluteDate[0]);
+            this.expungedEarly = expungedEarly;
+            this.expungedLate  = expungedLate;
+            this.hint          = 0;
+
+        }
+
+        /** Get the time span containing a specified date.
+         * @param date date belonging to the desired time span
+         * @return time span containing the specified date
+         */
+        Span<S> getSpan(final AbsoluteDate date) {
+
+            // safety check
+            if (date.isBefore(expungedEarly) || date.isAfter(expungedLate)) {
+                throw new OrekitException(OrekitMessages.EXPUNGED_SPAN, date);
+            }
+
+            final int guess = hint;
+            if (contains(guess, date)) {
+                return spans.get(guess);
+            }
+            if (contains(guess + 1, date)) {
+                hint = guess + 1;
+                return spans.get(guess + 1);
+            }
+
+            // binary search for the number of transitions before or at date
+            int low  = 0;
+            int high = transitions.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (transitions[mid].isAfter(date)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+
+            hint = low;
+            return spans.get(low);
+
+        }
+
+        /** Check if a span contains a date.
+         * @param index index of the span
+         * @param date date to check
+         * @return true if span at index exists and contains date
+         */
+        private boolean contains(final int index, final AbsoluteDate date) {
+            return index < spans.size() &&
+                   (index == 0 || !transitions[index - 1].isAfter(date)) &&
+                   (index == transitions.length || transitions[index].isAfter(date));
+        }
+
+    }
+
     /** Class holding transition times.
      * <p>
      * This data type is dual to {@link Span}, it is
@@ -739,6 +905,7 @@ public class TimeSpanMap<T> {
 
                 synchronized (map) {
                     // perform update
+                    map.invalidate();
                     date = newDate;
                     after = newAfter;
                     after.start = this;
@@ -771,6 +938,7 @@ public class TimeSpanMap<T> {
 
                 synchronized (map) {
                     // perform update
+                    map.invalidate();
                     date = newDate;
                     before = newBefore;
                     before.end = this;
@@ -0,0 +1,211 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider.NormalizedSphericalHarmonics;
+import org.orekit.frames.Frame;
+import org.orekit.frames.Transform;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScale;
+import org.orekit.utils.IERSConventions;
+
+public class DataContextSnapshotTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testTimeScalesAndFrames() throws IOException {
+        final DataContext original = DataContext.getDefault();
+        final DataContext restored = roundTrip(original, 0, 0);
+
+        final TimeScale utc1 = original.getTimeScales().getUTC();
+        final TimeScale utc2 = restored.getTimeScales().getUTC();
+        for (int year = 1965; year < 2020; year += 3) {
+            final AbsoluteDate date = new AbsoluteDate(year, 7, 1, original.getTimeScales().getTAI());
+            Assertions.assertEquals(utc1.offsetFromTAI(date), utc2.offsetFromTAI(date));
+        }
+
+        for (final IERSConventions conventions : IERSConventions.values()) {
+            final TimeScale ut11 = original.getTimeScales().getUT1(conventions, true);
+            final TimeScale ut12 = restored.getTimeScales().getUT1(conventions, true);
+            final Frame     itrf1 = original.getFrames().getITRF(conventions, false);
+            final Frame     itrf2 = restored.getFrames().getITRF(conventions, false);
+            for (double dt = 0; dt < 5 * 365 * 86400; dt += 7.5 * 86400) {
+                final AbsoluteDate date = new AbsoluteDate(2003, 1, 1, utc1).shiftedBy(dt);
+                Assertions.assertEquals(ut11.offsetFromTAI(date).toDouble(), ut12.offsetFromTAI(date).toDouble(), 1.0e-15);
+                final Transform t1 = itrf1.getTransformTo(original.getFrames().getGCRF(), date);
+                final Transform t2 = itrf2.getTransformTo(restored.getFrames().getGCRF(), date);
+                final Vector3D  p  = new Vector3D(6378136.3, 1000.0, 2000.0);
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(t1.transformPosition(p), t2.transformPosition(p)),
+                                        1.0e-9);
+            }
+        }
+
+    }
+
+    @Test
+    public void testGravityField() throws IOException {
+        final DataContext  original = DataContext.getDefault();
+        final AbsoluteDate date     = AbsoluteDate.J2000_EPOCH;
+        final DataContext  restored = roundTrip(original, 6, 4);
+
+        checkField(original.getGravityFields().getConstantNormalizedProvider(6, 4, date),
+                   restored.getGravityFields().getConstantNormalizedProvider(6, 4, date));
+        checkField(original.getGravityFields().getConstantNormalizedProvider(5, 3, date),
+                   restored.getGravityFields().getNormalizedProvider(5, 3));
+        Assertions.assertEquals(original.getGravityFields().getConstantUnnormalizedProvider(4, 4, date).
+                                onDate(date).getUnnormalizedCnm(4, 4),
+                                restored.getGravityFields().getUnnormalizedProvider(4, 4).
+                                onDate(date).getUnnormalizedCnm(4, 4),
+                                1.0e-20);
+
+        // requests beyond the snapshot are served by the fallback
+        final NormalizedSphericalHarmonicsProvider large =
+                        restored.getGravityFields().getConstantNormalizedProvider(8, 8, date);
+        Assertions.assertEquals(8, large.getMaxDegree());
+        checkField(original.getGravityFields().getConstantNormalizedProvider(8, 8, date), large);
+
+        // time-dependent fields and other freezing dates are served by the fallback,
+        // so drift and periodic terms are preserved far from the snapshot freezing date
+        final AbsoluteDate distant = new AbsoluteDate(2030, 1, 1, original.getTimeScales().getUTC());
+        final NormalizedSphericalHarmonicsProvider frozen   = restored.getGravityFields().getConstantNormalizedProvider(5, 3, date);
+        final NormalizedSphericalHarmonicsProvider variable = restored.getGravityFields().getNormalizedProvider(5, 3);
+        Assertions.assertNotEquals(frozen.onDate(distant).getNormalizedCnm(2, 0),
+                                   variable.onDate(distant).getNormalizedCnm(2, 0));
+        checkField(original.getGravityFields().getNormalizedProvider(5, 3), variable, distant);
+        checkField(original.getGravityFields().getConstantNormalizedProvider(6, 4, distant),
+                   restored.getGravityFields().getConstantNormalizedProvider(6, 4, distant), distant);
+        Assertions.assertEquals(original.getGravityFields().getUnnormalizedProvider(4, 4).
+                                onDate(distant).getUnnormalizedCnm(2, 0),
+                                restored.getGravityFields().getUnnormalizedProvider(4, 4).
+                                onDate(distant).getUnnormalizedCnm(2, 0),
+                                1.0e-20);
+
+    }
+
+    @Test
+    public void testFile() throws IOException {
+        final DataContext original = DataContext.getDefault();
+        final Path        path     = tempDir.resolve("context.snapshot");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            DataContextSnapshot.write(original, 4, 4, AbsoluteDate.J2000_EPOCH, out);
+        }
+        final DataContext restored = DataContextSnapshot.read(path, DataContext.getDefault().getDataProvidersManager());
+        final AbsoluteDate date = new AbsoluteDate(2005, 3, 4, original.getTimeScales().getUTC());
+        Assertions.assertEquals(original.getTimeScales().getUT1(IERSConventions.IERS_2010, false).offsetFromTAI(date).toDouble(),
+                                restored.getTimeScales().getUT1(IERSConventions.IERS_2010, false).offsetFromTAI(date).toDouble(),
+                                1.0e-15);
+        Assertions.assertEquals(original.getGravityFields().getConstantNormalizedProvider(4, 4, date).getMu(),
+                                restored.getGravityFields().getConstantNormalizedProvider(4, 4, date).getMu(),
+                                1.0e-20);
+    }
+
+    @Test
+    public void testWrongMagic() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.putLong(0x1234L).putInt(DataContextSnapshot.VERSION).flip();
+        try {
+            DataContextSnapshot.read(buffer, "dummy", new DataProvidersManager());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWrongVersion() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.putLong(DataContextSnapshot.MAGIC).putInt(DataContextSnapshot.VERSION + 1).flip();
+        try {
+            DataContextSnapshot.read(buffer, "dummy", new DataProvidersManager());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testTruncated() throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataContextSnapshot.write(DataContext.getDefault(), 4, 4, AbsoluteDate.J2000_EPOCH, bos);
+        final byte[] truncated = Arrays.copyOf(bos.toByteArray(), bos.size() - 17);
+        try {
+            DataContextSnapshot.read(new ByteArrayInputStream(truncated), "truncated", new DataProvidersManager());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.CORRUPTED_FILE, oe.getSpecifier());
+            Assertions.assertEquals("truncated", oe.getParts()[0]);
+        }
+    }
+
+    private DataContext roundTrip(final DataContext context, final int degree, final int order)
+        throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataContextSnapshot.write(context, degree, order, AbsoluteDate.J2000_EPOCH, bos);
+        return DataContextSnapshot.read(new ByteArrayInputStream(bos.toByteArray()), "snapshot",
+                                        DataContext.getDefault().getDataProvidersManager());
+    }
+
+    private void checkField(final NormalizedSphericalHarmonicsProvider expected,
+                            final NormalizedSphericalHarmonicsProvider actual) {
+        checkField(expected, actual, AbsoluteDate.J2000_EPOCH);
+    }
+
+    private void checkField(final NormalizedSphericalHarmonicsProvider expected,
+                            final NormalizedSphericalHarmonicsProvider actual,
+                            final AbsoluteDate date) {
+        Assertions.assertEquals(expected.getMaxDegree(),  actual.getMaxDegree());
+        Assertions.assertEquals(expected.getMaxOrder(),   actual.getMaxOrder());
+        Assertions.assertEquals(expected.getAe(),         actual.getAe(), 1.0e-20);
+        Assertions.assertEquals(expected.getMu(),         actual.getMu(), 1.0e-20);
+        Assertions.assertEquals(expected.getTideSystem(), actual.getTideSystem());
+        final NormalizedSphericalHarmonics h1 = expected.onDate(date);
+        final NormalizedSphericalHarmonics h2 = actual.onDate(date);
+        for (int n = 0; n <= expected.getMaxDegree(); ++n) {
+            for (int m = 0; m <= Math.min(n, expected.getMaxOrder()); ++m) {
+                Assertions.assertEquals(h1.getNormalizedCnm(n, m), h2.getNormalizedCnm(n, m), 1.0e-20);
+                Assertions.assertEquals(h1.getNormalizedSnm(n, m), h2.getNormalizedSnm(n, m), 1.0e-20);
+            }
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+    }
+
+}
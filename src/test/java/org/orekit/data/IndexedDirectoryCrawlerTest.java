@@ -0,0 +1,201 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+public class IndexedDirectoryCrawlerTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testNotADirectory() throws URISyntaxException {
+        final File file = resource("regular-data/UTC-TAI.history");
+        try {
+            new IndexedDirectoryCrawler(file);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_A_DIRECTORY, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testSameAsDirectoryCrawler() throws URISyntaxException {
+        final File root = resource("regular-data");
+        final DataProvidersManager manager = new DataProvidersManager();
+        final RecordingLoader reference = new RecordingLoader();
+        new DirectoryCrawler(root).feed(Pattern.compile(".*"), reference, manager);
+        final IndexedDirectoryCrawler crawler = new IndexedDirectoryCrawler(root);
+        for (int i = 0; i < 2; ++i) {
+            final RecordingLoader indexed = new RecordingLoader();
+            Assertions.assertTrue(crawler.feed(Pattern.compile(".*"), indexed, manager));
+            Assertions.assertEquals(reference.getNames(), indexed.getNames());
+            Assertions.assertEquals(reference.getSizes(), indexed.getSizes());
+        }
+    }
+
+    @Test
+    public void testIndexBuiltOnce() throws IOException, URISyntaxException {
+        final Path root = copy(resource("compressed-data"), tempDir.resolve("root"));
+        final IndexedDirectoryCrawler crawler = new IndexedDirectoryCrawler(root.toFile());
+        final int size = crawler.getIndex().size();
+        Assertions.assertSame(crawler.getIndex(), crawler.getIndex());
+
+        // new files are not seen until index is refreshed
+        Files.writeString(root.resolve("extra-file.txt"), "extra");
+        final RecordingLoader before = new RecordingLoader();
+        Assertions.assertFalse(crawler.feed(Pattern.compile("extra-.*"), before, new DataProvidersManager()));
+        crawler.refresh();
+        Assertions.assertEquals(size + 1, crawler.getIndex().size());
+        final RecordingLoader after = new RecordingLoader();
+        Assertions.assertTrue(crawler.feed(Pattern.compile("extra-.*"), after, new DataProvidersManager()));
+        Assertions.assertEquals(1, after.getNames().size());
+    }
+
+    @Test
+    public void testCache() throws IOException, URISyntaxException {
+
+        final Path root  = copy(resource("compressed-data"), tempDir.resolve("root"));
+        final Path cache = tempDir.resolve("cache");
+        final DataProvidersManager manager = new DataProvidersManager();
+
+        // reference without cache
+        final RecordingLoader reference = new RecordingLoader();
+        new DirectoryCrawler(root.toFile()).feed(Pattern.compile(".*"), reference, manager);
+
+        // first load fills the cache with decompressed data
+        final RecordingLoader first = new RecordingLoader();
+        new IndexedDirectoryCrawler(root.toFile(), cache.toFile()).feed(Pattern.compile(".*"), first, manager);
+        Assertions.assertEquals(reference.getSizes(), first.getSizes());
+        final List<Path> entries = list(cache);
+        Assertions.assertFalse(entries.isEmpty());
+        for (final Path entry : entries) {
+            Assertions.assertFalse(entry.getFileName().toString().endsWith(".tmp"));
+        }
+
+        // another crawler (as another process would do) reuses the cache
+        final RecordingLoader second = new RecordingLoader();
+        final IndexedDirectoryCrawler crawler = new IndexedDirectoryCrawler(root.toFile(), cache.toFile());
+        crawler.feed(Pattern.compile(".*"), second, manager);
+        Assertions.assertEquals(reference.getSizes(), second.getSizes());
+        Assertions.assertEquals(entries, list(cache));
+
+        // modifying a file creates a new cache entry
+        Files.copy(root.resolve("eopc04_08.01.gz"), root.resolve("eopc04_08.02.gz"),
+                   StandardCopyOption.REPLACE_EXISTING);
+        Assertions.assertTrue(root.resolve("eopc04_08.02.gz").toFile().setLastModified(0L));
+        final RecordingLoader third = new RecordingLoader();
+        crawler.feed(Pattern.compile("eopc04_08\\.0[12]"), third, manager);
+        Assertions.assertEquals(2, third.getSizes().size());
+        final List<Long> sizes = new ArrayList<>(third.getSizes().values());
+        Assertions.assertEquals(sizes.get(0), sizes.get(1));
+        Assertions.assertEquals(entries.size() + 1, list(cache).size());
+
+    }
+
+    @Test
+    public void testConcurrentFeed() throws URISyntaxException {
+
+        final DataProvidersManager manager = new DataProvidersManager();
+        manager.addProvider(new IndexedDirectoryCrawler(resource("compressed-data"), tempDir.toFile()));
+
+        final RecordingLoader utc = new RecordingLoader();
+        final RecordingLoader eop = new RecordingLoader();
+        final RecordingLoader none = new RecordingLoader();
+        final List<Boolean> status = manager.feed(Arrays.asList("^UTC-TAI\\.history$", "^eopc04.*$", "^inexistent$"),
+                                                  Arrays.asList(utc, eop, none), 3);
+        Assertions.assertEquals(Arrays.asList(true, true, false), status);
+        Assertions.assertEquals(1, utc.getNames().size());
+        Assertions.assertTrue(eop.getNames().size() > 5);
+        Assertions.assertTrue(none.getNames().isEmpty());
+        Assertions.assertEquals(utc.getNames().size() + eop.getNames().size(), manager.getLoadedDataNames().size());
+
+        try {
+            manager.feed(Collections.singletonList(".*"), Arrays.asList(utc, eop), 2);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(1, oe.getParts()[0]);
+            Assertions.assertEquals(2, oe.getParts()[1]);
+        }
+
+    }
+
+    private File resource(final String name) throws URISyntaxException {
+        return new File(getClass().getClassLoader().getResource(name).toURI().getPath());
+    }
+
+    private Path copy(final File source, final Path target) throws IOException {
+        Files.createDirectories(target);
+        for (final File file : source.listFiles()) {
+            Files.copy(file.toPath(), target.resolve(file.getName()));
+        }
+        return target;
+    }
+
+    private List<Path> list(final Path directory) throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.sorted().toList();
+        }
+    }
+
+    private static class RecordingLoader implements DataLoader {
+
+        private final Map<String, Long> sizes = new TreeMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        public boolean stillAcceptsData() {
+            return true;
+        }
+
+        public void loadData(final InputStream input, final String name) throws IOException {
+            final String shortName = new File(name).getName();
+            names.add(shortName);
+            sizes.put(shortName, (long) input.readAllBytes().length);
+        }
+
+        List<String> getNames() {
+            return names;
+        }
+
+        Map<String, Long> getSizes() {
+            return sizes;
+        }
+
+    }
+
+}
@@ -0,0 +1,163 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+public class PipeliningFilterTest {
+
+    @Test
+    public void testNotApplicable() {
+        final String     name = "regular-data/UTC-TAI.history";
+        final DataSource raw  = new DataSource(name, () -> Utils.class.getClassLoader().getResourceAsStream(name));
+        Assertions.assertSame(raw, new PipeliningFilter(new GzipFilter()).filter(raw));
+    }
+
+    @Test
+    public void testSameContent() throws IOException {
+        final String name = "regular-data/UTC-TAI.history";
+        final String direct = readAll(new TruncatingFilter(30).
+                                      filter(new DataSource(name, () -> Utils.class.getClassLoader().getResourceAsStream(name))));
+        for (final int blockSize : new int[] { 1, 7, 4096 }) {
+            final DataSource pipelined =
+                new PipeliningFilter(new TruncatingFilter(30), blockSize, 2).
+                filter(new DataSource(name, () -> Utils.class.getClassLoader().getResourceAsStream(name)));
+            Assertions.assertEquals(name + "-truncated-after-line-30", pipelined.getName());
+            Assertions.assertEquals(direct, readAll(pipelined));
+        }
+    }
+
+    @Test
+    public void testEarlyClose() throws IOException {
+        final String name = "regular-data/UTC-TAI.history";
+        final DataSource pipelined =
+            new PipeliningFilter(new TruncatingFilter(10000), 3, 1).
+            filter(new DataSource(name, () -> Utils.class.getClassLoader().getResourceAsStream(name)));
+        try (BufferedReader br = new BufferedReader(pipelined.getOpener().openReaderOnce())) {
+            Assertions.assertNotNull(br.readLine());
+        }
+    }
+
+    @Test
+    public void testUpstreamIOException() {
+        final DataFilter failing = original -> new DataSource(original.getName() + ".failing",
+                                                              () -> new FailingReader(new IOException("boo!")));
+        try {
+            readAll(new PipeliningFilter(failing).filter(new DataSource("dummy", () -> new StringReader(""))));
+            Assertions.fail("an exception should have been thrown");
+        } catch (IOException ioe) {
+            Assertions.assertEquals("boo!", ioe.getMessage());
+        }
+    }
+
+    @Test
+    public void testUpstreamOrekitException() throws IOException {
+        final DataFilter failing =
+            original -> new DataSource(original.getName() + ".failing",
+                                       () -> new FailingReader(new OrekitException(OrekitMessages.CORRUPTED_FILE, "dummy")));
+        try {
+            readAll(new PipeliningFilter(failing).filter(new DataSource("dummy", () -> new StringReader(""))));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.CORRUPTED_FILE, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void testUpstreamError() throws IOException {
+        // an Error in the producer thread must not leave the consumer waiting forever
+        final DataFilter failing =
+            original -> new DataSource(original.getName() + ".failing",
+                                       () -> new FailingReader(new StackOverflowError("deep!")));
+        try {
+            readAll(new PipeliningFilter(failing).filter(new DataSource("dummy", () -> new StringReader(""))));
+            Assertions.fail("an error should have been thrown");
+        } catch (StackOverflowError soe) {
+            Assertions.assertEquals("deep!", soe.getMessage());
+        }
+    }
+
+    @Test
+    public void testWrongSettings() {
+        try {
+            new PipeliningFilter(new GzipFilter(), 0, 4);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+        try {
+            new PipeliningFilter(new GzipFilter(), 4, 0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+    }
+
+    private String readAll(final DataSource source) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        try (Reader reader = source.getOpener().openReaderOnce()) {
+            final char[] buffer = new char[13];
+            for (int n = reader.read(buffer); n >= 0; n = reader.read(buffer)) {
+                builder.append(buffer, 0, n);
+            }
+        }
+        return builder.toString();
+    }
+
+    /** Reader providing a few characters and then failing. */
+    private static class FailingReader extends Reader {
+
+        private final Throwable failure;
+        private int count;
+
+        FailingReader(final Throwable failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public int read(final char[] b, final int offset, final int len) throws IOException {
+            if (count++ < 3) {
+                b[offset] = 'x';
+                return 1;
+            }
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw (RuntimeException) failure;
+        }
+
+        @Override
+        public void close() {
+            // nothing to do
+        }
+
+    }
+
+}
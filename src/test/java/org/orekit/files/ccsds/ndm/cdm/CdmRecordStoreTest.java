@@ -0,0 +1,256 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.ccsds.ndm.cdm;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.Utils;
+import org.orekit.data.DataSource;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+
+class CdmRecordStoreTest {
+
+    @TempDir
+    Path temporaryFolder;
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data");
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+
+        final Path path = temporaryFolder.resolve("round-trip.cdms");
+        final String ex = "/ccsds/cdm/CDMExample2.txt";
+        final CdmRecord[] original = new CdmRecord[1];
+        new StreamingCdmReader().read(new DataSource(ex, () -> getClass().getResourceAsStream(ex)),
+                                      r -> original[0] = r);
+
+        try (CdmRecordStore store = new CdmRecordStore(path)) {
+            Assertions.assertEquals(path, store.getPath());
+            Assertions.assertEquals(0, store.append(original[0]));
+            checkSame(original[0], store.get(0));
+        }
+
+        // reopen the store
+        try (CdmRecordStore store = new CdmRecordStore(path)) {
+            Assertions.assertEquals(1, store.size());
+            checkSame(original[0], store.get(0));
+            Assertions.assertEquals(List.of("12345", "30337"), store.getDesignators());
+        }
+
+    }
+
+    @Test
+    void testQueries() throws IOException {
+
+        final Path path = temporaryFolder.resolve("queries.cdms");
+        final AbsoluteDate t0 = new AbsoluteDate(2024, 3, 1, TimeScalesFactory.getUTC());
+        try (CdmRecordStore store = new CdmRecordStore(path)) {
+            // primary "A" against three secondaries, in non-chronological order
+            for (int i = 0; i < 30; ++i) {
+                final int k = (7 * i) % 30;
+                store.append(buildRecord("M-" + i, t0.shiftedBy(3600.0 * k), 100.0 * k,
+                                         "A", "B" + (i % 3)));
+            }
+
+            Assertions.assertEquals(30, store.select("A").size());
+            Assertions.assertEquals(10, store.select("B1").size());
+            Assertions.assertTrue(store.select("C").isEmpty());
+
+            // time window
+            final List<CdmRecord> window = store.select(t0.shiftedBy(3600.0 * 5), t0.shiftedBy(3600.0 * 9));
+            Assertions.assertEquals(5, window.size());
+            for (int i = 1; i < window.size(); ++i) {
+                Assertions.assertTrue(window.get(i).getTca().isAfter(window.get(i - 1).getTca()));
+            }
+
+            // combined query
+            final List<CdmRecord> combined = store.select("B2", t0, t0.shiftedBy(3600.0 * 29), 1500.0);
+            for (final CdmRecord cdmRecord : combined) {
+                Assertions.assertTrue(cdmRecord.involves("B2"));
+                Assertions.assertTrue(cdmRecord.getMissDistance() <= 1500.0);
+            }
+            Assertions.assertEquals(5, combined.size());
+        }
+
+        // indices are rebuilt when store is reopened, and new records can be appended
+        try (CdmRecordStore store = new CdmRecordStore(path)) {
+            Assertions.assertEquals(30, store.size());
+            Assertions.assertEquals(5, store.select("B2", t0, t0.shiftedBy(3600.0 * 29), 1500.0).size());
+            store.append(buildRecord("M-30", t0.shiftedBy(-3600.0), 50.0, "B2", "D"));
+            final List<CdmRecord> history = store.select("B2");
+            Assertions.assertEquals(11, history.size());
+            Assertions.assertEquals("M-30", history.get(0).getMessageId());
+            Assertions.assertEquals(1, store.select("D").size());
+        }
+
+    }
+
+    @Test
+    void testErrors() throws IOException {
+
+        final Path path = temporaryFolder.resolve("errors.cdms");
+        final AbsoluteDate t0 = new AbsoluteDate(2024, 3, 1, TimeScalesFactory.getUTC());
+        try (CdmRecordStore store = new CdmRecordStore(path)) {
+            store.append(buildRecord("M-0", t0, 100.0, "A", "B"));
+            try {
+                store.append(buildRecord("M-1", t0, 100.0, "A-VERY-LONG-DESIGNATOR-WHICH-DOES-NOT-FIT", "B"));
+                Assertions.fail("an exception should have been thrown");
+            } catch (OrekitException oe) {
+                Assertions.assertEquals(OrekitMessages.FIELD_TOO_LONG, oe.getSpecifier());
+            }
+            Assertions.assertEquals(1, store.size());
+            try {
+                store.get(1);
+                Assertions.fail("an exception should have been thrown");
+            } catch (OrekitException oe) {
+                Assertions.assertEquals(1, ((Integer) oe.getParts()[0]).intValue());
+            }
+        }
+
+        // inconsistent record size
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 17), Long.BYTES + Integer.BYTES);
+        }
+        checkOpenError(path, OrekitMessages.CORRUPTED_FILE);
+
+        // not a store
+        final Path other = temporaryFolder.resolve("other.cdms");
+        Files.writeString(other, "CCSDS_CDM_VERS = 1.0 this is a CDM, not a store");
+        checkOpenError(other, OrekitMessages.UNSUPPORTED_FILE_FORMAT);
+
+        // unsupported version
+        final Path version = temporaryFolder.resolve("version.cdms");
+        new CdmRecordStore(version).close();
+        try (FileChannel channel = FileChannel.open(version, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 99), Long.BYTES);
+        }
+        checkOpenError(version, OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION);
+
+    }
+
+    @Test
+    void testInterruptedAppend() throws IOException {
+
+        final Path path = temporaryFolder.resolve("interrupted.cdms");
+        final AbsoluteDate t0 = new AbsoluteDate(2024, 3, 1, TimeScalesFactory.getUTC());
+        final CdmRecord r0 = buildRecord("M-0", t0, 100.0, "A", "B");
+        final CdmRecord r1 = buildRecord("M-1", t0.shiftedBy(60.0), 200.0, "A", "C");
+        final CdmRecord r2 = buildRecord("M-2", t0.shiftedBy(120.0), 300.0, "B", "C");
+        try (CdmRecordStore store = new CdmRecordStore(path)) {
+            store.append(r0);
+            store.append(r1);
+            store.append(r2);
+        }
+
+        // simulate a crash in the middle of the last append
+        final long fullSize   = Files.size(path);
+        final long headerSize = Files.size(emptyStore());
+        final long recordSize = (fullSize - headerSize) / 3;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(fullSize - recordSize / 2);
+        }
+
+        // the partial record is discarded, previous records are intact
+        try (CdmRecordStore store = new CdmRecordStore(path)) {
+            Assertions.assertEquals(2, store.size());
+            Assertions.assertEquals(fullSize - recordSize, Files.size(path));
+            checkSame(r0, store.get(0));
+            checkSame(r1, store.get(1));
+            Assertions.assertEquals(2, store.select("A").size());
+            Assertions.assertEquals(1, store.select("B").size());
+
+            // the store can be appended to again
+            Assertions.assertEquals(2, store.append(r2));
+        }
+
+        try (CdmRecordStore store = new CdmRecordStore(path)) {
+            Assertions.assertEquals(3, store.size());
+            Assertions.assertEquals(fullSize, Files.size(path));
+            checkSame(r2, store.get(2));
+            Assertions.assertEquals(2, store.select("B").size());
+        }
+
+    }
+
+    private Path emptyStore() throws IOException {
+        final Path empty = temporaryFolder.resolve("empty.cdms");
+        new CdmRecordStore(empty).close();
+        return empty;
+    }
+
+    private void checkOpenError(final Path path, final OrekitMessages expected) throws IOException {
+        try {
+            new CdmRecordStore(path).close();
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(expected, oe.getSpecifier());
+        }
+    }
+
+    private CdmRecord buildRecord(final String messageId, final AbsoluteDate tca, final double missDistance,
+                                  final String designator1, final String designator2) {
+        final double[] covariance = new double[CdmObjectRecord.COVARIANCE_SIZE];
+        for (int i = 0; i < covariance.length; ++i) {
+            covariance[i] = i + missDistance;
+        }
+        return new CdmRecord(messageId, tca, missDistance, 14000.0,
+                             new double[] { 1.0, 2.0, 3.0, 4.0, 5.0, 6.0 }, Double.NaN,
+                             new CdmObjectRecord(designator1, "EME2000",
+                                                 new double[] { 7.0e6, 0.0, 0.0, 0.0, 7.5e3, 0.0 }, covariance),
+                             new CdmObjectRecord(designator2, "ITRF",
+                                                 new double[] { 7.0e6, 1.0, 0.0, 0.0, 0.0, 7.5e3 }, covariance));
+    }
+
+    private void checkSame(final CdmRecord expected, final CdmRecord actual) {
+        Assertions.assertEquals(expected.getMessageId(), actual.getMessageId());
+        Assertions.assertEquals(expected.getTca(), actual.getTca());
+        Assertions.assertEquals(expected.getMissDistance(), actual.getMissDistance(), 0.0);
+        Assertions.assertEquals(expected.getRelativeSpeed(), actual.getRelativeSpeed(), 0.0);
+        Assertions.assertEquals(expected.getCollisionProbability(), actual.getCollisionProbability(), 0.0);
+        for (int i = 0; i < 6; ++i) {
+            Assertions.assertEquals(expected.getRelativeStateElement(i), actual.getRelativeStateElement(i), 0.0);
+        }
+        checkSame(expected.getObject1(), actual.getObject1());
+        checkSame(expected.getObject2(), actual.getObject2());
+    }
+
+    private void checkSame(final CdmObjectRecord expected, final CdmObjectRecord actual) {
+        Assertions.assertEquals(expected.getDesignator(), actual.getDesignator());
+        Assertions.assertEquals(expected.getRefFrame(), actual.getRefFrame());
+        Assertions.assertArrayEquals(expected.getState(), actual.getState(), 0.0);
+        for (int i = 0; i < CdmObjectRecord.COVARIANCE_SIZE; ++i) {
+            Assertions.assertEquals(expected.getCovarianceElement(i), actual.getCovarianceElement(i), 0.0);
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.ccsds.ndm.cdm;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.data.DataSource;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.files.ccsds.ndm.ParserBuilder;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.Orbit;
+import org.orekit.ssa.collision.shorttermencounter.probability.twod.Patera2005;
+import org.orekit.utils.Constants;
+
+class StreamingCdmReaderTest {
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data");
+    }
+
+    @Test
+    void testSameAsParser() {
+        for (final String name : new String[] { "CDMExample1.txt", "CDMExample2.txt", "CDMExample3.txt",
+                                                "CDMExample4.txt", "CDMExample5.txt" }) {
+            final String ex = "/ccsds/cdm/" + name;
+            final Cdm cdm = new ParserBuilder().buildCdmParser().
+                            parseMessage(new DataSource(ex, () -> getClass().getResourceAsStream(ex)));
+            final List<CdmRecord> records = new ArrayList<>();
+            Assertions.assertEquals(1,
+                                    new StreamingCdmReader().
+                                    read(new DataSource(ex, () -> getClass().getResourceAsStream(ex)), records::add));
+            checkRecord(cdm, records.get(0));
+        }
+    }
+
+    @Test
+    void testOptionalRelativeData() {
+        final String ex = "/ccsds/cdm/CDMExample2.txt";
+        final List<CdmRecord> records = new ArrayList<>();
+        new StreamingCdmReader().read(new DataSource(ex, () -> getClass().getResourceAsStream(ex)), records::add);
+        final CdmRecord cdmRecord = records.get(0);
+        Assertions.assertEquals("201113719185", cdmRecord.getMessageId());
+        Assertions.assertEquals(14762.0,   cdmRecord.getRelativeSpeed(),            1.0e-10);
+        Assertions.assertEquals(27.4,      cdmRecord.getRelativePosition().getX(),  1.0e-10);
+        Assertions.assertEquals(-1437.2,   cdmRecord.getRelativeVelocity().getZ(),  1.0e-10);
+        Assertions.assertEquals(4.835e-05, cdmRecord.getCollisionProbability(),     1.0e-15);
+        Assertions.assertTrue(cdmRecord.involves("12345"));
+        Assertions.assertTrue(cdmRecord.involves("30337"));
+        Assertions.assertFalse(cdmRecord.involves("99999"));
+    }
+
+    @Test
+    void testConcatenatedMessages() throws IOException {
+        final byte[] concatenated = concatenate("/ccsds/cdm/CDMExample1.txt", "/ccsds/cdm/CDMExample2.txt",
+                                                "/ccsds/cdm/CDMExample3.txt");
+        final List<CdmRecord> records = new ArrayList<>();
+        final int count = new StreamingCdmReader().
+                          read(new DataSource("concatenated", () -> new ByteArrayInputStream(concatenated)),
+                               records::add);
+        Assertions.assertEquals(3, count);
+        Assertions.assertEquals(3, records.size());
+        Assertions.assertTrue(Double.isNaN(records.get(0).getCollisionProbability()));
+        Assertions.assertEquals(4.835e-05, records.get(1).getCollisionProbability(), 1.0e-15);
+    }
+
+    @Test
+    void testUnitsConversion() {
+        final String kvn = "CCSDS_CDM_VERS = 1.0\n" +
+                           "TCA = 2010-03-13T22:37:52.618\n" +
+                           "MISS_DISTANCE = 0.715 [km]\n" +
+                           "OBJECT = OBJECT1\n" +
+                           "OBJECT_DESIGNATOR = 12345\n" +
+                           "X = 2570097.065 [m]\n" +
+                           "X_DOT = 4.418769571\n" +
+                           "OBJECT = OBJECT2\n" +
+                           "OBJECT_DESIGNATOR = 30337\n" +
+                           "CR_R = 1.337E+03 [m**2]\n";
+        final List<CdmRecord> records = new ArrayList<>();
+        new StreamingCdmReader().read(new DataSource("units", () -> toStream(kvn)), records::add);
+        final CdmRecord cdmRecord = records.get(0);
+        Assertions.assertEquals(715.0, cdmRecord.getMissDistance(), 1.0e-10);
+        Assertions.assertEquals(2570097.065, cdmRecord.getObject1().getPosition().getX(), 1.0e-10);
+        Assertions.assertEquals(4418.769571, cdmRecord.getObject1().getVelocity().getX(), 1.0e-10);
+        Assertions.assertTrue(Double.isNaN(cdmRecord.getObject1().getPosition().getY()));
+        Assertions.assertEquals(1337.0, cdmRecord.getObject2().getCovarianceElement(0), 1.0e-10);
+        Assertions.assertNull(cdmRecord.getMessageId());
+        Assertions.assertNull(cdmRecord.getObject2().getRefFrame());
+    }
+
+    @Test
+    void testErrors() {
+        checkError("CCSDS_CDM_VERS = 1.0\nMISS_DISTANCE = 715 [m]\n",
+                   OrekitMessages.CCSDS_MISSING_KEYWORD);
+        checkError("CCSDS_CDM_VERS = 1.0\nTCA = 2010-03-13T22:37:52.618\nMISS_DISTANCE = 715 [s]\n",
+                   OrekitMessages.INCOMPATIBLE_UNITS);
+        checkError("CCSDS_CDM_VERS = 1.0\nTCA = 2010-03-13T22:37:52.618\nMISS_DISTANCE = abc [m]\n",
+                   OrekitMessages.UNABLE_TO_PARSE_LINE_IN_FILE);
+        checkError("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<cdm>\n",
+                   OrekitMessages.UNSUPPORTED_FILE_FORMAT);
+        try {
+            new StreamingCdmReader().read(new DataSource("missing", (DataSource.StreamOpener) () -> null), r -> Assertions.fail());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNABLE_TO_FIND_FILE, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    void testRecomputeProbabilityOfCollision() {
+        final String ex = "/ccsds/cdm/CDMExample1.txt";
+        final Cdm cdm = new ParserBuilder().buildCdmParser().
+                        parseMessage(new DataSource(ex, () -> getClass().getResourceAsStream(ex)));
+        final List<CdmRecord> records = new ArrayList<>();
+        new StreamingCdmReader().read(new DataSource(ex, () -> getClass().getResourceAsStream(ex)), records::add);
+        final CdmRecord cdmRecord = records.get(0);
+
+        final double mu = Constants.WGS84_EARTH_MU;
+        final Orbit primary   = cdmRecord.getObject1().getOrbit(FramesFactory.getEME2000(), FramesFactory.getGCRF(),
+                                                                cdmRecord.getTca(), mu);
+        final Orbit secondary = cdmRecord.getObject2().getOrbit(FramesFactory.getEME2000(), FramesFactory.getGCRF(),
+                                                                cdmRecord.getTca(), mu);
+
+        final Patera2005 method = new Patera2005();
+        Assertions.assertEquals(method.compute(cdm, 10.0).getValue(),
+                                method.compute(primary, cdmRecord.getObject1().getStateCovariance(cdmRecord.getTca()),
+                                               secondary, cdmRecord.getObject2().getStateCovariance(cdmRecord.getTca()),
+                                               10.0, 1.0e-15).getValue(),
+                                1.0e-15);
+    }
+
+    private void checkRecord(final Cdm cdm, final CdmRecord cdmRecord) {
+        Assertions.assertEquals(0.0, cdm.getRelativeMetadata().getTca().durationFrom(cdmRecord.getTca()), 1.0e-15);
+        Assertions.assertEquals(cdm.getRelativeMetadata().getMissDistance(), cdmRecord.getMissDistance(), 1.0e-10);
+        checkObject(cdm.getMetadataObject1(), cdm.getDataObject1(), cdmRecord.getObject1());
+        checkObject(cdm.getMetadataObject2(), cdm.getDataObject2(), cdmRecord.getObject2());
+    }
+
+    private void checkObject(final CdmMetadata metadata, final CdmData data, final CdmObjectRecord object) {
+        Assertions.assertEquals(metadata.getObjectDesignator(), object.getDesignator());
+        Assertions.assertEquals(metadata.getRefFrame().getName(), object.getRefFrame());
+        Assertions.assertEquals(0.0,
+                                data.getStateVectorBlock().getPositionVector().distance(object.getPosition()),
+                                1.0e-9);
+        Assertions.assertEquals(0.0,
+                                data.getStateVectorBlock().getVelocityVector().distance(object.getVelocity()),
+                                1.0e-12);
+        final RealMatrix expected = data.getRTNCovarianceBlock().getRTNCovarianceMatrix().getSubMatrix(0, 5, 0, 5);
+        final RealMatrix actual   = object.getRTNCovarianceMatrix();
+        for (int i = 0; i < 6; ++i) {
+            for (int j = 0; j < 6; ++j) {
+                Assertions.assertEquals(expected.getEntry(i, j), actual.getEntry(i, j),
+                                        1.0e-15 * FastMath.abs(expected.getEntry(i, j)));
+            }
+        }
+    }
+
+    private void checkError(final String kvn, final OrekitMessages expected) {
+        try {
+            new StreamingCdmReader().read(new DataSource("error", () -> toStream(kvn)), r -> { });
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(expected, oe.getSpecifier());
+        }
+    }
+
+    private InputStream toStream(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] concatenate(final String... names) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        for (final String name : names) {
+            try (InputStream is = getClass().getResourceAsStream(name)) {
+                builder.append(new String(is.readAllBytes(), StandardCharsets.UTF_8)).append('\n');
+            }
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -49,6 +49,7 @@ import org.orekit.files.ccsds.definitions.FrameFacade;
 import org.orekit.files.ccsds.definitions.OrbitRelativeFrame;
 import org.orekit.files.ccsds.ndm.ParserBuilder;
 import org.orekit.files.ccsds.ndm.odm.CartesianCovariance;
+import org.orekit.files.ccsds.ndm.odm.OdmHeader;
 import org.orekit.frames.FactoryManagedFrame;
 import org.orekit.frames.Frame;
 import org.orekit.frames.FramesFactory;
@@ -633,6 +634,54 @@ public class OemParserTest {
         }
     }
 
+    @Test
+    public void testStreamSegments() {
+        final String ex = "/ccsds/odm/oem/OEMExample3.txt";
+        final OemParser parser  = new ParserBuilder().withMu(CelestialBodyFactory.getMars().getGM()).buildOemParser();
+        final Oem       file    = parser.parseMessage(new DataSource(ex, () -> getClass().getResourceAsStream(ex)));
+        final List<OemSegment> streamed = new ArrayList<>();
+        final OdmHeader header = parser.stream(new DataSource(ex, () -> getClass().getResourceAsStream(ex)),
+                                               streamed::add);
+        Assertions.assertEquals(file.getHeader().getOriginator(), header.getOriginator());
+        Assertions.assertEquals(file.getSegments().size(), streamed.size());
+        for (int i = 0; i < streamed.size(); ++i) {
+            final List<TimeStampedPVCoordinates> expected = file.getSegments().get(i).getCoordinates();
+            final List<TimeStampedPVCoordinates> actual   = streamed.get(i).getCoordinates();
+            Assertions.assertEquals(expected.size(), actual.size());
+            for (int j = 0; j < expected.size(); ++j) {
+                Assertions.assertEquals(expected.get(j).getDate(), actual.get(j).getDate());
+                Assertions.assertEquals(0.0, Vector3D.distance(expected.get(j).getPosition(),
+                                                               actual.get(j).getPosition()), 0.0);
+                Assertions.assertEquals(0.0, Vector3D.distance(expected.get(j).getVelocity(),
+                                                               actual.get(j).getVelocity()), 0.0);
+            }
+        }
+
+        // parser can still be used in regular mode afterwards
+        Assertions.assertEquals(file.getSegments().size(),
+                                parser.parseMessage(new DataSource(ex, () -> getClass().getResourceAsStream(ex))).
+                                getSegments().size());
+
+    }
+
+    @Test
+    public void testStreamInconsistentTimeSystems() {
+        final String ex = "/ccsds/odm/oem/OEM-inconsistent-time-systems.txt";
+        final List<OemSegment> streamed = new ArrayList<>();
+        try {
+            new ParserBuilder().
+            withMu(CelestialBodyFactory.getMars().getGM()).
+            buildOemParser().
+            stream(new DataSource(ex, () -> getClass().getResourceAsStream(ex)), streamed::add);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.CCSDS_INCONSISTENT_TIME_SYSTEMS, oe.getSpecifier());
+            Assertions.assertEquals("UTC", oe.getParts()[0]);
+            Assertions.assertEquals("TCG", oe.getParts()[1]);
+            Assertions.assertFalse(streamed.isEmpty());
+        }
+    }
+
     @Test
     public void testLowerCaseValue() {
         //setup
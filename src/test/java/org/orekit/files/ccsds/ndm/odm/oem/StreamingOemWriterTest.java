@@ -17,11 +17,15 @@
 package org.orekit.files.ccsds.ndm.odm.oem;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
@@ -37,10 +41,14 @@ import org.orekit.bodies.GeodeticPoint;
 import org.orekit.bodies.OneAxisEllipsoid;
 import org.orekit.data.DataContext;
 import org.orekit.data.DataSource;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.files.ccsds.definitions.BodyFacade;
 import org.orekit.files.ccsds.definitions.CelestialBodyFrame;
 import org.orekit.files.ccsds.definitions.CenterName;
 import org.orekit.files.ccsds.definitions.FrameFacade;
 import org.orekit.files.ccsds.definitions.ModifiedFrame;
+import org.orekit.files.ccsds.definitions.OrekitCcsdsFrameMapper;
 import org.orekit.files.ccsds.definitions.TimeSystem;
 import org.orekit.files.ccsds.ndm.ParsedUnitsBehavior;
 import org.orekit.files.ccsds.ndm.ParserBuilder;
@@ -48,12 +56,19 @@ import org.orekit.files.ccsds.ndm.WriterBuilder;
 import org.orekit.files.ccsds.ndm.odm.OdmHeader;
 import org.orekit.files.ccsds.utils.generation.Generator;
 import org.orekit.files.ccsds.utils.generation.KvnGenerator;
+import org.orekit.files.ccsds.utils.generation.XmlGenerator;
 import org.orekit.frames.Frame;
 import org.orekit.frames.FramesFactory;
 import org.orekit.frames.TopocentricFrame;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.PositionAngleType;
 import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.analytical.KeplerianPropagator;
 import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.AccurateFormatter;
 import org.orekit.utils.Constants;
+import org.orekit.utils.Formatter;
 import org.orekit.utils.IERSConventions;
 import org.orekit.utils.TimeStampedPVCoordinates;
 
@@ -264,6 +279,89 @@ public class StreamingOemWriterTest {
                         "\n2017-04-11T22:31:43.121856 -2757.3016318855234 -4173.47960139054 4566.018498013474 6.625901653955907 -1.0118172088819106 3.0698336591485442\n"));
     }
 
+    @Test
+    public void testParallelFormattingKvn() throws Exception {
+        final String sequential = writeTwoSegments(1, false);
+        final String parallel   = writeTwoSegments(4, false);
+        Assertions.assertTrue(sequential.length() > 1000000);
+        Assertions.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void testParallelFormattingXml() throws Exception {
+        // XML output is always formatted sequentially
+        Assertions.assertEquals(writeTwoSegments(1, true), writeTwoSegments(4, true));
+    }
+
+    @Test
+    public void testParallelFormattingCustomFormatter() throws Exception {
+        // custom formatters may not be thread-safe, they are always called from the step handler thread
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final Formatter recording = new AccurateFormatter() {
+            @Override
+            public String toString(final double value) {
+                threads.add(Thread.currentThread());
+                return super.toString(value);
+            }
+        };
+        Assertions.assertEquals(writeTwoSegments(1, false), writeTwoSegments(4, false, recording));
+        Assertions.assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void testWrongNumberOfThreads() {
+        try {
+            new StreamingOemWriter(new KvnGenerator(new StringBuilder(), OemWriter.KVN_PADDING_WIDTH, "out",
+                                                    Constants.JULIAN_DAY, 0),
+                                   new WriterBuilder().buildOemWriter(),
+                                   null, new OemMetadata(1, null), false, true, 0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+            Assertions.assertEquals(0, oe.getParts()[0]);
+        }
+    }
+
+    private String writeTwoSegments(final int threads, final boolean xml) throws IOException {
+        return writeTwoSegments(threads, xml, new AccurateFormatter());
+    }
+
+    private String writeTwoSegments(final int threads, final boolean xml, final Formatter formatter) throws IOException {
+
+        final Frame        eme2000 = FramesFactory.getEME2000();
+        final AbsoluteDate t0      = new AbsoluteDate(2024, 3, 17, 10, 20, 30.125, TimeScalesFactory.getUTC());
+        final KeplerianOrbit orbit = new KeplerianOrbit(7200000.0, 0.01, 1.7, 0.3, 0.4, 0.5, PositionAngleType.MEAN,
+                                                        eme2000, t0, Constants.EIGEN5C_EARTH_MU);
+
+        final OdmHeader header = new OdmHeader();
+        header.setOriginator("ORE");
+        header.setCreationDate(t0);
+        final OemMetadata metadata = new OemMetadata(1, new OrekitCcsdsFrameMapper());
+        metadata.setObjectName("parallel");
+        metadata.setObjectID("2024-001A");
+        metadata.setTimeSystem(TimeSystem.UTC);
+        metadata.setCenter(new BodyFacade("EARTH", CelestialBodyFactory.getEarth()));
+        metadata.setReferenceFrame(FrameFacade.map(eme2000));
+
+        final StringBuilder buffer = new StringBuilder();
+        final Generator generator = xml ?
+                                    new XmlGenerator(buffer, 2, "out", Constants.JULIAN_DAY, true,
+                                                     XmlGenerator.NDM_XML_V3_SCHEMA_LOCATION, formatter) :
+                                    new KvnGenerator(buffer, OemWriter.KVN_PADDING_WIDTH, "out",
+                                                     Constants.JULIAN_DAY, 0, formatter);
+        try (StreamingOemWriter writer = new StreamingOemWriter(generator, new WriterBuilder().buildOemWriter(),
+                                                                header, metadata, false, true, threads)) {
+            final KeplerianPropagator propagator = new KeplerianPropagator(orbit);
+            // first segment spans many batches, second one is shorter than a batch
+            propagator.setStepHandler(7.5, writer.newSegment());
+            propagator.propagate(t0, t0.shiftedBy(Constants.JULIAN_DAY));
+            propagator.setStepHandler(60.0, writer.newSegment());
+            propagator.propagate(t0.shiftedBy(2 * Constants.JULIAN_DAY), t0.shiftedBy(2 * Constants.JULIAN_DAY + 3600.0));
+        }
+        return buffer.toString();
+
+    }
+
     private static void compareOemEphemerisBlocks(OemSegment block1,
                                                   OemSegment block2,
                                                   double p_tol,
@@ -0,0 +1,56 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.ccsds.utils.lexical;
+
+import java.util.regex.Pattern;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ParseTokenTest {
+
+    @Test
+    public void testRawContentFields() {
+        checkFields("2020-01-01T00:00:00.000 1.0 -2.5e3\t4.0");
+        checkFields("   leading and trailing blanks   ");
+        checkFields("single");
+        checkFields("");
+        checkFields(" \t ");
+        checkFields("a\u000Bb\fc\r\nd");
+    }
+
+    @Test
+    public void testRandomRawContentFields() {
+        final RandomGenerator random = new Well19937a(0x5d2c9e4b7a1f3086L);
+        final char[] alphabet = new char[] { ' ', '\t', '\u000B', '\f', '\r', '\n', '\u0001', 'x', '1', '.', '-', 'E' };
+        for (int i = 0; i < 2000; ++i) {
+            final char[] content = new char[random.nextInt(40)];
+            for (int j = 0; j < content.length; ++j) {
+                content[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            checkFields(new String(content));
+        }
+    }
+
+    private void checkFields(final String content) {
+        final ParseToken token = new ParseToken(TokenType.RAW_LINE, null, content, null, 1, "dummy");
+        Assertions.assertArrayEquals(Pattern.compile("\\s+").split(content.trim()), token.getRawContentFields());
+    }
+
+}
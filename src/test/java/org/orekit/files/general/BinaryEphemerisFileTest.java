@@ -0,0 +1,251 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.general;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.Utils;
+import org.orekit.data.DataContext;
+import org.orekit.data.DataSource;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.files.ccsds.ndm.ParserBuilder;
+import org.orekit.files.ccsds.ndm.odm.oem.Oem;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+public class BinaryEphemerisFileTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+    }
+
+    @Test
+    public void testOrekitEphemerisRoundTrip() {
+
+        final OrekitEphemerisFile file = new OrekitEphemerisFile();
+        final AbsoluteDate start = new AbsoluteDate(2004, 1, 1, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        final OrekitEphemerisFile.OrekitSatelliteEphemeris sat1 = file.addSatellite("sat-1");
+        sat1.addNewSegment(states(FramesFactory.getEME2000(), start, 0.0, 3600.0, 60.0), 8);
+        sat1.addNewSegment(states(FramesFactory.getGCRF(), start, 3600.0, 7200.0, 45.0), 5);
+        final OrekitEphemerisFile.OrekitSatelliteEphemeris sat2 = file.addSatellite("sat-2");
+        sat2.addNewSegment(states(FramesFactory.getEME2000(), start.shiftedBy(1.0e-9), 0.0, 86400.0, 10.0), 6);
+
+        final Path path = tempDir.resolve("orekit.bin");
+        new BinaryEphemerisFileWriter().write(path, file);
+        final BinaryEphemerisFile binary =
+                        BinaryEphemerisFile.open(path, BinaryEphemerisFile.predefinedFrames(DataContext.getDefault().getFrames()));
+
+        checkSame(file, binary);
+
+    }
+
+    @Test
+    public void testOemRoundTrip() {
+
+        final String ex = "/ccsds/odm/oem/OEMExample5.txt";
+        final DataSource source = new DataSource(ex, () -> getClass().getResourceAsStream(ex));
+        final Oem oem = new ParserBuilder().buildOemParser().parseMessage(source);
+
+        final Map<String, Frame> frames = new HashMap<>();
+        oem.getSatellites().values().forEach(s -> s.getSegments().forEach(g -> frames.put(g.getFrame().getName(), g.getFrame())));
+
+        final Path path = tempDir.resolve("oem.bin");
+        new BinaryEphemerisFileWriter().write(path, oem);
+        final BinaryEphemerisFile binary = BinaryEphemerisFile.open(path, frames::get);
+
+        checkSame(oem, binary);
+
+    }
+
+    @Test
+    public void testLazyCoordinates() {
+
+        final OrekitEphemerisFile file = new OrekitEphemerisFile();
+        final AbsoluteDate start = new AbsoluteDate(2004, 1, 1, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        final List<SpacecraftState> states = states(FramesFactory.getEME2000(), start, 0.0, 864000.0, 1.0);
+        file.addSatellite("dense").addNewSegment(states, 4);
+
+        final Path path = tempDir.resolve("dense.bin");
+        new BinaryEphemerisFileWriter().write(path, file);
+        final BinaryEphemerisFile.BinaryEphemerisSegment segment =
+                        BinaryEphemerisFile.open(path, BinaryEphemerisFile.predefinedFrames(DataContext.getDefault().getFrames())).
+                        getSatellites().get("dense").getSegments().getFirst();
+
+        final List<TimeStampedPVCoordinates> coordinates = segment.getCoordinates();
+        Assertions.assertEquals(states.size(), coordinates.size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> coordinates.removeFirst());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> coordinates.get(states.size()));
+        final int index = 654321;
+        Assertions.assertEquals(0.0, coordinates.get(index).getDate().durationFrom(states.get(index).getDate()), 0.0);
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(coordinates.get(index).getPosition(), states.get(index).getPosition()),
+                                0.0);
+
+        final BoundedPropagator propagator = segment.getPropagator();
+        final AbsoluteDate date = start.shiftedBy(765432.25);
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(file.getSatellites().get("dense").getSegments().getFirst().getPropagator().
+                                                  getPosition(date, FramesFactory.getEME2000()),
+                                                  propagator.getPosition(date, FramesFactory.getEME2000())),
+                                0.0);
+
+    }
+
+    @Test
+    public void testErrors() throws IOException {
+
+        final OrekitEphemerisFile file = new OrekitEphemerisFile();
+        final AbsoluteDate start = new AbsoluteDate(2004, 1, 1, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        file.addSatellite("sat").addNewSegment(states(FramesFactory.getEME2000(), start, 0.0, 600.0, 60.0), 4);
+        final Path path = tempDir.resolve("errors.bin");
+        new BinaryEphemerisFileWriter().write(path, file);
+
+        // unknown frame
+        try {
+            BinaryEphemerisFile.open(path, name -> null);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNMAPPED_FRAME_NAME, oe.getSpecifier());
+            Assertions.assertEquals("EME2000", oe.getParts()[0]);
+        }
+
+        // truncated file
+        final byte[] data = Files.readAllBytes(path);
+        final Path truncated = tempDir.resolve("truncated.bin");
+        Files.write(truncated, Arrays.copyOf(data, data.length - 8));
+        try {
+            BinaryEphemerisFile.open(truncated, BinaryEphemerisFile.predefinedFrames(DataContext.getDefault().getFrames()));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.CORRUPTED_FILE, oe.getSpecifier());
+        }
+
+        // wrong version
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 17), Long.BYTES);
+        }
+        try {
+            BinaryEphemerisFile.open(path, BinaryEphemerisFile.predefinedFrames(DataContext.getDefault().getFrames()));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, oe.getSpecifier());
+            Assertions.assertEquals(17, oe.getParts()[0]);
+        }
+
+        // not a binary ephemeris
+        final Path text = tempDir.resolve("text.bin");
+        Files.writeString(text, "this is not a binary ephemeris file");
+        try {
+            BinaryEphemerisFile.open(text, BinaryEphemerisFile.predefinedFrames(DataContext.getDefault().getFrames()));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+        }
+
+    }
+
+    private List<SpacecraftState> states(final Frame frame, final AbsoluteDate reference,
+                                         final double t0, final double t1, final double step) {
+        final Orbit orbit = new KeplerianOrbit(7000000.0, 0.01, FastMath.toRadians(98.0), 0.5, 1.0, 0.2,
+                                               PositionAngleType.MEAN, frame, reference, Constants.EIGEN5C_EARTH_MU);
+        final KeplerianPropagator propagator = new KeplerianPropagator(orbit);
+        final List<SpacecraftState> states = new ArrayList<>();
+        for (double t = t0; t <= t1; t += step) {
+            states.add(propagator.propagate(reference.shiftedBy(t)));
+        }
+        return states;
+    }
+
+    private void checkSame(final EphemerisFile<?, ?> expected, final BinaryEphemerisFile actual) {
+        Assertions.assertEquals(expected.getSatellites().size(), actual.getSatellites().size());
+        for (final EphemerisFile.SatelliteEphemeris<?, ?> satellite : expected.getSatellites().values()) {
+            final BinaryEphemerisFile.BinarySatelliteEphemeris read = actual.getSatellites().get(satellite.getId());
+            Assertions.assertEquals(satellite.getId(), read.getId());
+            Assertions.assertEquals(satellite.getMu(), read.getMu(), 0.0);
+            Assertions.assertEquals(satellite.getStart(), read.getStart());
+            Assertions.assertEquals(satellite.getStop(), read.getStop());
+            Assertions.assertEquals(satellite.getSegments().size(), read.getSegments().size());
+            for (int i = 0; i < satellite.getSegments().size(); ++i) {
+                final EphemerisFile.EphemerisSegment<?>         s1 = satellite.getSegments().get(i);
+                final BinaryEphemerisFile.BinaryEphemerisSegment s2 = read.getSegments().get(i);
+                Assertions.assertSame(s1.getFrame(), s2.getFrame());
+                Assertions.assertEquals(s1.getMu(), s2.getMu(), 0.0);
+                Assertions.assertEquals(s1.getInterpolationSamples(), s2.getInterpolationSamples());
+                Assertions.assertEquals(s1.getAvailableDerivatives(), s2.getAvailableDerivatives());
+                Assertions.assertEquals(s1.getStart(), s2.getStart());
+                Assertions.assertEquals(s1.getStop(), s2.getStop());
+                final List<? extends TimeStampedPVCoordinates> c1 = s1.getCoordinates();
+                final List<TimeStampedPVCoordinates>           c2 = s2.getCoordinates();
+                Assertions.assertEquals(c1.size(), c2.size());
+                for (int j = 0; j < c1.size(); ++j) {
+                    Assertions.assertEquals(c1.get(j).getDate(), c2.get(j).getDate());
+                    Assertions.assertEquals(c1.get(j).getPosition(), c2.get(j).getPosition());
+                    if (s1.getAvailableDerivatives().getMaxOrder() > 0) {
+                        Assertions.assertEquals(c1.get(j).getVelocity(), c2.get(j).getVelocity());
+                    }
+                    if (s1.getAvailableDerivatives().getMaxOrder() > 1) {
+                        Assertions.assertEquals(c1.get(j).getAcceleration(), c2.get(j).getAcceleration());
+                    }
+                }
+
+                // propagators give identical results
+                final BoundedPropagator p1 = s1.getPropagator();
+                final BoundedPropagator p2 = s2.getPropagator();
+                final double duration = s1.getStop().durationFrom(s1.getStart());
+                for (double dt = 0; dt <= duration; dt += duration / 37) {
+                    final AbsoluteDate date = s1.getStart().shiftedBy(dt);
+                    final SpacecraftState st1 = p1.propagate(date);
+                    final SpacecraftState st2 = p2.propagate(date);
+                    Assertions.assertEquals(0.0, Vector3D.distance(st1.getPosition(), st2.getPosition()), 0.0);
+                    Assertions.assertEquals(0.0, Vector3D.distance(st1.getVelocity(), st2.getVelocity()), 0.0);
+                }
+            }
+        }
+    }
+
+}
@@ -18,8 +18,10 @@ package org.orekit.files.rinex.observation;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
@@ -30,7 +32,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.orekit.Utils;
+import org.orekit.data.DataFilter;
 import org.orekit.data.DataSource;
+import org.orekit.data.GzipFilter;
+import org.orekit.data.PipeliningFilter;
 import org.orekit.data.UnixCompressFilter;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
@@ -1183,6 +1188,96 @@ public class RinexObservationParserTest {
 
     }
 
+    @Test
+    public void testStreamingSameAsRetained() {
+        final String name = "rinex/ZIMM00CHE_R_20190320000_15M_30S_MO.crx.gz";
+        final RinexObservation retained = new RinexObservationParser().parse(compressedSource(name, false));
+        final List<ObservationDataSet> streamed = new ArrayList<>();
+        final AtomicBoolean headerSeen = new AtomicBoolean(false);
+        final RinexObservation parsed =
+            new RinexObservationParser().parse(compressedSource(name, true), new RinexObservationHandler() {
+                @Override
+                public void handleHeader(final RinexObservationHeader header) {
+                    Assertions.assertTrue(streamed.isEmpty());
+                    Assertions.assertEquals("ZIMM", header.getMarkerName());
+                    headerSeen.set(true);
+                }
+                @Override
+                public void handleObservationDataSet(final ObservationDataSet observationDataSet) {
+                    Assertions.assertTrue(headerSeen.get());
+                    streamed.add(observationDataSet);
+                }
+            });
+        Assertions.assertTrue(parsed.getObservationDataSets().isEmpty());
+        Assertions.assertEquals(retained.getHeader().getTFirstObs(), parsed.getHeader().getTFirstObs());
+        Assertions.assertEquals(retained.getObservationDataSets().size(), streamed.size());
+        for (int i = 0; i < streamed.size(); ++i) {
+            final ObservationDataSet expected = retained.getObservationDataSets().get(i);
+            final ObservationDataSet actual   = streamed.get(i);
+            Assertions.assertEquals(expected.getSatellite(), actual.getSatellite());
+            Assertions.assertEquals(expected.getDate(), actual.getDate());
+            Assertions.assertEquals(expected.getObservationData().size(), actual.getObservationData().size());
+            for (int j = 0; j < expected.getObservationData().size(); ++j) {
+                Assertions.assertEquals(expected.getObservationData().get(j).getValue(),
+                                        actual.getObservationData().get(j).getValue(),
+                                        0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testParallelFiles() {
+        final String[] names = {
+            "rinex/aiub0000.00o", "rinex/cccc0000.07o", "rinex/dddd0000.01o", "rinex/jnu10110.17o", "rinex/aaaa0000.00o"
+        };
+        final List<DataSource> sources = new ArrayList<>();
+        for (final String name : names) {
+            sources.add(new DataSource(name, () -> Utils.class.getClassLoader().getResourceAsStream(name)));
+        }
+        final List<RinexObservation> parsed = new RinexObservationParser().parse(sources, 3);
+        Assertions.assertEquals(names.length, parsed.size());
+        for (int i = 0; i < names.length; ++i) {
+            final RinexObservation reference = load(names[i]);
+            Assertions.assertEquals(reference.getHeader().getMarkerName(), parsed.get(i).getHeader().getMarkerName());
+            Assertions.assertEquals(reference.getObservationDataSets().size(),
+                                    parsed.get(i).getObservationDataSets().size());
+        }
+
+        // streaming version, counting data sets per file
+        final Map<String, Integer> counts = new ConcurrentHashMap<>();
+        final List<DataSource> fresh = new ArrayList<>();
+        for (final String name : names) {
+            fresh.add(new DataSource(name, () -> Utils.class.getClassLoader().getResourceAsStream(name)));
+        }
+        new RinexObservationParser().parse(fresh,
+                                           source -> ods -> counts.merge(source.getName(), 1, Integer::sum),
+                                           4);
+        for (int i = 0; i < names.length; ++i) {
+            Assertions.assertEquals(parsed.get(i).getObservationDataSets().size(),
+                                    counts.getOrDefault(names[i], 0).intValue());
+        }
+    }
+
+    @Test
+    public void testStreamingParseError() {
+        final String name = "rinex/inconsistent-satellite-system.00o";
+        final DataSource source = new DataSource(name, () -> Utils.class.getClassLoader().getResourceAsStream(name));
+        try {
+            new RinexObservationParser().parse(source, ods -> { });
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.INCONSISTENT_SATELLITE_SYSTEM, oe.getSpecifier());
+        }
+    }
+
+    private DataSource compressedSource(final String name, final boolean pipelined) {
+        final DataSource raw = new DataSource(name.substring(name.indexOf('/') + 1),
+                                              () -> Utils.class.getClassLoader().getResourceAsStream(name));
+        final DataFilter hatanaka = pipelined ? new PipeliningFilter(new HatanakaCompressFilter(), 256, 4) :
+                                                new HatanakaCompressFilter();
+        return hatanaka.filter(new GzipFilter().filter(raw));
+    }
+
     private RinexObservation load(final String name) {
         final DataSource dataSource = new DataSource(name, () -> Utils.class.getClassLoader().getResourceAsStream(name));
         return new RinexObservationParser().parse(dataSource);
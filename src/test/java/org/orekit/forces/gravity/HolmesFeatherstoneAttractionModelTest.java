@@ -449,6 +449,35 @@ public class HolmesFeatherstoneAttractionModelTest extends AbstractLegacyForceMo
 
     }
 
+    @Test
+    void testNonCentralPartOnParallel() {
+
+        // max order smaller than max degree to check truncated summation over order
+        NormalizedSphericalHarmonicsProvider provider = new GleasonProvider(50, 30);
+        HolmesFeatherstoneAttractionModel model =
+                new HolmesFeatherstoneAttractionModel(itrf, provider);
+
+        double r = 1.25;
+        double[] longitudes = new double[40];
+        for (int i = 0; i < longitudes.length; ++i) {
+            longitudes[i] = -4.0 + 0.2 * i;
+        }
+        for (double theta = 0.05; theta < 3.11; theta += 0.03) {
+            double rho = r * FastMath.sin(theta);
+            double z   = r * FastMath.cos(theta);
+            double[] values = model.nonCentralPart(AbsoluteDate.GPS_EPOCH, rho, z, longitudes, model.getMu());
+            Assertions.assertEquals(longitudes.length, values.length);
+            for (int i = 0; i < longitudes.length; ++i) {
+                Vector3D position = new Vector3D(rho * FastMath.cos(longitudes[i]),
+                                                 rho * FastMath.sin(longitudes[i]),
+                                                 z);
+                double refValue = model.nonCentralPart(AbsoluteDate.GPS_EPOCH, position, model.getMu());
+                Assertions.assertEquals(refValue, values[i], 1.0e-12 * FastMath.abs(refValue) + 1.0e-15);
+            }
+        }
+
+    }
+
     /**Testing if the propagation between the FieldPropagation and the propagation
      * is equivalent.
      * Also testing if propagating X+dX with the propagation is equivalent to
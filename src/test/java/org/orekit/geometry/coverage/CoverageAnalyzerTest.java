@@ -0,0 +1,321 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.geometry.coverage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.attitudes.NadirPointing;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.StaticTransform;
+import org.orekit.frames.TopocentricFrame;
+import org.orekit.geometry.fov.CircularFieldOfView;
+import org.orekit.geometry.fov.FieldOfView;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.propagation.events.ElevationDetector;
+import org.orekit.propagation.events.EventsLogger;
+import org.orekit.propagation.events.VisibilityTrigger;
+import org.orekit.propagation.events.handlers.ContinueOnEvent;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeInterval;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+class CoverageAnalyzerTest {
+
+    private Frame            eme2000;
+    private OneAxisEllipsoid earth;
+    private AbsoluteDate     start;
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data");
+        eme2000 = FramesFactory.getEME2000();
+        earth   = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                       Constants.WGS84_EARTH_FLATTENING,
+                                       FramesFactory.getITRF(IERSConventions.IERS_2010, true));
+        start   = new AbsoluteDate(2024, 3, 15, 12, 0, 0.0, TimeScalesFactory.getUTC());
+    }
+
+    @Test
+    void testAgainstBruteForce() {
+
+        final List<GeodeticPoint> points = grid(5.0);
+        final AbsoluteDate        end    = start.shiftedBy(7200.0);
+        final CoverageReport      report = new CoverageAnalyzer(earth, 60.0, 4).
+                                           analyze(points, constellation(), start, end);
+        Assertions.assertEquals(points.size(), report.getPoints().size());
+
+        // brute force evaluation at grid dates
+        final List<CoverageSatellite> satellites = constellation();
+        final int nbSteps = 120;
+        int covered = 0;
+        for (int k = 0; k <= nbSteps; ++k) {
+            final AbsoluteDate      date   = start.shiftedBy(k * 60.0);
+            final SpacecraftState[] states = new SpacecraftState[satellites.size()];
+            for (int s = 0; s < states.length; ++s) {
+                states[s] = satellites.get(s).getPropagator().propagate(date);
+            }
+            for (int p = 0; p < points.size(); ++p) {
+                final boolean expected = isCovered(points.get(p), satellites, states);
+                final PointCoverage coverage = report.getPoints().get(p);
+                Assertions.assertSame(points.get(p), coverage.getPoint());
+                Assertions.assertEquals(expected, contains(coverage.getAccesses(), date));
+                if (expected) {
+                    ++covered;
+                }
+            }
+        }
+
+        // check some coverage actually occurred
+        Assertions.assertTrue(covered > 1000);
+        Assertions.assertTrue(report.getCoveredPointsRatio() > 0.1);
+        Assertions.assertTrue(report.getCoveredPointsRatio() < 0.9);
+        Assertions.assertEquals(0.0, report.getMinCoverageRatio(), 1.0e-15);
+        Assertions.assertEquals(7200.0, report.getMaxGap(), 1.0e-10);
+
+    }
+
+    @Test
+    void testAgainstElevationDetector() {
+
+        final double              minElevation = FastMath.toRadians(10.0);
+        final GeodeticPoint       point        = new GeodeticPoint(FastMath.toRadians(45.0),
+                                                                   FastMath.toRadians(10.0), 0.0);
+        final AbsoluteDate        end          = start.shiftedBy(Constants.JULIAN_DAY);
+        final double              step         = 10.0;
+        final CoverageReport      report       = new CoverageAnalyzer(earth, step, 2).
+                                                 analyze(List.of(point),
+                                                         List.of(new CoverageSatellite(propagator(FastMath.toRadians(60.0), 0.0),
+                                                                                       minElevation)),
+                                                         start, end);
+        final List<TimeInterval>  accesses     = report.getPoints().get(0).getAccesses();
+
+        // reference accesses computed using events detection
+        final EventsLogger logger    = new EventsLogger();
+        final Propagator   reference = propagator(FastMath.toRadians(60.0), 0.0);
+        reference.addEventDetector(logger.monitorDetector(new ElevationDetector(step, 1.0e-3, new TopocentricFrame(earth, point, "point")).
+                                                          withConstantElevation(minElevation).
+                                                          withHandler(new ContinueOnEvent())));
+        reference.propagate(start, end);
+        final List<EventsLogger.LoggedEvent> events = logger.getLoggedEvents();
+        Assertions.assertTrue(events.get(0).isIncreasing());
+
+        Assertions.assertTrue(accesses.size() > 2);
+        Assertions.assertEquals((events.size() + 1) / 2, accesses.size());
+        for (int i = 0; i < accesses.size(); ++i) {
+            // last access may still be in progress at analysis end
+            final AbsoluteDate setting = 2 * i + 1 < events.size() ? events.get(2 * i + 1).getDate() : end;
+            Assertions.assertEquals(0.0,
+                                    accesses.get(i).getStartDate().durationFrom(events.get(2 * i).getDate()),
+                                    step);
+            Assertions.assertEquals(0.0,
+                                    accesses.get(i).getEndDate().durationFrom(setting),
+                                    step);
+        }
+
+    }
+
+    @Test
+    void testThreadsAndSlabsIndependence() {
+        final List<GeodeticPoint> points    = grid(10.0);
+        final AbsoluteDate        end       = start.shiftedBy(10000.0);
+        final CoverageReport      reference = new CoverageAnalyzer(earth, 30.0, 1).
+                                              analyze(points, constellation(), start, end);
+        for (final CoverageAnalyzer analyzer : Arrays.asList(new CoverageAnalyzer(earth, 30.0, 4),
+                                                             new CoverageAnalyzer(earth, 30.0, 7, 1),
+                                                             new CoverageAnalyzer(earth, 30.0, 7, 4))) {
+            final CoverageReport report = analyzer.analyze(points, constellation(), start, end);
+            for (int p = 0; p < points.size(); ++p) {
+                final List<TimeInterval> expected = reference.getPoints().get(p).getAccesses();
+                final List<TimeInterval> actual   = report.getPoints().get(p).getAccesses();
+                Assertions.assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); ++i) {
+                    Assertions.assertEquals(expected.get(i).getStartDate(), actual.get(i).getStartDate());
+                    Assertions.assertEquals(expected.get(i).getEndDate(), actual.get(i).getEndDate());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRevisitAcrossSlabBoundary() {
+
+        // dense constellation, so points are often revisited shortly after an access ends
+        final List<CoverageSatellite> satellites = new ArrayList<>();
+        for (int i = 0; i < 12; ++i) {
+            satellites.add(new CoverageSatellite(propagator(FastMath.toRadians(50.0), FastMath.toRadians(30.0 * i)),
+                                                 FastMath.toRadians(10.0)));
+        }
+        final List<GeodeticPoint> points = grid(5.0);
+        final AbsoluteDate        end    = start.shiftedBy(7200.0);
+        final double              step   = 60.0;
+        final CoverageReport      reference = new CoverageAnalyzer(earth, step, 1000, 1).
+                                              analyze(points, satellites, start, end);
+
+        for (int slabSize = 1; slabSize <= 3; ++slabSize) {
+            final CoverageReport report = new CoverageAnalyzer(earth, step, slabSize, 1).
+                                          analyze(points, satellites, start, end);
+            int shortRevisits = 0;
+            for (int p = 0; p < points.size(); ++p) {
+                final PointCoverage      coverage = report.getPoints().get(p);
+                final List<TimeInterval> expected = reference.getPoints().get(p).getAccesses();
+                final List<TimeInterval> actual   = coverage.getAccesses();
+                Assertions.assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < actual.size(); ++i) {
+                    Assertions.assertEquals(expected.get(i).getStartDate(), actual.get(i).getStartDate());
+                    Assertions.assertEquals(expected.get(i).getEndDate(), actual.get(i).getEndDate());
+                    if (i > 0) {
+                        // accesses must be chronologically sorted
+                        final double gap = actual.get(i).getStartDate().durationFrom(actual.get(i - 1).getEndDate());
+                        Assertions.assertTrue(gap > 0);
+                        if (gap <= slabSize * step) {
+                            ++shortRevisits;
+                        }
+                    }
+                }
+                Assertions.assertTrue(coverage.getMaxGap() >= 0);
+                Assertions.assertTrue(coverage.getMeanGap() >= 0);
+            }
+            // check the configuration really exercises revisits within the next slab
+            Assertions.assertTrue(shortRevisits > 0);
+        }
+
+    }
+
+    @Test
+    void testAccessesClippedToAnalysisInterval() {
+        // geostationary satellite always sees the sub-satellite point
+        final KeplerianOrbit geo = new KeplerianOrbit(42164000.0, 0.0, 0.0, 0.0, 0.0, 0.0,
+                                                      PositionAngleType.MEAN, eme2000, start,
+                                                      Constants.EIGEN5C_EARTH_MU);
+        final SpacecraftState state = new SpacecraftState(geo);
+        final GeodeticPoint   point = earth.transform(state.getPosition(), eme2000, start);
+        final AbsoluteDate    end   = start.shiftedBy(1000.0);
+        final CoverageReport  report =
+                        new CoverageAnalyzer(earth, 60.0, 1).
+                        analyze(List.of(new GeodeticPoint(point.getLatitude(), point.getLongitude(), 0.0)),
+                                List.of(new CoverageSatellite(new KeplerianPropagator(geo), FastMath.toRadians(80.0))),
+                                start, end);
+        final PointCoverage coverage = report.getPoints().get(0);
+        Assertions.assertEquals(1, coverage.getNumberOfAccesses());
+        Assertions.assertEquals(start, coverage.getAccesses().get(0).getStartDate());
+        Assertions.assertEquals(end, coverage.getAccesses().get(0).getEndDate());
+        Assertions.assertEquals(1.0, coverage.getCoverageRatio(), 1.0e-15);
+        Assertions.assertEquals(0, coverage.getNumberOfGaps());
+        Assertions.assertEquals(start, report.getStart());
+        Assertions.assertEquals(end, report.getEnd());
+        Assertions.assertEquals(1.0, report.getCoveredPointsRatio(), 1.0e-15);
+        Assertions.assertEquals(0.0, report.getMaxGap(), 1.0e-15);
+    }
+
+    @Test
+    void testWrongInputs() {
+        checkNotStrictlyPositive(() -> new CoverageAnalyzer(earth, 0.0, 1));
+        checkNotStrictlyPositive(() -> new CoverageAnalyzer(earth, 60.0, 0, 1));
+        checkNotStrictlyPositive(() -> new CoverageAnalyzer(earth, 60.0, 0));
+        checkNotStrictlyPositive(() -> new CoverageAnalyzer(earth, 60.0, 1).
+                                       analyze(grid(30.0), constellation(), start, start));
+    }
+
+    private void checkNotStrictlyPositive(final Runnable runnable) {
+        try {
+            runnable.run();
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+    }
+
+    private boolean isCovered(final GeodeticPoint point, final List<CoverageSatellite> satellites,
+                              final SpacecraftState[] states) {
+        final TopocentricFrame topo = new TopocentricFrame(earth, point, "point");
+        for (int s = 0; s < states.length; ++s) {
+            final CoverageSatellite satellite = satellites.get(s);
+            final SpacecraftState   state     = states[s];
+            if (topo.getElevation(state.getPosition(), state.getFrame(), state.getDate()) < satellite.getMinElevation()) {
+                continue;
+            }
+            if (satellite.getFieldsOfView().isEmpty()) {
+                return true;
+            }
+            final StaticTransform bodyToSat = StaticTransform.compose(state.getDate(),
+                                                                      earth.getBodyFrame().getStaticTransformTo(state.getFrame(),
+                                                                                                               state.getDate()),
+                                                                      state.toStaticTransform());
+            final Vector3D lineOfSight = bodyToSat.transformPosition(earth.transform(point));
+            for (final FieldOfView fov : satellite.getFieldsOfView()) {
+                if (fov.offsetFromBoundary(lineOfSight, 0.0, VisibilityTrigger.VISIBLE_ONLY_WHEN_FULLY_IN_FOV) <= 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean contains(final List<TimeInterval> accesses, final AbsoluteDate date) {
+        for (final TimeInterval access : accesses) {
+            if (access.contains(date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<GeodeticPoint> grid(final double stepDeg) {
+        final List<GeodeticPoint> points = new ArrayList<>();
+        for (double lat = -60.0; lat <= 60.0; lat += stepDeg) {
+            for (double lon = -180.0; lon < 180.0; lon += stepDeg) {
+                points.add(new GeodeticPoint(FastMath.toRadians(lat), FastMath.toRadians(lon), 0.0));
+            }
+        }
+        return points;
+    }
+
+    private List<CoverageSatellite> constellation() {
+        return Arrays.asList(new CoverageSatellite(propagator(FastMath.toRadians(50.0), 0.0),
+                                                   FastMath.toRadians(10.0)),
+                             new CoverageSatellite(propagator(FastMath.toRadians(98.0), FastMath.toRadians(120.0)),
+                                                   FastMath.toRadians(5.0),
+                                                   new CircularFieldOfView(Vector3D.PLUS_K, FastMath.toRadians(30.0), 0.0)));
+    }
+
+    private Propagator propagator(final double inclination, final double raan) {
+        final KeplerianOrbit orbit = new KeplerianOrbit(7078137.0, 0.001, inclination, 0.0, raan, 0.0,
+                                                        PositionAngleType.MEAN, eme2000, start,
+                                                        Constants.EIGEN5C_EARTH_MU);
+        return new KeplerianPropagator(orbit, new NadirPointing(eme2000, earth));
+    }
+
+}
@@ -0,0 +1,92 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.geometry.coverage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.frames.FramesFactory;
+import org.orekit.utils.Constants;
+
+class GroundPointIndexTest {
+
+    @Test
+    void testAntimeridian() {
+        // few points, so cells have the maximum size and longitude cells do not divide 2π evenly
+        final OneAxisEllipsoid earth  = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                             Constants.WGS84_EARTH_FLATTENING,
+                                                             FramesFactory.getGCRF());
+        final RandomGenerator  random = new Well19937a(0x5e3b71d2c8a946f1L);
+        final List<GeodeticPoint> points = new ArrayList<>();
+        for (int p = 0; p < 1000; ++p) {
+            // points concentrated around the antimeridian
+            points.add(new GeodeticPoint(FastMath.asin(2 * random.nextDouble() - 1),
+                                         FastMath.PI + 0.4 * (random.nextDouble() - 0.5),
+                                         0.0));
+        }
+        final GroundPointIndex index = new GroundPointIndex(points, earth);
+        final double[] directions = new double[3 * points.size()];
+        for (int p = 0; p < points.size(); ++p) {
+            final double[] position = new double[] {
+                index.getPositions()[3 * p], index.getPositions()[3 * p + 1], index.getPositions()[3 * p + 2]
+            };
+            final double r = FastMath.sqrt(position[0] * position[0] + position[1] * position[1] + position[2] * position[2]);
+            directions[3 * p]     = position[0] / r;
+            directions[3 * p + 1] = position[1] / r;
+            directions[3 * p + 2] = position[2] / r;
+        }
+
+        // caps straddling the antimeridian, on both sides
+        final GroundPointIndex.IntBuffer found = new GroundPointIndex.IntBuffer();
+        int checked = 0;
+        for (int n = 0; n < 2000; ++n) {
+            final double lat    = 1.4 * (random.nextDouble() - 0.5);
+            final double lon    = FastMath.PI + 0.1 * (random.nextDouble() - 0.5);
+            final double radius = 0.005 + 0.1 * random.nextDouble();
+            final double ux     = FastMath.cos(lat) * FastMath.cos(lon);
+            final double uy     = FastMath.cos(lat) * FastMath.sin(lon);
+            final double uz     = FastMath.sin(lat);
+
+            found.clear();
+            index.query(ux, uy, uz, radius, found);
+            final boolean[] inIndex = new boolean[points.size()];
+            for (int k = 0; k < found.size(); ++k) {
+                inIndex[found.get(k)] = true;
+            }
+
+            // compare with brute force
+            final double cosRadius = FastMath.cos(radius);
+            for (int p = 0; p < points.size(); ++p) {
+                final boolean inCap = directions[3 * p] * ux + directions[3 * p + 1] * uy + directions[3 * p + 2] * uz >= cosRadius;
+                Assertions.assertEquals(inCap, inIndex[p]);
+                if (inCap) {
+                    ++checked;
+                }
+            }
+        }
+        Assertions.assertTrue(checked > 1000);
+
+    }
+
+}
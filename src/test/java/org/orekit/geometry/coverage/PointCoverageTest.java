@@ -0,0 +1,83 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.geometry.coverage;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeInterval;
+
+class PointCoverageTest {
+
+    private final GeodeticPoint point = new GeodeticPoint(0.5, 0.25, 0.0);
+    private final AbsoluteDate  start = AbsoluteDate.J2000_EPOCH;
+    private final AbsoluteDate  end   = start.shiftedBy(1000.0);
+
+    @Test
+    void testNoAccess() {
+        final PointCoverage coverage = new PointCoverage(point, start, end, List.of());
+        Assertions.assertSame(point, coverage.getPoint());
+        Assertions.assertEquals(0, coverage.getNumberOfAccesses());
+        Assertions.assertEquals(0.0, coverage.getCoveredDuration(), 1.0e-15);
+        Assertions.assertEquals(0.0, coverage.getCoverageRatio(), 1.0e-15);
+        Assertions.assertEquals(1, coverage.getNumberOfGaps());
+        Assertions.assertEquals(1000.0, coverage.getMaxGap(), 1.0e-15);
+        Assertions.assertEquals(1000.0, coverage.getMeanGap(), 1.0e-15);
+    }
+
+    @Test
+    void testInnerAccesses() {
+        final PointCoverage coverage =
+                        new PointCoverage(point, start, end,
+                                          Arrays.asList(TimeInterval.of(start.shiftedBy(100.0), start.shiftedBy(200.0)),
+                                                        TimeInterval.of(start.shiftedBy(500.0), start.shiftedBy(550.0))));
+        Assertions.assertEquals(2, coverage.getNumberOfAccesses());
+        Assertions.assertEquals(150.0, coverage.getCoveredDuration(), 1.0e-12);
+        Assertions.assertEquals(0.15, coverage.getCoverageRatio(), 1.0e-15);
+        Assertions.assertEquals(3, coverage.getNumberOfGaps());
+        Assertions.assertEquals(450.0, coverage.getMaxGap(), 1.0e-12);
+        Assertions.assertEquals(850.0 / 3, coverage.getMeanGap(), 1.0e-12);
+    }
+
+    @Test
+    void testAccessesAtBoundaries() {
+        final PointCoverage coverage =
+                        new PointCoverage(point, start, end,
+                                          Arrays.asList(TimeInterval.of(start, start.shiftedBy(300.0)),
+                                                        TimeInterval.of(start.shiftedBy(400.0), end)));
+        Assertions.assertEquals(900.0, coverage.getCoveredDuration(), 1.0e-12);
+        Assertions.assertEquals(1, coverage.getNumberOfGaps());
+        Assertions.assertEquals(100.0, coverage.getMaxGap(), 1.0e-12);
+        Assertions.assertEquals(100.0, coverage.getMeanGap(), 1.0e-12);
+    }
+
+    @Test
+    void testFullCoverage() {
+        final PointCoverage coverage = new PointCoverage(point, start, end, List.of(TimeInterval.of(start, end)));
+        Assertions.assertEquals(1.0, coverage.getCoverageRatio(), 1.0e-15);
+        Assertions.assertEquals(0, coverage.getNumberOfGaps());
+        Assertions.assertEquals(0.0, coverage.getMaxGap(), 1.0e-15);
+        Assertions.assertEquals(0.0, coverage.getMeanGap(), 1.0e-15);
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                                () -> coverage.getAccesses().add(TimeInterval.of(start, end)));
+    }
+
+}
@@ -18,6 +18,15 @@ package org.orekit.geometry.fov;
 
 import org.hipparchus.geometry.euclidean.threed.RotationOrder;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.geometry.partitioning.BoundaryProjection;
+import org.hipparchus.geometry.partitioning.RegionFactory;
+import org.hipparchus.geometry.spherical.twod.Circle;
+import org.hipparchus.geometry.spherical.twod.S2Point;
+import org.hipparchus.geometry.spherical.twod.Sphere2D;
+import org.hipparchus.geometry.spherical.twod.SphericalPolygonsSet;
+import org.hipparchus.geometry.spherical.twod.SubCircle;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
 import org.hipparchus.util.FastMath;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -90,6 +99,69 @@ public class PolygonalFieldOfViewTest {
         Assertions.assertEquals(0.0, maxOffsetError, 2.0e-15);
     }
 
+    @Test
+    public void testCompiledBoundaryConvex() {
+        doTestCompiledBoundary(new PolygonalFieldOfView(Vector3D.PLUS_K,
+                                                        DefiningConeType.OUTSIDE_CONE_TOUCHING_POLYGON_AT_VERTICES,
+                                                        Vector3D.PLUS_I, 0.3, 5, 0.01));
+        doTestCompiledBoundary(new DoubleDihedraFieldOfView(Vector3D.PLUS_K,
+                                                            Vector3D.PLUS_I, 0.2, Vector3D.PLUS_J, 0.4, -0.02));
+    }
+
+    @Test
+    public void testCompiledBoundaryNonConvex() {
+        final RegionFactory<Sphere2D, S2Point, Circle, SubCircle> factory = new RegionFactory<>();
+        final SphericalPolygonsSet big   = new PolygonalFieldOfView(Vector3D.PLUS_K,
+                                                                    DefiningConeType.OUTSIDE_CONE_TOUCHING_POLYGON_AT_VERTICES,
+                                                                    Vector3D.PLUS_I, 0.4, 4, 0.0).getZone();
+        final SphericalPolygonsSet small = new PolygonalFieldOfView(Vector3D.PLUS_K,
+                                                                    DefiningConeType.OUTSIDE_CONE_TOUCHING_POLYGON_AT_VERTICES,
+                                                                    Vector3D.PLUS_J, 0.1, 6, 0.0).getZone();
+        final SphericalPolygonsSet other = new PolygonalFieldOfView(new Vector3D(0.3, 0.0, 1.0),
+                                                                    DefiningConeType.OUTSIDE_CONE_TOUCHING_POLYGON_AT_VERTICES,
+                                                                    Vector3D.PLUS_J, 0.2, 3, 0.0).getZone();
+
+        // zone with a hole
+        doTestCompiledBoundary(new PolygonalFieldOfView((SphericalPolygonsSet) factory.difference(big, small), 0.01));
+
+        // non-convex union
+        doTestCompiledBoundary(new PolygonalFieldOfView((SphericalPolygonsSet) factory.union(small, other), 0.0));
+
+    }
+
+    private void doTestCompiledBoundary(final PolygonalFieldOfView fov) {
+        final RandomGenerator random = new Well19937a(0x3e5e2af8d8c2b3f1L);
+        final Vector3D[]      los    = new Vector3D[2000];
+        for (int i = 0; i < los.length; ++i) {
+            // random points within 0.8 radians of the Field Of View center
+            los[i] = new Vector3D(FastMath.tan(0.8) * (2 * random.nextDouble() - 1),
+                                  FastMath.tan(0.8) * (2 * random.nextDouble() - 1),
+                                  1.0).scalarMultiply(1.0 + 10 * random.nextDouble());
+        }
+        final double[] offsets = fov.offsetsFromBoundary(los, 0.0, VisibilityTrigger.VISIBLE_ONLY_WHEN_FULLY_IN_FOV);
+        int inside = 0;
+        for (int i = 0; i < los.length; ++i) {
+            final double offset = fov.offsetFromBoundary(los[i], 0.0, VisibilityTrigger.VISIBLE_ONLY_WHEN_FULLY_IN_FOV);
+            Assertions.assertEquals(offset, offsets[i], 0.0);
+            final BoundaryProjection<Sphere2D, S2Point> reference = fov.getZone().projectToBoundary(new S2Point(los[i]));
+            if (reference.getOffset() <= fov.getMargin() + 0.01) {
+                // close to or inside the zone, the exact offset is computed
+                Assertions.assertEquals(reference.getOffset() - fov.getMargin(), offset, 1.0e-12);
+                Assertions.assertEquals(0.0,
+                                        Vector3D.angle(reference.getProjected().getVector(), fov.projectToBoundary(los[i])),
+                                        1.0e-12);
+            } else {
+                // far from the zone, the fast method underestimates the offset
+                Assertions.assertTrue(offset > 0);
+                Assertions.assertTrue(offset <= reference.getOffset() - fov.getMargin() + 1.0e-12);
+            }
+            if (offset < 0) {
+                ++inside;
+            }
+        }
+        Assertions.assertTrue(inside > 10);
+    }
+
     @Test
     public void testNoFootprintInside() {
         Utils.setDataRoot("regular-data");
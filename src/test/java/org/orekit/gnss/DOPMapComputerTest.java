@@ -0,0 +1,167 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.gnss;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.FramesFactory;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.analytical.gnss.GNSSPropagatorBuilder;
+import org.orekit.propagation.analytical.gnss.data.GPSAlmanac;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.ElevationMask;
+import org.orekit.utils.IERSConventions;
+
+public class DOPMapComputerTest {
+
+    private OneAxisEllipsoid    earth;
+    private List<GeodeticPoint> locations;
+    private AbsoluteDate        date;
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("gnss");
+        earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                     Constants.WGS84_EARTH_FLATTENING,
+                                     FramesFactory.getITRF(IERSConventions.IERS_2010, true));
+        locations = new ArrayList<>();
+        for (double lat = -85.0; lat <= 85.0; lat += 10.0) {
+            for (double lon = -180.0; lon < 180.0; lon += 15.0) {
+                locations.add(new GeodeticPoint(FastMath.toRadians(lat), FastMath.toRadians(lon), 100.0));
+            }
+        }
+        date = new AbsoluteDate(2016, 3, 31, 2, 0, 0., TimeScalesFactory.getUTC());
+    }
+
+    @Test
+    public void testMinElevation() {
+        final DOPMapComputer computer = DOPMapComputer.create(earth, locations).
+                                        withMinElevation(FastMath.toRadians(10.0));
+        Assertions.assertEquals(FastMath.toRadians(10.0), computer.getMinElevation(), 0.0);
+        Assertions.assertNull(computer.getElevationMask());
+        Assertions.assertEquals(locations, computer.getLocations());
+        for (int k = 0; k < 3; ++k) {
+            final AbsoluteDate current = date.shiftedBy(k * 3600.0);
+            checkAgainstSinglePoint(computer.compute(current, getGpsPropagators()),
+                                    l -> DOPComputer.create(earth, l).withMinElevation(FastMath.toRadians(10.0)),
+                                    current);
+        }
+    }
+
+    @Test
+    public void testElevationMask() {
+        final DOPMapComputer computer = DOPMapComputer.create(earth, locations).
+                                        withElevationMask(getMask()).
+                                        withThreads(4);
+        Assertions.assertEquals(DOPComputer.DOP_MIN_ELEVATION, computer.getMinElevation(), 0.0);
+        Assertions.assertNotNull(computer.getElevationMask());
+        checkAgainstSinglePoint(computer.compute(date, getGpsPropagators()),
+                                l -> DOPComputer.create(earth, l).withElevationMask(getMask()),
+                                date);
+    }
+
+    @Test
+    public void testThreadsIndependence() {
+        final List<Propagator> gps        = getGpsPropagators();
+        final List<DOP>        sequential = DOPMapComputer.create(earth, locations).compute(date, gps);
+        final List<DOP>        parallel   = DOPMapComputer.create(earth, locations).withThreads(4).compute(date, gps);
+        Assertions.assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); ++i) {
+            Assertions.assertSame(locations.get(i), parallel.get(i).getLocation());
+            Assertions.assertEquals(sequential.get(i).getGnssNb(), parallel.get(i).getGnssNb());
+            Assertions.assertEquals(sequential.get(i).getGdop(),   parallel.get(i).getGdop(), 0.0);
+        }
+    }
+
+    @Test
+    public void testNotEnoughSV() {
+        final List<Propagator> gps = getGpsPropagators().subList(0, 3);
+        try {
+            DOPMapComputer.create(earth, locations).compute(date, gps);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_ENOUGH_GNSS_FOR_DOP, oe.getSpecifier());
+        }
+    }
+
+    private void checkAgainstSinglePoint(final List<DOP> map,
+                                         final Function<GeodeticPoint, DOPComputer> factory,
+                                         final AbsoluteDate current) {
+        final List<Propagator> gps = getGpsPropagators();
+        Assertions.assertEquals(locations.size(), map.size());
+        int withNaN = 0;
+        for (int i = 0; i < locations.size(); ++i) {
+            final DOP expected = factory.apply(locations.get(i)).compute(current, gps);
+            final DOP actual   = map.get(i);
+            Assertions.assertSame(locations.get(i), actual.getLocation());
+            Assertions.assertEquals(current, actual.getDate());
+            Assertions.assertEquals(expected.getGnssNb(), actual.getGnssNb());
+            if (Double.isNaN(expected.getGdop())) {
+                ++withNaN;
+                Assertions.assertTrue(Double.isNaN(actual.getGdop()));
+                Assertions.assertTrue(Double.isNaN(actual.getPdop()));
+                Assertions.assertTrue(Double.isNaN(actual.getHdop()));
+                Assertions.assertTrue(Double.isNaN(actual.getVdop()));
+                Assertions.assertTrue(Double.isNaN(actual.getTdop()));
+            } else {
+                Assertions.assertEquals(expected.getGdop(), actual.getGdop(), 1.0e-10 * expected.getGdop());
+                Assertions.assertEquals(expected.getPdop(), actual.getPdop(), 1.0e-10 * expected.getPdop());
+                Assertions.assertEquals(expected.getHdop(), actual.getHdop(), 1.0e-10 * expected.getHdop());
+                Assertions.assertEquals(expected.getVdop(), actual.getVdop(), 1.0e-10 * expected.getVdop());
+                Assertions.assertEquals(expected.getTdop(), actual.getTdop(), 1.0e-10 * expected.getTdop());
+            }
+        }
+        Assertions.assertTrue(withNaN < locations.size() / 2);
+    }
+
+    private List<Propagator> getGpsPropagators() {
+        final YUMAParser reader = new YUMAParser(null);
+        reader.loadData();
+        final List<Propagator> propagators = new ArrayList<>();
+        for (GPSAlmanac almanac : reader.getAlmanacs()) {
+            propagators.add(new GNSSPropagatorBuilder(almanac,
+                                                      FramesFactory.getEME2000(),
+                                                      FramesFactory.getITRF(IERSConventions.IERS_2010, false)).
+                            buildPropagator());
+        }
+        return propagators;
+    }
+
+    private ElevationMask getMask() {
+        final double [][] mask = {
+            {FastMath.toRadians(0.),   FastMath.toRadians(5.00)},
+            {FastMath.toRadians(90.),  FastMath.toRadians(20.00)},
+            {FastMath.toRadians(180.), FastMath.toRadians(5.00)},
+            {FastMath.toRadians(270.), FastMath.toRadians(20.00)}
+        };
+        return new ElevationMask(mask);
+    }
+
+}
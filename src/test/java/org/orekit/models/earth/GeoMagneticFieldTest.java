@@ -139,6 +139,29 @@ public class GeoMagneticFieldTest {
         Assertions.assertEquals(FastMath.toRadians(-4.7446), e.getDeclination(), 1.0e-4);
     }
 
+    @Test
+    public void testCalculateFieldOnParallel() {
+        double decimalYear = GeoMagneticField.getDecimalYear(1, 1, 2020);
+        GeoMagneticField field = GeoMagneticFieldFactory.getWMM(decimalYear);
+        double[] longitudes = new double[37];
+        for (int i = 0; i < longitudes.length; ++i) {
+            longitudes[i] = FastMath.toRadians(-180.0 + 10.0 * i);
+        }
+        // the poles use the point by point fallback
+        for (double lat : new double[] { -90.0, -75.0, -30.0, 0.0, 12.5, 60.0, 89.5, 90.0 }) {
+            for (double height : new double[] { -1000.0, 0.0, 400000.0 }) {
+                GeoMagneticElements[] elements =
+                        field.calculateField(FastMath.toRadians(lat), longitudes, height);
+                for (int i = 0; i < longitudes.length; ++i) {
+                    Vector3D expected = field.calculateField(FastMath.toRadians(lat), longitudes[i], height).getFieldVector();
+                    Assertions.assertEquals(0.0,
+                                            Vector3D.distance(expected, elements[i].getFieldVector()),
+                                            1.0e-12 * expected.getNorm());
+                }
+            }
+        }
+    }
+
     @Test
     public void testContinuityAtPole() {
         double decimalYear = GeoMagneticField.getDecimalYear(1, 1, 2020);
@@ -117,6 +117,24 @@ public class GeoidTest {
         return new Geoid(potential, WGS84);
     }
 
+    /** Test row-wise evaluation of undulations. */
+    @Test
+    public void testGetUndulations() {
+        Geoid geoid = getComponent();
+        double[] longitudes = new double[73];
+        for (int i = 0; i < longitudes.length; ++i) {
+            longitudes[i] = FastMath.toRadians(-180.0 + 5.0 * i);
+        }
+        for (double lat = -88.0; lat <= 88.0; lat += 11.0) {
+            double latitude = FastMath.toRadians(lat);
+            double[] undulations = geoid.getUndulations(latitude, longitudes, date);
+            for (int i = 0; i < longitudes.length; ++i) {
+                Assertions.assertEquals(geoid.getUndulation(latitude, longitudes[i], date),
+                                        undulations[i], 1.0e-9);
+            }
+        }
+    }
+
     /** Test constructor and simple getters. */
     @Test
     public void testGeoid() {
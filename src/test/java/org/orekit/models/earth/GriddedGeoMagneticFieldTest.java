@@ -0,0 +1,184 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+class GriddedGeoMagneticFieldTest {
+
+    private static GeoMagneticField field;
+
+    private static GriddedGeoMagneticField gridded;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUpBefore() {
+        Utils.setDataRoot("earth:geoid:regular-data");
+        field   = GeoMagneticFieldFactory.getWMM(GeoMagneticField.getDecimalYear(1, 1, 2020));
+        gridded = new GriddedGeoMagneticField(field, FastMath.toRadians(1.0), 800000.0, 0.0, 400000.0, 400000.0);
+    }
+
+    @Test
+    void testMetadata() {
+        Assertions.assertEquals(field.getModelName(), gridded.getModelName());
+        Assertions.assertEquals(field.getEpoch(),     gridded.getEpoch(),   0.0);
+        Assertions.assertEquals(field.validFrom(),    gridded.validFrom(),  0.0);
+        Assertions.assertEquals(field.validTo(),      gridded.validTo(),    0.0);
+        Assertions.assertArrayEquals(new double[] { 0.0, 400000.0, 800000.0 }, gridded.getHeights(), 0.0);
+        Assertions.assertEquals(FastMath.toRadians(1.0), gridded.getLatitudeStep(),  1.0e-15);
+        Assertions.assertEquals(FastMath.toRadians(1.0), gridded.getLongitudeStep(), 1.0e-15);
+        Assertions.assertFalse(gridded.supportsTimeTransform());
+    }
+
+    @Test
+    void testNodes() {
+        for (int lat = -90; lat <= 90; lat += 15) {
+            for (int lon = -180; lon <= 180; lon += 20) {
+                final double latitude  = FastMath.toRadians(lat);
+                final double longitude = FastMath.toRadians(lon);
+                final Vector3D expected = field.calculateField(latitude, longitude, 400000.0).getFieldVector();
+                final Vector3D actual   = gridded.calculateField(latitude, longitude, 400000.0).getFieldVector();
+                Assertions.assertEquals(0.0, Vector3D.distance(expected, actual), 1.0e-6 * expected.getNorm());
+            }
+        }
+    }
+
+    @Test
+    void testInterpolationAccuracy() {
+        final RandomGenerator random = new Well19937a(0x1f7a3c59be640d2eL);
+        double maxRelativeError = 0;
+        for (int k = 0; k < 2000; ++k) {
+            final double latitude  = FastMath.asin(2 * random.nextDouble() - 1);
+            final double longitude = 4 * FastMath.PI * (random.nextDouble() - 0.5);
+            final double height    = 900000.0 * random.nextDouble() - 50000.0;
+            final Vector3D expected = field.calculateField(latitude, longitude, height).getFieldVector();
+            final Vector3D actual   = gridded.calculateField(latitude, longitude, height).getFieldVector();
+            maxRelativeError = FastMath.max(maxRelativeError, Vector3D.distance(expected, actual) / expected.getNorm());
+        }
+        Assertions.assertTrue(maxRelativeError < 0.01, "max relative error " + maxRelativeError);
+    }
+
+    @Test
+    void testCalculateFieldOnParallel() {
+        final double[] longitudes = { -7.0, -3.0, 0.0, 0.5, 3.14159, 9.0 };
+        final GeoMagneticElements[] elements = gridded.calculateField(0.3, longitudes, 250000.0);
+        for (int i = 0; i < longitudes.length; ++i) {
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(gridded.calculateField(0.3, longitudes[i], 250000.0).getFieldVector(),
+                                                      elements[i].getFieldVector()),
+                                    1.0e-15);
+        }
+    }
+
+    @Test
+    void testSingleLayer() {
+        final GriddedGeoMagneticField single = new GriddedGeoMagneticField(field, FastMath.toRadians(5.0), 0.0);
+        final Vector3D expected = field.calculateField(0.2, 0.4, 0.0).getFieldVector();
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(expected, single.calculateField(0.2, 0.4, 0.0).getFieldVector()),
+                                0.05 * expected.getNorm());
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        final Path path = tempDir.resolve("wmm.grid");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            gridded.write(out);
+        }
+        final GriddedGeoMagneticField read = GriddedGeoMagneticField.read(path);
+        Assertions.assertEquals(gridded.getModelName(), read.getModelName());
+        Assertions.assertEquals(gridded.getEpoch(),     read.getEpoch(), 0.0);
+        Assertions.assertArrayEquals(gridded.getHeights(), read.getHeights(), 0.0);
+        for (double lat = -1.5; lat < 1.5; lat += 0.17) {
+            for (double lon = -3; lon < 3; lon += 0.19) {
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(gridded.calculateField(lat, lon, 123456.0).getFieldVector(),
+                                                          read.calculateField(lat, lon, 123456.0).getFieldVector()),
+                                        0.0);
+            }
+        }
+    }
+
+    @Test
+    void testErrors() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        gridded.write(out);
+        final byte[] bytes = out.toByteArray();
+
+        final byte[] badMagic = bytes.clone();
+        badMagic[0] = 0;
+        checkError(badMagic, OrekitMessages.UNSUPPORTED_FILE_FORMAT);
+
+        final byte[] badVersion = bytes.clone();
+        badVersion[11] = 7;
+        checkError(badVersion, OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION);
+
+        final byte[] truncated = new byte[bytes.length - 4];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        checkError(truncated, OrekitMessages.CORRUPTED_FILE);
+
+        try {
+            new GriddedGeoMagneticField(field, FastMath.toRadians(1.0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_ENOUGH_DATA, oe.getSpecifier());
+        }
+
+        try {
+            gridded.transformModel(2021.0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_TIME_TRANSFORM, oe.getSpecifier());
+        }
+
+        try {
+            gridded.transformModel(field, 2021.0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_TIME_TRANSFORM, oe.getSpecifier());
+        }
+    }
+
+    private void checkError(final byte[] bytes, final OrekitMessages expected) {
+        try {
+            GriddedGeoMagneticField.read(ByteBuffer.wrap(bytes), "test");
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(expected, oe.getSpecifier());
+        }
+    }
+
+}
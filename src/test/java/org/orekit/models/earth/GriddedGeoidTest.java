@@ -0,0 +1,185 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.Utils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.gravity.potential.EGMFormatReader;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.FramesFactory;
+import org.orekit.time.AbsoluteDate;
+
+class GriddedGeoidTest {
+
+    private static ReferenceEllipsoid WGS84;
+
+    private static Geoid geoid;
+
+    private static GriddedGeoid gridded;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUpBefore() {
+        Utils.setDataRoot("potential:regular-data");
+        GravityFieldFactory.clearPotentialCoefficientsReaders();
+        GravityFieldFactory.addPotentialCoefficientsReader(new EGMFormatReader("EGM96-truncated-21x21", false));
+        final NormalizedSphericalHarmonicsProvider potential = GravityFieldFactory.getNormalizedProvider(21, 21);
+        WGS84   = new ReferenceEllipsoid(6378137.00, 1 / 298.257223563, FramesFactory.getGCRF(),
+                                         3.986004418e14, 7292115e-11);
+        geoid   = new Geoid(potential, WGS84);
+        gridded = new GriddedGeoid(geoid, FastMath.toRadians(1.0), AbsoluteDate.ARBITRARY_EPOCH);
+    }
+
+    @Test
+    void testGrid() {
+        Assertions.assertEquals(FastMath.toRadians(1.0), gridded.getLatitudeStep(),  1.0e-15);
+        Assertions.assertEquals(FastMath.toRadians(1.0), gridded.getLongitudeStep(), 1.0e-15);
+        Assertions.assertSame(WGS84, gridded.getEllipsoid());
+        // steps are adjusted to cover the globe
+        final GriddedGeoid coarse = new GriddedGeoid(geoid, 0.7, AbsoluteDate.ARBITRARY_EPOCH);
+        Assertions.assertEquals(FastMath.PI / 5,     coarse.getLatitudeStep(),  1.0e-15);
+        Assertions.assertEquals(2 * FastMath.PI / 9, coarse.getLongitudeStep(), 1.0e-15);
+    }
+
+    @Test
+    void testNodes() {
+        for (int lat = -90; lat <= 90; lat += 15) {
+            for (int lon = -180; lon <= 180; lon += 20) {
+                final double latitude  = FastMath.toRadians(lat);
+                final double longitude = FastMath.toRadians(lon);
+                Assertions.assertEquals(geoid.getUndulation(latitude, longitude, AbsoluteDate.ARBITRARY_EPOCH),
+                                        gridded.getUndulation(latitude, longitude, null),
+                                        1.0e-5);
+            }
+        }
+    }
+
+    @Test
+    void testInterpolationAccuracy() {
+        Assertions.assertEquals(0.111, maxInterpolationError(gridded), 0.001);
+        // bilinear interpolation error decreases quadratically with step
+        final GriddedGeoid fine = new GriddedGeoid(geoid, FastMath.toRadians(0.25), AbsoluteDate.ARBITRARY_EPOCH);
+        Assertions.assertEquals(0.007, maxInterpolationError(fine), 0.001);
+    }
+
+    @Test
+    void testUndulations() {
+        final double[] longitudes = { -7.0, -3.0, 0.0, 0.5, 3.14159, 9.0 };
+        final double[] undulations = gridded.getUndulations(0.3, longitudes, null);
+        for (int i = 0; i < longitudes.length; ++i) {
+            Assertions.assertEquals(gridded.getUndulation(0.3, longitudes[i], null), undulations[i], 1.0e-15);
+        }
+    }
+
+    @Test
+    void testTransform() {
+        final GeodeticPoint point = new GeodeticPoint(FastMath.toRadians(28.5), FastMath.toRadians(92.25), 1200.0);
+        final GeodeticPoint back  = geoid.transform(gridded.transform(point), geoid.getBodyFrame(),
+                                                    AbsoluteDate.ARBITRARY_EPOCH);
+        Assertions.assertEquals(point.getAltitude(), back.getAltitude(), 0.15);
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        final Path path = tempDir.resolve("egm96-21.grid");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            gridded.write(out);
+        }
+        Assertions.assertEquals(36 + 4 * 181 * 360, Files.size(path));
+        final GriddedGeoid read = GriddedGeoid.read(path, geoid);
+        Assertions.assertEquals(gridded.getLatitudeStep(),  read.getLatitudeStep(),  0.0);
+        Assertions.assertEquals(gridded.getLongitudeStep(), read.getLongitudeStep(), 0.0);
+        for (double lat = -1.5; lat < 1.5; lat += 0.11) {
+            for (double lon = -3; lon < 3; lon += 0.13) {
+                Assertions.assertEquals(gridded.getUndulation(lat, lon, null), read.getUndulation(lat, lon, null), 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testReadErrors() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        gridded.write(out);
+        final byte[] bytes = out.toByteArray();
+
+        final byte[] badMagic = bytes.clone();
+        badMagic[0] = 0;
+        checkError(badMagic, geoid, OrekitMessages.UNSUPPORTED_FILE_FORMAT);
+
+        final byte[] badVersion = bytes.clone();
+        badVersion[11] = 7;
+        checkError(badVersion, geoid, OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION);
+
+        final byte[] truncated = new byte[bytes.length - 4];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        checkError(truncated, geoid, OrekitMessages.CORRUPTED_FILE);
+
+        final Geoid other = new Geoid(GravityFieldFactory.getNormalizedProvider(2, 2),
+                                      new ReferenceEllipsoid(6378137.00, 1 / 298.257222101, FramesFactory.getGCRF(),
+                                                             3.986004418e14, 7292115e-11));
+        checkError(bytes, other, OrekitMessages.GRID_ELLIPSOID_MISMATCH);
+
+        try {
+            new GriddedGeoid(geoid, -1.0, AbsoluteDate.ARBITRARY_EPOCH);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+    }
+
+    private double maxInterpolationError(final GriddedGeoid g) {
+        final RandomGenerator random = new Well19937a(0x6c2f4be1d0a9375eL);
+        double maxError = 0;
+        for (int k = 0; k < 2000; ++k) {
+            final double latitude  = FastMath.asin(2 * random.nextDouble() - 1);
+            final double longitude = 4 * FastMath.PI * (random.nextDouble() - 0.5);
+            final double error     = g.getUndulation(latitude, longitude, null) -
+                                     geoid.getUndulation(latitude, longitude, AbsoluteDate.ARBITRARY_EPOCH);
+            maxError = FastMath.max(maxError, FastMath.abs(error));
+        }
+        return maxError;
+    }
+
+    private void checkError(final byte[] bytes, final Geoid reference, final OrekitMessages expected) {
+        try {
+            GriddedGeoid.read(ByteBuffer.wrap(bytes), "test", reference);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(expected, oe.getSpecifier());
+        }
+    }
+
+}
@@ -21,14 +21,22 @@ import org.hipparchus.Field;
 import org.hipparchus.analysis.differentiation.Gradient;
 import org.hipparchus.analysis.differentiation.GradientField;
 import org.hipparchus.analysis.differentiation.UnivariateDerivative1;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.orekit.Utils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
 import org.orekit.frames.Frame;
 import org.orekit.frames.FramesFactory;
+import org.orekit.frames.StaticTransform;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.utils.IERSConventions;
@@ -76,6 +84,60 @@ class AtmosphereTest {
         Assertions.assertNotEquals(0., fieldVelocity.getNorm().getFirstDerivative(), 0.0);
     }
 
+    @Test
+    void testDefaultGetDensities() {
+        final TestAtmosphere testAtmosphere = new TestAtmosphere();
+        final double[] densities = testAtmosphere.getDensities(AbsoluteDate.ARBITRARY_EPOCH,
+                                                               new double[] { 7.0e6, 0, 0, 0, 7.0e6, 0 },
+                                                               FramesFactory.getGCRF());
+        Assertions.assertArrayEquals(new double[] { 1.0, 1.0 }, densities, 0.0);
+    }
+
+    @Test
+    void testGetDensitiesWrongDimension() {
+        try {
+            new TestAtmosphere().getDensities(AbsoluteDate.ARBITRARY_EPOCH, new double[] { 7.0e6, 0, 0, 0 },
+                                              FramesFactory.getGCRF());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oe.getSpecifier());
+            Assertions.assertEquals(4, oe.getParts()[0]);
+            Assertions.assertEquals(6, oe.getParts()[1]);
+        }
+    }
+
+    /** Check batch densities are identical to individual densities.
+     * @param atmosphere atmosphere model to check
+     * @param earth Earth shape
+     * @param date date
+     * @param minAlt minimum altitude
+     * @param maxAlt maximum altitude
+     */
+    static void checkGetDensities(final Atmosphere atmosphere, final OneAxisEllipsoid earth,
+                                  final AbsoluteDate date, final double minAlt, final double maxAlt) {
+        final Frame           frame     = FramesFactory.getEME2000();
+        final StaticTransform toFrame   = earth.getBodyFrame().getStaticTransformTo(frame, date);
+        final RandomGenerator random    = new Well19937a(0x1f6e2a9c3b85d074L);
+        final int             n         = 50;
+        final double[]        positions = new double[3 * n];
+        for (int i = 0; i < n; ++i) {
+            final GeodeticPoint gp = new GeodeticPoint(FastMath.asin(2 * random.nextDouble() - 1),
+                                                       2 * FastMath.PI * random.nextDouble(),
+                                                       minAlt + (maxAlt - minAlt) * random.nextDouble());
+            final Vector3D p = toFrame.transformPosition(earth.transform(gp));
+            positions[3 * i]     = p.getX();
+            positions[3 * i + 1] = p.getY();
+            positions[3 * i + 2] = p.getZ();
+        }
+        final double[] densities = atmosphere.getDensities(date, positions, frame);
+        Assertions.assertEquals(n, densities.length);
+        for (int i = 0; i < n; ++i) {
+            final Vector3D p = new Vector3D(positions[3 * i], positions[3 * i + 1], positions[3 * i + 2]);
+            Assertions.assertEquals(atmosphere.getDensity(date, p, frame), densities[i], 0.0);
+            Assertions.assertTrue(densities[i] > 0);
+        }
+    }
+
     private static class TestAtmosphere implements Atmosphere {
 
         @Override
@@ -172,6 +172,16 @@ public class DTM2000Test {
         Assertions.assertEquals(atm.getDensity(date, pEcef, ecef), actual, 0.0);
     }
 
+    @Test
+    public void testGetDensities() {
+        Frame itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        OneAxisEllipsoid earth = new OneAxisEllipsoid(6378136.460, 1.0 / 298.257222101, itrf);
+        DTM2000 atm = new DTM2000(SolarInputs97to05.getInstance(), CelestialBodyFactory.getSun(), earth);
+        AtmosphereTest.checkGetDensities(atm, earth,
+                                         new AbsoluteDate(2003, 6, 17, 4, 30, 0.0, TimeScalesFactory.getUTC()),
+                                         200000.0, 900000.0);
+    }
+
     @Test
     public void testField() {
         Frame itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
@@ -294,6 +294,11 @@ class HarrisPriesterTest {
         double get(Vector3D v);
     }
 
+    @Test
+    void testGetDensities() {
+        AtmosphereTest.checkGetDensities(new HarrisPriester(sun, earth), earth, date, 150000.0, 950000.0);
+    }
+
     @BeforeEach
     public void setUp() {
         Utils.setDataRoot("regular-data");
@@ -124,6 +124,16 @@ class JB2006Test {
         Assertions.assertEquals(referenceDensity * 1e14, FastMath.round(computedDensity * 1e18) / 1e4, EPSILON);
     }
 
+    @Test
+    public void testGetDensities() {
+        Frame bodyFrame = CelestialBodyFactory.getEarth().getBodyOrientedFrame();
+        OneAxisEllipsoid earth = new OneAxisEllipsoid(6378136.460, 1.0 / 298.257222101, bodyFrame);
+        JB2006 atm = new JB2006(new InputParameters(), CelestialBodyFactory.getSun(), earth);
+        AtmosphereTest.checkGetDensities(atm, earth,
+                                         new AbsoluteDate(2003, 7, 19, 5, 0, 0.0, TimeScalesFactory.getUTC()),
+                                         100000.0, 900000.0);
+    }
+
     @Test
     public void testWithOriginalTestsCasesField() {
         doTestWithOriginalTestsCasesField(Binary64Field.getInstance());
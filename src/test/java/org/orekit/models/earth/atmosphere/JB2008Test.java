@@ -76,6 +76,15 @@ class JB2008Test {
 
     }
 
+    @Test
+    void testGetDensities() {
+        final Frame bodyFrame = CelestialBodyFactory.getEarth().getBodyOrientedFrame();
+        final OneAxisEllipsoid earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                            Constants.WGS84_EARTH_FLATTENING, bodyFrame);
+        final JB2008 atm = new JB2008(new InputParams(), CelestialBodyFactory.getSun(), earth);
+        AtmosphereTest.checkGetDensities(atm, earth, InputParams.TC[3], 100000.0, 900000.0);
+    }
+
     @Test
     void testDensityWithLocalSolarActivityData() {
         // First case of "testAltitude"
@@ -251,6 +251,17 @@ class NRLMSISE00Test {
 
     }
 
+    @Test
+    void testGetDensities() {
+        final Frame itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        final OneAxisEllipsoid earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                            Constants.WGS84_EARTH_FLATTENING, itrf);
+        final NRLMSISE00 atm = new NRLMSISE00(new InputParams(), CelestialBodyFactory.getSun(), earth);
+        AtmosphereTest.checkGetDensities(atm, earth,
+                                         new AbsoluteDate(2003, 6, 21, 8, 3, 20.0, TimeScalesFactory.getUTC()),
+                                         100000.0, 900000.0);
+    }
+
     @Test
     void testDensityField() {
         // Build the input params provider
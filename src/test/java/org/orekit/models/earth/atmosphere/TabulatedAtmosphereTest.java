@@ -0,0 +1,271 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth.atmosphere;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.Binary64;
+import org.hipparchus.util.Binary64Field;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.bodies.CelestialBody;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.models.earth.atmosphere.data.CssiSpaceWeatherData;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.ParallelTasks;
+
+class TabulatedAtmosphereTest {
+
+    private CelestialBody    sun;
+    private OneAxisEllipsoid earth;
+    private HarrisPriester   hp;
+    private AbsoluteDate     date;
+
+    @Test
+    void testAccuracy() {
+        final TabulatedAtmosphere tabulated = build(1.0e-2, 4);
+        final RandomGenerator random = new Well19937a(0x4a8f4fdb2e9c3a1dL);
+        double maxError = 0;
+        for (int n = 0; n < 2000; ++n) {
+            // chronological order, spanning 25 slots of 3 hours (slots are not aligned with start date)
+            final AbsoluteDate t = date.shiftedBy(n * 3 * Constants.JULIAN_DAY / 2000);
+            final Vector3D     p = randomPosition(random, 250000.0, 850000.0);
+            final double exact    = hp.getDensity(t, p, earth.getBodyFrame());
+            final double estimate = tabulated.getDensity(t, p, earth.getBodyFrame());
+            maxError = FastMath.max(maxError, FastMath.abs(estimate - exact) / exact);
+        }
+        Assertions.assertTrue(maxError < 1.0e-2, "max relative error " + maxError);
+        Assertions.assertEquals(2000, tabulated.getInterpolatedEvaluations() + tabulated.getDirectEvaluations());
+        Assertions.assertTrue(tabulated.getInterpolatedEvaluations() > 1500);
+        Assertions.assertEquals(4, tabulated.getCachedSlots());
+        Assertions.assertEquals(21, tabulated.getEvictedSlots());
+    }
+
+    @Test
+    void testReuse() {
+        final TabulatedAtmosphere tabulated = build(1.0e-2, 4);
+        final RandomGenerator random = new Well19937a(0x2d6a52e1f3c49b07L);
+        final List<Vector3D> positions = new ArrayList<>();
+        for (int n = 0; n < 200; ++n) {
+            positions.add(randomPosition(random, 400000.0, 420000.0));
+        }
+        for (final Vector3D p : positions) {
+            tabulated.getDensity(date, p, earth.getBodyFrame());
+        }
+        final long nodes = tabulated.getNodeEvaluations();
+        Assertions.assertTrue(nodes > 0);
+
+        // same shell, same time slot: underlying model is almost never evaluated
+        for (final Vector3D p : positions) {
+            tabulated.getDensity(date.shiftedBy(60.0), p, earth.getBodyFrame());
+        }
+        Assertions.assertTrue(tabulated.getNodeEvaluations() - nodes < nodes / 10);
+        Assertions.assertEquals(1, tabulated.getCachedSlots());
+        Assertions.assertEquals(0, tabulated.getEvictedSlots());
+    }
+
+    @Test
+    void testOutsideAltitudeRange() {
+        final TabulatedAtmosphere tabulated = build(1.0e-2, 4);
+        final Frame    frame = FramesFactory.getEME2000();
+        final Vector3D low   = earth.transform(new GeodeticPoint(0.3, 1.2, 150000.0));
+        final Vector3D high  = earth.transform(new GeodeticPoint(-0.3, 2.2, 950000.0));
+        for (final Vector3D p : new Vector3D[] { low, high }) {
+            final Vector3D inertial = earth.getBodyFrame().getStaticTransformTo(frame, date).transformPosition(p);
+            Assertions.assertEquals(hp.getDensity(date, inertial, frame),
+                                    tabulated.getDensity(date, inertial, frame),
+                                    0.0);
+        }
+        Assertions.assertEquals(2, tabulated.getDirectEvaluations());
+        Assertions.assertEquals(0, tabulated.getInterpolatedEvaluations());
+        Assertions.assertEquals(0, tabulated.getNodeEvaluations());
+        Assertions.assertEquals(0, tabulated.getCachedSlots());
+    }
+
+    @Test
+    void testTightTolerance() {
+        // no cell can meet such a tolerance, so everything is evaluated directly
+        final TabulatedAtmosphere tabulated = build(1.0e-14, 4);
+        final RandomGenerator random = new Well19937a(0x61a3c7e0b95d2f48L);
+        for (int n = 0; n < 100; ++n) {
+            final Vector3D p = randomPosition(random, 300000.0, 800000.0);
+            Assertions.assertEquals(hp.getDensity(date, p, earth.getBodyFrame()),
+                                    tabulated.getDensity(date, p, earth.getBodyFrame()),
+                                    0.0);
+        }
+        Assertions.assertEquals(100, tabulated.getDirectEvaluations());
+        Assertions.assertEquals(0, tabulated.getInterpolatedEvaluations());
+    }
+
+    @Test
+    void testConcurrentAccess() {
+        final RandomGenerator random = new Well19937a(0x7c19d2b4e8a36f05L);
+        final List<Vector3D> positions = new ArrayList<>();
+        for (int n = 0; n < 4000; ++n) {
+            positions.add(randomPosition(random, 300000.0, 800000.0));
+        }
+
+        final TabulatedAtmosphere sequential = build(1.0e-2, 4);
+        final double[] expected = new double[positions.size()];
+        for (int n = 0; n < expected.length; ++n) {
+            expected[n] = sequential.getDensity(date, positions.get(n), earth.getBodyFrame());
+        }
+
+        final TabulatedAtmosphere shared = build(1.0e-2, 4);
+        final ParallelTasks tasks  = new ParallelTasks(4);
+        final int[]         limits = tasks.split(positions.size());
+        final List<Callable<double[]>> callables = new ArrayList<>();
+        for (int c = 0; c + 1 < limits.length; ++c) {
+            final int start = limits[c];
+            final int end   = limits[c + 1];
+            callables.add(() -> {
+                final double[] rho = new double[end - start];
+                for (int n = start; n < end; ++n) {
+                    rho[n - start] = shared.getDensity(date, positions.get(n), earth.getBodyFrame());
+                }
+                return rho;
+            });
+        }
+        final List<double[]> results = tasks.run(callables);
+        for (int c = 0; c < results.size(); ++c) {
+            for (int n = limits[c]; n < limits[c + 1]; ++n) {
+                Assertions.assertEquals(expected[n], results.get(c)[n - limits[c]], 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testDelegation() {
+        final TabulatedAtmosphere tabulated = build(1.0e-2, 4);
+        final Frame    frame = FramesFactory.getEME2000();
+        final Vector3D p     = new Vector3D(7000000.0, 300000.0, -200000.0);
+        Assertions.assertSame(hp, tabulated.getAtmosphere());
+        Assertions.assertSame(hp.getFrame(), tabulated.getFrame());
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(hp.getVelocity(date, p, frame),
+                                                  tabulated.getVelocity(date, p, frame)),
+                                1.0e-15);
+        final FieldAbsoluteDate<Binary64> fDate = new FieldAbsoluteDate<>(Binary64Field.getInstance(), date);
+        final FieldVector3D<Binary64>     fP    = new FieldVector3D<>(Binary64Field.getInstance(), p);
+        Assertions.assertEquals(hp.getDensity(fDate, fP, frame).getReal(),
+                                tabulated.getDensity(fDate, fP, frame).getReal(),
+                                0.0);
+        Assertions.assertEquals(0.0,
+                                FieldVector3D.distance(hp.getVelocity(fDate, fP, frame),
+                                                       tabulated.getVelocity(fDate, fP, frame)).getReal(),
+                                1.0e-15);
+        Assertions.assertEquals(0, tabulated.getNodeEvaluations());
+    }
+
+    @Test
+    void testWrongParameters() {
+        try {
+            new TabulatedAtmosphere(hp, earth, sun, 200000.0, 900000.0, 0.0,
+                                    FastMath.toRadians(5.0), FastMath.toRadians(7.5),
+                                    date, 10800.0, 1.0e-2, 4);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+        try {
+            new TabulatedAtmosphere(hp, earth, sun, 900000.0, 200000.0, 10000.0,
+                                    FastMath.toRadians(5.0), FastMath.toRadians(7.5),
+                                    date, 10800.0, 1.0e-2, 4);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(200000.0, (Double) oe.getParts()[0], 1.0e-10);
+            Assertions.assertEquals(900000.0, (Double) oe.getParts()[1], 1.0e-10);
+        }
+    }
+
+    @Test
+    void testSpaceWeatherBins() {
+        // on 2003-10-29, three-hourly Kp jumps from 4.0 to 9.0 at 06:00 UTC
+        Utils.setDataRoot("regular-data:atmosphere");
+        final DTM2000 dtm = new DTM2000(new CssiSpaceWeatherData(CssiSpaceWeatherData.DEFAULT_SUPPORTED_NAMES),
+                                        sun, earth);
+        final AbsoluteDate midnight = new AbsoluteDate(2003, 10, 29, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        final AbsoluteDate t        = midnight.shiftedBy(6 * 3600.0 - 30.0);
+
+        // slots aligned with UTC bins use the Kp of the bin containing the date
+        final TabulatedAtmosphere aligned    = new TabulatedAtmosphere(dtm, earth, sun, 350000.0, 450000.0, 10000.0,
+                                                                       FastMath.toRadians(5.0), FastMath.toRadians(7.5),
+                                                                       midnight, 10800.0, 1.0e-2, 4);
+
+        // slots starting at 11:58:55.816 UTC end just before 06:00 UTC, and use the next bin
+        final TabulatedAtmosphere misaligned = new TabulatedAtmosphere(dtm, earth, sun, 350000.0, 450000.0, 10000.0,
+                                                                       FastMath.toRadians(5.0), FastMath.toRadians(7.5),
+                                                                       AbsoluteDate.J2000_EPOCH, 10800.0, 1.0e-2, 4);
+
+        final RandomGenerator random = new Well19937a(0x35c2e8a91d4b7f60L);
+        double maxAligned    = 0;
+        double minMisaligned = Double.POSITIVE_INFINITY;
+        for (int n = 0; n < 50; ++n) {
+            final Vector3D p     = randomPosition(random, 380000.0, 420000.0);
+            final double   exact = dtm.getDensity(t, p, earth.getBodyFrame());
+            maxAligned    = FastMath.max(maxAligned,
+                                         FastMath.abs(aligned.getDensity(t, p, earth.getBodyFrame()) - exact) / exact);
+            minMisaligned = FastMath.min(minMisaligned,
+                                         FastMath.abs(misaligned.getDensity(t, p, earth.getBodyFrame()) - exact) / exact);
+        }
+        Assertions.assertTrue(maxAligned < 2.0e-2, "max relative error " + maxAligned);
+        Assertions.assertTrue(minMisaligned > 0.2, "min relative error " + minMisaligned);
+        Assertions.assertEquals(50, aligned.getInterpolatedEvaluations());
+    }
+
+    private TabulatedAtmosphere build(final double tolerance, final int maxSlots) {
+        return new TabulatedAtmosphere(hp, earth, sun, 200000.0, 900000.0, 10000.0,
+                                       FastMath.toRadians(5.0), FastMath.toRadians(7.5),
+                                       new AbsoluteDate(2003, 3, 21, 0, 0, 0.0, TimeScalesFactory.getUTC()),
+                                       10800.0, tolerance, maxSlots);
+    }
+
+    private Vector3D randomPosition(final RandomGenerator random, final double minAlt, final double maxAlt) {
+        return earth.transform(new GeodeticPoint(FastMath.asin(2 * random.nextDouble() - 1),
+                                                 2 * FastMath.PI * random.nextDouble(),
+                                                 minAlt + (maxAlt - minAlt) * random.nextDouble()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data");
+        sun   = CelestialBodyFactory.getSun();
+        earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS, Constants.WGS84_EARTH_FLATTENING,
+                                     CelestialBodyFactory.getEarth().getBodyOrientedFrame());
+        hp    = new HarrisPriester(sun, earth);
+        date  = new AbsoluteDate(2003, 3, 21, 1, 0, 0.0, TimeScalesFactory.getUTC());
+    }
+
+}
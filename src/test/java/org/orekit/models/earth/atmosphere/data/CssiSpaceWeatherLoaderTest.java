@@ -19,9 +19,15 @@
 package org.orekit.models.earth.atmosphere.data;
 
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.SortedSet;
@@ -30,6 +36,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
 
 import org.hipparchus.ode.ODEIntegrator;
 import org.hipparchus.ode.nonstiff.ClassicalRungeKuttaIntegrator;
@@ -95,6 +102,43 @@ public class CssiSpaceWeatherLoaderTest {
         return new CssiSpaceWeatherData(CssiSpaceWeatherData.DEFAULT_SUPPORTED_NAMES);
     }
 
+    @Test
+    public void testUpdate() throws IOException, URISyntaxException {
+        final URL url = CssiSpaceWeatherLoaderTest.class.getClassLoader().
+                        getResource("atmosphere/SpaceWeather-All-v1.2_snapshot_20200224.txt");
+        final List<String> lines = Files.readAllLines(Paths.get(url.toURI()));
+
+        // old file, with observations only up to 1998, and newer file with only the last years
+        final List<String> head = new ArrayList<>(lines.subList(0, 15000));
+        head.add("END OBSERVED");
+        final List<String> tail = new ArrayList<>(lines.subList(0, 19));
+        tail.addAll(lines.subList(14000, lines.size()));
+
+        final CssiSpaceWeatherData full    = new CssiSpaceWeatherData(new DataSource(url.toURI()));
+        final CssiSpaceWeatherData updated = new CssiSpaceWeatherData(toSource("head", head));
+        Assertions.assertTrue(updated.getMaxDate().isBefore(full.getMaxDate()));
+        updated.update(toSource("tail", tail));
+        Assertions.assertEquals(full.getMinDate(), updated.getMinDate());
+        Assertions.assertEquals(full.getMaxDate(), updated.getMaxDate());
+
+        final AbsoluteDate start = full.getMinDate().shiftedBy(5 * Constants.JULIAN_DAY);
+        final double       span  = full.getMaxDate().durationFrom(start) - 5 * Constants.JULIAN_DAY;
+        for (int i = 0; i < 2000; ++i) {
+            final AbsoluteDate date = start.shiftedBy(i * span / 1999);
+            Assertions.assertEquals(full.getDailyFlux(date),        updated.getDailyFlux(date),        0.0);
+            Assertions.assertEquals(full.getAverageFlux(date),      updated.getAverageFlux(date),      0.0);
+            Assertions.assertEquals(full.getThreeHourlyKP(date),    updated.getThreeHourlyKP(date),    0.0);
+            Assertions.assertEquals(full.get24HoursKp(date),        updated.get24HoursKp(date),        0.0);
+            Assertions.assertArrayEquals(full.getAp(date),          updated.getAp(date),               0.0);
+        }
+
+    }
+
+    private DataSource toSource(final String name, final List<String> lines) {
+        final byte[] bytes = String.join("\n", lines).concat("\n").getBytes(StandardCharsets.US_ASCII);
+        return new DataSource(name, () -> new ByteArrayInputStream(bytes));
+    }
+
     @Test
     public void testIssue1117() throws URISyntaxException {
         final URL url = CssiSpaceWeatherLoaderTest.class.getClassLoader().getResource("atmosphere/SpaceWeather-All-v1.2_reduced.txt");
@@ -442,30 +486,42 @@ public class CssiSpaceWeatherLoaderTest {
     }
 
     @Test
-    void testExpectedCacheConfigurationAndCalls() {
+    void testIndexedLookupAtBoundaries() {
         // GIVEN
-        final AbsoluteDate date = new AbsoluteDate(2020, 2, 25, 2, 0, 0, TimeScalesFactory.getUTC());
-
         final CssiSpaceWeatherData atm = new CssiSpaceWeatherData(CssiSpaceWeatherData.DEFAULT_SUPPORTED_NAMES);
 
-        // WHEN
-        // Call flux at instants that shall generate slots
-        atm.getInstantFlux(date.shiftedBy(-1*Constants.JULIAN_DAY));
-        atm.getInstantFlux(date);
-        atm.getInstantFlux(date.shiftedBy(1*Constants.JULIAN_DAY));
-        atm.getInstantFlux(date.shiftedBy(3*Constants.JULIAN_DAY));
-        atm.getInstantFlux(date.shiftedBy(2*Constants.JULIAN_DAY));
+        // the deprecated cache is only built on demand, it is used here as the reference implementation
+        @SuppressWarnings("deprecation")
+        final GenericTimeStampedCache<LineParameters> cache = atm.getCache();
+        final List<LineParameters> all = cache.getGenerator().generate(atm.getMinDate(), atm.getMaxDate());
+
+        // WHEN/THEN
+        // lookups exactly at each line, just around it and in the middle of each interval
+        for (int i = 0; i < all.size() - 1; ++i) {
+            final AbsoluteDate t0 = all.get(i).getDate();
+            final AbsoluteDate t1 = all.get(i + 1).getDate();
+            for (final AbsoluteDate date : Arrays.asList(t0, t0.shiftedBy(1.0e-3), t0.shiftedBy(1.0),
+                                                         t0.shiftedBy(0.5 * t1.durationFrom(t0)),
+                                                         t1.shiftedBy(-1.0), t1.shiftedBy(-1.0e-3), t1)) {
+                Assertions.assertEquals(referenceInterpolation(cache, date, LineParameters::getF107Obs),
+                                        atm.getInstantFlux(date), 1.0e-12);
+            }
+        }
 
-        // Call flux at instants that shall not generate slots
-        atm.getInstantFlux(date.shiftedBy(-0.6 * Constants.JULIAN_DAY));
-        atm.getInstantFlux(date.shiftedBy(1.8 * Constants.JULIAN_DAY));
+        // lookups outside of the data range are rejected
+        Assertions.assertThrows(OrekitException.class, () -> atm.getInstantFlux(atm.getMinDate().shiftedBy(-1.0e-3)));
+        Assertions.assertThrows(OrekitException.class, () -> atm.getInstantFlux(atm.getMaxDate().shiftedBy(1.0e-3)));
+    }
 
-        // THEN
-        final GenericTimeStampedCache<LineParameters> cache = atm.getCache();
-        Assertions.assertEquals(5, cache.getGenerateCalls());
-        Assertions.assertEquals(5, cache.getSlots());
-        Assertions.assertEquals(10, cache.getEntries());
-        Assertions.assertEquals(7, cache.getGetNeighborsCalls());
+    private static <L extends AbstractSolarActivityDataLoader.LineParameters>
+        double referenceInterpolation(final GenericTimeStampedCache<L> cache, final AbsoluteDate date,
+                                      final ToDoubleFunction<L> extractor) {
+        final List<L> neighbors = cache.getNeighbors(date).toList();
+        final L       previous  = neighbors.get(0);
+        final L       next      = neighbors.get(1);
+        final double  dt        = next.getDate().durationFrom(previous.getDate());
+        return extractor.applyAsDouble(previous) * next.getDate().durationFrom(date) / dt +
+               extractor.applyAsDouble(next) * date.durationFrom(previous.getDate()) / dt;
     }
 
     /**
@@ -19,15 +19,27 @@ package org.orekit.models.earth.atmosphere.data;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.orekit.OrekitMatchers.closeTo;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.orekit.Utils;
 import org.orekit.data.DataSource;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
 
 
 public class JB2008SpaceEnvironmentDataTest {
@@ -46,4 +58,69 @@ public class JB2008SpaceEnvironmentDataTest {
         assertThat(120.6, closeTo(JBData.getF10B(julianDate), 1e-10));
     }
 
+    @Test
+    public void testUpdate() throws IOException, URISyntaxException {
+        final URL urlSolfsmy = JB2008SpaceEnvironmentDataTest.class.getClassLoader().getResource("atmosphere/SOLFSMY_trunc.txt");
+        final URL urlDtc = JB2008SpaceEnvironmentDataTest.class.getClassLoader().getResource("atmosphere/DTCFILE_trunc.TXT");
+        final List<String> linesSolfsmy = Files.readAllLines(Paths.get(urlSolfsmy.toURI()));
+        final List<String> linesDtc     = Files.readAllLines(Paths.get(urlDtc.toURI()));
+
+        // old files with the first records only, and newer files with overlapping last records
+        final List<String> tailSolfsmy = new ArrayList<>(linesSolfsmy.subList(0, 4));
+        tailSolfsmy.addAll(linesSolfsmy.subList(500, linesSolfsmy.size()));
+
+        final JB2008SpaceEnvironmentData full =
+                        new JB2008SpaceEnvironmentData(new DataSource(urlSolfsmy.toURI()), new DataSource(urlDtc.toURI()));
+        final JB2008SpaceEnvironmentData updated =
+                        new JB2008SpaceEnvironmentData(toSource("SOLFSMY_head.txt", linesSolfsmy.subList(0, 600)),
+                                                       toSource("DTCFILE_head.TXT", linesDtc.subList(0, 600)));
+        Assertions.assertTrue(updated.getMaxDate().isBefore(full.getMaxDate()));
+        updated.update(toSource("SOLFSMY_tail.txt", tailSolfsmy),
+                       toSource("DTCFILE_tail.TXT", linesDtc.subList(500, linesDtc.size())),
+                       TimeScalesFactory.getUTC());
+        Assertions.assertEquals(full.getMinDate(), updated.getMinDate());
+        Assertions.assertEquals(full.getMaxDate(), updated.getMaxDate());
+
+        final AbsoluteDate start = full.getMinDate().shiftedBy(Constants.JULIAN_DAY);
+        final double       span  = full.getMaxDate().durationFrom(start);
+        for (int i = 0; i < 2000; ++i) {
+            final AbsoluteDate date = start.shiftedBy(i * span / 1999);
+            Assertions.assertEquals(full.getF10(date),    updated.getF10(date),    0.0);
+            Assertions.assertEquals(full.getF10B(date),   updated.getF10B(date),   0.0);
+            Assertions.assertEquals(full.getS10(date),    updated.getS10(date),    0.0);
+            Assertions.assertEquals(full.getXM10B(date),  updated.getXM10B(date),  0.0);
+            Assertions.assertEquals(full.getY10(date),    updated.getY10(date),    0.0);
+            Assertions.assertEquals(full.getDSTDTC(date), updated.getDSTDTC(date), 0.0);
+        }
+
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException, URISyntaxException {
+        final URL urlSolfsmy = JB2008SpaceEnvironmentDataTest.class.getClassLoader().getResource("atmosphere/SOLFSMY_trunc.txt");
+        final URL urlDtc = JB2008SpaceEnvironmentDataTest.class.getClassLoader().getResource("atmosphere/DTCFILE_trunc.TXT");
+        final JB2008SpaceEnvironmentData data =
+                        new JB2008SpaceEnvironmentData(new DataSource(urlSolfsmy.toURI()), new DataSource(urlDtc.toURI()));
+
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(data);
+        }
+        final JB2008SpaceEnvironmentData deserialized;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            deserialized = (JB2008SpaceEnvironmentData) ois.readObject();
+        }
+
+        Assertions.assertEquals(data.getMinDate(), deserialized.getMinDate());
+        Assertions.assertEquals(data.getMaxDate(), deserialized.getMaxDate());
+        final AbsoluteDate date = AbsoluteDate.createJDDate(2453006, 0, TimeScalesFactory.getUTC());
+        Assertions.assertEquals(data.getF10B(date), deserialized.getF10B(date), 0.0);
+        Assertions.assertEquals(data.getDSTDTC(date), deserialized.getDSTDTC(date), 0.0);
+    }
+
+    private DataSource toSource(final String name, final List<String> lines) {
+        final byte[] bytes = String.join("\n", lines).concat("\n").getBytes(StandardCharsets.US_ASCII);
+        return new DataSource(name, () -> new ByteArrayInputStream(bytes));
+    }
+
 }
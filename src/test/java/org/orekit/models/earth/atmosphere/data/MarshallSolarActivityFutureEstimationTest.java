@@ -16,9 +16,15 @@
  */
 package org.orekit.models.earth.atmosphere.data;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -26,6 +32,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
 
 import org.hipparchus.ode.ODEIntegrator;
 import org.hipparchus.ode.nonstiff.ClassicalRungeKuttaIntegrator;
@@ -659,32 +666,67 @@ public class MarshallSolarActivityFutureEstimationTest {
     }
 
     @Test
-    void testExpectedCacheConfigurationAndCalls() {
+    void testSerialization() throws IOException, ClassNotFoundException {
         // GIVEN
-        final AbsoluteDate date = new AbsoluteDate(2020, 2, 25, 2, 0, 0, TimeScalesFactory.getUTC());
-
-        final MarshallSolarActivityFutureEstimation atm =
-              new MarshallSolarActivityFutureEstimation(MarshallSolarActivityFutureEstimation.DEFAULT_SUPPORTED_NAMES,
+        final MarshallSolarActivityFutureEstimation atm = new MarshallSolarActivityFutureEstimation(MarshallSolarActivityFutureEstimation.DEFAULT_SUPPORTED_NAMES,
                                                         StrengthLevel.AVERAGE);
 
         // WHEN
-        // Call flux at instants that shall generate slots
-        atm.getInstantFlux(date.shiftedBy(-1 * Constants.JULIAN_DAY * 31));
-        atm.getInstantFlux(date);
-        atm.getInstantFlux(date.shiftedBy(1 * Constants.JULIAN_DAY * 31));
-        atm.getInstantFlux(date.shiftedBy(3 * Constants.JULIAN_DAY * 31));
-        atm.getInstantFlux(date.shiftedBy(2 * Constants.JULIAN_DAY * 31));
-
-        // Call flux at instants that shall not generate slots
-        atm.getInstantFlux(date.shiftedBy(-0.6 * Constants.JULIAN_DAY * 31));
-        atm.getInstantFlux(date.shiftedBy(1.8 * Constants.JULIAN_DAY * 31));
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(atm);
+        }
+        final MarshallSolarActivityFutureEstimation deserialized;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            deserialized = (MarshallSolarActivityFutureEstimation) ois.readObject();
+        }
 
         // THEN
+        Assertions.assertEquals(atm.getMinDate(), deserialized.getMinDate());
+        Assertions.assertEquals(atm.getMaxDate(), deserialized.getMaxDate());
+        final AbsoluteDate date = atm.getMinDate().shiftedBy(0.4 * atm.getMaxDate().durationFrom(atm.getMinDate()));
+        Assertions.assertEquals(atm.getInstantFlux(date), deserialized.getInstantFlux(date), 0.0);
+        Assertions.assertEquals(atm.getMeanFlux(date), deserialized.getMeanFlux(date), 0.0);
+    }
+
+    @Test
+    void testIndexedLookupAtBoundaries() {
+        // GIVEN
+        final MarshallSolarActivityFutureEstimation atm = new MarshallSolarActivityFutureEstimation(MarshallSolarActivityFutureEstimation.DEFAULT_SUPPORTED_NAMES,
+                                                        StrengthLevel.AVERAGE);
+
+        // the deprecated cache is only built on demand, it is used here as the reference implementation
+        @SuppressWarnings("deprecation")
         final GenericTimeStampedCache<MarshallSolarActivityFutureEstimationLoader.LineParameters> cache = atm.getCache();
-        Assertions.assertEquals(5, cache.getGenerateCalls());
-        Assertions.assertEquals(5, cache.getSlots());
-        Assertions.assertEquals(10, cache.getEntries());
-        Assertions.assertEquals(7, cache.getGetNeighborsCalls());
+        final List<MarshallSolarActivityFutureEstimationLoader.LineParameters> all = cache.getGenerator().generate(atm.getMinDate(), atm.getMaxDate());
+
+        // WHEN/THEN
+        // lookups exactly at each line, just around it and in the middle of each interval
+        for (int i = 0; i < all.size() - 1; ++i) {
+            final AbsoluteDate t0 = all.get(i).getDate();
+            final AbsoluteDate t1 = all.get(i + 1).getDate();
+            for (final AbsoluteDate date : Arrays.asList(t0, t0.shiftedBy(1.0e-3), t0.shiftedBy(1.0),
+                                                         t0.shiftedBy(0.5 * t1.durationFrom(t0)),
+                                                         t1.shiftedBy(-1.0), t1.shiftedBy(-1.0e-3), t1)) {
+                Assertions.assertEquals(referenceInterpolation(cache, date, MarshallSolarActivityFutureEstimationLoader.LineParameters::getF107),
+                                        atm.getMeanFlux(date), 1.0e-12);
+            }
+        }
+
+        // lookups outside of the data range are rejected
+        Assertions.assertThrows(OrekitException.class, () -> atm.getMeanFlux(atm.getMinDate().shiftedBy(-1.0e-3)));
+        Assertions.assertThrows(OrekitException.class, () -> atm.getMeanFlux(atm.getMaxDate().shiftedBy(1.0e-3)));
+    }
+
+    private static <L extends AbstractSolarActivityDataLoader.LineParameters>
+        double referenceInterpolation(final GenericTimeStampedCache<L> cache, final AbsoluteDate date,
+                                      final ToDoubleFunction<L> extractor) {
+        final List<L> neighbors = cache.getNeighbors(date).toList();
+        final L       previous  = neighbors.get(0);
+        final L       next      = neighbors.get(1);
+        final double  dt        = next.getDate().durationFrom(previous.getDate());
+        return extractor.applyAsDouble(previous) * next.getDate().durationFrom(date) / dt +
+               extractor.applyAsDouble(next) * date.durationFrom(previous.getDate()) / dt;
     }
 
     @BeforeEach
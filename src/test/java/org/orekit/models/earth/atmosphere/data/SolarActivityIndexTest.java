@@ -0,0 +1,195 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.models.earth.atmosphere.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeStampedDouble;
+import org.orekit.utils.Constants;
+
+public class SolarActivityIndexTest {
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+    }
+
+    @Test
+    public void testRegularSpacing() {
+        final List<TimeStampedDouble> entries = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            entries.add(new TimeStampedDouble(AbsoluteDate.J2000_EPOCH.shiftedBy(i * Constants.JULIAN_DAY), i));
+        }
+        checkAgainstLinearSearch(new SolarActivityIndex<>(entries), entries, 10000);
+    }
+
+    @Test
+    public void testIrregularSpacing() {
+        // mimic a file with daily values followed by monthly predictions and a few close points
+        final List<TimeStampedDouble> entries = new ArrayList<>();
+        double t = 0;
+        for (int i = 0; i < 60; ++i) {
+            entries.add(new TimeStampedDouble(AbsoluteDate.J2000_EPOCH.shiftedBy(t), i));
+            t += i < 40 ? Constants.JULIAN_DAY : (i < 50 ? 30 * Constants.JULIAN_DAY : 1.0e-3);
+        }
+        final SolarActivityIndex<TimeStampedDouble> index = new SolarActivityIndex<>(entries);
+        checkAgainstLinearSearch(index, entries, 10000);
+
+        // exact nodes
+        for (int i = 0; i < entries.size() - 1; ++i) {
+            Assertions.assertEquals(i, index.findIndex(entries.get(i).getDate()));
+        }
+        Assertions.assertEquals(entries.size() - 2, index.findIndex(entries.getLast().getDate()));
+
+    }
+
+    @Test
+    public void testOutOfRange() {
+        final List<TimeStampedDouble> entries = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            entries.add(new TimeStampedDouble(AbsoluteDate.J2000_EPOCH.shiftedBy(i * Constants.JULIAN_DAY), i));
+        }
+        final SolarActivityIndex<TimeStampedDouble> index = new SolarActivityIndex<>(entries);
+        Assertions.assertEquals(0, index.findIndex(AbsoluteDate.J2000_EPOCH.shiftedBy(-3 * Constants.JULIAN_DAY)));
+        Assertions.assertEquals(8, index.findIndex(AbsoluteDate.J2000_EPOCH.shiftedBy(30 * Constants.JULIAN_DAY)));
+        Assertions.assertEquals(AbsoluteDate.J2000_EPOCH, index.getFirstDate());
+        Assertions.assertEquals(AbsoluteDate.J2000_EPOCH.shiftedBy(9 * Constants.JULIAN_DAY), index.getLastDate());
+    }
+
+    @Test
+    public void testAppend() {
+        final List<TimeStampedDouble> initial = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            initial.add(new TimeStampedDouble(AbsoluteDate.J2000_EPOCH.shiftedBy(i * Constants.JULIAN_DAY), i));
+        }
+        final List<TimeStampedDouble> update = new ArrayList<>();
+        for (int i = 7; i < 15; ++i) {
+            update.add(new TimeStampedDouble(AbsoluteDate.J2000_EPOCH.shiftedBy(i * Constants.JULIAN_DAY), -i));
+        }
+        final SolarActivityIndex<TimeStampedDouble> original = new SolarActivityIndex<>(initial);
+        final SolarActivityIndex<TimeStampedDouble> appended = original.append(update);
+
+        // original index is unchanged
+        Assertions.assertEquals(10, original.size());
+        Assertions.assertEquals(9.0, original.get(9).getValue(), 0.0);
+
+        // updated values override previous ones from the first new date
+        Assertions.assertEquals(15, appended.size());
+        for (int i = 0; i < 15; ++i) {
+            Assertions.assertEquals(i < 7 ? i : -i, appended.get(i).getValue(), 0.0);
+        }
+        Assertions.assertEquals(AbsoluteDate.J2000_EPOCH.shiftedBy(14 * Constants.JULIAN_DAY), appended.getLastDate());
+        Assertions.assertSame(original, original.append(new ArrayList<>()));
+
+    }
+
+    @Test
+    public void testBoundaries() {
+        final List<TimeStampedDouble> initial = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            initial.add(new TimeStampedDouble(AbsoluteDate.J2000_EPOCH.shiftedBy(i * Constants.JULIAN_DAY), i));
+        }
+        final AbsoluteDate b0 = AbsoluteDate.J2000_EPOCH.shiftedBy(3 * Constants.JULIAN_DAY);
+        final AbsoluteDate b1 = AbsoluteDate.J2000_EPOCH.shiftedBy(6 * Constants.JULIAN_DAY);
+        final SolarActivityIndex<TimeStampedDouble> original = new SolarActivityIndex<>(initial);
+        final SolarActivityIndex<TimeStampedDouble> bounded  = original.withBoundaries(b0, b1);
+        Assertions.assertSame(b0, bounded.getBoundary(0));
+        Assertions.assertSame(b1, bounded.getBoundary(1));
+        Assertions.assertEquals(original.size(), bounded.size());
+        Assertions.assertSame(original.get(5), bounded.get(5));
+
+        // boundaries are preserved when appending data
+        final List<TimeStampedDouble> update = new ArrayList<>();
+        for (int i = 7; i < 15; ++i) {
+            update.add(new TimeStampedDouble(AbsoluteDate.J2000_EPOCH.shiftedBy(i * Constants.JULIAN_DAY), -i));
+        }
+        final SolarActivityIndex<TimeStampedDouble> appended = bounded.append(update);
+        Assertions.assertSame(b0, appended.getBoundary(0));
+        Assertions.assertSame(b1, appended.getBoundary(1));
+
+    }
+
+    @Test
+    public void testCovering() {
+        final List<TimeStampedDouble> entries = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            entries.add(new TimeStampedDouble(AbsoluteDate.J2000_EPOCH.shiftedBy(i * Constants.JULIAN_DAY), i));
+        }
+        final SolarActivityIndex<TimeStampedDouble> index = new SolarActivityIndex<>(entries);
+
+        // range strictly inside data
+        List<TimeStampedDouble> covering = index.getCovering(AbsoluteDate.J2000_EPOCH.shiftedBy(2.5 * Constants.JULIAN_DAY),
+                                                             AbsoluteDate.J2000_EPOCH.shiftedBy(5.5 * Constants.JULIAN_DAY));
+        Assertions.assertEquals(5, covering.size());
+        Assertions.assertEquals(2.0, covering.getFirst().getValue(), 0.0);
+        Assertions.assertEquals(6.0, covering.getLast().getValue(), 0.0);
+
+        // range bounds exactly on entries
+        covering = index.getCovering(AbsoluteDate.J2000_EPOCH.shiftedBy(2 * Constants.JULIAN_DAY),
+                                     AbsoluteDate.J2000_EPOCH.shiftedBy(5 * Constants.JULIAN_DAY));
+        Assertions.assertEquals(4, covering.size());
+        Assertions.assertEquals(2.0, covering.getFirst().getValue(), 0.0);
+        Assertions.assertEquals(5.0, covering.getLast().getValue(), 0.0);
+
+        // range exceeding data is clamped
+        covering = index.getCovering(AbsoluteDate.J2000_EPOCH.shiftedBy(-3 * Constants.JULIAN_DAY),
+                                     AbsoluteDate.J2000_EPOCH.shiftedBy(30 * Constants.JULIAN_DAY));
+        Assertions.assertEquals(entries, covering);
+
+    }
+
+    @Test
+    public void testNotEnoughEntries() {
+        final List<TimeStampedDouble> entries = new ArrayList<>();
+        entries.add(new TimeStampedDouble(AbsoluteDate.J2000_EPOCH, 0));
+        try {
+            new SolarActivityIndex<>(entries);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.NOT_ENOUGH_CACHED_NEIGHBORS, oiae.getSpecifier());
+            Assertions.assertEquals(1, oiae.getParts()[0]);
+            Assertions.assertEquals(2, oiae.getParts()[1]);
+        }
+    }
+
+    private void checkAgainstLinearSearch(final SolarActivityIndex<TimeStampedDouble> index,
+                                          final List<TimeStampedDouble> entries, final int n) {
+        final RandomGenerator random = new Well19937a(0x4b7e6cf7b1c2a93dL);
+        final double span = entries.getLast().getDate().durationFrom(entries.getFirst().getDate());
+        for (int k = 0; k < n; ++k) {
+            final AbsoluteDate date = entries.getFirst().getDate().shiftedBy(random.nextDouble() * span);
+            int expected = 0;
+            while (expected < entries.size() - 2 && !entries.get(expected + 1).getDate().isAfter(date)) {
+                ++expected;
+            }
+            final int i = index.findIndex(date);
+            Assertions.assertEquals(expected, i);
+            Assertions.assertFalse(entries.get(i).getDate().isAfter(date));
+        }
+    }
+
+}
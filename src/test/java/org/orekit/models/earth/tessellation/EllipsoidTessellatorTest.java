@@ -44,6 +44,8 @@ import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class EllipsoidTessellatorTest {
@@ -142,6 +144,81 @@ public class EllipsoidTessellatorTest {
         checkTilesDontOverlap(tiles);
     }
 
+    @Test
+    public void testParallelTiles() {
+        final TileAiming aiming = new AlongTrackAiming(ellipsoid, orbit, false);
+        final List<List<Tile>> serial =
+                new EllipsoidTessellator(ellipsoid, aiming, 16).
+                tessellate(buildFrance(), 50000.0, 150000.0, 5000.0, 5000.0, false, false);
+        final List<List<Tile>> parallel =
+                new EllipsoidTessellator(ellipsoid, aiming, 16, 4).
+                tessellate(buildFrance(), 50000.0, 150000.0, 5000.0, 5000.0, false, false);
+        Assertions.assertEquals(serial.size(), parallel.size());
+        for (int i = 0; i < serial.size(); ++i) {
+            Assertions.assertEquals(serial.get(i).size(), parallel.get(i).size());
+            for (int j = 0; j < serial.get(i).size(); ++j) {
+                final GeodeticPoint[] v1 = serial.get(i).get(j).getVertices();
+                final GeodeticPoint[] v2 = parallel.get(i).get(j).getVertices();
+                for (int k = 0; k < v1.length; ++k) {
+                    Assertions.assertEquals(v1[k].getLatitude(),  v2[k].getLatitude(),  0.0);
+                    Assertions.assertEquals(v1[k].getLongitude(), v2[k].getLongitude(), 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStreamingTiles() {
+        final EllipsoidTessellator tessellator =
+                new EllipsoidTessellator(ellipsoid, new ConstantAzimuthAiming(ellipsoid, FastMath.toRadians(120)), 4, 2);
+        final int[] counts = new int[3];
+        final int parts = tessellator.tessellate(buildFrance(), 50000.0, 150000.0, -5000.0, -5000.0, false, false,
+                                                 (tile, part) -> ++counts[part]);
+        Assertions.assertEquals(2,  parts);
+        Assertions.assertEquals(86, FastMath.max(counts[0], counts[1]));
+        Assertions.assertEquals(4,  FastMath.min(counts[0], counts[1]));
+        Assertions.assertEquals(0,  counts[2]);
+    }
+
+    @Test
+    public void testParallelAndStreamingSample() {
+        final TileAiming aiming = new AlongTrackAiming(ellipsoid, orbit, true);
+        final List<List<GeodeticPoint>> serial =
+                new EllipsoidTessellator(ellipsoid, aiming, 4).sample(buildFrance(), 25000.0, 50000.0);
+        final List<List<GeodeticPoint>> parallel =
+                new EllipsoidTessellator(ellipsoid, aiming, 4, 4).sample(buildFrance(), 25000.0, 50000.0);
+        final List<List<GeodeticPoint>> streamed = new ArrayList<>();
+        final int parts = new EllipsoidTessellator(ellipsoid, aiming, 4).
+                          sample(buildFrance(), 25000.0, 50000.0, (point, part) -> {
+                              if (part == streamed.size()) {
+                                  streamed.add(new ArrayList<>());
+                              }
+                              streamed.get(part).add(point);
+                          });
+        Assertions.assertEquals(2, parts);
+        Assertions.assertEquals(2, serial.size());
+        for (final List<List<GeodeticPoint>> other : Arrays.asList(parallel, streamed)) {
+            Assertions.assertEquals(serial.size(), other.size());
+            for (int i = 0; i < serial.size(); ++i) {
+                Assertions.assertEquals(serial.get(i).size(), other.get(i).size());
+                for (int j = 0; j < serial.get(i).size(); ++j) {
+                    Assertions.assertEquals(serial.get(i).get(j).getLatitude(),  other.get(i).get(j).getLatitude(),  0.0);
+                    Assertions.assertEquals(serial.get(i).get(j).getLongitude(), other.get(i).get(j).getLongitude(), 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWrongNumberOfThreads() {
+        try {
+            new EllipsoidTessellator(ellipsoid, new AlongTrackAiming(ellipsoid, orbit, true), 4, 0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+    }
+
     @Test
     public void testTilesSmallZoneWithoutTruncation() {
 
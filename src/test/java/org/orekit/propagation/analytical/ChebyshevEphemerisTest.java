@@ -0,0 +1,315 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.DoubleFunction;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.EphemerisGenerator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.ToleranceProvider;
+import org.orekit.propagation.numerical.NumericalPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.PVCoordinates;
+
+public class ChebyshevEphemerisTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private Frame               frame;
+    private Orbit               orbit;
+    private NumericalPropagator propagator;
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        frame = FramesFactory.getEME2000();
+        final AbsoluteDate start = new AbsoluteDate(2004, 1, 1, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        orbit = new KeplerianOrbit(7000000.0, 0.01, FastMath.toRadians(98.0), 0.5, 1.0, 0.2,
+                                   PositionAngleType.MEAN, frame, start, Constants.EIGEN5C_EARTH_MU);
+        final double[][] tol = ToleranceProvider.getDefaultToleranceProvider(0.001).getTolerances(orbit, OrbitType.CARTESIAN);
+        propagator = new NumericalPropagator(new DormandPrince853Integrator(0.001, 300, tol[0], tol[1]));
+        propagator.setOrbitType(OrbitType.CARTESIAN);
+        propagator.setInitialState(new SpacecraftState(orbit).withMass(1200.0));
+    }
+
+    @Test
+    public void testCompressedGenerator() {
+
+        final EphemerisGenerator dense      = propagator.getEphemerisGenerator();
+        final EphemerisGenerator compressed = propagator.getCompressedEphemerisGenerator(0.01, 3600.0, 16);
+        propagator.propagate(orbit.getDate().shiftedBy(Constants.JULIAN_DAY));
+        final BoundedPropagator reference = dense.getGeneratedEphemeris();
+        final ChebyshevEphemeris ephemeris = (ChebyshevEphemeris) compressed.getGeneratedEphemeris();
+
+        Assertions.assertEquals(16, ephemeris.getDegree());
+        Assertions.assertTrue(ephemeris.getSegmentsNumber() >= 24);
+        Assertions.assertTrue(ephemeris.getSegmentsNumber() <= 96);
+        Assertions.assertEquals(0.0, ephemeris.getMinDate().durationFrom(reference.getMinDate()), 1.0e-10);
+        Assertions.assertEquals(0.0, ephemeris.getMaxDate().durationFrom(reference.getMaxDate()), 1.0e-10);
+        checkClose(reference, ephemeris, 0.01, 1.0e-4);
+
+    }
+
+    @Test
+    public void testBackwardPropagation() {
+        propagator.propagate(orbit.getDate().shiftedBy(7200.0));
+        final EphemerisGenerator dense      = propagator.getEphemerisGenerator();
+        final EphemerisGenerator compressed = propagator.getCompressedEphemerisGenerator(0.01, 1000.0, 16);
+        propagator.propagate(orbit.getDate());
+        final ChebyshevEphemeris ephemeris = (ChebyshevEphemeris) compressed.getGeneratedEphemeris();
+        Assertions.assertTrue(ephemeris.getSegmentsNumber() >= 8);
+        checkClose(dense.getGeneratedEphemeris(), ephemeris, 0.01, 1.0e-4);
+    }
+
+    @Test
+    public void testFitBoundedPropagator() {
+        final EphemerisGenerator dense = propagator.getEphemerisGenerator();
+        propagator.propagate(orbit.getDate().shiftedBy(10800.0));
+        final BoundedPropagator reference = dense.getGeneratedEphemeris();
+
+        final ChebyshevEphemerisBuilder builder =
+                        new ChebyshevEphemerisBuilder(orbit.getDate(), frame, orbit.getMu(), 12, 1.0e-3);
+        final ChebyshevEphemeris ephemeris = builder.fit(reference, 1800.0).build(null);
+        Assertions.assertTrue(ephemeris.getSegmentsNumber() > 6);
+        checkClose(reference, ephemeris, 1.5e-3, 1.0e-5);
+
+        // the same ephemeris fitted with a lower degree needs more segments
+        final ChebyshevEphemeris lowDegree =
+                        new ChebyshevEphemerisBuilder(orbit.getDate(), frame, orbit.getMu(), 6, 1.0e-3).
+                        fit(reference, 1800.0).
+                        build(null);
+        Assertions.assertTrue(lowDegree.getSegmentsNumber() > ephemeris.getSegmentsNumber());
+        checkClose(reference, lowDegree, 1.5e-3, 1.0e-4);
+    }
+
+    @Test
+    public void testBinaryRoundTrip() throws IOException {
+
+        final EphemerisGenerator compressed = propagator.getCompressedEphemerisGenerator(0.01, 3600.0, 14);
+        propagator.propagate(orbit.getDate().shiftedBy(21600.0));
+        final ChebyshevEphemeris ephemeris = (ChebyshevEphemeris) compressed.getGeneratedEphemeris();
+
+        final Path file = tempDir.resolve("ephemeris.bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            ephemeris.write(out);
+        }
+        final ChebyshevEphemeris mapped = ChebyshevEphemeris.read(file, frame, null);
+        Assertions.assertEquals(ephemeris.getSegmentsNumber(), mapped.getSegmentsNumber());
+        Assertions.assertEquals(ephemeris.getDegree(), mapped.getDegree());
+        Assertions.assertEquals(0.0, mapped.getMinDate().durationFrom(ephemeris.getMinDate()), 0.0);
+        Assertions.assertEquals(0.0, mapped.getMaxDate().durationFrom(ephemeris.getMaxDate()), 0.0);
+        for (double dt = 0; dt <= 21600.0; dt += 97.0) {
+            final AbsoluteDate  date     = orbit.getDate().shiftedBy(dt);
+            final SpacecraftState s1 = ephemeris.propagate(date);
+            final SpacecraftState s2 = mapped.propagate(date);
+            Assertions.assertEquals(0.0, Vector3D.distance(s1.getPosition(), s2.getPosition()), 0.0);
+            Assertions.assertEquals(0.0, Vector3D.distance(s1.getVelocity(), s2.getVelocity()), 0.0);
+            Assertions.assertEquals(s1.getMass(), s2.getMass(), 0.0);
+            Assertions.assertEquals(s1.getOrbit().getMu(), s2.getOrbit().getMu(), 0.0);
+        }
+
+        // reading from an in-memory buffer gives the same result
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ephemeris.write(bos);
+        Assertions.assertEquals(Files.size(file), bos.size());
+        final ChebyshevEphemeris fromBuffer =
+                        ChebyshevEphemeris.read(ByteBuffer.wrap(bos.toByteArray()), "buffer", frame, null);
+        final AbsoluteDate date = orbit.getDate().shiftedBy(1234.5);
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(ephemeris.getPosition(date, frame), fromBuffer.getPosition(date, frame)),
+                                0.0);
+
+    }
+
+    @Test
+    public void testBinaryErrors() throws IOException {
+
+        final EphemerisGenerator compressed = propagator.getCompressedEphemerisGenerator(0.01, 3600.0, 10);
+        propagator.propagate(orbit.getDate().shiftedBy(3600.0));
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ((ChebyshevEphemeris) compressed.getGeneratedEphemeris()).write(bos);
+        final byte[] data = bos.toByteArray();
+
+        // wrong frame
+        try {
+            ChebyshevEphemeris.read(ByteBuffer.wrap(data), "buffer", FramesFactory.getGCRF(), null);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.FRAMES_MISMATCH, oe.getSpecifier());
+        }
+
+        // truncated data
+        try {
+            ChebyshevEphemeris.read(ByteBuffer.wrap(data, 0, data.length - 8), "buffer", frame, null);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.CORRUPTED_FILE, oe.getSpecifier());
+        }
+
+        // wrong magic number
+        data[0] ^= 0x01;
+        try {
+            ChebyshevEphemeris.read(ByteBuffer.wrap(data), "buffer", frame, null);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+        }
+
+    }
+
+    @Test
+    public void testNonContiguousSegments() {
+        final EphemerisGenerator dense = propagator.getEphemerisGenerator();
+        propagator.propagate(orbit.getDate().shiftedBy(3600.0));
+        final BoundedPropagator reference = dense.getGeneratedEphemeris();
+        final DoubleFunction<double[]> sampler = t -> {
+            final SpacecraftState state = reference.propagate(orbit.getDate().shiftedBy(t));
+            return ChebyshevEphemerisBuilder.pack(state.getPVCoordinates(frame), state.getMass());
+        };
+
+        // contiguous segments, added in any order
+        final ChebyshevEphemerisBuilder contiguous =
+                        new ChebyshevEphemerisBuilder(orbit.getDate(), frame, orbit.getMu(), 12, 1.0e-3);
+        contiguous.fit(1200.0, 2400.0, sampler);
+        contiguous.fit(0.0, 1200.0, sampler);
+        contiguous.fit(2400.0, 3600.0, sampler);
+        checkClose(reference, contiguous.build(null), 1.5e-3, 1.0e-5);
+
+        // gap between segments
+        final ChebyshevEphemerisBuilder gap =
+                        new ChebyshevEphemerisBuilder(orbit.getDate(), frame, orbit.getMu(), 12, 1.0e-3);
+        gap.fit(0.0, 1200.0, sampler);
+        gap.fit(1300.0, 2400.0, sampler);
+        try {
+            gap.build(null);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NON_CONTIGUOUS_SEGMENTS, oe.getSpecifier());
+            Assertions.assertEquals(orbit.getDate().shiftedBy(1200.0), oe.getParts()[0]);
+            Assertions.assertEquals(orbit.getDate().shiftedBy(1300.0), oe.getParts()[1]);
+        }
+
+        // overlapping segments
+        final ChebyshevEphemerisBuilder overlap =
+                        new ChebyshevEphemerisBuilder(orbit.getDate(), frame, orbit.getMu(), 12, 1.0e-3);
+        overlap.fit(0.0, 1200.0, sampler);
+        overlap.fit(1100.0, 2400.0, sampler);
+        try {
+            overlap.build(null);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NON_CONTIGUOUS_SEGMENTS, oe.getSpecifier());
+            Assertions.assertEquals(orbit.getDate().shiftedBy(1200.0), oe.getParts()[0]);
+            Assertions.assertEquals(orbit.getDate().shiftedBy(1100.0), oe.getParts()[1]);
+        }
+
+    }
+
+    @Test
+    public void testErrors() {
+
+        try {
+            new ChebyshevEphemerisBuilder(orbit.getDate(), frame, orbit.getMu(), 1, 1.0e-3);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(1, oe.getParts()[0]);
+        }
+
+        try {
+            new ChebyshevEphemerisBuilder(orbit.getDate(), frame, orbit.getMu(), 8, 0.0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(0.0, oe.getParts()[0]);
+        }
+
+        try {
+            new ChebyshevEphemerisBuilder(orbit.getDate(), frame, orbit.getMu(), 8, 1.0e-3).build(null);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_ENOUGH_DATA, oe.getSpecifier());
+        }
+
+        final EphemerisGenerator compressed = propagator.getCompressedEphemerisGenerator(0.01, 3600.0, 10);
+        propagator.propagate(orbit.getDate().shiftedBy(3600.0));
+        final BoundedPropagator ephemeris = compressed.getGeneratedEphemeris();
+        try {
+            ephemeris.propagate(orbit.getDate().shiftedBy(-10.0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE, oe.getSpecifier());
+        }
+        try {
+            ephemeris.propagate(orbit.getDate().shiftedBy(3610.0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER, oe.getSpecifier());
+        }
+        try {
+            ephemeris.resetInitialState(ephemeris.getInitialState());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NON_RESETABLE_STATE, oe.getSpecifier());
+        }
+        try {
+            propagator.getCompressedEphemerisGenerator(0.01, 0.0, 10);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(0.0, oe.getParts()[0]);
+        }
+
+    }
+
+    private void checkClose(final BoundedPropagator reference, final BoundedPropagator ephemeris,
+                            final double positionTolerance, final double velocityTolerance) {
+        final double duration = reference.getMaxDate().durationFrom(reference.getMinDate());
+        for (double dt = 0; dt <= duration; dt += 17.0) {
+            final AbsoluteDate    date = reference.getMinDate().shiftedBy(dt);
+            final PVCoordinates   pv1  = reference.getPVCoordinates(date, frame);
+            final SpacecraftState s2   = ephemeris.propagate(date);
+            Assertions.assertEquals(0.0, Vector3D.distance(pv1.getPosition(), s2.getPosition()), positionTolerance);
+            Assertions.assertEquals(0.0, Vector3D.distance(pv1.getVelocity(), s2.getVelocity()), velocityTolerance);
+            Assertions.assertEquals(1200.0, s2.getMass(), 1.0e-6);
+        }
+    }
+
+}
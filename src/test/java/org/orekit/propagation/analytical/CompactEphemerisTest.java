@@ -0,0 +1,222 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.attitudes.LofOffset;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.LOFType;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.AbsolutePVCoordinates;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+
+public class CompactEphemerisTest {
+
+    private Frame        frame;
+    private Orbit        orbit;
+    private AbsoluteDate start;
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        frame = FramesFactory.getEME2000();
+        start = new AbsoluteDate(2004, 1, 1, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        orbit = new KeplerianOrbit(7000000.0, 0.01, FastMath.toRadians(98.0), 0.5, 1.0, 0.2,
+                                   PositionAngleType.MEAN, frame, start, Constants.EIGEN5C_EARTH_MU);
+    }
+
+    @Test
+    public void testPositionVelocityAccuracy() {
+        final KeplerianPropagator reference = new KeplerianPropagator(orbit);
+        final CompactEphemerisBuilder builder = new CompactEphemerisBuilder(false);
+        reference.setStepHandler(60.0, builder);
+        reference.propagate(start.shiftedBy(Constants.JULIAN_DAY));
+        reference.clearStepHandlers();
+        Assertions.assertEquals(1441, builder.getSize());
+
+        final CompactEphemeris ephemeris = builder.build(8, null);
+        Assertions.assertEquals(1441, ephemeris.getSize());
+        Assertions.assertEquals(8, ephemeris.getInterpolationPoints());
+        Assertions.assertEquals(0.0, ephemeris.getMinDate().durationFrom(start), 1.0e-15);
+        Assertions.assertEquals(Constants.JULIAN_DAY, ephemeris.getMaxDate().durationFrom(start), 1.0e-15);
+        Assertions.assertSame(frame, ephemeris.getFrame());
+
+        for (double dt = 0; dt < Constants.JULIAN_DAY; dt += 97.3) {
+            final AbsoluteDate    date     = start.shiftedBy(dt);
+            final PVCoordinates   expected = reference.getPVCoordinates(date, frame);
+            final SpacecraftState state    = ephemeris.propagate(date);
+            Assertions.assertEquals(0.0, Vector3D.distance(expected.getPosition(), state.getPosition()), 1.0e-6);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(expected.getVelocity(), state.getPVCoordinates().getVelocity()),
+                                    1.0e-8);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(expected.getAcceleration(),
+                                                      state.getPVCoordinates().getAcceleration()),
+                                    1.0e-8);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(expected.getPosition(),
+                                                      ephemeris.getPosition(date, frame)),
+                                    1.0e-6);
+        }
+
+        // frame conversion
+        final Frame itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        final AbsoluteDate date = start.shiftedBy(1234.5);
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(reference.getPosition(date, itrf),
+                                                  ephemeris.getPVCoordinates(date, itrf).getPosition()),
+                                1.0e-6);
+    }
+
+    @Test
+    public void testIrregularSamplingAndAdditionalStates() {
+        final KeplerianPropagator reference = new KeplerianPropagator(orbit);
+        final List<SpacecraftState> states = new ArrayList<>();
+        double dt = 0;
+        for (int i = 0; i < 200; ++i) {
+            final SpacecraftState state = reference.propagate(start.shiftedBy(dt));
+            states.add(state.withMass(1000.0 - 0.01 * dt).
+                       addAdditionalData("linear", new double[] { 2.0 * dt, -dt }).
+                       addAdditionalData("label", "not stored"));
+            dt += 30.0 + 20.0 * (i % 3);
+        }
+
+        final CompactEphemeris ephemeris = new CompactEphemeris(states, 6, false, null);
+        Assertions.assertTrue(ephemeris.isAdditionalDataManaged("linear"));
+        Assertions.assertFalse(ephemeris.isAdditionalDataManaged("label"));
+        Assertions.assertEquals(1, ephemeris.getManagedAdditionalData().length);
+
+        for (double t = 0; t < states.getLast().getDate().durationFrom(start); t += 47.0) {
+            final AbsoluteDate    date     = start.shiftedBy(t);
+            final SpacecraftState state    = ephemeris.propagate(date);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(reference.getPosition(date, frame), state.getPosition()),
+                                    1.0e-5);
+            Assertions.assertEquals(1000.0 - 0.01 * t, state.getMass(), 1.0e-9);
+            Assertions.assertEquals(2.0 * t, state.getAdditionalState("linear")[0], 1.0e-8);
+            Assertions.assertEquals(-t, state.getAdditionalState("linear")[1], 1.0e-8);
+        }
+    }
+
+    @Test
+    public void testStoredAttitudes() {
+        final KeplerianPropagator reference = new KeplerianPropagator(orbit, new LofOffset(frame, LOFType.LVLH));
+        final CompactEphemerisBuilder builder = new CompactEphemerisBuilder(true);
+        reference.setStepHandler(10.0, builder);
+        reference.propagate(start.shiftedBy(6000.0));
+        reference.clearStepHandlers();
+
+        final CompactEphemeris ephemeris = builder.build(8, null);
+        for (double dt = 0; dt < 6000.0; dt += 3.7) {
+            final AbsoluteDate date     = start.shiftedBy(dt);
+            final Rotation     expected = reference.propagate(date).getAttitude().getRotation();
+            final Rotation     actual   = ephemeris.propagate(date).getAttitude().getRotation();
+            Assertions.assertEquals(0.0, Rotation.distance(expected, actual), 2.0e-6);
+        }
+
+        // overriding the attitude provider disables stored attitudes
+        ephemeris.setAttitudeProvider(new LofOffset(frame, LOFType.QSW));
+        final AbsoluteDate date = start.shiftedBy(100.0);
+        Assertions.assertEquals(0.0,
+                                Rotation.distance(new LofOffset(frame, LOFType.QSW).getAttitude(orbit.shiftedBy(100.0),
+                                                                                                date, frame).getRotation(),
+                                                  ephemeris.propagate(date).getAttitude().getRotation()),
+                                1.0e-6);
+    }
+
+    @Test
+    public void testAbsolutePVCoordinates() {
+        final List<SpacecraftState> states = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            final AbsoluteDate date = start.shiftedBy(i);
+            states.add(new SpacecraftState(new AbsolutePVCoordinates(frame, date,
+                                                                     new Vector3D(i * i, 2.0 * i, 3.0),
+                                                                     new Vector3D(2.0 * i, 2.0, 0.0))));
+        }
+        final CompactEphemeris ephemeris = new CompactEphemeris(states, 4, false, null);
+        final SpacecraftState state = ephemeris.propagate(start.shiftedBy(7.25));
+        Assertions.assertFalse(state.isOrbitDefined());
+        Assertions.assertEquals(7.25 * 7.25, state.getPosition().getX(), 1.0e-12);
+        Assertions.assertEquals(14.5, state.getPosition().getY(), 1.0e-12);
+        Assertions.assertEquals(2.0, state.getPVCoordinates().getAcceleration().getX(), 1.0e-12);
+    }
+
+    @Test
+    public void testErrors() {
+        final KeplerianPropagator reference = new KeplerianPropagator(orbit);
+        final List<SpacecraftState> states = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            states.add(reference.propagate(start.shiftedBy(60.0 * i)));
+        }
+
+        final CompactEphemeris ephemeris = new CompactEphemeris(states, 4, false, null);
+        try {
+            ephemeris.propagate(start.shiftedBy(-10.0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE, oe.getSpecifier());
+        }
+        try {
+            ephemeris.propagate(start.shiftedBy(600.0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER, oe.getSpecifier());
+        }
+        try {
+            ephemeris.resetInitialState(states.getFirst());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NON_RESETABLE_STATE, oe.getSpecifier());
+        }
+
+        final CompactEphemerisBuilder builder = new CompactEphemerisBuilder(false);
+        builder.addState(states.get(1));
+        try {
+            builder.addState(states.get(0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.NON_CHRONOLOGICALLY_SORTED_ENTRIES, oiae.getSpecifier());
+        }
+        try {
+            builder.build(4, null);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.NOT_ENOUGH_DATA, oiae.getSpecifier());
+        }
+    }
+
+}
@@ -37,6 +37,7 @@ import org.orekit.frames.FramesFactory;
 import org.orekit.models.earth.GeoMagneticField;
 import org.orekit.models.earth.GeoMagneticFieldFactory;
 import org.orekit.models.earth.GeoMagneticFieldFactory.FieldModel;
+import org.orekit.models.earth.GriddedGeoMagneticField;
 import org.orekit.orbits.CircularOrbit;
 import org.orekit.orbits.Orbit;
 import org.orekit.orbits.PositionAngleType;
@@ -120,6 +121,24 @@ public class MagneticFieldDetectorTest {
         checkEvents(handler.getEvents(), threshold, wmm, true);
     }
 
+    /**
+     * Test for the magnetic field detector based on a fixed gridded field at sea level
+     */
+    @Test
+    public void magneticFieldDetectorFixedFieldSeaLevelTest() {
+        initializePropagator();
+        double threshold = UnitsConverter.NANO_TESLAS_TO_TESLAS.convert(45000);
+        GeoMagneticField gridded = new GriddedGeoMagneticField(wmm, FastMath.toRadians(1.0), 0.0);
+
+        CustomEventHandler handler = new CustomEventHandler();
+        MagneticFieldDetector detector = new MagneticFieldDetector(threshold, gridded, earth, true).withHandler(handler);
+        propagator.addEventDetector(detector);
+        propagator.propagate(initialDate, initialDate.shiftedBy(864000));
+
+        Assertions.assertFalse(handler.getEvents().isEmpty());
+        checkEvents(handler.getEvents(), threshold, gridded, true);
+    }
+
     /**
      * Test for the magnetic field detector based on the IGRF at sea level
      */
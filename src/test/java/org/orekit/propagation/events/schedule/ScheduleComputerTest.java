@@ -0,0 +1,260 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events.schedule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.TopocentricFrame;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.propagation.events.AbstractDetector;
+import org.orekit.propagation.events.DateDetector;
+import org.orekit.propagation.events.EclipseDetector;
+import org.orekit.propagation.events.ElevationDetector;
+import org.orekit.propagation.events.EventsLogger;
+import org.orekit.propagation.events.handlers.ContinueOnEvent;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeInterval;
+import org.orekit.time.TimeIntervalSet;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+class ScheduleComputerTest {
+
+    private OneAxisEllipsoid  earth;
+    private AbsoluteDate      start;
+    private AbsoluteDate      end;
+    private EclipseDetector   eclipse;
+    private ElevationDetector contact;
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data");
+        earth   = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                       Constants.WGS84_EARTH_FLATTENING,
+                                       FramesFactory.getITRF(IERSConventions.IERS_2010, true));
+        start   = new AbsoluteDate(1969, 7, 28, 4, 0, 0.0, TimeScalesFactory.getTT());
+        end     = start.shiftedBy(Constants.JULIAN_DAY);
+        eclipse = new EclipseDetector(CelestialBodyFactory.getSun(), Constants.SUN_RADIUS, earth).
+                  withUmbra().withMaxCheck(60.0);
+        final TopocentricFrame station = new TopocentricFrame(earth,
+                                                              new GeodeticPoint(FastMath.toRadians(43.6),
+                                                                                FastMath.toRadians(1.44),
+                                                                                150.0),
+                                                              "station");
+        contact = new ElevationDetector(60.0, 1.0e-3, station).withConstantElevation(FastMath.toRadians(5.0));
+    }
+
+    @Test
+    void testAgainstLogger() {
+        final ScheduleComputer computer = new ScheduleComputer(1);
+        computer.addEclipses("eclipse", eclipse);
+        computer.addContacts("contact", contact);
+        final List<Propagator> propagators = propagators();
+        final Schedule schedule = computer.compute(propagators, start, end);
+
+        Assertions.assertEquals(3, schedule.getNbSatellites());
+        Assertions.assertEquals(Arrays.asList("eclipse", "contact"), schedule.getNames());
+        Assertions.assertEquals(0.0, schedule.getStartDate().durationFrom(start), 1.0e-15);
+        Assertions.assertEquals(0.0, schedule.getEndDate().durationFrom(end), 1.0e-15);
+
+        for (int i = 0; i < propagators.size(); ++i) {
+            final TimeIntervalSet eclipses = schedule.getIntervals(i, "eclipse");
+            final TimeIntervalSet contacts = schedule.getIntervals(i, "contact");
+            Assertions.assertTrue(eclipses.size() > 10);
+            Assertions.assertTrue(contacts.size() > 1);
+            checkSet(reference(propagators.get(i), eclipse, false), eclipses);
+            checkSet(reference(propagators.get(i), contact, true), contacts);
+        }
+
+    }
+
+    @Test
+    void testThreads() {
+        final List<Propagator> propagators = propagators();
+        final Schedule single = compute(1, propagators);
+        final Schedule multi  = compute(4, propagators);
+        for (int i = 0; i < propagators.size(); ++i) {
+            for (final String name : single.getNames()) {
+                checkSet(single.getIntervals(i, name), multi.getIntervals(i, name));
+            }
+        }
+    }
+
+    @Test
+    void testQueries() {
+        final Schedule schedule = compute(2, propagators());
+        final TimeInterval window = TimeInterval.of(start.shiftedBy(20000.0), 7200.0);
+        final List<ScheduleEntry> overlapping = schedule.getOverlapping(window);
+        int count = 0;
+        for (int i = 0; i < schedule.getNbSatellites(); ++i) {
+            for (final String name : schedule.getNames()) {
+                for (final TimeInterval interval : schedule.getIntervals(i, name).getOverlapping(window)) {
+                    ++count;
+                    boolean found = false;
+                    for (final ScheduleEntry entry : overlapping) {
+                        if (entry.getSatellite() == i && entry.getName().equals(name) &&
+                            entry.getStartDate().equals(interval.getStartDate())) {
+                            found = true;
+                        }
+                    }
+                    Assertions.assertTrue(found);
+                }
+            }
+        }
+        Assertions.assertEquals(count, overlapping.size());
+        for (int k = 1; k < overlapping.size(); ++k) {
+            Assertions.assertFalse(overlapping.get(k).getStartDate().isBefore(overlapping.get(k - 1).getStartDate()));
+        }
+
+        // date in eclipse for first satellite
+        final TimeInterval firstEclipse = schedule.getIntervals(0, "eclipse").getIntervals().get(1);
+        final AbsoluteDate middle = firstEclipse.getStartDate().shiftedBy(0.5 * firstEclipse.duration());
+        boolean found = false;
+        for (final ScheduleEntry entry : schedule.getContaining(middle)) {
+            Assertions.assertTrue(entry.contains(middle));
+            found |= entry.getSatellite() == 0 && entry.getName().equals("eclipse");
+        }
+        Assertions.assertTrue(found);
+
+        // eclipses of any satellite
+        final TimeIntervalSet union = schedule.getUnion("eclipse");
+        for (int i = 0; i < schedule.getNbSatellites(); ++i) {
+            final TimeIntervalSet eclipses = schedule.getIntervals(i, "eclipse");
+            Assertions.assertEquals(eclipses.getTotalDuration(), union.intersection(eclipses).getTotalDuration(), 1.0e-6);
+        }
+
+    }
+
+    @Test
+    void testRestoreDetectors() {
+        final List<Propagator> propagators = propagators();
+        final DateDetector stopper = new DateDetector(start.shiftedBy(600.0));
+        propagators.get(0).addEventDetector(stopper);
+        final Schedule schedule = compute(1, propagators);
+        // the stopping detector did not interfere
+        Assertions.assertTrue(schedule.getIntervals(0, "eclipse").size() > 10);
+        Assertions.assertEquals(1, propagators.get(0).getEventDetectors().size());
+        Assertions.assertSame(stopper, propagators.get(0).getEventDetectors().iterator().next());
+        Assertions.assertTrue(propagators.get(1).getEventDetectors().isEmpty());
+    }
+
+    @Test
+    void testErrors() {
+        final ScheduleComputer computer = new ScheduleComputer(1);
+        computer.addEclipses("eclipse", eclipse);
+        try {
+            computer.addContacts("eclipse", contact);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.DUPLICATED_SCHEDULE, oe.getSpecifier());
+            Assertions.assertEquals("eclipse", oe.getParts()[0]);
+        }
+        try {
+            computer.compute(propagators(), start, start);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+        final Schedule schedule = computer.compute(propagators().subList(0, 1), start, start.shiftedBy(3600.0));
+        try {
+            schedule.getIntervals(0, "contact");
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNKNOWN_SCHEDULE, oe.getSpecifier());
+            Assertions.assertEquals("contact", oe.getParts()[0]);
+        }
+    }
+
+    private Schedule compute(final int threads, final List<Propagator> propagators) {
+        final ScheduleComputer computer = new ScheduleComputer(threads);
+        computer.addEclipses("eclipse", eclipse);
+        computer.addContacts("contact", contact);
+        return computer.compute(propagators, start, end);
+    }
+
+    private List<Propagator> propagators() {
+        final List<Propagator> propagators = new ArrayList<>();
+        for (int i = 0; i < 3; ++i) {
+            final KeplerianOrbit orbit =
+                new KeplerianOrbit(7000000.0 + 100000.0 * i, 0.001, FastMath.toRadians(50.0 + 20.0 * i),
+                                   0.0, FastMath.toRadians(30.0 * i), FastMath.toRadians(45.0 * i),
+                                   PositionAngleType.MEAN, FramesFactory.getEME2000(), start,
+                                   Constants.EIGEN5C_EARTH_MU);
+            propagators.add(new KeplerianPropagator(orbit));
+        }
+        return propagators;
+    }
+
+    private TimeIntervalSet reference(final Propagator propagator, final AbstractDetector<?> detector,
+                                      final boolean whenPositive) {
+        final EventsLogger logger = new EventsLogger();
+        propagator.addEventDetector(logger.monitorDetector(detector.withHandler(new ContinueOnEvent())));
+        final SpacecraftState s0 = propagator.propagate(start);
+        final double g0 = detector.g(s0);
+        // the propagator may have been left after start by a previous propagation
+        logger.clearLoggedEvents();
+        propagator.propagate(end);
+        propagator.clearEventsDetectors();
+        final List<TimeInterval> intervals = new ArrayList<>();
+        AbsoluteDate open = (whenPositive ? g0 > 0 : g0 < 0) ? start : null;
+        for (final EventsLogger.LoggedEvent event : logger.getLoggedEvents()) {
+            if (event.isIncreasing() == whenPositive) {
+                open = event.getDate();
+            } else {
+                intervals.add(TimeInterval.of(open, event.getDate()));
+                open = null;
+            }
+        }
+        if (open != null) {
+            intervals.add(TimeInterval.of(open, end));
+        }
+        return TimeIntervalSet.of(intervals);
+    }
+
+    private void checkSet(final TimeIntervalSet expected, final TimeIntervalSet actual) {
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            Assertions.assertEquals(0.0,
+                                    actual.getIntervals().get(i).getStartDate().
+                                    durationFrom(expected.getIntervals().get(i).getStartDate()),
+                                    1.0e-3);
+            Assertions.assertEquals(0.0,
+                                    actual.getIntervals().get(i).getEndDate().
+                                    durationFrom(expected.getIntervals().get(i).getEndDate()),
+                                    1.0e-3);
+        }
+    }
+
+}
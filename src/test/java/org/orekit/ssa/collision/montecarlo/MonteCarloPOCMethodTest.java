@@ -0,0 +1,161 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.montecarlo;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.BlockRealMatrix;
+import org.hipparchus.linear.RealMatrix;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.LOFType;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.propagation.covariance.StateCovariance;
+import org.orekit.ssa.collision.shorttermencounter.probability.twod.Patera2005;
+import org.orekit.ssa.collision.shorttermencounter.probability.twod.ShortTermEncounter2DDefinition;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.Constants;
+import org.orekit.utils.PVCoordinates;
+
+class MonteCarloPOCMethodTest {
+
+    @BeforeAll
+    static void initializeOrekitData() {
+        Utils.setDataRoot("regular-data");
+    }
+
+    @Test
+    void testShortTermEncounterLinearized() {
+        final ShortTermEncounter2DDefinition encounter = buildEncounter(0.0);
+        final double reference = new Patera2005().compute(encounter).getValue();
+        final MonteCarloProbabilityOfCollision poc =
+                new MonteCarloPOCMethod(new LinearizedKeplerianModel(), 1.0, 0.01,
+                                        10000, 1000000, 1000, 0.02, 0.95, 42L, 4).compute(encounter);
+        Assertions.assertTrue(poc.isConverged());
+        Assertions.assertEquals("MONTE_CARLO", poc.getProbabilityOfCollisionMethodName());
+        Assertions.assertEquals(0.95, poc.getConfidenceLevel(), 0.0);
+        Assertions.assertEquals((double) poc.getHits() / poc.getSamples(), poc.getValue(), 0.0);
+        Assertions.assertTrue(poc.getLowerLimit() < poc.getValue());
+        Assertions.assertTrue(poc.getUpperLimit() > poc.getValue());
+        Assertions.assertEquals(reference, poc.getValue(), 0.06 * reference);
+    }
+
+    @Test
+    void testIndependentOfThreads() {
+        final ShortTermEncounter2DDefinition encounter = buildEncounter(20.0);
+        final MonteCarloProbabilityOfCollision single =
+                new MonteCarloPOCMethod(new LinearizedKeplerianModel(), 1.0, 0.01,
+                                        5000, 20000, 700, 0.001, 0.95, 17L, 1).compute(encounter);
+        final MonteCarloProbabilityOfCollision multi =
+                new MonteCarloPOCMethod(new LinearizedKeplerianModel(), 1.0, 0.01,
+                                        5000, 20000, 700, 0.001, 0.95, 17L, 5).compute(encounter);
+        Assertions.assertFalse(single.isConverged());
+        Assertions.assertEquals(20000, single.getSamples());
+        Assertions.assertEquals(single.getSamples(), multi.getSamples());
+        Assertions.assertEquals(single.getHits(), multi.getHits());
+    }
+
+    @Test
+    void testPropagatorModelConsistency() {
+        final ShortTermEncounter2DDefinition encounter = buildEncounter(10.0);
+        final MonteCarloProbabilityOfCollision linearized =
+                new MonteCarloPOCMethod(new LinearizedKeplerianModel(), 0.5, 0.01,
+                                        4000, 4000, 1000, 0.001, 0.95, 3L, 2).compute(encounter);
+        final MonteCarloProbabilityOfCollision propagated =
+                new MonteCarloPOCMethod(new PropagatorSampleModel(KeplerianPropagator::new), 0.5, 0.01,
+                                        4000, 4000, 1000, 0.001, 0.95, 3L, 2).compute(encounter);
+        Assertions.assertEquals(4000, linearized.getSamples());
+        Assertions.assertTrue(linearized.getHits() > 0);
+        // same random samples, trajectories differ only by second order terms
+        Assertions.assertEquals(linearized.getHits(), propagated.getHits(), 2);
+    }
+
+    @Test
+    void testErrors() {
+        final LinearizedKeplerianModel model = new LinearizedKeplerianModel();
+        try {
+            new MonteCarloPOCMethod(model, 0.0, 0.01, 2);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+        try {
+            new MonteCarloPOCMethod(model, 1.0, 0.01, 100, 10, 10, 0.1, 0.95, 0L, 1);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, oe.getSpecifier());
+        }
+        try {
+            new MonteCarloPOCMethod(model, 1.0, 0.01, 100, 1000, 10, 0.1, 1.5, 0L, 1);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, oe.getSpecifier());
+        }
+        final ShortTermEncounter2DDefinition encounter = buildEncounter(0.0);
+        final Orbit shifted = encounter.getOtherAtTCA().shiftedBy(1.0);
+        try {
+            new MonteCarloPOCMethod(model, 1.0, 0.01, 1).
+                compute(encounter.getReferenceAtTCA(), encounter.getReferenceCovariance(),
+                        shifted, encounter.getOtherCovariance(), encounter.getCombinedRadius());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.DIFFERENT_TIME_OF_CLOSEST_APPROACH, oe.getSpecifier());
+        }
+    }
+
+    private ShortTermEncounter2DDefinition buildEncounter(final double shift) {
+
+        final AbsoluteDate tca = new AbsoluteDate();
+        final double       mu  = Constants.IERS2010_EARTH_MU;
+
+        final Orbit primary = new CartesianOrbit(
+                new PVCoordinates(new Vector3D(2.33052185175137e3, -1.10370451050201e6, 7.10588764299718e6),
+                                  new Vector3D(-7.44286282871773e3, -6.13734743652660e-1, 3.95136139293349e0)),
+                FramesFactory.getEME2000(), tca, mu);
+        final Orbit secondary = new CartesianOrbit(
+                new PVCoordinates(new Vector3D(2.333465506263321e3 + shift,
+                                               -1.103671212478364e6 - shift,
+                                               7.105914958099038e6 + shift),
+                                  new Vector3D(7.353740487126315e3, -1.142814049765362e3, -1.982472259113771e2)),
+                FramesFactory.getEME2000(), tca, mu);
+        final RealMatrix primaryMatrix = new BlockRealMatrix(
+                new double[][] { { 9.31700905887535e1, -2.623398113500550e2, 2.360382173935300e1, 0, 0, 0 },
+                                 { -2.623398113500550e2, 1.77796454279511e4, -9.331225387386501e1, 0, 0, 0 },
+                                 { 2.360382173935300e1, -9.331225387386501e1, 1.917372231880040e1, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 } });
+        final RealMatrix secondaryMatrix = new BlockRealMatrix(
+                new double[][] { { 6.346570910720371e2, -1.962292216245289e3, 7.077413655227660e1, 0, 0, 0 },
+                                 { -1.962292216245289e3, 8.199899363150306e5, 1.139823810584350e3, 0, 0, 0 },
+                                 { 7.077413655227660e1, 1.139823810584350e3, 2.510340829074070e2, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 } });
+        return new ShortTermEncounter2DDefinition(primary, new StateCovariance(primaryMatrix, tca, LOFType.QSW), 14.855,
+                                                  secondary, new StateCovariance(secondaryMatrix, tca, LOFType.QSW), 14.855);
+
+    }
+
+}
@@ -0,0 +1,163 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.screening;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.LOFType;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.propagation.covariance.StateCovariance;
+import org.orekit.ssa.collision.shorttermencounter.probability.twod.Patera2005;
+import org.orekit.ssa.collision.shorttermencounter.probability.twod.ShortTermEncounter2DDefinition;
+import org.orekit.ssa.metrics.ProbabilityOfCollision;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+class ConjunctionScreenerTest {
+
+    private Frame        eme2000;
+    private AbsoluteDate tca;
+    private double       mu;
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data");
+        eme2000 = FramesFactory.getEME2000();
+        tca     = new AbsoluteDate(2024, 3, 15, 12, 0, 0.0, TimeScalesFactory.getUTC());
+        mu      = Constants.EIGEN5C_EARTH_MU;
+    }
+
+    @Test
+    void testCrossingOrbits() {
+        for (final int threads : new int[] { 1, 4 }) {
+            final ConjunctionScreener screener = new ConjunctionScreener(eme2000, mu, 5000.0, 10.0, 8, threads);
+            screener.addFilter(new ApogeePerigeeFilter(1000.0));
+            screener.addFilter(new OrbitPathFilter(1000.0));
+            final List<Conjunction> conjunctions =
+                            screener.screen(catalog(), tca.shiftedBy(-1000.0), tca.shiftedBy(1000.0));
+            Assertions.assertEquals(1, conjunctions.size());
+            final Conjunction conjunction = conjunctions.get(0);
+            Assertions.assertEquals(0, conjunction.getPrimaryIndex());
+            Assertions.assertEquals(1, conjunction.getSecondaryIndex());
+            Assertions.assertEquals(0.0, conjunction.getTca().durationFrom(tca), 1.0e-3);
+            Assertions.assertEquals(500.0, conjunction.getMissDistance(), 1.0e-2);
+            Assertions.assertEquals(FastMath.sqrt(mu / 7.0e6) * FastMath.sqrt(2.0),
+                                    conjunction.getRelativeSpeed(), 1.0);
+            Assertions.assertSame(eme2000, conjunction.getFrame());
+        }
+    }
+
+    @Test
+    void testThresholdTooSmall() {
+        final ConjunctionScreener screener = new ConjunctionScreener(eme2000, mu, 100.0, 10.0, 2);
+        Assertions.assertTrue(screener.screen(catalog(), tca.shiftedBy(-1000.0), tca.shiftedBy(1000.0)).isEmpty());
+    }
+
+    @Test
+    void testEncounterDefinition() {
+        final ConjunctionScreener screener = new ConjunctionScreener(eme2000, mu, 5000.0, 10.0, 1);
+        final Conjunction conjunction =
+                        screener.screen(catalog(), tca.shiftedBy(-1000.0), tca.shiftedBy(1000.0)).get(0);
+        final StateCovariance covariance =
+                        new StateCovariance(MatrixUtils.createRealDiagonalMatrix(new double[] {
+                            100.0, 100.0, 100.0, 1.0e-4, 1.0e-4, 1.0e-4
+                        }), conjunction.getTca(), LOFType.QSW);
+        final ShortTermEncounter2DDefinition encounter =
+                        conjunction.toEncounterDefinition(covariance, covariance, 10.0);
+        Assertions.assertEquals(500.0, encounter.computeMissDistance(), 1.0e-2);
+        final ProbabilityOfCollision poc = new Patera2005().compute(encounter);
+        Assertions.assertTrue(poc.getValue() < 1.0e-10);
+    }
+
+    @Test
+    void testFilters() {
+        final Orbit leo1 = circular(7.0e6, Vector3D.PLUS_J);
+        final Orbit leo2 = circular(7.0e6, Vector3D.PLUS_K);
+        final Orbit leo3 = circular(7.5e6, Vector3D.PLUS_K);
+        final Orbit geo  = circular(4.2164e7, Vector3D.PLUS_J);
+
+        final ApogeePerigeeFilter apogeePerigee = new ApogeePerigeeFilter(1000.0);
+        Assertions.assertEquals(1000.0, apogeePerigee.getMargin(), 1.0e-15);
+        Assertions.assertTrue(apogeePerigee.mayApproach(leo1, leo2, 5000.0));
+        Assertions.assertTrue(apogeePerigee.mayApproach(leo1, leo3, 5.0e5));
+        Assertions.assertFalse(apogeePerigee.mayApproach(leo1, leo3, 5000.0));
+        Assertions.assertFalse(apogeePerigee.mayApproach(leo1, geo, 5000.0));
+
+        final OrbitPathFilter orbitPath = new OrbitPathFilter(1000.0);
+        Assertions.assertEquals(1000.0, orbitPath.getMargin(), 1.0e-15);
+        Assertions.assertTrue(orbitPath.mayApproach(leo1, leo2, 5000.0));
+        Assertions.assertFalse(orbitPath.mayApproach(leo1, leo3, 5000.0));
+        // coplanar orbits are never discarded
+        Assertions.assertTrue(orbitPath.mayApproach(leo1, geo, 5000.0));
+    }
+
+    @Test
+    void testWrongParameters() {
+        try {
+            new ConjunctionScreener(FramesFactory.getITRF(IERSConventions.IERS_2010, true),
+                                    mu, 5000.0, 10.0, 1);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NON_PSEUDO_INERTIAL_FRAME, oe.getSpecifier());
+        }
+        try {
+            new ConjunctionScreener(eme2000, mu, 5000.0, -10.0, 1);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+    }
+
+    /** Build a catalog with two objects crossing at 500m at tca, and a far away geostationary object.
+     * @return catalog
+     */
+    private List<KeplerianPropagator> catalog() {
+        return Arrays.asList(new KeplerianPropagator(circular(7.0e6, Vector3D.PLUS_J)),
+                             new KeplerianPropagator(circular(7.0e6 + 500.0, Vector3D.PLUS_K)),
+                             new KeplerianPropagator(circular(4.2164e7, Vector3D.PLUS_J)));
+    }
+
+    /** Build a circular orbit with position along +X at tca.
+     * @param r orbit radius
+     * @param velocityDirection velocity direction at tca
+     * @return circular orbit
+     */
+    private Orbit circular(final double r, final Vector3D velocityDirection) {
+        final PVCoordinates pv = new PVCoordinates(new Vector3D(r, Vector3D.PLUS_I),
+                                                   new Vector3D(FastMath.sqrt(mu / r), velocityDirection));
+        return new CartesianOrbit(new TimeStampedPVCoordinates(tca, pv), eme2000, mu);
+    }
+
+}
@@ -0,0 +1,202 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.ssa.collision.shorttermencounter.probability.twod;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.geometry.euclidean.twod.Vector2D;
+import org.hipparchus.linear.BlockRealMatrix;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.LOFType;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.covariance.StateCovariance;
+import org.orekit.ssa.metrics.ProbabilityOfCollision;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.Constants;
+import org.orekit.utils.PVCoordinates;
+
+class ShortTermEncounter2DPOCBatchTest {
+
+    @BeforeAll
+    static void initializeOrekitData() {
+        Utils.setDataRoot("regular-data");
+    }
+
+    @Test
+    void testRotatedParametersConsistency() {
+        for (final ShortTermEncounter2DDefinition encounter : buildEncounters(5)) {
+            final ShortTermEncounter2DParameters parameters = encounter.computeRotatedEncounterParameters(1e-15);
+            final Vector2D   position   = encounter.computeOtherPositionInRotatedCollisionPlane(1e-15);
+            final RealMatrix covariance = encounter.computeProjectedAndDiagonalizedCombinedPositionalCovarianceMatrix();
+            Assertions.assertEquals(position.getX(), parameters.getXm(), 1.0e-15 * position.getNorm());
+            Assertions.assertEquals(position.getY(), parameters.getYm(), 1.0e-15 * position.getNorm());
+            Assertions.assertEquals(FastMath.sqrt(covariance.getEntry(0, 0)), parameters.getSigmaX(), 1.0e-12);
+            Assertions.assertEquals(FastMath.sqrt(covariance.getEntry(1, 1)), parameters.getSigmaY(), 1.0e-12);
+            Assertions.assertEquals(encounter.getCombinedRadius(), parameters.getRadius(), 0.0);
+        }
+    }
+
+    @Test
+    void testSameAsIndividualComputationSingleThread() {
+        doTestSameAsIndividualComputation(ShortTermEncounter2DPOCMethodType.PATERA_2005, 1);
+    }
+
+    @Test
+    void testSameAsIndividualComputationMultiThread() {
+        doTestSameAsIndividualComputation(ShortTermEncounter2DPOCMethodType.PATERA_2005, 4);
+        doTestSameAsIndividualComputation(ShortTermEncounter2DPOCMethodType.LAAS_2015, 4);
+        doTestSameAsIndividualComputation(ShortTermEncounter2DPOCMethodType.ALFANO_2005, 4);
+    }
+
+    @Test
+    void testStreaming() {
+        final List<ShortTermEncounter2DDefinition> encounters = buildEncounters(23);
+        final List<ProbabilityOfCollision> reference =
+                new ShortTermEncounter2DPOCBatch(ShortTermEncounter2DPOCMethodType.PATERA_2005, 1).compute(encounters);
+
+        final ShortTermEncounter2DPOCBatch batch =
+                new ShortTermEncounter2DPOCBatch(Patera2005::new, 1.0e-15, 5, 3);
+        Assertions.assertEquals(5, batch.getBlockSize());
+        Assertions.assertEquals(3, batch.getThreads());
+
+        final List<Long> indices = new ArrayList<>();
+        batch.compute(encounters, (index, encounter, probability) -> {
+            Assertions.assertSame(encounters.get((int) index), encounter);
+            Assertions.assertEquals(reference.get((int) index).getValue(), probability.getValue(), 0.0);
+            indices.add(index);
+        });
+
+        Assertions.assertEquals(encounters.size(), indices.size());
+        for (int i = 0; i < indices.size(); ++i) {
+            Assertions.assertEquals(i, indices.get(i).longValue());
+        }
+    }
+
+    @Test
+    void testPrimitiveValues() {
+        final List<ShortTermEncounter2DDefinition> encounters = buildEncounters(17);
+        final double[] xm     = new double[encounters.size()];
+        final double[] ym     = new double[encounters.size()];
+        final double[] sigmaX = new double[encounters.size()];
+        final double[] sigmaY = new double[encounters.size()];
+        final double[] radius = new double[encounters.size()];
+        for (int i = 0; i < encounters.size(); ++i) {
+            final ShortTermEncounter2DParameters parameters = encounters.get(i).computeRotatedEncounterParameters(1.0e-15);
+            xm[i]     = parameters.getXm();
+            ym[i]     = parameters.getYm();
+            sigmaX[i] = parameters.getSigmaX();
+            sigmaY[i] = parameters.getSigmaY();
+            radius[i] = parameters.getRadius();
+        }
+
+        final double[] values = new ShortTermEncounter2DPOCBatch(Laas2015::new, 4).
+                                computeValues(xm, ym, sigmaX, sigmaY, radius);
+
+        final Laas2015 method = new Laas2015();
+        for (int i = 0; i < encounters.size(); ++i) {
+            Assertions.assertEquals(method.compute(encounters.get(i)).getValue(), values[i], 0.0);
+        }
+    }
+
+    @Test
+    void testErrors() {
+        final ShortTermEncounter2DPOCBatch batch = new ShortTermEncounter2DPOCBatch(Laas2015::new, 2);
+        try {
+            batch.computeValues(new double[3], new double[3], new double[2], new double[3], new double[3]);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(2, (Integer) oe.getParts()[0]);
+            Assertions.assertEquals(3, (Integer) oe.getParts()[1]);
+        }
+        try {
+            new ShortTermEncounter2DPOCBatch(Laas2015::new, 1.0e-15, 0, 2);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+    }
+
+    private void doTestSameAsIndividualComputation(final ShortTermEncounter2DPOCMethodType type, final int threads) {
+        final List<ShortTermEncounter2DDefinition> encounters = buildEncounters(40);
+        final List<ProbabilityOfCollision> probabilities =
+                new ShortTermEncounter2DPOCBatch(type, threads).compute(encounters);
+        Assertions.assertEquals(encounters.size(), probabilities.size());
+        final ShortTermEncounter2DPOCMethod method = type.getMethod();
+        for (int i = 0; i < encounters.size(); ++i) {
+            final ProbabilityOfCollision expected = method.compute(encounters.get(i));
+            Assertions.assertEquals(expected.getValue(), probabilities.get(i).getValue(), 0.0);
+            Assertions.assertEquals(expected.getProbabilityOfCollisionMethodName(),
+                                    probabilities.get(i).getProbabilityOfCollisionMethodName());
+        }
+    }
+
+    private List<ShortTermEncounter2DDefinition> buildEncounters(final int n) {
+
+        final AbsoluteDate tca = new AbsoluteDate();
+        final double       mu  = Constants.IERS2010_EARTH_MU;
+
+        final Orbit primary = new CartesianOrbit(
+                new PVCoordinates(new Vector3D(2.33052185175137e3, -1.10370451050201e6, 7.10588764299718e6),
+                                  new Vector3D(-7.44286282871773e3, -6.13734743652660e-1, 3.95136139293349e0)),
+                FramesFactory.getEME2000(), tca, mu);
+        final RealMatrix primaryMatrix = new BlockRealMatrix(
+                new double[][] { { 9.31700905887535e1, -2.623398113500550e2, 2.360382173935300e1, 0, 0, 0 },
+                                 { -2.623398113500550e2, 1.77796454279511e4, -9.331225387386501e1, 0, 0, 0 },
+                                 { 2.360382173935300e1, -9.331225387386501e1, 1.917372231880040e1, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 } });
+        final RealMatrix secondaryMatrix = new BlockRealMatrix(
+                new double[][] { { 6.346570910720371e2, -1.962292216245289e3, 7.077413655227660e1, 0, 0, 0 },
+                                 { -1.962292216245289e3, 8.199899363150306e5, 1.139823810584350e3, 0, 0, 0 },
+                                 { 7.077413655227660e1, 1.139823810584350e3, 2.510340829074070e2, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 },
+                                 { 0, 0, 0, 0, 0, 0 } });
+
+        final List<ShortTermEncounter2DDefinition> encounters = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            // shift secondary position to get various miss distances
+            final Orbit secondary = new CartesianOrbit(
+                    new PVCoordinates(new Vector3D(2.333465506263321e3 + 5.0 * i,
+                                                   -1.103671212478364e6 - 3.0 * i,
+                                                   7.105914958099038e6 + 2.0 * i),
+                                      new Vector3D(7.353740487126315e3, -1.142814049765362e3, -1.982472259113771e2)),
+                    FramesFactory.getEME2000(), tca, mu);
+            encounters.add(new ShortTermEncounter2DDefinition(primary,
+                                                              new StateCovariance(primaryMatrix, tca, LOFType.QSW),
+                                                              14.855,
+                                                              secondary,
+                                                              new StateCovariance(secondaryMatrix, tca, LOFType.QSW),
+                                                              14.855));
+        }
+        return encounters;
+
+    }
+
+}
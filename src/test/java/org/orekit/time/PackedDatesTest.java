@@ -0,0 +1,88 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+
+public class PackedDatesTest {
+
+    @Test
+    public void testFromList() {
+        final AbsoluteDate       t0    = new AbsoluteDate(2024, 3, 5, 12, 0, 0.0, TimeScalesFactory.getUTC());
+        final List<AbsoluteDate> dates = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            dates.add(t0.shiftedBy(i * i * 0.37));
+        }
+        final PackedDates packed = new PackedDates(dates);
+        Assertions.assertEquals(dates.size(), packed.size());
+        for (int i = 0; i < dates.size(); ++i) {
+            Assertions.assertEquals(dates.get(i), packed.getDate(i));
+            Assertions.assertEquals(dates.get(i).getSeconds(),     packed.getSeconds(i));
+            Assertions.assertEquals(dates.get(i).getAttoSeconds(), packed.getAttoSeconds(i));
+            Assertions.assertEquals(dates.get(i).durationFrom(t0), packed.durationFrom(i, t0), 0.0);
+        }
+        final double[] durations = packed.durationsFrom(dates.get(7));
+        for (int i = 0; i < dates.size(); ++i) {
+            Assertions.assertEquals(dates.get(i).durationFrom(dates.get(7)), durations[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testGridIsExact() {
+        final AbsoluteDate t0     = new AbsoluteDate(2024, 3, 5, 12, 0, 0.0, TimeScalesFactory.getUTC());
+        final TimeOffset   step   = new TimeOffset(0L, 100000000000000000L); // 0.1s, exactly
+        final PackedDates  packed = PackedDates.grid(t0, step, 100001);
+        for (int i = 0; i < packed.size(); i += 97) {
+            Assertions.assertEquals(new AbsoluteDate(t0, step.multiply(i)), packed.getDate(i));
+        }
+        Assertions.assertEquals(t0.shiftedBy(TimeOffset.SECOND.multiply(10000)), packed.getDate(100000));
+    }
+
+    @Test
+    public void testGridSpecial() {
+        final PackedDates packed = PackedDates.grid(AbsoluteDate.FUTURE_INFINITY, TimeOffset.SECOND, 3);
+        for (int i = 0; i < packed.size(); ++i) {
+            Assertions.assertEquals(AbsoluteDate.FUTURE_INFINITY, packed.getDate(i));
+            Assertions.assertEquals(Double.POSITIVE_INFINITY, packed.durationFrom(i, AbsoluteDate.J2000_EPOCH));
+        }
+    }
+
+    @Test
+    public void testSearch() {
+        final AbsoluteDate t0     = AbsoluteDate.J2000_EPOCH;
+        final PackedDates  packed = PackedDates.grid(t0, TimeOffset.MINUTE, 10);
+        Assertions.assertEquals(0, packed.search(t0));
+        Assertions.assertEquals(9, packed.search(t0.shiftedBy(540.0)));
+        Assertions.assertEquals(-1, packed.search(t0.shiftedBy(TimeOffset.ATTOSECOND.negate())));
+        Assertions.assertEquals(-5, packed.search(t0.shiftedBy(200.0).shiftedBy(TimeOffset.ATTOSECOND)));
+        Assertions.assertEquals(-11, packed.search(AbsoluteDate.FUTURE_INFINITY));
+        Assertions.assertEquals(-1, packed.search(AbsoluteDate.PAST_INFINITY));
+        Assertions.assertEquals(-1, new PackedDates(new ArrayList<AbsoluteDate>()).search(t0));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+    }
+
+}
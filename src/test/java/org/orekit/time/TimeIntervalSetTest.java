@@ -0,0 +1,147 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TimeIntervalSetTest {
+
+    private final AbsoluteDate t0 = AbsoluteDate.J2000_EPOCH;
+
+    @Test
+    void testMerge() {
+        final TimeIntervalSet set = TimeIntervalSet.of(Arrays.asList(interval(10, 20), interval(0, 5),
+                                                                     interval(15, 30), interval(5, 7),
+                                                                     interval(40, 50), interval(42, 45)));
+        Assertions.assertEquals(3, set.size());
+        Assertions.assertFalse(set.isEmpty());
+        checkInterval(set.getIntervals().get(0), 0, 7);
+        checkInterval(set.getIntervals().get(1), 10, 30);
+        checkInterval(set.getIntervals().get(2), 40, 50);
+        Assertions.assertEquals(37.0, set.getTotalDuration(), 1.0e-15);
+    }
+
+    @Test
+    void testEmpty() {
+        final TimeIntervalSet empty = TimeIntervalSet.empty();
+        Assertions.assertTrue(empty.isEmpty());
+        Assertions.assertEquals(0, empty.size());
+        Assertions.assertFalse(empty.contains(t0));
+        Assertions.assertTrue(empty.getOverlapping(interval(-100, 100)).isEmpty());
+        Assertions.assertEquals(1, empty.complement(interval(0, 10)).size());
+        final TimeIntervalSet set = TimeIntervalSet.of(Arrays.asList(interval(1, 2)));
+        Assertions.assertEquals(1, empty.union(set).size());
+        Assertions.assertTrue(empty.intersection(set).isEmpty());
+    }
+
+    @Test
+    void testOverlapping() {
+        final TimeIntervalSet set = TimeIntervalSet.of(Arrays.asList(interval(0, 5), interval(10, 20), interval(40, 50)));
+        final List<TimeInterval> overlapping = set.getOverlapping(interval(5, 12));
+        Assertions.assertEquals(2, overlapping.size());
+        checkInterval(overlapping.get(0), 0, 5);
+        checkInterval(overlapping.get(1), 10, 20);
+        Assertions.assertTrue(set.getOverlapping(interval(21, 39)).isEmpty());
+        Assertions.assertEquals(3, set.getOverlapping(interval(-1, 51)).size());
+    }
+
+    @Test
+    void testComplement() {
+        final TimeIntervalSet set = TimeIntervalSet.of(Arrays.asList(interval(0, 5), interval(10, 20), interval(40, 50)));
+        final TimeIntervalSet complement = set.complement(interval(2, 45));
+        Assertions.assertEquals(2, complement.size());
+        checkInterval(complement.getIntervals().get(0), 5, 10);
+        checkInterval(complement.getIntervals().get(1), 20, 40);
+        Assertions.assertTrue(set.complement(interval(12, 18)).isEmpty());
+    }
+
+    @Test
+    void testRandomOperations() {
+        final RandomGenerator random = new Well19937a(0x5b1a9e7c0dd3f42L);
+        for (int k = 0; k < 50; ++k) {
+            final TimeIntervalSet a = randomSet(random);
+            final TimeIntervalSet b = randomSet(random);
+            final TimeInterval    window = interval(100, 900);
+            final TimeIntervalSet union        = a.union(b);
+            final TimeIntervalSet intersection = a.intersection(b);
+            final TimeIntervalSet complement   = a.complement(window);
+            checkDisjoint(union);
+            checkDisjoint(intersection);
+            checkDisjoint(complement);
+            // all boundaries are integers, check at half-integers
+            for (double t = -0.5; t < 1100; t += 1.0) {
+                final AbsoluteDate date = t0.shiftedBy(t);
+                final boolean inA = bruteForceContains(a, date);
+                final boolean inB = bruteForceContains(b, date);
+                Assertions.assertEquals(inA, a.contains(date));
+                Assertions.assertEquals(inA || inB, union.contains(date));
+                Assertions.assertEquals(inA && inB, intersection.contains(date));
+                Assertions.assertEquals(window.contains(date) && !inA, complement.contains(date));
+            }
+            final TimeInterval query = interval(random.nextInt(1000), random.nextInt(1000));
+            final List<TimeInterval> expected = new ArrayList<>();
+            for (final TimeInterval interval : a.getIntervals()) {
+                if (interval.intersects(query)) {
+                    expected.add(interval);
+                }
+            }
+            Assertions.assertEquals(expected, a.getOverlapping(query));
+        }
+    }
+
+    private TimeIntervalSet randomSet(final RandomGenerator random) {
+        final List<TimeInterval> intervals = new ArrayList<>();
+        for (int i = 0; i < 30; ++i) {
+            final int start = random.nextInt(1000);
+            intervals.add(interval(start, start + random.nextInt(50)));
+        }
+        return TimeIntervalSet.of(intervals);
+    }
+
+    private boolean bruteForceContains(final TimeIntervalSet set, final AbsoluteDate date) {
+        for (final TimeInterval interval : set.getIntervals()) {
+            if (interval.contains(date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void checkDisjoint(final TimeIntervalSet set) {
+        for (int i = 1; i < set.size(); ++i) {
+            Assertions.assertTrue(set.getIntervals().get(i).getStartDate().
+                                  isAfter(set.getIntervals().get(i - 1).getEndDate()));
+        }
+    }
+
+    private void checkInterval(final TimeInterval interval, final double start, final double end) {
+        Assertions.assertEquals(start, interval.getStartDate().durationFrom(t0), 1.0e-15);
+        Assertions.assertEquals(end,   interval.getEndDate().durationFrom(t0),   1.0e-15);
+    }
+
+    private TimeInterval interval(final double start, final double end) {
+        return TimeInterval.of(t0.shiftedBy(start), t0.shiftedBy(end));
+    }
+
+}
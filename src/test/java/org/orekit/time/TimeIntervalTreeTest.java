@@ -0,0 +1,88 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TimeIntervalTreeTest {
+
+    private final AbsoluteDate t0 = AbsoluteDate.J2000_EPOCH;
+
+    @Test
+    void testEmpty() {
+        final TimeIntervalTree<TimeInterval> tree = new TimeIntervalTree<>(Collections.emptyList());
+        Assertions.assertEquals(0, tree.size());
+        Assertions.assertTrue(tree.getOverlapping(TimeInterval.of(t0, 10.0)).isEmpty());
+        Assertions.assertTrue(tree.getContaining(t0).isEmpty());
+    }
+
+    @Test
+    void testNested() {
+        final List<TimeInterval> intervals = new ArrayList<>();
+        intervals.add(TimeInterval.of(t0.shiftedBy(2.0), 1.0));
+        intervals.add(TimeInterval.of(t0, 100.0));
+        intervals.add(TimeInterval.of(t0.shiftedBy(50.0), 1.0));
+        final TimeIntervalTree<TimeInterval> tree = new TimeIntervalTree<>(intervals);
+        Assertions.assertEquals(3, tree.size());
+        // the long interval starting first is found even though it is not at the root
+        final List<TimeInterval> containing = tree.getContaining(t0.shiftedBy(50.5));
+        Assertions.assertEquals(2, containing.size());
+        Assertions.assertSame(intervals.get(1), containing.get(0));
+        Assertions.assertSame(intervals.get(2), containing.get(1));
+        Assertions.assertEquals(1, tree.getContaining(t0.shiftedBy(70.0)).size());
+    }
+
+    @Test
+    void testRandomBruteForce() {
+        final RandomGenerator random = new Well19937a(0x3c41d6b7e2a8f09L);
+        final List<TimeInterval> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; ++i) {
+            intervals.add(TimeInterval.of(t0.shiftedBy(10000 * random.nextDouble()),
+                                          random.nextDouble() < 0.1 ? 2000 * random.nextDouble() : 50 * random.nextDouble()));
+        }
+        final TimeIntervalTree<TimeInterval> tree = new TimeIntervalTree<>(intervals);
+        final List<TimeInterval> sorted = new ArrayList<>(intervals);
+        sorted.sort((a, b) -> a.getStartDate().compareTo(b.getStartDate()));
+        for (int k = 0; k < 200; ++k) {
+            final TimeInterval window = TimeInterval.of(t0.shiftedBy(11000 * random.nextDouble() - 500),
+                                                        200 * random.nextDouble());
+            final List<TimeInterval> expected = new ArrayList<>();
+            for (final TimeInterval interval : sorted) {
+                if (interval.intersects(window)) {
+                    expected.add(interval);
+                }
+            }
+            Assertions.assertEquals(expected, tree.getOverlapping(window));
+            final AbsoluteDate date = window.getStartDate();
+            final List<TimeInterval> expectedContaining = new ArrayList<>();
+            for (final TimeInterval interval : sorted) {
+                if (interval.contains(date)) {
+                    expectedContaining.add(interval);
+                }
+            }
+            Assertions.assertEquals(expectedContaining, tree.getContaining(date));
+        }
+    }
+
+}
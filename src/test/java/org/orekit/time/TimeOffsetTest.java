@@ -1136,6 +1136,54 @@ public class TimeOffsetTest {
 
     }
 
+    @Test
+    public void testPrimitiveDifferenceAndCompare() {
+        final RandomGenerator random = new Well1024a(0x2b0e7d5c1e9f4a37L);
+        final TimeOffset[] special = new TimeOffset[] {
+            TimeOffset.NaN, TimeOffset.NEGATIVE_INFINITY, TimeOffset.POSITIVE_INFINITY,
+            TimeOffset.ZERO, new TimeOffset(0L, 999999999999999999L), new TimeOffset(-1L, 1L)
+        };
+        for (int i = 0; i < 10000; ++i) {
+            final TimeOffset t1 = i < special.length * special.length ?
+                                  special[i / special.length] :
+                                  new TimeOffset(random.nextInt(1000) - 500, random.nextLong());
+            final TimeOffset t2 = i < special.length * special.length ?
+                                  special[i % special.length] :
+                                  new TimeOffset(random.nextInt(1000) - 500, random.nextLong());
+            final double expected = t1.subtract(t2).toDouble();
+            final double actual   = TimeOffset.difference(t1.getSeconds(), t1.getAttoSeconds(),
+                                                          t2.getSeconds(), t2.getAttoSeconds());
+            Assertions.assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+            Assertions.assertEquals(Integer.signum(t1.compareTo(t2)),
+                                    Integer.signum(TimeOffset.compare(t1.getSeconds(), t1.getAttoSeconds(),
+                                                                      t2.getSeconds(), t2.getAttoSeconds())));
+        }
+    }
+
+    @Test
+    public void testShiftConstructor() {
+        final RandomGenerator random = new Well1024a(0x4c7d1f2e3a5b6978L);
+        final double[] special = new double[] {
+            Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0.0, -0.0, 1.0e20, -1.0e-30
+        };
+        final TimeOffset[] bases = new TimeOffset[] {
+            TimeOffset.NaN, TimeOffset.NEGATIVE_INFINITY, TimeOffset.POSITIVE_INFINITY,
+            TimeOffset.ZERO, new TimeOffset(0L, 999999999999999999L)
+        };
+        for (int i = 0; i < 10000; ++i) {
+            final TimeOffset base = i < bases.length * special.length ?
+                                    bases[i / special.length] :
+                                    new TimeOffset(random.nextInt(1000000) - 500000, random.nextLong());
+            final double     dt   = i < bases.length * special.length ?
+                                    special[i % special.length] :
+                                    1.0e6 * (2 * random.nextDouble() - 1);
+            final TimeOffset expected = new TimeOffset(base, new TimeOffset(dt));
+            final TimeOffset actual   = new TimeOffset(base, dt);
+            Assertions.assertEquals(expected.getSeconds(),     actual.getSeconds());
+            Assertions.assertEquals(expected.getAttoSeconds(), actual.getAttoSeconds());
+        }
+    }
+
     private void checkMultiple(final int n, final TimeOffset small, final TimeOffset large) {
         Assertions.assertTrue(small.multiply(n).subtract(large).isZero());
     }
@@ -429,6 +429,52 @@ public class UTCScaleTest {
         Assertions.assertEquals(57754, lastOffset.getMJD()); // 2017-01-01
     }
 
+    @Test
+    public void testBucketLookupConsistentWithOffsets() {
+        final List<UTCTAIOffset> offsets = utc.getUTCTAIOffsets();
+        final List<AbsoluteDate> dates   = new ArrayList<>();
+        for (final UTCTAIOffset offset : offsets) {
+            for (final double dt : new double[] { -86400.0, -1.0, -1.0e-9, 0.0, 1.0e-9, 0.5, 1.0, 86399.5 }) {
+                dates.add(offset.getDate().shiftedBy(dt));
+            }
+            dates.add(offset.getDate().shiftedBy(TimeOffset.ATTOSECOND.negate()));
+            dates.add(offset.getValidityStart());
+        }
+        final AbsoluteDate t0 = new AbsoluteDate(1955, 1, 1, utc);
+        for (double dt = 0; dt < 80 * Constants.JULIAN_YEAR; dt += 0.371 * Constants.JULIAN_DAY) {
+            dates.add(t0.shiftedBy(dt));
+        }
+        for (final AbsoluteDate date : dates) {
+            UTCTAIOffset expected = null;
+            for (final UTCTAIOffset offset : offsets) {
+                if (date.compareTo(offset.getDate()) >= 0) {
+                    expected = offset;
+                }
+            }
+            Assertions.assertEquals(expected == null ? TimeOffset.ZERO : expected.getOffset(date).negate(),
+                                    utc.offsetFromTAI(date));
+            Assertions.assertEquals(expected == null ? TimeOffset.ZERO : expected.getLeap(),
+                                    utc.getLeap(date));
+        }
+    }
+
+    @Test
+    public void testBulkConversions() {
+        final AbsoluteDate[] dates = new AbsoluteDate[500];
+        final AbsoluteDate   t0    = new AbsoluteDate(2016, 12, 31, 23, 50, 0.0, utc);
+        for (int i = 0; i < dates.length; ++i) {
+            dates[i] = t0.shiftedBy(i * 2.25);
+        }
+        final DateTimeComponents[] components = utc.toComponents(dates);
+        final AbsoluteDate[]       rebuilt    = utc.toDates(components);
+        Assertions.assertEquals(dates.length, components.length);
+        for (int i = 0; i < dates.length; ++i) {
+            Assertions.assertEquals(dates[i].getComponents(utc), components[i]);
+            Assertions.assertEquals(dates[i], rebuilt[i]);
+        }
+        Assertions.assertEquals(60.75, components[267].getTime().getSecond(), 1.0e-15);
+    }
+
     @BeforeEach
     public void setUp() {
         Utils.setDataRoot("regular-data");
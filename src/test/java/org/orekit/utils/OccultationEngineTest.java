@@ -0,0 +1,151 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+
+class OccultationEngineTest {
+
+    private Frame             eme2000;
+    private AbsoluteDate      date;
+    private OccultationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data");
+        eme2000 = FramesFactory.getEME2000();
+        date    = new AbsoluteDate(1969, 7, 28, 4, 0, 0.0, TimeScalesFactory.getTT());
+        engine  = new OccultationEngine(CelestialBodyFactory.getSun(), Constants.SUN_RADIUS,
+                                        new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                             Constants.WGS84_EARTH_FLATTENING,
+                                                             FramesFactory.getITRF(IERSConventions.IERS_2010, true)));
+    }
+
+    @Test
+    void testBatchAnglesConsistency() {
+        final Vector3D[] positions = positions();
+        final OccultationEngine.OccultationAngles[] batch = engine.angles(date, eme2000, positions);
+        for (int i = 0; i < positions.length; i += 17) {
+            final OccultationEngine.OccultationAngles single = engine.angles(state(positions[i]));
+            Assertions.assertEquals(single.getSeparation(),             batch[i].getSeparation(),             1.0e-12);
+            Assertions.assertEquals(single.getLimbRadius(),             batch[i].getLimbRadius(),             1.0e-12);
+            Assertions.assertEquals(single.getOccultedApparentRadius(), batch[i].getOccultedApparentRadius(), 1.0e-15);
+        }
+    }
+
+    @Test
+    void testLightingRatiosPreCheck() {
+        final Vector3D[] positions = positions();
+        final double[]   ratios    = engine.lightingRatios(date, eme2000, positions);
+        final OccultationEngine.OccultationAngles[] angles = engine.angles(date, eme2000, positions);
+        int umbra    = 0;
+        int penumbra = 0;
+        int lit      = 0;
+        for (int i = 0; i < positions.length; ++i) {
+            // the cones pre-check must never change the result
+            Assertions.assertEquals(angles[i].getLightingRatio(), ratios[i], 1.0e-15);
+            if (ratios[i] == 0.0) {
+                ++umbra;
+            } else if (ratios[i] == 1.0) {
+                ++lit;
+            } else {
+                ++penumbra;
+            }
+        }
+        Assertions.assertTrue(umbra    > 100);
+        Assertions.assertTrue(penumbra > 100);
+        Assertions.assertTrue(lit      > 100);
+    }
+
+    @Test
+    void testLightingRatioValues() {
+        final Vector3D sun  = CelestialBodyFactory.getSun().getPosition(date, eme2000).normalize();
+        final Vector3D side = sun.orthogonal();
+
+        // behind Earth, on shadow axis
+        Assertions.assertEquals(0.0,
+                                engine.lightingRatios(date, eme2000, new Vector3D[] { new Vector3D(-7.0e6, sun) })[0],
+                                0.0);
+
+        // on the sunward side
+        Assertions.assertEquals(1.0,
+                                engine.lightingRatios(date, eme2000, new Vector3D[] { new Vector3D(7.0e6, sun) })[0],
+                                0.0);
+
+        // on the terminator, far enough to be lit
+        Assertions.assertEquals(1.0,
+                                engine.lightingRatios(date, eme2000, new Vector3D[] { new Vector3D(8.0e6, side) })[0],
+                                0.0);
+
+        // lighting ratio increases when moving away from shadow axis
+        double previous = 0.0;
+        for (double d = 6.2e6; d < 6.5e6; d += 1000.0) {
+            final double ratio = engine.lightingRatios(date, eme2000,
+                                                       new Vector3D[] { new Vector3D(-7.0e6, sun, d, side) })[0];
+            Assertions.assertTrue(ratio >= previous);
+            previous = ratio;
+        }
+        Assertions.assertEquals(1.0, previous, 0.0);
+
+    }
+
+    private Vector3D[] positions() {
+        final RandomGenerator random = new Well19937a(0x6fb1d2e4a1c3e2b5L);
+        final Vector3D        sun    = CelestialBodyFactory.getSun().getPosition(date, eme2000).normalize();
+        final Vector3D        side1  = sun.orthogonal();
+        final Vector3D        side2  = Vector3D.crossProduct(sun, side1);
+        final Vector3D[]      positions = new Vector3D[3000];
+        for (int i = 0; i < positions.length; ++i) {
+            if (i % 2 == 0) {
+                // anywhere between LEO and GEO
+                final double r = 6.6e6 + 3.6e7 * random.nextDouble();
+                positions[i] = new Vector3D(r, new Vector3D(random.nextGaussian(), random.nextGaussian(),
+                                                            random.nextGaussian()).normalize());
+            } else {
+                // behind Earth, close to the shadow boundary
+                final double x     = -7.0e6 - 3.0e7 * random.nextDouble();
+                final double d     = 6.0e6 + 0.6e6 * random.nextDouble();
+                final double theta = 2 * FastMath.PI * random.nextDouble();
+                positions[i] = new Vector3D(x, sun, d * FastMath.cos(theta), side1, d * FastMath.sin(theta), side2);
+            }
+        }
+        return positions;
+    }
+
+    private SpacecraftState state(final Vector3D position) {
+        final Vector3D velocity = new Vector3D(FastMath.sqrt(Constants.EIGEN5C_EARTH_MU / position.getNorm()),
+                                               position.orthogonal());
+        return new SpacecraftState(new CartesianOrbit(new TimeStampedPVCoordinates(date, position, velocity),
+                                                      eme2000, Constants.EIGEN5C_EARTH_MU));
+    }
+
+}
@@ -0,0 +1,110 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+class ParallelTasksTest {
+
+    @Test
+    void testOrderPreserved() {
+        for (final int threads : new int[] { 1, 3, 8 }) {
+            final List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < 50; ++i) {
+                final int index = i;
+                tasks.add(() -> index * index);
+            }
+            final List<Integer> results = new ParallelTasks(threads).run(tasks);
+            Assertions.assertEquals(50, results.size());
+            for (int i = 0; i < results.size(); ++i) {
+                Assertions.assertEquals(i * i, results.get(i).intValue());
+            }
+        }
+    }
+
+    @Test
+    void testSplit() {
+        final int[] single = new ParallelTasks(1).split(17);
+        Assertions.assertArrayEquals(new int[] { 0, 17 }, single);
+        final int[] multiple = new ParallelTasks(2).split(17);
+        Assertions.assertEquals(9, multiple.length);
+        Assertions.assertEquals(0, multiple[0]);
+        Assertions.assertEquals(17, multiple[multiple.length - 1]);
+        for (int i = 1; i < multiple.length; ++i) {
+            Assertions.assertTrue(multiple[i] > multiple[i - 1]);
+        }
+        Assertions.assertArrayEquals(new int[] { 0, 1, 2, 3 }, new ParallelTasks(4).split(3));
+        Assertions.assertArrayEquals(new int[] { 0, 0 }, new ParallelTasks(4).split(0));
+    }
+
+    @Test
+    void testOrekitExceptionUnwrapped() {
+        for (final int threads : new int[] { 1, 2 }) {
+            final List<Callable<Integer>> tasks =
+                            Arrays.asList(() -> 1,
+                                          () -> {
+                                              throw new OrekitException(OrekitMessages.NOT_POSITIVE, -1);
+                                          });
+            try {
+                new ParallelTasks(threads).run(tasks);
+                Assertions.fail("an exception should have been thrown");
+            } catch (OrekitException oe) {
+                Assertions.assertEquals(OrekitMessages.NOT_POSITIVE, oe.getSpecifier());
+            }
+        }
+    }
+
+    @Test
+    void testCheckedExceptionWrapped() {
+        for (final int threads : new int[] { 1, 2 }) {
+            final List<Callable<Integer>> tasks =
+                            Arrays.asList(() -> 1,
+                                          () -> {
+                                              throw new IOException("dummy");
+                                          });
+            try {
+                new ParallelTasks(threads).run(tasks);
+                Assertions.fail("an exception should have been thrown");
+            } catch (OrekitException oe) {
+                Assertions.assertEquals(LocalizedCoreFormats.SIMPLE_MESSAGE, oe.getSpecifier());
+                Assertions.assertInstanceOf(IOException.class, oe.getCause());
+            }
+        }
+    }
+
+    @Test
+    void testWrongThreadsNumber() {
+        try {
+            new ParallelTasks(0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+        Assertions.assertEquals(Runtime.getRuntime().availableProcessors(), ParallelTasks.allProcessors().getThreads());
+    }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.orekit.utils;
 
+import org.hipparchus.util.FastMath;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,10 @@ import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.TimeSpanMap.Span;
 import org.orekit.utils.TimeSpanMap.Transition;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 public class TimeSpanMapTest {
@@ -1059,6 +1064,76 @@ public class TimeSpanMapTest {
         }
     }
 
+    @Test
+    public void testSnapshotUpdatedAfterChanges() {
+        final AbsoluteDate ref = AbsoluteDate.J2000_EPOCH;
+        final TimeSpanMap<Integer> map = new TimeSpanMap<>(0);
+        for (int i = 1; i < 50; ++i) {
+            map.addValidAfter(i, ref.shiftedBy(10.0 * i), false);
+        }
+
+        // perform enough lookups to switch to lock-free mode, in random order
+        for (int k = 0; k < 3; ++k) {
+            for (int i = 0; i < 500; ++i) {
+                final int    index = (i * 37) % 500;
+                final double dt    = index - 0.5;
+                Assertions.assertEquals(FastMath.max(0, (int) FastMath.floor(dt / 10.0)),
+                                        map.get(ref.shiftedBy(dt)).intValue());
+            }
+        }
+        Assertions.assertEquals(49, map.get(AbsoluteDate.FUTURE_INFINITY).intValue());
+        Assertions.assertEquals(0, map.get(AbsoluteDate.PAST_INFINITY).intValue());
+        Assertions.assertEquals(7, map.get(ref.shiftedBy(70.0)).intValue());
+        Assertions.assertEquals(6, map.get(ref.shiftedBy(70.0).shiftedBy(-1.0e-10)).intValue());
+
+        // updates must be visible immediately
+        map.addValidBetween(-1, ref.shiftedBy(105.0), ref.shiftedBy(125.0));
+        Assertions.assertEquals(10, map.get(ref.shiftedBy(104.0)).intValue());
+        Assertions.assertEquals(-1, map.get(ref.shiftedBy(115.0)).intValue());
+        Assertions.assertEquals(12, map.get(ref.shiftedBy(126.0)).intValue());
+        for (int i = 0; i < 200; ++i) {
+            Assertions.assertEquals(-1, map.get(ref.shiftedBy(110.0 + 0.01 * i)).intValue());
+        }
+        map.getSpan(ref.shiftedBy(115.0)).getStartTransition().resetDate(ref.shiftedBy(101.0), false);
+        Assertions.assertEquals(-1, map.get(ref.shiftedBy(102.0)).intValue());
+
+        // expunged ranges are still checked
+        for (int i = 0; i < 200; ++i) {
+            map.get(ref.shiftedBy(i));
+        }
+        map.configureExpunge(5, Double.POSITIVE_INFINITY, ExpungePolicy.EXPUNGE_EARLIEST);
+        map.addValidAfter(100, ref.shiftedBy(1000.0), false);
+        for (int i = 0; i < 20; ++i) {
+            Assertions.assertEquals(100, map.get(ref.shiftedBy(2000.0)).intValue());
+        }
+        checkException(map, m -> m.get(ref), OrekitMessages.EXPUNGED_SPAN);
+    }
+
+    @Test
+    public void testConcurrentLookups() throws InterruptedException {
+        final AbsoluteDate ref = AbsoluteDate.J2000_EPOCH;
+        final TimeSpanMap<Integer> map = new TimeSpanMap<>(0);
+        for (int i = 1; i < 1000; ++i) {
+            map.addValidAfter(i, ref.shiftedBy(i), false);
+        }
+        final AtomicInteger errors = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; ++t) {
+            final int offset = 113 * t;
+            executor.submit(() -> {
+                for (int i = 0; i < 20000; ++i) {
+                    final int expected = (offset + 7 * i) % 1000;
+                    if (map.get(ref.shiftedBy(expected + 0.5)) != expected) {
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, errors.get());
+    }
+
     private <T> void checkException(final TimeSpanMap<T> map,
                                     final Consumer<TimeSpanMap<T>> f,
                                     OrekitMessages expected) {